@@ -8,6 +8,7 @@ import com.rinaorc.zombiez.commands.admin.ZombieZAdminCommand;
 import com.rinaorc.zombiez.commands.player.*;
 import com.rinaorc.zombiez.data.ConfigManager;
 import com.rinaorc.zombiez.data.DatabaseManager;
+import com.rinaorc.zombiez.data.OfflineProfileService;
 import com.rinaorc.zombiez.economy.banking.BankManager;
 import com.rinaorc.zombiez.progression.*;
 import com.rinaorc.zombiez.progression.gui.*;
@@ -58,6 +59,8 @@ public class ZombieZPlugin extends JavaPlugin {
     @Getter
     private PlayerDataManager playerDataManager;
     @Getter
+    private OfflineProfileService offlineProfileService;
+    @Getter
     private EconomyManager economyManager;
     @Getter
     private ItemManager itemManager;
@@ -90,6 +93,8 @@ public class ZombieZPlugin extends JavaPlugin {
     @Getter
     private MissionManager missionManager;
     @Getter
+    private com.rinaorc.zombiez.progression.kill.KillPipeline killPipeline;
+    @Getter
     private BattlePassManager battlePassManager;
     @Getter
     private CosmeticManager cosmeticManager;
@@ -192,6 +197,22 @@ public class ZombieZPlugin extends JavaPlugin {
     @Getter
     private com.rinaorc.zombiez.managers.PerformanceManager performanceManager;
 
+    // Planificateur central des effets (roue temporelle)
+    @Getter
+    private com.rinaorc.zombiez.scheduler.EffectScheduler effectScheduler;
+
+    // Budget de particules et de sons par joueur (LOD, dédoublonnage, effets réduits)
+    @Getter
+    private com.rinaorc.zombiez.scheduler.EffectBudget effectBudget;
+
+    // Cache des placeholders (null si PlaceholderAPI absent)
+    @Getter
+    private com.rinaorc.zombiez.placeholder.PlaceholderCache placeholderCache;
+
+    // Indicateurs de dégâts virtuels (null si ProtocolLib absent)
+    @Getter
+    private com.rinaorc.zombiez.combat.PacketIndicatorEngine damageIndicatorEngine;
+
     // Système Dopamine - Feedback et engagement
     @Getter
     private com.rinaorc.zombiez.dopamine.LowHealthHeartbeatManager lowHealthHeartbeatManager;
@@ -232,6 +253,8 @@ public class ZombieZPlugin extends JavaPlugin {
     @Getter
     private com.rinaorc.zombiez.progression.journey.JourneyNPCManager journeyNPCManager;
     @Getter
+    private com.rinaorc.zombiez.progression.journey.JourneyPhasing journeyPhasing;
+    @Getter
     private com.rinaorc.zombiez.progression.journey.chapter1.Chapter1Systems chapter1Systems;
     @Getter
     private com.rinaorc.zombiez.progression.journey.chapter2.Chapter2Systems chapter2Systems;
@@ -324,8 +347,12 @@ public class ZombieZPlugin extends JavaPlugin {
         if (playerDataManager != null) {
             log(Level.INFO, "§7Arrêt du tracker de playtime...");
             playerDataManager.stopPlaytimeTracker();
+            if (killPipeline != null) {
+                killPipeline.shutdown();
+            }
             log(Level.INFO, "§7Sauvegarde des données joueurs...");
             playerDataManager.saveAllSync();
+            playerDataManager.shutdown();
         }
 
         // Cleanup du système d'items
@@ -427,6 +454,16 @@ public class ZombieZPlugin extends JavaPlugin {
             performanceManager.shutdown();
         }
 
+        // Arrêt du planificateur d'effets
+        if (effectScheduler != null) {
+            effectScheduler.shutdown();
+        }
+
+        // Arrêt des indicateurs de dégâts virtuels
+        if (damageIndicatorEngine != null) {
+            damageIndicatorEngine.shutdown();
+        }
+
         // Cleanup du système dopamine
         if (lowHealthHeartbeatManager != null) {
             log(Level.INFO, "§7Arrêt du système de battement de cœur...");
@@ -526,6 +563,17 @@ public class ZombieZPlugin extends JavaPlugin {
      * Initialise tous les managers du plugin
      */
     private void initializeManagers() {
+        // Effect Scheduler - Roue temporelle des effets courts (avant tout système qui planifie des effets)
+        effectScheduler = new com.rinaorc.zombiez.scheduler.EffectScheduler(this);
+
+        // Effect Budget - Particules et sons par joueur (avant tout système qui affiche des effets)
+        effectBudget = new com.rinaorc.zombiez.scheduler.EffectBudget(this);
+
+        // Indicateurs de dégâts - TextDisplays virtuels via ProtocolLib (fallback entités réelles sinon)
+        if (getServer().getPluginManager().isPluginEnabled("ProtocolLib")) {
+            damageIndicatorEngine = new com.rinaorc.zombiez.combat.PacketIndicatorEngine(this);
+        }
+
         // Zone Manager - Gestion des zones et détection
         zoneManager = new ZoneManager(this);
         zoneManager.loadZones();
@@ -538,6 +586,9 @@ public class ZombieZPlugin extends JavaPlugin {
         playerDataManager = new PlayerDataManager(this);
         playerDataManager.startPlaytimeTracker();
 
+        // Offline Profile Service - Profils en lecture seule (GUIs, placeholders hors ligne)
+        offlineProfileService = new OfflineProfileService(this);
+
         // Economy Manager - Gestion des monnaies
         economyManager = new EconomyManager(this);
 
@@ -584,6 +635,9 @@ public class ZombieZPlugin extends JavaPlugin {
         // Mission Manager - Missions journalières/hebdomadaires
         missionManager = new MissionManager(this);
 
+        // Kill Pipeline - Progression des kills (abonnés synchrones + comptabilité asynchrone)
+        killPipeline = new com.rinaorc.zombiez.progression.kill.KillPipeline(this);
+
         // Battle Pass Manager - Pass de saison
         battlePassManager = new BattlePassManager(this);
 
@@ -620,6 +674,9 @@ public class ZombieZPlugin extends JavaPlugin {
         // Journey NPC Manager - Gestion des NPCs via Citizens API
         journeyNPCManager = new com.rinaorc.zombiez.progression.journey.JourneyNPCManager(this);
 
+        // Journey Phasing - Visibilité per-player des objets de quête
+        journeyPhasing = new com.rinaorc.zombiez.progression.journey.JourneyPhasing(this);
+
         // Chapter 1 Systems - Fermier et mini-jeu incendie
         chapter1Systems = new com.rinaorc.zombiez.progression.journey.chapter1.Chapter1Systems(this);
 
@@ -953,6 +1010,12 @@ public class ZombieZPlugin extends JavaPlugin {
 
         // Listeners principaux
         pm.registerEvents(new PlayerConnectionListener(this), this);
+        pm.registerEvents(effectScheduler, this);
+        pm.registerEvents(effectBudget, this);
+        pm.registerEvents(offlineProfileService, this);
+        if (damageIndicatorEngine != null) {
+            pm.registerEvents(damageIndicatorEngine, this);
+        }
         pm.registerEvents(new PlayerMoveListener(this), this);
         pm.registerEvents(new CombatListener(this), this);
         pm.registerEvents(new DeathListener(this), this);
@@ -963,6 +1026,7 @@ public class ZombieZPlugin extends JavaPlugin {
         // Listener système de parcours (Journey) - Blocage de zones et progression
         journeyListener = new com.rinaorc.zombiez.progression.journey.JourneyListener(this);
         pm.registerEvents(journeyListener, this);
+        pm.registerEvents(journeyPhasing, this);
 
         // Listener GPS - Navigation vers objectifs du Journey
         pm.registerEvents(gpsManager, this);
@@ -997,6 +1061,9 @@ public class ZombieZPlugin extends JavaPlugin {
         // Listener pour nettoyer les mobs quand les chunks sont déchargés
         pm.registerEvents(new ChunkUnloadListener(this), this);
 
+        // Invalidation du cache de hauteurs de sol du spawn
+        pm.registerEvents(spawnSystem.getGroundCache(), this);
+
         // Listeners système mobs passifs et nourriture
         if (passiveMobManager != null) {
             pm.registerEvents(passiveMobManager, this);
@@ -1027,6 +1094,7 @@ public class ZombieZPlugin extends JavaPlugin {
         // Listener système météo dynamique
         if (weatherManager != null) {
             pm.registerEvents(new com.rinaorc.zombiez.weather.WeatherListener(this, weatherManager), this);
+            pm.registerEvents(weatherManager.getShelterCache(), this);
         }
 
         // Listeners système de progression
@@ -1078,6 +1146,7 @@ public class ZombieZPlugin extends JavaPlugin {
         if (petManager != null) {
             pm.registerEvents(new com.rinaorc.zombiez.pets.listeners.PetCombatListener(this), this);
             pm.registerEvents(new com.rinaorc.zombiez.pets.listeners.PetConnectionListener(this), this);
+            pm.registerEvents(petManager.getDisplayManager(), this);
             pm.registerEvents(new com.rinaorc.zombiez.pets.gui.PetMainGUI.GUIListener(this), this);
             pm.registerEvents(new com.rinaorc.zombiez.pets.gui.PetCollectionGUI.GUIListener(this), this);
             pm.registerEvents(new com.rinaorc.zombiez.pets.gui.PetDetailsGUI.GUIListener(this), this);
@@ -1133,7 +1202,9 @@ public class ZombieZPlugin extends JavaPlugin {
      */
     private void registerPlaceholders() {
         if (Bukkit.getPluginManager().getPlugin("PlaceholderAPI") != null) {
-            new ZombieZExpansion(this).register();
+            placeholderCache = new com.rinaorc.zombiez.placeholder.PlaceholderCache();
+            getServer().getPluginManager().registerEvents(placeholderCache, this);
+            new ZombieZExpansion(this, placeholderCache).register();
             log(Level.INFO, "§a✓ PlaceholderAPI hook enregistré!");
         } else {
             log(Level.WARNING, "§ePlaceholderAPI non trouvé - placeholders désactivés");
@@ -1205,6 +1276,14 @@ public class ZombieZPlugin extends JavaPlugin {
             performanceManager.reload();
         }
 
+        // Recharger le budget du planificateur d'effets
+        if (effectScheduler != null) {
+            effectScheduler.loadConfig();
+        }
+        if (effectBudget != null) {
+            effectBudget.loadConfig();
+        }
+
         // Recharger les paramètres du ZombieManager
         if (zombieManager != null) {
             zombieManager.loadConfigValues();
@@ -43,6 +43,10 @@ public class ClassData {
     // État de modification
     private final transient AtomicBoolean dirty = new AtomicBoolean(false);
 
+    // Version de la sélection de talents (sélection, activation, reset, copie)
+    // Permet à TalentManager de ne reconstruire son index d'effets qu'en cas de changement
+    private final transient AtomicInteger talentVersion = new AtomicInteger(0);
+
     // Timestamps
     private long lastClassChange = 0;
     private long totalPlaytimeAsClass = 0;
@@ -55,6 +59,7 @@ public class ClassData {
 
     // Préférences utilisateur
     private final AtomicBoolean talentMessagesEnabled = new AtomicBoolean(true);
+    private final AtomicBoolean reducedEffects = new AtomicBoolean(false);
 
     // Branche de talents sélectionnée
     private volatile String selectedBranchId = null;
@@ -197,6 +202,7 @@ public class ClassData {
         }
 
         selectedTalents.put(tier, talentId);
+        talentVersion.incrementAndGet();
         markDirty();
         return true;
     }
@@ -251,6 +257,7 @@ public class ClassData {
         } else {
             disabledTalents.add(talentId);
         }
+        talentVersion.incrementAndGet();
         markDirty();
         return wasDisabled; // Retourne le nouvel état (inverse de l'ancien)
     }
@@ -266,6 +273,7 @@ public class ClassData {
         } else {
             disabledTalents.add(talentId);
         }
+        talentVersion.incrementAndGet();
         markDirty();
     }
 
@@ -278,6 +286,7 @@ public class ClassData {
 
     /**
      * Obtient l'ensemble interne des talents désactivés (pour chargement BDD)
+     * L'appelant incrémente talentVersion après modification
      */
     public Set<String> getDisabledTalentsInternal() {
         return disabledTalents;
@@ -311,6 +320,7 @@ public class ClassData {
 
     /**
      * Obtient la map interne des talents (pour chargement BDD uniquement)
+     * L'appelant incrémente talentVersion après modification
      */
     public Map<TalentTier, String> getSelectedTalentsInternal() {
         return selectedTalents;
@@ -324,6 +334,7 @@ public class ClassData {
         disabledTalents.clear();
         talentChangeCooldowns.clear();
         resetBranch();
+        talentVersion.incrementAndGet();
         markDirty();
     }
 
@@ -387,6 +398,7 @@ public class ClassData {
             // Reset les talents car on change de branche
             selectedTalents.clear();
             talentChangeCooldowns.clear();
+            talentVersion.incrementAndGet();
         }
 
         this.selectedBranchId = branch.getId();
@@ -498,6 +510,32 @@ public class ClassData {
         return newState;
     }
 
+    /**
+     * Vérifie si les effets réduits sont activés (moins de particules et de sons)
+     */
+    public boolean isReducedEffects() {
+        return reducedEffects.get();
+    }
+
+    /**
+     * Active ou désactive les effets réduits
+     */
+    public void setReducedEffects(boolean enabled) {
+        reducedEffects.set(enabled);
+        markDirty();
+    }
+
+    /**
+     * Inverse l'état des effets réduits
+     * @return le nouvel état
+     */
+    public boolean toggleReducedEffects() {
+        boolean newState = !reducedEffects.get();
+        reducedEffects.set(newState);
+        markDirty();
+        return newState;
+    }
+
     /**
      * Obtient l'ID de la classe pour la base de données
      */
@@ -525,11 +563,13 @@ public class ClassData {
         this.disabledTalents.addAll(other.disabledTalents);
         this.talentChangeCooldowns.clear();
         this.talentChangeCooldowns.putAll(other.talentChangeCooldowns);
+        this.talentVersion.incrementAndGet();
         // Copier la branche
         this.selectedBranchId = other.selectedBranchId;
         this.lastBranchChange = other.lastBranchChange;
         // Copier les préférences
         this.talentMessagesEnabled.set(other.talentMessagesEnabled.get());
+        this.reducedEffects.set(other.reducedEffects.get());
     }
 
     @Override
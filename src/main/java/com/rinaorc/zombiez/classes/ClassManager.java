@@ -105,6 +105,7 @@ public class ClassManager {
                                     } catch (IllegalArgumentException ignored) {}
                                 }
                             }
+                            data.getTalentVersion().incrementAndGet();
                         }
 
                         // Charger les statistiques
@@ -116,6 +117,7 @@ public class ClassManager {
                         data.setLastClassChange(rs.getLong("last_class_change"));
                         data.setLastBranchChange(rs.getLong("last_branch_change"));
                         data.setTalentMessagesEnabled(rs.getBoolean("talent_messages_enabled"));
+                        data.setReducedEffects(rs.getBoolean("reduced_effects"));
 
                         data.clearDirty();
                     }
@@ -134,8 +136,8 @@ public class ClassManager {
                 String sql = """
                     INSERT INTO %s (uuid, class_type, class_level, class_xp, selected_branch, selected_talents,
                         class_kills, class_deaths, damage_dealt, damage_received, total_playtime_as_class,
-                        last_class_change, last_branch_change, talent_messages_enabled)
-                    VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                        last_class_change, last_branch_change, talent_messages_enabled, reduced_effects)
+                    VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
                     ON CONFLICT(uuid) DO UPDATE SET
                         class_type = excluded.class_type,
                         class_level = excluded.class_level,
@@ -149,7 +151,8 @@ public class ClassManager {
                         total_playtime_as_class = excluded.total_playtime_as_class,
                         last_class_change = excluded.last_class_change,
                         last_branch_change = excluded.last_branch_change,
-                        talent_messages_enabled = excluded.talent_messages_enabled
+                        talent_messages_enabled = excluded.talent_messages_enabled,
+                        reduced_effects = excluded.reduced_effects
                     """.formatted(plugin.getDatabaseManager().table("class_data"));
 
                 // Pour MySQL, utiliser une syntaxe différente
@@ -158,8 +161,8 @@ public class ClassManager {
                     sql = """
                         INSERT INTO %s (uuid, class_type, class_level, class_xp, selected_branch, selected_talents,
                             class_kills, class_deaths, damage_dealt, damage_received, total_playtime_as_class,
-                            last_class_change, last_branch_change, talent_messages_enabled)
-                        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                            last_class_change, last_branch_change, talent_messages_enabled, reduced_effects)
+                        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
                         ON DUPLICATE KEY UPDATE
                             class_type = VALUES(class_type),
                             class_level = VALUES(class_level),
@@ -173,7 +176,8 @@ public class ClassManager {
                             total_playtime_as_class = VALUES(total_playtime_as_class),
                             last_class_change = VALUES(last_class_change),
                             last_branch_change = VALUES(last_branch_change),
-                            talent_messages_enabled = VALUES(talent_messages_enabled)
+                            talent_messages_enabled = VALUES(talent_messages_enabled),
+                            reduced_effects = VALUES(reduced_effects)
                         """.formatted(plugin.getDatabaseManager().table("class_data"));
                 }
 
@@ -200,6 +204,7 @@ public class ClassManager {
                     stmt.setLong(12, data.getLastClassChange());
                     stmt.setLong(13, data.getLastBranchChange());
                     stmt.setBoolean(14, data.isTalentMessagesEnabled());
+                    stmt.setBoolean(15, data.isReducedEffects());
 
                     stmt.executeUpdate();
                 }
@@ -211,6 +216,14 @@ public class ClassManager {
         });
     }
 
+    /**
+     * Obtient les données de classe uniquement si elles sont déjà en cache
+     * (jamais de chargement depuis la base, utilisable dans les chemins chauds)
+     */
+    public ClassData getLoadedClassData(UUID uuid) {
+        return classDataCache.getIfPresent(uuid);
+    }
+
     public void unloadPlayer(UUID uuid) {
         ClassData data = classDataCache.getIfPresent(uuid);
         if (data != null && data.isDirty()) {
@@ -248,6 +261,7 @@ public class ClassManager {
         }
 
         data.changeClass(classType);
+        plugin.getTalentManager().refreshPlayer(player);
 
         // Message de confirmation
         player.sendMessage("");
@@ -279,6 +293,9 @@ public class ClassManager {
 
         int newLevel = data.getClassLevel().get();
 
+        // Un nouveau palier de talents peut s'être débloqué
+        plugin.getTalentManager().refreshPlayer(player);
+
         player.sendMessage("");
         player.sendMessage("§6§l+ NIVEAU " + newLevel + " +");
         player.sendMessage("§7Votre classe " + data.getSelectedClass().getColoredName() + " §7a gagne un niveau!");
@@ -195,6 +195,7 @@ public class BranchSelectionGUI implements Listener {
         // Sélectionner la voie
         boolean hadBranch = data.hasBranch();
         if (data.selectBranch(branch)) {
+            plugin.getTalentManager().refreshPlayer(player);
             player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.0f);
 
             if (data.isTalentMessagesEnabled()) {
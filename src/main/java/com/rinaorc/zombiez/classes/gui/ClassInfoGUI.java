@@ -35,6 +35,7 @@ public class ClassInfoGUI implements Listener {
     private static final int SLOT_TALENTS = 21;         // Milieu - Talents (monté 1 ligne)
     private static final int SLOT_TRAITS_INFO = 23;     // Milieu droite - Traits de classe
     private static final int SLOT_TALENT_MESSAGES_TOGGLE = 25;  // Milieu droite - Toggle (monté 1 ligne)
+    private static final int SLOT_REDUCED_EFFECTS_TOGGLE = 34;  // Bas droite - Toggle effets réduits
     private static final int SLOT_CHANGE_CLASS = 31;    // Bas centre - Changer (décalé 1 slot à gauche)
     private static final int SLOT_CLOSE = 40;           // Fermer
 
@@ -91,6 +92,9 @@ public class ClassInfoGUI implements Listener {
         // === TOGGLE MESSAGES DE TALENTS (milieu droite) ===
         gui.setItem(SLOT_TALENT_MESSAGES_TOGGLE, createTalentMessagesToggle(data));
 
+        // === TOGGLE EFFETS RÉDUITS (bas droite) ===
+        gui.setItem(SLOT_REDUCED_EFFECTS_TOGGLE, createReducedEffectsToggle(data));
+
         // === CHANGER DE CLASSE (bas centre) ===
         gui.setItem(SLOT_CHANGE_CLASS, createChangeClassButton(data));
 
@@ -268,6 +272,28 @@ public class ClassInfoGUI implements Listener {
             .build();
     }
 
+    private ItemStack createReducedEffectsToggle(ClassData data) {
+        boolean reduced = data.isReducedEffects();
+
+        List<String> lore = new ArrayList<>();
+        lore.add("");
+        lore.add("§7Statut: " + (reduced ? "§aActivé" : "§cDésactivé"));
+        lore.add("");
+        lore.add("§7Réduit les particules et les sons");
+        lore.add("§7affichés autour de vous:");
+        lore.add("§8- Moins de particules par effet");
+        lore.add("§8- Effets lointains masqués");
+        lore.add("§8- Utile pendant les grosses hordes");
+        lore.add("");
+        lore.add("§e> Clic pour " + (reduced ? "désactiver" : "activer"));
+
+        return new ItemBuilder(reduced ? Material.GUNPOWDER : Material.BLAZE_POWDER)
+            .name(reduced ? "§a§lEFFETS RÉDUITS" : "§c§lEFFETS RÉDUITS")
+            .lore(lore)
+            .glow(reduced)
+            .build();
+    }
+
     @EventHandler
     public void onClick(InventoryClickEvent event) {
         if (!event.getView().getTitle().equals(GUI_TITLE)) return;
@@ -307,6 +333,17 @@ public class ClassInfoGUI implements Listener {
                 // Refresh le menu
                 open(player);
             }
+            case SLOT_REDUCED_EFFECTS_TOGGLE -> {
+                ClassData data = classManager.getClassData(player);
+                boolean newState = data.toggleReducedEffects();
+                plugin.getEffectBudget().invalidate(player);
+                player.playSound(player.getLocation(), Sound.UI_BUTTON_CLICK, 1.0f, 1.0f);
+                player.sendMessage(newState
+                    ? "§a§l+ Effets réduits activés"
+                    : "§c§l- Effets réduits désactivés");
+                // Refresh le menu
+                open(player);
+            }
             case SLOT_CLOSE -> player.closeInventory();
         }
     }
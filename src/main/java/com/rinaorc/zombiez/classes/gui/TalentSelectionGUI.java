@@ -309,6 +309,7 @@ public class TalentSelectionGUI implements Listener {
             // Talent déjà sélectionné - clic droit pour toggle activation
             if (isRightClick) {
                 boolean newState = data.toggleTalentEnabled(talent.getId());
+                talentManager.refreshPlayer(player);
                 if (newState) {
                     player.playSound(player.getLocation(), Sound.BLOCK_BEACON_ACTIVATE, 1.0f, 1.5f);
                     player.sendMessage("§a✓ Talent §f" + talent.getName() + " §aactivé!");
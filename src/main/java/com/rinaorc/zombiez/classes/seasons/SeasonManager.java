@@ -106,6 +106,7 @@ public class SeasonManager {
 
         // Sauvegarder ce qui doit etre conserve
         SeasonResetResult result = performPartialReset(data);
+        plugin.getTalentManager().refreshPlayer(player);
 
         // Informer le joueur
         player.sendMessage("");
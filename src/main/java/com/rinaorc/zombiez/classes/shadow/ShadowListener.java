@@ -121,10 +121,10 @@ public class ShadowListener implements Listener {
         Talent deathMark = getActiveTalent(player, Talent.TalentEffectType.DEATH_MARK);
         if (deathMark != null && isMelee) {
             // Utiliser le système de crit ZombieZ (CRIT_CHANCE stat + skill bonus)
-            var playerStats = plugin.getItemManager().calculatePlayerStats(player);
+            var playerStats = plugin.getItemManager().getStatVector(player);
             var skillManager = plugin.getSkillTreeManager();
 
-            double baseCritChance = playerStats.getOrDefault(StatType.CRIT_CHANCE, 0.0);
+            double baseCritChance = playerStats.get(StatType.CRIT_CHANCE);
             double skillCritChance = skillManager.getSkillBonus(player, SkillBonus.CRIT_CHANCE);
             double totalCritChance = baseCritChance + skillCritChance;
 
@@ -5,6 +5,7 @@ import com.rinaorc.zombiez.classes.ClassData;
 import com.rinaorc.zombiez.classes.ClassType;
 import com.rinaorc.zombiez.items.awaken.AwakenContext;
 import com.rinaorc.zombiez.items.awaken.AwakenHelper;
+import com.rinaorc.zombiez.scheduler.EffectScheduler.Subsystem;
 import com.rinaorc.zombiez.utils.EntityUtils;
 import org.bukkit.*;
 import org.bukkit.attribute.Attribute;
@@ -330,7 +331,7 @@ public class ChasseurTalentListener implements Listener {
                 if (shouldSendTalentMessage(player)) {
                     player.sendMessage("§c§l🔫 [Gatling] §7: Mode activé pendant §e§l" + (int)(gatling.getValue(1)/1000) + "s §f- Tir automatique!");
                 }
-                player.playSound(player.getLocation(), Sound.BLOCK_PISTON_EXTEND, 1.0f, 2.0f);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.BLOCK_PISTON_EXTEND, 1.0f, 2.0f);
             }
         }
 
@@ -516,7 +517,7 @@ public class ChasseurTalentListener implements Listener {
                         if (shouldSendTalentMessage(player)) {
                             player.sendMessage("§e§l🎯 [Tireur d'Élite] §7: §aCritique garanti §fau prochain tir!");
                         }
-                        player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_PLING, 0.5f, 2.0f);
+                        plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.BLOCK_NOTE_BLOCK_PLING, 0.5f, 2.0f);
                     }
                 }
             }
@@ -555,7 +556,7 @@ public class ChasseurTalentListener implements Listener {
                 long remainingMs = getRemainingCooldown(uuid, "orbital_strike");
                 if (remainingMs > 0) {
                     // En cooldown
-                    player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 0.5f, 0.5f);
+                    plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 0.5f, 0.5f);
                     return;
                 }
 
@@ -565,7 +566,7 @@ public class ChasseurTalentListener implements Listener {
             } else {
                 // Premier sneak, enregistrer le temps
                 lastOrbitalSneakTime.put(uuid, now);
-                player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_HAT, 0.5f, 1.5f);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.BLOCK_NOTE_BLOCK_HAT, 0.5f, 1.5f);
             }
         }
     }
@@ -629,7 +630,7 @@ public class ChasseurTalentListener implements Listener {
                             } else {
                                 target.damage(target.getHealth() + 1000);
                             }
-                            target.getWorld().playSound(target.getLocation(), Sound.ENTITY_WITHER_DEATH, 0.8f, 0.5f);
+                            plugin.getEffectBudget().playSound(Subsystem.TALENTS, target.getLocation(), Sound.ENTITY_WITHER_DEATH, 0.8f, 0.5f);
                         }
                         return true;
                     }
@@ -672,7 +673,7 @@ public class ChasseurTalentListener implements Listener {
                             }
 
                             target.damage(baseDamage, player);
-                            target.getWorld().spawnParticle(Particle.ITEM_SLIME, target.getLocation().add(0, 1, 0),
+                            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.ITEM_SLIME, target.getLocation().add(0, 1, 0),
                                 3, 0.2, 0.2, 0.2, 0);
                         }
                     });
@@ -750,7 +751,7 @@ public class ChasseurTalentListener implements Listener {
         double spacing = 0.8;
 
         // Sons distinctifs de tir multiple
-        player.getWorld().playSound(spawnLoc, Sound.ENTITY_ARROW_SHOOT, 0.8f, 1.5f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, spawnLoc, Sound.ENTITY_ARROW_SHOOT, 0.8f, 1.5f);
 
         // Tirer 2 flèches bonus sur les côtés (gauche et droite)
         for (int i = 0; i < 2; i++) {
@@ -799,7 +800,7 @@ public class ChasseurTalentListener implements Listener {
 
                 // Particules CRIT toutes les 2 ticks (même effet que flèches vanilla critiques)
                 if (ticks % 2 == 0) {
-                    arrow.getWorld().spawnParticle(Particle.CRIT, arrow.getLocation(), 1, 0, 0, 0, 0);
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CRIT, arrow.getLocation(), 1, 0, 0, 0, 0);
                 }
 
                 ticks++;
@@ -814,7 +815,7 @@ public class ChasseurTalentListener implements Listener {
         for (Entity entity : target.getWorld().getNearbyEntities(behind, 2, 2, 2)) {
             if (entity instanceof LivingEntity nearby && entity != player && entity != target && !EntityUtils.isProtectedEntity(nearby)) {
                 nearby.damage(damage, player);
-                nearby.getWorld().spawnParticle(Particle.CRIT, nearby.getLocation(), 5, 0.2, 0.2, 0.2, 0);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CRIT, nearby.getLocation(), 5, 0.2, 0.2, 0.2, 0);
                 break;
             }
         }
@@ -824,8 +825,8 @@ public class ChasseurTalentListener implements Listener {
         for (Entity entity : target.getNearbyEntities(range, range, range)) {
             if (entity instanceof LivingEntity nearby && entity != player && entity != target && !EntityUtils.isProtectedEntity(nearby)) {
                 nearby.damage(damage, player);
-                nearby.getWorld().playSound(nearby.getLocation(), Sound.BLOCK_CHAIN_HIT, 1.0f, 1.5f);
-                nearby.getWorld().spawnParticle(Particle.ENCHANTED_HIT, nearby.getLocation(), 10, 0.3, 0.3, 0.3, 0);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, nearby.getLocation(), Sound.BLOCK_CHAIN_HIT, 1.0f, 1.5f);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.ENCHANTED_HIT, nearby.getLocation(), 10, 0.3, 0.3, 0.3, 0);
                 break;
             }
         }
@@ -853,12 +854,12 @@ public class ChasseurTalentListener implements Listener {
 
                 // Message et effets épiques
                 player.sendMessage("§6§l🌧 [Super Pluie] §7: §e§lx" + (int)barrageFury.getValue(1) + " §fflèches + §e§lx" + barrageFury.getValue(2) + " §frayon!");
-                player.playSound(player.getLocation(), Sound.UI_TOAST_CHALLENGE_COMPLETE, 1.0f, 1.2f);
-                player.playSound(player.getLocation(), Sound.ENTITY_ENDER_DRAGON_GROWL, 0.8f, 1.5f);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.UI_TOAST_CHALLENGE_COMPLETE, 1.0f, 1.2f);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.ENTITY_ENDER_DRAGON_GROWL, 0.8f, 1.5f);
 
                 // Particules d'annonce spectaculaires
-                center.getWorld().spawnParticle(Particle.TOTEM_OF_UNDYING, center.clone().add(0, 5, 0), 100, 3, 2, 3, 0.5);
-                center.getWorld().spawnParticle(Particle.FLAME, center.clone().add(0, 10, 0), 50, radius/2, 1, radius/2, 0.1);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.TOTEM_OF_UNDYING, center.clone().add(0, 5, 0), 100, 3, 2, 3, 0.5);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLAME, center.clone().add(0, 10, 0), 50, radius/2, 1, radius/2, 0.1);
             } else if (shouldSendTalentMessage(player)) {
                 player.sendMessage("§7⚡ [Barrage] §7: Charges §e" + charges + "§7/§e" + chargesNeeded);
             }
@@ -891,7 +892,7 @@ public class ChasseurTalentListener implements Listener {
                 player.sendMessage("§6§l💨 [Nuée Dévast.] §7: Zone §c§lx" + (int)radiusMult + " §f+ fragmentation");
             }
             // Son épique
-            center.getWorld().playSound(center, Sound.ENTITY_ENDER_DRAGON_FLAP, 1.5f, 0.8f);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ENTITY_ENDER_DRAGON_FLAP, 1.5f, 0.8f);
         }
 
         // Préparer le tracking des kills pour Barrage Fury
@@ -900,11 +901,11 @@ public class ChasseurTalentListener implements Listener {
 
         // Sons d'annonce
         if (isSuperRain) {
-            player.getWorld().playSound(center, Sound.ITEM_TRIDENT_THUNDER, 2.0f, 0.8f);
-            player.getWorld().playSound(center, Sound.ENTITY_LIGHTNING_BOLT_THUNDER, 1.5f, 1.2f);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ITEM_TRIDENT_THUNDER, 2.0f, 0.8f);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ENTITY_LIGHTNING_BOLT_THUNDER, 1.5f, 1.2f);
         } else {
-            player.getWorld().playSound(center, Sound.ENTITY_ARROW_SHOOT, 1.5f, 0.5f);
-            player.getWorld().playSound(center, Sound.ITEM_CROSSBOW_LOADING_MIDDLE, 1.0f, 0.8f);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ENTITY_ARROW_SHOOT, 1.5f, 0.5f);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ITEM_CROSSBOW_LOADING_MIDDLE, 1.0f, 0.8f);
         }
 
         final boolean finalIsSuperRain = isSuperRain;
@@ -932,7 +933,7 @@ public class ChasseurTalentListener implements Listener {
             }
 
             // Son du vortex
-            center.getWorld().playSound(center, Sound.ENTITY_ELDER_GUARDIAN_CURSE, 1.0f, 1.5f);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ENTITY_ELDER_GUARDIAN_CURSE, 1.0f, 1.5f);
 
             // Durée totale du vortex (basée sur les waves)
             int totalDuration = waves * 25 + 40; // Durée de la pluie + un peu plus
@@ -945,11 +946,11 @@ public class ChasseurTalentListener implements Listener {
                 public void run() {
                     if (ticks >= totalDuration) {
                         // === EXPLOSION FINALE ===
-                        vortexCenter.getWorld().playSound(vortexCenter, Sound.ENTITY_GENERIC_EXPLODE, 1.5f, 0.8f);
-                        vortexCenter.getWorld().playSound(vortexCenter, Sound.ITEM_TRIDENT_THUNDER, 1.0f, 1.2f);
-                        vortexCenter.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, vortexCenter, 3, 1, 0.5, 1);
-                        vortexCenter.getWorld().spawnParticle(Particle.SWEEP_ATTACK, vortexCenter, 30, explosionRadius/2, 1, explosionRadius/2);
-                        vortexCenter.getWorld().spawnParticle(Particle.DUST, vortexCenter, 50, explosionRadius/2, 1, explosionRadius/2, 0,
+                        plugin.getEffectBudget().playSound(Subsystem.TALENTS, vortexCenter, Sound.ENTITY_GENERIC_EXPLODE, 1.5f, 0.8f);
+                        plugin.getEffectBudget().playSound(Subsystem.TALENTS, vortexCenter, Sound.ITEM_TRIDENT_THUNDER, 1.0f, 1.2f);
+                        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.EXPLOSION_EMITTER, vortexCenter, 3, 1, 0.5, 1);
+                        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SWEEP_ATTACK, vortexCenter, 30, explosionRadius/2, 1, explosionRadius/2);
+                        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, vortexCenter, 50, explosionRadius/2, 1, explosionRadius/2, 0,
                             new Particle.DustOptions(Color.fromRGB(0, 200, 255), 2.0f));
 
                         // Dégâts d'explosion à tous les ennemis dans le rayon
@@ -987,7 +988,7 @@ public class ChasseurTalentListener implements Listener {
                         double x = Math.cos(offsetAngle) * spiralRadius;
                         double z = Math.sin(offsetAngle) * spiralRadius;
                         Location particleLoc = vortexCenter.clone().add(x, 0.5, z);
-                        vortexCenter.getWorld().spawnParticle(Particle.DUST, particleLoc, 2, 0.1, 0.3, 0.1, 0,
+                        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, particleLoc, 2, 0.1, 0.3, 0.1, 0,
                             new Particle.DustOptions(Color.fromRGB(100, 200, 255), 1.2f));
                     }
 
@@ -997,7 +998,7 @@ public class ChasseurTalentListener implements Listener {
                             double a = (i / 16.0) * 2 * Math.PI;
                             double circleX = Math.cos(a) * finalRadius * 0.6;
                             double circleZ = Math.sin(a) * finalRadius * 0.6;
-                            vortexCenter.getWorld().spawnParticle(Particle.ENCHANTED_HIT,
+                            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.ENCHANTED_HIT,
                                 vortexCenter.clone().add(circleX, 0.1, circleZ), 1, 0, 0, 0, 0);
                         }
                     }
@@ -1037,7 +1038,7 @@ public class ChasseurTalentListener implements Listener {
 
                     // Son ambiant du vortex
                     if (ticks % 10 == 0) {
-                        vortexCenter.getWorld().playSound(vortexCenter, Sound.BLOCK_PORTAL_AMBIENT, 0.5f, 1.5f);
+                        plugin.getEffectBudget().playSound(Subsystem.TALENTS, vortexCenter, Sound.BLOCK_PORTAL_AMBIENT, 0.5f, 1.5f);
                     }
 
                     ticks++;
@@ -1049,9 +1050,9 @@ public class ChasseurTalentListener implements Listener {
             Bukkit.getScheduler().runTaskLater(plugin, () -> {
                 // Son de volée de flèches
                 if (finalIsSuperRain) {
-                    center.getWorld().playSound(center, Sound.ENTITY_BLAZE_SHOOT, 1.0f, 1.0f);
+                    plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ENTITY_BLAZE_SHOOT, 1.0f, 1.0f);
                 } else {
-                    center.getWorld().playSound(center, Sound.ENTITY_ARROW_SHOOT, 1.0f, 1.2f);
+                    plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ENTITY_ARROW_SHOOT, 1.0f, 1.2f);
                 }
 
                 for (int i = 0; i < finalArrows; i++) {
@@ -1088,14 +1089,14 @@ public class ChasseurTalentListener implements Listener {
                                     // Effets d'impact
                                     if (finalIsSuperRain) {
                                         // SUPER PLUIE - Explosion!
-                                        center.getWorld().spawnParticle(Particle.EXPLOSION, loc, 1);
-                                        center.getWorld().spawnParticle(Particle.FLAME, loc, 20, 0.5, 0.3, 0.5, 0.1);
-                                        center.getWorld().spawnParticle(Particle.DUST, loc, 10, 0.3, 0.2, 0.3, 0,
+                                        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.EXPLOSION, loc, 1);
+                                        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLAME, loc, 20, 0.5, 0.3, 0.5, 0.1);
+                                        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, loc, 10, 0.3, 0.2, 0.3, 0,
                                             new Particle.DustOptions(Color.fromRGB(255, 165, 0), 1.5f));
-                                        center.getWorld().playSound(loc, Sound.ENTITY_GENERIC_EXPLODE, 0.5f, 1.5f);
+                                        plugin.getEffectBudget().playSound(Subsystem.TALENTS, loc, Sound.ENTITY_GENERIC_EXPLODE, 0.5f, 1.5f);
                                     } else {
-                                        center.getWorld().spawnParticle(Particle.CRIT, loc, 8, 0.3, 0.1, 0.3, 0.1);
-                                        center.getWorld().spawnParticle(Particle.DUST, loc, 5, 0.2, 0.1, 0.2, 0,
+                                        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CRIT, loc, 8, 0.3, 0.1, 0.3, 0.1);
+                                        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, loc, 5, 0.2, 0.1, 0.2, 0,
                                             new Particle.DustOptions(Color.fromRGB(139, 90, 43), 1.0f));
                                     }
 
@@ -1112,7 +1113,7 @@ public class ChasseurTalentListener implements Listener {
                                                 Set<UUID> affected = cycloneAffectedEntities.get(uuid);
                                                 if (affected != null && affected.contains(target.getUniqueId())) {
                                                     finalDamage *= 1.30; // +30% pour les ennemis aspirés
-                                                    loc.getWorld().spawnParticle(Particle.DUST, target.getLocation().add(0, 1, 0), 5, 0.2, 0.2, 0.2, 0,
+                                                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, target.getLocation().add(0, 1, 0), 5, 0.2, 0.2, 0.2, 0,
                                                         new Particle.DustOptions(Color.fromRGB(0, 200, 255), 1.0f));
                                                 }
                                             }
@@ -1145,8 +1146,8 @@ public class ChasseurTalentListener implements Listener {
                                                     Location fragLoc = new Location(loc.getWorld(), fragX, loc.getY(), fragZ);
 
                                                     // Effet visuel de l'éclat
-                                                    loc.getWorld().spawnParticle(Particle.CRIT, fragLoc, 5, 0.2, 0.2, 0.2, 0.1);
-                                                    loc.getWorld().spawnParticle(Particle.DUST, fragLoc, 3, 0.1, 0.1, 0.1, 0,
+                                                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CRIT, fragLoc, 5, 0.2, 0.2, 0.2, 0.1);
+                                                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, fragLoc, 3, 0.1, 0.1, 0.1, 0,
                                                         new Particle.DustOptions(Color.fromRGB(255, 200, 50), 0.8f));
 
                                                     // Dégâts de l'éclat
@@ -1166,7 +1167,7 @@ public class ChasseurTalentListener implements Listener {
                                                 }
 
                                                 // Son de fragmentation
-                                                loc.getWorld().playSound(loc, Sound.BLOCK_GLASS_BREAK, 0.5f, 1.5f);
+                                                plugin.getEffectBudget().playSound(Subsystem.TALENTS, loc, Sound.BLOCK_GLASS_BREAK, 0.5f, 1.5f);
                                             }
 
                                             break; // Une seule cible par flèche
@@ -1179,11 +1180,11 @@ public class ChasseurTalentListener implements Listener {
                                 }
                                 // Particules de traînée
                                 if (finalIsSuperRain) {
-                                    center.getWorld().spawnParticle(Particle.FLAME, arrow.getLocation(), 2, 0.05, 0.05, 0.05, 0.01);
-                                    center.getWorld().spawnParticle(Particle.DUST, arrow.getLocation(), 1, 0, 0, 0, 0,
+                                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLAME, arrow.getLocation(), 2, 0.05, 0.05, 0.05, 0.01);
+                                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, arrow.getLocation(), 1, 0, 0, 0, 0,
                                         new Particle.DustOptions(Color.fromRGB(255, 215, 0), 1.0f));
                                 } else {
-                                    center.getWorld().spawnParticle(Particle.CRIT, arrow.getLocation(), 1, 0, 0, 0, 0);
+                                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CRIT, arrow.getLocation(), 1, 0, 0, 0, 0);
                                 }
                                 ticks++;
                             }
@@ -1208,13 +1209,13 @@ public class ChasseurTalentListener implements Listener {
 
                     // Feedback satisfaisant
                     if (newCharges > 0) {
-                        player.playSound(player.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 1.0f, 1.0f + (totalCharges * 0.1f));
+                        plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 1.0f, 1.0f + (totalCharges * 0.1f));
                         player.sendMessage("§6§l⚡ [Barrage] §7: §a+" + newCharges + " §fcharge" + (newCharges > 1 ? "s" : "") +
                             " §7(§e" + totalCharges + "§7/§e" + chargesNeeded + "§7)");
 
                         // Effet visuel quand proche du max
                         if (totalCharges >= chargesNeeded - 1) {
-                            player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_PLING, 1.0f, 2.0f);
+                            plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.BLOCK_NOTE_BLOCK_PLING, 1.0f, 2.0f);
                             player.sendMessage("§6§l🌧 [Super Pluie] §7: §a§lPRÊTE! §fDéclenchez avec Pluie de Flèches!");
                         }
                     }
@@ -1245,10 +1246,10 @@ public class ChasseurTalentListener implements Listener {
         }
 
         // Sons épiques d'annonce
-        player.getWorld().playSound(center, Sound.ITEM_TRIDENT_THUNDER, 1.0f, 1.5f);
-        player.getWorld().playSound(center, Sound.ENTITY_BLAZE_SHOOT, 1.5f, 0.8f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ITEM_TRIDENT_THUNDER, 1.0f, 1.5f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ENTITY_BLAZE_SHOOT, 1.5f, 0.8f);
         if (hasSwarm) {
-            player.getWorld().playSound(center, Sound.ENTITY_ENDER_DRAGON_FLAP, 1.2f, 1.0f);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ENTITY_ENDER_DRAGON_FLAP, 1.2f, 1.0f);
         }
 
         final double finalRadius = radius;
@@ -1285,9 +1286,9 @@ public class ChasseurTalentListener implements Listener {
                         if (arrow.isDead() || arrow.isOnGround() || ticks > 40) {
                             // Impact au sol - effet de feu
                             Location loc = arrow.getLocation();
-                            center.getWorld().spawnParticle(Particle.FLAME, loc, 15, 0.4, 0.2, 0.4, 0.05);
-                            center.getWorld().spawnParticle(Particle.LAVA, loc, 3, 0.2, 0.1, 0.2, 0);
-                            center.getWorld().playSound(loc, Sound.BLOCK_FIRE_AMBIENT, 0.8f, 1.2f);
+                            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLAME, loc, 15, 0.4, 0.2, 0.4, 0.05);
+                            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.LAVA, loc, 3, 0.2, 0.1, 0.2, 0);
+                            plugin.getEffectBudget().playSound(Subsystem.TALENTS, loc, Sound.BLOCK_FIRE_AMBIENT, 0.8f, 1.2f);
 
                             // Appliquer les dégâts + DOT de feu aux entités proches
                             for (Entity entity : loc.getWorld().getNearbyEntities(loc, 1.5, 1.5, 1.5)) {
@@ -1315,8 +1316,8 @@ public class ChasseurTalentListener implements Listener {
                                             Location fragLoc = new Location(loc.getWorld(), fragX, loc.getY(), fragZ);
 
                                             // Éclats enflammés
-                                            loc.getWorld().spawnParticle(Particle.FLAME, fragLoc, 8, 0.2, 0.2, 0.2, 0.05);
-                                            loc.getWorld().spawnParticle(Particle.DUST, fragLoc, 3, 0.1, 0.1, 0.1, 0,
+                                            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLAME, fragLoc, 8, 0.2, 0.2, 0.2, 0.05);
+                                            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, fragLoc, 3, 0.1, 0.1, 0.1, 0,
                                                 new Particle.DustOptions(Color.fromRGB(255, 150, 50), 0.8f));
 
                                             for (Entity fragEntity : fragLoc.getWorld().getNearbyEntities(fragLoc, fragmentRadius, fragmentRadius, fragmentRadius)) {
@@ -1326,7 +1327,7 @@ public class ChasseurTalentListener implements Listener {
                                                 }
                                             }
                                         }
-                                        loc.getWorld().playSound(loc, Sound.BLOCK_GLASS_BREAK, 0.5f, 1.2f);
+                                        plugin.getEffectBudget().playSound(Subsystem.TALENTS, loc, Sound.BLOCK_GLASS_BREAK, 0.5f, 1.2f);
                                     }
                                 }
                             }
@@ -1336,8 +1337,8 @@ public class ChasseurTalentListener implements Listener {
                             return;
                         }
                         // Particules de traînée de feu
-                        center.getWorld().spawnParticle(Particle.FLAME, arrow.getLocation(), 2, 0.05, 0.05, 0.05, 0.01);
-                        center.getWorld().spawnParticle(Particle.SMOKE, arrow.getLocation(), 1, 0.02, 0.02, 0.02, 0);
+                        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLAME, arrow.getLocation(), 2, 0.05, 0.05, 0.05, 0.01);
+                        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SMOKE, arrow.getLocation(), 1, 0.02, 0.02, 0.02, 0);
                         ticks++;
                     }
                 }.runTaskTimer(plugin, 0L, 1L);
@@ -1374,7 +1375,7 @@ public class ChasseurTalentListener implements Listener {
                 livingTarget.damage(damagePerTick, player);
 
                 // Particules de feu
-                livingTarget.getWorld().spawnParticle(Particle.FLAME,
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLAME,
                     livingTarget.getLocation().add(0, 1, 0), 5, 0.3, 0.3, 0.3, 0.02);
 
                 ticksRemaining--;
@@ -1399,8 +1400,8 @@ public class ChasseurTalentListener implements Listener {
         }
 
         // Son d'avion qui passe
-        player.getWorld().playSound(start, Sound.ENTITY_PHANTOM_FLAP, 2.0f, 0.3f);
-        player.getWorld().playSound(start, Sound.ENTITY_ENDER_DRAGON_GROWL, 1.5f, 1.5f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, start, Sound.ENTITY_PHANTOM_FLAP, 2.0f, 0.3f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, start, Sound.ENTITY_ENDER_DRAGON_GROWL, 1.5f, 1.5f);
 
         // Calculer les positions des bombes le long de la ligne
         double spacing = lineLength / (bombCount - 1);
@@ -1421,7 +1422,7 @@ public class ChasseurTalentListener implements Listener {
             // Cercle de ciblage au sol
             Bukkit.getScheduler().runTaskLater(plugin, () -> {
                 spawnTargetingCircle(loc, explosionRadius);
-                player.getWorld().playSound(loc, Sound.BLOCK_NOTE_BLOCK_BASS, 0.8f, 0.5f + (index * 0.1f));
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, loc, Sound.BLOCK_NOTE_BLOCK_BASS, 0.8f, 0.5f + (index * 0.1f));
             }, i * 3L); // Décalage progressif
         }
 
@@ -1434,20 +1435,20 @@ public class ChasseurTalentListener implements Listener {
 
             Bukkit.getScheduler().runTaskLater(plugin, () -> {
                 // Explosion principale
-                player.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, loc.clone().add(0, 1, 0), 3, 0.5, 0.5, 0.5, 0);
-                player.getWorld().spawnParticle(Particle.FLAME, loc.clone().add(0, 0.5, 0), 50, explosionRadius/2, 1, explosionRadius/2, 0.1);
-                player.getWorld().spawnParticle(Particle.LARGE_SMOKE, loc.clone().add(0, 2, 0), 30, explosionRadius/2, 2, explosionRadius/2, 0.05);
-                player.getWorld().spawnParticle(Particle.LAVA, loc, 20, explosionRadius/2, 0.5, explosionRadius/2, 0);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.EXPLOSION_EMITTER, loc.clone().add(0, 1, 0), 3, 0.5, 0.5, 0.5, 0);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLAME, loc.clone().add(0, 0.5, 0), 50, explosionRadius/2, 1, explosionRadius/2, 0.1);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.LARGE_SMOKE, loc.clone().add(0, 2, 0), 30, explosionRadius/2, 2, explosionRadius/2, 0.05);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.LAVA, loc, 20, explosionRadius/2, 0.5, explosionRadius/2, 0);
 
                 // Effet de cratère
-                player.getWorld().spawnParticle(Particle.CAMPFIRE_COSY_SMOKE, loc, 15, explosionRadius/3, 0.1, explosionRadius/3, 0.02);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CAMPFIRE_COSY_SMOKE, loc, 15, explosionRadius/3, 0.1, explosionRadius/3, 0.02);
 
                 // Son d'explosion massif
-                player.getWorld().playSound(loc, Sound.ENTITY_GENERIC_EXPLODE, 2.0f, 0.6f + (index * 0.05f));
-                player.getWorld().playSound(loc, Sound.ENTITY_DRAGON_FIREBALL_EXPLODE, 1.5f, 0.5f);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, loc, Sound.ENTITY_GENERIC_EXPLODE, 2.0f, 0.6f + (index * 0.05f));
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, loc, Sound.ENTITY_DRAGON_FIREBALL_EXPLODE, 1.5f, 0.5f);
 
                 // Flash lumineux
-                player.getWorld().spawnParticle(Particle.FLASH, loc.clone().add(0, 1, 0), 2);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLASH, loc.clone().add(0, 1, 0), 2);
 
                 // Dégâts aux entités dans le rayon
                 for (Entity entity : loc.getWorld().getNearbyEntities(loc, explosionRadius, explosionRadius, explosionRadius)) {
@@ -1473,7 +1474,7 @@ public class ChasseurTalentListener implements Listener {
 
         // Son final de fin de bombardement
         Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            player.getWorld().playSound(start, Sound.ENTITY_WITHER_DEATH, 0.5f, 1.5f);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, start, Sound.ENTITY_WITHER_DEATH, 0.5f, 1.5f);
         }, warningDelay + (bombCount * 4L) + 10L);
     }
 
@@ -1500,14 +1501,14 @@ public class ChasseurTalentListener implements Listener {
             Location point = new Location(world, x, center.getY() + 0.1, z);
 
             // Cercle rouge de ciblage
-            world.spawnParticle(Particle.DUST, point, 1, 0, 0, 0, 0,
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, point, 1, 0, 0, 0, 0,
                 new Particle.DustOptions(org.bukkit.Color.RED, 1.5f));
         }
 
         // Croix au centre
-        world.spawnParticle(Particle.DUST, center.clone().add(0, 0.1, 0), 3, 0.1, 0, 0.1, 0,
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, center.clone().add(0, 0.1, 0), 3, 0.1, 0, 0.1, 0,
             new Particle.DustOptions(org.bukkit.Color.fromRGB(255, 100, 0), 2.0f));
-        world.spawnParticle(Particle.END_ROD, center.clone().add(0, 0.5, 0), 5, 0.1, 0.2, 0.1, 0.01);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.END_ROD, center.clone().add(0, 0.5, 0), 5, 0.1, 0.2, 0.1, 0.01);
     }
 
     private void procToxicAura(Player player, Talent talent) {
@@ -1516,7 +1517,7 @@ public class ChasseurTalentListener implements Listener {
         double damagePerSecond = 5 * talent.getValue(1);
 
         // Visual
-        player.getWorld().spawnParticle(Particle.ITEM_SLIME, center, 20, radius/2, 1, radius/2, 0);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.ITEM_SLIME, center, 20, radius/2, 1, radius/2, 0);
 
         for (Entity entity : player.getNearbyEntities(radius, radius, radius)) {
             if (entity instanceof LivingEntity target && entity != player && !EntityUtils.isProtectedEntity(target)) {
@@ -1550,8 +1551,8 @@ public class ChasseurTalentListener implements Listener {
 
         if (closest != null) {
             closest.damage(damage, player);
-            player.getWorld().spawnParticle(Particle.CRIT, closest.getLocation(), 5, 0.2, 0.2, 0.2, 0);
-            player.getWorld().playSound(player.getLocation(), Sound.ENTITY_ARROW_SHOOT, 0.3f, 1.5f);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CRIT, closest.getLocation(), 5, 0.2, 0.2, 0.2, 0);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.ENTITY_ARROW_SHOOT, 0.3f, 1.5f);
         }
     }
 
@@ -1571,7 +1572,7 @@ public class ChasseurTalentListener implements Listener {
                     !EntityUtils.isProtectedEntity(target) && !playerPoisons.containsKey(target.getUniqueId())) {
                     newInfections.add(target.getUniqueId());
                     playerPoisons.put(target.getUniqueId(), 1);
-                    target.getWorld().spawnParticle(Particle.ITEM_SLIME, target.getLocation(), 10, 0.3, 0.3, 0.3, 0);
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.ITEM_SLIME, target.getLocation(), 10, 0.3, 0.3, 0.3, 0);
                 }
             }
         }
@@ -1582,7 +1583,7 @@ public class ChasseurTalentListener implements Listener {
         if (shouldSendTalentMessage(player)) {
             player.sendMessage("§b§l⏱ [Bullet Time] §7: §e§lRalentissement §fdes ennemis pendant §e§l" + (int)(duration/1000) + "s");
         }
-        player.getWorld().playSound(player.getLocation(), Sound.BLOCK_BEACON_DEACTIVATE, 1.0f, 0.5f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.BLOCK_BEACON_DEACTIVATE, 1.0f, 0.5f);
         double slowFactor = talent.getValue(1);
 
         // Slow all nearby mobs
@@ -1598,8 +1599,8 @@ public class ChasseurTalentListener implements Listener {
     }
 
     private void procMarkExplosion(Player player, Location center, double damage, double radius) {
-        center.getWorld().spawnParticle(Particle.EXPLOSION, center, 1);
-        center.getWorld().playSound(center, Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 1.2f);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.EXPLOSION, center, 1);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 1.2f);
 
         for (Entity entity : center.getWorld().getNearbyEntities(center, radius, radius, radius)) {
             if (entity instanceof LivingEntity target && entity != player && !EntityUtils.isProtectedEntity(target)) {
@@ -1637,11 +1638,11 @@ public class ChasseurTalentListener implements Listener {
             if (shouldSendTalentMessage(player)) {
                 player.sendMessage("§0§l📓 [Death Note] §7: Cible §c§lmarquée §fpour la mort §7(" + (int)(deathNote.getValue(0)/1000) + "s)");
             }
-            target.getWorld().playSound(target.getLocation(), Sound.ENTITY_WITHER_AMBIENT, 0.5f, 0.5f);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, target.getLocation(), Sound.ENTITY_WITHER_AMBIENT, 0.5f, 0.5f);
         }
 
         // Visual
-        target.getWorld().spawnParticle(Particle.ANGRY_VILLAGER, target.getLocation().add(0, 2, 0), 5, 0.2, 0.2, 0.2, 0);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.ANGRY_VILLAGER, target.getLocation().add(0, 2, 0), 5, 0.2, 0.2, 0.2, 0);
     }
 
     private boolean isMarked(Player player, LivingEntity target) {
@@ -1680,7 +1681,7 @@ public class ChasseurTalentListener implements Listener {
         playerPoisons.merge(targetUuid, 1, Integer::sum);
 
         // Visual
-        target.getWorld().spawnParticle(Particle.ITEM_SLIME, target.getLocation().add(0, 1, 0), 5, 0.2, 0.2, 0.2, 0);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.ITEM_SLIME, target.getLocation().add(0, 1, 0), 5, 0.2, 0.2, 0.2, 0);
     }
 
     private void spreadPoison(Player player, Location center, int stacks, double range) {
@@ -1689,7 +1690,7 @@ public class ChasseurTalentListener implements Listener {
                 Map<UUID, Integer> playerPoisons = poisonStacks.computeIfAbsent(player.getUniqueId(),
                     k -> new ConcurrentHashMap<>());
                 playerPoisons.put(target.getUniqueId(), stacks);
-                target.getWorld().spawnParticle(Particle.ITEM_SLIME, target.getLocation(), 15, 0.5, 0.5, 0.5, 0);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.ITEM_SLIME, target.getLocation(), 15, 0.5, 0.5, 0.5, 0);
             }
         }
     }
@@ -1776,13 +1777,13 @@ public class ChasseurTalentListener implements Listener {
         // Notification sonore de progression
         if (newCharges == chargesNeeded) {
             // Charges pleines - prêt à tirer!
-            player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_CHIME, 1.0f, 2.0f);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.BLOCK_NOTE_BLOCK_CHIME, 1.0f, 2.0f);
             if (shouldSendTalentMessage(player)) {
                 player.sendMessage("§c§l🏹 [Rafale] §7: §a§lPrêt! §fTirez pour déclencher §c§l3 §fsalves!");
             }
         } else if (newCharges % 2 == 0) {
             // Feedback de progression tous les 2 charges
-            player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_HAT, 0.5f, 0.8f + (newCharges * 0.15f));
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.BLOCK_NOTE_BLOCK_HAT, 0.5f, 0.8f + (newCharges * 0.15f));
         }
     }
 
@@ -1836,8 +1837,8 @@ public class ChasseurTalentListener implements Listener {
 
                     // Son de salve (pitch croissant pour chaque salve)
                     float pitch = 0.8f + (salveIndex * 0.3f);
-                    player.getWorld().playSound(currentSpawnLoc, Sound.ENTITY_ARROW_SHOOT, 1.5f, pitch);
-                    player.getWorld().playSound(currentSpawnLoc, Sound.ITEM_CROSSBOW_SHOOT, 1.2f, pitch + 0.2f);
+                    plugin.getEffectBudget().playSound(Subsystem.TALENTS, currentSpawnLoc, Sound.ENTITY_ARROW_SHOOT, 1.5f, pitch);
+                    plugin.getEffectBudget().playSound(Subsystem.TALENTS, currentSpawnLoc, Sound.ITEM_CROSSBOW_SHOOT, 1.2f, pitch + 0.2f);
 
                     // Tirer les flèches en éventail
                     for (int i = 0; i < bonusArrows; i++) {
@@ -3,12 +3,14 @@ package com.rinaorc.zombiez.classes.talents;
 import com.rinaorc.zombiez.ZombieZPlugin;
 import com.rinaorc.zombiez.classes.ClassData;
 import com.rinaorc.zombiez.classes.ClassType;
+import com.rinaorc.zombiez.items.PlayerStatVector;
 import com.rinaorc.zombiez.items.awaken.AwakenContext;
 import com.rinaorc.zombiez.items.awaken.AwakenHelper;
 import com.rinaorc.zombiez.items.generator.ArmorTrimGenerator;
 import com.rinaorc.zombiez.items.types.Rarity;
 import com.rinaorc.zombiez.items.types.StatType;
 import com.rinaorc.zombiez.progression.SkillTreeManager.SkillBonus;
+import com.rinaorc.zombiez.scheduler.EffectScheduler.Subsystem;
 import com.rinaorc.zombiez.utils.EntityUtils;
 import org.bukkit.*;
 import org.bukkit.entity.*;
@@ -373,8 +375,8 @@ public class OccultisteTalentListener implements Listener {
 
         // Effet visuel critique pour les minions
         if (damageResult.isCritical) {
-            owner.playSound(owner.getLocation(), Sound.ENTITY_PLAYER_ATTACK_CRIT, 0.8f, 1.2f);
-            livingTarget.getWorld().spawnParticle(Particle.CRIT, livingTarget.getLocation().add(0, 1, 0), 10, 0.3, 0.3,
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, owner, owner.getLocation(), Sound.ENTITY_PLAYER_ATTACK_CRIT, 0.8f, 1.2f);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CRIT, livingTarget.getLocation().add(0, 1, 0), 10, 0.3, 0.3,
                     0.3, 0.1);
         }
 
@@ -386,7 +388,7 @@ public class OccultisteTalentListener implements Listener {
             double newHealth = Math.min(owner.getHealth() + damageResult.lifestealAmount, owner.getMaxHealth());
             owner.setHealth(newHealth);
             if (damageResult.lifestealAmount > 1) {
-                owner.getWorld().spawnParticle(Particle.HEART, owner.getLocation().add(0, 1.5, 0), 1, 0.2, 0.2, 0.2);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.HEART, owner.getLocation().add(0, 1.5, 0), 1, 0.2, 0.2, 0.2);
             }
         }
     }
@@ -434,14 +436,14 @@ public class OccultisteTalentListener implements Listener {
 
         // ============ 2. STATS D'EQUIPEMENT ZOMBIEZ ============
         // Utilise calculatePlayerStats() pour avoir TOUTES les stats actuelles
-        java.util.Map<StatType, Double> playerStats = plugin.getItemManager().calculatePlayerStats(player);
+        PlayerStatVector playerStats = plugin.getItemManager().getStatVector(player);
 
         // Bonus de degats flat (ex: +10 degats)
-        double flatDamageBonus = playerStats.getOrDefault(StatType.DAMAGE, 0.0);
+        double flatDamageBonus = playerStats.get(StatType.DAMAGE);
         finalDamage += flatDamageBonus;
 
         // Bonus de degats en pourcentage (ex: +15% degats)
-        double damagePercent = playerStats.getOrDefault(StatType.DAMAGE_PERCENT, 0.0);
+        double damagePercent = playerStats.get(StatType.DAMAGE_PERCENT);
         finalDamage *= (1 + damagePercent / 100.0);
 
         // ============ 3. SKILL TREE BONUSES ============
@@ -452,14 +454,14 @@ public class OccultisteTalentListener implements Listener {
         finalDamage *= (1 + skillDamageBonus / 100.0);
 
         // ============ 4. SYSTEME DE CRITIQUE ============
-        double baseCritChance = playerStats.getOrDefault(StatType.CRIT_CHANCE, 0.0);
+        double baseCritChance = playerStats.get(StatType.CRIT_CHANCE);
         double skillCritChance = skillManager.getSkillBonus(player, SkillBonus.CRIT_CHANCE);
         double totalCritChance = baseCritChance + skillCritChance;
 
         if (Math.random() * 100 < totalCritChance) {
             isCritical = true;
             double baseCritDamage = 150.0; // 150% de base
-            double bonusCritDamage = playerStats.getOrDefault(StatType.CRIT_DAMAGE, 0.0);
+            double bonusCritDamage = playerStats.get(StatType.CRIT_DAMAGE);
             double skillCritDamage = skillManager.getSkillBonus(player, SkillBonus.CRIT_DAMAGE);
 
             double critMultiplier = (baseCritDamage + bonusCritDamage + skillCritDamage) / 100.0;
@@ -476,7 +478,7 @@ public class OccultisteTalentListener implements Listener {
         double executeThreshold = playerStats.getOrDefault(StatType.EXECUTE_THRESHOLD, 20.0);
 
         if (mobHealthPercent <= executeThreshold) {
-            double executeBonus = playerStats.getOrDefault(StatType.EXECUTE_DAMAGE, 0.0);
+            double executeBonus = playerStats.get(StatType.EXECUTE_DAMAGE);
             double skillExecuteBonus = skillManager.getSkillBonus(player, SkillBonus.EXECUTE_DAMAGE);
             finalDamage *= (1 + (executeBonus + skillExecuteBonus) / 100.0);
         }
@@ -491,9 +493,9 @@ public class OccultisteTalentListener implements Listener {
         }
 
         // ============ 8. DEGATS ELEMENTAIRES ============
-        double fireDamage = playerStats.getOrDefault(StatType.FIRE_DAMAGE, 0.0);
-        double iceDamage = playerStats.getOrDefault(StatType.ICE_DAMAGE, 0.0);
-        double lightningDamage = playerStats.getOrDefault(StatType.LIGHTNING_DAMAGE, 0.0);
+        double fireDamage = playerStats.get(StatType.FIRE_DAMAGE);
+        double iceDamage = playerStats.get(StatType.ICE_DAMAGE);
+        double lightningDamage = playerStats.get(StatType.LIGHTNING_DAMAGE);
         boolean lightningProc = false;
 
         if (fireDamage > 0) {
@@ -512,7 +514,7 @@ public class OccultisteTalentListener implements Listener {
         finalDamage *= 0.8;
 
         // ============ 10. LIFESTEAL ============
-        double lifestealPercent = playerStats.getOrDefault(StatType.LIFESTEAL, 0.0);
+        double lifestealPercent = playerStats.get(StatType.LIFESTEAL);
         double skillLifesteal = skillManager.getSkillBonus(player, SkillBonus.LIFESTEAL);
         double totalLifesteal = lifestealPercent + skillLifesteal;
         double lifestealAmount = 0;
@@ -548,7 +550,7 @@ public class OccultisteTalentListener implements Listener {
         // Foudre - Effet visuel et sonore (15% chance, deja calculee)
         if (damageResult.lightningProc) {
             spawnMinionLightningParticles(target.getLocation());
-            target.getWorld().playSound(target.getLocation(), Sound.ENTITY_LIGHTNING_BOLT_IMPACT, 0.6f, 1.5f);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, target.getLocation(), Sound.ENTITY_LIGHTNING_BOLT_IMPACT, 0.6f, 1.5f);
         }
     }
 
@@ -566,11 +568,11 @@ public class OccultisteTalentListener implements Listener {
             double offsetX = (Math.random() - 0.5) * 0.3;
             double offsetZ = (Math.random() - 0.5) * 0.3;
             Location point = top.clone().subtract(0, y, 0).add(offsetX, 0, offsetZ);
-            loc.getWorld().spawnParticle(Particle.END_ROD, point, 1, 0, 0, 0, 0);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.END_ROD, point, 1, 0, 0, 0, 0);
         }
 
-        loc.getWorld().spawnParticle(Particle.ELECTRIC_SPARK, bottom, 15, 0.4, 0.2, 0.4, 0.05);
-        loc.getWorld().spawnParticle(Particle.FIREWORK, bottom, 8, 0.3, 0.1, 0.3, 0.02);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.ELECTRIC_SPARK, bottom, 15, 0.4, 0.2, 0.4, 0.05);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FIREWORK, bottom, 8, 0.3, 0.1, 0.3, 0.02);
     }
 
     /**
@@ -914,11 +916,11 @@ public class OccultisteTalentListener implements Listener {
 
             // Visual ameliore - intensite visuelle selon la Surchauffe (reduit)
             int particleCount = 5 + (int) (intensity);
-            target.getWorld().spawnParticle(Particle.FLAME, target.getLocation().add(0, 1, 0), particleCount, 0.3, 0.5,
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLAME, target.getLocation().add(0, 1, 0), particleCount, 0.3, 0.5,
                     0.3, 0.03);
-            target.getWorld().spawnParticle(Particle.SMOKE, target.getLocation().add(0, 1.2, 0), 2, 0.2, 0.3, 0.2,
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SMOKE, target.getLocation().add(0, 1.2, 0), 2, 0.2, 0.3, 0.2,
                     0.02);
-            target.getWorld().playSound(target.getLocation(), Sound.ITEM_FIRECHARGE_USE, 0.5f, 1.2f);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, target.getLocation(), Sound.ITEM_FIRECHARGE_USE, 0.5f, 1.2f);
         }
     }
 
@@ -939,7 +941,7 @@ public class OccultisteTalentListener implements Listener {
                 damageNoKnockback(target, bonusDamage, player);
 
                 // Visual de dégâts de givre
-                target.getWorld().spawnParticle(Particle.CRIT, target.getLocation().add(0, 1, 0), 8, 0.3, 0.3, 0.3,
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CRIT, target.getLocation().add(0, 1, 0), 8, 0.3, 0.3, 0.3,
                         0.1);
             }
         }
@@ -955,7 +957,7 @@ public class OccultisteTalentListener implements Listener {
             // Reduction d'armure si talent le permet
             if (talent.getValues().length > 3) {
                 // Visual d'armure brisee
-                target.getWorld().spawnParticle(Particle.CRIT, target.getLocation().add(0, 1, 0), 10, 0.3, 0.3, 0.3,
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CRIT, target.getLocation().add(0, 1, 0), 10, 0.3, 0.3, 0.3,
                         0.1);
             }
         }
@@ -972,7 +974,7 @@ public class OccultisteTalentListener implements Listener {
         frostStacksLastApplied.put(targetId, System.currentTimeMillis());
 
         // Visual de stack (petits flocons)
-        target.getWorld().spawnParticle(Particle.SNOWFLAKE, target.getLocation().add(0, 1.5, 0),
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SNOWFLAKE, target.getLocation().add(0, 1.5, 0),
                 3 + newStacks, 0.2, 0.2, 0.2, 0.01);
 
         // Verifier si on atteint le seuil pour Brisure Glaciale
@@ -1112,12 +1114,12 @@ public class OccultisteTalentListener implements Listener {
 
         // Effets visuels (reduits)
         Location loc = target.getLocation().add(0, 1, 0);
-        target.getWorld().spawnParticle(Particle.FLAME, loc, 30, 1, 1, 1, 0.15);
-        target.getWorld().spawnParticle(Particle.LAVA, loc, 10, 0.8, 0.8, 0.8, 0.1);
-        target.getWorld().spawnParticle(Particle.SMOKE, loc, 15, 0.8, 0.8, 0.8, 0.08);
-        target.getWorld().spawnParticle(Particle.EXPLOSION, loc, 1, 0.3, 0.3, 0.3, 0);
-        target.getWorld().playSound(loc, Sound.ENTITY_BLAZE_SHOOT, 1.5f, 0.5f);
-        target.getWorld().playSound(loc, Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 1.0f);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLAME, loc, 30, 1, 1, 1, 0.15);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.LAVA, loc, 10, 0.8, 0.8, 0.8, 0.1);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SMOKE, loc, 15, 0.8, 0.8, 0.8, 0.08);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.EXPLOSION, loc, 1, 0.3, 0.3, 0.3, 0);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, loc, Sound.ENTITY_BLAZE_SHOOT, 1.5f, 0.5f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, loc, Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 1.0f);
 
         // Mettre en cooldown
         long cooldownMs = (long) talent.getValue(3);
@@ -1145,8 +1147,8 @@ public class OccultisteTalentListener implements Listener {
         heatZones.put(key, System.currentTimeMillis() + durationMs);
 
         // Visual de creation (reduit)
-        location.getWorld().spawnParticle(Particle.FLAME, location, 12, radius / 2, 0.2, radius / 2, 0.05);
-        location.getWorld().playSound(location, Sound.BLOCK_FIRE_AMBIENT, 1.0f, 0.8f);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLAME, location, 12, radius / 2, 0.2, radius / 2, 0.05);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, location, Sound.BLOCK_FIRE_AMBIENT, 1.0f, 0.8f);
     }
 
     // ==================== DAMAGE UTILITY METHODS ====================
@@ -1186,14 +1188,13 @@ public class OccultisteTalentListener implements Listener {
         // Calculer le slow base + bonus par stack si Permafrost actif
         double totalSlow = slowStrength;
         int stacks = getFrostStacks(target);
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (hasTalentEffect(player, Talent.TalentEffectType.PERMAFROST)) {
-                Talent permafrost = getTalentWithEffect(player, Talent.TalentEffectType.PERMAFROST);
-                double slowPerStack = permafrost.getValue(1);
-                double maxSlow = permafrost.getValue(2);
-                totalSlow = Math.min(totalSlow + (stacks * slowPerStack), maxSlow);
-                break;
-            }
+        for (Player player : talentManager.getPlayersWithEffect(Talent.TalentEffectType.PERMAFROST)) {
+            Talent permafrost = getTalentWithEffect(player, Talent.TalentEffectType.PERMAFROST);
+            if (permafrost == null) continue;
+            double slowPerStack = permafrost.getValue(1);
+            double maxSlow = permafrost.getValue(2);
+            totalSlow = Math.min(totalSlow + (stacks * slowPerStack), maxSlow);
+            break;
         }
 
         int amplifier = (int) ((totalSlow) * 4); // 0-4 amplifier
@@ -1203,11 +1204,11 @@ public class OccultisteTalentListener implements Listener {
 
         // Visual ameliore selon les stacks (reduit)
         int particleCount = 8 + stacks;
-        target.getWorld().spawnParticle(Particle.SNOWFLAKE, target.getLocation().add(0, 1, 0), particleCount, 0.4, 0.6,
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SNOWFLAKE, target.getLocation().add(0, 1, 0), particleCount, 0.4, 0.6,
                 0.4, 0.02);
-        target.getWorld().spawnParticle(Particle.BLOCK, target.getLocation().add(0, 0.5, 0),
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.BLOCK, target.getLocation().add(0, 0.5, 0),
                 3 + (stacks / 2), 0.3, 0.3, 0.3, 0.1, Material.BLUE_ICE.createBlockData());
-        target.getWorld().playSound(target.getLocation(), Sound.BLOCK_GLASS_BREAK, 0.5f, 1.5f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, target.getLocation(), Sound.BLOCK_GLASS_BREAK, 0.5f, 1.5f);
 
         // Schedule remove from frozen tracking
         Bukkit.getScheduler().runTaskLater(plugin, () -> {
@@ -1273,12 +1274,12 @@ public class OccultisteTalentListener implements Listener {
 
         // Effets visuels spectaculaires
         Location loc = target.getLocation().add(0, 1, 0);
-        target.getWorld().spawnParticle(Particle.ITEM, loc, 20, 0.6, 0.8, 0.6, 0.1,
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.ITEM, loc, 20, 0.6, 0.8, 0.6, 0.1,
                 new org.bukkit.inventory.ItemStack(Material.BLUE_ICE));
-        target.getWorld().spawnParticle(Particle.EXPLOSION, loc, 1, 0.3, 0.3, 0.3, 0.05);
-        target.getWorld().spawnParticle(Particle.SNOWFLAKE, loc, 15, 0.8, 1, 0.8, 0.08);
-        target.getWorld().playSound(loc, Sound.BLOCK_GLASS_BREAK, 1.5f, 0.3f);
-        target.getWorld().playSound(loc, Sound.ENTITY_PLAYER_HURT_FREEZE, 1.0f, 0.5f);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.EXPLOSION, loc, 1, 0.3, 0.3, 0.3, 0.05);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SNOWFLAKE, loc, 15, 0.8, 1, 0.8, 0.08);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, loc, Sound.BLOCK_GLASS_BREAK, 1.5f, 0.3f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, loc, Sound.ENTITY_PLAYER_HURT_FREEZE, 1.0f, 0.5f);
 
         // Message au joueur
         if (shouldSendTalentMessage(player)) {
@@ -1366,7 +1367,7 @@ public class OccultisteTalentListener implements Listener {
             }
 
             // Sound (volume reduit pour eviter le spam sonore)
-            target.getWorld().playSound(target.getLocation(), Sound.ENTITY_LIGHTNING_BOLT_IMPACT, 0.3f, 1.8f);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, target.getLocation(), Sound.ENTITY_LIGHTNING_BOLT_IMPACT, 0.3f, 1.8f);
         }
     }
 
@@ -1399,14 +1400,14 @@ public class OccultisteTalentListener implements Listener {
             point.add(perpendicular.clone().multiply(zigzagOffset));
 
             // Coeur lumineux jaune vif
-            world.spawnParticle(Particle.DUST, point, 2, 0.05, 0.05, 0.05, 0, brightYellowDust);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, point, 2, 0.05, 0.05, 0.05, 0, brightYellowDust);
             // Halo jaune plus large
-            world.spawnParticle(Particle.DUST, point, 1, 0.1, 0.1, 0.1, 0, yellowDust);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, point, 1, 0.1, 0.1, 0.1, 0, yellowDust);
         }
 
         // Impact au point d'arrivee (burst jaune)
-        world.spawnParticle(Particle.DUST, to, 8, 0.2, 0.2, 0.2, 0, brightYellowDust);
-        world.spawnParticle(Particle.WAX_OFF, to, 5, 0.15, 0.15, 0.15, 0.02);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, to, 8, 0.2, 0.2, 0.2, 0, brightYellowDust);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.WAX_OFF, to, 5, 0.15, 0.15, 0.15, 0.02);
     }
 
     // ==================== SHADOW PRIEST VOID PROCESSORS ====================
@@ -1437,8 +1438,8 @@ public class OccultisteTalentListener implements Listener {
             }
 
             // Visual
-            target.getWorld().spawnParticle(Particle.PORTAL, target.getLocation().add(0, 1, 0), 15, 0.3, 0.5, 0.3, 0.1);
-            target.getWorld().playSound(target.getLocation(), Sound.ENTITY_ELDER_GUARDIAN_CURSE, 0.5f, 1.5f);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.PORTAL, target.getLocation().add(0, 1, 0), 15, 0.3, 0.5, 0.3, 0.1);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, target.getLocation(), Sound.ENTITY_ELDER_GUARDIAN_CURSE, 0.5f, 1.5f);
         }
     }
 
@@ -1460,7 +1461,7 @@ public class OccultisteTalentListener implements Listener {
         vampiricTouchDots.put(target.getUniqueId(), vtData);
 
         // Visual
-        target.getWorld().spawnParticle(Particle.DAMAGE_INDICATOR, target.getLocation().add(0, 1.5, 0), 5, 0.2, 0.3,
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DAMAGE_INDICATOR, target.getLocation().add(0, 1.5, 0), 5, 0.2, 0.3,
                 0.2, 0.01);
     }
 
@@ -1491,7 +1492,7 @@ public class OccultisteTalentListener implements Listener {
         }
 
         // Visual subtle
-        target.getWorld().spawnParticle(Particle.PORTAL, target.getLocation().add(0, 1, 0), 8, 0.3, 0.5, 0.3, 0.02);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.PORTAL, target.getLocation().add(0, 1, 0), 8, 0.3, 0.5, 0.3, 0.02);
     }
 
     /**
@@ -1521,16 +1522,16 @@ public class OccultisteTalentListener implements Listener {
                 le.damage(damage, player);
 
                 // Visual sur l'entite
-                le.getWorld().spawnParticle(Particle.PORTAL, le.getLocation().add(0, 1, 0), 10, 0.3, 0.5, 0.3, 0.1);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.PORTAL, le.getLocation().add(0, 1, 0), 10, 0.3, 0.5, 0.3, 0.1);
                 pulled++;
             }
         }
 
         if (pulled > 0) {
             // Visual au centre (cadavre)
-            corpseLocation.getWorld().spawnParticle(Particle.REVERSE_PORTAL, corpseLocation.add(0, 1, 0), 50, 1, 1, 1,
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.REVERSE_PORTAL, corpseLocation.add(0, 1, 0), 50, 1, 1, 1,
                     0.2);
-            corpseLocation.getWorld().playSound(corpseLocation, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 0.7f);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, corpseLocation, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 0.7f);
         }
     }
 
@@ -1568,8 +1569,8 @@ public class OccultisteTalentListener implements Listener {
         activeGravityWells.put(locKey, data);
 
         // Visual initial
-        target.getWorld().spawnParticle(Particle.REVERSE_PORTAL, target.clone().add(0, 1, 0), 60, 1, 0.5, 1, 0.2);
-        target.getWorld().playSound(target, Sound.BLOCK_PORTAL_AMBIENT, 1.0f, 0.5f);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.REVERSE_PORTAL, target.clone().add(0, 1, 0), 60, 1, 0.5, 1, 0.2);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, target, Sound.BLOCK_PORTAL_AMBIENT, 1.0f, 0.5f);
     }
 
     /**
@@ -1633,10 +1634,10 @@ public class OccultisteTalentListener implements Listener {
         }
 
         // Visual spectaculaire
-        target.getWorld().spawnParticle(Particle.REVERSE_PORTAL, target.clone().add(0, 1, 0), 100, 2, 2, 2, 0.5);
-        target.getWorld().spawnParticle(Particle.DRAGON_BREATH, target, 50, 1, 1, 1, 0.1);
-        target.getWorld().playSound(target, Sound.ENTITY_WITHER_SPAWN, 0.6f, 1.8f);
-        target.getWorld().playSound(target, Sound.ENTITY_ENDERMAN_TELEPORT, 1.5f, 0.3f);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.REVERSE_PORTAL, target.clone().add(0, 1, 0), 100, 2, 2, 2, 0.5);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DRAGON_BREATH, target, 50, 1, 1, 1, 0.1);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, target, Sound.ENTITY_WITHER_SPAWN, 0.6f, 1.8f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, target, Sound.ENTITY_ENDERMAN_TELEPORT, 1.5f, 0.3f);
     }
 
     /**
@@ -1689,9 +1690,9 @@ public class OccultisteTalentListener implements Listener {
         target.teleport(originalLoc.clone().add(0, -100, 0));
 
         // Visual
-        originalLoc.getWorld().spawnParticle(Particle.REVERSE_PORTAL, originalLoc.add(0, 1, 0), 40, 0.5, 0.5, 0.5, 0.3);
-        originalLoc.getWorld().spawnParticle(Particle.PORTAL, originalLoc, 30, 0.3, 0.5, 0.3, 0.5);
-        originalLoc.getWorld().playSound(originalLoc, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 0.5f);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.REVERSE_PORTAL, originalLoc.add(0, 1, 0), 40, 0.5, 0.5, 0.5, 0.3);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.PORTAL, originalLoc, 30, 0.3, 0.5, 0.3, 0.5);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, originalLoc, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 0.5f);
     }
 
     /**
@@ -1753,8 +1754,8 @@ public class OccultisteTalentListener implements Listener {
 
         // Visual d'apparition ULTRA SPECTACULAIRE - Effet d'implosion
         // Phase 1: Expansion rapide
-        target.getWorld().spawnParticle(Particle.END_ROD, target, 100, 0.1, 0.1, 0.1, 0.8);
-        target.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, target, 80, 0.5, 0.5, 0.5, 0.5);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.END_ROD, target, 100, 0.1, 0.1, 0.1, 0.8);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SOUL_FIRE_FLAME, target, 80, 0.5, 0.5, 0.5, 0.5);
 
         // Phase 2: Formation des anneaux
         for (int ring = 0; ring < 5; ring++) {
@@ -1764,26 +1765,26 @@ public class OccultisteTalentListener implements Listener {
                 double x = Math.cos(angle) * ringRadius;
                 double z = Math.sin(angle) * ringRadius;
                 Location ringLoc = target.clone().add(x, ring * 0.3, z);
-                target.getWorld().spawnParticle(Particle.REVERSE_PORTAL, ringLoc, 5, 0.1, 0.1, 0.1, 0.2);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.REVERSE_PORTAL, ringLoc, 5, 0.1, 0.1, 0.1, 0.2);
             }
         }
 
         // Noyau sombre intense
-        target.getWorld().spawnParticle(Particle.SQUID_INK, target, 60, 0.5, 0.5, 0.5, 0.02);
-        target.getWorld().spawnParticle(Particle.DRAGON_BREATH, target, 150, 2, 2, 2, 0.4);
-        target.getWorld().spawnParticle(Particle.SMOKE, target, 100, 2.5, 2.5, 2.5, 0.3);
-        target.getWorld().spawnParticle(Particle.ASH, target, 80, radius, 3, radius, 0.1);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SQUID_INK, target, 60, 0.5, 0.5, 0.5, 0.02);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DRAGON_BREATH, target, 150, 2, 2, 2, 0.4);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SMOKE, target, 100, 2.5, 2.5, 2.5, 0.3);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.ASH, target, 80, radius, 3, radius, 0.1);
 
         // Eclairs et distorsion
-        target.getWorld().spawnParticle(Particle.ELECTRIC_SPARK, target, 40, 1.5, 1.5, 1.5, 0.3);
-        target.getWorld().spawnParticle(Particle.ENCHANT, target, 100, 2, 2, 2, 2.0);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.ELECTRIC_SPARK, target, 40, 1.5, 1.5, 1.5, 0.3);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.ENCHANT, target, 100, 2, 2, 2, 2.0);
 
         // Sons d'apparition dramatiques
-        target.getWorld().playSound(target, Sound.ENTITY_WITHER_SPAWN, 1.2f, 0.3f);
-        target.getWorld().playSound(target, Sound.ENTITY_ENDER_DRAGON_GROWL, 1.0f, 0.2f);
-        target.getWorld().playSound(target, Sound.BLOCK_END_PORTAL_SPAWN, 1.5f, 0.4f);
-        target.getWorld().playSound(target, Sound.BLOCK_BEACON_DEACTIVATE, 1.0f, 0.5f);
-        target.getWorld().playSound(target, Sound.ENTITY_ELDER_GUARDIAN_CURSE, 0.8f, 0.3f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, target, Sound.ENTITY_WITHER_SPAWN, 1.2f, 0.3f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, target, Sound.ENTITY_ENDER_DRAGON_GROWL, 1.0f, 0.2f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, target, Sound.BLOCK_END_PORTAL_SPAWN, 1.5f, 0.4f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, target, Sound.BLOCK_BEACON_DEACTIVATE, 1.0f, 0.5f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, target, Sound.ENTITY_ELDER_GUARDIAN_CURSE, 0.8f, 0.3f);
     }
 
     private void processFirestorm(Player player, LivingEntity target, double baseDamage) {
@@ -1829,9 +1830,9 @@ public class OccultisteTalentListener implements Listener {
                     }
 
                     // Visual (reduit)
-                    impactLoc.getWorld().spawnParticle(Particle.EXPLOSION, impactLoc, 1, 0, 0, 0, 0);
-                    impactLoc.getWorld().spawnParticle(Particle.FLAME, impactLoc, 12, 0.8, 0.4, 0.8, 0.08);
-                    impactLoc.getWorld().playSound(impactLoc, Sound.ENTITY_GENERIC_EXPLODE, 0.7f, 1.0f);
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.EXPLOSION, impactLoc, 1, 0, 0, 0, 0);
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLAME, impactLoc, 12, 0.8, 0.4, 0.8, 0.08);
+                    plugin.getEffectBudget().playSound(Subsystem.TALENTS, impactLoc, Sound.ENTITY_GENERIC_EXPLODE, 0.7f, 1.0f);
                 }, index * 5L);
             }
         }
@@ -1865,8 +1866,8 @@ public class OccultisteTalentListener implements Listener {
         }
 
         // Visual
-        player.getWorld().spawnParticle(Particle.SOUL, player.getLocation().add(0, 1, 0), 10, 0.3, 0.5, 0.3, 0.05);
-        player.playSound(player.getLocation(), Sound.PARTICLE_SOUL_ESCAPE, 0.5f, 1.2f);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SOUL, player.getLocation().add(0, 1, 0), 10, 0.3, 0.5, 0.3, 0.05);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.PARTICLE_SOUL_ESCAPE, 0.5f, 1.2f);
     }
 
     private void processSoulReservoir(Player player, LivingEntity target, double baseDamage) {
@@ -1893,8 +1894,8 @@ public class OccultisteTalentListener implements Listener {
         soulOrbs.put(player.getUniqueId(), 0);
 
         // Visual
-        player.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, player.getLocation().add(0, 1, 0), 50, 2, 1, 2, 0.1);
-        player.getWorld().playSound(player.getLocation(), Sound.ENTITY_WITHER_SHOOT, 0.8f, 1.5f);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SOUL_FIRE_FLAME, player.getLocation().add(0, 1, 0), 50, 2, 1, 2, 0.1);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.ENTITY_WITHER_SHOOT, 0.8f, 1.5f);
     }
 
     private void processPhoenixExplosion(Player player, LivingEntity victim) {
@@ -1914,10 +1915,10 @@ public class OccultisteTalentListener implements Listener {
             }
 
             // Visual (reduit)
-            victim.getWorld().spawnParticle(Particle.EXPLOSION, victim.getLocation(), 1, 0, 0, 0, 0);
-            victim.getWorld().spawnParticle(Particle.FLAME, victim.getLocation(), 35, radius / 2, radius / 2,
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.EXPLOSION, victim.getLocation(), 1, 0, 0, 0, 0);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLAME, victim.getLocation(), 35, radius / 2, radius / 2,
                     radius / 2, 0.15);
-            victim.getWorld().playSound(victim.getLocation(), Sound.ENTITY_BLAZE_DEATH, 1.0f, 0.8f);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, victim.getLocation(), Sound.ENTITY_BLAZE_DEATH, 1.0f, 0.8f);
         }
     }
 
@@ -1938,12 +1939,12 @@ public class OccultisteTalentListener implements Listener {
         }
 
         // Visual (reduit)
-        victim.getWorld().spawnParticle(Particle.SNOWFLAKE, victim.getLocation(), 20, radius / 2, radius / 2,
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SNOWFLAKE, victim.getLocation(), 20, radius / 2, radius / 2,
                 radius / 2, 0.08);
-        victim.getWorld().spawnParticle(Particle.ITEM, victim.getLocation(), 12, radius / 2, radius / 2, radius / 2,
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.ITEM, victim.getLocation(), 12, radius / 2, radius / 2, radius / 2,
                 0.08,
                 new org.bukkit.inventory.ItemStack(Material.ICE));
-        victim.getWorld().playSound(victim.getLocation(), Sound.BLOCK_GLASS_BREAK, 1.0f, 0.5f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, victim.getLocation(), Sound.BLOCK_GLASS_BREAK, 1.0f, 0.5f);
     }
 
     private void processRaiseDead(Player player, LivingEntity victim) {
@@ -2036,19 +2037,19 @@ public class OccultisteTalentListener implements Listener {
             Bukkit.getScheduler().runTaskLater(plugin, () -> {
                 if (minion.isValid() && !minion.isDead()) {
                     // Visual de despawn
-                    minion.getWorld().spawnParticle(Particle.SOUL, minion.getLocation(), 15, 0.3, 0.5, 0.3, 0.05);
-                    minion.getWorld().spawnParticle(Particle.SMOKE, minion.getLocation(), 10, 0.3, 0.3, 0.3, 0.02);
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SOUL, minion.getLocation(), 15, 0.3, 0.5, 0.3, 0.05);
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SMOKE, minion.getLocation(), 10, 0.3, 0.3, 0.3, 0.02);
                     minion.remove();
                     minions.remove(minion.getUniqueId());
                 }
             }, duration / 50);
 
             // Enhanced visual
-            victim.getWorld().spawnParticle(Particle.SOUL, victim.getLocation(), 30, 0.5, 1.5, 0.5, 0.08);
-            victim.getWorld().spawnParticle(Particle.SMOKE, victim.getLocation(), 15, 0.4, 0.5, 0.4, 0.03);
-            victim.getWorld().spawnParticle(Particle.ENCHANT, victim.getLocation(), 20, 0.5, 1, 0.5, 0.5);
-            victim.getWorld().playSound(victim.getLocation(), Sound.ENTITY_ZOMBIE_VILLAGER_CONVERTED, 1.0f, 0.4f);
-            victim.getWorld().playSound(victim.getLocation(), Sound.ENTITY_WITHER_SPAWN, 0.2f, 1.5f);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SOUL, victim.getLocation(), 30, 0.5, 1.5, 0.5, 0.08);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SMOKE, victim.getLocation(), 15, 0.4, 0.5, 0.4, 0.03);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.ENCHANT, victim.getLocation(), 20, 0.5, 1, 0.5, 0.5);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, victim.getLocation(), Sound.ENTITY_ZOMBIE_VILLAGER_CONVERTED, 1.0f, 0.4f);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, victim.getLocation(), Sound.ENTITY_WITHER_SPAWN, 0.2f, 1.5f);
         }
     }
 
@@ -2081,13 +2082,13 @@ public class OccultisteTalentListener implements Listener {
                 frostStacksLastApplied.put(le.getUniqueId(), now);
 
                 // Visual on each enemy (reduit)
-                le.getWorld().spawnParticle(Particle.SNOWFLAKE, le.getLocation().add(0, 1, 0), 8, 0.4, 0.4, 0.4, 0.03);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SNOWFLAKE, le.getLocation().add(0, 1, 0), 8, 0.4, 0.4, 0.4, 0.03);
             }
         }
 
         // Visual & sound (reduit)
-        player.getWorld().spawnParticle(Particle.END_ROD, player.getLocation(), 40, 10, 8, 10, 0.01);
-        player.getWorld().playSound(player.getLocation(), Sound.BLOCK_BEACON_DEACTIVATE, 1.0f, 0.5f);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.END_ROD, player.getLocation(), 40, 10, 8, 10, 0.01);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.BLOCK_BEACON_DEACTIVATE, 1.0f, 0.5f);
 
         if (shouldSendTalentMessage(player)) {
             player.sendMessage("§b§l⏸ [Stase Temporelle] §7: §e§lGel total §fpendant §e§l" + (duration / 1000) + "s §7- §b§l" + stacksToApply
@@ -2210,18 +2211,18 @@ public class OccultisteTalentListener implements Listener {
         Bukkit.getScheduler().runTaskLater(plugin, () -> {
             if (minion.isValid() && !minion.isDead()) {
                 // Visual de despawn
-                minion.getWorld().spawnParticle(Particle.SOUL, minion.getLocation(), 15, 0.3, 0.5, 0.3, 0.05);
-                minion.getWorld().spawnParticle(Particle.SMOKE, minion.getLocation(), 10, 0.3, 0.3, 0.3, 0.02);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SOUL, minion.getLocation(), 15, 0.3, 0.5, 0.3, 0.05);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SMOKE, minion.getLocation(), 10, 0.3, 0.3, 0.3, 0.02);
                 minion.remove();
                 minions.remove(minion.getUniqueId());
             }
         }, duration / 50);
 
         // Enhanced visual
-        player.getWorld().spawnParticle(Particle.SOUL, minion.getLocation(), 25, 0.5, 1.5, 0.5, 0.08);
-        player.getWorld().spawnParticle(Particle.ENCHANT, minion.getLocation(), 30, 0.5, 1, 0.5, 0.5);
-        player.getWorld().playSound(minion.getLocation(), Sound.ENTITY_SKELETON_AMBIENT, 1.0f, 0.7f);
-        player.getWorld().playSound(minion.getLocation(), Sound.ENTITY_WITHER_SPAWN, 0.3f, 1.5f);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SOUL, minion.getLocation(), 25, 0.5, 1.5, 0.5, 0.08);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.ENCHANT, minion.getLocation(), 30, 0.5, 1, 0.5, 0.5);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, minion.getLocation(), Sound.ENTITY_SKELETON_AMBIENT, 1.0f, 0.7f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, minion.getLocation(), Sound.ENTITY_WITHER_SPAWN, 0.3f, 1.5f);
     }
 
     // ==================== PERIODIC PROCESSORS ====================
@@ -2233,9 +2234,9 @@ public class OccultisteTalentListener implements Listener {
         // Trouver le talent pour les valeurs
         Talent talent = null;
         Player talentOwner = null;
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (hasTalentEffect(player, Talent.TalentEffectType.FIRE_SPREAD)) {
-                talent = getTalentWithEffect(player, Talent.TalentEffectType.FIRE_SPREAD);
+        for (Player player : talentManager.getPlayersWithEffect(Talent.TalentEffectType.FIRE_SPREAD)) {
+            talent = getTalentWithEffect(player, Talent.TalentEffectType.FIRE_SPREAD);
+            if (talent != null) {
                 talentOwner = player;
                 break;
             }
@@ -2281,7 +2282,7 @@ public class OccultisteTalentListener implements Listener {
 
             // Visual de propagation
             if (entity instanceof LivingEntity le) {
-                le.getWorld().spawnParticle(Particle.FLAME, le.getLocation().add(0, 0.5, 0),
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLAME, le.getLocation().add(0, 0.5, 0),
                         3, range / 3, 0.2, range / 3, 0.02);
             }
         }
@@ -2336,10 +2337,10 @@ public class OccultisteTalentListener implements Listener {
 
             if (!nearbyEnemies.isEmpty()) {
                 // Son leger pour indiquer l'activation
-                player.getWorld().playSound(player.getLocation(), Sound.BLOCK_RESPAWN_ANCHOR_CHARGE, 0.2f, 1.8f);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.BLOCK_RESPAWN_ANCHOR_CHARGE, 0.2f, 1.8f);
                 // Petit effet electrique jaune autour du joueur
                 Particle.DustOptions yellowSpark = new Particle.DustOptions(Color.fromRGB(255, 255, 0), 0.8f);
-                player.getWorld().spawnParticle(Particle.DUST, player.getLocation().add(0, 1.5, 0), 6, 0.3, 0.3, 0.3, 0,
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, player.getLocation().add(0, 1.5, 0), 6, 0.3, 0.3, 0.3, 0,
                         yellowSpark);
             }
         }
@@ -2385,9 +2386,9 @@ public class OccultisteTalentListener implements Listener {
             if (count > 0) {
                 // Petit arc electrique jaune autour du joueur
                 Particle.DustOptions yellowAura = new Particle.DustOptions(Color.fromRGB(255, 255, 50), 1.2f);
-                player.getWorld().spawnParticle(Particle.DUST, player.getLocation().add(0, 2, 0), 5, 0.5, 0.3, 0.5, 0,
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, player.getLocation().add(0, 2, 0), 5, 0.5, 0.3, 0.5, 0,
                         yellowAura);
-                player.getWorld().playSound(player.getLocation(), Sound.BLOCK_RESPAWN_ANCHOR_CHARGE, 0.15f, 2.0f);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.BLOCK_RESPAWN_ANCHOR_CHARGE, 0.15f, 2.0f);
             }
         }
     }
@@ -2431,7 +2432,7 @@ public class OccultisteTalentListener implements Listener {
             for (double angle = 0; angle < Math.PI * 2; angle += Math.PI / 4) {
                 double x = Math.cos(angle) * radius;
                 double z = Math.sin(angle) * radius;
-                player.getWorld().spawnParticle(Particle.FLAME, player.getLocation().add(x, 0.5, z), 1, 0.1, 0.1, 0.1,
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLAME, player.getLocation().add(x, 0.5, z), 1, 0.1, 0.1, 0.1,
                         0.01);
             }
         }
@@ -2480,12 +2481,12 @@ public class OccultisteTalentListener implements Listener {
                 for (double angle = 0; angle < Math.PI * 2; angle += Math.PI / 4) {
                     double x = Math.cos(angle) * r;
                     double z = Math.sin(angle) * r;
-                    player.getWorld().spawnParticle(Particle.FLAME, player.getLocation().add(x, 0.3, z), 1, 0, 0, 0,
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLAME, player.getLocation().add(x, 0.3, z), 1, 0, 0, 0,
                             0.05);
                 }
             }
 
-            player.getWorld().playSound(player.getLocation(), Sound.ENTITY_BLAZE_SHOOT, 1.0f, 0.5f);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.ENTITY_BLAZE_SHOOT, 1.0f, 0.5f);
         }
     }
 
@@ -2539,20 +2540,18 @@ public class OccultisteTalentListener implements Listener {
 
             // Sun visual above player (reduit)
             Location sunLoc = player.getLocation().add(0, 5, 0);
-            player.getWorld().spawnParticle(Particle.FLAME, sunLoc, 12, 0.8, 0.8, 0.8, 0.04);
-            player.getWorld().spawnParticle(Particle.LAVA, sunLoc, 2, 0.8, 0.8, 0.8, 0);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLAME, sunLoc, 12, 0.8, 0.8, 0.8, 0.04);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.LAVA, sunLoc, 2, 0.8, 0.8, 0.8, 0);
         }
 
         // Check if players need to activate Black Sun
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (!isOccultiste(player))
-                continue;
-            if (!hasTalentEffect(player, Talent.TalentEffectType.BLACK_SUN))
-                continue;
+        for (Player player : talentManager.getPlayersWithEffect(Talent.TalentEffectType.BLACK_SUN)) {
             if (blackSunActive.containsKey(player.getUniqueId()))
                 continue;
 
             Talent talent = getTalentWithEffect(player, Talent.TalentEffectType.BLACK_SUN);
+            if (talent == null)
+                continue;
             if (!checkCooldown(player, "black_sun", (long) talent.getValue(0)))
                 continue;
 
@@ -2563,7 +2562,7 @@ public class OccultisteTalentListener implements Listener {
             if (shouldSendTalentMessage(player)) {
                 player.sendMessage("§c§l☀ [Soleil Noir] §7: Invocation pendant §e§l" + (duration/1000) + "s §f- Brûlure AoE constante");
             }
-            player.getWorld().playSound(player.getLocation(), Sound.ENTITY_WITHER_SPAWN, 0.5f, 1.5f);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.ENTITY_WITHER_SPAWN, 0.5f, 1.5f);
         }
     }
 
@@ -2593,9 +2592,9 @@ public class OccultisteTalentListener implements Listener {
             }
 
             // Winter visual ameliore - aura de froid (reduit)
-            player.getWorld().spawnParticle(Particle.SNOWFLAKE, player.getLocation().add(0, 1, 0),
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SNOWFLAKE, player.getLocation().add(0, 1, 0),
                     5, radius / 2, 1, radius / 2, 0.02);
-            player.getWorld().spawnParticle(Particle.CLOUD, player.getLocation().add(0, 0.5, 0),
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CLOUD, player.getLocation().add(0, 0.5, 0),
                     1, radius / 3, 0.3, radius / 3, 0.01);
         }
     }
@@ -2635,10 +2634,10 @@ public class OccultisteTalentListener implements Listener {
 
             if (struck > 0) {
                 // Son reduit pour eviter le spam sonore avec plusieurs joueurs
-                player.getWorld().playSound(player.getLocation(), Sound.ENTITY_LIGHTNING_BOLT_IMPACT, 0.4f, 0.8f);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.ENTITY_LIGHTNING_BOLT_IMPACT, 0.4f, 0.8f);
                 // Effet visuel de charge jaune au joueur
                 Particle.DustOptions divineYellow = new Particle.DustOptions(Color.fromRGB(255, 230, 0), 1.5f);
-                player.getWorld().spawnParticle(Particle.DUST, player.getLocation().add(0, 1.5, 0), 10, 0.3, 0.5, 0.3,
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, player.getLocation().add(0, 1.5, 0), 10, 0.3, 0.5, 0.3,
                         0, divineYellow);
             }
         }
@@ -2698,9 +2697,9 @@ public class OccultisteTalentListener implements Listener {
                     }
 
                     // Visual (reduit)
-                    impactLoc.getWorld().spawnParticle(Particle.EXPLOSION, impactLoc, 1, 0, 0, 0, 0);
-                    impactLoc.getWorld().spawnParticle(Particle.FLAME, impactLoc, 10, 1.5, 0.8, 1.5, 0.15);
-                    impactLoc.getWorld().playSound(impactLoc, Sound.ENTITY_GENERIC_EXPLODE, 0.6f, 0.8f);
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.EXPLOSION, impactLoc, 1, 0, 0, 0, 0);
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLAME, impactLoc, 10, 1.5, 0.8, 1.5, 0.15);
+                    plugin.getEffectBudget().playSound(Subsystem.TALENTS, impactLoc, Sound.ENTITY_GENERIC_EXPLODE, 0.6f, 0.8f);
                 }, index * 3L);
             }
         }
@@ -2739,13 +2738,10 @@ public class OccultisteTalentListener implements Listener {
                 continue;
 
             // Check if any nearby player has Blizzard
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                if (!isOccultiste(player))
-                    continue;
-                if (!hasTalentEffect(player, Talent.TalentEffectType.BLIZZARD))
-                    continue;
-
+            for (Player player : talentManager.getPlayersWithEffect(Talent.TalentEffectType.BLIZZARD)) {
                 Talent talent = getTalentWithEffect(player, Talent.TalentEffectType.BLIZZARD);
+                if (talent == null)
+                    continue;
                 double auraRadius = talent.getValue(0);
                 double slowPercent = talent.getValues().length > 1 ? talent.getValue(1) : 0.30;
                 int stacksPerSec = talent.getValues().length > 2 ? (int) talent.getValue(2) : 1;
@@ -2772,9 +2768,9 @@ public class OccultisteTalentListener implements Listener {
                 }
 
                 // Blizzard visual ameliore (reduit)
-                frozen.getWorld().spawnParticle(Particle.SNOWFLAKE, frozen.getLocation().add(0, 1, 0),
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SNOWFLAKE, frozen.getLocation().add(0, 1, 0),
                         4, auraRadius / 2, 0.6, auraRadius / 2, 0.02);
-                frozen.getWorld().spawnParticle(Particle.CLOUD, frozen.getLocation().add(0, 0.5, 0),
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CLOUD, frozen.getLocation().add(0, 0.5, 0),
                         1, auraRadius / 3, 0.2, auraRadius / 3, 0.01);
             }
         }
@@ -2854,9 +2850,9 @@ public class OccultisteTalentListener implements Listener {
         // Trouver le talent Ice Age pour les valeurs
         Talent iceAgeTalent = null;
         Player iceAgeOwner = null;
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (hasTalentEffect(player, Talent.TalentEffectType.ICE_AGE)) {
-                iceAgeTalent = getTalentWithEffect(player, Talent.TalentEffectType.ICE_AGE);
+        for (Player player : talentManager.getPlayersWithEffect(Talent.TalentEffectType.ICE_AGE)) {
+            iceAgeTalent = getTalentWithEffect(player, Talent.TalentEffectType.ICE_AGE);
+            if (iceAgeTalent != null) {
                 iceAgeOwner = player;
                 break;
             }
@@ -2923,8 +2919,8 @@ public class OccultisteTalentListener implements Listener {
                 }
 
                 // Visual ameliore - zone de givre au sol (reduit)
-                world.spawnParticle(Particle.SNOWFLAKE, loc, 4, radius / 2, 0.2, radius / 2, 0.02);
-                world.spawnParticle(Particle.BLOCK, loc, 2, radius / 2, 0.1, radius / 2, 0.01,
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SNOWFLAKE, loc, 4, radius / 2, 0.2, radius / 2, 0.02);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.BLOCK, loc, 2, radius / 2, 0.1, radius / 2, 0.01,
                         Material.BLUE_ICE.createBlockData());
             } catch (NumberFormatException ignored) {
             }
@@ -2951,22 +2947,20 @@ public class OccultisteTalentListener implements Listener {
         iceZones.put(key, System.currentTimeMillis() + duration);
 
         // Visual spawn (reduit)
-        location.getWorld().spawnParticle(Particle.SNOWFLAKE, location, 20, 1.2, 0.8, 1.2, 0.06);
-        location.getWorld().spawnParticle(Particle.ITEM, location.add(0, 0.5, 0), 12, 0.8, 0.4, 0.8, 0.08,
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SNOWFLAKE, location, 20, 1.2, 0.8, 1.2, 0.06);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.ITEM, location.add(0, 0.5, 0), 12, 0.8, 0.4, 0.8, 0.08,
                 new org.bukkit.inventory.ItemStack(Material.BLUE_ICE));
-        location.getWorld().playSound(location, Sound.BLOCK_GLASS_BREAK, 1.2f, 0.5f);
-        location.getWorld().playSound(location, Sound.ENTITY_PLAYER_HURT_FREEZE, 0.8f, 0.8f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, location, Sound.BLOCK_GLASS_BREAK, 1.2f, 0.5f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, location, Sound.ENTITY_PLAYER_HURT_FREEZE, 0.8f, 0.8f);
     }
 
     /**
      * Version legacy pour compatibilite
      */
     private void createIceZone(Location location) {
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (hasTalentEffect(player, Talent.TalentEffectType.ICE_AGE)) {
-                createIceZone(location, player, 10); // Assume max stacks
-                return;
-            }
+        for (Player player : talentManager.getPlayersWithEffect(Talent.TalentEffectType.ICE_AGE)) {
+            createIceZone(location, player, 10); // Assume max stacks
+            return;
         }
     }
 
@@ -3015,7 +3009,7 @@ public class OccultisteTalentListener implements Listener {
             target.damage(damage, owner);
 
             // Visual léger
-            target.getWorld().spawnParticle(Particle.PORTAL, target.getLocation().add(0, 1, 0), 3, 0.2, 0.3, 0.2, 0.05);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.PORTAL, target.getLocation().add(0, 1, 0), 3, 0.2, 0.3, 0.2, 0.05);
         }
     }
 
@@ -3066,7 +3060,7 @@ public class OccultisteTalentListener implements Listener {
             owner.setHealth(Math.min(owner.getMaxHealth(), owner.getHealth() + heal));
 
             // Visual
-            target.getWorld().spawnParticle(Particle.DAMAGE_INDICATOR, target.getLocation().add(0, 1.5, 0), 2, 0.1, 0.2,
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DAMAGE_INDICATOR, target.getLocation().add(0, 1.5, 0), 2, 0.1, 0.2,
                     0.1, 0);
         }
     }
@@ -3120,7 +3114,7 @@ public class OccultisteTalentListener implements Listener {
                         target.damage(damage, player);
 
                         // Impact visual
-                        target.getWorld().spawnParticle(Particle.SOUL, target.getLocation().add(0, 1, 0), 10, 0.2, 0.3,
+                        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SOUL, target.getLocation().add(0, 1, 0), 10, 0.2, 0.3,
                                 0.2, 0.05);
                     }
                 }, travelTime / 50);
@@ -3141,10 +3135,10 @@ public class OccultisteTalentListener implements Listener {
         // Tracer le chemin de l'apparition
         for (double d = 0; d < distance; d += 1.5) {
             Location point = from.clone().add(direction.clone().multiply(d));
-            world.spawnParticle(Particle.SOUL, point, 2, 0.1, 0.1, 0.1, 0.01);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SOUL, point, 2, 0.1, 0.1, 0.1, 0.01);
         }
 
-        world.playSound(from, Sound.PARTICLE_SOUL_ESCAPE, 0.3f, 1.5f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, from, Sound.PARTICLE_SOUL_ESCAPE, 0.3f, 1.5f);
     }
 
     // ==================== GRAVITY EFFECTS PERIODIC PROCESSORS ====================
@@ -3192,8 +3186,8 @@ public class OccultisteTalentListener implements Listener {
             }
 
             // Visual
-            center.getWorld().spawnParticle(Particle.PORTAL, center, 15, data.radius / 3, 0.5, data.radius / 3, 0.05);
-            center.getWorld().spawnParticle(Particle.REVERSE_PORTAL, center, 8, 0.5, 0.3, 0.5, 0.1);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.PORTAL, center, 15, data.radius / 3, 0.5, data.radius / 3, 0.05);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.REVERSE_PORTAL, center, 8, 0.5, 0.3, 0.5, 0.1);
         }
 
         // Process Singularities
@@ -3229,8 +3223,8 @@ public class OccultisteTalentListener implements Listener {
             }
 
             // Visual intense
-            center.getWorld().spawnParticle(Particle.REVERSE_PORTAL, center, 40, 1, 1, 1, 0.3);
-            center.getWorld().spawnParticle(Particle.DRAGON_BREATH, center, 20, 0.5, 0.5, 0.5, 0.05);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.REVERSE_PORTAL, center, 40, 1, 1, 1, 0.3);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DRAGON_BREATH, center, 20, 0.5, 0.5, 0.5, 0.05);
         }
 
         // Process Black Holes
@@ -3242,12 +3236,12 @@ public class OccultisteTalentListener implements Listener {
             if (now > data.expiry) {
                 // Explosion finale SPECTACULAIRE
                 Location center = data.location;
-                center.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, center, 3, 0, 0, 0, 0);
-                center.getWorld().spawnParticle(Particle.REVERSE_PORTAL, center, 200, 3, 3, 3, 2.0);
-                center.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, center, 100, 2, 2, 2, 0.5);
-                center.getWorld().spawnParticle(Particle.END_ROD, center, 80, 4, 4, 4, 0.3);
-                center.getWorld().playSound(center, Sound.ENTITY_GENERIC_EXPLODE, 2.0f, 0.3f);
-                center.getWorld().playSound(center, Sound.ENTITY_WITHER_DEATH, 0.8f, 0.5f);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.EXPLOSION_EMITTER, center, 3, 0, 0, 0, 0);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.REVERSE_PORTAL, center, 200, 3, 3, 3, 2.0);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SOUL_FIRE_FLAME, center, 100, 2, 2, 2, 0.5);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.END_ROD, center, 80, 4, 4, 4, 0.3);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ENTITY_GENERIC_EXPLODE, 2.0f, 0.3f);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ENTITY_WITHER_DEATH, 0.8f, 0.5f);
                 bhIterator.remove();
                 continue;
             }
@@ -3289,10 +3283,10 @@ public class OccultisteTalentListener implements Listener {
                     }
 
                     // Visual AMELIORE sur l'entite aspiree - effet de distorsion
-                    le.getWorld().spawnParticle(Particle.PORTAL, le.getLocation().add(0, 1, 0), 15, 0.3, 0.5, 0.3, 0.3);
-                    le.getWorld().spawnParticle(Particle.REVERSE_PORTAL, le.getLocation().add(0, 0.5, 0), 8, 0.2, 0.3,
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.PORTAL, le.getLocation().add(0, 1, 0), 15, 0.3, 0.5, 0.3, 0.3);
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.REVERSE_PORTAL, le.getLocation().add(0, 0.5, 0), 8, 0.2, 0.3,
                             0.2, 0.2);
-                    le.getWorld().spawnParticle(Particle.SOUL, le.getLocation().add(0, 1.5, 0), 3, 0.2, 0.2, 0.2, 0.05);
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SOUL, le.getLocation().add(0, 1.5, 0), 3, 0.2, 0.2, 0.2, 0.05);
                 }
             }
 
@@ -3300,8 +3294,8 @@ public class OccultisteTalentListener implements Listener {
             double time = (now % 2000) / 2000.0 * Math.PI * 2; // Rotation toutes les 2 secondes
 
             // Noyau central dense et sombre
-            center.getWorld().spawnParticle(Particle.SQUID_INK, center, 30, 0.3, 0.3, 0.3, 0.01);
-            center.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, center, 20, 0.5, 0.5, 0.5, 0.05);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SQUID_INK, center, 30, 0.3, 0.3, 0.3, 0.01);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SOUL_FIRE_FLAME, center, 20, 0.5, 0.5, 0.5, 0.05);
 
             // Anneaux de particules en rotation (disque d'accrétion)
             for (int ring = 0; ring < 3; ring++) {
@@ -3312,7 +3306,7 @@ public class OccultisteTalentListener implements Listener {
                     double x = Math.cos(angle) * ringRadius;
                     double z = Math.sin(angle) * ringRadius;
                     Location particleLoc = center.clone().add(x, 0.2 * ring, z);
-                    center.getWorld().spawnParticle(Particle.REVERSE_PORTAL, particleLoc, 2, 0.1, 0.1, 0.1, 0.1);
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.REVERSE_PORTAL, particleLoc, 2, 0.1, 0.1, 0.1, 0.1);
                 }
             }
 
@@ -3324,25 +3318,25 @@ public class OccultisteTalentListener implements Listener {
                     double z = Math.sin(spiralAngle + dist * 0.5) * dist;
                     double y = Math.sin(dist) * 0.5;
                     Location spiralLoc = center.clone().add(x, y, z);
-                    center.getWorld().spawnParticle(Particle.DRAGON_BREATH, spiralLoc, 1, 0.05, 0.05, 0.05, 0.01);
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DRAGON_BREATH, spiralLoc, 1, 0.05, 0.05, 0.05, 0.01);
                 }
             }
 
             // Colonnes de particules montantes
-            center.getWorld().spawnParticle(Particle.END_ROD, center.clone().add(0, 2, 0), 15, 0.8, 1.5, 0.8, 0.05);
-            center.getWorld().spawnParticle(Particle.ENCHANT, center.clone().add(0, 1, 0), 30, 1.5, 0.5, 1.5, 1.0);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.END_ROD, center.clone().add(0, 2, 0), 15, 0.8, 1.5, 0.8, 0.05);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.ENCHANT, center.clone().add(0, 1, 0), 30, 1.5, 0.5, 1.5, 1.0);
 
             // Halo extérieur
-            center.getWorld().spawnParticle(Particle.SMOKE, center, 60, data.radius * 0.8, 0.5, data.radius * 0.8,
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SMOKE, center, 60, data.radius * 0.8, 0.5, data.radius * 0.8,
                     0.02);
-            center.getWorld().spawnParticle(Particle.ASH, center, 40, data.radius, 2, data.radius, 0.1);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.ASH, center, 40, data.radius, 2, data.radius, 0.1);
 
             // Son ambient plus fréquent et varié
             if (Math.random() < 0.5) {
-                center.getWorld().playSound(center, Sound.BLOCK_PORTAL_AMBIENT, 0.6f, 0.2f);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.BLOCK_PORTAL_AMBIENT, 0.6f, 0.2f);
             }
             if (Math.random() < 0.2) {
-                center.getWorld().playSound(center, Sound.ENTITY_ENDERMAN_TELEPORT, 0.3f, 0.3f);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ENTITY_ENDERMAN_TELEPORT, 0.3f, 0.3f);
             }
         }
     }
@@ -3393,7 +3387,7 @@ public class OccultisteTalentListener implements Listener {
                                     damageNoKnockback(nearbyLe, aoeDamage, owner);
 
                                     // Visual sur les mobs touches
-                                    nearbyLe.getWorld().spawnParticle(Particle.PORTAL,
+                                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.PORTAL,
                                             nearbyLe.getLocation().add(0, 1, 0), 20, 0.3, 0.5, 0.3, 0.5);
                                 }
                             }
@@ -3406,34 +3400,34 @@ public class OccultisteTalentListener implements Listener {
                                     double x = Math.cos(angle) * radius;
                                     double z = Math.sin(angle) * radius;
                                     Location particleLoc = explosionLoc.clone().add(x, 0.5, z);
-                                    explosionLoc.getWorld().spawnParticle(Particle.REVERSE_PORTAL, particleLoc, 3, 0.1,
+                                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.REVERSE_PORTAL, particleLoc, 3, 0.1,
                                             0.2, 0.1, 0.1);
                                 }
                             }
 
                             // Noyau central de l'explosion
-                            explosionLoc.getWorld().spawnParticle(Particle.SQUID_INK, explosionLoc.clone().add(0, 1, 0),
+                            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SQUID_INK, explosionLoc.clone().add(0, 1, 0),
                                     40, 0.3, 0.5, 0.3, 0.05);
-                            explosionLoc.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME,
+                            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SOUL_FIRE_FLAME,
                                     explosionLoc.clone().add(0, 1, 0), 30, 0.5, 0.5, 0.5, 0.1);
-                            explosionLoc.getWorld().spawnParticle(Particle.END_ROD, explosionLoc.clone().add(0, 1.5, 0),
+                            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.END_ROD, explosionLoc.clone().add(0, 1.5, 0),
                                     25, 0.8, 0.8, 0.8, 0.15);
-                            explosionLoc.getWorld().spawnParticle(Particle.DRAGON_BREATH,
+                            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DRAGON_BREATH,
                                     explosionLoc.clone().add(0, 0.5, 0), 50, 1.5, 0.5, 1.5, 0.08);
 
                             // Sons d'explosion du vide
-                            explosionLoc.getWorld().playSound(explosionLoc, Sound.ENTITY_WITHER_BREAK_BLOCK, 0.8f,
+                            plugin.getEffectBudget().playSound(Subsystem.TALENTS, explosionLoc, Sound.ENTITY_WITHER_BREAK_BLOCK, 0.8f,
                                     0.5f);
-                            explosionLoc.getWorld().playSound(explosionLoc, Sound.ENTITY_ENDERMAN_TELEPORT, 1.2f, 0.4f);
-                            explosionLoc.getWorld().playSound(explosionLoc, Sound.BLOCK_END_PORTAL_SPAWN, 0.6f, 1.5f);
+                            plugin.getEffectBudget().playSound(Subsystem.TALENTS, explosionLoc, Sound.ENTITY_ENDERMAN_TELEPORT, 1.2f, 0.4f);
+                            plugin.getEffectBudget().playSound(Subsystem.TALENTS, explosionLoc, Sound.BLOCK_END_PORTAL_SPAWN, 0.6f, 1.5f);
                         }
                     }
 
                     // Visual de reapparition sur l'entite
                     Location loc = data.originalLocation.clone();
-                    loc.getWorld().spawnParticle(Particle.REVERSE_PORTAL, loc.add(0, 1, 0), 60, 0.5, 1, 0.5, 0.4);
-                    loc.getWorld().spawnParticle(Particle.DRAGON_BREATH, loc, 35, 0.4, 0.6, 0.4, 0.08);
-                    loc.getWorld().spawnParticle(Particle.ENCHANT, loc, 40, 0.5, 1, 0.5, 1.0);
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.REVERSE_PORTAL, loc.add(0, 1, 0), 60, 0.5, 1, 0.5, 0.4);
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DRAGON_BREATH, loc, 35, 0.4, 0.6, 0.4, 0.08);
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.ENCHANT, loc, 40, 0.5, 1, 0.5, 1.0);
                 }
 
                 iterator.remove();
@@ -3685,7 +3679,7 @@ public class OccultisteTalentListener implements Listener {
         arrow.addScoreboardTag("owner_" + owner.getUniqueId());
 
         // Son de tir
-        skeleton.getWorld().playSound(skeleton.getLocation(), Sound.ENTITY_SKELETON_SHOOT, 1.0f, 1.0f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, skeleton.getLocation(), Sound.ENTITY_SKELETON_SHOOT, 1.0f, 1.0f);
 
         // Effet visuel de flamme si le squelette a Flame
         var mainHand = skeleton.getEquipment().getItemInMainHand();
@@ -3759,12 +3753,7 @@ public class OccultisteTalentListener implements Listener {
     }
 
     private boolean hasTalentEffectForAnyPlayer(Talent.TalentEffectType effectType) {
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (isOccultiste(player) && hasTalentEffect(player, effectType)) {
-                return true;
-            }
-        }
-        return false;
+        return talentManager.isEffectActiveForAnyPlayer(effectType);
     }
 
     private Player getPlayerAttacker(EntityDamageByEntityEvent event) {
@@ -3,9 +3,13 @@ package com.rinaorc.zombiez.classes.talents;
 import com.rinaorc.zombiez.ZombieZPlugin;
 import com.rinaorc.zombiez.classes.ClassData;
 import com.rinaorc.zombiez.combat.PacketDamageIndicator;
+import com.rinaorc.zombiez.items.PlayerStatVector;
 import com.rinaorc.zombiez.items.awaken.AwakenContext;
 import com.rinaorc.zombiez.items.awaken.AwakenHelper;
 import com.rinaorc.zombiez.items.types.StatType;
+import com.rinaorc.zombiez.scheduler.EffectScheduler.Subsystem;
+import com.rinaorc.zombiez.scheduler.EffectScheduler;
+import com.rinaorc.zombiez.scheduler.EffectTask;
 import com.rinaorc.zombiez.utils.EntityUtils;
 import org.bukkit.*;
 import org.bukkit.attribute.Attribute;
@@ -370,8 +374,8 @@ public class TalentListener implements Listener {
                 }
 
                 // Effet visuel - impact net sans explosion volumineuse
-                target.getWorld().spawnParticle(Particle.SONIC_BOOM, target.getLocation().add(0, 0.5, 0), 1);
-                target.getWorld().playSound(target.getLocation(), Sound.ITEM_MACE_SMASH_GROUND_HEAVY, 0.8f, 0.8f);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SONIC_BOOM, target.getLocation().add(0, 0.5, 0), 1);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, target.getLocation(), Sound.ITEM_MACE_SMASH_GROUND_HEAVY, 0.8f, 0.8f);
             }
         }
 
@@ -393,14 +397,14 @@ public class TalentListener implements Listener {
                 punishmentReady.put(uuid, false);
                 punishmentStacks.put(uuid, 0);
 
-                player.getWorld().playSound(player.getLocation(), Sound.ENTITY_PLAYER_ATTACK_CRIT, 1.0f, 0.8f);
-                player.getWorld().playSound(target.getLocation(), Sound.BLOCK_BEACON_ACTIVATE, 0.8f, 1.5f);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.ENTITY_PLAYER_ATTACK_CRIT, 1.0f, 0.8f);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, target.getLocation(), Sound.BLOCK_BEACON_ACTIVATE, 0.8f, 1.5f);
 
                 // Effet visuel sacré/jaune (réduit)
                 Location targetLoc = target.getLocation().add(0, 1, 0);
-                player.getWorld().spawnParticle(Particle.TOTEM_OF_UNDYING, targetLoc, 12, 0.3, 0.5, 0.3, 0.1);
-                player.getWorld().spawnParticle(Particle.END_ROD, targetLoc, 6, 0.3, 0.5, 0.3, 0.03);
-                player.getWorld().spawnParticle(Particle.DUST, targetLoc, 8, 0.4, 0.5, 0.4, 0,
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.TOTEM_OF_UNDYING, targetLoc, 12, 0.3, 0.5, 0.3, 0.1);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.END_ROD, targetLoc, 6, 0.3, 0.5, 0.3, 0.03);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, targetLoc, 8, 0.4, 0.5, 0.4, 0,
                     new Particle.DustOptions(Color.fromRGB(255, 215, 0), 1.0f));
 
             } else {
@@ -413,10 +417,10 @@ public class TalentListener implements Listener {
                     if (stacks >= stacksNeeded) {
                         punishmentReady.put(uuid, true);
                         // Son de notification (l'affichage est dans l'ActionBar centralisé)
-                        player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_PLING, 0.7f, 1.5f);
+                        plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.BLOCK_NOTE_BLOCK_PLING, 0.7f, 1.5f);
                     } else {
                         // Son de progression (l'affichage est dans l'ActionBar centralisé)
-                        player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_HAT, 0.4f, 0.8f + (stacks * 0.2f));
+                        plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.BLOCK_NOTE_BLOCK_HAT, 0.4f, 0.8f + (stacks * 0.2f));
                     }
                 }
                 punishmentLastHit.put(uuid, now);
@@ -476,7 +480,7 @@ public class TalentListener implements Listener {
                 fractureWaveHitCounter.put(uuid, 0);
             } else {
                 // Son de progression (l'affichage est géré par l'ActionBar centralisé)
-                player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 0.5f, 0.8f + (currentHits * 0.2f));
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 0.5f, 0.8f + (currentHits * 0.2f));
             }
         }
 
@@ -507,7 +511,7 @@ public class TalentListener implements Listener {
                 procVengefulShield(player, pulseDamage, pulseRadius, pulseCount, explosionDamage, explosionRadius, travelDistance);
             } else {
                 // Son de progression (l'affichage est géré par l'ActionBar centralisé)
-                player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 0.3f, 0.8f + (currentHits * 0.15f));
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 0.3f, 0.8f + (currentHits * 0.15f));
             }
         }
 
@@ -585,12 +589,12 @@ public class TalentListener implements Listener {
                 damage *= (1 + damageBonus);
 
                 // Feedback visuel - slash doré net
-                target.getWorld().spawnParticle(
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, 
                     Particle.SWEEP_ATTACK,
                     target.getLocation().add(0, 1, 0),
                     1, 0.1, 0.1, 0.1, 0
                 );
-                target.getWorld().spawnParticle(
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, 
                     Particle.DUST,
                     target.getLocation().add(0, 1, 0),
                     6, 0.3, 0.3, 0.3, 0.05,
@@ -598,7 +602,7 @@ public class TalentListener implements Listener {
                 );
 
                 // Son satisfaisant
-                player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_ATTACK_CRIT, 0.9f, 1.4f);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.ENTITY_PLAYER_ATTACK_CRIT, 0.9f, 1.4f);
 
                 // Tracker pour ActionBar
                 lastMercyStrike.put(uuid, System.currentTimeMillis());
@@ -727,7 +731,7 @@ public class TalentListener implements Listener {
                             enemiesHit++;
 
                             // Particules sur chaque ennemi touché
-                            livingNearby.getWorld().spawnParticle(
+                            plugin.getEffectBudget().spawn(Subsystem.TALENTS, 
                                 Particle.CRIT,
                                 livingNearby.getLocation().add(0, 1, 0),
                                 15, 0.3, 0.5, 0.3, 0.2
@@ -739,11 +743,11 @@ public class TalentListener implements Listener {
                 // === EXPLOSION VISUELLE ET SONORE ===
 
                 // Son d'explosion satisfaisant
-                player.playSound(player.getLocation(), Sound.ENTITY_GENERIC_EXPLODE, 0.7f, 1.3f);
-                player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_ATTACK_CRIT, 0.9f, 0.6f);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.ENTITY_GENERIC_EXPLODE, 0.7f, 1.3f);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.ENTITY_PLAYER_ATTACK_CRIT, 0.9f, 0.6f);
 
                 // Explosion centrale
-                center.getWorld().spawnParticle(
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, 
                     Particle.EXPLOSION,
                     center.add(0, 1, 0),
                     1, 0.2, 0.2, 0.2, 0
@@ -754,7 +758,7 @@ public class TalentListener implements Listener {
                     double angle = (2 * Math.PI * i) / 8;
                     double x = Math.cos(angle) * aoeRadius * 0.7;
                     double z = Math.sin(angle) * aoeRadius * 0.7;
-                    center.getWorld().spawnParticle(
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, 
                         Particle.DUST,
                         center.clone().add(x, 0.1, z),
                         2, 0.1, 0.1, 0.1, 0,
@@ -763,7 +767,7 @@ public class TalentListener implements Listener {
                 }
 
                 // Flash central (réduit)
-                center.getWorld().spawnParticle(
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, 
                     Particle.CRIT,
                     center,
                     10, 0.5, 0.5, 0.5, 0.15
@@ -794,10 +798,10 @@ public class TalentListener implements Listener {
                 float[] pitches = {0.5f, 0.65f, 0.8f, 0.95f, 1.1f};
                 if (currentCombo <= comboRequired) {
                     float pitch = pitches[Math.min(currentCombo - 1, pitches.length - 1)];
-                    player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BELL, 0.6f, pitch);
+                    plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BELL, 0.6f, pitch);
 
                     // Éclairs légers
-                    player.getWorld().spawnParticle(
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, 
                         Particle.ELECTRIC_SPARK,
                         player.getLocation().add(0, 1.2, 0),
                         currentCombo + 1, 0.3, 0.3, 0.3, 0.03
@@ -809,10 +813,10 @@ public class TalentListener implements Listener {
                     frenzyReady.put(uuid, true);
 
                     // Son de charge
-                    player.playSound(player.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 0.8f, 1.5f);
+                    plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 0.8f, 1.5f);
 
                     // Aura orange légère
-                    player.getWorld().spawnParticle(
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, 
                         Particle.DUST,
                         player.getLocation().add(0, 1, 0),
                         8, 0.4, 0.4, 0.4, 0.05,
@@ -851,8 +855,8 @@ public class TalentListener implements Listener {
                     // Normal = instakill
                     damage = target.getHealth() + 1000;
                 }
-                player.getWorld().playSound(player.getLocation(), Sound.ENTITY_LIGHTNING_BOLT_THUNDER, 1.0f, 1.5f);
-                player.getWorld().spawnParticle(Particle.FLASH, target.getLocation(), 1);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.ENTITY_LIGHTNING_BOLT_THUNDER, 1.0f, 1.5f);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLASH, target.getLocation(), 1);
             }
         }
 
@@ -918,13 +922,13 @@ public class TalentListener implements Listener {
 
                     for (double d = 0; d < targetLoc.distance(playerLoc); d += 0.5) {
                         Location particleLoc = targetLoc.clone().add(direction.clone().multiply(d));
-                        player.getWorld().spawnParticle(Particle.DUST, particleLoc,
+                        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, particleLoc,
                             2, 0.1, 0.1, 0.1, 0, new Particle.DustOptions(Color.RED, 1.0f));
                     }
 
                     // Particules de heal sur le joueur
-                    player.getWorld().spawnParticle(Particle.HEART, playerLoc, 3, 0.3, 0.3, 0.3, 0);
-                    player.getWorld().playSound(player.getLocation(), Sound.ENTITY_PLAYER_BURP, 0.5f, 1.2f);
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.HEART, playerLoc, 3, 0.3, 0.3, 0.3, 0);
+                    plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.ENTITY_PLAYER_BURP, 0.5f, 1.2f);
                 }
             }
         }
@@ -958,11 +962,11 @@ public class TalentListener implements Listener {
                 double dist = 0.5 + Math.random() * 0.5;
                 double x = loc.getX() + dist * Math.cos(angle);
                 double z = loc.getZ() + dist * Math.sin(angle);
-                player.getWorld().spawnParticle(Particle.BLOCK, x, loc.getY() + 0.5 + Math.random(), z,
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.BLOCK, new Location(loc.getWorld(), x, loc.getY() + 0.5 + Math.random(), z),
                     3, 0.1, 0.2, 0.1, 0.05, Material.BONE_BLOCK.createBlockData());
             }
-            player.getWorld().playSound(player.getLocation(), Sound.ENTITY_SKELETON_HURT, 1.0f, 0.6f);
-            player.getWorld().playSound(player.getLocation(), Sound.BLOCK_BONE_BLOCK_PLACE, 0.8f, 1.2f);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.ENTITY_SKELETON_HURT, 1.0f, 0.6f);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.BLOCK_BONE_BLOCK_PLACE, 0.8f, 1.2f);
 
             // Feedback
             if (shouldSendTalentMessage(player)) {
@@ -1068,9 +1072,9 @@ public class TalentListener implements Listener {
                     int newCharges = charges - 1;
                     boneShieldCharges.put(uuid, newCharges);
                     updateBoneShieldArmorStands(player, newCharges); // Mise à jour immédiate des os
-                    player.getWorld().spawnParticle(Particle.BLOCK, player.getLocation().add(0, 1, 0),
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.BLOCK, player.getLocation().add(0, 1, 0),
                         8, 0.3, 0.3, 0.3, 0.05, Material.BONE_BLOCK.createBlockData());
-                    player.getWorld().playSound(player.getLocation(), Sound.ENTITY_SKELETON_STEP, 0.5f, 1.2f);
+                    plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.ENTITY_SKELETON_STEP, 0.5f, 1.2f);
                 }
             }
         }
@@ -1123,9 +1127,9 @@ public class TalentListener implements Listener {
                     }
 
                     // Effets visuels
-                    player.getWorld().spawnParticle(Particle.BLOCK, player.getLocation().add(0, 1, 0),
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.BLOCK, player.getLocation().add(0, 1, 0),
                         40, 1, 1, 1, 0.1, Material.REDSTONE_BLOCK.createBlockData());
-                    player.getWorld().playSound(player.getLocation(), Sound.ENTITY_WITHER_HURT, 1.0f, 0.5f);
+                    plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.ENTITY_WITHER_HURT, 1.0f, 0.5f);
 
                     setCooldown(uuid, "consumption", (long) consumption.getValue(3));
 
@@ -1171,8 +1175,8 @@ public class TalentListener implements Listener {
                 attacker.damage(riposteDamage, player);
 
                 // Effets visuels
-                player.getWorld().playSound(player.getLocation(), Sound.ITEM_SHIELD_BLOCK, 1.0f, 1.2f);
-                player.getWorld().spawnParticle(Particle.CRIT, player.getLocation().add(0, 1, 0), 8, 0.3, 0.3, 0.3, 0.1);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.ITEM_SHIELD_BLOCK, 1.0f, 1.2f);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CRIT, player.getLocation().add(0, 1, 0), 8, 0.3, 0.3, 0.3, 0.1);
 
                 // Tracker blocage pour les autres talents Rempart
                 handleRempartBlock(player, uuid, originalDamage);
@@ -1195,7 +1199,7 @@ public class TalentListener implements Listener {
             // Tracker blocage pour les talents Rempart
             handleRempartBlock(player, uuid, damage);
 
-            player.getWorld().playSound(player.getLocation(), Sound.BLOCK_ANVIL_LAND, 0.5f, 1.5f);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.BLOCK_ANVIL_LAND, 0.5f, 1.5f);
         }
 
         // Legacy: Frenetique
@@ -1244,8 +1248,8 @@ public class TalentListener implements Listener {
                     player.setInvulnerable(true);
                     Bukkit.getScheduler().runTaskLater(plugin, () -> player.setInvulnerable(false), (long)(immortal.getValue(1) / 50));
 
-                    player.getWorld().playSound(player.getLocation(), Sound.ITEM_TOTEM_USE, 1.0f, 1.0f);
-                    player.getWorld().spawnParticle(Particle.TOTEM_OF_UNDYING, player.getLocation(), 50, 1, 1, 1, 0.1);
+                    plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.ITEM_TOTEM_USE, 1.0f, 1.0f);
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.TOTEM_OF_UNDYING, player.getLocation(), 50, 1, 1, 1, 0.1);
                     if (shouldSendTalentMessage(player)) {
                         player.sendMessage("§a§l💀 [Immortel] §7: §aRésurrection! §fVous revenez avec §a§l" + (int)(immortal.getValue(1) / 50) + " §7ticks d'invulnérabilité");
                     }
@@ -1262,7 +1266,7 @@ public class TalentListener implements Listener {
             double reflect = damage * aegis.getValue(1);
             if (event.getDamager() instanceof LivingEntity attacker) {
                 attacker.damage(reflect, player);
-                player.getWorld().playSound(player.getLocation(), Sound.ITEM_SHIELD_BLOCK, 1.0f, 2.0f);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.ITEM_SHIELD_BLOCK, 1.0f, 2.0f);
             }
         }
 
@@ -1293,7 +1297,7 @@ public class TalentListener implements Listener {
             attacker.damage(reflect, player);
 
             // Effet visuel de réflexion
-            player.getWorld().spawnParticle(Particle.ENCHANT, player.getLocation().add(0, 1, 0), 10, 0.5, 0.5, 0.5, 0.3);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.ENCHANT, player.getLocation().add(0, 1, 0), 10, 0.5, 0.5, 0.5, 0.3);
         }
 
 
@@ -1430,7 +1434,7 @@ public class TalentListener implements Listener {
                     PacketDamageIndicator.display(plugin, target.getLocation().add(0, 1.5, 0), explosionDamage, false, owner);
 
                     // Effet de sang sur chaque cible touchée (réduit)
-                    world.spawnParticle(Particle.DUST, target.getLocation().add(0, 1, 0), 3, 0.2, 0.2, 0.2, 0,
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, target.getLocation().add(0, 1, 0), 3, 0.2, 0.2, 0.2, 0,
                         new Particle.DustOptions(Color.fromRGB(150, 0, 0), 1.0f));
                 }
             }
@@ -1444,19 +1448,19 @@ public class TalentListener implements Listener {
                 double x = r * Math.cos(angle);
                 double z = r * Math.sin(angle);
                 Location particleLoc = explosionLoc.clone().add(x, 0.2, z);
-                world.spawnParticle(Particle.DUST, particleLoc, 1, 0, 0, 0, 0,
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, particleLoc, 1, 0, 0, 0, 0,
                     new Particle.DustOptions(Color.fromRGB(139, 0, 0), 1.5f));
             }
         }
 
         // Particules centrales (explosion - réduites)
-        world.spawnParticle(Particle.DUST, explosionLoc.clone().add(0, 0.5, 0), 12, 0.6, 0.4, 0.6, 0.03,
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, explosionLoc.clone().add(0, 0.5, 0), 12, 0.6, 0.4, 0.6, 0.03,
             new Particle.DustOptions(Color.fromRGB(180, 0, 0), 1.8f));
-        world.spawnParticle(Particle.CRIMSON_SPORE, explosionLoc.clone().add(0, 1, 0), 8, 0.8, 0.4, 0.8, 0.01);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CRIMSON_SPORE, explosionLoc.clone().add(0, 1, 0), 8, 0.8, 0.4, 0.8, 0.01);
 
         // Son d'explosion sanglante
-        world.playSound(explosionLoc, Sound.ENTITY_SLIME_SQUISH, 1.5f, 0.6f);
-        world.playSound(explosionLoc, Sound.ITEM_TOTEM_USE, 0.4f, 1.8f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, explosionLoc, Sound.ENTITY_SLIME_SQUISH, 1.5f, 0.6f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, explosionLoc, Sound.ITEM_TOTEM_USE, 0.4f, 1.8f);
 
         // === Lifesteal 5% des dégâts infligés ===
         if (totalDamageDealt > 0) {
@@ -1470,7 +1474,7 @@ public class TalentListener implements Listener {
 
             for (double d = 0; d < distance; d += 1.0) {
                 Location particleLoc = explosionLoc.clone().add(direction.clone().multiply(d));
-                world.spawnParticle(Particle.DUST, particleLoc, 1, 0.03, 0.03, 0.03, 0,
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, particleLoc, 1, 0.03, 0.03, 0.03, 0,
                     new Particle.DustOptions(Color.fromRGB(200, 50, 50), 0.6f));
             }
 
@@ -1478,7 +1482,7 @@ public class TalentListener implements Listener {
             if (shouldSendTalentMessage(owner)) {
                 showTempEventMessage(owner.getUniqueId(), "§4❤ §c+" + String.format("%.1f", healAmount) + " §7(Explosion)");
             }
-            owner.playSound(owner.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 0.5f, 1.2f);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, owner, owner.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 0.5f, 1.2f);
         }
 
         // Supprimer la larve
@@ -1551,10 +1555,10 @@ public class TalentListener implements Listener {
 
             // Feedback sonore selon les stacks
             float pitch = 0.9f + (newStacks * 0.15f);
-            player.playSound(player.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 0.7f, pitch);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 0.7f, pitch);
 
             // Particules de sang (léger)
-            player.getWorld().spawnParticle(
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, 
                 Particle.DUST,
                 player.getLocation().add(0, 1, 0),
                 3 + newStacks * 2,
@@ -1564,8 +1568,8 @@ public class TalentListener implements Listener {
 
             // Aura à max stacks
             if (newStacks >= maxStacks) {
-                player.playSound(player.getLocation(), Sound.ENTITY_BLAZE_AMBIENT, 0.5f, 1.2f);
-                player.getWorld().spawnParticle(
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.ENTITY_BLAZE_AMBIENT, 0.5f, 1.2f);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, 
                     Particle.DUST,
                     player.getLocation().add(0, 1, 0),
                     12,
@@ -1587,7 +1591,7 @@ public class TalentListener implements Listener {
             regenerateBoneShieldCharges(player, chargesToRegen);
 
             // Petit effet visuel
-            player.getWorld().spawnParticle(Particle.BLOCK, player.getLocation().add(0, 1, 0),
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.BLOCK, player.getLocation().add(0, 1, 0),
                 5, 0.2, 0.2, 0.2, 0.05, Material.BONE_BLOCK.createBlockData());
         }
 
@@ -1606,20 +1610,20 @@ public class TalentListener implements Listener {
                 applyLifesteal(player, heal);
 
                 // Effet d'exécution net
-                target.getWorld().spawnParticle(
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, 
                     Particle.DUST,
                     target.getLocation().add(0, 1.2, 0),
                     10, 0.25, 0.25, 0.25, 0.1,
                     new Particle.DustOptions(org.bukkit.Color.fromRGB(200, 0, 0), 1.2f)
                 );
-                target.getWorld().spawnParticle(
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, 
                     Particle.CRIT,
                     target.getLocation().add(0, 1, 0),
                     5, 0.2, 0.2, 0.2, 0.1
                 );
 
                 // Son d'exécution
-                player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_ATTACK_KNOCKBACK, 0.9f, 0.8f);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.ENTITY_PLAYER_ATTACK_KNOCKBACK, 0.9f, 0.8f);
 
                 // Cyclones Sanglants - spawn sur exécution (cooldown 3s)
                 Talent bloodCyclones = getActiveTalentIfHas(player, Talent.TalentEffectType.BLOOD_CYCLONES);
@@ -1688,15 +1692,15 @@ public class TalentListener implements Listener {
                     predatorDamageBuffExpiry.put(uuid, System.currentTimeMillis() + buffDuration);
 
                     // Effet visuel spécial
-                    player.getWorld().spawnParticle(Particle.FLAME, player.getLocation().add(0, 1, 0),
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLAME, player.getLocation().add(0, 1, 0),
                         15, 0.5, 0.5, 0.5, 0.05);
-                    player.playSound(player.getLocation(), Sound.ENTITY_BLAZE_SHOOT, 0.6f, 1.4f);
+                    plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.ENTITY_BLAZE_SHOOT, 0.6f, 1.4f);
                 }
 
                 // Effet de reset
-                player.getWorld().spawnParticle(Particle.ENCHANTED_HIT, player.getLocation().add(0, 1, 0),
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.ENCHANTED_HIT, player.getLocation().add(0, 1, 0),
                     8, 0.3, 0.3, 0.3, 0.1);
-                player.playSound(player.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 0.7f, 1.2f);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 0.7f, 1.2f);
             }
 
             // === CHAÎNE DE CARNAGE (T8) - Stacks de Carnage ===
@@ -1720,10 +1724,10 @@ public class TalentListener implements Listener {
 
                 // Feedback visuel des stacks
                 float pitch = 0.8f + (newStacks * 0.12f);
-                player.playSound(player.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 0.6f, pitch);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 0.6f, pitch);
 
                 // Particules de sang qui montent avec les stacks
-                player.getWorld().spawnParticle(Particle.DUST, player.getLocation().add(0, 1, 0),
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, player.getLocation().add(0, 1, 0),
                     3 + newStacks * 2, 0.3, 0.4, 0.3, 0,
                     new Particle.DustOptions(Color.fromRGB(139, 0, 0), 1.0f + (newStacks * 0.2f)));
 
@@ -1732,9 +1736,9 @@ public class TalentListener implements Listener {
                     carnageExplosionReady.put(uuid, true);
 
                     // Effet épique d'annonce
-                    player.getWorld().playSound(player.getLocation(), Sound.ENTITY_WITHER_SPAWN, 0.5f, 1.5f);
-                    player.getWorld().playSound(player.getLocation(), Sound.ENTITY_ELDER_GUARDIAN_CURSE, 0.6f, 1.2f);
-                    player.getWorld().spawnParticle(Particle.DUST, player.getLocation().add(0, 1.5, 0),
+                    plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.ENTITY_WITHER_SPAWN, 0.5f, 1.5f);
+                    plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.ENTITY_ELDER_GUARDIAN_CURSE, 0.6f, 1.2f);
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, player.getLocation().add(0, 1.5, 0),
                         25, 0.6, 0.8, 0.6, 0,
                         new Particle.DustOptions(Color.fromRGB(139, 0, 0), 2.0f));
                 }
@@ -1919,7 +1923,7 @@ public class TalentListener implements Listener {
             Long activeUntil = megaTornadoActiveUntil.get(uuid);
             if (activeUntil != null && System.currentTimeMillis() < activeUntil) {
                 // Déjà actif - feedback
-                player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 0.5f, 0.5f);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 0.5f, 0.5f);
                 return;
             }
 
@@ -1929,7 +1933,7 @@ public class TalentListener implements Listener {
             } else {
                 // Feedback cooldown
                 long remaining = getCooldownRemaining(uuid, "mega_tornado") / 1000;
-                player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 0.5f, 0.5f);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 0.5f, 0.5f);
             }
             return;
         }
@@ -1940,7 +1944,7 @@ public class TalentListener implements Listener {
             // Vérifier si pas déjà actif
             Long activeUntil = berserkerRageActiveUntil.get(uuid);
             if (activeUntil != null && System.currentTimeMillis() < activeUntil) {
-                player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 0.5f, 0.5f);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 0.5f, 0.5f);
                 return;
             }
 
@@ -1948,7 +1952,7 @@ public class TalentListener implements Listener {
                 procBerserkerRage(player, berserkerRage);
                 setCooldown(uuid, "berserker_rage", (long) berserkerRage.getValue(4));
             } else {
-                player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 0.5f, 0.5f);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 0.5f, 0.5f);
             }
             return;
         }
@@ -1962,7 +1966,7 @@ public class TalentListener implements Listener {
         if (dancingWeapon != null) {
             Long activeUntil = dancingRuneWeaponExpiry.get(uuid);
             if (activeUntil != null && System.currentTimeMillis() < activeUntil) {
-                player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 0.5f, 0.5f);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 0.5f, 0.5f);
                 return;
             }
 
@@ -1970,7 +1974,7 @@ public class TalentListener implements Listener {
                 procDancingRuneWeapon(player, dancingWeapon);
                 setCooldown(uuid, "dancing_rune_weapon", (long) dancingWeapon.getValue(4));
             } else {
-                player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 0.5f, 0.5f);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 0.5f, 0.5f);
             }
         }
     }
@@ -2005,7 +2009,7 @@ public class TalentListener implements Listener {
         if (milestone > lastMilestone && milestone < 4) {
             lastApocalypseMilestone.put(uuid, milestone);
             // Son de milestone (l'affichage est dans l'ActionBar centralisé)
-            player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_PLING, 0.3f, 0.8f + milestone * 0.15f);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.BLOCK_NOTE_BLOCK_PLING, 0.3f, 0.8f + milestone * 0.15f);
         }
 
         // Proc automatique!
@@ -2013,7 +2017,7 @@ public class TalentListener implements Listener {
             aoeDamageCounter.put(uuid, 0.0);
             lastApocalypseMilestone.put(uuid, 0); // Reset milestones
 
-            player.playSound(player.getLocation(), Sound.ENTITY_ENDER_DRAGON_GROWL, 0.6f, 1.5f);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.ENTITY_ENDER_DRAGON_GROWL, 0.6f, 1.5f);
 
             procEarthApocalypse(player, 10 * apocalypse.getValue(1), apocalypse.getValue(2), apocalypse.getValue(3));
             setCooldown(uuid, "apocalypse", apocalypse.getInternalCooldownMs());
@@ -2087,7 +2091,7 @@ public class TalentListener implements Listener {
                                     // Marquer comme dégâts secondaires pour éviter les indicateurs multiples
                                     target.setMetadata("zombiez_secondary_damage", new org.bukkit.metadata.FixedMetadataValue(plugin, true));
                                     target.damage(target.getHealth() + 100, player);
-                                    target.getWorld().spawnParticle(Particle.SOUL, target.getLocation(), 5, 0.3, 0.3, 0.3, 0.02);
+                                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SOUL, target.getLocation(), 5, 0.3, 0.3, 0.3, 0.02);
                                 }
                             }
                         }
@@ -2187,7 +2191,7 @@ public class TalentListener implements Listener {
                             // Expiration - retirer le bonus de HP
                             removeFortifyBonus(player, uuid);
 
-                            player.playSound(player.getLocation(), Sound.BLOCK_CHAIN_BREAK, 0.5f, 0.8f);
+                            plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.BLOCK_CHAIN_BREAK, 0.5f, 0.8f);
                         }
                     }
 
@@ -2214,7 +2218,7 @@ public class TalentListener implements Listener {
                         for (double angle = 0; angle < Math.PI * 2; angle += Math.PI / 8) {
                             double x = radius * Math.cos(angle + rotationOffset);
                             double z = radius * Math.sin(angle + rotationOffset);
-                            world.spawnParticle(Particle.DUST, loc.clone().add(x, 0.1, z),
+                            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, loc.clone().add(x, 0.1, z),
                                 1, 0, 0, 0, 0, new Particle.DustOptions(Color.fromRGB(255, 200, 50), 1.2f));
                         }
 
@@ -2222,7 +2226,7 @@ public class TalentListener implements Listener {
                         for (double angle = 0; angle < Math.PI * 2; angle += Math.PI / 4) {
                             double x = (radius - 0.5) * Math.cos(angle - rotationOffset * 0.5);
                             double z = (radius - 0.5) * Math.sin(angle - rotationOffset * 0.5);
-                            world.spawnParticle(Particle.DUST, loc.clone().add(x, 0.15, z),
+                            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, loc.clone().add(x, 0.15, z),
                                 1, 0, 0, 0, 0, new Particle.DustOptions(Color.fromRGB(255, 140, 30), 0.8f));
                         }
 
@@ -2232,7 +2236,7 @@ public class TalentListener implements Listener {
                             double px = (radius - 0.3) * Math.cos(pillarAngle);
                             double pz = (radius - 0.3) * Math.sin(pillarAngle);
                             for (double y = 0; y < 2.0; y += 0.6) {
-                                world.spawnParticle(Particle.END_ROD, loc.clone().add(px, y, pz),
+                                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.END_ROD, loc.clone().add(px, y, pz),
                                     1, 0.05, 0.1, 0.05, 0.01);
                             }
                         }
@@ -2242,7 +2246,7 @@ public class TalentListener implements Listener {
                             for (double angle = 0; angle < Math.PI * 2; angle += Math.PI * 2 / 3) {
                                 double sparkX = (radius * 0.5) * Math.cos(angle + rotationOffset * 2);
                                 double sparkZ = (radius * 0.5) * Math.sin(angle + rotationOffset * 2);
-                                world.spawnParticle(Particle.TOTEM_OF_UNDYING, loc.clone().add(sparkX, 0.5, sparkZ),
+                                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.TOTEM_OF_UNDYING, loc.clone().add(sparkX, 0.5, sparkZ),
                                     1, 0.1, 0.3, 0.1, 0.02);
                             }
                         }
@@ -2278,7 +2282,7 @@ public class TalentListener implements Listener {
                                 target.damage(auraDamage, player);
 
                                 // Particules de dégâts sur la cible (fumée rouge au sol)
-                                world.spawnParticle(Particle.DUST, target.getLocation().add(0, 0.1, 0),
+                                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, target.getLocation().add(0, 0.1, 0),
                                     3, 0.3, 0.3, 0.3, 0, new Particle.DustOptions(Color.fromRGB(139, 0, 0), 1.2f));
                             }
                         }
@@ -2292,10 +2296,10 @@ public class TalentListener implements Listener {
                             double x = radius * Math.cos(angle + rotationOffset);
                             double z = radius * Math.sin(angle + rotationOffset);
                             // Particules de redstone block qui se brisent au sol
-                            world.spawnParticle(Particle.BLOCK, center.clone().add(x, 0.1, z),
+                            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.BLOCK, center.clone().add(x, 0.1, z),
                                 2, 0.2, 0.05, 0.2, 0.01, Material.REDSTONE_BLOCK.createBlockData());
                             // Fumée sombre basse
-                            world.spawnParticle(Particle.SMOKE, center.clone().add(x * 0.7, 0.15, z * 0.7),
+                            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SMOKE, center.clone().add(x * 0.7, 0.15, z * 0.7),
                                 1, 0.1, 0.1, 0.1, 0.005);
                         }
 
@@ -2305,7 +2309,7 @@ public class TalentListener implements Listener {
                             double randDist = Math.random() * radius * 0.8;
                             double x = randDist * Math.cos(randAngle);
                             double z = randDist * Math.sin(randAngle);
-                            world.spawnParticle(Particle.BLOCK, center.clone().add(x, 0.05, z),
+                            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.BLOCK, center.clone().add(x, 0.05, z),
                                 3, 0.15, 0.02, 0.15, 0.02, Material.REDSTONE_BLOCK.createBlockData());
                         }
                     }
@@ -2358,19 +2362,19 @@ public class TalentListener implements Listener {
             double x = center.getX() + radius * Math.cos(angle);
             double z = center.getZ() + radius * Math.sin(angle);
             Location particleLoc = new Location(player.getWorld(), x, center.getY() + 0.1, z);
-            player.getWorld().spawnParticle(Particle.DUST, particleLoc,
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, particleLoc,
                 2, 0.1, 0, 0.1, 0, new Particle.DustOptions(Color.fromRGB(139, 119, 101), 1.5f));
             // Debris de roche
-            player.getWorld().spawnParticle(Particle.BLOCK, particleLoc,
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.BLOCK, particleLoc,
                 2, 0.15, 0.1, 0.15, 0, Material.STONE.createBlockData());
         }
         // Impact central - debris de pierre
-        player.getWorld().spawnParticle(Particle.CAMPFIRE_COSY_SMOKE, center, 5, 0.3, 0.1, 0.3, 0.01);
-        player.getWorld().spawnParticle(Particle.BLOCK, center.clone().add(0, 0.2, 0),
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CAMPFIRE_COSY_SMOKE, center, 5, 0.3, 0.1, 0.3, 0.01);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.BLOCK, center.clone().add(0, 0.2, 0),
             8, 0.4, 0.15, 0.4, 0, Material.COBBLESTONE.createBlockData());
 
         // Son
-        player.getWorld().playSound(center, Sound.BLOCK_DECORATED_POT_BREAK, 0.8f, 0.6f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.BLOCK_DECORATED_POT_BREAK, 0.8f, 0.6f);
 
         // Degats a TOUS les ennemis dans la zone (cible principale incluse)
         for (Entity entity : center.getWorld().getNearbyEntities(center, radius, radius, radius)) {
@@ -2393,7 +2397,7 @@ public class TalentListener implements Listener {
                 dealAoeDamage(player, target, damage, true);
             }
         }
-        player.getWorld().spawnParticle(Particle.SONIC_BOOM, center, 1);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SONIC_BOOM, center, 1);
     }
 
     /**
@@ -2453,11 +2457,11 @@ public class TalentListener implements Listener {
         World world = player.getWorld();
 
         // Son d'impact sismique
-        world.playSound(origin, Sound.ENTITY_WARDEN_SONIC_BOOM, 0.7f, 1.5f);
-        world.playSound(origin, Sound.BLOCK_DEEPSLATE_BREAK, 1.2f, 0.6f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, origin, Sound.ENTITY_WARDEN_SONIC_BOOM, 0.7f, 1.5f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, origin, Sound.BLOCK_DEEPSLATE_BREAK, 1.2f, 0.6f);
 
         // Particules de fissure au sol (lignes qui partent du joueur)
-        new BukkitRunnable() {
+        new EffectTask() {
             double progress = 0;
             final double step = 0.5;
 
@@ -2480,28 +2484,28 @@ public class TalentListener implements Listener {
                     Location particleLoc = origin.clone().add(rotX * progress, 0.1, rotZ * progress);
 
                     // Fissure au sol
-                    world.spawnParticle(Particle.BLOCK, particleLoc, 3, 0.2, 0, 0.2, 0,
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.BLOCK, particleLoc, 3, 0.2, 0, 0.2, 0,
                         Material.CRACKED_DEEPSLATE_TILES.createBlockData());
 
                     // Poussiere sismique
-                    world.spawnParticle(Particle.CAMPFIRE_COSY_SMOKE, particleLoc.clone().add(0, 0.3, 0),
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CAMPFIRE_COSY_SMOKE, particleLoc.clone().add(0, 0.3, 0),
                         1, 0.1, 0.1, 0.1, 0.01);
                 }
 
                 // Onde de choc principale au front
                 if (progress > 0.5) {
                     Location frontLoc = origin.clone().add(direction.clone().multiply(progress));
-                    world.spawnParticle(Particle.SONIC_BOOM, frontLoc.add(0, 0.5, 0), 1);
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SONIC_BOOM, frontLoc.add(0, 0.5, 0), 1);
                 }
 
                 progress += step;
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.TALENTS, player.getUniqueId(), 0L, 1L);
 
         // Flash d'impact si on a touche des cibles
         if (hitCount > 0) {
-            world.spawnParticle(Particle.FLASH, origin.clone().add(0, 1, 0), 1);
-            world.spawnParticle(Particle.EXPLOSION, origin.clone().add(direction.multiply(range / 2)).add(0, 0.5, 0), 1);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLASH, origin.clone().add(0, 1, 0), 1);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.EXPLOSION, origin.clone().add(direction.multiply(range / 2)).add(0, 0.5, 0), 1);
         }
     }
 
@@ -2513,9 +2517,9 @@ public class TalentListener implements Listener {
         Location center = player.getLocation();
 
         // Onde de choc compacte au lieu d'explosions volumineuses
-        player.getWorld().spawnParticle(Particle.SONIC_BOOM, center.clone().add(0, 1, 0), 1);
-        player.getWorld().spawnParticle(Particle.SWEEP_ATTACK, center, 8, 1.5, 0.5, 1.5, 0);
-        player.getWorld().playSound(center, Sound.ENTITY_WARDEN_SONIC_CHARGE, 0.8f, 1.2f);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SONIC_BOOM, center.clone().add(0, 1, 0), 1);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SWEEP_ATTACK, center, 8, 1.5, 0.5, 1.5, 0);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ENTITY_WARDEN_SONIC_CHARGE, 0.8f, 1.2f);
 
         double baseDamage = 10; // Base damage
         double damage = baseDamage * damageMultiplier;
@@ -2537,11 +2541,11 @@ public class TalentListener implements Listener {
         Location center = player.getLocation();
 
         // Impact puissant mais lisible - pas d'explosion volumineuse
-        player.getWorld().spawnParticle(Particle.FLASH, center, 1);
-        player.getWorld().spawnParticle(Particle.DUST, center, 15, radius / 2, 0.3, radius / 2, 0,
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLASH, center, 1);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, center, 15, radius / 2, 0.3, radius / 2, 0,
             new Particle.DustOptions(Color.fromRGB(255, 100, 50), 1.8f));
-        player.getWorld().spawnParticle(Particle.CAMPFIRE_COSY_SMOKE, center, 6, 0.5, 0.2, 0.5, 0.02);
-        player.getWorld().playSound(center, Sound.ENTITY_WARDEN_SONIC_BOOM, 0.7f, 0.8f);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CAMPFIRE_COSY_SMOKE, center, 6, 0.5, 0.2, 0.5, 0.02);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ENTITY_WARDEN_SONIC_BOOM, 0.7f, 0.8f);
 
         for (Entity entity : center.getWorld().getNearbyEntities(center, radius, radius, radius)) {
             if (entity instanceof LivingEntity target && entity != player && !(entity instanceof Player) && !EntityUtils.isProtectedEntity(target)) {
@@ -2557,9 +2561,9 @@ public class TalentListener implements Listener {
     private void procBloodAvatar(Player player, double damage, double radius, double selfHeal) {
         Location center = player.getLocation();
 
-        player.getWorld().spawnParticle(Particle.DUST, center, 100, radius/2, 1, radius/2, 0.1,
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, center, 100, radius/2, 1, radius/2, 0.1,
             new Particle.DustOptions(Color.RED, 2));
-        player.getWorld().playSound(center, Sound.ENTITY_WITHER_HURT, 1.0f, 0.5f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ENTITY_WITHER_HURT, 1.0f, 0.5f);
 
         for (Entity entity : player.getNearbyEntities(radius, radius, radius)) {
             if (entity instanceof LivingEntity target && entity != player && !EntityUtils.isProtectedEntity(target)) {
@@ -2586,19 +2590,19 @@ public class TalentListener implements Listener {
                 double x = center.getX() + r * Math.cos(angle);
                 double z = center.getZ() + r * Math.sin(angle);
                 Location particleLoc = new Location(player.getWorld(), x, center.getY() + 0.2, z);
-                player.getWorld().spawnParticle(Particle.DUST, particleLoc,
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, particleLoc,
                     3, 0.2, 0.1, 0.2, 0, new Particle.DustOptions(Color.fromRGB(60, 60, 60), 2.0f));
                 // Debris de deepslate fissure
-                player.getWorld().spawnParticle(Particle.BLOCK, particleLoc,
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.BLOCK, particleLoc,
                     2, 0.2, 0.15, 0.2, 0, Material.CRACKED_DEEPSLATE_BRICKS.createBlockData());
             }
         }
         // Colonne centrale + explosion de debris
-        player.getWorld().spawnParticle(Particle.CAMPFIRE_SIGNAL_SMOKE, center, 8, 0.3, 0.5, 0.3, 0.02);
-        player.getWorld().spawnParticle(Particle.BLOCK, center.clone().add(0, 0.3, 0),
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CAMPFIRE_SIGNAL_SMOKE, center, 8, 0.3, 0.5, 0.3, 0.02);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.BLOCK, center.clone().add(0, 0.3, 0),
             15, 1.0, 0.3, 1.0, 0.1, Material.DEEPSLATE.createBlockData());
 
-        player.getWorld().playSound(center, Sound.ENTITY_WARDEN_EMERGE, 0.8f, 0.5f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ENTITY_WARDEN_EMERGE, 0.8f, 0.5f);
 
         for (Entity entity : center.getWorld().getNearbyEntities(center, radius, radius, radius)) {
             if (entity instanceof LivingEntity target && entity != player && !(entity instanceof Player) && !EntityUtils.isProtectedEntity(target)) {
@@ -2618,12 +2622,12 @@ public class TalentListener implements Listener {
         Location center = player.getLocation();
 
         // Onde subtile au sol
-        player.getWorld().spawnParticle(Particle.DUST, center, 8, radius / 2, 0.1, radius / 2, 0,
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, center, 8, radius / 2, 0.1, radius / 2, 0,
             new Particle.DustOptions(Color.fromRGB(100, 90, 80), 1.2f));
         // Debris de gravier/terre qui s'elevent
-        player.getWorld().spawnParticle(Particle.BLOCK, center.clone().add(0, 0.1, 0),
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.BLOCK, center.clone().add(0, 0.1, 0),
             6, radius / 2, 0.1, radius / 2, 0, Material.GRAVEL.createBlockData());
-        player.getWorld().playSound(center, Sound.BLOCK_GRAVEL_STEP, 0.6f, 0.4f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.BLOCK_GRAVEL_STEP, 0.6f, 0.4f);
 
         // Degats bases sur les stats du joueur
         double baseDamage = getPlayerBaseDamage(player);
@@ -2649,11 +2653,11 @@ public class TalentListener implements Listener {
         // === RAGNAROK - Impact initial + Zone persistante ===
 
         // 1. Flash d'impact initial
-        player.getWorld().spawnParticle(Particle.FLASH, center.clone().add(0, 0.3, 0), 1);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLASH, center.clone().add(0, 0.3, 0), 1);
 
         // 2. Colonne de fumée centrale montante (style volcanique)
-        player.getWorld().spawnParticle(Particle.CAMPFIRE_SIGNAL_SMOKE, center.clone().add(0, 0.5, 0), 6, 0.2, 0.1, 0.2, 0.04);
-        player.getWorld().spawnParticle(Particle.LARGE_SMOKE, center.clone().add(0, 1, 0), 4, 0.3, 0.5, 0.3, 0.02);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CAMPFIRE_SIGNAL_SMOKE, center.clone().add(0, 0.5, 0), 6, 0.2, 0.1, 0.2, 0.04);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.LARGE_SMOKE, center.clone().add(0, 1, 0), 4, 0.3, 0.5, 0.3, 0.02);
 
         // 3. Onde de choc concentrique au sol (orange → rouge dégradé) + debris
         for (double r = 1.5; r <= radius; r += 2.0) {
@@ -2667,25 +2671,25 @@ public class TalentListener implements Listener {
                 double x = center.getX() + r * Math.cos(angle);
                 double z = center.getZ() + r * Math.sin(angle);
                 Location particleLoc = new Location(player.getWorld(), x, center.getY() + 0.15, z);
-                player.getWorld().spawnParticle(Particle.DUST, particleLoc,
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, particleLoc,
                     2, 0.15, 0.05, 0.15, 0, new Particle.DustOptions(waveColor, 2.2f));
                 // Debris de roche qui eclatent
-                player.getWorld().spawnParticle(Particle.BLOCK, particleLoc,
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.BLOCK, particleLoc,
                     2, 0.2, 0.2, 0.2, 0.05, Material.NETHERRACK.createBlockData());
             }
         }
 
         // 4. Braises/cendres qui s'élèvent + debris centraux massifs
-        player.getWorld().spawnParticle(Particle.DUST, center.clone().add(0, 0.8, 0), 8, 1.0, 0.6, 1.0, 0,
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, center.clone().add(0, 0.8, 0), 8, 1.0, 0.6, 1.0, 0,
             new Particle.DustOptions(Color.fromRGB(255, 80, 20), 1.0f));
-        player.getWorld().spawnParticle(Particle.LAVA, center, 3, 0.5, 0.2, 0.5, 0);
-        player.getWorld().spawnParticle(Particle.BLOCK, center.clone().add(0, 0.5, 0),
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.LAVA, center, 3, 0.5, 0.2, 0.5, 0);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.BLOCK, center.clone().add(0, 0.5, 0),
             20, 1.5, 0.4, 1.5, 0.15, Material.MAGMA_BLOCK.createBlockData());
 
         // Sons - grondement profond + impact
-        player.getWorld().playSound(center, Sound.ENTITY_WARDEN_SONIC_BOOM, 0.7f, 0.4f);
-        player.getWorld().playSound(center, Sound.ENTITY_GENERIC_EXPLODE, 0.5f, 0.5f);
-        player.getWorld().playSound(center, Sound.BLOCK_RESPAWN_ANCHOR_DEPLETE, 0.6f, 0.6f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ENTITY_WARDEN_SONIC_BOOM, 0.7f, 0.4f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ENTITY_GENERIC_EXPLODE, 0.5f, 0.5f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.BLOCK_RESPAWN_ANCHOR_DEPLETE, 0.6f, 0.6f);
 
         // === IMPACT INITIAL - Degats + Stun + Knockback ===
         for (Entity entity : center.getWorld().getNearbyEntities(center, radius, radius, radius)) {
@@ -2736,9 +2740,9 @@ public class TalentListener implements Listener {
         applyRedGlow(player, (int) (duration / 50)); // Convertir ms en ticks
 
         // Sons d'activation épiques
-        player.getWorld().playSound(player.getLocation(), Sound.ENTITY_WITHER_SPAWN, 1.0f, 0.5f);
-        player.getWorld().playSound(player.getLocation(), Sound.ENTITY_ENDER_DRAGON_GROWL, 0.8f, 1.2f);
-        player.getWorld().playSound(player.getLocation(), Sound.BLOCK_PORTAL_TRIGGER, 0.6f, 0.8f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.ENTITY_WITHER_SPAWN, 1.0f, 0.5f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.ENTITY_ENDER_DRAGON_GROWL, 0.8f, 1.2f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.BLOCK_PORTAL_TRIGGER, 0.6f, 0.8f);
 
         // Message
         if (shouldSendTalentMessage(player)) {
@@ -2752,7 +2756,7 @@ public class TalentListener implements Listener {
         double baseDamage = player.getAttribute(Attribute.ATTACK_DAMAGE).getValue() * damagePercent;
 
         // Task pour l'effet de tornade
-        new BukkitRunnable() {
+        new EffectTask() {
             private int ticks = 0;
             private double rotationAngle = 0;
 
@@ -2793,7 +2797,7 @@ public class TalentListener implements Listener {
                     // Dégradé rouge sombre → orange
                     int red = (int) (140 + t * 100);
                     int green = (int) (t * 60);
-                    center.getWorld().spawnParticle(
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, 
                         Particle.DUST,
                         center.clone().add(x, height, z),
                         1, 0.05, 0.05, 0.05, 0,
@@ -2813,7 +2817,7 @@ public class TalentListener implements Listener {
 
                     int red = (int) (140 + t * 100);
                     int green = (int) (t * 60);
-                    center.getWorld().spawnParticle(
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, 
                         Particle.DUST,
                         center.clone().add(x, height, z),
                         1, 0.05, 0.05, 0.05, 0,
@@ -2823,12 +2827,12 @@ public class TalentListener implements Listener {
 
                 // Flammes au sommet (doublées)
                 if (ticks % 3 == 0) {
-                    center.getWorld().spawnParticle(Particle.FLAME, center.clone().add(0, 3.2, 0), 4, 1.0, 0.4, 1.0, 0.02);
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLAME, center.clone().add(0, 3.2, 0), 4, 1.0, 0.4, 1.0, 0.02);
                 }
 
                 // Son ambiant (vent)
                 if (ticks % 4 == 0) {
-                    player.getWorld().playSound(center, Sound.ENTITY_PHANTOM_FLAP, 0.5f, 0.5f);
+                    plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ENTITY_PHANTOM_FLAP, 0.5f, 0.5f);
                 }
 
                 // === ASPIRATION ET DEGATS (seulement si le joueur court) ===
@@ -2856,7 +2860,7 @@ public class TalentListener implements Listener {
                                     PacketDamageIndicator.display(plugin, target.getLocation().add(0, target.getHeight(), 0), baseDamage, false, player);
 
                                     // Particules sur la cible
-                                    target.getWorld().spawnParticle(
+                                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, 
                                         Particle.CRIT,
                                         target.getLocation().add(0, 1, 0),
                                         5, 0.3, 0.3, 0.3, 0.1
@@ -2868,11 +2872,11 @@ public class TalentListener implements Listener {
 
                     // Son de vent intense pendant le sprint
                     if (ticks % 10 == 0) {
-                        player.getWorld().playSound(center, Sound.ENTITY_BREEZE_WIND_BURST, 0.6f, 1.2f);
+                        plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ENTITY_BREEZE_WIND_BURST, 0.6f, 1.2f);
                     }
                 }
             }
-        }.runTaskTimer(plugin, 0L, 2L);
+        }.runTaskTimer(EffectScheduler.Subsystem.TALENTS, player.getUniqueId(), 0L, 2L);
     }
 
     /**
@@ -2895,8 +2899,8 @@ public class TalentListener implements Listener {
             Location center = player.getLocation();
 
             // Effet de dissipation
-            center.getWorld().spawnParticle(Particle.EXPLOSION, center.add(0, 1, 0), 1, 0.3, 0.3, 0.3, 0);
-            center.getWorld().spawnParticle(
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.EXPLOSION, center.add(0, 1, 0), 1, 0.3, 0.3, 0.3, 0);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, 
                 Particle.DUST,
                 center,
                 12, 1.5, 1.5, 1.5, 0.05,
@@ -2904,7 +2908,7 @@ public class TalentListener implements Listener {
             );
 
             // Son de fin
-            player.getWorld().playSound(center, Sound.ENTITY_BREEZE_WIND_BURST, 0.7f, 0.6f);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ENTITY_BREEZE_WIND_BURST, 0.7f, 0.6f);
         }
     }
 
@@ -2912,12 +2916,12 @@ public class TalentListener implements Listener {
         player.setInvulnerable(true);
         player.addPotionEffect(new PotionEffect(PotionEffectType.SLOWNESS, (int)(talent.getValue(0) / 50), 10, false, false));
 
-        player.getWorld().spawnParticle(Particle.ENCHANT, player.getLocation(), 50, 1, 1, 1, 0.5);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.ENCHANT, player.getLocation(), 50, 1, 1, 1, 0.5);
         if (shouldSendTalentMessage(player)) {
             player.sendMessage("§b§l🛡 [Citadelle] §7: §a§lInvulnérable §fpendant §e§l" + (int)(talent.getValue(0)/1000) + "s §7(explosion à la fin)");
         }
 
-        new BukkitRunnable() {
+        new EffectTask() {
             @Override
             public void run() {
                 player.setInvulnerable(false);
@@ -2927,11 +2931,11 @@ public class TalentListener implements Listener {
                 double damage = 10 * talent.getValue(1);
                 double radius = talent.getValue(2);
 
-                player.getWorld().spawnParticle(Particle.FLASH, center, 1);
-                player.getWorld().spawnParticle(Particle.SONIC_BOOM, center.clone().add(0, 1, 0), 1);
-                player.getWorld().spawnParticle(Particle.DUST, center, 25, radius/2, 1, radius/2, 0,
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLASH, center, 1);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SONIC_BOOM, center.clone().add(0, 1, 0), 1);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, center, 25, radius/2, 1, radius/2, 0,
                     new Particle.DustOptions(Color.fromRGB(100, 200, 255), 2.0f));
-                player.getWorld().playSound(center, Sound.ENTITY_WARDEN_SONIC_BOOM, 0.8f, 1.0f);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ENTITY_WARDEN_SONIC_BOOM, 0.8f, 1.0f);
 
                 for (Entity entity : player.getNearbyEntities(radius, radius, radius)) {
                     if (entity instanceof LivingEntity target && entity != player && !EntityUtils.isProtectedEntity(target)) {
@@ -2945,15 +2949,15 @@ public class TalentListener implements Listener {
                     player.sendMessage("§c§l💥 [Citadelle] §7: Explosion finale §c§l" + (int)damage + " §fdégâts §7(rayon §e" + (int)radius + "§7)");
                 }
             }
-        }.runTaskLater(plugin, (long)(talent.getValue(0) / 50));
+        }.runTaskLater(EffectScheduler.Subsystem.TALENTS, null, (long)(talent.getValue(0) / 50));
     }
 
     private void procFortressExplosion(Player player, double damage, double radius) {
         Location center = player.getLocation();
 
-        player.getWorld().spawnParticle(Particle.DUST, center, 50, radius/2, 1, radius/2, 0,
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, center, 50, radius/2, 1, radius/2, 0,
             new Particle.DustOptions(Color.YELLOW, 2));
-        player.getWorld().playSound(center, Sound.BLOCK_GLASS_BREAK, 1.0f, 0.5f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.BLOCK_GLASS_BREAK, 1.0f, 0.5f);
 
         for (Entity entity : player.getNearbyEntities(radius, radius, radius)) {
             if (entity instanceof LivingEntity target && entity != player && !EntityUtils.isProtectedEntity(target)) {
@@ -2966,10 +2970,10 @@ public class TalentListener implements Listener {
 
     private void startRageCyclone(Player player, Talent talent) {
         // Son d'activation puissant
-        player.getWorld().playSound(player.getLocation(), Sound.ENTITY_ENDER_DRAGON_FLAP, 1.0f, 1.5f);
-        player.getWorld().playSound(player.getLocation(), Sound.ITEM_TRIDENT_RIPTIDE_3, 0.8f, 0.8f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.ENTITY_ENDER_DRAGON_FLAP, 1.0f, 1.5f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.ITEM_TRIDENT_RIPTIDE_3, 0.8f, 0.8f);
 
-        new BukkitRunnable() {
+        new EffectTask() {
             private int ticks = 0;
             private double rotationAngle = 0;
 
@@ -2978,7 +2982,7 @@ public class TalentListener implements Listener {
                 if (!activeCyclones.contains(player.getUniqueId()) || !player.isSprinting()) {
                     activeCyclones.remove(player.getUniqueId());
                     // Son de fin
-                    player.getWorld().playSound(player.getLocation(), Sound.ENTITY_BREEZE_WIND_BURST, 0.8f, 0.6f);
+                    plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.ENTITY_BREEZE_WIND_BURST, 0.8f, 0.6f);
                     cancel();
                     return;
                 }
@@ -3005,7 +3009,7 @@ public class TalentListener implements Listener {
 
                     // Dégradé gris foncé → blanc
                     int gray = (int) (130 + t * 110);
-                    player.getWorld().spawnParticle(Particle.DUST,
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST,
                         new Location(player.getWorld(), x, center.getY() + height, z),
                         1, 0.03, 0.03, 0.03, 0,
                         new Particle.DustOptions(org.bukkit.Color.fromRGB(gray, gray, gray), 0.9f + (float)t * 0.3f));
@@ -3022,7 +3026,7 @@ public class TalentListener implements Listener {
                     double z = center.getZ() + Math.sin(angle) * layerRadius;
 
                     int gray = (int) (130 + t * 110);
-                    player.getWorld().spawnParticle(Particle.DUST,
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST,
                         new Location(player.getWorld(), x, center.getY() + height, z),
                         1, 0.03, 0.03, 0.03, 0,
                         new Particle.DustOptions(org.bukkit.Color.fromRGB(gray, gray, gray), 0.9f + (float)t * 0.3f));
@@ -3030,7 +3034,7 @@ public class TalentListener implements Listener {
 
                 // Son de vent périodique (toutes les 10 ticks)
                 if (ticks % 10 == 0) {
-                    player.getWorld().playSound(center, Sound.ENTITY_BREEZE_IDLE_AIR, 0.6f, 1.2f + (float)(Math.random() * 0.3));
+                    plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ENTITY_BREEZE_IDLE_AIR, 0.6f, 1.2f + (float)(Math.random() * 0.3));
                 }
 
                 // === DÉGÂTS ET EFFETS SUR ENNEMIS ===
@@ -3049,7 +3053,7 @@ public class TalentListener implements Listener {
                         PacketDamageIndicator.display(plugin, target.getLocation().add(0, target.getHeight(), 0), finalDamage, false, player);
 
                         // Effet de hit sur l'ennemi (blanc/gris)
-                        target.getWorld().spawnParticle(Particle.DUST,
+                        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST,
                             target.getLocation().add(0, 1, 0), 5, 0.25, 0.3, 0.25, 0.1,
                             new Particle.DustOptions(org.bukkit.Color.fromRGB(220, 220, 220), 0.9f));
 
@@ -3063,10 +3067,10 @@ public class TalentListener implements Listener {
 
                 // Son de hit quand on touche des ennemis
                 if (enemiesHit > 0 && ticks % 5 == 0) {
-                    player.getWorld().playSound(center, Sound.ENTITY_PLAYER_ATTACK_SWEEP, 0.7f, 1.0f + (float)(Math.random() * 0.4));
+                    plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ENTITY_PLAYER_ATTACK_SWEEP, 0.7f, 1.0f + (float)(Math.random() * 0.4));
                 }
             }
-        }.runTaskTimer(plugin, 0L, (long)(talent.getValue(0) / 50));
+        }.runTaskTimer(EffectScheduler.Subsystem.TALENTS, null, 0L, (long)(talent.getValue(0) / 50));
     }
 
     // ==================== UTILITAIRES ====================
@@ -3129,7 +3133,7 @@ public class TalentListener implements Listener {
         player.setHealth(newHp);
 
         // Particules de heal
-        player.getWorld().spawnParticle(Particle.HEART, player.getLocation().add(0, 1, 0), 3, 0.3, 0.3, 0.3, 0);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.HEART, player.getLocation().add(0, 1, 0), 3, 0.3, 0.3, 0.3, 0);
     }
 
     /**
@@ -3147,13 +3151,13 @@ public class TalentListener implements Listener {
         activeBloodCyclones.merge(uuid, 1, Integer::sum);
 
         // Son d'invocation
-        spawnLocation.getWorld().playSound(spawnLocation, Sound.ENTITY_WITHER_SPAWN, 0.5f, 1.8f);
-        spawnLocation.getWorld().playSound(spawnLocation, Sound.BLOCK_PORTAL_TRIGGER, 0.4f, 1.5f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, spawnLocation, Sound.ENTITY_WITHER_SPAWN, 0.5f, 1.8f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, spawnLocation, Sound.BLOCK_PORTAL_TRIGGER, 0.4f, 1.5f);
 
         // Calculer les dégâts de base du joueur
         double baseDamage = player.getAttribute(Attribute.ATTACK_DAMAGE).getValue() * damagePercent;
 
-        new BukkitRunnable() {
+        new EffectTask() {
             private int ticks = 0;
             private double rotationAngle = 0;
             private Location currentLocation = spawnLocation.clone();
@@ -3164,10 +3168,10 @@ public class TalentListener implements Listener {
                 // Vérifier durée (task tourne toutes les 5 ticks = 250ms)
                 if (ticks * 250 >= duration || !player.isOnline()) {
                     // Effet de disparition (réduit)
-                    currentLocation.getWorld().spawnParticle(Particle.DUST,
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST,
                         currentLocation.clone().add(0, 1, 0), 10, 0.3, 0.5, 0.3, 0.05,
                         new Particle.DustOptions(org.bukkit.Color.fromRGB(80, 0, 0), 1.2f));
-                    currentLocation.getWorld().playSound(currentLocation, Sound.BLOCK_FIRE_EXTINGUISH, 0.6f, 0.8f);
+                    plugin.getEffectBudget().playSound(Subsystem.TALENTS, currentLocation, Sound.BLOCK_FIRE_EXTINGUISH, 0.6f, 0.8f);
 
                     activeBloodCyclones.merge(uuid, -1, Integer::sum);
                     if (activeBloodCyclones.getOrDefault(uuid, 0) <= 0) {
@@ -3209,7 +3213,7 @@ public class TalentListener implements Listener {
 
                     // Dégradé rouge sombre → rouge vif
                     int red = (int) (80 + t * 150);
-                    currentLocation.getWorld().spawnParticle(Particle.DUST,
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST,
                         new Location(currentLocation.getWorld(), x, currentLocation.getY() + height, z),
                         1, 0.02, 0.02, 0.02, 0,
                         new Particle.DustOptions(org.bukkit.Color.fromRGB(red, 0, 0), 0.7f + (float)t * 0.4f));
@@ -3226,7 +3230,7 @@ public class TalentListener implements Listener {
                     double z = currentLocation.getZ() + Math.sin(angle) * layerRadius;
 
                     int red = (int) (80 + t * 150);
-                    currentLocation.getWorld().spawnParticle(Particle.DUST,
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST,
                         new Location(currentLocation.getWorld(), x, currentLocation.getY() + height, z),
                         1, 0.02, 0.02, 0.02, 0,
                         new Particle.DustOptions(org.bukkit.Color.fromRGB(red, 0, 0), 0.7f + (float)t * 0.4f));
@@ -3234,7 +3238,7 @@ public class TalentListener implements Listener {
 
                 // Son ambiant (toutes les 15 ticks)
                 if (ticks % 15 == 0) {
-                    currentLocation.getWorld().playSound(currentLocation,
+                    plugin.getEffectBudget().playSound(Subsystem.TALENTS, currentLocation,
                         Sound.ENTITY_VEX_AMBIENT, 0.4f, 0.5f);
                 }
 
@@ -3256,13 +3260,13 @@ public class TalentListener implements Listener {
                         }
 
                         // Effet de hit (réduit)
-                        target.getWorld().spawnParticle(Particle.DUST,
+                        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST,
                             target.getLocation().add(0, 1, 0), 4, 0.15, 0.2, 0.15, 0.05,
                             new Particle.DustOptions(org.bukkit.Color.RED, 0.8f));
                     }
                 }
             }
-        }.runTaskTimer(plugin, 0L, 5L); // Tick toutes les 5 ticks (250ms)
+        }.runTaskTimer(EffectScheduler.Subsystem.TALENTS, null, 0L, 5L); // Tick toutes les 5 ticks (250ms)
     }
 
     /**
@@ -3296,7 +3300,7 @@ public class TalentListener implements Listener {
         player.setAbsorptionAmount(newAbsorption);
 
         // Particules d'absorption (dorées)
-        player.getWorld().spawnParticle(Particle.DUST, player.getLocation().add(0, 1.2, 0),
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, player.getLocation().add(0, 1.2, 0),
             5, 0.3, 0.4, 0.3, 0, new Particle.DustOptions(Color.fromRGB(255, 215, 0), 1.0f));
     }
 
@@ -3438,7 +3442,7 @@ public class TalentListener implements Listener {
                         mob.addPotionEffect(new PotionEffect(PotionEffectType.JUMP_BOOST, 10, 128, false, false)); // Empeche de sauter
                     }
                     // Effet visuel subtil
-                    target.getWorld().spawnParticle(Particle.DUST, target.getLocation().add(0, 1, 0),
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, target.getLocation().add(0, 1, 0),
                         3, 0.2, 0.2, 0.2, 0, new Particle.DustOptions(Color.GRAY, 1.0f));
                 }
             }
@@ -3469,14 +3473,14 @@ public class TalentListener implements Listener {
         double baseDamage = 8.0; // Base pour un guerrier equipe
 
         // Ajouter les bonus de stats d'items
-        Map<StatType, Double> playerStats = plugin.getItemManager().calculatePlayerStats(player);
+        PlayerStatVector playerStats = plugin.getItemManager().getStatVector(player);
 
         // Bonus flat
-        double flatDamage = playerStats.getOrDefault(StatType.DAMAGE, 0.0);
+        double flatDamage = playerStats.get(StatType.DAMAGE);
         baseDamage += flatDamage;
 
         // Bonus % degats
-        double damagePercent = playerStats.getOrDefault(StatType.DAMAGE_PERCENT, 0.0);
+        double damagePercent = playerStats.get(StatType.DAMAGE_PERCENT);
         baseDamage *= (1 + damagePercent / 100.0);
 
         // Bonus de classe Guerrier (+20% degats de base)
@@ -3516,7 +3520,7 @@ public class TalentListener implements Listener {
      * Utilisee par Ragnarok et potentiellement d'autres talents
      */
     private void createSeismicZone(Player player, Location center, double radius, double damagePerTick, int durationTicks, int tickInterval) {
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticksElapsed = 0;
 
             @Override
@@ -3531,11 +3535,11 @@ public class TalentListener implements Listener {
                     double x = center.getX() + radius * Math.cos(angle);
                     double z = center.getZ() + radius * Math.sin(angle);
                     Location particleLoc = new Location(center.getWorld(), x, center.getY() + 0.1, z);
-                    center.getWorld().spawnParticle(Particle.DUST, particleLoc,
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, particleLoc,
                         1, 0.1, 0, 0.1, 0,
                         new Particle.DustOptions(Color.fromRGB(200, 80, 20), 1.5f));
                     // Debris de roche sur le contour
-                    center.getWorld().spawnParticle(Particle.BLOCK, particleLoc,
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.BLOCK, particleLoc,
                         1, 0.15, 0.1, 0.15, 0, Material.CRACKED_STONE_BRICKS.createBlockData());
                 }
 
@@ -3545,17 +3549,17 @@ public class TalentListener implements Listener {
                         double rx = center.getX() + (Math.random() - 0.5) * radius * 2;
                         double rz = center.getZ() + (Math.random() - 0.5) * radius * 2;
                         Location fissureLoc = new Location(center.getWorld(), rx, center.getY() + 0.2, rz);
-                        center.getWorld().spawnParticle(Particle.CAMPFIRE_COSY_SMOKE, fissureLoc,
+                        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CAMPFIRE_COSY_SMOKE, fissureLoc,
                             1, 0.1, 0.05, 0.1, 0.01);
                         // Debris de pierre qui jaillissent des fissures
-                        center.getWorld().spawnParticle(Particle.BLOCK, fissureLoc,
+                        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.BLOCK, fissureLoc,
                             3, 0.15, 0.2, 0.15, 0.02, Material.COBBLESTONE.createBlockData());
                     }
                 }
 
                 // Son periodique
                 if (ticksElapsed % 20 == 0) {
-                    center.getWorld().playSound(center, Sound.BLOCK_GRAVEL_STEP, 0.5f, 0.3f);
+                    plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.BLOCK_GRAVEL_STEP, 0.5f, 0.3f);
                 }
 
                 // Degats aux entites dans la zone
@@ -3572,7 +3576,7 @@ public class TalentListener implements Listener {
 
                 ticksElapsed += tickInterval;
             }
-        }.runTaskTimer(plugin, 0L, tickInterval);
+        }.runTaskTimer(EffectScheduler.Subsystem.TALENTS, player.getUniqueId(), 0L, tickInterval);
     }
 
     // ==================== REMPART - UTILITAIRES ====================
@@ -3609,20 +3613,20 @@ public class TalentListener implements Listener {
             applyFortifyBonus(player, uuid, newStacks, hpBonusPerStack);
 
             // Effets visuels
-            player.playSound(player.getLocation(), Sound.BLOCK_CHAIN_PLACE, 0.6f, 0.9f + (newStacks * 0.15f));
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.BLOCK_CHAIN_PLACE, 0.6f, 0.9f + (newStacks * 0.15f));
 
             // Particules dorées (plus intenses avec les stacks)
-            player.getWorld().spawnParticle(Particle.DUST, player.getLocation().add(0, 1, 0),
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, player.getLocation().add(0, 1, 0),
                 5 + (newStacks * 3), 0.4, 0.6, 0.4, 0,
                 new Particle.DustOptions(Color.fromRGB(255, 200, 50), 1.0f));
 
             if (newStacks == maxStacks) {
                 // MAX STACKS! (particules réduites)
-                player.getWorld().playSound(player.getLocation(), Sound.BLOCK_BEACON_ACTIVATE, 0.8f, 1.5f);
-                player.getWorld().spawnParticle(Particle.TOTEM_OF_UNDYING, player.getLocation().add(0, 1, 0), 12, 0.4, 0.6, 0.4, 0.1);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.BLOCK_BEACON_ACTIVATE, 0.8f, 1.5f);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.TOTEM_OF_UNDYING, player.getLocation().add(0, 1, 0), 12, 0.4, 0.6, 0.4, 0.1);
             } else {
                 // Son de progression (l'affichage est dans l'ActionBar centralisé)
-                player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_HAT, 0.4f, 0.8f + (newStacks * 0.1f));
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.BLOCK_NOTE_BLOCK_HAT, 0.4f, 0.8f + (newStacks * 0.1f));
             }
         }
 
@@ -3642,7 +3646,7 @@ public class TalentListener implements Listener {
             if (milestone > lastMilestone && milestone < 4) {
                 bulwarkLastMilestone.put(uuid, milestone);
                 // Son de milestone (l'affichage est dans l'ActionBar centralisé)
-                player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_PLING, 0.3f, 0.8f + milestone * 0.15f);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.BLOCK_NOTE_BLOCK_PLING, 0.3f, 0.8f + milestone * 0.15f);
             }
 
             // Déclencher l'Avatar!
@@ -3670,7 +3674,7 @@ public class TalentListener implements Listener {
         player.setAbsorptionAmount(absorptionAmount);
 
         // Particules d'absorption dorée
-        player.getWorld().spawnParticle(Particle.DUST, player.getLocation().add(0, 1.2, 0),
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, player.getLocation().add(0, 1.2, 0),
             8, 0.4, 0.5, 0.4, 0, new Particle.DustOptions(Color.fromRGB(255, 215, 0), 1.2f));
     }
 
@@ -3696,10 +3700,10 @@ public class TalentListener implements Listener {
         bulwarkAvatarActiveUntil.put(uuid, System.currentTimeMillis() + duration);
 
         // Effets visuels d'activation (réduit)
-        player.getWorld().playSound(player.getLocation(), Sound.ENTITY_WARDEN_EMERGE, 0.8f, 1.2f);
-        player.getWorld().playSound(player.getLocation(), Sound.BLOCK_BEACON_POWER_SELECT, 1.0f, 0.8f);
-        player.getWorld().spawnParticle(Particle.FLASH, player.getLocation(), 1);
-        player.getWorld().spawnParticle(Particle.END_ROD, player.getLocation().add(0, 1, 0), 20, 0.8, 0.8, 0.8, 0.1);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.ENTITY_WARDEN_EMERGE, 0.8f, 1.2f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.BLOCK_BEACON_POWER_SELECT, 1.0f, 0.8f);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLASH, player.getLocation(), 1);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.END_ROD, player.getLocation().add(0, 1, 0), 20, 0.8, 0.8, 0.8, 0.1);
 
         // Augmenter la taille du joueur (scale 1.35 pour effet imposant)
         if (player.getAttribute(Attribute.SCALE) != null) {
@@ -3718,7 +3722,7 @@ public class TalentListener implements Listener {
         }
 
         // Aura visuelle pendant la durée + maintien immunité CC
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticks = 0;
             final int maxTicks = (int) (duration / 50);
 
@@ -3732,7 +3736,7 @@ public class TalentListener implements Listener {
                     // Retirer le glowing doré
                     player.removePotionEffect(PotionEffectType.GLOWING);
                     removeGoldenGlow(player);
-                    player.getWorld().playSound(player.getLocation(), Sound.BLOCK_BEACON_DEACTIVATE, 0.8f, 1.2f);
+                    plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.BLOCK_BEACON_DEACTIVATE, 0.8f, 1.2f);
                     cancel();
                     return;
                 }
@@ -3749,20 +3753,20 @@ public class TalentListener implements Listener {
                     for (double angle = 0; angle < Math.PI * 2; angle += Math.PI / 2) { // 4 points au lieu de 8
                         double x = 1.5 * Math.cos(angle + ticks * 0.1);
                         double z = 1.5 * Math.sin(angle + ticks * 0.1);
-                        player.getWorld().spawnParticle(Particle.DUST, loc.clone().add(x, 0, z),
+                        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, loc.clone().add(x, 0, z),
                             1, 0, 0, 0, 0, new Particle.DustOptions(Color.fromRGB(255, 200, 50), 1.2f));
                     }
                 }
 
                 // Particules verticales pour effet "géant" (réduites)
                 if (ticks % 8 == 0) {
-                    player.getWorld().spawnParticle(Particle.END_ROD, player.getLocation().add(0, 2.5, 0),
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.END_ROD, player.getLocation().add(0, 2.5, 0),
                         2, 0.2, 0.2, 0.2, 0.01);
                 }
 
                 ticks += 5;
             }
-        }.runTaskTimer(plugin, 0L, 5L);
+        }.runTaskTimer(EffectScheduler.Subsystem.TALENTS, null, 0L, 5L);
     }
 
     /**
@@ -3778,8 +3782,8 @@ public class TalentListener implements Listener {
         double aoeRadius = talent.getValue(3); // 6 blocs
 
         // Son de départ - tonnerre annonciateur
-        player.getWorld().playSound(targetLoc, Sound.ENTITY_LIGHTNING_BOLT_THUNDER, 1.0f, 1.2f);
-        player.getWorld().playSound(spawnLoc, Sound.BLOCK_ANVIL_PLACE, 0.8f, 0.5f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, targetLoc, Sound.ENTITY_LIGHTNING_BOLT_THUNDER, 1.0f, 1.2f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, spawnLoc, Sound.BLOCK_ANVIL_PLACE, 0.8f, 0.5f);
 
         // Créer le marteau géant avec ItemDisplay (1.19.4+)
         org.bukkit.entity.ItemDisplay hammer = targetLoc.getWorld().spawn(spawnLoc, org.bukkit.entity.ItemDisplay.class, display -> {
@@ -3810,11 +3814,11 @@ public class TalentListener implements Listener {
         });
 
         // Flash lumineux au spawn (réduit)
-        player.getWorld().spawnParticle(Particle.FLASH, spawnLoc, 1);
-        player.getWorld().spawnParticle(Particle.END_ROD, spawnLoc, 8, 0.4, 0.4, 0.4, 0.05);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLASH, spawnLoc, 1);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.END_ROD, spawnLoc, 8, 0.4, 0.4, 0.4, 0.05);
 
         // Animation de chute
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticks = 0;
             final int fallDuration = 12;
             final double startY = spawnLoc.getY();
@@ -3840,25 +3844,25 @@ public class TalentListener implements Listener {
 
                 // Particules de traînée (réduites)
                 if (ticks % 2 == 0) {
-                    hammer.getWorld().spawnParticle(Particle.END_ROD, newLoc.clone().add(0, 1, 0), 2, 0.2, 0.3, 0.2, 0.01);
-                    hammer.getWorld().spawnParticle(Particle.DUST, newLoc.clone().add(0, 1.5, 0), 3, 0.3, 0.5, 0.3, 0,
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.END_ROD, newLoc.clone().add(0, 1, 0), 2, 0.2, 0.3, 0.2, 0.01);
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, newLoc.clone().add(0, 1.5, 0), 3, 0.3, 0.5, 0.3, 0,
                         new Particle.DustOptions(Color.fromRGB(255, 215, 0), 1.5f));
                 }
 
                 // Traînée de feu vers la fin (réduite)
                 if (ticks > fallDuration / 2 && ticks % 2 == 0) {
-                    hammer.getWorld().spawnParticle(Particle.FLAME, newLoc.clone().add(0, 1, 0), 2, 0.2, 0.2, 0.2, 0.01);
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLAME, newLoc.clone().add(0, 1, 0), 2, 0.2, 0.2, 0.2, 0.01);
                 }
 
                 // Son de sifflement
                 if (ticks % 3 == 0) {
                     float pitch = 1.5f + (float) (progress * 0.5);
-                    hammer.getWorld().playSound(newLoc, Sound.ENTITY_FIREWORK_ROCKET_LAUNCH, 0.3f, pitch);
+                    plugin.getEffectBudget().playSound(Subsystem.TALENTS, newLoc, Sound.ENTITY_FIREWORK_ROCKET_LAUNCH, 0.3f, pitch);
                 }
 
                 ticks++;
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.TALENTS, null, 0L, 1L);
     }
 
     /**
@@ -3867,9 +3871,9 @@ public class TalentListener implements Listener {
     private void triggerHammerImpact(Player player, Location impactLoc, LivingEntity mainTarget,
                                       double baseDamage, double mainMultiplier, double aoeMultiplier, double radius) {
         // === EFFETS VISUELS D'IMPACT (réduits) ===
-        impactLoc.getWorld().spawnParticle(Particle.TOTEM_OF_UNDYING, impactLoc.clone().add(0, 0.5, 0), 30, 0.8, 0.8, 0.8, 0.3);
-        impactLoc.getWorld().spawnParticle(Particle.EXPLOSION, impactLoc, 2, 0.3, 0.3, 0.3, 0);
-        impactLoc.getWorld().spawnParticle(Particle.END_ROD, impactLoc, 15, 1.5, 0.4, 1.5, 0.05);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.TOTEM_OF_UNDYING, impactLoc.clone().add(0, 0.5, 0), 30, 0.8, 0.8, 0.8, 0.3);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.EXPLOSION, impactLoc, 2, 0.3, 0.3, 0.3, 0);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.END_ROD, impactLoc, 15, 1.5, 0.4, 1.5, 0.05);
 
         // Onde de choc au sol (réduite)
         for (int ring = 1; ring <= (int) radius; ring += 2) { // Un anneau sur deux
@@ -3880,16 +3884,16 @@ public class TalentListener implements Listener {
                     double x = Math.cos(angle) * r;
                     double z = Math.sin(angle) * r;
                     Location particleLoc = impactLoc.clone().add(x, 0.2, z);
-                    impactLoc.getWorld().spawnParticle(Particle.DUST, particleLoc, 1, 0.1, 0.1, 0.1, 0,
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, particleLoc, 1, 0.1, 0.1, 0.1, 0,
                         new Particle.DustOptions(Color.fromRGB(255, 200, 50), 1.2f));
                 }
             }, ring);
         }
 
         // Sons d'impact
-        impactLoc.getWorld().playSound(impactLoc, Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 0.8f);
-        impactLoc.getWorld().playSound(impactLoc, Sound.BLOCK_ANVIL_LAND, 1.5f, 0.6f);
-        impactLoc.getWorld().playSound(impactLoc, Sound.ITEM_MACE_SMASH_GROUND_HEAVY, 1.0f, 0.8f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, impactLoc, Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 0.8f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, impactLoc, Sound.BLOCK_ANVIL_LAND, 1.5f, 0.6f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, impactLoc, Sound.ITEM_MACE_SMASH_GROUND_HEAVY, 1.0f, 0.8f);
 
         // === DÉGÂTS ===
         // Dégâts à la cible principale (300%)
@@ -3932,9 +3936,9 @@ public class TalentListener implements Listener {
         Location start = player.getEyeLocation();
         Vector direction = start.getDirection().setY(0).normalize();
 
-        player.getWorld().playSound(start, Sound.ENTITY_BREEZE_SHOOT, 0.8f, 1.2f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, start, Sound.ENTITY_BREEZE_SHOOT, 0.8f, 1.2f);
 
-        new BukkitRunnable() {
+        new EffectTask() {
             double traveled = 0;
             int pulsesDone = 0;
             final double speed = 0.4; // Vitesse lente
@@ -3963,7 +3967,7 @@ public class TalentListener implements Listener {
                     procVengefulShieldPulse(player, current, pulseDamage, pulseRadius, pulsesDone);
                 }
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.TALENTS, player.getUniqueId(), 0L, 1L);
     }
 
     /**
@@ -3973,7 +3977,7 @@ public class TalentListener implements Listener {
         for (double angle = 0; angle < Math.PI * 2; angle += Math.PI / 2) { // 4 points au lieu de 8
             double x = 0.5 * Math.cos(angle + rotation);
             double z = 0.5 * Math.sin(angle + rotation);
-            center.getWorld().spawnParticle(Particle.DUST, center.clone().add(x, 0, z),
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, center.clone().add(x, 0, z),
                 1, 0, 0, 0, 0, new Particle.DustOptions(Color.fromRGB(255, 200, 50), 1.2f));
         }
     }
@@ -3986,9 +3990,9 @@ public class TalentListener implements Listener {
         for (double angle = 0; angle < Math.PI * 2; angle += Math.PI / 3) { // 6 points au lieu de 12
             double x = radius * Math.cos(angle);
             double z = radius * Math.sin(angle);
-            center.getWorld().spawnParticle(Particle.ENCHANT, center.clone().add(x, 0, z), 2, 0.1, 0.1, 0.1, 0.05);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.ENCHANT, center.clone().add(x, 0, z), 2, 0.1, 0.1, 0.1, 0.05);
         }
-        center.getWorld().playSound(center, Sound.BLOCK_NOTE_BLOCK_CHIME, 0.5f, 1.0f + pulseNumber * 0.1f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.BLOCK_NOTE_BLOCK_CHIME, 0.5f, 1.0f + pulseNumber * 0.1f);
 
         // Dégâts aux ennemis
         for (Entity entity : center.getWorld().getNearbyEntities(center, radius, radius, radius)) {
@@ -4003,10 +4007,10 @@ public class TalentListener implements Listener {
      */
     private void procVengefulShieldExplosion(Player player, Location center, double damage, double radius) {
         // Effets visuels (réduits)
-        center.getWorld().spawnParticle(Particle.FLASH, center, 1);
-        center.getWorld().spawnParticle(Particle.EXPLOSION, center, 1);
-        center.getWorld().spawnParticle(Particle.END_ROD, center, 12, radius / 2, 0.4, radius / 2, 0.05);
-        center.getWorld().playSound(center, Sound.ENTITY_GENERIC_EXPLODE, 0.7f, 1.5f);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLASH, center, 1);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.EXPLOSION, center, 1);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.END_ROD, center, 12, radius / 2, 0.4, radius / 2, 0.05);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ENTITY_GENERIC_EXPLODE, 0.7f, 1.5f);
 
         // Dégâts aux ennemis
         for (Entity entity : center.getWorld().getNearbyEntities(center, radius, radius, radius)) {
@@ -4030,8 +4034,8 @@ public class TalentListener implements Listener {
         // Propulser le joueur vers l'avant
         player.setVelocity(direction.clone().multiply(3.0).setY(0.3));
 
-        player.getWorld().playSound(start, Sound.ENTITY_BREEZE_CHARGE, 1.0f, 0.8f);
-        player.getWorld().spawnParticle(Particle.CLOUD, start, 10, 0.4, 0.2, 0.4, 0.05); // Réduit
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, start, Sound.ENTITY_BREEZE_CHARGE, 1.0f, 0.8f);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CLOUD, start, 10, 0.4, 0.2, 0.4, 0.05); // Réduit
 
         // Sauvegarder la HP de base
         UUID uuid = player.getUniqueId();
@@ -4039,7 +4043,7 @@ public class TalentListener implements Listener {
 
         // Appliquer les dégâts et collecter les ennemis touchés
         final double baseDamage = getPlayerBaseDamage(player);
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticks = 0;
             int enemiesHit = 0;
             final Set<UUID> hitEntities = new HashSet<>();
@@ -4056,7 +4060,7 @@ public class TalentListener implements Listener {
                 }
 
                 // Particules de traînée (réduit)
-                player.getWorld().spawnParticle(Particle.DUST, player.getLocation().add(0, 1, 0),
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, player.getLocation().add(0, 1, 0),
                     2, 0.3, 0.3, 0.3, 0, new Particle.DustOptions(Color.fromRGB(255, 200, 50), 1.5f));
 
                 // Dégâts aux ennemis sur le chemin (rayon plus large pour 12 blocs)
@@ -4075,17 +4079,17 @@ public class TalentListener implements Listener {
                             Vector knockback = direction.clone().multiply(1.5).setY(0.4);
                             target.setVelocity(knockback);
 
-                            player.getWorld().playSound(target.getLocation(), Sound.ENTITY_PLAYER_ATTACK_KNOCKBACK, 0.8f, 1.0f);
+                            plugin.getEffectBudget().playSound(Subsystem.TALENTS, target.getLocation(), Sound.ENTITY_PLAYER_ATTACK_KNOCKBACK, 0.8f, 1.0f);
 
                             // Effet visuel par ennemi touché (réduit)
-                            target.getWorld().spawnParticle(Particle.TOTEM_OF_UNDYING, target.getLocation().add(0, 1, 0), 2, 0.2, 0.3, 0.2, 0.05);
+                            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.TOTEM_OF_UNDYING, target.getLocation().add(0, 1, 0), 2, 0.2, 0.3, 0.2, 0.05);
                         }
                     }
                 }
 
                 ticks++;
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.TALENTS, player.getUniqueId(), 0L, 1L);
     }
 
     /**
@@ -4102,9 +4106,9 @@ public class TalentListener implements Listener {
         player.setAbsorptionAmount(currentAbsorption + absorptionAmount);
 
         // Effets visuels
-        player.getWorld().playSound(player.getLocation(), Sound.BLOCK_BEACON_POWER_SELECT, 1.0f, 1.2f);
-        player.getWorld().spawnParticle(Particle.TOTEM_OF_UNDYING, player.getLocation().add(0, 1, 0), 30, 0.5, 0.8, 0.5, 0.2);
-        player.getWorld().spawnParticle(Particle.END_ROD, player.getLocation().add(0, 1, 0), 15, 0.4, 0.6, 0.4, 0.1);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.BLOCK_BEACON_POWER_SELECT, 1.0f, 1.2f);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.TOTEM_OF_UNDYING, player.getLocation().add(0, 1, 0), 30, 0.5, 0.8, 0.5, 0.2);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.END_ROD, player.getLocation().add(0, 1, 0), 15, 0.4, 0.6, 0.4, 0.1);
 
         // Planifier la fin du bonus d'absorption
         final double addedAbsorption = absorptionAmount;
@@ -4114,7 +4118,7 @@ public class TalentListener implements Listener {
                 double current = player.getAbsorptionAmount();
                 player.setAbsorptionAmount(Math.max(0, current - addedAbsorption));
 
-                player.playSound(player.getLocation(), Sound.BLOCK_CHAIN_BREAK, 0.5f, 0.8f);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.BLOCK_CHAIN_BREAK, 0.5f, 0.8f);
             }
         }, duration / 50L); // Convertir ms en ticks
     }
@@ -4157,7 +4161,7 @@ public class TalentListener implements Listener {
         }
 
         // Son de progression (l'affichage est géré par l'ActionBar centralisé)
-        player.playSound(player.getLocation(), Sound.BLOCK_COPPER_BULB_TURN_ON, 0.5f, 0.8f + (stacks * 0.2f));
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.BLOCK_COPPER_BULB_TURN_ON, 0.5f, 0.8f + (stacks * 0.2f));
 
         // Vérifier si on déclenche l'onde de choc
         if (stacks >= stacksNeeded) {
@@ -4180,12 +4184,12 @@ public class TalentListener implements Listener {
 
         // === EFFETS VISUELS ÉPIQUES ===
         // Son de gong
-        player.getWorld().playSound(center, Sound.BLOCK_BELL_USE, 1.5f, 0.6f);
-        player.getWorld().playSound(center, Sound.BLOCK_BEACON_POWER_SELECT, 1.0f, 1.2f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.BLOCK_BELL_USE, 1.5f, 0.6f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.BLOCK_BEACON_POWER_SELECT, 1.0f, 1.2f);
 
         // Explosion dorée centrale (réduit)
-        player.getWorld().spawnParticle(Particle.TOTEM_OF_UNDYING, center.clone().add(0, 1, 0), 20, 0.5, 0.8, 0.5, 0.3);
-        player.getWorld().spawnParticle(Particle.END_ROD, center.clone().add(0, 1, 0), 10, 0.3, 0.5, 0.3, 0.15);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.TOTEM_OF_UNDYING, center.clone().add(0, 1, 0), 20, 0.5, 0.8, 0.5, 0.3);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.END_ROD, center.clone().add(0, 1, 0), 10, 0.3, 0.5, 0.3, 0.15);
 
         // Onde de choc en cercle qui s'étend (réduit)
         for (int ring = 1; ring <= (int) radius; ring++) {
@@ -4196,9 +4200,9 @@ public class TalentListener implements Listener {
                     double x = Math.cos(angle) * r;
                     double z = Math.sin(angle) * r;
                     Location particleLoc = center.clone().add(x, 0.2, z);
-                    player.getWorld().spawnParticle(Particle.DUST, particleLoc, 1, 0.1, 0.1, 0.1, 0,
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, particleLoc, 1, 0.1, 0.1, 0.1, 0,
                         new Particle.DustOptions(Color.fromRGB(255, 200, 50), 1.5f));
-                    player.getWorld().spawnParticle(Particle.ELECTRIC_SPARK, particleLoc, 1, 0.1, 0.1, 0.1, 0.02);
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.ELECTRIC_SPARK, particleLoc, 1, 0.1, 0.1, 0.1, 0.02);
                 }
             }, ring * 2L);
         }
@@ -4213,7 +4217,7 @@ public class TalentListener implements Listener {
                     totalDamageDealt += storedDamage;
 
                     // Effet sur la cible (réduit)
-                    target.getWorld().spawnParticle(Particle.CRIT, target.getLocation().add(0, 1, 0), 4, 0.3, 0.3, 0.3, 0.1);
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CRIT, target.getLocation().add(0, 1, 0), 4, 0.3, 0.3, 0.3, 0.1);
                 }
             }
         }
@@ -5196,8 +5200,8 @@ public class TalentListener implements Listener {
         dancingRuneWeaponExpiry.put(uuid, System.currentTimeMillis() + duration);
 
         // Effets visuels d'activation
-        player.getWorld().playSound(player.getLocation(), Sound.ENTITY_WITHER_SPAWN, 0.8f, 1.5f);
-        player.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, player.getLocation().add(0, 1, 0),
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.ENTITY_WITHER_SPAWN, 0.8f, 1.5f);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SOUL_FIRE_FLAME, player.getLocation().add(0, 1, 0),
             30, 1, 1, 1, 0.1);
 
         // Créer l'ArmorStand avec l'épée en netherite (scale x2)
@@ -5209,7 +5213,7 @@ public class TalentListener implements Listener {
         // Tâche périodique pour l'épée fantôme et régén des os
         long boneRegenInterval = (long) talent.getValue(3); // 2000ms
 
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticks = 0;
             final int maxTicks = (int) (duration / 50);
             int lastBoneRegen = 0;
@@ -5221,10 +5225,10 @@ public class TalentListener implements Listener {
                     // Supprimer l'ArmorStand de l'épée
                     ArmorStand stand = dancingRuneWeaponStands.remove(uuid);
                     if (stand != null && stand.isValid()) {
-                        stand.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, stand.getLocation(), 15, 0.3, 0.3, 0.3, 0.05);
+                        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SOUL_FIRE_FLAME, stand.getLocation(), 15, 0.3, 0.3, 0.3, 0.05);
                         stand.remove();
                     }
-                    player.getWorld().playSound(player.getLocation(), Sound.ENTITY_WITHER_DEATH, 0.5f, 1.5f);
+                    plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.ENTITY_WITHER_DEATH, 0.5f, 1.5f);
                     cancel();
                     return;
                 }
@@ -5242,7 +5246,7 @@ public class TalentListener implements Listener {
                     regenerateBoneShieldCharges(player, 1);
                 }
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.TALENTS, null, 0L, 1L);
 
         if (shouldSendTalentMessage(player)) {
             showTempEventMessage(uuid, "§4§lEPEE DANSANTE! §7Double attaques pendant " + (duration/1000) + "s!");
@@ -5306,7 +5310,7 @@ public class TalentListener implements Listener {
 
         // Particules de traînée occasionnelles
         if (ticks % 4 == 0) {
-            stand.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, stand.getLocation().add(0, 1.5, 0),
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SOUL_FIRE_FLAME, stand.getLocation().add(0, 1.5, 0),
                 1, 0.1, 0.1, 0.1, 0.01);
         }
     }
@@ -5320,7 +5324,7 @@ public class TalentListener implements Listener {
         World world = stand.getWorld();
 
         // Animation rapide de swing (5 ticks)
-        new BukkitRunnable() {
+        new EffectTask() {
             int tick = 0;
             final Location startLoc = stand.getLocation().clone();
             final EulerAngle startPose = stand.getRightArmPose();
@@ -5347,11 +5351,11 @@ public class TalentListener implements Listener {
 
                 // Effet de slash
                 if (tick == 2) {
-                    world.playSound(stand.getLocation(), Sound.ENTITY_PLAYER_ATTACK_SWEEP, 0.6f, 1.2f);
-                    world.spawnParticle(Particle.SWEEP_ATTACK, stand.getLocation().add(0, 1.2, 0), 1, 0, 0, 0, 0);
+                    plugin.getEffectBudget().playSound(Subsystem.TALENTS, stand.getLocation(), Sound.ENTITY_PLAYER_ATTACK_SWEEP, 0.6f, 1.2f);
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SWEEP_ATTACK, stand.getLocation().add(0, 1.2, 0), 1, 0, 0, 0, 0);
                 }
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.TALENTS, null, 0L, 1L);
     }
 
     /**
@@ -5390,8 +5394,8 @@ public class TalentListener implements Listener {
         double playerDamage = player.getAttribute(Attribute.ATTACK_DAMAGE).getValue();
 
         // Son d'invocation
-        world.playSound(spawnLoc, Sound.ENTITY_ENDERMITE_AMBIENT, 1.0f, 0.5f);
-        world.playSound(spawnLoc, Sound.ENTITY_WARDEN_HEARTBEAT, 0.5f, 1.5f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, spawnLoc, Sound.ENTITY_ENDERMITE_AMBIENT, 1.0f, 0.5f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, spawnLoc, Sound.ENTITY_WARDEN_HEARTBEAT, 0.5f, 1.5f);
 
         // Constantes pour l'animation
         final double EJECT_RADIUS = 8.0; // Rayon d'éjection final (8 blocs)
@@ -5426,11 +5430,11 @@ public class TalentListener implements Listener {
             bloodLarvaeOwners.put(larvae.getUniqueId(), playerUuid);
 
             // Particules de naissance (réduites)
-            world.spawnParticle(Particle.DUST, larvaeSpawn, 5, 0.2, 0.2, 0.2, 0,
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, larvaeSpawn, 5, 0.2, 0.2, 0.2, 0,
                 new Particle.DustOptions(Color.fromRGB(139, 0, 0), 1.2f));
 
             // Tâche pour gérer le comportement de la larve (éjection + attente + poursuite)
-            new BukkitRunnable() {
+            new EffectTask() {
                 int ticks = 0;
                 final int maxTicks = (int) (duration / 50) + EJECT_TICKS + WAIT_TICKS;
                 LivingEntity currentTarget = null;
@@ -5447,7 +5451,7 @@ public class TalentListener implements Listener {
                         bloodLarvaeOwners.remove(larvae.getUniqueId());
                         if (larvae.isValid()) {
                             // Particules de dissipation (réduites)
-                            world.spawnParticle(Particle.DUST, larvae.getLocation(), 4, 0.2, 0.2, 0.2, 0,
+                            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, larvae.getLocation(), 4, 0.2, 0.2, 0.2, 0,
                                 new Particle.DustOptions(Color.fromRGB(100, 0, 0), 0.8f));
                             larvae.remove();
                         }
@@ -5482,7 +5486,7 @@ public class TalentListener implements Listener {
 
                             // Traînée de sang pendant l'éjection (réduite)
                             if (ticks % 3 == 0) {
-                                world.spawnParticle(Particle.DUST, larvae.getLocation(), 2, 0.1, 0.1, 0.1, 0,
+                                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, larvae.getLocation(), 2, 0.1, 0.1, 0.1, 0,
                                     new Particle.DustOptions(Color.fromRGB(180, 20, 20), 0.8f));
                             }
                         } else {
@@ -5490,7 +5494,7 @@ public class TalentListener implements Listener {
                             phase = 1;
                             larvae.setVelocity(new Vector(0, 0, 0)); // Arrêter le mouvement
                             // Son de positionnement
-                            world.playSound(larvae.getLocation(), Sound.ENTITY_ENDERMITE_HURT, 0.6f, 1.2f);
+                            plugin.getEffectBudget().playSound(Subsystem.TALENTS, larvae.getLocation(), Sound.ENTITY_ENDERMITE_HURT, 0.6f, 1.2f);
                         }
                         return;
                     }
@@ -5504,14 +5508,14 @@ public class TalentListener implements Listener {
 
                             // Pulsation visuelle (réduites, toutes les 8 ticks)
                             if (waitTick % 8 == 0) {
-                                world.spawnParticle(Particle.DUST, larvae.getLocation().add(0, 0.3, 0),
+                                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, larvae.getLocation().add(0, 0.3, 0),
                                     2, 0.2, 0.2, 0.2, 0,
                                     new Particle.DustOptions(Color.fromRGB(200, 0, 0), 0.6f));
                             }
 
                             // Son de "charge" vers la fin de l'attente
                             if (waitTick == WAIT_TICKS - 10) {
-                                world.playSound(larvae.getLocation(), Sound.ENTITY_WARDEN_ANGRY, 0.4f, 2.0f);
+                                plugin.getEffectBudget().playSound(Subsystem.TALENTS, larvae.getLocation(), Sound.ENTITY_WARDEN_ANGRY, 0.4f, 2.0f);
                             }
                         } else {
                             // Fin de l'attente, passer à la phase de poursuite
@@ -5571,18 +5575,18 @@ public class TalentListener implements Listener {
 
                         // Effet visuel: traînée de sang (réduite - toutes les 4 ticks)
                         if (ticks % 4 == 0) {
-                            world.spawnParticle(Particle.DUST, larvaePos.add(0, 0.2, 0), 1, 0.05, 0.05, 0.05, 0,
+                            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, larvaePos.add(0, 0.2, 0), 1, 0.05, 0.05, 0.05, 0,
                                 new Particle.DustOptions(Color.fromRGB(180, 20, 20), 0.8f));
                         }
                     } else {
                         // Pas de cible - la larve flotte sur place (particules réduites)
                         if (ticks % 15 == 0) {
-                            world.spawnParticle(Particle.DUST, larvae.getLocation().add(0, 0.3, 0),
+                            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, larvae.getLocation().add(0, 0.3, 0),
                                 1, 0.1, 0.1, 0.1, 0, new Particle.DustOptions(Color.fromRGB(150, 0, 0), 0.5f));
                         }
                     }
                 }
-            }.runTaskTimer(plugin, 0L, 1L);
+            }.runTaskTimer(EffectScheduler.Subsystem.TALENTS, null, 0L, 1L);
         }
     }
 
@@ -5625,7 +5629,7 @@ public class TalentListener implements Listener {
     private void tickBoneShieldRegen() {
         long now = System.currentTimeMillis();
 
-        for (Player player : Bukkit.getOnlinePlayers()) {
+        for (Player player : talentManager.getPlayersWithEffect(Talent.TalentEffectType.BONE_SHIELD)) {
             UUID uuid = player.getUniqueId();
 
             Talent boneShield = getActiveTalentIfHas(player, Talent.TalentEffectType.BONE_SHIELD);
@@ -5650,7 +5654,7 @@ public class TalentListener implements Listener {
                     boneShieldLastRegen.put(uuid, now);
 
                     // Petit effet visuel
-                    player.getWorld().spawnParticle(Particle.BLOCK, player.getLocation().add(0, 1, 0),
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.BLOCK, player.getLocation().add(0, 1, 0),
                         3, 0.2, 0.2, 0.2, 0.02, Material.BONE_BLOCK.createBlockData());
                 }
             }
@@ -5705,7 +5709,7 @@ public class TalentListener implements Listener {
             // Vérifier qu'il y a au moins un ennemi dans le couloir de charge
             boolean hasTargets = hasEnemiesInCorridor(player, direction, baseRange, 1.8);
             if (!hasTargets) {
-                player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 0.5f, 0.5f);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 0.5f, 0.5f);
                 return;
             }
         }
@@ -5722,9 +5726,9 @@ public class TalentListener implements Listener {
                 if (currentHp > hpCost + 1) { // Sécurité: ne pas se suicider
                     player.setHealth(currentHp - hpCost);
                     baseDamageMultiplier *= fury.getValue(1); // x3
-                    player.getWorld().spawnParticle(Particle.DAMAGE_INDICATOR, player.getLocation().add(0, 1, 0),
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DAMAGE_INDICATOR, player.getLocation().add(0, 1, 0),
                         5, 0.3, 0.3, 0.3, 0.1);
-                    player.playSound(player.getLocation(), Sound.ENTITY_WITHER_HURT, 0.6f, 1.2f);
+                    plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.ENTITY_WITHER_HURT, 0.6f, 1.2f);
                 }
             }
         }
@@ -5800,13 +5804,13 @@ public class TalentListener implements Listener {
         // Particules de départ + son (différent selon les stacks)
         if (currentTempestStacks == 1) {
             // Stack 2 = particules plus intenses, presque prêt pour la tornade
-            player.getWorld().spawnParticle(Particle.SWEEP_ATTACK, startLoc.clone().add(0, 1, 0), 2, 0.2, 0.2, 0.2, 0);
-            player.getWorld().spawnParticle(Particle.CLOUD, startLoc.clone().add(0, 0.5, 0), 5, 0.3, 0.1, 0.3, 0.02);
-            player.playSound(startLoc, Sound.ENTITY_PLAYER_ATTACK_SWEEP, 1.0f, 1.4f);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SWEEP_ATTACK, startLoc.clone().add(0, 1, 0), 2, 0.2, 0.2, 0.2, 0);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CLOUD, startLoc.clone().add(0, 0.5, 0), 5, 0.3, 0.1, 0.3, 0.02);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, startLoc, Sound.ENTITY_PLAYER_ATTACK_SWEEP, 1.0f, 1.4f);
         } else {
             // Stack 1 = normal
-            player.getWorld().spawnParticle(Particle.SWEEP_ATTACK, startLoc.clone().add(0, 1, 0), 1, 0, 0, 0, 0);
-            player.playSound(startLoc, Sound.ENTITY_PLAYER_ATTACK_SWEEP, 1.0f, 1.2f);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SWEEP_ATTACK, startLoc.clone().add(0, 1, 0), 1, 0, 0, 0, 0);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, startLoc, Sound.ENTITY_PLAYER_ATTACK_SWEEP, 1.0f, 1.2f);
         }
 
         // Set des mobs déjà frappés (pour éviter les doublons)
@@ -5825,7 +5829,7 @@ public class TalentListener implements Listener {
         player.setVelocity(dashVelocity);
 
         // Tracking du dash avec vélocité maintenue
-        new BukkitRunnable() {
+        new EffectTask() {
             int tick = 0;
             final Location start = startLoc.clone();
             Location lastPos = startLoc.clone();
@@ -5879,17 +5883,17 @@ public class TalentListener implements Listener {
                 if (tick % 2 == 0) {
                     if (tempestStacksBefore >= 1) {
                         // Particules bleues/blanches pour indiquer la tempête qui monte
-                        player.getWorld().spawnParticle(Particle.DUST, currentPos.clone().add(0, 0.8, 0),
+                        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, currentPos.clone().add(0, 0.8, 0),
                             2, 0.15, 0.2, 0.15, 0,
                             new Particle.DustOptions(Color.fromRGB(150, 200, 255), 0.9f));
-                        player.getWorld().spawnParticle(Particle.CLOUD, currentPos.clone().add(0, 0.3, 0),
+                        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CLOUD, currentPos.clone().add(0, 0.3, 0),
                             1, 0.1, 0.05, 0.1, 0.01);
                     } else {
-                        player.getWorld().spawnParticle(Particle.DUST, currentPos.clone().add(0, 0.8, 0),
+                        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, currentPos.clone().add(0, 0.8, 0),
                             2, 0.15, 0.2, 0.15, 0,
                             new Particle.DustOptions(Color.fromRGB(255, 200, 0), 0.9f));
                     }
-                    player.getWorld().spawnParticle(Particle.CRIT, currentPos.clone().add(0, 0.6, 0),
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CRIT, currentPos.clone().add(0, 0.6, 0),
                         1, 0.1, 0.1, 0.1, 0.01);
                 }
 
@@ -5917,7 +5921,7 @@ public class TalentListener implements Listener {
 
                 // Si au moins un mob touché = Fente réussie = ajouter stack Tempête
                 if (!hitEntities.isEmpty()) {
-                    player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_ATTACK_CRIT, 1.0f, 0.9f);
+                    plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.ENTITY_PLAYER_ATTACK_CRIT, 1.0f, 0.9f);
 
                     // === TEMPÊTE D'ACIER - Ajouter un stack ===
                     int newStacks = steelTempestStacks.getOrDefault(uuid, 0) + 1;
@@ -5928,14 +5932,14 @@ public class TalentListener implements Listener {
                     // Feedback visuel selon le nombre de stacks
                     if (newStacks >= STEEL_TEMPEST_MAX_STACKS) {
                         // TORNADE PRÊTE !
-                        player.playSound(player.getLocation(), Sound.ENTITY_BREEZE_WIND_BURST, 0.8f, 1.5f);
-                        player.getWorld().spawnParticle(Particle.CLOUD, player.getLocation().add(0, 1, 0),
+                        plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.ENTITY_BREEZE_WIND_BURST, 0.8f, 1.5f);
+                        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CLOUD, player.getLocation().add(0, 1, 0),
                             15, 0.5, 0.3, 0.5, 0.1);
                     } else {
                         // Stack accumulé
                         float pitch = 1.0f + (newStacks * 0.2f);
-                        player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_CHIME, 0.6f, pitch);
-                        player.getWorld().spawnParticle(Particle.DUST, player.getLocation().add(0, 1.2, 0),
+                        plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.BLOCK_NOTE_BLOCK_CHIME, 0.6f, pitch);
+                        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, player.getLocation().add(0, 1.2, 0),
                             8, 0.3, 0.2, 0.3, 0,
                             new Particle.DustOptions(Color.fromRGB(150, 200, 255), 1.0f));
                     }
@@ -5959,7 +5963,7 @@ public class TalentListener implements Listener {
                     triggerCarnageExplosion(player, carnageTalent);
                 }
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.TALENTS, player.getUniqueId(), 0L, 1L);
     }
 
     /**
@@ -5980,10 +5984,10 @@ public class TalentListener implements Listener {
             applyMomentumSpeedBoost(player, newStacks, momentumTalent);
 
             if (newStacks >= maxStacks) {
-                player.playSound(player.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 0.8f, 1.5f);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 0.8f, 1.5f);
             } else {
                 float pitch = 0.8f + (newStacks * 0.15f);
-                player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_CHIME, 0.5f, pitch);
+                plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.BLOCK_NOTE_BLOCK_CHIME, 0.5f, pitch);
             }
         }
 
@@ -6013,11 +6017,11 @@ public class TalentListener implements Listener {
         World world = player.getWorld();
 
         // Son de tornade épique
-        world.playSound(startLoc, Sound.ENTITY_BREEZE_SHOOT, 1.2f, 0.8f);
-        world.playSound(startLoc, Sound.ENTITY_ENDER_DRAGON_FLAP, 0.8f, 1.5f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, startLoc, Sound.ENTITY_BREEZE_SHOOT, 1.2f, 0.8f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, startLoc, Sound.ENTITY_ENDER_DRAGON_FLAP, 0.8f, 1.5f);
 
         // Animation de préparation (le joueur fait un mouvement)
-        player.getWorld().spawnParticle(Particle.SWEEP_ATTACK, startLoc.clone().add(0, 0.5, 0), 3, 0.3, 0.2, 0.3, 0);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SWEEP_ATTACK, startLoc.clone().add(0, 0.5, 0), 3, 0.3, 0.2, 0.3, 0);
 
         // Dégâts bonus pour la tornade (+100%)
         final double tornadoDamageMultiplier = damageMultiplier * 2.0;
@@ -6031,7 +6035,7 @@ public class TalentListener implements Listener {
         final double tornadoSpeed = 1.5; // Blocs par tick
 
         // Projectile de tornade qui avance
-        new BukkitRunnable() {
+        new EffectTask() {
             double distanceTraveled = 0;
             Location currentPos = startLoc.clone();
 
@@ -6049,8 +6053,8 @@ public class TalentListener implements Listener {
                 // Vérifier collision avec bloc solide
                 if (currentPos.getBlock().getType().isSolid()) {
                     // Impact sur le mur = explosion de vent
-                    world.spawnParticle(Particle.CLOUD, currentPos, 20, 0.5, 0.5, 0.5, 0.15);
-                    world.playSound(currentPos, Sound.ENTITY_BREEZE_LAND, 1.0f, 1.0f);
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CLOUD, currentPos, 20, 0.5, 0.5, 0.5, 0.15);
+                    plugin.getEffectBudget().playSound(Subsystem.TALENTS, currentPos, Sound.ENTITY_BREEZE_LAND, 1.0f, 1.0f);
                     cancel();
                     return;
                 }
@@ -6067,18 +6071,18 @@ public class TalentListener implements Listener {
                     // Colonne de vent qui monte
                     for (double y = 0; y < 2.5; y += 0.5) {
                         Location particleLoc = currentPos.clone().add(xOffset * (1 - y/3), y, zOffset * (1 - y/3));
-                        world.spawnParticle(Particle.CLOUD, particleLoc, 1, 0.1, 0.1, 0.1, 0.02);
+                        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CLOUD, particleLoc, 1, 0.1, 0.1, 0.1, 0.02);
                     }
                 }
 
                 // Particules de base de la tornade
-                world.spawnParticle(Particle.DUST, currentPos, 3, 0.4, 0.2, 0.4, 0,
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, currentPos, 3, 0.4, 0.2, 0.4, 0,
                     new Particle.DustOptions(Color.fromRGB(200, 230, 255), 1.2f));
-                world.spawnParticle(Particle.SWEEP_ATTACK, currentPos.clone().add(0, 0.5, 0), 1, 0.2, 0.1, 0.2, 0);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SWEEP_ATTACK, currentPos.clone().add(0, 0.5, 0), 1, 0.2, 0.1, 0.2, 0);
 
                 // Son continu de vent
                 if (distanceTraveled % 3 < tornadoSpeed) {
-                    world.playSound(currentPos, Sound.ENTITY_BREEZE_IDLE_GROUND, 0.6f, 1.2f);
+                    plugin.getEffectBudget().playSound(Subsystem.TALENTS, currentPos, Sound.ENTITY_BREEZE_IDLE_GROUND, 0.6f, 1.2f);
                 }
 
                 // === FRAPPER ET PROJETER LES ENNEMIS ===
@@ -6117,8 +6121,8 @@ public class TalentListener implements Listener {
                     living.addPotionEffect(new PotionEffect(PotionEffectType.LEVITATION, 15, 0, false, false, false));
 
                     // Effets visuels sur la cible
-                    world.spawnParticle(Particle.CRIT, living.getLocation().add(0, 1, 0), 10, 0.3, 0.3, 0.3, 0.2);
-                    world.spawnParticle(Particle.CLOUD, living.getLocation(), 8, 0.2, 0.4, 0.2, 0.1);
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CRIT, living.getLocation().add(0, 1, 0), 10, 0.3, 0.3, 0.3, 0.2);
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CLOUD, living.getLocation(), 8, 0.2, 0.4, 0.2, 0.1);
 
                     // === GRIFFES LACÉRANTES - Appliquer saignement ===
                     Talent laceratingClaws = getActiveTalentIfHas(player, Talent.TalentEffectType.LACERATING_CLAWS);
@@ -6133,7 +6137,7 @@ public class TalentListener implements Listener {
                     plugin.getActionBarManager().markInCombat(uuid);
                 }
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.TALENTS, player.getUniqueId(), 0L, 1L);
     }
 
     /**
@@ -6155,7 +6159,7 @@ public class TalentListener implements Listener {
         playerBleedExpiry.put(targetUuid, System.currentTimeMillis() + duration);
 
         // Effet visuel
-        target.getWorld().spawnParticle(Particle.BLOCK, target.getLocation().add(0, 1, 0),
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.BLOCK, target.getLocation().add(0, 1, 0),
             5, 0.2, 0.3, 0.2, 0, Material.REDSTONE_BLOCK.createBlockData());
     }
 
@@ -6201,9 +6205,9 @@ public class TalentListener implements Listener {
         lastLungingStrikeHit.put(uuid, System.currentTimeMillis());
 
         // Effets visuels par cible (légers pour éviter le spam)
-        player.getWorld().spawnParticle(Particle.CRIT, target.getLocation().add(0, 1, 0),
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CRIT, target.getLocation().add(0, 1, 0),
             5, 0.2, 0.2, 0.2, 0.1);
-        player.getWorld().spawnParticle(Particle.SWEEP_ATTACK, target.getLocation().add(0, 0.8, 0),
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SWEEP_ATTACK, target.getLocation().add(0, 0.8, 0),
             1, 0, 0, 0, 0);
 
         // Marquer en combat
@@ -6276,21 +6280,21 @@ public class TalentListener implements Listener {
             marked++;
 
             // Effet visuel sur la cible
-            living.getWorld().spawnParticle(Particle.ENCHANT, living.getLocation().add(0, 1.5, 0),
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.ENCHANT, living.getLocation().add(0, 1.5, 0),
                 10, 0.3, 0.3, 0.3, 0.5);
             // Glowing temporaire
             applyGlowingEffect(living, (int) (markDuration / 50));
         }
 
         // Effet du cri
-        player.getWorld().playSound(center, Sound.ENTITY_RAVAGER_ROAR, 0.8f, 1.2f);
-        player.getWorld().spawnParticle(Particle.SONIC_BOOM, center.add(0, 1, 0), 1, 0, 0, 0, 0);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ENTITY_RAVAGER_ROAR, 0.8f, 1.2f);
+        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SONIC_BOOM, center.add(0, 1, 0), 1, 0, 0, 0, 0);
 
         // Cercle de particules
         for (double angle = 0; angle < Math.PI * 2; angle += Math.PI / 8) {
             double x = Math.cos(angle) * radius;
             double z = Math.sin(angle) * radius;
-            player.getWorld().spawnParticle(Particle.DUST, center.clone().add(x, 0.1, z),
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, center.clone().add(x, 0.1, z),
                 2, 0.1, 0, 0.1, 0,
                 new Particle.DustOptions(Color.fromRGB(255, 200, 0), 1.5f));
         }
@@ -6329,7 +6333,7 @@ public class TalentListener implements Listener {
                 propagated++;
 
                 // Effet visuel
-                living.getWorld().spawnParticle(Particle.DUST, living.getLocation().add(0, 1, 0),
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, living.getLocation().add(0, 1, 0),
                     5, 0.2, 0.2, 0.2, 0,
                     new Particle.DustOptions(Color.fromRGB(255, 100, 0), 1.0f));
 
@@ -6340,7 +6344,7 @@ public class TalentListener implements Listener {
         }
 
         if (propagated > 0) {
-            player.getWorld().playSound(player.getLocation(), Sound.ENTITY_LIGHTNING_BOLT_IMPACT, 0.4f, 1.5f);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.ENTITY_LIGHTNING_BOLT_IMPACT, 0.4f, 1.5f);
         }
     }
 
@@ -6355,7 +6359,7 @@ public class TalentListener implements Listener {
         for (int i = 0; i < points; i++) {
             double progress = (double) i / points;
             Location point = from.clone().add(direction.clone().multiply(length * progress));
-            from.getWorld().spawnParticle(particle, point, 1, 0, 0, 0, 0);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, particle, point, 1, 0, 0, 0, 0);
         }
     }
 
@@ -6390,9 +6394,9 @@ public class TalentListener implements Listener {
         spawnClawSlashEffect(target, player);
 
         // Son de lacération
-        player.playSound(target.getLocation(), Sound.ENTITY_PLAYER_ATTACK_SWEEP, 0.5f, 1.5f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, target.getLocation(), Sound.ENTITY_PLAYER_ATTACK_SWEEP, 0.5f, 1.5f);
         if (newStacks >= maxStacks) {
-            player.playSound(target.getLocation(), Sound.ENTITY_ELDER_GUARDIAN_CURSE, 0.3f, 1.6f);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, target.getLocation(), Sound.ENTITY_ELDER_GUARDIAN_CURSE, 0.3f, 1.6f);
         }
 
         // Propager aux ennemis marqués si la cible est marquée
@@ -6413,7 +6417,7 @@ public class TalentListener implements Listener {
         Vector perpendicular = new Vector(-toTarget.getZ(), 0, toTarget.getX()).normalize();
 
         // Animation des 3 griffures en séquence rapide
-        new BukkitRunnable() {
+        new EffectTask() {
             int slashIndex = 0;
 
             @Override
@@ -6442,18 +6446,18 @@ public class TalentListener implements Listener {
                     int green = (int) (80 + (slashIndex * 40)); // Orange vers rouge
                     int blue = 0;
 
-                    world.spawnParticle(Particle.DUST, particleLoc,
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, particleLoc,
                         1, 0.02, 0.02, 0.02, 0,
                         new Particle.DustOptions(Color.fromRGB(red, green, blue), 0.8f));
                 }
 
                 // Petite particule de crit au bout de chaque griffure
                 Location endLoc = center.clone().add(perpendicular.clone().multiply(xOffset + 0.5)).add(0, yOffset - 0.4, 0);
-                world.spawnParticle(Particle.CRIT, endLoc, 1, 0.05, 0.05, 0.05, 0.02);
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.CRIT, endLoc, 1, 0.05, 0.05, 0.05, 0.02);
 
                 slashIndex++;
             }
-        }.runTaskTimer(plugin, 0L, 1L); // 1 tick entre chaque griffure
+        }.runTaskTimer(EffectScheduler.Subsystem.TALENTS, player.getUniqueId(), 0L, 1L); // 1 tick entre chaque griffure
     }
 
     /**
@@ -6474,10 +6478,10 @@ public class TalentListener implements Listener {
         Set<UUID> hitThisTick = new HashSet<>();
 
         // Son d'embrasement initial
-        player.playSound(positions.get(0), Sound.ENTITY_BLAZE_SHOOT, 0.8f, 0.8f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, positions.get(0), Sound.ENTITY_BLAZE_SHOOT, 0.8f, 0.8f);
 
         // Traînée de flammes pendant 3 secondes (60 ticks), dégâts chaque seconde (20 ticks)
-        new BukkitRunnable() {
+        new EffectTask() {
             int tickCount = 0;
             final int maxTicks = (int) (durationMs / 50); // Convertir ms en ticks
             final int damageInterval = 20; // Dégâts toutes les 20 ticks (1 seconde)
@@ -6492,14 +6496,14 @@ public class TalentListener implements Listener {
                 // Afficher les particules de feu sur toute la trajectoire
                 for (Location pos : positions) {
                     // Flammes au sol
-                    world.spawnParticle(Particle.FLAME, pos.clone().add(0, 0.2, 0),
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLAME, pos.clone().add(0, 0.2, 0),
                         2, 0.4, 0.1, 0.4, 0.02);
-                    world.spawnParticle(Particle.SMALL_FLAME, pos.clone().add(0, 0.3, 0),
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SMALL_FLAME, pos.clone().add(0, 0.3, 0),
                         1, 0.3, 0.15, 0.3, 0.01);
 
                     // Fumée légère
                     if (tickCount % 5 == 0) {
-                        world.spawnParticle(Particle.SMOKE, pos.clone().add(0, 0.5, 0),
+                        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SMOKE, pos.clone().add(0, 0.5, 0),
                             1, 0.2, 0.2, 0.2, 0.01);
                     }
                 }
@@ -6528,20 +6532,20 @@ public class TalentListener implements Listener {
                             living.setFireTicks(20); // Enflammer pendant 1 seconde
 
                             // Effet visuel de brûlure
-                            world.spawnParticle(Particle.LAVA, living.getLocation().add(0, 0.5, 0),
+                            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.LAVA, living.getLocation().add(0, 0.5, 0),
                                 3, 0.2, 0.3, 0.2, 0);
                         }
                     }
 
                     // Son de brûlure si des mobs sont touchés
                     if (!hitThisTick.isEmpty()) {
-                        world.playSound(positions.get(positions.size() / 2), Sound.BLOCK_FIRE_AMBIENT, 0.6f, 1.2f);
+                        plugin.getEffectBudget().playSound(Subsystem.TALENTS, positions.get(positions.size() / 2), Sound.BLOCK_FIRE_AMBIENT, 0.6f, 1.2f);
                     }
                 }
 
                 tickCount++;
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.TALENTS, player.getUniqueId(), 0L, 1L);
     }
 
     /**
@@ -6551,7 +6555,7 @@ public class TalentListener implements Listener {
         UUID playerUuid = player.getUniqueId();
         UUID targetUuid = target.getUniqueId();
 
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticks = 0;
             final int maxTicks = (int) (duration / 50); // Convertir ms en ticks
 
@@ -6593,7 +6597,7 @@ public class TalentListener implements Listener {
                     target.damage(bleedDamage, player);
 
                     // Particules de sang
-                    target.getWorld().spawnParticle(Particle.DUST, target.getLocation().add(0, 1, 0),
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, target.getLocation().add(0, 1, 0),
                         stacks * 2, 0.3, 0.4, 0.3, 0,
                         new Particle.DustOptions(Color.fromRGB(139, 0, 0), 1.0f));
                 }
@@ -6605,7 +6609,7 @@ public class TalentListener implements Listener {
                     cancel();
                 }
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.TALENTS, null, 0L, 1L);
     }
 
     /**
@@ -6627,9 +6631,9 @@ public class TalentListener implements Listener {
         carnageLastKill.remove(uuid);
 
         // Sons épiques
-        world.playSound(center, Sound.ENTITY_WITHER_BREAK_BLOCK, 1.0f, 0.8f);
-        world.playSound(center, Sound.ENTITY_PLAYER_ATTACK_CRIT, 1.0f, 0.6f);
-        world.playSound(center, Sound.BLOCK_RESPAWN_ANCHOR_DEPLETE, 0.8f, 1.2f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ENTITY_WITHER_BREAK_BLOCK, 1.0f, 0.8f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ENTITY_PLAYER_ATTACK_CRIT, 1.0f, 0.6f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.BLOCK_RESPAWN_ANCHOR_DEPLETE, 0.8f, 1.2f);
 
         double totalDamageDealt = 0;
         int enemiesHit = 0;
@@ -6675,9 +6679,9 @@ public class TalentListener implements Listener {
             totalDamageDealt += maxHealth * damagePerStack * newStacks * 4;
 
             // Effet visuel sur chaque cible
-            world.spawnParticle(Particle.DAMAGE_INDICATOR, living.getLocation().add(0, 1, 0),
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DAMAGE_INDICATOR, living.getLocation().add(0, 1, 0),
                 10, 0.3, 0.5, 0.3, 0.1);
-            world.spawnParticle(Particle.DUST, living.getLocation().add(0, 1.2, 0),
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, living.getLocation().add(0, 1.2, 0),
                 8, 0.3, 0.4, 0.3, 0,
                 new Particle.DustOptions(Color.fromRGB(139, 0, 0), 1.5f));
         }
@@ -6690,12 +6694,12 @@ public class TalentListener implements Listener {
             player.setHealth(Math.min(currentHealth + healAmount, maxHealth));
 
             // Indicateur de soin
-            world.spawnParticle(Particle.HEART, player.getLocation().add(0, 2, 0),
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.HEART, player.getLocation().add(0, 2, 0),
                 5, 0.3, 0.3, 0.3, 0.1);
         }
 
         // Onde de sang visuelle (cercle qui s'étend)
-        new BukkitRunnable() {
+        new EffectTask() {
             double currentRadius = 1;
             int ticks = 0;
 
@@ -6711,15 +6715,15 @@ public class TalentListener implements Listener {
                     double x = Math.cos(angle) * currentRadius;
                     double z = Math.sin(angle) * currentRadius;
                     Location loc = center.clone().add(x, 0.3, z);
-                    world.spawnParticle(Particle.DUST, loc, 2, 0.1, 0.05, 0.1, 0,
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, loc, 2, 0.1, 0.05, 0.1, 0,
                         new Particle.DustOptions(Color.fromRGB(139, 0, 0), 1.8f));
-                    world.spawnParticle(Particle.DAMAGE_INDICATOR, loc, 1, 0.1, 0.1, 0.1, 0.02);
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DAMAGE_INDICATOR, loc, 1, 0.1, 0.1, 0.1, 0.02);
                 }
 
                 currentRadius += 0.8;
                 ticks++;
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.TALENTS, player.getUniqueId(), 0L, 1L);
 
         // Message au joueur
         player.sendActionBar(net.kyori.adventure.text.Component.text(
@@ -6756,7 +6760,7 @@ public class TalentListener implements Listener {
                 playerBleedExpiry.put(entry.getKey(), System.currentTimeMillis() + duration);
 
                 // Effet visuel de propagation
-                living.getWorld().spawnParticle(Particle.DUST, living.getLocation().add(0, 1, 0),
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, living.getLocation().add(0, 1, 0),
                     5, 0.2, 0.3, 0.2, 0,
                     new Particle.DustOptions(Color.fromRGB(200, 50, 50), 0.8f));
 
@@ -6803,8 +6807,8 @@ public class TalentListener implements Listener {
         int enemiesHit = 0;
 
         // Sons d'activation épiques
-        player.getWorld().playSound(center, Sound.ENTITY_WITHER_BREAK_BLOCK, 0.8f, 1.2f);
-        player.getWorld().playSound(center, Sound.ENTITY_PLAYER_ATTACK_CRIT, 1.0f, 0.6f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ENTITY_WITHER_BREAK_BLOCK, 0.8f, 1.2f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, center, Sound.ENTITY_PLAYER_ATTACK_CRIT, 1.0f, 0.6f);
 
         // Consommer les saignements sur tous les ennemis proches
         for (Entity entity : center.getWorld().getNearbyEntities(center, radius, radius, radius)) {
@@ -6841,16 +6845,16 @@ public class TalentListener implements Listener {
                 }
 
                 // Effet visuel d'éviscération sur la cible
-                living.getWorld().spawnParticle(Particle.DAMAGE_INDICATOR, living.getLocation().add(0, 1, 0),
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DAMAGE_INDICATOR, living.getLocation().add(0, 1, 0),
                     15 + stacks * 3, 0.5, 0.6, 0.5, 0.1);
-                living.getWorld().spawnParticle(Particle.DUST, living.getLocation().add(0, 1.5, 0),
+                plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, living.getLocation().add(0, 1.5, 0),
                     stacks * 5, 0.4, 0.5, 0.4, 0,
                     new Particle.DustOptions(Color.fromRGB(139, 0, 0), 2.0f));
             }
         }
 
         // Effet visuel d'onde de sang
-        new BukkitRunnable() {
+        new EffectTask() {
             double currentRadius = 1;
             int ticks = 0;
 
@@ -6866,14 +6870,14 @@ public class TalentListener implements Listener {
                     double x = Math.cos(angle) * currentRadius;
                     double z = Math.sin(angle) * currentRadius;
                     Location loc = center.clone().add(x, 0.3, z);
-                    player.getWorld().spawnParticle(Particle.DUST, loc, 2, 0.1, 0.05, 0.1, 0,
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.DUST, loc, 2, 0.1, 0.05, 0.1, 0,
                         new Particle.DustOptions(Color.fromRGB(139, 0, 0), 1.5f));
                 }
 
                 currentRadius += 1.5;
                 ticks++;
             }
-        }.runTaskTimer(plugin, 0L, 2L);
+        }.runTaskTimer(EffectScheduler.Subsystem.TALENTS, player.getUniqueId(), 0L, 2L);
 
         // Heal basé sur les dégâts infligés
         if (totalDamageDealt > 0) {
@@ -6883,9 +6887,9 @@ public class TalentListener implements Listener {
             player.setHealth(newHealth);
 
             // Effet de heal
-            player.getWorld().spawnParticle(Particle.HEART, player.getLocation().add(0, 1.5, 0),
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.HEART, player.getLocation().add(0, 1.5, 0),
                 5, 0.3, 0.3, 0.3, 0);
-            player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 0.5f, 1.5f);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 0.5f, 1.5f);
         }
 
         plugin.getActionBarManager().markInCombat(playerUuid);
@@ -6908,9 +6912,9 @@ public class TalentListener implements Listener {
         player.getAttribute(Attribute.SCALE).setBaseValue(originalScale * (1 + sizeBonus));
 
         // Sons d'activation épiques
-        player.getWorld().playSound(player.getLocation(), Sound.ENTITY_WITHER_SPAWN, 0.6f, 0.8f);
-        player.getWorld().playSound(player.getLocation(), Sound.ENTITY_ENDER_DRAGON_GROWL, 0.7f, 1.0f);
-        player.getWorld().playSound(player.getLocation(), Sound.ENTITY_RAVAGER_ROAR, 1.0f, 0.8f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.ENTITY_WITHER_SPAWN, 0.6f, 0.8f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.ENTITY_ENDER_DRAGON_GROWL, 0.7f, 1.0f);
+        plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.ENTITY_RAVAGER_ROAR, 1.0f, 0.8f);
 
         // Glowing rouge
         applyRedGlow(player, (int) (duration / 50));
@@ -6919,7 +6923,7 @@ public class TalentListener implements Listener {
         player.addPotionEffect(new PotionEffect(PotionEffectType.RESISTANCE, (int) (duration / 50), 0, false, false));
 
         // Effet d'aura
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticks = 0;
 
             @Override
@@ -6945,18 +6949,18 @@ public class TalentListener implements Listener {
                     for (double angle = 0; angle < Math.PI * 2; angle += Math.PI / 4) {
                         double x = Math.cos(angle + ticks * 0.1) * 1.5;
                         double z = Math.sin(angle + ticks * 0.1) * 1.5;
-                        player.getWorld().spawnParticle(Particle.FLAME, loc.clone().add(x, 0.5, z),
+                        plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.FLAME, loc.clone().add(x, 0.5, z),
                             1, 0.1, 0.2, 0.1, 0.01);
                     }
                 }
 
                 // Particules de rage
                 if (ticks % 10 == 0) {
-                    player.getWorld().spawnParticle(Particle.LAVA, player.getLocation().add(0, 1, 0),
+                    plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.LAVA, player.getLocation().add(0, 1, 0),
                         2, 0.3, 0.3, 0.3, 0);
                 }
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.TALENTS, player.getUniqueId(), 0L, 1L);
 
         plugin.getActionBarManager().markInCombat(uuid);
     }
@@ -6975,8 +6979,8 @@ public class TalentListener implements Listener {
             // Retirer le glow rouge
             removeRedGlow(player);
 
-            player.getWorld().playSound(player.getLocation(), Sound.ENTITY_BLAZE_DEATH, 0.6f, 0.8f);
-            player.getWorld().spawnParticle(Particle.SMOKE, player.getLocation().add(0, 1, 0),
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, player.getLocation(), Sound.ENTITY_BLAZE_DEATH, 0.6f, 0.8f);
+            plugin.getEffectBudget().spawn(Subsystem.TALENTS, Particle.SMOKE, player.getLocation().add(0, 1, 0),
                 20, 0.5, 0.5, 0.5, 0.1);
         }
     }
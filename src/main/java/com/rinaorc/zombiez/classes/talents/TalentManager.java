@@ -3,16 +3,19 @@ package com.rinaorc.zombiez.classes.talents;
 import com.rinaorc.zombiez.ZombieZPlugin;
 import com.rinaorc.zombiez.classes.ClassData;
 import com.rinaorc.zombiez.classes.ClassType;
+import com.rinaorc.zombiez.scheduler.EffectScheduler.Subsystem;
 import lombok.Getter;
 import org.bukkit.entity.Player;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Gestionnaire central des talents
  * - Registre de tous les talents par classe
  * - Récupération des talents actifs d'un joueur
  * - Vérification des prérequis
+ * - Index des effets actifs par joueur (bitmask) et des joueurs par effet
  */
 @Getter
 public class TalentManager {
@@ -25,8 +28,52 @@ public class TalentManager {
     // Index rapide par ID
     private final Map<String, Talent> talentsById = new HashMap<>();
 
+    private static final Talent.TalentEffectType[] EFFECT_TYPES = Talent.TalentEffectType.values();
+
+    // Effets actifs par joueur, reconstruits seulement quand la sélection change
+    private final Map<UUID, EffectIndex> effectIndexes = new ConcurrentHashMap<>();
+
+    // Index inverse: effet -> joueurs en ligne qui l'ont actif
+    // Maintenu à la connexion, à la déconnexion et à chaque changement de talents/niveau/classe
+    private final Map<Talent.TalentEffectType, Set<Player>> effectHolders = new EnumMap<>(Talent.TalentEffectType.class);
+
+    /**
+     * Effets de talent actifs d'un joueur
+     * Valide tant que la version des talents, le niveau (paliers débloqués) et la classe n'ont pas changé
+     */
+    private static final class EffectIndex {
+        final ClassData data;
+        final int talentVersion;
+        final int classLevel;
+        final ClassType classType;
+        final long[] bits = new long[(EFFECT_TYPES.length + 63) >>> 6];
+        final Talent[] byEffect = new Talent[EFFECT_TYPES.length];
+
+        EffectIndex(ClassData data) {
+            this.data = data;
+            this.talentVersion = data.getTalentVersion().get();
+            this.classLevel = data.getClassLevel().get();
+            this.classType = data.getSelectedClass();
+        }
+
+        boolean isUpToDate(ClassData current) {
+            return data == current
+                && talentVersion == current.getTalentVersion().get()
+                && classLevel == current.getClassLevel().get()
+                && classType == current.getSelectedClass();
+        }
+
+        boolean has(Talent.TalentEffectType effect) {
+            int ordinal = effect.ordinal();
+            return (bits[ordinal >>> 6] & (1L << ordinal)) != 0;
+        }
+    }
+
     public TalentManager(ZombieZPlugin plugin) {
         this.plugin = plugin;
+        for (Talent.TalentEffectType effect : EFFECT_TYPES) {
+            effectHolders.put(effect, ConcurrentHashMap.newKeySet());
+        }
         registerAllTalents();
     }
 
@@ -139,18 +186,14 @@ public class TalentManager {
      * Vérifie si un joueur a un type d'effet de talent actif
      */
     public boolean hasTalentEffect(Player player, Talent.TalentEffectType effectType) {
-        return getActiveTalents(player).stream()
-            .anyMatch(t -> t.getEffectType() == effectType);
+        return getEffectIndex(player).has(effectType);
     }
 
     /**
      * Obtient le talent actif avec un type d'effet spécifique
      */
     public Talent getActiveTalentWithEffect(Player player, Talent.TalentEffectType effectType) {
-        return getActiveTalents(player).stream()
-            .filter(t -> t.getEffectType() == effectType)
-            .findFirst()
-            .orElse(null);
+        return getEffectIndex(player).byEffect[effectType.ordinal()];
     }
 
     /**
@@ -160,6 +203,90 @@ public class TalentManager {
         return getActiveTalentWithEffect(player, effectType);
     }
 
+    // ==================== INDEX DES EFFETS ====================
+
+    /**
+     * Obtient l'index d'effets d'un joueur, reconstruit si sa sélection a changé
+     */
+    private EffectIndex getEffectIndex(Player player) {
+        ClassData data = plugin.getClassManager().getClassData(player);
+        EffectIndex index = effectIndexes.get(player.getUniqueId());
+        if (index != null && index.isUpToDate(data)) {
+            return index;
+        }
+        return rebuildEffectIndex(player, data, index);
+    }
+
+    private EffectIndex rebuildEffectIndex(Player player, ClassData data, EffectIndex previous) {
+        EffectIndex index = new EffectIndex(data);
+        if (data.hasClass()) {
+            for (Map.Entry<TalentTier, String> entry : data.getAllSelectedTalents().entrySet()) {
+                String talentId = entry.getValue();
+                Talent talent = talentsById.get(talentId);
+                if (talent == null || !data.isTalentTierUnlocked(entry.getKey()) || !data.isTalentEnabled(talentId)) {
+                    continue;
+                }
+                int ordinal = talent.getEffectType().ordinal();
+                // Même priorité que l'ancien parcours: le premier talent trouvé pour un effet l'emporte
+                if (index.byEffect[ordinal] == null) {
+                    index.byEffect[ordinal] = talent;
+                    index.bits[ordinal >>> 6] |= 1L << ordinal;
+                }
+            }
+        }
+
+        // Mettre à jour l'index inverse uniquement pour les effets qui ont changé
+        for (Talent.TalentEffectType effect : EFFECT_TYPES) {
+            boolean had = previous != null && previous.has(effect);
+            boolean has = index.has(effect);
+            if (had != has) {
+                if (has) {
+                    effectHolders.get(effect).add(player);
+                } else {
+                    effectHolders.get(effect).remove(player);
+                }
+            }
+        }
+
+        effectIndexes.put(player.getUniqueId(), index);
+        return index;
+    }
+
+    /**
+     * Obtient les joueurs en ligne qui ont un effet de talent actif
+     * Pour les tâches périodiques: évite de parcourir tous les joueurs en ligne
+     * Vue non modifiable, à parcourir sur le main thread
+     */
+    public Set<Player> getPlayersWithEffect(Talent.TalentEffectType effectType) {
+        return Collections.unmodifiableSet(effectHolders.get(effectType));
+    }
+
+    /**
+     * Vérifie si au moins un joueur en ligne a un effet de talent actif
+     */
+    public boolean isEffectActiveForAnyPlayer(Talent.TalentEffectType effectType) {
+        return !effectHolders.get(effectType).isEmpty();
+    }
+
+    /**
+     * Revalide l'index d'un joueur et sa place dans l'index inverse
+     * À appeler à la connexion et après tout changement de talents, de niveau ou de classe
+     */
+    public void refreshPlayer(Player player) {
+        getEffectIndex(player);
+    }
+
+    /**
+     * Libère l'index d'un joueur (déconnexion)
+     */
+    public void removePlayer(Player player) {
+        EffectIndex index = effectIndexes.remove(player.getUniqueId());
+        if (index == null) return;
+        for (Set<Player> holders : effectHolders.values()) {
+            holders.remove(player);
+        }
+    }
+
     /**
      * Vérifie si un joueur peut sélectionner un talent
      */
@@ -197,6 +324,8 @@ public class TalentManager {
         boolean success = data.selectTalent(talent.getTier(), talent.getId());
 
         if (success) {
+            refreshPlayer(player);
+
             // Notification (si activée)
             if (data.isTalentMessagesEnabled()) {
                 player.sendMessage("");
@@ -206,7 +335,7 @@ public class TalentManager {
             }
 
             // Effet sonore
-            player.playSound(player.getLocation(), org.bukkit.Sound.ENTITY_PLAYER_LEVELUP, 0.5f, 1.5f);
+            plugin.getEffectBudget().playSound(Subsystem.TALENTS, player, player.getLocation(), org.bukkit.Sound.ENTITY_PLAYER_LEVELUP, 0.5f, 1.5f);
 
             // === BRANCHE BÊTE: Invoquer les bêtes si talent de bête sélectionné ===
             if (talent.getId().contains("beast_") && plugin.getBeastManager() != null) {
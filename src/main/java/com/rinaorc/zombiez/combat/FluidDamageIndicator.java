@@ -46,32 +46,32 @@ public class FluidDamageIndicator {
     // ========================================================================
 
     // Durées en ticks (20 ticks = 1 seconde)
-    private static final int NORMAL_DURATION_TICKS = 22;      // 1.1s
-    private static final int CRITICAL_DURATION_TICKS = 28;    // 1.4s
-    private static final int HEAL_DURATION_TICKS = 18;        // 0.9s
-    private static final int STATUS_DURATION_TICKS = 21;      // 1.05s
-    private static final int HEADSHOT_DURATION_TICKS = 24;    // 1.2s
-    private static final int COMBO_DURATION_TICKS = 20;       // 1s
-    private static final int DANCING_SWORD_DURATION_TICKS = 18; // 0.9s
+    static final int NORMAL_DURATION_TICKS = 22;      // 1.1s
+    static final int CRITICAL_DURATION_TICKS = 28;    // 1.4s
+    static final int HEAL_DURATION_TICKS = 18;        // 0.9s
+    static final int STATUS_DURATION_TICKS = 21;      // 1.05s
+    static final int HEADSHOT_DURATION_TICKS = 24;    // 1.2s
+    static final int COMBO_DURATION_TICKS = 20;       // 1s
+    static final int DANCING_SWORD_DURATION_TICKS = 18; // 0.9s
 
     // Distances de montée (en blocs)
-    private static final float NORMAL_RISE = 1.2f;
-    private static final float HEAL_RISE = 0.5f;
-    private static final float STATUS_RISE = 0.35f;
-    private static final float HEADSHOT_RISE = 0.6f;
-    private static final float COMBO_RISE = 0.4f;
-    private static final float DANCING_SWORD_RISE = 0.9f;
+    static final float NORMAL_RISE = 1.2f;
+    static final float HEAL_RISE = 0.5f;
+    static final float STATUS_RISE = 0.35f;
+    static final float HEADSHOT_RISE = 0.6f;
+    static final float COMBO_RISE = 0.4f;
+    static final float DANCING_SWORD_RISE = 0.9f;
 
     // Échelles (+15% pour meilleure lisibilité)
-    private static final float BASE_SCALE = 1.15f;
-    private static final float CRITICAL_SCALE = 1.73f;
-    private static final float HEAL_SCALE = 1.09f;
-    private static final float STATUS_SCALE = 1.04f;
-    private static final float HEADSHOT_SCALE = 1.55f;
-    private static final float DANCING_SWORD_SCALE = 1.09f;
+    static final float BASE_SCALE = 1.15f;
+    static final float CRITICAL_SCALE = 1.73f;
+    static final float HEAL_SCALE = 1.09f;
+    static final float STATUS_SCALE = 1.04f;
+    static final float HEADSHOT_SCALE = 1.55f;
+    static final float DANCING_SWORD_SCALE = 1.09f;
 
     // View distance pour culling
-    private static final double VIEW_DISTANCE_SQUARED = 24.0 * 24.0; // 24 blocs
+    static final double VIEW_DISTANCE_SQUARED = 24.0 * 24.0; // 24 blocs
 
     // ========================================================================
     // LIMITE GLOBALE D'INDICATEURS (protection contre accumulation)
@@ -140,8 +140,7 @@ public class FluidDamageIndicator {
         Vector offset = calculateAntiStackOffset(location, viewer);
         Location spawnLoc = location.clone().add(offset.getX(), 1.3 + offset.getY(), offset.getZ());
 
-        Component text = Component.text("+" + FORMAT.format(amount) + " ", NamedTextColor.GREEN)
-            .append(Component.text("❤", NamedTextColor.RED));
+        Component text = formatHealText(amount);
 
         spawnFluidIndicator(plugin, spawnLoc, text, HEAL_SCALE, HEAL_RISE, HEAL_DURATION_TICKS, viewer, false);
     }
@@ -161,7 +160,7 @@ public class FluidDamageIndicator {
         if (location.getWorld() == null) return;
 
         Location spawnLoc = location.clone().add(0, 1.5, 0);
-        Component text = Component.text("ESQUIVE!", NamedTextColor.YELLOW, TextDecoration.BOLD, TextDecoration.ITALIC);
+        Component text = DODGE_TEXT;
 
         spawnFluidIndicator(plugin, spawnLoc, text, STATUS_SCALE, STATUS_RISE, STATUS_DURATION_TICKS, viewer, false);
     }
@@ -177,7 +176,7 @@ public class FluidDamageIndicator {
         if (location.getWorld() == null) return;
 
         Location spawnLoc = location.clone().add(0, 1.5, 0);
-        Component text = Component.text("🛡 BLOQUÉ!", TextColor.color(0x5599FF), TextDecoration.BOLD);
+        Component text = BLOCK_TEXT;
 
         spawnFluidIndicator(plugin, spawnLoc, text, STATUS_SCALE, STATUS_RISE, STATUS_DURATION_TICKS, viewer, false);
     }
@@ -193,7 +192,7 @@ public class FluidDamageIndicator {
         if (location.getWorld() == null) return;
 
         Location spawnLoc = location.clone().add(0, 1.5, 0);
-        Component text = Component.text("IMMUNISÉ", NamedTextColor.GRAY, TextDecoration.ITALIC);
+        Component text = IMMUNE_TEXT;
 
         spawnFluidIndicator(plugin, spawnLoc, text, STATUS_SCALE * 0.9f, STATUS_RISE, STATUS_DURATION_TICKS - 3, viewer, false);
     }
@@ -211,10 +210,7 @@ public class FluidDamageIndicator {
         Vector offset = calculateAntiStackOffset(location, viewer);
         Location spawnLoc = location.clone().add(offset.getX(), 1.8 + offset.getY(), offset.getZ());
 
-        String formattedDamage = FORMAT.format(damage);
-        Component text = Component.text("⊕ ", TextColor.color(0xFF6600), TextDecoration.BOLD)
-            .append(Component.text(formattedDamage, TextColor.color(0xFFAA00), TextDecoration.BOLD))
-            .append(Component.text(" ⊕", TextColor.color(0xFF6600), TextDecoration.BOLD));
+        Component text = formatHeadshotText(damage);
 
         spawnFluidIndicator(plugin, spawnLoc, text, HEADSHOT_SCALE, HEADSHOT_RISE, HEADSHOT_DURATION_TICKS, viewer, true);
     }
@@ -235,19 +231,8 @@ public class FluidDamageIndicator {
 
         Location spawnLoc = location.clone().add(0, 1.7, 0);
 
-        TextColor comboColor;
-        if (comboCount >= 50) {
-            comboColor = TextColor.color(0xFF5555);
-        } else if (comboCount >= 25) {
-            comboColor = TextColor.color(0xFFAA00);
-        } else if (comboCount >= 10) {
-            comboColor = TextColor.color(0xFFFF55);
-        } else {
-            comboColor = TextColor.color(0xAAAAAA);
-        }
-
-        Component text = Component.text(comboCount + "x COMBO!", comboColor, TextDecoration.BOLD);
-        float scale = Math.min(0.9f + comboCount * 0.025f, 1.6f);
+        Component text = formatComboText(comboCount);
+        float scale = comboScale(comboCount);
 
         spawnFluidIndicator(plugin, spawnLoc, text, scale, COMBO_RISE, COMBO_DURATION_TICKS, viewer, false);
     }
@@ -265,9 +250,7 @@ public class FluidDamageIndicator {
         Vector offset = calculateAntiStackOffset(location, viewer);
         Location spawnLoc = location.clone().add(offset.getX() + 0.3, 1.1 + offset.getY(), offset.getZ() + 0.3);
 
-        String formattedDamage = FORMAT.format(damage);
-        Component text = Component.text("⚔ ", TextColor.color(0x9932CC), TextDecoration.BOLD)
-            .append(Component.text(formattedDamage, TextColor.color(0xBA55D3), TextDecoration.BOLD));
+        Component text = formatDancingSwordText(damage);
 
         spawnFluidIndicator(plugin, spawnLoc, text, DANCING_SWORD_SCALE, DANCING_SWORD_RISE, DANCING_SWORD_DURATION_TICKS, viewer, false);
     }
@@ -404,10 +387,61 @@ public class FluidDamageIndicator {
     // UTILITAIRES
     // ========================================================================
 
+    // Textes fixes des statuts (partagés avec PacketIndicatorEngine)
+    static final Component DODGE_TEXT = Component.text("ESQUIVE!", NamedTextColor.YELLOW, TextDecoration.BOLD, TextDecoration.ITALIC);
+    static final Component BLOCK_TEXT = Component.text("🛡 BLOQUÉ!", TextColor.color(0x5599FF), TextDecoration.BOLD);
+    static final Component IMMUNE_TEXT = Component.text("IMMUNISÉ", NamedTextColor.GRAY, TextDecoration.ITALIC);
+
+    /**
+     * Formate le texte d'un soin
+     */
+    static Component formatHealText(double amount) {
+        return Component.text("+" + FORMAT.format(amount) + " ", NamedTextColor.GREEN)
+            .append(Component.text("❤", NamedTextColor.RED));
+    }
+
+    /**
+     * Formate le texte d'un headshot
+     */
+    static Component formatHeadshotText(double damage) {
+        return Component.text("⊕ ", TextColor.color(0xFF6600), TextDecoration.BOLD)
+            .append(Component.text(FORMAT.format(damage), TextColor.color(0xFFAA00), TextDecoration.BOLD))
+            .append(Component.text(" ⊕", TextColor.color(0xFF6600), TextDecoration.BOLD));
+    }
+
+    /**
+     * Formate le texte d'un combo (couleur selon le palier)
+     */
+    static Component formatComboText(int comboCount) {
+        TextColor comboColor;
+        if (comboCount >= 50) {
+            comboColor = TextColor.color(0xFF5555);
+        } else if (comboCount >= 25) {
+            comboColor = TextColor.color(0xFFAA00);
+        } else if (comboCount >= 10) {
+            comboColor = TextColor.color(0xFFFF55);
+        } else {
+            comboColor = TextColor.color(0xAAAAAA);
+        }
+        return Component.text(comboCount + "x COMBO!", comboColor, TextDecoration.BOLD);
+    }
+
+    static float comboScale(int comboCount) {
+        return Math.min(0.9f + comboCount * 0.025f, 1.6f);
+    }
+
+    /**
+     * Formate le texte des dégâts de l'Épée Dansante
+     */
+    static Component formatDancingSwordText(double damage) {
+        return Component.text("⚔ ", TextColor.color(0x9932CC), TextDecoration.BOLD)
+            .append(Component.text(FORMAT.format(damage), TextColor.color(0xBA55D3), TextDecoration.BOLD));
+    }
+
     /**
      * Formate le texte des dégâts avec couleurs adaptées
      */
-    private static Component formatDamageText(double damage, boolean critical) {
+    static Component formatDamageText(double damage, boolean critical) {
         String formatted = FORMAT.format(damage);
 
         if (critical) {
@@ -437,7 +471,7 @@ public class FluidDamageIndicator {
     /**
      * Calcule un offset anti-stack avec spirale dorée
      */
-    private static Vector calculateAntiStackOffset(Location location, Player viewer) {
+    static Vector calculateAntiStackOffset(Location location, Player viewer) {
         UUID key = viewer != null ? viewer.getUniqueId() :
                    (location.getWorld() != null ? location.getWorld().getUID() : UUID.randomUUID());
 
@@ -477,7 +511,7 @@ public class FluidDamageIndicator {
     /**
      * Trouve le joueur le plus proche
      */
-    private static Player findNearestPlayer(Location location) {
+    static Player findNearestPlayer(Location location) {
         if (location.getWorld() == null) return null;
 
         Player nearest = null;
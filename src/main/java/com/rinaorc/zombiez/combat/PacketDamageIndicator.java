@@ -7,14 +7,15 @@ import org.bukkit.entity.Player;
 /**
  * Facade pour le système d'indicateurs de dégâts.
  *
- * Délègue vers FluidDamageIndicator qui utilise une approche "Fire & Forget" :
- * - 2-3 packets seulement au lieu de 20-30 par indicateur
- * - Animation 100% client-side via interpolation native (60Hz+)
- * - Charge serveur minimale, idéal pour 200 joueurs
+ * Délègue vers PacketIndicatorEngine si ProtocolLib est présent :
+ * - Aucune entité serveur, TextDisplays virtuels par joueur
+ * - IDs recyclés, un seul bundle de paquets par joueur et par tick
+ * - Coups rapprochés sur la même cible fusionnés
  *
- * Fallback vers TextDisplayDamageIndicator en cas de besoin.
+ * Fallback vers FluidDamageIndicator (entités TextDisplay réelles) sinon.
  *
  * @author Rinaorc Studio
+ * @see PacketIndicatorEngine
  * @see FluidDamageIndicator
  */
 public class PacketDamageIndicator {
@@ -27,10 +28,19 @@ public class PacketDamageIndicator {
         return true;
     }
 
+    private static PacketIndicatorEngine engine(ZombieZPlugin plugin) {
+        return plugin.getDamageIndicatorEngine();
+    }
+
     /**
      * Affiche un indicateur de dégâts ultra-fluide
      */
     public static void display(ZombieZPlugin plugin, Location location, double damage, boolean critical, Player viewer) {
+        PacketIndicatorEngine engine = engine(plugin);
+        if (engine != null) {
+            engine.display(location, damage, critical, viewer);
+            return;
+        }
         FluidDamageIndicator.display(plugin, location, damage, critical, viewer);
     }
 
@@ -38,6 +48,11 @@ public class PacketDamageIndicator {
      * Version legacy compatible
      */
     public static void display(ZombieZPlugin plugin, Location location, double damage, boolean critical) {
+        PacketIndicatorEngine engine = engine(plugin);
+        if (engine != null) {
+            engine.display(location, damage, critical, null);
+            return;
+        }
         FluidDamageIndicator.display(plugin, location, damage, critical);
     }
 
@@ -45,10 +60,20 @@ public class PacketDamageIndicator {
      * Affiche un indicateur de soin
      */
     public static void displayHeal(ZombieZPlugin plugin, Location location, double amount, Player viewer) {
+        PacketIndicatorEngine engine = engine(plugin);
+        if (engine != null) {
+            engine.displayHeal(location, amount, viewer);
+            return;
+        }
         FluidDamageIndicator.displayHeal(plugin, location, amount, viewer);
     }
 
     public static void displayHeal(ZombieZPlugin plugin, Location location, double amount) {
+        PacketIndicatorEngine engine = engine(plugin);
+        if (engine != null) {
+            engine.displayHeal(location, amount, null);
+            return;
+        }
         FluidDamageIndicator.displayHeal(plugin, location, amount);
     }
 
@@ -56,10 +81,20 @@ public class PacketDamageIndicator {
      * Affiche un indicateur d'esquive
      */
     public static void displayDodge(ZombieZPlugin plugin, Location location, Player viewer) {
+        PacketIndicatorEngine engine = engine(plugin);
+        if (engine != null) {
+            engine.displayStatus(location, FluidDamageIndicator.DODGE_TEXT, FluidDamageIndicator.STATUS_SCALE, FluidDamageIndicator.STATUS_DURATION_TICKS, viewer);
+            return;
+        }
         FluidDamageIndicator.displayDodge(plugin, location, viewer);
     }
 
     public static void displayDodge(ZombieZPlugin plugin, Location location) {
+        PacketIndicatorEngine engine = engine(plugin);
+        if (engine != null) {
+            engine.displayStatus(location, FluidDamageIndicator.DODGE_TEXT, FluidDamageIndicator.STATUS_SCALE, FluidDamageIndicator.STATUS_DURATION_TICKS, null);
+            return;
+        }
         FluidDamageIndicator.displayDodge(plugin, location);
     }
 
@@ -67,10 +102,20 @@ public class PacketDamageIndicator {
      * Affiche un indicateur de headshot
      */
     public static void displayHeadshot(ZombieZPlugin plugin, Location location, double damage, Player viewer) {
+        PacketIndicatorEngine engine = engine(plugin);
+        if (engine != null) {
+            engine.displayHeadshot(location, damage, viewer);
+            return;
+        }
         FluidDamageIndicator.displayHeadshot(plugin, location, damage, viewer);
     }
 
     public static void displayHeadshot(ZombieZPlugin plugin, Location location, double damage) {
+        PacketIndicatorEngine engine = engine(plugin);
+        if (engine != null) {
+            engine.displayHeadshot(location, damage, null);
+            return;
+        }
         FluidDamageIndicator.displayHeadshot(plugin, location, damage);
     }
 
@@ -78,10 +123,20 @@ public class PacketDamageIndicator {
      * Affiche un indicateur de bloc
      */
     public static void displayBlock(ZombieZPlugin plugin, Location location, Player viewer) {
+        PacketIndicatorEngine engine = engine(plugin);
+        if (engine != null) {
+            engine.displayStatus(location, FluidDamageIndicator.BLOCK_TEXT, FluidDamageIndicator.STATUS_SCALE, FluidDamageIndicator.STATUS_DURATION_TICKS, viewer);
+            return;
+        }
         FluidDamageIndicator.displayBlock(plugin, location, viewer);
     }
 
     public static void displayBlock(ZombieZPlugin plugin, Location location) {
+        PacketIndicatorEngine engine = engine(plugin);
+        if (engine != null) {
+            engine.displayStatus(location, FluidDamageIndicator.BLOCK_TEXT, FluidDamageIndicator.STATUS_SCALE, FluidDamageIndicator.STATUS_DURATION_TICKS, null);
+            return;
+        }
         FluidDamageIndicator.displayBlock(plugin, location);
     }
 
@@ -89,6 +144,11 @@ public class PacketDamageIndicator {
      * Affiche un indicateur d'immunité
      */
     public static void displayImmune(ZombieZPlugin plugin, Location location, Player viewer) {
+        PacketIndicatorEngine engine = engine(plugin);
+        if (engine != null) {
+            engine.displayStatus(location, FluidDamageIndicator.IMMUNE_TEXT, FluidDamageIndicator.STATUS_SCALE * 0.9f, FluidDamageIndicator.STATUS_DURATION_TICKS - 3, viewer);
+            return;
+        }
         FluidDamageIndicator.displayImmune(plugin, location, viewer);
     }
 
@@ -96,6 +156,11 @@ public class PacketDamageIndicator {
      * Affiche un indicateur de combo
      */
     public static void displayCombo(ZombieZPlugin plugin, Location location, int comboCount, Player viewer) {
+        PacketIndicatorEngine engine = engine(plugin);
+        if (engine != null) {
+            engine.displayCombo(location, comboCount, viewer);
+            return;
+        }
         FluidDamageIndicator.displayCombo(plugin, location, comboCount, viewer);
     }
 
@@ -103,6 +168,11 @@ public class PacketDamageIndicator {
      * Affiche un indicateur de dégâts pour l'Épée Dansante (couleur violette spéciale)
      */
     public static void displayDancingSword(ZombieZPlugin plugin, Location location, double damage, Player viewer) {
+        PacketIndicatorEngine engine = engine(plugin);
+        if (engine != null) {
+            engine.displayDancingSword(location, damage, viewer);
+            return;
+        }
         FluidDamageIndicator.displayDancingSword(plugin, location, damage, viewer);
     }
 
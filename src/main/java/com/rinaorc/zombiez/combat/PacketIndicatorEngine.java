@@ -0,0 +1,561 @@
+package com.rinaorc.zombiez.combat;
+
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.ProtocolLibrary;
+import com.comphenix.protocol.ProtocolManager;
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.wrappers.WrappedChatComponent;
+import com.comphenix.protocol.wrappers.WrappedDataValue;
+import com.comphenix.protocol.wrappers.WrappedDataWatcher;
+import com.rinaorc.zombiez.ZombieZPlugin;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.util.Vector;
+import org.joml.Vector3f;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Level;
+
+/**
+ * Moteur d'indicateurs de dégâts 100% virtuels (ProtocolLib)
+ *
+ * Aucune entité serveur: chaque indicateur est un TextDisplay côté client uniquement,
+ * envoyé au seul joueur concerné.
+ * - IDs d'entités client tirés d'un pool recyclé
+ * - Montée/pop animés par l'interpolation native du client (3 paquets de métadonnées par indicateur)
+ * - Tous les paquets d'un joueur pour un tick regroupés dans un seul bundle
+ * - Limite par joueur: le plus ancien indicateur est retiré au-delà
+ * - Fusion des coups rapprochés sur la même cible: le chiffre existant est mis à jour
+ *
+ * Main thread uniquement (les appels hors main thread sont redirigés).
+ */
+public class PacketIndicatorEngine implements Listener {
+
+    // Plage d'IDs réservée aux entités virtuelles (loin des IDs serveur qui partent de 1)
+    private static final int FIRST_ENTITY_ID = 1_900_000_000;
+
+    // Limite d'indicateurs simultanés par joueur
+    private static final int MAX_INDICATORS_PER_VIEWER = 12;
+
+    // Fusion: coups sur la même cible (distance²) dans cette fenêtre
+    private static final int MERGE_WINDOW_TICKS = 8;
+    private static final double MERGE_DISTANCE_SQUARED = 1.0;
+    // Prolongation max de la vie d'un indicateur fusionné
+    private static final int MERGE_EXTENSION_TICKS = 10;
+
+    private static final int POP_DURATION_TICKS = 3;
+
+    // Index des métadonnées Display/TextDisplay (1.21.4)
+    private static final int META_INTERPOLATION_DELAY = 8;
+    private static final int META_TRANSFORM_DURATION = 9;
+    private static final int META_TRANSLATION = 11;
+    private static final int META_SCALE = 12;
+    private static final int META_BILLBOARD = 15;
+    private static final int META_TEXT = 23;
+    private static final int META_BACKGROUND = 25;
+    private static final int META_TEXT_FLAGS = 27;
+
+    /**
+     * Types d'indicateurs (seuls ceux avec une valeur peuvent fusionner)
+     */
+    enum Kind {
+        DAMAGE(true),
+        CRITICAL(true),
+        HEAL(true),
+        DANCING_SWORD(true),
+        HEADSHOT(false),
+        STATUS(false),
+        COMBO(false);
+
+        final boolean mergeable;
+
+        Kind(boolean mergeable) {
+            this.mergeable = mergeable;
+        }
+    }
+
+    /**
+     * Un indicateur virtuel affiché à un joueur
+     */
+    private static final class Indicator {
+        int entityId;
+        Kind kind;
+        double anchorX, anchorY, anchorZ;
+        double value;
+        float targetScale;
+        float overshootScale;
+        float rise;
+        boolean pop;
+
+        // Chronologie: 0 = spawn (scale 0), 1 = pop, 2 = montée, 3 = fondu
+        int phase;
+        long nextEventTick;
+        long fadeTick;
+        long endTick;
+        long lastHitTick;
+    }
+
+    /**
+     * Indicateurs et paquets en attente d'un joueur
+     */
+    private static final class ViewerState {
+        final ArrayDeque<Indicator> indicators = new ArrayDeque<>();
+        final List<PacketContainer> pending = new ArrayList<>();
+        final Player player;
+
+        ViewerState(Player player) {
+            this.player = player;
+        }
+    }
+
+    private final ZombieZPlugin plugin;
+    private final ProtocolManager protocolManager;
+    private final WrappedDataWatcher.Serializer intSerializer;
+    private final WrappedDataWatcher.Serializer byteSerializer;
+    private final WrappedDataWatcher.Serializer vectorSerializer;
+    private final WrappedDataWatcher.Serializer chatSerializer;
+
+    private final Map<UUID, ViewerState> viewers = new HashMap<>();
+
+    // Pool d'IDs d'entités recyclés
+    private int[] freeIds = new int[256];
+    private int freeIdCount = 0;
+    private int nextEntityId = FIRST_ENTITY_ID;
+
+    private long currentTick = 0;
+    private final BukkitTask tickTask;
+
+    // Statistiques
+    private long spawned = 0;
+    private long merged = 0;
+    private long evicted = 0;
+
+    public PacketIndicatorEngine(ZombieZPlugin plugin) {
+        this.plugin = plugin;
+        this.protocolManager = ProtocolLibrary.getProtocolManager();
+        this.intSerializer = WrappedDataWatcher.Registry.get(Integer.class);
+        this.byteSerializer = WrappedDataWatcher.Registry.get(Byte.class);
+        this.vectorSerializer = WrappedDataWatcher.Registry.get(Vector3f.class);
+        this.chatSerializer = WrappedDataWatcher.Registry.getChatComponentSerializer(false);
+        this.tickTask = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    // ==================== API ====================
+
+    /**
+     * Indicateur de dégâts (normal ou critique)
+     */
+    public void display(Location location, double damage, boolean critical, Player viewer) {
+        Kind kind = critical ? Kind.CRITICAL : Kind.DAMAGE;
+        float scale = critical ? FluidDamageIndicator.CRITICAL_SCALE : FluidDamageIndicator.BASE_SCALE;
+        int duration = critical ? FluidDamageIndicator.CRITICAL_DURATION_TICKS : FluidDamageIndicator.NORMAL_DURATION_TICKS;
+        show(viewer, location, 1.3, true, kind, damage, scale, FluidDamageIndicator.NORMAL_RISE, duration, critical, 0, 0);
+    }
+
+    public void displayHeal(Location location, double amount, Player viewer) {
+        show(viewer, location, 1.3, true, Kind.HEAL, amount, FluidDamageIndicator.HEAL_SCALE,
+            FluidDamageIndicator.HEAL_RISE, FluidDamageIndicator.HEAL_DURATION_TICKS, false, 0, 0);
+    }
+
+    public void displayHeadshot(Location location, double damage, Player viewer) {
+        show(viewer, location, 1.8, true, Kind.HEADSHOT, damage, FluidDamageIndicator.HEADSHOT_SCALE,
+            FluidDamageIndicator.HEADSHOT_RISE, FluidDamageIndicator.HEADSHOT_DURATION_TICKS, true, 0, 0);
+    }
+
+    public void displayDancingSword(Location location, double damage, Player viewer) {
+        show(viewer, location, 1.1, true, Kind.DANCING_SWORD, damage, FluidDamageIndicator.DANCING_SWORD_SCALE,
+            FluidDamageIndicator.DANCING_SWORD_RISE, FluidDamageIndicator.DANCING_SWORD_DURATION_TICKS, false, 0.3, 0.3);
+    }
+
+    public void displayCombo(Location location, int comboCount, Player viewer) {
+        show(viewer, location, 1.7, false, Kind.COMBO, comboCount, FluidDamageIndicator.comboScale(comboCount),
+            FluidDamageIndicator.COMBO_RISE, FluidDamageIndicator.COMBO_DURATION_TICKS, false, 0, 0);
+    }
+
+    /**
+     * Indicateur de statut (esquive, bloc, immunité)
+     */
+    public void displayStatus(Location location, Component text, float scale, int duration, Player viewer) {
+        if (!Bukkit.isPrimaryThread()) {
+            Bukkit.getScheduler().runTask(plugin, () -> displayStatus(location, text, scale, duration, viewer));
+            return;
+        }
+        Player target = resolveViewer(location, viewer);
+        if (target == null) return;
+        Location spawnLoc = location.clone().add(0, 1.5, 0);
+        spawnIndicator(getState(target), spawnLoc, text, Kind.STATUS, 0, scale,
+            FluidDamageIndicator.STATUS_RISE, duration, false, location);
+    }
+
+    // ==================== CŒUR ====================
+
+    private void show(Player viewer, Location location, double height, boolean antiStack, Kind kind, double value,
+                      float scale, float rise, int duration, boolean pop, double extraX, double extraZ) {
+        if (location.getWorld() == null) return;
+        if (!Bukkit.isPrimaryThread()) {
+            Location copy = location.clone();
+            Bukkit.getScheduler().runTask(plugin, () ->
+                show(viewer, copy, height, antiStack, kind, value, scale, rise, duration, pop, extraX, extraZ));
+            return;
+        }
+
+        Player target = resolveViewer(location, viewer);
+        if (target == null) return;
+        ViewerState state = getState(target);
+
+        // Fusion avec un indicateur récent sur la même cible
+        if (kind.mergeable) {
+            Indicator existing = findMergeable(state, kind, location);
+            if (existing != null) {
+                mergeInto(state, existing, value);
+                return;
+            }
+        }
+
+        Vector offset = antiStack ? FluidDamageIndicator.calculateAntiStackOffset(location, target) : new Vector();
+        Location spawnLoc = location.clone().add(offset.getX() + extraX, height + offset.getY(), offset.getZ() + extraZ);
+        spawnIndicator(state, spawnLoc, formatText(kind, value), kind, value, scale, rise, duration, pop, location);
+    }
+
+    private Player resolveViewer(Location location, Player viewer) {
+        if (viewer == null) {
+            return FluidDamageIndicator.findNearestPlayer(location);
+        }
+        if (!viewer.isOnline() || viewer.getWorld() != location.getWorld()) return null;
+        if (viewer.getLocation().distanceSquared(location) > FluidDamageIndicator.VIEW_DISTANCE_SQUARED) return null;
+        return viewer;
+    }
+
+    private ViewerState getState(Player player) {
+        ViewerState state = viewers.get(player.getUniqueId());
+        if (state == null || state.player != player) {
+            state = new ViewerState(player);
+            viewers.put(player.getUniqueId(), state);
+        }
+        return state;
+    }
+
+    private Indicator findMergeable(ViewerState state, Kind kind, Location location) {
+        // Du plus récent au plus ancien
+        Iterator<Indicator> it = state.indicators.descendingIterator();
+        while (it.hasNext()) {
+            Indicator indicator = it.next();
+            if (currentTick - indicator.lastHitTick > MERGE_WINDOW_TICKS) break;
+            if (indicator.kind != kind || indicator.phase >= 3) continue;
+            double dx = indicator.anchorX - location.getX();
+            double dy = indicator.anchorY - location.getY();
+            double dz = indicator.anchorZ - location.getZ();
+            if (dx * dx + dy * dy + dz * dz <= MERGE_DISTANCE_SQUARED) {
+                return indicator;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Ajoute un coup à un indicateur existant: nouveau total + petit pop, durée prolongée
+     */
+    private void mergeInto(ViewerState state, Indicator indicator, double value) {
+        indicator.value += value;
+        indicator.lastHitTick = currentTick;
+        merged++;
+
+        List<WrappedDataValue> data = new ArrayList<>(5);
+        data.add(new WrappedDataValue(META_TEXT, chatSerializer, toChat(formatText(indicator.kind, indicator.value))));
+        if (indicator.phase >= 1) {
+            float pulse = indicator.overshootScale;
+            data.add(new WrappedDataValue(META_INTERPOLATION_DELAY, intSerializer, 0));
+            data.add(new WrappedDataValue(META_TRANSFORM_DURATION, intSerializer, 2));
+            data.add(new WrappedDataValue(META_SCALE, vectorSerializer, new Vector3f(pulse, pulse, pulse)));
+            // Le prochain événement ramène à l'échelle normale et reprend la montée
+            indicator.phase = 1;
+            indicator.nextEventTick = currentTick + 2;
+        }
+        state.pending.add(metadataPacket(indicator.entityId, data));
+
+        long maxEnd = indicator.endTick + MERGE_EXTENSION_TICKS;
+        indicator.fadeTick = Math.min(Math.max(indicator.fadeTick, currentTick + 8), maxEnd - 4);
+        indicator.endTick = Math.max(indicator.endTick, Math.min(currentTick + 12, maxEnd));
+    }
+
+    private void spawnIndicator(ViewerState state, Location spawnLoc, Component text, Kind kind, double value,
+                                float targetScale, float rise, int durationTicks, boolean pop, Location anchor) {
+        // Limite par joueur: retirer le plus ancien
+        while (state.indicators.size() >= MAX_INDICATORS_PER_VIEWER) {
+            Indicator oldest = state.indicators.pollFirst();
+            destroy(state, oldest);
+            evicted++;
+        }
+
+        Indicator indicator = new Indicator();
+        indicator.entityId = allocateId();
+        indicator.kind = kind;
+        indicator.anchorX = anchor.getX();
+        indicator.anchorY = anchor.getY();
+        indicator.anchorZ = anchor.getZ();
+        indicator.value = value;
+        indicator.targetScale = targetScale;
+        indicator.overshootScale = pop ? targetScale * 1.4f : targetScale * 1.25f;
+        indicator.rise = rise;
+        indicator.pop = pop;
+        indicator.phase = 0;
+        indicator.lastHitTick = currentTick;
+        // Même chronologie que FluidDamageIndicator: pop au tick suivant le spawn
+        indicator.nextEventTick = currentTick + 1;
+        int phase1Duration = (int) ((durationTicks - POP_DURATION_TICKS) * 0.68);
+        indicator.fadeTick = currentTick + 1 + POP_DURATION_TICKS + phase1Duration;
+        indicator.endTick = currentTick + durationTicks + 1;
+
+        state.pending.add(spawnPacket(indicator.entityId, spawnLoc));
+
+        List<WrappedDataValue> data = new ArrayList<>(8);
+        data.add(new WrappedDataValue(META_BILLBOARD, byteSerializer, (byte) 3)); // CENTER
+        data.add(new WrappedDataValue(META_TEXT, chatSerializer, toChat(text)));
+        data.add(new WrappedDataValue(META_BACKGROUND, intSerializer, 0));
+        data.add(new WrappedDataValue(META_TEXT_FLAGS, byteSerializer, (byte) 0x01)); // Ombre
+        data.add(new WrappedDataValue(META_INTERPOLATION_DELAY, intSerializer, -1));
+        data.add(new WrappedDataValue(META_TRANSFORM_DURATION, intSerializer, 0));
+        data.add(new WrappedDataValue(META_SCALE, vectorSerializer, new Vector3f(0, 0, 0)));
+        state.pending.add(metadataPacket(indicator.entityId, data));
+
+        state.indicators.addLast(indicator);
+        spawned++;
+    }
+
+    // ==================== TICK ====================
+
+    private void tick() {
+        currentTick++;
+        if (viewers.isEmpty()) return;
+
+        Iterator<ViewerState> viewerIt = viewers.values().iterator();
+        while (viewerIt.hasNext()) {
+            ViewerState state = viewerIt.next();
+            if (!state.player.isOnline()) {
+                releaseAll(state);
+                viewerIt.remove();
+                continue;
+            }
+
+            Iterator<Indicator> it = state.indicators.iterator();
+            while (it.hasNext()) {
+                Indicator indicator = it.next();
+                if (currentTick >= indicator.endTick) {
+                    it.remove();
+                    destroy(state, indicator);
+                } else if (currentTick >= indicator.nextEventTick) {
+                    advance(state, indicator);
+                }
+            }
+
+            flush(state);
+            if (state.indicators.isEmpty()) {
+                viewerIt.remove();
+            }
+        }
+    }
+
+    /**
+     * Passe à la phase suivante: une seule mise à jour de transformation, le client interpole
+     */
+    private void advance(ViewerState state, Indicator indicator) {
+        int duration;
+        float translationY;
+        float scale;
+
+        switch (indicator.phase) {
+            case 0 -> {
+                // Pop-in avec overshoot
+                duration = POP_DURATION_TICKS;
+                translationY = indicator.rise * 0.08f;
+                scale = indicator.overshootScale;
+                indicator.phase = 1;
+                indicator.nextEventTick = currentTick + POP_DURATION_TICKS;
+            }
+            case 1 -> {
+                // Stabilisation + montée
+                duration = (int) Math.max(1, indicator.fadeTick - currentTick);
+                translationY = indicator.rise * 0.78f;
+                scale = indicator.targetScale;
+                indicator.phase = 2;
+                indicator.nextEventTick = indicator.fadeTick;
+            }
+            case 2 -> {
+                // Fin de montée + shrink
+                duration = (int) Math.max(1, indicator.endTick - 1 - currentTick);
+                translationY = indicator.rise;
+                scale = indicator.targetScale * 0.2f;
+                indicator.phase = 3;
+                indicator.nextEventTick = Long.MAX_VALUE;
+            }
+            default -> {
+                indicator.nextEventTick = Long.MAX_VALUE;
+                return;
+            }
+        }
+
+        List<WrappedDataValue> data = new ArrayList<>(4);
+        data.add(new WrappedDataValue(META_INTERPOLATION_DELAY, intSerializer, 0));
+        data.add(new WrappedDataValue(META_TRANSFORM_DURATION, intSerializer, duration));
+        data.add(new WrappedDataValue(META_TRANSLATION, vectorSerializer, new Vector3f(0, translationY, 0)));
+        data.add(new WrappedDataValue(META_SCALE, vectorSerializer, new Vector3f(scale, scale, scale)));
+        state.pending.add(metadataPacket(indicator.entityId, data));
+    }
+
+    private void destroy(ViewerState state, Indicator indicator) {
+        PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.ENTITY_DESTROY);
+        packet.getIntLists().write(0, List.of(indicator.entityId));
+        state.pending.add(packet);
+        releaseId(indicator.entityId);
+    }
+
+    /**
+     * Envoie tous les paquets du tick d'un joueur dans un seul bundle
+     */
+    private void flush(ViewerState state) {
+        if (state.pending.isEmpty()) return;
+        try {
+            if (state.pending.size() == 1) {
+                protocolManager.sendServerPacket(state.player, state.pending.get(0));
+            } else {
+                PacketContainer bundle = new PacketContainer(PacketType.Play.Server.BUNDLE);
+                bundle.getPacketBundles().write(0, new ArrayList<>(state.pending));
+                protocolManager.sendServerPacket(state.player, bundle);
+            }
+        } catch (Exception e) {
+            plugin.log(Level.FINE, "Indicateurs: envoi impossible pour " + state.player.getName() + ": " + e.getMessage());
+        }
+        state.pending.clear();
+    }
+
+    // ==================== PAQUETS ====================
+
+    private PacketContainer spawnPacket(int entityId, Location loc) {
+        PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.SPAWN_ENTITY);
+        packet.getIntegers().write(0, entityId);
+        packet.getUUIDs().write(0, UUID.randomUUID());
+        packet.getEntityTypeModifier().write(0, EntityType.TEXT_DISPLAY);
+        packet.getDoubles().write(0, loc.getX());
+        packet.getDoubles().write(1, loc.getY());
+        packet.getDoubles().write(2, loc.getZ());
+        if (packet.getIntegers().size() > 1) {
+            packet.getIntegers().write(1, 0);
+        }
+        return packet;
+    }
+
+    private PacketContainer metadataPacket(int entityId, List<WrappedDataValue> data) {
+        PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.ENTITY_METADATA);
+        packet.getIntegers().write(0, entityId);
+        packet.getDataValueCollectionModifier().write(0, data);
+        return packet;
+    }
+
+    private static Object toChat(Component text) {
+        return WrappedChatComponent.fromJson(GsonComponentSerializer.gson().serialize(text)).getHandle();
+    }
+
+    private static Component formatText(Kind kind, double value) {
+        return switch (kind) {
+            case DAMAGE -> FluidDamageIndicator.formatDamageText(value, false);
+            case CRITICAL -> FluidDamageIndicator.formatDamageText(value, true);
+            case HEAL -> FluidDamageIndicator.formatHealText(value);
+            case DANCING_SWORD -> FluidDamageIndicator.formatDancingSwordText(value);
+            case HEADSHOT -> FluidDamageIndicator.formatHeadshotText(value);
+            case COMBO -> FluidDamageIndicator.formatComboText((int) value);
+            case STATUS -> Component.empty();
+        };
+    }
+
+    // ==================== POOL D'IDS ====================
+
+    private int allocateId() {
+        if (freeIdCount > 0) {
+            return freeIds[--freeIdCount];
+        }
+        return nextEntityId++;
+    }
+
+    private void releaseId(int entityId) {
+        if (freeIdCount == freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, freeIds.length * 2);
+        }
+        freeIds[freeIdCount++] = entityId;
+    }
+
+    /**
+     * Libère les IDs d'un joueur sans envoyer de paquets (déconnexion, changement de monde)
+     */
+    private void releaseAll(ViewerState state) {
+        for (Indicator indicator : state.indicators) {
+            releaseId(indicator.entityId);
+        }
+        state.indicators.clear();
+        state.pending.clear();
+    }
+
+    // ==================== ÉVÉNEMENTS ====================
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        ViewerState state = viewers.remove(event.getPlayer().getUniqueId());
+        if (state != null) {
+            releaseAll(state);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldChange(PlayerChangedWorldEvent event) {
+        // Le client oublie les entités de l'ancien monde
+        ViewerState state = viewers.remove(event.getPlayer().getUniqueId());
+        if (state != null) {
+            releaseAll(state);
+        }
+    }
+
+    // ==================== CYCLE DE VIE ====================
+
+    /**
+     * Arrête le moteur et retire les indicateurs encore affichés
+     */
+    public void shutdown() {
+        tickTask.cancel();
+        for (ViewerState state : viewers.values()) {
+            for (Indicator indicator : state.indicators) {
+                destroy(state, indicator);
+            }
+            state.indicators.clear();
+            flush(state);
+        }
+        viewers.clear();
+    }
+
+    /**
+     * Obtient les statistiques du moteur
+     */
+    public String getStats() {
+        int active = 0;
+        for (ViewerState state : viewers.values()) {
+            active += state.indicators.size();
+        }
+        return String.format("Actifs: %d (%d joueurs) | Créés: %d | Fusionnés: %d | Évincés: %d | IDs: %d",
+            active, viewers.size(), spawned, merged, evicted, nextEntityId - FIRST_ENTITY_ID);
+    }
+}
@@ -161,6 +161,7 @@ public class ClassAdminCommand implements CommandExecutor, TabCompleter {
         // Bypass le cooldown en forcant le changement
         data.changeClass(classType);
         data.markDirty();
+        plugin.getTalentManager().refreshPlayer(target);
 
         sender.sendMessage("§a+ Classe de " + target.getName() + " definie a " + classType.getColoredName());
         target.sendMessage("§6[Admin] §7Votre classe a ete changee en " + classType.getColoredName());
@@ -198,6 +199,7 @@ public class ClassAdminCommand implements CommandExecutor, TabCompleter {
             data.getClassLevel().set(level);
             data.getClassXp().set(0);
             data.markDirty();
+            plugin.getTalentManager().refreshPlayer(target);
 
             sender.sendMessage("§a+ Niveau de classe de " + target.getName() + " defini a §e" + level);
             target.sendMessage("§6[Admin] §7Votre niveau de classe a ete change de §c" + oldLevel + " §7a §a" + level);
@@ -296,6 +298,7 @@ public class ClassAdminCommand implements CommandExecutor, TabCompleter {
         data.getDamageDealt().set(0);
         data.getDamageReceived().set(0);
         data.markDirty();
+        plugin.getTalentManager().refreshPlayer(target);
 
         String className = oldClass != null ? oldClass.getColoredName() : "§cAucune";
         sender.sendMessage("§a+ Classe de " + target.getName() + " reinitialisee (" + className + "§a)");
@@ -327,6 +330,7 @@ public class ClassAdminCommand implements CommandExecutor, TabCompleter {
         data.getClassLevel().set(MAX_CLASS_LEVEL);
         data.getClassXp().set(0);
         data.markDirty();
+        plugin.getTalentManager().refreshPlayer(target);
 
         sender.sendMessage("§a+ " + target.getName() + " est maintenant niveau §e" + MAX_CLASS_LEVEL + "§a!");
         target.sendMessage("§6[Admin] §7Votre niveau de classe a ete change de §c" + oldLevel + " §7a §a§l" + MAX_CLASS_LEVEL + " §7(MAX)!");
@@ -376,6 +380,7 @@ public class ClassAdminCommand implements CommandExecutor, TabCompleter {
         // Forcer la selection (bypass cooldown et tier lock)
         data.selectTalent(talent.getTier(), talent.getId());
         data.markDirty();
+        plugin.getTalentManager().refreshPlayer(target);
 
         sender.sendMessage("§a+ Talent §e" + talent.getName() + "§a defini pour " + target.getName());
         target.sendMessage("§6[Admin] §7Talent §e" + talent.getColoredName() + "§7 active!");
@@ -407,6 +412,7 @@ public class ClassAdminCommand implements CommandExecutor, TabCompleter {
             data.selectTalent(tier, null);
         }
         data.markDirty();
+        plugin.getTalentManager().refreshPlayer(target);
 
         sender.sendMessage("§a+ Talents de " + target.getName() + " reinitialises!");
         target.sendMessage("§6[Admin] §7Tous vos talents ont ete reinitialises.");
@@ -437,6 +443,7 @@ public class ClassAdminCommand implements CommandExecutor, TabCompleter {
         // Mettre au niveau max pour debloquer tous les tiers
         data.getClassLevel().set(MAX_CLASS_LEVEL);
         data.markDirty();
+        plugin.getTalentManager().refreshPlayer(target);
 
         int tiersUnlocked = 0;
         for (TalentTier tier : TalentTier.values()) {
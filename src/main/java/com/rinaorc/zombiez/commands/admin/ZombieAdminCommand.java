@@ -231,6 +231,23 @@ public class ZombieAdminCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage("§7Spawn: §e" + plugin.getSpawnSystem().getStats());
         sender.sendMessage("§7Events: §e" + plugin.getHordeEventSystem().getStats());
         sender.sendMessage("§7Boss: §e" + plugin.getBossSpawnSystem().getStats());
+        sender.sendMessage("§7Effets: §e" + plugin.getEffectScheduler().getStats());
+        sender.sendMessage("§7Particules: §e" + plugin.getEffectBudget().getStats());
+        sender.sendMessage("§7Profils: §e" + plugin.getOfflineProfileService().getStats());
+        sender.sendMessage("§7Kills: §e" + plugin.getKillPipeline().getStats());
+        sender.sendMessage("§7Phasing: §e" + plugin.getJourneyPhasing().getStats());
+        if (plugin.getWeatherManager() != null) {
+            sender.sendMessage("§7Abris: §e" + plugin.getWeatherManager().getShelterCache().getStats());
+        }
+        if (plugin.getPlaceholderCache() != null) {
+            sender.sendMessage("§7Placeholders: §e" + plugin.getPlaceholderCache().getStats());
+        }
+        if (plugin.getPetManager() != null) {
+            sender.sendMessage("§7Pets: §e" + plugin.getPetManager().getDisplayManager().getStats());
+        }
+        if (plugin.getDamageIndicatorEngine() != null) {
+            sender.sendMessage("§7Indicateurs: §e" + plugin.getDamageIndicatorEngine().getStats());
+        }
         
         // Zombies par zone
         sender.sendMessage("§7Zombies par zone:");
@@ -0,0 +1,174 @@
+package com.rinaorc.zombiez.data;
+
+import com.rinaorc.zombiez.ZombieZPlugin;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+/**
+ * Exécuteur dédié aux requêtes SQL
+ *
+ * Architecture:
+ * - Pool fixe de threads dimensionné sur le pool HikariCP (pas de thread qui attend une connexion)
+ * - File de soumission bornée pour éviter qu'une rafale d'auto-save s'accumule sans limite
+ * - Politique de débordement configurable (database.executor.overflow-policy)
+ * - Compteurs de profondeur de file et de temps d'attente pour le monitoring
+ */
+public class DatabaseExecutor {
+
+    /**
+     * Politique appliquée quand la file est pleine
+     */
+    public enum OverflowPolicy {
+        // La tâche est refusée (future en échec)
+        REJECT,
+        // La tâche s'exécute sur le thread appelant, sauf s'il s'agit du main thread (refus)
+        CALLER_RUNS
+    }
+
+    private final ZombieZPlugin plugin;
+    private final ThreadPoolExecutor executor;
+
+    @Getter
+    private final OverflowPolicy overflowPolicy;
+
+    // Métriques
+    private final AtomicLong submitted = new AtomicLong(0);
+    private final AtomicLong completed = new AtomicLong(0);
+    private final AtomicLong rejected = new AtomicLong(0);
+    private final AtomicLong callerRuns = new AtomicLong(0);
+    private final AtomicLong totalWaitNanos = new AtomicLong(0);
+    private final AtomicLong maxWaitNanos = new AtomicLong(0);
+
+    public DatabaseExecutor(ZombieZPlugin plugin, int threads, int queueCapacity, OverflowPolicy overflowPolicy) {
+        this.plugin = plugin;
+        this.overflowPolicy = overflowPolicy;
+
+        AtomicInteger threadId = new AtomicInteger(0);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "ZombieZ-DB-" + threadId.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Soumet une tâche avec résultat
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> task) {
+        return submit(task);
+    }
+
+    /**
+     * Soumet une tâche sans résultat
+     */
+    public CompletableFuture<Void> run(Runnable task) {
+        return submit(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long queuedAt = System.nanoTime();
+        submitted.incrementAndGet();
+
+        Runnable wrapped = () -> {
+            recordWait(System.nanoTime() - queuedAt);
+            try {
+                future.complete(task.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            } finally {
+                completed.incrementAndGet();
+            }
+        };
+
+        try {
+            executor.execute(wrapped);
+        } catch (RejectedExecutionException e) {
+            handleOverflow(wrapped, future, e);
+        }
+        return future;
+    }
+
+    /**
+     * Applique la politique de débordement quand la file est pleine
+     */
+    private void handleOverflow(Runnable wrapped, CompletableFuture<?> future, RejectedExecutionException e) {
+        boolean canRunHere = overflowPolicy != OverflowPolicy.REJECT
+            && !executor.isShutdown()
+            && !Bukkit.isPrimaryThread();
+
+        if (canRunHere) {
+            callerRuns.incrementAndGet();
+            wrapped.run();
+            return;
+        }
+
+        rejected.incrementAndGet();
+        plugin.log(Level.WARNING, "§eFile BDD pleine (" + executor.getQueue().size() + "), requête refusée");
+        future.completeExceptionally(e);
+    }
+
+    private void recordWait(long nanos) {
+        totalWaitNanos.addAndGet(nanos);
+        maxWaitNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Profondeur actuelle de la file de soumission
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Résumé des métriques pour DatabaseManager.getPoolStats()
+     */
+    public String getStatsLine() {
+        long done = completed.get();
+        return String.format(
+            "Exécuteur: %d threads, file %d/%d, soumises: %d, terminées: %d, refusées: %d, caller-runs: %d, attente moy: %.2fms, max: %.2fms (%s)",
+            executor.getPoolSize(),
+            getQueueDepth(),
+            getQueueDepth() + executor.getQueue().remainingCapacity(),
+            submitted.get(),
+            done,
+            rejected.get(),
+            callerRuns.get(),
+            done > 0 ? totalWaitNanos.get() / (double) done / 1_000_000.0 : 0.0,
+            maxWaitNanos.get() / 1_000_000.0,
+            overflowPolicy
+        );
+    }
+
+    /**
+     * Termine les tâches en cours puis arrête les threads
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                plugin.log(Level.WARNING, "§eRequêtes BDD encore en cours, arrêt forcé");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+}
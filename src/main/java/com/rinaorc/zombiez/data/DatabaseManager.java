@@ -16,6 +16,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 /**
@@ -35,6 +36,12 @@ public class DatabaseManager {
     
     private String tablePrefix;
 
+    // Exécuteur dédié aux requêtes SQL (au lieu du ForkJoin commun)
+    private DatabaseExecutor executor;
+
+    // File write-behind des joueurs (métriques exposées dans getPoolStats)
+    private PlayerSaveQueue saveQueue;
+
     public enum DatabaseType {
         MYSQL,
         SQLITE
@@ -58,6 +65,8 @@ public class DatabaseManager {
         }
 
         tablePrefix = config.getString("database.table-prefix", "zombiez_");
+
+        initializeExecutor(config);
         
         // Test de connexion
         try (Connection conn = getConnection()) {
@@ -112,6 +121,26 @@ public class DatabaseManager {
         dataSource = new HikariDataSource(hikariConfig);
     }
 
+    /**
+     * Initialise l'exécuteur SQL dédié
+     * Un thread par connexion du pool: au-delà, les threads attendraient une connexion
+     */
+    private void initializeExecutor(FileConfiguration config) {
+        int threads = config.getInt("database.executor.threads", dataSource.getMaximumPoolSize());
+        int queueCapacity = config.getInt("database.executor.queue-capacity", 1000);
+
+        DatabaseExecutor.OverflowPolicy policy;
+        try {
+            policy = DatabaseExecutor.OverflowPolicy.valueOf(
+                config.getString("database.executor.overflow-policy", "CALLER_RUNS").toUpperCase());
+        } catch (IllegalArgumentException e) {
+            plugin.log(Level.WARNING, "§eoverflow-policy invalide, utilisation de CALLER_RUNS");
+            policy = DatabaseExecutor.OverflowPolicy.CALLER_RUNS;
+        }
+
+        executor = new DatabaseExecutor(plugin, Math.max(1, threads), Math.max(1, queueCapacity), policy);
+    }
+
     /**
      * Configure le pool de connexions pour haute charge
      */
@@ -395,7 +424,8 @@ public class DatabaseManager {
                     total_playtime_as_class BIGINT DEFAULT 0,
                     last_class_change BIGINT DEFAULT 0,
                     last_branch_change BIGINT DEFAULT 0,
-                    talent_messages_enabled BOOLEAN DEFAULT TRUE
+                    talent_messages_enabled BOOLEAN DEFAULT TRUE,
+                    reduced_effects BOOLEAN DEFAULT FALSE
                 )
                 """.formatted(tablePrefix))) {
                 stmt.executeUpdate();
@@ -403,6 +433,7 @@ public class DatabaseManager {
 
             // Migration: ajouter les colonnes manquantes pour les bases existantes
             migratePlayersTable(conn, isMySQL);
+            migrateClassDataTable(conn, isMySQL);
 
             plugin.log(Level.INFO, "§a✓ Tables créées/vérifiées (" + databaseType + ")");
 
@@ -426,9 +457,29 @@ public class DatabaseManager {
             "journey_completed_steps TEXT",
             "journey_completed_chapters TEXT",
             "journey_unlocked_gates TEXT",
-            "journey_step_progress TEXT"
+            "journey_step_progress TEXT",
+            // Exploration des zones (bitmaps binaires en Base64)
+            "explored_chunks TEXT"
+        };
+
+        addMissingColumns(conn, isMySQL, "players", columnsToAdd);
+    }
+
+    /**
+     * Migre la table class_data pour ajouter les nouvelles préférences si nécessaires
+     */
+    private void migrateClassDataTable(Connection conn, boolean isMySQL) {
+        String[] columnsToAdd = {
+            "reduced_effects BOOLEAN DEFAULT FALSE"
         };
 
+        addMissingColumns(conn, isMySQL, "class_data", columnsToAdd);
+    }
+
+    /**
+     * Ajoute à une table les colonnes qui n'existent pas encore
+     */
+    private void addMissingColumns(Connection conn, boolean isMySQL, String table, String[] columnsToAdd) {
         for (String columnDef : columnsToAdd) {
             String columnName = columnDef.split(" ")[0];
             try {
@@ -445,7 +496,7 @@ public class DatabaseManager {
 
                 if (isMySQL) {
                     try (PreparedStatement stmt = conn.prepareStatement(checkSql)) {
-                        stmt.setString(1, tablePrefix + "players");
+                        stmt.setString(1, tablePrefix + table);
                         stmt.setString(2, columnName);
                         ResultSet rs = stmt.executeQuery();
                         if (rs.next()) {
@@ -455,7 +506,7 @@ public class DatabaseManager {
                 } else {
                     // SQLite - essayer de sélectionner la colonne
                     try (PreparedStatement stmt = conn.prepareStatement(
-                        "SELECT " + columnName + " FROM " + tablePrefix + "players LIMIT 1")) {
+                        "SELECT " + columnName + " FROM " + tablePrefix + table + " LIMIT 1")) {
                         stmt.executeQuery();
                         columnExists = true;
                     } catch (SQLException e) {
@@ -464,10 +515,10 @@ public class DatabaseManager {
                 }
 
                 if (!columnExists) {
-                    String alterSql = "ALTER TABLE " + tablePrefix + "players ADD COLUMN " + columnDef;
+                    String alterSql = "ALTER TABLE " + tablePrefix + table + " ADD COLUMN " + columnDef;
                     try (PreparedStatement stmt = conn.prepareStatement(alterSql)) {
                         stmt.executeUpdate();
-                        plugin.log(Level.INFO, "§a✓ Colonne " + columnName + " ajoutée à la table players");
+                        plugin.log(Level.INFO, "§a✓ Colonne " + columnName + " ajoutée à la table " + table);
                     }
                 }
             } catch (SQLException e) {
@@ -480,14 +531,21 @@ public class DatabaseManager {
      * Exécute une requête de manière asynchrone
      */
     public CompletableFuture<Void> executeAsync(Runnable task) {
-        return CompletableFuture.runAsync(task);
+        return executor.run(task);
+    }
+
+    /**
+     * Exécute une tâche avec résultat sur l'exécuteur BDD
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        return executor.supply(task);
     }
 
     /**
      * Exécute une requête avec résultat de manière asynchrone
      */
     public <T> CompletableFuture<T> queryAsync(Function<Connection, T> task) {
-        return CompletableFuture.supplyAsync(() -> {
+        return executor.supply(() -> {
             try (Connection conn = getConnection()) {
                 return task.apply(conn);
             } catch (SQLException e) {
@@ -501,7 +559,7 @@ public class DatabaseManager {
      * Exécute une mise à jour de manière asynchrone
      */
     public CompletableFuture<Integer> updateAsync(String sql, Object... params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return executor.supply(() -> {
             try (Connection conn = getConnection();
                  PreparedStatement stmt = conn.prepareStatement(sql)) {
                 
@@ -521,7 +579,7 @@ public class DatabaseManager {
      * Exécute une requête SELECT de manière asynchrone
      */
     public CompletableFuture<Void> selectAsync(String sql, Consumer<ResultSet> consumer, Object... params) {
-        return CompletableFuture.runAsync(() -> {
+        return executor.run(() -> {
             try (Connection conn = getConnection();
                  PreparedStatement stmt = conn.prepareStatement(sql)) {
                 
@@ -543,7 +601,7 @@ public class DatabaseManager {
      * Batch insert optimisé pour insertions massives
      */
     public CompletableFuture<int[]> batchInsertAsync(String sql, Consumer<PreparedStatement> batcher) {
-        return CompletableFuture.supplyAsync(() -> {
+        return executor.supply(() -> {
             try (Connection conn = getConnection()) {
                 conn.setAutoCommit(false);
                 try (PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -582,6 +640,9 @@ public class DatabaseManager {
      * Ferme proprement le pool de connexions
      */
     public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
         if (dataSource != null && !dataSource.isClosed()) {
             dataSource.close();
             plugin.log(Level.INFO, "§a✓ Pool de connexions fermé");
@@ -595,17 +656,31 @@ public class DatabaseManager {
         return dataSource != null && !dataSource.isClosed();
     }
 
+    /**
+     * Enregistre la file write-behind pour le monitoring
+     */
+    public void attachSaveQueue(PlayerSaveQueue saveQueue) {
+        this.saveQueue = saveQueue;
+    }
+
     /**
      * Obtient des statistiques sur le pool
      */
     public String getPoolStats() {
         if (dataSource == null) return "Pool non initialisé";
-        return String.format(
+        String stats = String.format(
             "Actives: %d, Idle: %d, Total: %d, En attente: %d",
             dataSource.getHikariPoolMXBean().getActiveConnections(),
             dataSource.getHikariPoolMXBean().getIdleConnections(),
             dataSource.getHikariPoolMXBean().getTotalConnections(),
             dataSource.getHikariPoolMXBean().getThreadsAwaitingConnection()
         );
+        if (executor != null) {
+            stats += " | " + executor.getStatsLine();
+        }
+        if (saveQueue != null) {
+            stats += " | " + saveQueue.getStatsLine();
+        }
+        return stats;
     }
 }
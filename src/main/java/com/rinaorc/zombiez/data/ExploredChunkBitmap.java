@@ -0,0 +1,198 @@
+package com.rinaorc.zombiez.data;
+
+import com.rinaorc.zombiez.zones.Zone;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Chunks explorés d'une zone, stockés en bitmap relatif aux limites de la zone
+ *
+ * Un bit par chunk (index = offsetZ * largeur + offsetX) au lieu d'un Long boxé
+ * dans un Set concurrent: ~1 bit contre ~80 octets par chunk exploré.
+ * Le compteur est maintenu à chaque ajout pour un nombre de chunks explorés en O(1).
+ */
+public class ExploredChunkBitmap {
+
+    // Version du format binaire (pour les futures évolutions)
+    private static final byte FORMAT_VERSION = 1;
+
+    private int minChunkX;
+    private int minChunkZ;
+    private int width;
+    private int height;
+    private BitSet bits;
+    private int count;
+
+    public ExploredChunkBitmap(int minChunkX, int minChunkZ, int width, int height) {
+        this.minChunkX = minChunkX;
+        this.minChunkZ = minChunkZ;
+        this.width = Math.max(1, width);
+        this.height = Math.max(1, height);
+        this.bits = new BitSet(this.width * this.height);
+        this.count = 0;
+    }
+
+    /**
+     * Crée un bitmap couvrant les limites d'une zone
+     */
+    public static ExploredChunkBitmap forZone(Zone zone) {
+        return new ExploredChunkBitmap(
+            zone.getMinChunkX(),
+            zone.getMinChunkZ(),
+            zone.getMaxChunkX() - zone.getMinChunkX() + 1,
+            zone.getMaxChunkZ() - zone.getMinChunkZ() + 1
+        );
+    }
+
+    /**
+     * Marque un chunk comme exploré
+     * @return true si le chunk n'était pas encore exploré
+     */
+    public synchronized boolean mark(int chunkX, int chunkZ) {
+        int dx = chunkX - minChunkX;
+        int dz = chunkZ - minChunkZ;
+        if (dx < 0 || dz < 0 || dx >= width || dz >= height) {
+            return false;
+        }
+
+        int index = dz * width + dx;
+        if (bits.get(index)) {
+            return false;
+        }
+        bits.set(index);
+        count++;
+        return true;
+    }
+
+    /**
+     * Vérifie si un chunk est exploré
+     */
+    public synchronized boolean isExplored(int chunkX, int chunkZ) {
+        int dx = chunkX - minChunkX;
+        int dz = chunkZ - minChunkZ;
+        if (dx < 0 || dz < 0 || dx >= width || dz >= height) {
+            return false;
+        }
+        return bits.get(dz * width + dx);
+    }
+
+    /**
+     * Nombre de chunks explorés (O(1))
+     */
+    public synchronized int getCount() {
+        return count;
+    }
+
+    /**
+     * Vérifie si le bitmap correspond aux limites actuelles de la zone
+     */
+    public synchronized boolean matches(Zone zone) {
+        return minChunkX == zone.getMinChunkX()
+            && minChunkZ == zone.getMinChunkZ()
+            && width == zone.getMaxChunkX() - zone.getMinChunkX() + 1
+            && height == zone.getMaxChunkZ() - zone.getMinChunkZ() + 1;
+    }
+
+    /**
+     * Recale le bitmap sur de nouvelles limites (zones rechargées avec d'autres bornes)
+     * Les chunks hors des nouvelles limites sont perdus
+     */
+    public synchronized void rebase(Zone zone) {
+        ExploredChunkBitmap target = forZone(zone);
+        for (int index = bits.nextSetBit(0); index >= 0; index = bits.nextSetBit(index + 1)) {
+            target.mark(minChunkX + index % width, minChunkZ + index / width);
+        }
+
+        this.minChunkX = target.minChunkX;
+        this.minChunkZ = target.minChunkZ;
+        this.width = target.width;
+        this.height = target.height;
+        this.bits = target.bits;
+        this.count = target.count;
+    }
+
+    /**
+     * Efface tous les chunks explorés
+     */
+    public synchronized void clear() {
+        bits.clear();
+        count = 0;
+    }
+
+    // ==================== SÉRIALISATION ====================
+
+    private synchronized void write(DataOutputStream out) throws IOException {
+        byte[] raw = bits.toByteArray(); // Octets de fin à zéro déjà retirés
+        out.writeInt(minChunkX);
+        out.writeInt(minChunkZ);
+        out.writeInt(width);
+        out.writeInt(height);
+        out.writeInt(raw.length);
+        out.write(raw);
+    }
+
+    private static ExploredChunkBitmap read(DataInputStream in) throws IOException {
+        ExploredChunkBitmap bitmap = new ExploredChunkBitmap(in.readInt(), in.readInt(), in.readInt(), in.readInt());
+        byte[] raw = new byte[in.readInt()];
+        in.readFully(raw);
+        bitmap.bits = BitSet.valueOf(raw);
+        bitmap.count = bitmap.bits.cardinality();
+        return bitmap;
+    }
+
+    /**
+     * Encode les bitmaps de toutes les zones en Base64 (colonne explored_chunks)
+     * Format: [version:1][nbZones:4] puis pour chaque zone
+     * [zoneId:4][minChunkX:4][minChunkZ:4][largeur:4][hauteur:4][taille:4][bits]
+     */
+    public static String encode(Map<Integer, ExploredChunkBitmap> zones) {
+        if (zones.isEmpty()) return "";
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(FORMAT_VERSION);
+            out.writeInt(zones.size());
+            for (Map.Entry<Integer, ExploredChunkBitmap> entry : zones.entrySet()) {
+                out.writeInt(entry.getKey());
+                entry.getValue().write(out);
+            }
+            out.flush();
+            return Base64.getEncoder().encodeToString(bytes.toByteArray());
+        } catch (IOException e) {
+            // Impossible avec un ByteArrayOutputStream
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Décode les bitmaps depuis la colonne explored_chunks
+     * Retourne une map vide si la donnée est absente ou corrompue
+     */
+    public static Map<Integer, ExploredChunkBitmap> decode(String encoded) {
+        Map<Integer, ExploredChunkBitmap> zones = new HashMap<>();
+        if (encoded == null || encoded.isEmpty()) return zones;
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(encoded)))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) return zones;
+
+            int zoneCount = in.readInt();
+            for (int i = 0; i < zoneCount; i++) {
+                int zoneId = in.readInt();
+                zones.put(zoneId, read(in));
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            zones.clear();
+        }
+        return zones;
+    }
+}
@@ -0,0 +1,80 @@
+package com.rinaorc.zombiez.data;
+
+import lombok.Getter;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Profil en lecture seule d'un joueur (en ligne ou non)
+ * Snapshot des colonnes principales de la table players, pour les GUIs et placeholders
+ */
+@Getter
+public class OfflineProfile {
+
+    // Colonnes chargées (partagées par les requêtes unitaires et groupées)
+    static final String COLUMNS =
+        "uuid, name, level, prestige, points, kills, deaths, playtime, max_zone, boss_kills, best_kill_streak, vip_rank, last_login";
+
+    private final UUID uuid;
+    private final String name;
+    private final int level;
+    private final int prestige;
+    private final long points;
+    private final long kills;
+    private final long deaths;
+    private final long playtime; // En secondes
+    private final int maxZone;
+    private final long bossKills;
+    private final int bestKillStreak;
+    private final String vipRank;
+    private final Instant lastLogin;
+    private final boolean live; // Construit depuis les données d'un joueur connecté
+
+    private OfflineProfile(UUID uuid, String name, int level, int prestige, long points, long kills, long deaths,
+                           long playtime, int maxZone, long bossKills, int bestKillStreak, String vipRank,
+                           Instant lastLogin, boolean live) {
+        this.uuid = uuid;
+        this.name = name;
+        this.level = level;
+        this.prestige = prestige;
+        this.points = points;
+        this.kills = kills;
+        this.deaths = deaths;
+        this.playtime = playtime;
+        this.maxZone = maxZone;
+        this.bossKills = bossKills;
+        this.bestKillStreak = bestKillStreak;
+        this.vipRank = vipRank;
+        this.lastLogin = lastLogin;
+        this.live = live;
+    }
+
+    /**
+     * Profil d'un joueur connecté (données en mémoire)
+     */
+    static OfflineProfile of(PlayerData data) {
+        return new OfflineProfile(data.getUuid(), data.getName(), data.getLevel().get(), data.getPrestige().get(),
+            data.getPoints().get(), data.getKills().get(), data.getDeaths().get(), data.getPlaytime().get(),
+            data.getMaxZone().get(), data.getBossKills().get(), data.getBestKillStreak().get(), data.getVipRank(),
+            data.getLastLogin(), true);
+    }
+
+    /**
+     * Profil depuis une ligne de la table players (colonnes {@link #COLUMNS})
+     */
+    static OfflineProfile of(ResultSet rs) throws SQLException {
+        Timestamp lastLogin = rs.getTimestamp("last_login");
+        return new OfflineProfile(UUID.fromString(rs.getString("uuid")), rs.getString("name"), rs.getInt("level"),
+            rs.getInt("prestige"), rs.getLong("points"), rs.getLong("kills"), rs.getLong("deaths"),
+            rs.getLong("playtime"), rs.getInt("max_zone"), rs.getLong("boss_kills"), rs.getInt("best_kill_streak"),
+            rs.getString("vip_rank"), lastLogin != null ? lastLogin.toInstant() : null, false);
+    }
+
+    public double getKDRatio() {
+        return deaths == 0 ? kills : (double) kills / deaths;
+    }
+}
@@ -0,0 +1,232 @@
+package com.rinaorc.zombiez.data;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.rinaorc.zombiez.ZombieZPlugin;
+import com.rinaorc.zombiez.api.events.PlayerDataSaveEvent;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+/**
+ * Service de profils joueurs en lecture seule (joueurs hors ligne inclus)
+ *
+ * - Joueurs connectés: profil construit depuis PlayerData (jamais de requête)
+ * - Hors ligne: cache Caffeine borné, les requêtes simultanées pour un même UUID
+ *   partagent la même future (une seule requête)
+ * - Chargement groupé: une page de GUI = une requête WHERE uuid IN (...)
+ * - UUIDs inconnus en base mémorisés (cache négatif court): pas de requête à chaque affichage
+ */
+public class OfflineProfileService implements Listener {
+
+    private static final int MAX_CACHED_PROFILES = 2000;
+    private static final long CACHE_DURATION_MINUTES = 5;
+    private static final long UNKNOWN_DURATION_MINUTES = 1;
+
+    // Nombre max d'UUIDs par requête IN (...)
+    private static final int MAX_IN_CLAUSE = 100;
+
+    private final ZombieZPlugin plugin;
+    private final AsyncCache<UUID, OfflineProfile> cache;
+
+    // UUIDs sans ligne en base (Caffeine ne met pas en cache les valeurs nulles)
+    private final Cache<UUID, Boolean> unknownProfiles;
+
+    // Métriques
+    private final AtomicLong queries = new AtomicLong(0);
+    private final AtomicLong rowsLoaded = new AtomicLong(0);
+
+    public OfflineProfileService(ZombieZPlugin plugin) {
+        this.plugin = plugin;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_PROFILES)
+            .expireAfterWrite(CACHE_DURATION_MINUTES, TimeUnit.MINUTES)
+            .recordStats()
+            .buildAsync();
+        this.unknownProfiles = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_PROFILES)
+            .expireAfterWrite(UNKNOWN_DURATION_MINUTES, TimeUnit.MINUTES)
+            .build();
+    }
+
+    // ==================== LECTURE ====================
+
+    /**
+     * Obtient le profil d'un joueur (complété avec null s'il n'existe pas)
+     */
+    public CompletableFuture<OfflineProfile> getProfile(UUID uuid) {
+        PlayerData data = plugin.getPlayerDataManager().getPlayerData(uuid);
+        if (data != null) {
+            return CompletableFuture.completedFuture(OfflineProfile.of(data));
+        }
+        if (isUnknown(uuid)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return cache.get(uuid, (key, executor) ->
+            plugin.getDatabaseManager().supplyAsync(() -> loadProfiles(List.of(key)).get(key)));
+    }
+
+    /**
+     * Obtient plusieurs profils en une seule requête pour les joueurs absents du cache
+     * Les joueurs inconnus sont absents de la map
+     */
+    public CompletableFuture<Map<UUID, OfflineProfile>> getProfiles(Collection<UUID> uuids) {
+        Map<UUID, OfflineProfile> live = new HashMap<>();
+        Set<UUID> offline = new LinkedHashSet<>();
+
+        for (UUID uuid : uuids) {
+            PlayerData data = plugin.getPlayerDataManager().getPlayerData(uuid);
+            if (data != null) {
+                live.put(uuid, OfflineProfile.of(data));
+            } else if (!isUnknown(uuid)) {
+                offline.add(uuid);
+            }
+        }
+
+        if (offline.isEmpty()) {
+            return CompletableFuture.completedFuture(live);
+        }
+
+        return cache.getAll(offline, (keys, executor) ->
+                plugin.getDatabaseManager().supplyAsync(() -> loadProfiles(keys)))
+            .thenApply(loaded -> {
+                Map<UUID, OfflineProfile> result = new HashMap<>(loaded);
+                result.putAll(live);
+                return result;
+            });
+    }
+
+    /**
+     * Profil disponible immédiatement, sans bloquer
+     * Si le profil n'est pas encore chargé, lance le chargement et retourne null
+     */
+    public OfflineProfile getIfReady(UUID uuid) {
+        PlayerData data = plugin.getPlayerDataManager().getPlayerData(uuid);
+        if (data != null) {
+            return OfflineProfile.of(data);
+        }
+
+        CompletableFuture<OfflineProfile> future = cache.getIfPresent(uuid);
+        if (future == null) {
+            getProfile(uuid);
+            return null;
+        }
+        return future.isDone() && !future.isCompletedExceptionally() ? future.getNow(null) : null;
+    }
+
+    /**
+     * Vérifie si un UUID a été cherché récemment sans être trouvé en base
+     */
+    public boolean isUnknown(UUID uuid) {
+        return unknownProfiles.getIfPresent(uuid) != null;
+    }
+
+    /**
+     * Retire un profil du cache (données modifiées en base)
+     */
+    public void invalidate(UUID uuid) {
+        cache.synchronous().invalidate(uuid);
+        unknownProfiles.invalidate(uuid);
+    }
+
+    // ==================== CHARGEMENT ====================
+
+    /**
+     * Charge des profils depuis la base, par tranches de MAX_IN_CLAUSE
+     */
+    private Map<UUID, OfflineProfile> loadProfiles(Collection<? extends UUID> uuids) {
+        Map<UUID, OfflineProfile> result = new HashMap<>();
+        List<UUID> all = new ArrayList<>(uuids);
+
+        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
+            for (int from = 0; from < all.size(); from += MAX_IN_CLAUSE) {
+                List<UUID> chunk = all.subList(from, Math.min(from + MAX_IN_CLAUSE, all.size()));
+
+                String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+                String sql = "SELECT " + OfflineProfile.COLUMNS + " FROM " + plugin.getDatabaseManager().table("players")
+                    + " WHERE uuid IN (" + placeholders + ")";
+
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        stmt.setString(i + 1, chunk.get(i).toString());
+                    }
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            OfflineProfile profile = OfflineProfile.of(rs);
+                            result.put(profile.getUuid(), profile);
+                        }
+                    }
+                }
+                queries.incrementAndGet();
+            }
+        } catch (SQLException e) {
+            plugin.log(Level.WARNING, "§e⚠ Erreur chargement profils (" + all.size() + "): " + e.getMessage());
+            throw new RuntimeException(e);
+        }
+
+        for (UUID uuid : all) {
+            if (!result.containsKey(uuid)) {
+                unknownProfiles.put(uuid, Boolean.TRUE);
+            }
+        }
+
+        rowsLoaded.addAndGet(result.size());
+        return result;
+    }
+
+    // ==================== ÉVÉNEMENTS ====================
+
+    /**
+     * Un joueur vient d'être sauvegardé: son profil en cache est obsolète
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onDataSave(PlayerDataSaveEvent event) {
+        invalidate(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Un joueur se déconnecte: la sauvegarde de déconnexion ne déclenche pas PlayerDataSaveEvent
+     * (plus de Player). Jusqu'à la fin de cette sauvegarde, ses données restent en mémoire
+     * et getProfile ne passe pas par le cache.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        invalidate(event.getPlayer().getUniqueId());
+    }
+
+    // ==================== MÉTRIQUES ====================
+
+    /**
+     * Obtient les statistiques du service
+     */
+    public String getStats() {
+        CacheStats stats = cache.synchronous().stats();
+        return String.format("Profils: %d en cache | Hit: %.1f%% | Requêtes: %d | Lignes: %d",
+            cache.synchronous().estimatedSize(),
+            stats.hitRate() * 100,
+            queries.get(),
+            rowsLoaded.get());
+    }
+}
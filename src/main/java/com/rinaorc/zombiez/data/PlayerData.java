@@ -12,7 +12,6 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -66,8 +65,9 @@ public class PlayerData {
     private final transient AtomicInteger killStreak = new AtomicInteger(0);
     private final transient AtomicInteger bestKillStreak = new AtomicInteger(0);
 
-    // État de modification (pour savoir si on doit sauvegarder)
-    private final transient AtomicBoolean dirty = new AtomicBoolean(false);
+    // État de modification par groupe de champs (masque de bits DirtyGroup)
+    // Permet de ne réécrire que les colonnes réellement modifiées
+    private final transient AtomicInteger dirtyGroups = new AtomicInteger(0);
 
     // Cache des stats détaillées (lazy loaded)
     private transient Map<String, Long> detailedStats;
@@ -522,24 +522,83 @@ public class PlayerData {
     // ==================== DIRTY FLAG ====================
 
     /**
-     * Marque les données comme modifiées
+     * Groupes de champs suivis séparément pour la sauvegarde delta
+     */
+    public enum DirtyGroup {
+        // Compteurs, économie, zones, VIP, timestamps
+        CORE,
+        // Parcours: chapitre/étape, étapes, gates, progression
+        JOURNEY,
+        // Titres, cosmétiques, items exclusifs
+        COSMETICS,
+        // Boosters XP/loot
+        BOOSTERS,
+        // Chunks explorés par zone
+        EXPLORED_CHUNKS;
+
+        private final int bit;
+
+        DirtyGroup() {
+            this.bit = 1 << ordinal();
+        }
+
+        public int bit() {
+            return bit;
+        }
+
+        public boolean isIn(int mask) {
+            return (mask & bit) != 0;
+        }
+    }
+
+    /**
+     * Marque les compteurs principaux comme modifiés
      */
     public void markDirty() {
-        dirty.set(true);
+        markDirty(DirtyGroup.CORE);
+    }
+
+    /**
+     * Marque un groupe de champs comme modifié
+     */
+    public void markDirty(DirtyGroup group) {
+        dirtyGroups.getAndUpdate(mask -> mask | group.bit());
+    }
+
+    /**
+     * Re-marque un ensemble de groupes (après un échec de sauvegarde)
+     */
+    public void markDirty(int mask) {
+        dirtyGroups.getAndUpdate(current -> current | mask);
     }
 
     /**
      * Vérifie si les données ont été modifiées
      */
     public boolean isDirty() {
-        return dirty.get();
+        return dirtyGroups.get() != 0;
+    }
+
+    /**
+     * Vérifie si un groupe de champs a été modifié
+     */
+    public boolean isDirty(DirtyGroup group) {
+        return group.isIn(dirtyGroups.get());
+    }
+
+    /**
+     * Récupère et réinitialise atomiquement les groupes modifiés (avant sauvegarde)
+     * Une modification pendant l'écriture re-marquera le groupe pour le prochain flush
+     */
+    public int consumeDirtyGroups() {
+        return dirtyGroups.getAndSet(0);
     }
 
     /**
      * Réinitialise le flag dirty (après sauvegarde)
      */
     public void clearDirty() {
-        dirty.set(false);
+        dirtyGroups.set(0);
     }
 
     // ==================== UTILITAIRES ====================
@@ -595,7 +654,7 @@ public class PlayerData {
      */
     public void addTitle(String titleId) {
         unlockedTitles.add(titleId);
-        markDirty();
+        markDirty(DirtyGroup.COSMETICS);
     }
     
     /**
@@ -617,7 +676,7 @@ public class PlayerData {
      */
     public void addCosmetic(String cosmeticId) {
         unlockedCosmetics.add(cosmeticId);
-        markDirty();
+        markDirty(DirtyGroup.COSMETICS);
     }
     
     /**
@@ -639,7 +698,7 @@ public class PlayerData {
      */
     public void addExclusive(String exclusiveId) {
         exclusiveItems.add(exclusiveId);
-        markDirty();
+        markDirty(DirtyGroup.COSMETICS);
     }
     
     /**
@@ -817,7 +876,7 @@ public class PlayerData {
         } else {
             activeBoosters.put(type, new BoosterData(multiplier, System.currentTimeMillis() + durationMs));
         }
-        markDirty();
+        markDirty(DirtyGroup.BOOSTERS);
     }
     
     public void addBankSlots(int slots) {
@@ -861,9 +920,8 @@ public class PlayerData {
     // Progression par étape (stepId -> valeur de progression)
     private final Map<String, Integer> journeyStepProgress = new ConcurrentHashMap<>();
 
-    // Exploration des zones par chunks (zoneId -> Set de chunk keys visitées)
-    // Chunk key = ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL)
-    private final Map<Integer, Set<Long>> zoneExploredChunks = new ConcurrentHashMap<>();
+    // Exploration des zones par chunks (zoneId -> bitmap relatif aux limites de la zone)
+    private final Map<Integer, ExploredChunkBitmap> zoneExploredChunks = new ConcurrentHashMap<>();
 
     // Getters pour le chapitre/étape actuels
     public int getCurrentJourneyChapter() { return currentJourneyChapter.get(); }
@@ -871,18 +929,18 @@ public class PlayerData {
 
     public void setCurrentJourneyChapter(int chapter) {
         currentJourneyChapter.set(chapter);
-        markDirty();
+        markDirty(DirtyGroup.JOURNEY);
     }
 
     public void setCurrentJourneyStep(int step) {
         currentJourneyStep.set(step);
-        markDirty();
+        markDirty(DirtyGroup.JOURNEY);
     }
 
     // Étapes complétées
     public void addCompletedJourneyStep(String stepId) {
         completedJourneySteps.add(stepId);
-        markDirty();
+        markDirty(DirtyGroup.JOURNEY);
     }
 
     public boolean hasCompletedJourneyStep(String stepId) {
@@ -896,7 +954,7 @@ public class PlayerData {
     // Chapitres complétés
     public void addCompletedJourneyChapter(int chapterId) {
         completedJourneyChapters.add(chapterId);
-        markDirty();
+        markDirty(DirtyGroup.JOURNEY);
     }
 
     public boolean hasCompletedJourneyChapter(int chapterId) {
@@ -910,7 +968,7 @@ public class PlayerData {
     // Gates débloquées
     public void addJourneyGate(String gateName) {
         unlockedJourneyGates.add(gateName);
-        markDirty();
+        markDirty(DirtyGroup.JOURNEY);
     }
 
     public boolean hasJourneyGate(String gateName) {
@@ -928,7 +986,7 @@ public class PlayerData {
 
     public void setJourneyStepProgress(String stepId, int progress) {
         journeyStepProgress.put(stepId, progress);
-        markDirty();
+        markDirty(DirtyGroup.JOURNEY);
     }
 
     public Map<String, Integer> getJourneyStepProgressMap() {
@@ -940,37 +998,34 @@ public class PlayerData {
      * Marque un chunk comme exploré dans une zone
      * @return true si c'est un nouveau chunk (pas encore visité)
      */
-    public boolean markChunkExplored(int zoneId, int chunkX, int chunkZ) {
-        long chunkKey = ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
-        Set<Long> explored = zoneExploredChunks.computeIfAbsent(zoneId, k -> ConcurrentHashMap.newKeySet());
-        boolean isNew = explored.add(chunkKey);
+    public boolean markChunkExplored(Zone zone, int chunkX, int chunkZ) {
+        ExploredChunkBitmap explored = zoneExploredChunks.computeIfAbsent(zone.getId(),
+            k -> ExploredChunkBitmap.forZone(zone));
+        if (!explored.matches(zone)) {
+            // Limites de zone modifiées depuis le chargement (reload de zones.yml)
+            explored.rebase(zone);
+        }
+        boolean isNew = explored.mark(chunkX, chunkZ);
         if (isNew) {
-            markDirty();
+            markDirty(DirtyGroup.EXPLORED_CHUNKS);
         }
         return isNew;
     }
 
     /**
-     * Obtient le nombre de chunks explorés dans une zone
+     * Obtient le nombre de chunks explorés dans une zone (O(1))
      */
     public int getExploredChunkCount(int zoneId) {
-        Set<Long> explored = zoneExploredChunks.get(zoneId);
-        return explored != null ? explored.size() : 0;
+        ExploredChunkBitmap explored = zoneExploredChunks.get(zoneId);
+        return explored != null ? explored.getCount() : 0;
     }
 
     /**
-     * Obtient les chunks explorés d'une zone (pour sérialisation)
+     * Vérifie si un chunk a été exploré dans une zone
      */
-    public Set<Long> getExploredChunks(int zoneId) {
-        Set<Long> explored = zoneExploredChunks.get(zoneId);
-        return explored != null ? Set.copyOf(explored) : Set.of();
-    }
-
-    /**
-     * Charge les chunks explorés (pour désérialisation)
-     */
-    public void loadExploredChunks(int zoneId, Set<Long> chunks) {
-        zoneExploredChunks.computeIfAbsent(zoneId, k -> ConcurrentHashMap.newKeySet()).addAll(chunks);
+    public boolean isChunkExplored(int zoneId, int chunkX, int chunkZ) {
+        ExploredChunkBitmap explored = zoneExploredChunks.get(zoneId);
+        return explored != null && explored.isExplored(chunkX, chunkZ);
     }
 
     /**
@@ -979,22 +1034,25 @@ public class PlayerData {
      * que les chunks visités avant le déblocage soient comptés
      */
     public void clearExploredChunks(int zoneId) {
-        Set<Long> explored = zoneExploredChunks.get(zoneId);
+        ExploredChunkBitmap explored = zoneExploredChunks.get(zoneId);
         if (explored != null) {
             explored.clear();
-            markDirty();
+            markDirty(DirtyGroup.EXPLORED_CHUNKS);
         }
     }
 
     /**
-     * Obtient toutes les données d'exploration (pour sérialisation)
+     * Sérialise l'exploration de toutes les zones (format binaire compact en Base64)
      */
-    public Map<Integer, Set<Long>> getAllExploredChunks() {
-        Map<Integer, Set<Long>> copy = new ConcurrentHashMap<>();
-        for (var entry : zoneExploredChunks.entrySet()) {
-            copy.put(entry.getKey(), Set.copyOf(entry.getValue()));
-        }
-        return copy;
+    public String serializeExploredChunks() {
+        return ExploredChunkBitmap.encode(zoneExploredChunks);
+    }
+
+    /**
+     * Charge l'exploration depuis la BDD (pour désérialisation)
+     */
+    public void loadExploredChunks(String encoded) {
+        zoneExploredChunks.putAll(ExploredChunkBitmap.decode(encoded));
     }
 
     // Pour la sérialisation/désérialisation en BDD
@@ -1020,7 +1078,7 @@ public class PlayerData {
         unlockedJourneyGates.clear();
         journeyStepProgress.clear();
         discoveredMysteryChests.clear();
-        markDirty();
+        markDirty(DirtyGroup.JOURNEY);
     }
 
     // ==================== COFFRES MYSTÈRES ====================
@@ -1033,7 +1091,7 @@ public class PlayerData {
      */
     public void addDiscoveredChest(String chestId) {
         discoveredMysteryChests.add(chestId);
-        markDirty();
+        markDirty(DirtyGroup.JOURNEY);
     }
 
     /**
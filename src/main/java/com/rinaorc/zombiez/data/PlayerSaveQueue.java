@@ -0,0 +1,272 @@
+package com.rinaorc.zombiez.data;
+
+import com.rinaorc.zombiez.ZombieZPlugin;
+import lombok.Getter;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+/**
+ * File d'écriture différée (write-behind) pour les données joueurs
+ *
+ * Architecture:
+ * - Les sauvegardes sont coalescées par UUID (un joueur modifié 10 fois = 1 ligne)
+ * - Un seul thread dédié vide la file par batchs JDBC (addBatch/executeBatch)
+ * - Une seule transaction par flush au lieu d'un aller-retour par joueur
+ * - Flush synchrone garanti à l'arrêt du serveur
+ */
+public class PlayerSaveQueue {
+
+    /**
+     * Joueur à écrire avec les groupes de champs modifiés depuis la dernière sauvegarde
+     */
+    public record Entry(PlayerData data, int dirtyMask) {}
+
+    /**
+     * Écrit un lot de joueurs dans une connexion déjà ouverte
+     * Retourne le nombre de lignes écrites
+     */
+    @FunctionalInterface
+    public interface BatchWriter {
+        int write(Connection conn, List<Entry> batch) throws SQLException;
+    }
+
+    // Taille max d'un batch JDBC (au-delà on découpe en plusieurs executeBatch)
+    private static final int MAX_BATCH_SIZE = 100;
+
+    private final ZombieZPlugin plugin;
+    private final DatabaseManager db;
+    private final BatchWriter writer;
+
+    // Joueurs en attente d'écriture (coalescés par UUID, ordre d'arrivée conservé)
+    private final Map<UUID, PlayerData> pending = new LinkedHashMap<>();
+    private final Object pendingLock = new Object();
+
+    // Future complétée par le prochain flush (partagée par tous les joueurs du batch)
+    private CompletableFuture<Void> nextFlush = new CompletableFuture<>();
+
+    // Sérialise les flushs (évite qu'un ancien batch écrase un batch plus récent)
+    private final Object flushLock = new Object();
+
+    // Un seul flush en file à la fois - les demandes suivantes rejoignent le même batch
+    private final AtomicBoolean flushQueued = new AtomicBoolean(false);
+
+    // Exécuteur dédié: 1 thread, file bornée
+    private final ThreadPoolExecutor executor;
+
+    private volatile boolean shutdown = false;
+
+    // Métriques
+    @Getter private final AtomicLong totalFlushes = new AtomicLong(0);
+    @Getter private final AtomicLong totalRows = new AtomicLong(0);
+    @Getter private final AtomicLong failedFlushes = new AtomicLong(0);
+    @Getter private volatile int lastFlushRows = 0;
+    @Getter private volatile long lastFlushNanos = 0;
+    @Getter private volatile long maxFlushNanos = 0;
+
+    public PlayerSaveQueue(ZombieZPlugin plugin, DatabaseManager db, BatchWriter writer) {
+        this.plugin = plugin;
+        this.db = db;
+        this.writer = writer;
+
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(2),
+            runnable -> {
+                Thread thread = new Thread(runnable, "ZombieZ-SaveQueue");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Ajoute un joueur à la file sans déclencher de flush
+     * Utilisé par l'auto-save pour accumuler tous les joueurs dans un seul batch
+     *
+     * @return future complétée quand le joueur a été écrit
+     */
+    public CompletableFuture<Void> enqueue(PlayerData data) {
+        synchronized (pendingLock) {
+            pending.put(data.getUuid(), data);
+            return nextFlush;
+        }
+    }
+
+    /**
+     * Ajoute un joueur et demande un flush (déconnexion, éviction du cache)
+     */
+    public CompletableFuture<Void> enqueueAndFlush(PlayerData data) {
+        CompletableFuture<Void> future = enqueue(data);
+        requestFlush();
+        return future;
+    }
+
+    /**
+     * Demande un flush asynchrone sur le thread dédié
+     * Les appels concurrents sont coalescés en un seul flush
+     */
+    public CompletableFuture<Void> requestFlush() {
+        CompletableFuture<Void> future;
+        synchronized (pendingLock) {
+            future = nextFlush;
+        }
+
+        if (shutdown) {
+            // Le flush final de shutdown() prendra ces joueurs
+            return future;
+        }
+
+        if (flushQueued.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                flushQueued.set(false);
+                plugin.log(Level.WARNING, "§eFile de sauvegarde saturée, flush reporté");
+            }
+        }
+        return future;
+    }
+
+    /**
+     * Vide la file de manière synchrone sur le thread appelant
+     * Utilisé au shutdown et par saveAllSync()
+     */
+    public void flushSync() {
+        flush();
+    }
+
+    /**
+     * Vide la file: un batch JDBC par table, dans une seule transaction
+     */
+    private void flush() {
+        flushQueued.set(false);
+
+        synchronized (flushLock) {
+            List<PlayerData> batch;
+            CompletableFuture<Void> done;
+            synchronized (pendingLock) {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                batch = new ArrayList<>(pending.values());
+                pending.clear();
+                done = nextFlush;
+                nextFlush = new CompletableFuture<>();
+            }
+
+            // Consommer les groupes modifiés avant l'écriture:
+            // une modification pendant le flush re-marquera le joueur
+            List<Entry> entries = new ArrayList<>(batch.size());
+            for (PlayerData data : batch) {
+                int mask = data.consumeDirtyGroups();
+                if (mask != 0) {
+                    entries.add(new Entry(data, mask));
+                }
+            }
+
+            if (entries.isEmpty()) {
+                done.complete(null);
+                return;
+            }
+
+            long start = System.nanoTime();
+            int rows = 0;
+            try (Connection conn = db.getConnection()) {
+                boolean autoCommit = conn.getAutoCommit();
+                conn.setAutoCommit(false);
+                try {
+                    for (int i = 0; i < entries.size(); i += MAX_BATCH_SIZE) {
+                        rows += writer.write(conn, entries.subList(i, Math.min(i + MAX_BATCH_SIZE, entries.size())));
+                    }
+                    conn.commit();
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
+                } finally {
+                    conn.setAutoCommit(autoCommit);
+                }
+
+                recordFlush(rows, System.nanoTime() - start);
+                done.complete(null);
+
+            } catch (SQLException e) {
+                failedFlushes.incrementAndGet();
+                plugin.log(Level.SEVERE, "§cErreur flush sauvegarde (" + batch.size() + " joueurs): " + e.getMessage());
+
+                // Remettre les joueurs en file pour le prochain flush
+                for (Entry entry : entries) {
+                    entry.data().markDirty(entry.dirtyMask());
+                    synchronized (pendingLock) {
+                        pending.putIfAbsent(entry.data().getUuid(), entry.data());
+                    }
+                }
+                done.completeExceptionally(e);
+            }
+        }
+    }
+
+    private void recordFlush(int rows, long nanos) {
+        totalFlushes.incrementAndGet();
+        totalRows.addAndGet(rows);
+        lastFlushRows = rows;
+        lastFlushNanos = nanos;
+        if (nanos > maxFlushNanos) {
+            maxFlushNanos = nanos;
+        }
+    }
+
+    /**
+     * Nombre de joueurs en attente d'écriture
+     */
+    public int getPendingCount() {
+        synchronized (pendingLock) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * Résumé des métriques pour DatabaseManager.getPoolStats()
+     */
+    public String getStatsLine() {
+        return String.format(
+            "Write-behind: %d en attente, %d flushs (%d échecs), %d lignes, dernier: %d lignes/%.1fms, max: %.1fms",
+            getPendingCount(),
+            totalFlushes.get(),
+            failedFlushes.get(),
+            totalRows.get(),
+            lastFlushRows,
+            lastFlushNanos / 1_000_000.0,
+            maxFlushNanos / 1_000_000.0
+        );
+    }
+
+    /**
+     * Arrête le thread dédié et écrit tout ce qui reste en file
+     */
+    public void shutdown() {
+        shutdown = true;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                plugin.log(Level.WARNING, "§eFlush de sauvegarde trop long, arrêt forcé");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushSync();
+    }
+}
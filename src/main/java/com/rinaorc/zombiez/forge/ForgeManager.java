@@ -283,6 +283,9 @@ public class ForgeManager {
             stats.recordFailure();
         }
 
+        // Le multiplicateur de forge a pu changer: resynchroniser les stats de l'item porté
+        plugin.getItemManager().invalidatePlayerStats(player.getUniqueId());
+
         // Mettre à jour la mission si existante
         updateForgeMission(player, success, currentLevel + 1);
 
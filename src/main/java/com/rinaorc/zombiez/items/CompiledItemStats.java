@@ -0,0 +1,98 @@
+package com.rinaorc.zombiez.items;
+
+import com.rinaorc.zombiez.items.types.StatType;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stats combinées d'un item (base + affixes), compilées une seule fois
+ *
+ * Tableau indexé par StatType.ordinal(): get() et has() ne font aucune allocation.
+ * Immuable, comme les stats de base et les affixes d'un ZombieZItem: compilé une fois par item.
+ */
+public final class CompiledItemStats {
+
+    private static final StatType[] STATS = StatType.values();
+
+    private final double[] values;
+    private final boolean[] present;
+
+    // Vue Map construite une fois pour les appelants historiques (lore, GUIs)
+    private final Map<StatType, Double> view;
+
+    private CompiledItemStats(double[] values, boolean[] present) {
+        this.values = values;
+        this.present = present;
+
+        Map<StatType, Double> map = new EnumMap<>(StatType.class);
+        for (int i = 0; i < values.length; i++) {
+            if (present[i]) {
+                map.put(STATS[i], values[i]);
+            }
+        }
+        this.view = Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Compile les stats de base et celles de tous les affixes
+     */
+    public static CompiledItemStats compile(Map<StatType, Double> baseStats, List<ZombieZItem.RolledAffix> affixes) {
+        double[] values = new double[STATS.length];
+        boolean[] present = new boolean[STATS.length];
+
+        if (baseStats != null) {
+            for (var entry : baseStats.entrySet()) {
+                int index = entry.getKey().ordinal();
+                values[index] += entry.getValue();
+                present[index] = true;
+            }
+        }
+
+        if (affixes != null) {
+            for (ZombieZItem.RolledAffix affix : affixes) {
+                for (var entry : affix.getRolledStats().entrySet()) {
+                    int index = entry.getKey().ordinal();
+                    values[index] += entry.getValue();
+                    present[index] = true;
+                }
+            }
+        }
+
+        return new CompiledItemStats(values, present);
+    }
+
+    /**
+     * Valeur d'une stat (0 si absente)
+     */
+    public double get(StatType stat) {
+        return values[stat.ordinal()];
+    }
+
+    /**
+     * Vérifie si l'item possède la stat (même à 0)
+     */
+    public boolean has(StatType stat) {
+        return present[stat.ordinal()];
+    }
+
+    /**
+     * Vue non modifiable des stats présentes
+     */
+    public Map<StatType, Double> asMap() {
+        return view;
+    }
+
+    /**
+     * Ajoute les stats multipliées à un vecteur (ex: multiplicateur de forge)
+     */
+    void addTo(double[] target, double multiplier) {
+        for (int i = 0; i < values.length; i++) {
+            if (present[i]) {
+                target[i] += values[i] * multiplier;
+            }
+        }
+    }
+}
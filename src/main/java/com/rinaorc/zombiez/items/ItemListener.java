@@ -78,6 +78,9 @@ public class ItemListener implements Listener {
             return;
         }
 
+        // L'item peut arriver directement dans la main (slot vide sélectionné)
+        invalidateStatsNextTick(player);
+
         // Obtenir la rareté de l'item
         Rarity rarity = ZombieZItem.getItemRarity(item);
         if (rarity == null) return;
@@ -152,6 +155,9 @@ public class ItemListener implements Listener {
 
         // Vérifier si c'est un ZombieZItem
         if (ZombieZItem.isZombieZItem(itemStack)) {
+            // L'item lâché était peut-être celui en main
+            invalidateStatsNextTick(player);
+
             Rarity rarity = ZombieZItem.getItemRarity(itemStack);
 
             if (rarity != null) {
@@ -438,7 +444,11 @@ public class ItemListener implements Listener {
             player.playSound(player.getLocation(), Sound.ENTITY_VILLAGER_NO, 1.0f, 1.0f);
             MessageUtils.sendRaw(player, "§c✗ Vous devez atteindre la §eZone " + itemZone + " §cpour équiper cet objet!");
             MessageUtils.sendRaw(player, "§7Votre progression actuelle: §fZone " + playerMaxZone);
+            return;
         }
+
+        // Équipement par clic droit autorisé
+        invalidateStatsNextTick(player);
     }
 
     /**
@@ -450,6 +460,9 @@ public class ItemListener implements Listener {
         Player player = event.getPlayer();
         ItemStack offhandItem = event.getOffHandItem(); // L'item qui va dans l'offhand
 
+        // Les deux mains changent: resynchroniser les stats après l'échange
+        invalidateStatsNextTick(player);
+
         if (offhandItem == null || !ZombieZItem.isZombieZItem(offhandItem)) {
             return;
         }
@@ -469,6 +482,14 @@ public class ItemListener implements Listener {
         }
     }
 
+    /**
+     * Signale un changement d'équipement une fois l'événement appliqué
+     */
+    private void invalidateStatsNextTick(Player player) {
+        plugin.getServer().getScheduler().runTaskLater(plugin, () ->
+            plugin.getItemManager().invalidatePlayerStats(player.getUniqueId()), 1L);
+    }
+
     /**
      * Vérifie si un matériau est une pièce d'armure équipable par clic droit
      */
@@ -35,9 +35,23 @@ public class ItemManager {
     
     // Cache des items générés (UUID -> ZombieZItem)
     private final Cache<UUID, ZombieZItem> itemCache;
+
+    // Cache de décodage PDC: UUID -> item restauré, validé par l'empreinte de l'ItemStack
+    // Dimensionné sur les inventaires des joueurs en ligne (voir resizeDecodeCache)
+    private final Cache<UUID, DecodedItem> decodeCache;
+    private static final int MIN_DECODE_CACHE_SIZE = 1000;
+    private static final int ITEM_SLOTS_PER_PLAYER = 41; // 36 inventaire + 4 armure + main secondaire
+
+    private record DecodedItem(int revision, ZombieZItem item) {}
     
-    // Cache des stats calculées par joueur (pour éviter les recalculs)
-    private final Map<UUID, CachedPlayerStats> playerStatsCache;
+    // Vecteurs de stats par joueur, mis à jour de manière incrémentale
+    private final Map<UUID, PlayerStatVector> playerStatVectors;
+
+    // Resynchronisation de sécurité si aucun événement n'a signalé de changement
+    private static final long STAT_RESYNC_INTERVAL_MS = 5000;
+
+    // Caps par stat indexés par StatType.ordinal() (voir buildStatCaps)
+    private static final double[] STAT_CAPS = buildStatCaps();
     
     // Items droppés avec effets visuels actifs
     private final Map<UUID, DroppedItemEffect> activeDropEffects;
@@ -58,7 +72,12 @@ public class ItemManager {
             .expireAfterAccess(30, TimeUnit.MINUTES)
             .build();
 
-        this.playerStatsCache = new ConcurrentHashMap<>();
+        this.decodeCache = Caffeine.newBuilder()
+            .maximumSize(MIN_DECODE_CACHE_SIZE)
+            .expireAfterAccess(30, TimeUnit.MINUTES)
+            .build();
+
+        this.playerStatVectors = new ConcurrentHashMap<>();
         this.activeDropEffects = new ConcurrentHashMap<>();
 
         // Initialiser le scoreboard pour le glow coloré
@@ -67,6 +86,9 @@ public class ItemManager {
 
         // Démarrer le task des effets de drop
         startDropEffectsTask();
+
+        // Redimensionner le cache de décodage toutes les 30 secondes
+        Bukkit.getScheduler().runTaskTimer(plugin, this::resizeDecodeCache, 600L, 600L);
     }
 
     /**
@@ -342,173 +364,232 @@ public class ItemManager {
      * Obtient un ZombieZItem depuis un ItemStack
      */
     public ZombieZItem getItem(ItemStack itemStack) {
-        UUID uuid = ZombieZItem.getItemUUID(itemStack);
-        if (uuid == null) return null;
-        return getItem(uuid);
+        return getOrRestoreItem(itemStack);
     }
 
     /**
      * Calcule les stats totales d'un joueur basées sur son équipement
      * Inclut le bonus de forge sur chaque pièce d'équipement
      *
-     * IMPORTANT: Retourne une COPIE de la Map pour éviter les corruptions de cache
-     * Les appelants peuvent modifier la Map retournée sans affecter le cache
+     * IMPORTANT: Retourne une COPIE modifiable (les appelants font merge() ou put())
+     * Sur le chemin de dégâts, préférer getStatVector() qui n'alloue rien
      */
     public Map<StatType, Double> calculatePlayerStats(Player player) {
-        UUID playerUuid = player.getUniqueId();
-
-        // Vérifier le cache
-        CachedPlayerStats cached = playerStatsCache.get(playerUuid);
-        if (cached != null && !cached.isExpired()) {
-            // IMPORTANT: Retourner une COPIE pour éviter la corruption du cache
-            // quand les appelants font merge() ou put() sur la Map
-            return new EnumMap<>(cached.stats);
-        }
+        return getStatVector(player).toMap();
+    }
 
-        Map<StatType, Double> totalStats = new EnumMap<>(StatType.class);
+    /**
+     * Obtient le vecteur de stats d'un joueur (vue en lecture seule, sans allocation)
+     * Seuls les slots modifiés depuis la dernière lecture sont recalculés
+     */
+    public PlayerStatVector getStatVector(Player player) {
+        PlayerStatVector vector = playerStatVectors.computeIfAbsent(player.getUniqueId(), k -> new PlayerStatVector());
 
-        // Parcourir l'équipement
-        for (ItemStack item : player.getInventory().getArmorContents()) {
-            if (item != null && ZombieZItem.isZombieZItem(item)) {
-                ZombieZItem zItem = getOrRestoreItem(item);
-                if (zItem != null) {
-                    double forgeMultiplier = getForgeMultiplier(item);
-                    for (var entry : zItem.getTotalStats().entrySet()) {
-                        double value = entry.getValue() * forgeMultiplier;
-                        totalStats.merge(entry.getKey(), value, Double::sum);
-                    }
-                }
+        long now = System.currentTimeMillis();
+        if (vector.dirty || now - vector.lastSync > STAT_RESYNC_INTERVAL_MS) {
+            synchronized (vector) {
+                syncStatVector(player, vector);
+                vector.lastSync = now;
             }
         }
+        return vector;
+    }
 
-        // Arme en main
-        ItemStack mainHand = player.getInventory().getItemInMainHand();
-        if (ZombieZItem.isZombieZItem(mainHand)) {
-            ZombieZItem zItem = getOrRestoreItem(mainHand);
-            if (zItem != null) {
-                double forgeMultiplier = getForgeMultiplier(mainHand);
-                for (var entry : zItem.getTotalStats().entrySet()) {
-                    double value = entry.getValue() * forgeMultiplier;
-                    totalStats.merge(entry.getKey(), value, Double::sum);
-                }
-            }
-        }
+    /**
+     * Compare chaque slot d'équipement au contenu en cache et ne relit que ceux qui ont changé
+     * (UUID, empreinte de contenu ou niveau de forge)
+     */
+    private void syncStatVector(Player player, PlayerStatVector vector) {
+        vector.dirty = false;
 
-        // Off-hand
-        ItemStack offHand = player.getInventory().getItemInOffHand();
-        if (ZombieZItem.isZombieZItem(offHand)) {
-            ZombieZItem zItem = getOrRestoreItem(offHand);
-            if (zItem != null) {
-                double forgeMultiplier = getForgeMultiplier(offHand);
-                for (var entry : zItem.getTotalStats().entrySet()) {
-                    double value = entry.getValue() * forgeMultiplier;
-                    totalStats.merge(entry.getKey(), value, Double::sum);
-                }
+        var inventory = player.getInventory();
+        ItemStack[] armor = inventory.getArmorContents();
+        boolean changed = false;
+
+        for (int slot = 0; slot < PlayerStatVector.SLOT_COUNT; slot++) {
+            ItemStack item;
+            if (slot == PlayerStatVector.SLOT_MAIN_HAND) {
+                item = inventory.getItemInMainHand();
+            } else if (slot == PlayerStatVector.SLOT_OFF_HAND) {
+                item = inventory.getItemInOffHand();
+            } else {
+                item = slot < armor.length ? armor[slot] : null;
             }
-        }
 
-        // Appliquer les caps sur les stats critiques pour éviter les valeurs absurdes
-        applyStatCaps(totalStats);
+            ZombieZItem.Stamp stamp = ZombieZItem.readStamp(item);
+            UUID itemUuid = stamp != null ? stamp.uuid() : null;
+            int slotRevision = stamp != null ? revisionOf(item, stamp) : 0;
+            double forgeMultiplier = itemUuid != null ? getForgeMultiplier(item) : 1.0;
+            if (vector.isSlotUpToDate(slot, itemUuid, slotRevision, forgeMultiplier)) {
+                continue;
+            }
 
-        // Mettre en cache (expire après 5 secondes)
-        playerStatsCache.put(playerUuid, new CachedPlayerStats(totalStats));
+            ZombieZItem zItem = itemUuid != null ? getOrRestoreItem(item) : null;
+            vector.setSlot(slot, itemUuid, slotRevision, forgeMultiplier, zItem != null ? zItem.getCompiledStats() : null);
+            changed = true;
+        }
 
-        // Retourner une COPIE pour éviter que les modifications de l'appelant
-        // ne corrompent le cache (même comportement que le cas cache-hit)
-        return new EnumMap<>(totalStats);
+        if (changed) {
+            // Appliquer les caps sur les stats critiques pour éviter les valeurs absurdes
+            vector.recompute(STAT_CAPS);
+        }
     }
 
     /**
-     * Applique des caps (limites maximales) sur les stats critiques
+     * Construit la table des caps (limites maximales) sur les stats critiques
      * pour éviter les builds complètement cassés
      */
-    private void applyStatCaps(Map<StatType, Double> stats) {
+    private static double[] buildStatCaps() {
+        double[] caps = new double[StatType.values().length];
+        Arrays.fill(caps, Double.POSITIVE_INFINITY);
+
         // CAPS DE SÉCURITÉ - Évite les valeurs complètement absurdes
 
         // Stats offensives
-        capStat(stats, StatType.CRIT_CHANCE, 75.0);           // Max 75% crit chance
-        capStat(stats, StatType.CRIT_DAMAGE, 250.0);          // Max +250% crit damage
-        capStat(stats, StatType.LIFESTEAL, 25.0);             // Max 25% lifesteal
-        capStat(stats, StatType.DAMAGE_PERCENT, 150.0);       // Max +150% damage bonus
+        caps[StatType.CRIT_CHANCE.ordinal()] = 75.0;           // Max 75% crit chance
+        caps[StatType.CRIT_DAMAGE.ordinal()] = 250.0;          // Max +250% crit damage
+        caps[StatType.LIFESTEAL.ordinal()] = 25.0;             // Max 25% lifesteal
+        caps[StatType.DAMAGE_PERCENT.ordinal()] = 150.0;       // Max +150% damage bonus
 
         // Stats défensives
-        capStat(stats, StatType.DAMAGE_REDUCTION, 60.0);      // Max 60% damage reduction
-        capStat(stats, StatType.DODGE_CHANCE, 40.0);          // Max 40% dodge
-        capStat(stats, StatType.CHEAT_DEATH_CHANCE, 10.0);    // Max 10% cheat death
-        capStat(stats, StatType.ARMOR_PERCENT, 100.0);        // Max +100% armor bonus
+        caps[StatType.DAMAGE_REDUCTION.ordinal()] = 60.0;      // Max 60% damage reduction
+        caps[StatType.DODGE_CHANCE.ordinal()] = 40.0;          // Max 40% dodge
+        caps[StatType.CHEAT_DEATH_CHANCE.ordinal()] = 10.0;    // Max 10% cheat death
+        caps[StatType.ARMOR_PERCENT.ordinal()] = 100.0;        // Max +100% armor bonus
 
         // Stats utilitaires
-        capStat(stats, StatType.MOVEMENT_SPEED, 50.0);        // Max +50% movement speed
-        capStat(stats, StatType.DRAW_SPEED, 75.0);            // Max +75% draw speed
+        caps[StatType.MOVEMENT_SPEED.ordinal()] = 50.0;        // Max +50% movement speed
+        caps[StatType.DRAW_SPEED.ordinal()] = 75.0;            // Max +75% draw speed
 
         // Stats de momentum/fever
-        capStat(stats, StatType.FEVER_DAMAGE_BONUS, 100.0);   // Max +100% fever damage
-        capStat(stats, StatType.FEVER_DURATION_BONUS, 100.0); // Max +100% fever duration
-        capStat(stats, StatType.STREAK_DAMAGE_BONUS, 5.0);    // Max +5% per streak kill
+        caps[StatType.FEVER_DAMAGE_BONUS.ordinal()] = 100.0;   // Max +100% fever damage
+        caps[StatType.FEVER_DURATION_BONUS.ordinal()] = 100.0; // Max +100% fever duration
+        caps[StatType.STREAK_DAMAGE_BONUS.ordinal()] = 5.0;    // Max +5% per streak kill
 
         // Stats d'exécution
-        capStat(stats, StatType.EXECUTE_DAMAGE, 100.0);       // Max +100% execute damage
-        capStat(stats, StatType.EXECUTE_THRESHOLD, 15.0);     // Max execute at <15% HP
+        caps[StatType.EXECUTE_DAMAGE.ordinal()] = 100.0;       // Max +100% execute damage
+        caps[StatType.EXECUTE_THRESHOLD.ordinal()] = 15.0;     // Max execute at <15% HP
 
         // Stats de chance/loot
-        capStat(stats, StatType.LUCK, 50.0);                  // Max 50% luck (évite le loot à chaque kill)
-        capStat(stats, StatType.DOUBLE_LOOT_CHANCE, 30.0);    // Max 30% double loot
-        capStat(stats, StatType.LEGENDARY_DROP_BONUS, 100.0); // Max +100% legendary drop
+        caps[StatType.LUCK.ordinal()] = 50.0;                  // Max 50% luck (évite le loot à chaque kill)
+        caps[StatType.DOUBLE_LOOT_CHANCE.ordinal()] = 30.0;    // Max 30% double loot
+        caps[StatType.LEGENDARY_DROP_BONUS.ordinal()] = 100.0; // Max +100% legendary drop
 
         // Stats de vie
-        capStat(stats, StatType.MAX_HEALTH, 150.0);           // Max +150 HP (évite les tanks immortels)
+        caps[StatType.MAX_HEALTH.ordinal()] = 150.0;           // Max +150 HP (évite les tanks immortels)
 
         // Dégâts élémentaires (évite les one-shots élémentaires)
-        capStat(stats, StatType.FIRE_DAMAGE, 100.0);          // Max +100 fire damage
-        capStat(stats, StatType.ICE_DAMAGE, 100.0);           // Max +100 ice damage
-        capStat(stats, StatType.LIGHTNING_DAMAGE, 100.0);     // Max +100 lightning damage
-        capStat(stats, StatType.POISON_DAMAGE, 50.0);         // Max +50 poison damage/s (DoT plus bas)
+        caps[StatType.FIRE_DAMAGE.ordinal()] = 100.0;          // Max +100 fire damage
+        caps[StatType.ICE_DAMAGE.ordinal()] = 100.0;           // Max +100 ice damage
+        caps[StatType.LIGHTNING_DAMAGE.ordinal()] = 100.0;     // Max +100 lightning damage
+        caps[StatType.POISON_DAMAGE.ordinal()] = 50.0;         // Max +50 poison damage/s (DoT plus bas)
+
+        return caps;
+    }
+
+    /**
+     * Obtient un ZombieZItem depuis le cache, ou le restaure depuis le PDC si non trouvé
+     * Chemin rapide: UUID + empreinte lus dans le PDC, comparés à l'entrée en cache.
+     * Un item modifié (éveil, nouveau payload) change d'empreinte et n'est jamais servi
+     * depuis une entrée périmée. Ne modifie jamais l'ItemStack (voir migrateInventory).
+     */
+    public ZombieZItem getOrRestoreItem(ItemStack itemStack) {
+        ZombieZItem.Stamp stamp = ZombieZItem.readStamp(itemStack);
+        if (stamp == null) return null;
+        UUID uuid = stamp.uuid();
+
+        int revision = revisionOf(itemStack, stamp);
+
+        DecodedItem cached = decodeCache.getIfPresent(uuid);
+        if (cached != null && cached.revision() == revision) {
+            return cached.item();
+        }
+
+        // Item généré pendant la session, s'il correspond encore à l'ItemStack
+        ZombieZItem item = itemCache.getIfPresent(uuid);
+        if (item == null || item.contentRevision() != revision) {
+            item = ZombieZItem.fromItemStack(itemStack);
+            if (item == null) return null;
+        }
+        decodeCache.put(uuid, new DecodedItem(revision, item));
+        return item;
     }
 
     /**
-     * Applique un cap à une stat si elle existe dans la map
+     * Empreinte de contenu d'un item: celle du PDC, sinon calculée depuis le payload
+     * (item pas encore estampillé) ou depuis les chaînes de l'ancien format texte
      */
-    private void capStat(Map<StatType, Double> stats, StatType stat, double maxValue) {
-        Double current = stats.get(stat);
-        if (current != null && current > maxValue) {
-            stats.put(stat, maxValue);
+    private static int revisionOf(ItemStack itemStack, ZombieZItem.Stamp stamp) {
+        if (stamp.revision() != null) {
+            return stamp.revision();
         }
+        byte[] payload = ZombieZItem.readPayload(itemStack);
+        return payload != null
+            ? ZombieZItem.getContentHash(itemStack, payload)
+            : ZombieZItem.getLegacyContentHash(itemStack);
     }
 
     /**
-     * Obtient un ZombieZItem depuis le cache, ou le restaure depuis le PDC si non trouvé
+     * Migre les items ZombieZ d'un joueur vers le format courant (payload binaire + empreinte)
+     * Chemin d'écriture explicite, appelé au chargement du joueur: les lectures n'en font jamais
      */
-    public ZombieZItem getOrRestoreItem(ItemStack itemStack) {
-        UUID uuid = ZombieZItem.getItemUUID(itemStack);
-        if (uuid == null) return null;
+    public void migrateInventory(Player player) {
+        ItemStack[] contents = player.getInventory().getContents();
+        if (migrateContents(contents)) {
+            player.getInventory().setContents(contents);
+        }
 
-        // Vérifier le cache d'abord
-        ZombieZItem cached = itemCache.getIfPresent(uuid);
-        if (cached != null) {
-            return cached;
+        ItemStack[] enderChest = player.getEnderChest().getContents();
+        if (migrateContents(enderChest)) {
+            player.getEnderChest().setContents(enderChest);
         }
+    }
 
-        // Si pas dans le cache, restaurer depuis le PDC
-        ZombieZItem restored = ZombieZItem.fromItemStack(itemStack);
-        if (restored != null) {
-            // Mettre en cache pour les prochains accès
-            itemCache.put(uuid, restored);
+    private boolean migrateContents(ItemStack[] contents) {
+        boolean changed = false;
+        for (ItemStack item : contents) {
+            if (item != null && ZombieZItem.migrate(item)) {
+                changed = true;
+            }
         }
-        return restored;
+        return changed;
+    }
+
+    /**
+     * Ajuste la taille du cache de décodage au nombre de slots des joueurs en ligne
+     */
+    private void resizeDecodeCache() {
+        int target = Math.max(MIN_DECODE_CACHE_SIZE, Bukkit.getOnlinePlayers().size() * ITEM_SLOTS_PER_PLAYER);
+        decodeCache.policy().eviction().ifPresent(eviction -> {
+            if (eviction.getMaximum() != target) {
+                eviction.setMaximum(target);
+            }
+        });
     }
 
     /**
      * Obtient une stat spécifique d'un joueur
      */
     public double getPlayerStat(Player player, StatType stat) {
-        return calculatePlayerStats(player).getOrDefault(stat, 0.0);
+        return getStatVector(player).get(stat);
     }
 
     /**
-     * Invalide le cache de stats d'un joueur (après changement d'équipement)
+     * Signale un changement d'équipement ou de forge
+     * Le vecteur ne recalcule que les slots modifiés à la prochaine lecture
      */
     public void invalidatePlayerStats(UUID playerUuid) {
-        playerStatsCache.remove(playerUuid);
+        PlayerStatVector vector = playerStatVectors.get(playerUuid);
+        if (vector != null) {
+            vector.dirty = true;
+        }
+    }
+
+    /**
+     * Libère le vecteur de stats d'un joueur (déconnexion)
+     */
+    public void removePlayerStats(UUID playerUuid) {
+        playerStatVectors.remove(playerUuid);
     }
 
     /**
@@ -617,8 +698,9 @@ public class ItemManager {
      * Obtient les statistiques du cache
      */
     public String getCacheStats() {
-        return "Items: " + itemCache.estimatedSize() + 
-            " | PlayerStats: " + playerStatsCache.size() +
+        return "Items: " + itemCache.estimatedSize() +
+            " | Decoded: " + decodeCache.estimatedSize() + 
+            " | PlayerStats: " + playerStatVectors.size() +
             " | DropEffects: " + activeDropEffects.size();
     }
 
@@ -627,7 +709,8 @@ public class ItemManager {
      */
     public void cleanup() {
         itemCache.invalidateAll();
-        playerStatsCache.clear();
+        decodeCache.invalidateAll();
+        playerStatVectors.clear();
         activeDropEffects.clear();
     }
     
@@ -698,23 +781,6 @@ public class ItemManager {
         return zItem.toItemStack();
     }
 
-    /**
-     * Cache des stats joueur avec expiration
-     */
-    private static class CachedPlayerStats {
-        final Map<StatType, Double> stats;
-        final long timestamp;
-        
-        CachedPlayerStats(Map<StatType, Double> stats) {
-            this.stats = stats;
-            this.timestamp = System.currentTimeMillis();
-        }
-        
-        boolean isExpired() {
-            return System.currentTimeMillis() - timestamp > 5000; // 5 secondes
-        }
-    }
-
     /**
      * Effet visuel pour un item droppé
      */
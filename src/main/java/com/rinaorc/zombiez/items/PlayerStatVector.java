@@ -0,0 +1,110 @@
+package com.rinaorc.zombiez.items;
+
+import com.rinaorc.zombiez.items.types.StatType;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Stats d'équipement d'un joueur, indexées par StatType.ordinal()
+ *
+ * Vue en lecture seule pour le chemin de dégâts: get() ne fait aucune allocation.
+ * Mise à jour incrémentale par ItemManager: seuls les slots dont l'item, son empreinte
+ * de contenu ou le niveau de forge a changé sont relus, puis les caps sont réappliqués.
+ * Accès main thread.
+ */
+public final class PlayerStatVector {
+
+    // Slots d'équipement suivis: 4 pièces d'armure, main principale, main secondaire
+    static final int SLOT_COUNT = 6;
+    static final int SLOT_MAIN_HAND = 4;
+    static final int SLOT_OFF_HAND = 5;
+
+    private static final StatType[] STATS = StatType.values();
+
+    // Stats finales (caps appliqués)
+    private final double[] values = new double[STATS.length];
+
+    // Contribution de chaque slot (forge incluse, sans caps)
+    private final double[][] slotStats = new double[SLOT_COUNT][STATS.length];
+    private final UUID[] slotItems = new UUID[SLOT_COUNT];
+    private final int[] slotRevisions = new int[SLOT_COUNT];
+    private final double[] slotForge = new double[SLOT_COUNT];
+
+    // Recalcul demandé par un événement d'équipement ou de forge
+    volatile boolean dirty = true;
+    long lastSync = 0;
+
+    /**
+     * Valeur d'une stat (0 si absente)
+     */
+    public double get(StatType stat) {
+        return values[stat.ordinal()];
+    }
+
+    /**
+     * Valeur d'une stat, ou defaultValue si aucun équipement ne la fournit
+     */
+    public double getOrDefault(StatType stat, double defaultValue) {
+        double value = values[stat.ordinal()];
+        return value != 0.0 ? value : defaultValue;
+    }
+
+    /**
+     * Copie modifiable des stats non nulles (pour les appelants qui fusionnent d'autres bonus)
+     */
+    public Map<StatType, Double> toMap() {
+        Map<StatType, Double> map = new EnumMap<>(StatType.class);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != 0.0) {
+                map.put(STATS[i], values[i]);
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Vérifie si un slot contient déjà cet item, dans cette révision, avec ce multiplicateur de forge
+     */
+    boolean isSlotUpToDate(int slot, UUID itemUuid, int revision, double forgeMultiplier) {
+        return Objects.equals(slotItems[slot], itemUuid)
+            && slotRevisions[slot] == revision
+            && slotForge[slot] == forgeMultiplier;
+    }
+
+    /**
+     * Remplace la contribution d'un slot
+     *
+     * @param stats stats compilées de l'item (null si slot vide ou item non ZombieZ)
+     */
+    void setSlot(int slot, UUID itemUuid, int revision, double forgeMultiplier, CompiledItemStats stats) {
+        double[] contribution = slotStats[slot];
+        Arrays.fill(contribution, 0.0);
+        slotItems[slot] = itemUuid;
+        slotRevisions[slot] = revision;
+        slotForge[slot] = forgeMultiplier;
+
+        if (stats != null) {
+            stats.addTo(contribution, forgeMultiplier);
+        }
+    }
+
+    /**
+     * Recalcule les stats finales depuis les contributions des slots
+     * La somme est refaite depuis les slots (6 vecteurs) pour éviter toute dérive flottante
+     *
+     * @param caps cap par stat (Double.POSITIVE_INFINITY = pas de cap)
+     */
+    void recompute(double[] caps) {
+        for (int i = 0; i < values.length; i++) {
+            double sum = 0.0;
+            for (int slot = 0; slot < SLOT_COUNT; slot++) {
+                sum += slotStats[slot][i];
+            }
+            values[i] = Math.min(sum, caps[i]);
+        }
+    }
+}
@@ -18,6 +18,11 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.*;
 
 /**
@@ -27,6 +32,32 @@ import java.util.*;
 @Builder
 public class ZombieZItem {
 
+    // Clés PDC (créées une seule fois)
+    private static final NamespacedKey KEY_UUID = new NamespacedKey("zombiez", "uuid");
+    private static final NamespacedKey KEY_RARITY = new NamespacedKey("zombiez", "rarity");
+    private static final NamespacedKey KEY_TYPE = new NamespacedKey("zombiez", "type");
+    private static final NamespacedKey KEY_SCORE = new NamespacedKey("zombiez", "score");
+    private static final NamespacedKey KEY_ZONE = new NamespacedKey("zombiez", "zone");
+    private static final NamespacedKey KEY_CREATED = new NamespacedKey("zombiez", "created");
+    private static final NamespacedKey KEY_ITEM_LEVEL = new NamespacedKey("zombiez", "item_level");
+    private static final NamespacedKey KEY_AWAKEN_ID = new NamespacedKey("zombiez", "awaken_id");
+    private static final NamespacedKey KEY_AWAKEN_CLASS_NAME = new NamespacedKey("zombiez", "awaken_class_name");
+    private static final NamespacedKey KEY_AWAKEN_BRANCH_NAME = new NamespacedKey("zombiez", "awaken_branch_name");
+    private static final NamespacedKey KEY_AWAKEN_TALENT_NAME = new NamespacedKey("zombiez", "awaken_talent_name");
+    private static final NamespacedKey KEY_AWAKEN_EFFECT_DESC = new NamespacedKey("zombiez", "awaken_effect_desc");
+    private static final NamespacedKey KEY_TRIM_PATTERN = new NamespacedKey("zombiez", "trim_pattern");
+    private static final NamespacedKey KEY_TRIM_MATERIAL = new NamespacedKey("zombiez", "trim_material");
+    private static final NamespacedKey KEY_DATA = new NamespacedKey("zombiez", "data");
+    // Empreinte du contenu (payload + éveil), réécrite à chaque modification de l'item
+    private static final NamespacedKey KEY_REVISION = new NamespacedKey("zombiez", "rev");
+
+    // Ancien format texte (lu puis migré vers KEY_DATA)
+    private static final NamespacedKey KEY_BASE_STATS = new NamespacedKey("zombiez", "base_stats");
+    private static final NamespacedKey KEY_AFFIXES = new NamespacedKey("zombiez", "affixes");
+
+    // Version du payload binaire
+    private static final byte PAYLOAD_VERSION = 1;
+
     // Identifiant unique de l'item
     private final UUID uuid;
     
@@ -84,33 +115,42 @@ public class ZombieZItem {
     @Setter
     private String trimMaterialKey;
 
+    // Stats combinées compilées à la première lecture (jamais renseignées par le builder)
+    private volatile CompiledItemStats compiledStats;
+
+    /**
+     * Obtient les stats combinées compilées (base + affixes)
+     * Compilées une seule fois; le multiplicateur de forge est appliqué par ItemStack (PlayerStatVector)
+     */
+    public CompiledItemStats getCompiledStats() {
+        CompiledItemStats compiled = compiledStats;
+        if (compiled == null) {
+            compiled = CompiledItemStats.compile(baseStats, affixes);
+            compiledStats = compiled;
+        }
+        return compiled;
+    }
+
     /**
      * Calcule toutes les stats combinées de l'item
+     * Retourne une vue non modifiable (aucune allocation après la première compilation)
      */
     public Map<StatType, Double> getTotalStats() {
-        Map<StatType, Double> total = new HashMap<>(baseStats);
-        
-        for (RolledAffix affix : affixes) {
-            for (var entry : affix.getRolledStats().entrySet()) {
-                total.merge(entry.getKey(), entry.getValue(), Double::sum);
-            }
-        }
-        
-        return total;
+        return getCompiledStats().asMap();
     }
 
     /**
      * Obtient une stat spécifique (combinée)
      */
     public double getStat(StatType stat) {
-        return getTotalStats().getOrDefault(stat, 0.0);
+        return getCompiledStats().get(stat);
     }
 
     /**
      * Vérifie si l'item a une stat spécifique
      */
     public boolean hasStat(StatType stat) {
-        return getTotalStats().containsKey(stat);
+        return getCompiledStats().has(stat);
     }
 
     /**
@@ -206,8 +246,7 @@ public class ZombieZItem {
         // Appliquer ATTACK_SPEED pour les armes de mêlée (cooldown vanilla)
         if (itemType.isMeleeWeapon()) {
             // Récupérer la vitesse d'attaque de l'item (ou valeur par défaut)
-            Map<StatType, Double> totalStats = getTotalStats();
-            double attackSpeedStat = totalStats.getOrDefault(StatType.ATTACK_SPEED, 0.0);
+            double attackSpeedStat = getStat(StatType.ATTACK_SPEED);
 
             // Vitesse d'attaque de base selon le type d'arme
             // Minecraft base = 4.0, les armes appliquent des malus
@@ -408,6 +447,10 @@ public class ZombieZItem {
 
     /**
      * Stocke les données dans le PersistentDataContainer
+     *
+     * Les clés scalaires (uuid, rareté, score, zone...) restent lisibles par les accesseurs
+     * statiques et les autres systèmes; tout ce qu'il faut pour reconstruire l'item
+     * est aussi écrit dans un payload binaire unique (KEY_DATA).
      */
     private void storeData(ItemStack item) {
         var meta = item.getItemMeta();
@@ -415,84 +458,174 @@ public class ZombieZItem {
 
         PersistentDataContainer pdc = meta.getPersistentDataContainer();
 
-        // Namespace pour toutes les données
-        NamespacedKey keyUuid = new NamespacedKey("zombiez", "uuid");
-        NamespacedKey keyRarity = new NamespacedKey("zombiez", "rarity");
-        NamespacedKey keyType = new NamespacedKey("zombiez", "type");
-        NamespacedKey keyScore = new NamespacedKey("zombiez", "score");
-        NamespacedKey keyZone = new NamespacedKey("zombiez", "zone");
-        NamespacedKey keyCreated = new NamespacedKey("zombiez", "created");
-        NamespacedKey keyAffixes = new NamespacedKey("zombiez", "affixes");
-        NamespacedKey keyItemLevel = new NamespacedKey("zombiez", "item_level");
-        NamespacedKey keyAwakenId = new NamespacedKey("zombiez", "awaken_id");
-        NamespacedKey keyBaseStats = new NamespacedKey("zombiez", "base_stats");
-        NamespacedKey keyAffixStats = new NamespacedKey("zombiez", "affix_stats");
-
-        pdc.set(keyUuid, PersistentDataType.STRING, uuid.toString());
-        pdc.set(keyRarity, PersistentDataType.STRING, rarity.name());
-        pdc.set(keyType, PersistentDataType.STRING, itemType.name());
-        pdc.set(keyScore, PersistentDataType.INTEGER, itemScore);
-        pdc.set(keyZone, PersistentDataType.INTEGER, zoneLevel);
-        pdc.set(keyCreated, PersistentDataType.LONG, createdAt);
-        pdc.set(keyItemLevel, PersistentDataType.INTEGER, itemLevel);
+        pdc.set(KEY_UUID, PersistentDataType.STRING, uuid.toString());
+        pdc.set(KEY_RARITY, PersistentDataType.STRING, rarity.name());
+        pdc.set(KEY_TYPE, PersistentDataType.STRING, itemType.name());
+        pdc.set(KEY_SCORE, PersistentDataType.INTEGER, itemScore);
+        pdc.set(KEY_ZONE, PersistentDataType.INTEGER, zoneLevel);
+        pdc.set(KEY_CREATED, PersistentDataType.LONG, createdAt);
+        pdc.set(KEY_ITEM_LEVEL, PersistentDataType.INTEGER, itemLevel);
 
         // Stocker l'éveil si présent
         if (awakenId != null && !awakenId.isEmpty()) {
-            pdc.set(keyAwakenId, PersistentDataType.STRING, awakenId);
+            pdc.set(KEY_AWAKEN_ID, PersistentDataType.STRING, awakenId);
 
             // Stocker les données d'affichage de l'éveil
-            NamespacedKey keyAwakenClassName = new NamespacedKey("zombiez", "awaken_class_name");
-            NamespacedKey keyAwakenBranchName = new NamespacedKey("zombiez", "awaken_branch_name");
-            NamespacedKey keyAwakenTalentName = new NamespacedKey("zombiez", "awaken_talent_name");
-            NamespacedKey keyAwakenEffectDesc = new NamespacedKey("zombiez", "awaken_effect_desc");
-
             if (awakenClassName != null) {
-                pdc.set(keyAwakenClassName, PersistentDataType.STRING, awakenClassName);
+                pdc.set(KEY_AWAKEN_CLASS_NAME, PersistentDataType.STRING, awakenClassName);
             }
             if (awakenBranchName != null) {
-                pdc.set(keyAwakenBranchName, PersistentDataType.STRING, awakenBranchName);
+                pdc.set(KEY_AWAKEN_BRANCH_NAME, PersistentDataType.STRING, awakenBranchName);
             }
             if (awakenTalentName != null) {
-                pdc.set(keyAwakenTalentName, PersistentDataType.STRING, awakenTalentName);
+                pdc.set(KEY_AWAKEN_TALENT_NAME, PersistentDataType.STRING, awakenTalentName);
             }
             if (awakenEffectDesc != null) {
-                pdc.set(keyAwakenEffectDesc, PersistentDataType.STRING, awakenEffectDesc);
+                pdc.set(KEY_AWAKEN_EFFECT_DESC, PersistentDataType.STRING, awakenEffectDesc);
             }
         }
 
-        // Sérialiser les stats de base (format: "STAT_TYPE:value;STAT_TYPE:value")
-        StringBuilder baseStatsStr = new StringBuilder();
-        for (var entry : baseStats.entrySet()) {
-            if (baseStatsStr.length() > 0) baseStatsStr.append(";");
-            baseStatsStr.append(entry.getKey().name()).append(":").append(entry.getValue());
+        // Stats de base et affixes: payload binaire (remplace les anciennes chaînes base_stats/affixes)
+        pdc.set(KEY_DATA, PersistentDataType.BYTE_ARRAY, encodePayload());
+        pdc.remove(KEY_BASE_STATS);
+        pdc.remove(KEY_AFFIXES);
+
+        // Stocker l'armor trim si présent
+        if (trimPatternKey != null && trimMaterialKey != null) {
+            pdc.set(KEY_TRIM_PATTERN, PersistentDataType.STRING, trimPatternKey);
+            pdc.set(KEY_TRIM_MATERIAL, PersistentDataType.STRING, trimMaterialKey);
         }
-        pdc.set(keyBaseStats, PersistentDataType.STRING, baseStatsStr.toString());
 
-        // Sérialiser les affixes avec leurs stats complètes
-        // Format: "affixId:tier|STAT:value;STAT:value,affixId:tier|STAT:value"
-        StringBuilder affixStr = new StringBuilder();
-        for (RolledAffix ra : affixes) {
-            if (affixStr.length() > 0) affixStr.append(",");
-            affixStr.append(ra.getAffix().getId()).append(":").append(ra.getAffix().getTier().ordinal());
-            affixStr.append("|");
-            StringBuilder statsStr = new StringBuilder();
-            for (var entry : ra.getRolledStats().entrySet()) {
-                if (statsStr.length() > 0) statsStr.append(";");
-                statsStr.append(entry.getKey().name()).append(":").append(entry.getValue());
+        stampRevision(pdc);
+        item.setItemMeta(meta);
+    }
+
+    /**
+     * Encode les données immuables de l'item
+     * Format v1: [version:1][uuid:16][rareté:utf][type:utf][score:4][zone:4][création:8][ilvl:4]
+     * [nbStats:2]([stat:utf][valeur:8])* [nbAffixes:2]([id:utf][tier:1][nbStats:2]([stat:utf][valeur:8])*)*
+     * Les stats sont écrites par nom (robuste à l'ajout de StatType)
+     */
+    private byte[] encodePayload() {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(PAYLOAD_VERSION);
+            out.writeLong(uuid.getMostSignificantBits());
+            out.writeLong(uuid.getLeastSignificantBits());
+            out.writeUTF(rarity.name());
+            out.writeUTF(itemType.name());
+            out.writeInt(itemScore);
+            out.writeInt(zoneLevel);
+            out.writeLong(createdAt);
+            out.writeInt(itemLevel);
+
+            writeStats(out, baseStats);
+
+            out.writeShort(affixes.size());
+            for (RolledAffix ra : affixes) {
+                out.writeUTF(ra.getAffix().getId());
+                out.writeByte(ra.getAffix().getTier().ordinal());
+                writeStats(out, ra.getRolledStats());
             }
-            affixStr.append(statsStr);
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            // Impossible avec un ByteArrayOutputStream
+            throw new IllegalStateException(e);
         }
-        pdc.set(keyAffixes, PersistentDataType.STRING, affixStr.toString());
+    }
 
-        // Stocker l'armor trim si présent
-        if (trimPatternKey != null && trimMaterialKey != null) {
-            NamespacedKey keyTrimPattern = new NamespacedKey("zombiez", "trim_pattern");
-            NamespacedKey keyTrimMaterial = new NamespacedKey("zombiez", "trim_material");
-            pdc.set(keyTrimPattern, PersistentDataType.STRING, trimPatternKey);
-            pdc.set(keyTrimMaterial, PersistentDataType.STRING, trimMaterialKey);
+    private static void writeStats(DataOutputStream out, Map<StatType, Double> stats) throws IOException {
+        out.writeShort(stats.size());
+        for (var entry : stats.entrySet()) {
+            out.writeUTF(entry.getKey().name());
+            out.writeDouble(entry.getValue());
         }
+    }
 
-        item.setItemMeta(meta);
+    private static Map<StatType, Double> readStats(DataInputStream in) throws IOException {
+        Map<StatType, Double> stats = new EnumMap<>(StatType.class);
+        int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            String name = in.readUTF();
+            double value = in.readDouble();
+            try {
+                stats.put(StatType.valueOf(name), value);
+            } catch (IllegalArgumentException ignored) {
+                // Stat supprimée depuis: ignorée comme dans l'ancien format
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Lit le payload binaire d'un item (null si absent: ancien format)
+     */
+    public static byte[] readPayload(ItemStack item) {
+        if (item == null || !item.hasItemMeta()) return null;
+        return item.getItemMeta().getPersistentDataContainer().get(KEY_DATA, PersistentDataType.BYTE_ARRAY);
+    }
+
+    /**
+     * Empreinte du contenu d'un item pour le cache de décodage
+     * Inclut l'éveil, modifiable sur un item existant (AwakenManager)
+     */
+    public static int getContentHash(ItemStack item, byte[] payload) {
+        String awaken = item.getItemMeta().getPersistentDataContainer().get(KEY_AWAKEN_ID, PersistentDataType.STRING);
+        return computeRevision(payload, awaken);
+    }
+
+    /**
+     * Empreinte d'un item à l'ancien format texte (chaînes brutes, sans les décoder)
+     * Permet de le garder en cache jusqu'à sa migration
+     */
+    public static int getLegacyContentHash(ItemStack item) {
+        PersistentDataContainer pdc = item.getItemMeta().getPersistentDataContainer();
+        return 31 * (31 * Objects.hashCode(pdc.get(KEY_BASE_STATS, PersistentDataType.STRING))
+            + Objects.hashCode(pdc.get(KEY_AFFIXES, PersistentDataType.STRING)))
+            + Objects.hashCode(pdc.get(KEY_AWAKEN_ID, PersistentDataType.STRING));
+    }
+
+    private static int computeRevision(byte[] payload, String awakenId) {
+        return 31 * Arrays.hashCode(payload) + Objects.hashCode(awakenId);
+    }
+
+    /**
+     * Empreinte que porterait l'ItemStack de cet item (validation du cache des items générés)
+     */
+    public int contentRevision() {
+        return computeRevision(encodePayload(), awakenId);
+    }
+
+    /**
+     * Réécrit l'empreinte après une modification du payload ou de l'éveil
+     * À appeler par tout système qui modifie ces clés sur un item existant
+     */
+    public static void stampRevision(PersistentDataContainer pdc) {
+        byte[] payload = pdc.get(KEY_DATA, PersistentDataType.BYTE_ARRAY);
+        if (payload == null) return;
+        pdc.set(KEY_REVISION, PersistentDataType.INTEGER,
+            computeRevision(payload, pdc.get(KEY_AWAKEN_ID, PersistentDataType.STRING)));
+    }
+
+    /**
+     * UUID et empreinte d'un item, lus sur une seule copie de la meta
+     * revision = null: item pas encore estampillé (voir migrate)
+     */
+    public record Stamp(UUID uuid, Integer revision) {}
+
+    /**
+     * Lit l'UUID et l'empreinte d'un item (null si ce n'est pas un item ZombieZ)
+     */
+    public static Stamp readStamp(ItemStack item) {
+        if (item == null || !item.hasItemMeta()) return null;
+
+        PersistentDataContainer pdc = item.getItemMeta().getPersistentDataContainer();
+        String uuidStr = pdc.get(KEY_UUID, PersistentDataType.STRING);
+        if (uuidStr == null) return null;
+
+        return new Stamp(UUID.fromString(uuidStr), pdc.get(KEY_REVISION, PersistentDataType.INTEGER));
     }
 
     /**
@@ -502,9 +635,8 @@ public class ZombieZItem {
         if (item == null || !item.hasItemMeta()) return false;
         
         PersistentDataContainer pdc = item.getItemMeta().getPersistentDataContainer();
-        NamespacedKey keyUuid = new NamespacedKey("zombiez", "uuid");
         
-        return pdc.has(keyUuid, PersistentDataType.STRING);
+        return pdc.has(KEY_UUID, PersistentDataType.STRING);
     }
 
     /**
@@ -514,8 +646,7 @@ public class ZombieZItem {
         if (!isZombieZItem(item)) return null;
         
         PersistentDataContainer pdc = item.getItemMeta().getPersistentDataContainer();
-        NamespacedKey keyUuid = new NamespacedKey("zombiez", "uuid");
-        String uuidStr = pdc.get(keyUuid, PersistentDataType.STRING);
+        String uuidStr = pdc.get(KEY_UUID, PersistentDataType.STRING);
         
         return uuidStr != null ? UUID.fromString(uuidStr) : null;
     }
@@ -527,8 +658,7 @@ public class ZombieZItem {
         if (!isZombieZItem(item)) return 0;
         
         PersistentDataContainer pdc = item.getItemMeta().getPersistentDataContainer();
-        NamespacedKey keyScore = new NamespacedKey("zombiez", "score");
-        Integer score = pdc.get(keyScore, PersistentDataType.INTEGER);
+        Integer score = pdc.get(KEY_SCORE, PersistentDataType.INTEGER);
         
         return score != null ? score : 0;
     }
@@ -540,8 +670,7 @@ public class ZombieZItem {
         if (!isZombieZItem(item)) return null;
 
         PersistentDataContainer pdc = item.getItemMeta().getPersistentDataContainer();
-        NamespacedKey keyRarity = new NamespacedKey("zombiez", "rarity");
-        String rarityStr = pdc.get(keyRarity, PersistentDataType.STRING);
+        String rarityStr = pdc.get(KEY_RARITY, PersistentDataType.STRING);
 
         return rarityStr != null ? Rarity.valueOf(rarityStr) : Rarity.COMMON;
     }
@@ -553,8 +682,7 @@ public class ZombieZItem {
         if (!isZombieZItem(item)) return 0;
 
         PersistentDataContainer pdc = item.getItemMeta().getPersistentDataContainer();
-        NamespacedKey keyZone = new NamespacedKey("zombiez", "zone");
-        Integer zone = pdc.get(keyZone, PersistentDataType.INTEGER);
+        Integer zone = pdc.get(KEY_ZONE, PersistentDataType.INTEGER);
 
         return zone != null ? zone : 1;
     }
@@ -649,53 +777,164 @@ public class ZombieZItem {
     }
     
     /**
-     * Reconstruit un ZombieZItem depuis un ItemStack
-     * Restaure les stats de base et les affixes depuis le PDC
+     * Reconstruit un ZombieZItem depuis un ItemStack, sans le modifier
+     * Lit le payload binaire; les items à l'ancien format texte sont décodés tels quels
+     * (la migration passe par migrate, sur un chemin d'écriture explicite)
      */
     public static ZombieZItem fromItemStack(ItemStack item) {
         if (!isZombieZItem(item)) return null;
 
-        PersistentDataContainer pdc = item.getItemMeta().getPersistentDataContainer();
+        byte[] payload = readPayload(item);
+        if (payload != null) {
+            ZombieZItem decoded = decodePayload(item, payload);
+            if (decoded != null) {
+                return decoded;
+            }
+        }
 
-        UUID uuid = getItemUUID(item);
-        Rarity rarity = getItemRarity(item);
-        int score = getItemScore(item);
+        return fromLegacyItemStack(item);
+    }
 
-        NamespacedKey keyType = new NamespacedKey("zombiez", "type");
-        NamespacedKey keyZone = new NamespacedKey("zombiez", "zone");
-        NamespacedKey keyCreated = new NamespacedKey("zombiez", "created");
-        NamespacedKey keyItemLevel = new NamespacedKey("zombiez", "item_level");
-        NamespacedKey keyAwakenId = new NamespacedKey("zombiez", "awaken_id");
-        NamespacedKey keyBaseStats = new NamespacedKey("zombiez", "base_stats");
-        NamespacedKey keyAffixes = new NamespacedKey("zombiez", "affixes");
+    /**
+     * Migre un item vers le format courant: payload binaire pour l'ancien format texte,
+     * empreinte pour les items qui n'en ont pas encore
+     *
+     * @return true si l'ItemStack a été modifié
+     */
+    public static boolean migrate(ItemStack item) {
+        if (!isZombieZItem(item)) return false;
 
-        String typeStr = pdc.get(keyType, PersistentDataType.STRING);
-        ItemType type = typeStr != null ? ItemType.valueOf(typeStr) : ItemType.SWORD;
+        var meta = item.getItemMeta();
+        PersistentDataContainer pdc = meta.getPersistentDataContainer();
+
+        if (!pdc.has(KEY_DATA, PersistentDataType.BYTE_ARRAY)) {
+            ZombieZItem legacy = fromLegacyItemStack(item);
+            if (legacy == null) return false;
+            pdc.set(KEY_DATA, PersistentDataType.BYTE_ARRAY, legacy.encodePayload());
+            pdc.remove(KEY_BASE_STATS);
+            pdc.remove(KEY_AFFIXES);
+        } else if (pdc.has(KEY_REVISION, PersistentDataType.INTEGER)) {
+            return false;
+        }
+
+        stampRevision(pdc);
+        item.setItemMeta(meta);
+        return true;
+    }
+
+    /**
+     * Décode le payload binaire (null si version inconnue ou données corrompues)
+     */
+    private static ZombieZItem decodePayload(ItemStack item, byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            if (in.readByte() != PAYLOAD_VERSION) return null;
+
+            UUID uuid = new UUID(in.readLong(), in.readLong());
+            Rarity rarity = Rarity.valueOf(in.readUTF());
+            ItemType type = ItemType.valueOf(in.readUTF());
+            int score = in.readInt();
+            int zone = in.readInt();
+            long created = in.readLong();
+            int ilvl = in.readInt();
 
-        Integer zone = pdc.get(keyZone, PersistentDataType.INTEGER);
-        Long created = pdc.get(keyCreated, PersistentDataType.LONG);
-        Integer ilvl = pdc.get(keyItemLevel, PersistentDataType.INTEGER);
-        String awakenId = pdc.get(keyAwakenId, PersistentDataType.STRING);
+            Map<StatType, Double> baseStats = readStats(in);
+
+            var affixRegistry = com.rinaorc.zombiez.items.affixes.AffixRegistry.getInstance();
+            int affixCount = in.readUnsignedShort();
+            List<RolledAffix> affixes = new ArrayList<>(affixCount);
+            for (int i = 0; i < affixCount; i++) {
+                String affixId = in.readUTF();
+                in.readByte(); // Tier: redonné par le registre
+                Map<StatType, Double> rolledStats = readStats(in);
+                var affix = affixRegistry.getAffix(affixId);
+                if (affix != null) {
+                    affixes.add(RolledAffix.builder()
+                        .affix(affix)
+                        .rolledStats(rolledStats)
+                        .build());
+                }
+            }
+
+            return buildRestored(item, uuid, type, rarity, zone, score, created, ilvl, baseStats, affixes);
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Assemble un item restauré (champs communs aux deux formats)
+     * L'éveil et le trim restent dans leurs clés dédiées (modifiables par d'autres systèmes)
+     */
+    private static ZombieZItem buildRestored(ItemStack item, UUID uuid, ItemType type, Rarity rarity, int zone,
+                                             int score, long created, int ilvl,
+                                             Map<StatType, Double> baseStats, List<RolledAffix> affixes) {
+        var meta = item.getItemMeta();
+        PersistentDataContainer pdc = meta.getPersistentDataContainer();
 
         // Lire les données d'affichage de l'éveil
-        NamespacedKey keyAwakenClassName = new NamespacedKey("zombiez", "awaken_class_name");
-        NamespacedKey keyAwakenBranchName = new NamespacedKey("zombiez", "awaken_branch_name");
-        NamespacedKey keyAwakenTalentName = new NamespacedKey("zombiez", "awaken_talent_name");
-        NamespacedKey keyAwakenEffectDesc = new NamespacedKey("zombiez", "awaken_effect_desc");
-        String awakenClassName = pdc.get(keyAwakenClassName, PersistentDataType.STRING);
-        String awakenBranchName = pdc.get(keyAwakenBranchName, PersistentDataType.STRING);
-        String awakenTalentName = pdc.get(keyAwakenTalentName, PersistentDataType.STRING);
-        String awakenEffectDesc = pdc.get(keyAwakenEffectDesc, PersistentDataType.STRING);
+        String awakenId = pdc.get(KEY_AWAKEN_ID, PersistentDataType.STRING);
+        String awakenClassName = null;
+        String awakenBranchName = null;
+        String awakenTalentName = null;
+        String awakenEffectDesc = null;
+        if (awakenId != null) {
+            awakenClassName = pdc.get(KEY_AWAKEN_CLASS_NAME, PersistentDataType.STRING);
+            awakenBranchName = pdc.get(KEY_AWAKEN_BRANCH_NAME, PersistentDataType.STRING);
+            awakenTalentName = pdc.get(KEY_AWAKEN_TALENT_NAME, PersistentDataType.STRING);
+            awakenEffectDesc = pdc.get(KEY_AWAKEN_EFFECT_DESC, PersistentDataType.STRING);
+        }
 
         // Lire les données d'armor trim
-        NamespacedKey keyTrimPattern = new NamespacedKey("zombiez", "trim_pattern");
-        NamespacedKey keyTrimMaterial = new NamespacedKey("zombiez", "trim_material");
-        String trimPattern = pdc.get(keyTrimPattern, PersistentDataType.STRING);
-        String trimMaterial = pdc.get(keyTrimMaterial, PersistentDataType.STRING);
+        String trimPattern = pdc.get(KEY_TRIM_PATTERN, PersistentDataType.STRING);
+        String trimMaterial = pdc.get(KEY_TRIM_MATERIAL, PersistentDataType.STRING);
+
+        return ZombieZItem.builder()
+            .uuid(uuid)
+            .itemType(type)
+            .material(item.getType())
+            .rarity(rarity)
+            .tier(0)
+            .zoneLevel(zone)
+            .baseName(item.getType().name())
+            .generatedName(meta.hasDisplayName() ?
+                net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer.plainText()
+                    .serialize(meta.displayName()) : item.getType().name())
+            .baseStats(baseStats)
+            .affixes(affixes)
+            .itemScore(score)
+            .createdAt(created)
+            .identified(true)
+            .itemLevel(ilvl)
+            .awakenId(awakenId)
+            .awakenClassName(awakenClassName)
+            .awakenBranchName(awakenBranchName)
+            .awakenTalentName(awakenTalentName)
+            .awakenEffectDesc(awakenEffectDesc)
+            .trimPatternKey(trimPattern)
+            .trimMaterialKey(trimMaterial)
+            .build();
+    }
+
+    /**
+     * Décode l'ancien format texte (base_stats/affixes découpés par split)
+     */
+    private static ZombieZItem fromLegacyItemStack(ItemStack item) {
+        PersistentDataContainer pdc = item.getItemMeta().getPersistentDataContainer();
+
+        UUID uuid = getItemUUID(item);
+        Rarity rarity = getItemRarity(item);
+        int score = getItemScore(item);
+
+        String typeStr = pdc.get(KEY_TYPE, PersistentDataType.STRING);
+        ItemType type = typeStr != null ? ItemType.valueOf(typeStr) : ItemType.SWORD;
+
+        Integer zone = pdc.get(KEY_ZONE, PersistentDataType.INTEGER);
+        Long created = pdc.get(KEY_CREATED, PersistentDataType.LONG);
+        Integer ilvl = pdc.get(KEY_ITEM_LEVEL, PersistentDataType.INTEGER);
 
         // Désérialiser les stats de base (format: "STAT_TYPE:value;STAT_TYPE:value")
         Map<StatType, Double> baseStats = new EnumMap<>(StatType.class);
-        String baseStatsStr = pdc.get(keyBaseStats, PersistentDataType.STRING);
+        String baseStatsStr = pdc.get(KEY_BASE_STATS, PersistentDataType.STRING);
         if (baseStatsStr != null && !baseStatsStr.isEmpty()) {
             for (String statPair : baseStatsStr.split(";")) {
                 String[] parts = statPair.split(":");
@@ -711,7 +950,7 @@ public class ZombieZItem {
 
         // Désérialiser les affixes (format: "affixId:tier|STAT:value;STAT:value,...")
         List<RolledAffix> affixes = new ArrayList<>();
-        String affixesStr = pdc.get(keyAffixes, PersistentDataType.STRING);
+        String affixesStr = pdc.get(KEY_AFFIXES, PersistentDataType.STRING);
         if (affixesStr != null && !affixesStr.isEmpty()) {
             var affixRegistry = com.rinaorc.zombiez.items.affixes.AffixRegistry.getInstance();
             for (String affixData : affixesStr.split(",")) {
@@ -747,30 +986,7 @@ public class ZombieZItem {
             }
         }
 
-        return ZombieZItem.builder()
-            .uuid(uuid)
-            .itemType(type)
-            .material(item.getType())
-            .rarity(rarity)
-            .tier(0)
-            .zoneLevel(zone != null ? zone : 1)
-            .baseName(item.getType().name())
-            .generatedName(item.hasItemMeta() && item.getItemMeta().hasDisplayName() ?
-                net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer.plainText()
-                    .serialize(item.getItemMeta().displayName()) : item.getType().name())
-            .baseStats(baseStats)
-            .affixes(affixes)
-            .itemScore(score)
-            .createdAt(created != null ? created : System.currentTimeMillis())
-            .identified(true)
-            .itemLevel(ilvl != null ? ilvl : 1)
-            .awakenId(awakenId)
-            .awakenClassName(awakenClassName)
-            .awakenBranchName(awakenBranchName)
-            .awakenTalentName(awakenTalentName)
-            .awakenEffectDesc(awakenEffectDesc)
-            .trimPatternKey(trimPattern)
-            .trimMaterialKey(trimMaterial)
-            .build();
+        return buildRestored(item, uuid, type, rarity, zone != null ? zone : 1, score,
+            created != null ? created : System.currentTimeMillis(), ilvl != null ? ilvl : 1, baseStats, affixes);
     }
 }
@@ -331,6 +331,8 @@ public class AwakenManager {
         pdc.set(keyAwakenDesc, PersistentDataType.STRING,
             awaken.getEffectDescription() != null ? awaken.getEffectDescription() : "");
 
+        // L'éveil fait partie de l'empreinte du cache de décodage
+        ZombieZItem.stampRevision(pdc);
         item.setItemMeta(meta);
     }
 
@@ -0,0 +1,281 @@
+package com.rinaorc.zombiez.leaderboards;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Classement en mémoire d'un couple (Type, Période)
+ *
+ * Skip list indexable (chaque lien connaît le nombre de joueurs qu'il saute):
+ * - rang d'un joueur, mise à jour d'un score: O(log n)
+ * - accès au rang N puis parcours: O(log n + count)
+ *
+ * Ordre: score décroissant, puis UUID (départage stable).
+ * Les scores <= 0 ne sont pas classés. Thread-safe (verrou par classement).
+ */
+class LeaderboardIndex {
+
+    private static final int MAX_LEVEL = 24;
+    private static final double LEVEL_PROBABILITY = 0.25;
+
+    private static final class Node {
+        final UUID uuid;
+        String name;
+        final long score;
+        final Node[] next;
+        final int[] span;
+
+        Node(UUID uuid, String name, long score, int level) {
+            this.uuid = uuid;
+            this.name = name;
+            this.score = score;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+    }
+
+    private final Node head = new Node(null, null, Long.MAX_VALUE, MAX_LEVEL);
+    private final Map<UUID, Node> nodes = new HashMap<>();
+    private int level = 1;
+    private int length = 0;
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // MISE À JOUR
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Définit le score d'un joueur
+     */
+    synchronized void set(UUID uuid, String name, long score) {
+        Node existing = nodes.get(uuid);
+        if (existing != null) {
+            if (existing.score == score) {
+                if (name != null) existing.name = name;
+                return;
+            }
+            if (name == null) name = existing.name;
+            delete(existing);
+        }
+        if (score > 0) {
+            nodes.put(uuid, insert(uuid, name, score));
+        }
+    }
+
+    /**
+     * Ajoute un montant au score d'un joueur
+     */
+    synchronized void add(UUID uuid, String name, long amount) {
+        Node existing = nodes.get(uuid);
+        set(uuid, name, (existing != null ? existing.score : 0L) + amount);
+    }
+
+    /**
+     * Monte le score d'un joueur s'il est supérieur à l'actuel
+     */
+    synchronized void raise(UUID uuid, String name, long score) {
+        Node existing = nodes.get(uuid);
+        if (existing == null || score > existing.score) {
+            set(uuid, name, score);
+        } else if (name != null) {
+            existing.name = name;
+        }
+    }
+
+    synchronized void remove(UUID uuid) {
+        Node existing = nodes.get(uuid);
+        if (existing != null) {
+            delete(existing);
+        }
+    }
+
+    synchronized void clear() {
+        for (int i = 0; i < MAX_LEVEL; i++) {
+            head.next[i] = null;
+            head.span[i] = 0;
+        }
+        nodes.clear();
+        level = 1;
+        length = 0;
+    }
+
+    /**
+     * Recharge le classement depuis un snapshot de la base
+     * Les joueurs de {@code keepLive} gardent leur score mémoire s'il est plus élevé
+     * (progression pas encore sauvegardée)
+     */
+    synchronized void load(Collection<LeaderboardEntry> rows, Collection<UUID> keepLive) {
+        Map<UUID, Node> live = new HashMap<>();
+        for (UUID uuid : keepLive) {
+            Node node = nodes.get(uuid);
+            if (node != null) live.put(uuid, node);
+        }
+
+        clear();
+        for (LeaderboardEntry row : rows) {
+            set(row.getUuid(), row.getPlayerName(), row.getValue());
+        }
+        for (Node node : live.values()) {
+            raise(node.uuid, node.name, node.score);
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // LECTURE
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Rang d'un joueur (1 = premier), -1 s'il n'est pas classé
+     */
+    synchronized int rank(UUID uuid) {
+        Node node = nodes.get(uuid);
+        if (node == null) return -1;
+
+        Node x = head;
+        int rank = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && (x.next[i] == node || before(x.next[i], node.score, node.uuid))) {
+                rank += x.span[i];
+                x = x.next[i];
+            }
+            if (x == node) return rank;
+        }
+        return -1;
+    }
+
+    synchronized long score(UUID uuid) {
+        Node node = nodes.get(uuid);
+        return node != null ? node.score : 0L;
+    }
+
+    /**
+     * Entrées à partir d'un rang (offset 0 = premier)
+     */
+    synchronized List<LeaderboardEntry> range(int offset, int count) {
+        if (offset < 0 || count <= 0 || offset >= length) return new ArrayList<>();
+
+        List<LeaderboardEntry> result = new ArrayList<>(Math.min(count, length - offset));
+        int rank = offset + 1;
+        Node x = nodeAt(rank);
+        while (x != null && result.size() < count) {
+            result.add(new LeaderboardEntry(x.uuid, x.name, x.score, rank++));
+            x = x.next[0];
+        }
+        return result;
+    }
+
+    /**
+     * Entrée d'un joueur avec son rang, null s'il n'est pas classé
+     */
+    synchronized LeaderboardEntry entry(UUID uuid) {
+        Node node = nodes.get(uuid);
+        if (node == null) return null;
+        return new LeaderboardEntry(node.uuid, node.name, node.score, rank(uuid));
+    }
+
+    synchronized int size() {
+        return length;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // SKIP LIST
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Vrai si le noeud est classé avant (score, uuid)
+     */
+    private static boolean before(Node node, long score, UUID uuid) {
+        return node.score > score || (node.score == score && node.uuid.compareTo(uuid) < 0);
+    }
+
+    private Node insert(UUID uuid, String name, long score) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && before(x.next[i], score, uuid)) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        int newLevel = randomLevel();
+        if (newLevel > level) {
+            for (int i = level; i < newLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = length;
+            }
+            level = newLevel;
+        }
+
+        Node node = new Node(uuid, name, score, newLevel);
+        for (int i = 0; i < newLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = (rank[0] - rank[i]) + 1;
+        }
+        for (int i = newLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+
+        length++;
+        return node;
+    }
+
+    private void delete(Node node) {
+        Node[] update = new Node[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && before(x.next[i], node.score, node.uuid)) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == node) {
+                update[i].span[i] += node.span[i] - 1;
+                update[i].next[i] = node.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+
+        length--;
+        nodes.remove(node.uuid);
+    }
+
+    private Node nodeAt(int rank) {
+        Node x = head;
+        int traversed = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && traversed + x.span[i] <= rank) {
+                traversed += x.span[i];
+                x = x.next[i];
+            }
+            if (traversed == rank) return x;
+        }
+        return null;
+    }
+
+    private static int randomLevel() {
+        int lvl = 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (lvl < MAX_LEVEL && random.nextDouble() < LEVEL_PROBABILITY) {
+            lvl++;
+        }
+        return lvl;
+    }
+}
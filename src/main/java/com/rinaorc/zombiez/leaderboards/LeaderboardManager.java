@@ -1,7 +1,5 @@
 package com.rinaorc.zombiez.leaderboards;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import com.rinaorc.zombiez.ZombieZPlugin;
 import com.rinaorc.zombiez.data.PlayerData;
 import lombok.Getter;
@@ -16,13 +14,13 @@ import java.time.ZoneId;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
 /**
  * Gestionnaire complet des Leaderboards ZombieZ
  * Supporte les périodes ALL_TIME, DAILY, WEEKLY, MONTHLY, SEASONAL
- * Optimisé pour 200+ joueurs avec cache Caffeine
+ * Optimisé pour 200+ joueurs: classements indexés en mémoire (rang O(log n)),
+ * la base de données ne sert que de snapshot périodique
  */
 public class LeaderboardManager {
 
@@ -32,11 +30,17 @@ public class LeaderboardManager {
     // CACHE ET STOCKAGE
     // ═══════════════════════════════════════════════════════════════════════════
 
-    // Cache principal: (Type, Period) -> Liste triée d'entrées
-    private final Cache<String, List<LeaderboardEntry>> leaderboardCache;
+    // Classements en mémoire: [Type][Période] -> index ordonné
+    private final LeaderboardIndex[][] indexes;
 
-    // Cache des rangs des joueurs: UUID -> (Type, Period) -> Rang
-    private final Map<UUID, Map<String, Integer>> playerRankCache;
+    // Joueurs exclus des classements (bans actifs)
+    private final Set<UUID> bannedPlayers;
+
+    // Écritures des scores périodiques, cumulées puis flushées par lots
+    private final LeaderboardScoreBuffer scoreBuffer;
+
+    // File ordonnée des opérations BDD de fin de période (voir enqueuePeriodTask)
+    private CompletableFuture<Void> periodTasks = CompletableFuture.completedFuture(null);
 
     // Cache des scores des joueurs en ligne (mise à jour temps réel)
     private final Map<UUID, Map<LeaderboardType, Long>> liveScores;
@@ -53,8 +57,8 @@ public class LeaderboardManager {
     // ═══════════════════════════════════════════════════════════════════════════
 
     private static final int MAX_ENTRIES = 100;
-    private static final long CACHE_DURATION_MINUTES = 5;
-    private static final long UPDATE_INTERVAL_TICKS = 60 * 20L; // 1 minute
+    private static final long SNAPSHOT_INTERVAL_TICKS = 10 * 60 * 20L; // 10 minutes
+    private static final int DEFAULT_FLUSH_INTERVAL_SECONDS = 5;
     private static final long DAILY_CHECK_INTERVAL_TICKS = 20 * 60 * 20L; // 20 minutes
 
     // Seuils anti-triche
@@ -72,13 +76,16 @@ public class LeaderboardManager {
     public LeaderboardManager(ZombieZPlugin plugin) {
         this.plugin = plugin;
 
-        // Initialiser le cache Caffeine
-        this.leaderboardCache = Caffeine.newBuilder()
-            .maximumSize(200) // Type × Period combinations
-            .expireAfterWrite(CACHE_DURATION_MINUTES, TimeUnit.MINUTES)
-            .build();
+        // Un index par combinaison Type × Période
+        this.indexes = new LeaderboardIndex[LeaderboardType.values().length][LeaderboardPeriod.values().length];
+        for (LeaderboardIndex[] byPeriod : indexes) {
+            for (int i = 0; i < byPeriod.length; i++) {
+                byPeriod[i] = new LeaderboardIndex();
+            }
+        }
 
-        this.playerRankCache = new ConcurrentHashMap<>();
+        this.bannedPlayers = ConcurrentHashMap.newKeySet();
+        this.scoreBuffer = new LeaderboardScoreBuffer(plugin);
         this.liveScores = new ConcurrentHashMap<>();
         this.flaggedPlayers = new ConcurrentHashMap<>();
 
@@ -90,6 +97,7 @@ public class LeaderboardManager {
 
         // Démarrer les tâches
         startUpdateTask();
+        startFlushTask();
         startPeriodCheckTask();
         startAntiCheatTask();
 
@@ -260,8 +268,9 @@ public class LeaderboardManager {
         int seasonId = getNextSeasonId();
 
         currentSeason = new SeasonData(seasonId, "Saison " + seasonId, now, endDate);
+        String seasonName = currentSeason.getName();
 
-        CompletableFuture.runAsync(() -> {
+        enqueuePeriodTask(() -> {
             try (Connection conn = plugin.getDatabaseManager().getConnection()) {
                 // Désactiver les anciennes saisons
                 try (PreparedStatement stmt = conn.prepareStatement(
@@ -273,13 +282,13 @@ public class LeaderboardManager {
                 String sql = "INSERT INTO zombiez_seasons (season_id, season_name, start_date, end_date, is_active) VALUES (?, ?, ?, ?, TRUE)";
                 try (PreparedStatement stmt = conn.prepareStatement(sql)) {
                     stmt.setInt(1, seasonId);
-                    stmt.setString(2, currentSeason.getName());
+                    stmt.setString(2, seasonName);
                     stmt.setTimestamp(3, Timestamp.from(now));
                     stmt.setTimestamp(4, Timestamp.from(endDate));
                     stmt.executeUpdate();
                 }
 
-                plugin.log(Level.INFO, "§a✓ Nouvelle saison créée: " + currentSeason.getName());
+                plugin.log(Level.INFO, "§a✓ Nouvelle saison créée: " + seasonName);
 
             } catch (SQLException e) {
                 plugin.log(Level.WARNING, "§e⚠ Erreur création saison: " + e.getMessage());
@@ -369,7 +378,13 @@ public class LeaderboardManager {
     }
 
     private void archiveSeasonData() {
-        CompletableFuture.runAsync(() -> {
+        // Dates figées: la saison courante est remplacée avant l'exécution de la tâche
+        Instant seasonStart = currentSeason.getStartDate();
+        Instant seasonEnd = currentSeason.getEndDate();
+
+        // Les scores en attente font partie de la saison archivée
+        enqueuePeriodTask(scoreBuffer::flush);
+        enqueuePeriodTask(() -> {
             try (Connection conn = plugin.getDatabaseManager().getConnection()) {
                 // Copier les données saisonnières vers l'historique
                 String sql = """
@@ -381,8 +396,8 @@ public class LeaderboardManager {
                     """;
 
                 try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                    stmt.setTimestamp(1, Timestamp.from(currentSeason.getStartDate()));
-                    stmt.setTimestamp(2, Timestamp.from(currentSeason.getEndDate()));
+                    stmt.setTimestamp(1, Timestamp.from(seasonStart));
+                    stmt.setTimestamp(2, Timestamp.from(seasonEnd));
                     stmt.executeUpdate();
                 }
 
@@ -402,7 +417,22 @@ public class LeaderboardManager {
             public void run() {
                 refreshAllLeaderboards();
             }
-        }.runTaskTimerAsynchronously(plugin, 100L, UPDATE_INTERVAL_TICKS);
+        }.runTaskTimerAsynchronously(plugin, 100L, SNAPSHOT_INTERVAL_TICKS);
+    }
+
+    private void startFlushTask() {
+        var config = plugin.getConfigManager() != null ? plugin.getConfigManager().getMainConfig() : null;
+        int intervalSeconds = config != null
+            ? Math.max(1, config.getInt("performance.leaderboard-flush-interval", DEFAULT_FLUSH_INTERVAL_SECONDS))
+            : DEFAULT_FLUSH_INTERVAL_SECONDS;
+        long intervalTicks = intervalSeconds * 20L;
+
+        new BukkitRunnable() {
+            @Override
+            public void run() {
+                enqueuePeriodTask(scoreBuffer::flush);
+            }
+        }.runTaskTimerAsynchronously(plugin, intervalTicks, intervalTicks);
     }
 
     private void startPeriodCheckTask() {
@@ -428,54 +458,60 @@ public class LeaderboardManager {
     // RAFRAÎCHISSEMENT DES LEADERBOARDS
     // ═══════════════════════════════════════════════════════════════════════════
 
-    public void refreshAllLeaderboards() {
-        for (LeaderboardType type : LeaderboardType.values()) {
-            for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
-                refreshLeaderboard(type, period);
+    /**
+     * Recharge tous les classements depuis la base (snapshot)
+     * Les rangs et tops sont ensuite servis par les index, mis à jour à chaque score
+     * Passe par la file des opérations de période: un snapshot ne lit jamais une période
+     * entre son reset en mémoire et le DELETE correspondant
+     */
+    public CompletableFuture<Void> refreshAllLeaderboards() {
+        return enqueuePeriodTask(() -> {
+            scoreBuffer.flush();
+            loadBannedPlayers();
+            Set<UUID> online = getOnlinePlayerIds();
+
+            for (LeaderboardType type : LeaderboardType.values()) {
+                for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
+                    refreshLeaderboard(type, period, online);
+                }
             }
-        }
-        lastUpdate = System.currentTimeMillis();
-
-        // Mettre à jour les rangs des joueurs en ligne
-        for (Player player : plugin.getServer().getOnlinePlayers()) {
-            updatePlayerRanks(player.getUniqueId());
-        }
+            lastUpdate = System.currentTimeMillis();
+        });
     }
 
-    private void refreshLeaderboard(LeaderboardType type, LeaderboardPeriod period) {
-        List<LeaderboardEntry> entries = fetchFromDatabase(type, period);
-        String cacheKey = type.name() + "_" + period.name();
-        leaderboardCache.put(cacheKey, entries);
+    private void refreshLeaderboard(LeaderboardType type, LeaderboardPeriod period, Set<UUID> online) {
+        List<LeaderboardEntry> rows = fetchFromDatabase(type, period);
+        if (rows == null) return; // Erreur SQL: on garde l'index actuel
+
+        rows.removeIf(row -> bannedPlayers.contains(row.getUuid()));
+        // Les joueurs en ligne gardent leur score mémoire s'il est en avance sur la base
+        getIndex(type, period).load(rows, online);
     }
 
+    /**
+     * Charge toutes les entrées classées (score > 0) d'un leaderboard, null en cas d'erreur
+     */
     private List<LeaderboardEntry> fetchFromDatabase(LeaderboardType type, LeaderboardPeriod period) {
         List<LeaderboardEntry> entries = new ArrayList<>();
 
         try (Connection conn = plugin.getDatabaseManager().getConnection()) {
             String sql;
-            boolean isSQLite = plugin.getDatabaseManager().getDatabaseType() ==
-                    com.rinaorc.zombiez.data.DatabaseManager.DatabaseType.SQLITE;
-            String nowFunc = isSQLite ? "datetime('now')" : "NOW()";
 
             if (period == LeaderboardPeriod.ALL_TIME) {
                 // Requête directe sur la table principale
                 if (type.isDetailedStat()) {
                     sql = """
-                        SELECT p.uuid, p.name, COALESCE(s.stat_value, 0) as value
-                        FROM zombiez_players p
-                        LEFT JOIN zombiez_stats s ON p.uuid = s.uuid AND s.stat_key = ?
-                        WHERE p.uuid NOT IN (SELECT uuid FROM zombiez_leaderboard_banned WHERE expires_at IS NULL OR expires_at > %s)
-                        ORDER BY value DESC
-                        LIMIT ?
-                        """.formatted(nowFunc);
+                        SELECT p.uuid, p.name, s.stat_value as value
+                        FROM zombiez_stats s
+                        JOIN zombiez_players p ON p.uuid = s.uuid
+                        WHERE s.stat_key = ? AND s.stat_value > 0
+                        """;
                 } else {
                     sql = """
                         SELECT uuid, name, %s as value
                         FROM zombiez_players
-                        WHERE uuid NOT IN (SELECT uuid FROM zombiez_leaderboard_banned WHERE expires_at IS NULL OR expires_at > %s)
-                        ORDER BY %s DESC
-                        LIMIT ?
-                        """.formatted(type.getColumn(), nowFunc, type.getColumn());
+                        WHERE %s > 0
+                        """.formatted(type.getColumn(), type.getColumn());
                 }
             } else {
                 // Requête sur la table des leaderboards périodiques
@@ -483,43 +519,73 @@ public class LeaderboardManager {
                     SELECT l.uuid, p.name, l.value
                     FROM zombiez_leaderboards l
                     JOIN zombiez_players p ON l.uuid = p.uuid
-                    WHERE l.leaderboard_type = ? AND l.period = ?
-                    AND l.uuid NOT IN (SELECT uuid FROM zombiez_leaderboard_banned WHERE expires_at IS NULL OR expires_at > %s)
-                    ORDER BY l.value DESC
-                    LIMIT ?
-                    """.formatted(nowFunc);
+                    WHERE l.leaderboard_type = ? AND l.period = ? AND l.value > 0
+                    """;
             }
 
             try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                int paramIndex = 1;
-
                 if (period == LeaderboardPeriod.ALL_TIME && type.isDetailedStat()) {
-                    stmt.setString(paramIndex++, type.getColumn());
+                    stmt.setString(1, type.getColumn());
                 } else if (period != LeaderboardPeriod.ALL_TIME) {
-                    stmt.setString(paramIndex++, type.name());
-                    stmt.setString(paramIndex++, period.name());
+                    stmt.setString(1, type.name());
+                    stmt.setString(2, period.name());
                 }
 
-                stmt.setInt(paramIndex, MAX_ENTRIES);
                 ResultSet rs = stmt.executeQuery();
-
-                int rank = 1;
                 while (rs.next()) {
                     UUID uuid = UUID.fromString(rs.getString("uuid"));
                     String name = rs.getString("name");
                     long value = rs.getLong("value");
 
-                    entries.add(new LeaderboardEntry(uuid, name, value, rank++));
+                    entries.add(new LeaderboardEntry(uuid, name, value));
                 }
             }
 
         } catch (SQLException e) {
             plugin.log(Level.WARNING, "§e⚠ Erreur chargement leaderboard " + type + "/" + period + ": " + e.getMessage());
+            return null;
         }
 
         return entries;
     }
 
+    /**
+     * Charge la liste des joueurs bannis des classements
+     */
+    private void loadBannedPlayers() {
+        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
+            boolean isSQLite = plugin.getDatabaseManager().getDatabaseType() ==
+                    com.rinaorc.zombiez.data.DatabaseManager.DatabaseType.SQLITE;
+            String nowFunc = isSQLite ? "datetime('now')" : "NOW()";
+            String sql = "SELECT uuid FROM zombiez_leaderboard_banned WHERE expires_at IS NULL OR expires_at > " + nowFunc;
+
+            Set<UUID> banned = new HashSet<>();
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                ResultSet rs = stmt.executeQuery();
+                while (rs.next()) {
+                    banned.add(UUID.fromString(rs.getString("uuid")));
+                }
+            }
+
+            bannedPlayers.retainAll(banned);
+            bannedPlayers.addAll(banned);
+        } catch (SQLException e) {
+            plugin.log(Level.WARNING, "§e⚠ Erreur chargement bans leaderboard: " + e.getMessage());
+        }
+    }
+
+    private Set<UUID> getOnlinePlayerIds() {
+        Set<UUID> online = new HashSet<>();
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            online.add(player.getUniqueId());
+        }
+        return online;
+    }
+
+    private LeaderboardIndex getIndex(LeaderboardType type, LeaderboardPeriod period) {
+        return indexes[type.ordinal()][period.ordinal()];
+    }
+
     // ═══════════════════════════════════════════════════════════════════════════
     // ACCÈS AUX DONNÉES
     // ═══════════════════════════════════════════════════════════════════════════
@@ -528,15 +594,14 @@ public class LeaderboardManager {
      * Obtient le top X d'un leaderboard
      */
     public List<LeaderboardEntry> getTopEntries(LeaderboardType type, LeaderboardPeriod period, int count) {
-        String cacheKey = type.name() + "_" + period.name();
-        List<LeaderboardEntry> cached = leaderboardCache.getIfPresent(cacheKey);
-
-        if (cached == null) {
-            cached = fetchFromDatabase(type, period);
-            leaderboardCache.put(cacheKey, cached);
-        }
+        return getIndex(type, period).range(0, count);
+    }
 
-        return cached.subList(0, Math.min(count, cached.size()));
+    /**
+     * Obtient une page d'un leaderboard, à n'importe quelle profondeur (offset 0 = premier)
+     */
+    public List<LeaderboardEntry> getEntries(LeaderboardType type, LeaderboardPeriod period, int offset, int count) {
+        return getIndex(type, period).range(offset, count);
     }
 
     /**
@@ -547,12 +612,10 @@ public class LeaderboardManager {
     }
 
     /**
-     * Obtient le rang d'un joueur (depuis le cache)
+     * Obtient le rang d'un joueur (-1 s'il n'est pas classé)
      */
     public int getPlayerRank(UUID uuid, LeaderboardType type, LeaderboardPeriod period) {
-        Map<String, Integer> ranks = playerRankCache.get(uuid);
-        if (ranks == null) return -1;
-        return ranks.getOrDefault(type.name() + "_" + period.name(), -1);
+        return getIndex(type, period).rank(uuid);
     }
 
     /**
@@ -563,28 +626,17 @@ public class LeaderboardManager {
     }
 
     /**
-     * Met à jour le cache des rangs d'un joueur
+     * Obtient l'entrée d'un joueur avec son rang et son score (null s'il n'est pas classé)
      */
-    public void updatePlayerRanks(UUID uuid) {
-        Map<String, Integer> ranks = new HashMap<>();
-
-        for (LeaderboardType type : LeaderboardType.values()) {
-            for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
-                String cacheKey = type.name() + "_" + period.name();
-                List<LeaderboardEntry> entries = leaderboardCache.getIfPresent(cacheKey);
-
-                if (entries != null) {
-                    for (int i = 0; i < entries.size(); i++) {
-                        if (entries.get(i).getUuid().equals(uuid)) {
-                            ranks.put(cacheKey, i + 1);
-                            break;
-                        }
-                    }
-                }
-            }
-        }
+    public LeaderboardEntry getPlayerEntry(UUID uuid, LeaderboardType type, LeaderboardPeriod period) {
+        return getIndex(type, period).entry(uuid);
+    }
 
-        playerRankCache.put(uuid, ranks);
+    /**
+     * Obtient le nombre de joueurs classés
+     */
+    public int getRankedCount(LeaderboardType type, LeaderboardPeriod period) {
+        return getIndex(type, period).size();
     }
 
     /**
@@ -613,29 +665,20 @@ public class LeaderboardManager {
      * Trouve le meilleur classement d'un joueur
      */
     public Map.Entry<LeaderboardType, Integer> getBestRank(UUID uuid) {
-        Map<String, Integer> ranks = playerRankCache.get(uuid);
-        if (ranks == null || ranks.isEmpty()) return null;
-
-        String bestKey = null;
+        LeaderboardType bestType = null;
         int bestRank = Integer.MAX_VALUE;
 
-        for (Map.Entry<String, Integer> entry : ranks.entrySet()) {
-            if (entry.getValue() < bestRank) {
-                bestRank = entry.getValue();
-                bestKey = entry.getKey();
+        for (LeaderboardType type : LeaderboardType.values()) {
+            for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
+                int rank = getPlayerRank(uuid, type, period);
+                if (rank > 0 && rank < bestRank) {
+                    bestRank = rank;
+                    bestType = type;
+                }
             }
         }
 
-        if (bestKey == null) return null;
-
-        // Extraire le type du cache key
-        String typeName = bestKey.split("_")[0];
-        try {
-            LeaderboardType type = LeaderboardType.valueOf(typeName);
-            return Map.entry(type, bestRank);
-        } catch (IllegalArgumentException e) {
-            return null;
-        }
+        return bestType != null ? Map.entry(bestType, bestRank) : null;
     }
 
     // ═══════════════════════════════════════════════════════════════════════════
@@ -647,102 +690,77 @@ public class LeaderboardManager {
      * Appelé lors des événements (kills, achievements, etc.)
      */
     public void updateScore(UUID uuid, LeaderboardType type, long newValue) {
+        updateScore(uuid, null, type, newValue);
+    }
+
+    /**
+     * Met à jour le score d'un joueur (version avec nom)
+     */
+    public void updateScore(UUID uuid, String playerName, LeaderboardType type, long newValue) {
         // Mettre à jour les scores en temps réel
         liveScores.computeIfAbsent(uuid, k -> new ConcurrentHashMap<>()).put(type, newValue);
 
-        // Mettre à jour en base de données pour les périodes
-        CompletableFuture.runAsync(() -> {
+        // Mettre à jour les classements en mémoire
+        if (!bannedPlayers.contains(uuid)) {
+            String name = resolveName(uuid, playerName);
             for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
-                if (period == LeaderboardPeriod.ALL_TIME) continue; // Géré par PlayerData directement
-
-                updatePeriodScore(uuid, type, period, newValue);
+                if (period == LeaderboardPeriod.ALL_TIME) {
+                    // Stats permanentes: jamais de régression (la base est resynchronisée au snapshot)
+                    getIndex(type, period).raise(uuid, name, newValue);
+                } else {
+                    getIndex(type, period).set(uuid, name, newValue);
+                }
             }
-        });
+        }
+
+        // Mettre à jour en base de données pour les périodes (flush groupé)
+        // ALL_TIME est géré par PlayerData directement
+        scoreBuffer.set(uuid, type, newValue);
     }
 
     /**
      * Incrémente le score d'un joueur
      */
     public void incrementScore(UUID uuid, LeaderboardType type, long amount) {
+        incrementScore(uuid, null, type, amount);
+    }
+
+    /**
+     * Incrémente le score d'un joueur (version avec nom)
+     */
+    public void incrementScore(UUID uuid, String playerName, LeaderboardType type, long amount) {
         Map<LeaderboardType, Long> scores = liveScores.computeIfAbsent(uuid, k -> new ConcurrentHashMap<>());
         long newValue = scores.getOrDefault(type, 0L) + amount;
         scores.put(type, newValue);
 
-        // Mettre à jour en BDD
-        CompletableFuture.runAsync(() -> {
+        // Mettre à jour les classements en mémoire
+        if (!bannedPlayers.contains(uuid)) {
+            String name = resolveName(uuid, playerName);
             for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
-                if (period == LeaderboardPeriod.ALL_TIME) continue;
-
-                incrementPeriodScore(uuid, type, period, amount);
+                getIndex(type, period).add(uuid, name, amount);
             }
-        });
-    }
-
-    private void updatePeriodScore(UUID uuid, LeaderboardType type, LeaderboardPeriod period, long value) {
-        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
-            String sql = """
-                INSERT INTO zombiez_leaderboards (uuid, leaderboard_type, period, value, last_updated)
-                VALUES (?, ?, ?, ?, NOW())
-                ON DUPLICATE KEY UPDATE value = ?, last_updated = NOW()
-                """;
-
-            // SQLite version
-            if (plugin.getDatabaseManager().getDatabaseType() ==
-                    com.rinaorc.zombiez.data.DatabaseManager.DatabaseType.SQLITE) {
-                sql = """
-                    INSERT OR REPLACE INTO zombiez_leaderboards (uuid, leaderboard_type, period, value, last_updated)
-                    VALUES (?, ?, ?, ?, datetime('now'))
-                    """;
-            }
-
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setString(1, uuid.toString());
-                stmt.setString(2, type.name());
-                stmt.setString(3, period.name());
-                stmt.setLong(4, value);
-
-                if (plugin.getDatabaseManager().getDatabaseType() !=
-                        com.rinaorc.zombiez.data.DatabaseManager.DatabaseType.SQLITE) {
-                    stmt.setLong(5, value);
-                }
-
-                stmt.executeUpdate();
-            }
-        } catch (SQLException e) {
-            plugin.log(Level.WARNING, "§e⚠ Erreur MAJ score période: " + e.getMessage());
         }
+
+        // Mettre à jour en BDD (flush groupé)
+        scoreBuffer.increment(uuid, type, amount);
     }
 
-    private void incrementPeriodScore(UUID uuid, LeaderboardType type, LeaderboardPeriod period, long amount) {
-        try (Connection conn = plugin.getDatabaseManager().getConnection()) {
-            String sql;
-            if (plugin.getDatabaseManager().getDatabaseType() ==
-                    com.rinaorc.zombiez.data.DatabaseManager.DatabaseType.MYSQL) {
-                sql = """
-                    INSERT INTO zombiez_leaderboards (uuid, leaderboard_type, period, value, last_updated)
-                    VALUES (?, ?, ?, ?, NOW())
-                    ON DUPLICATE KEY UPDATE value = value + ?, last_updated = NOW()
-                    """;
-            } else {
-                sql = """
-                    INSERT INTO zombiez_leaderboards (uuid, leaderboard_type, period, value, last_updated)
-                    VALUES (?, ?, ?, ?, datetime('now'))
-                    ON CONFLICT(uuid, leaderboard_type, period) DO UPDATE SET
-                    value = value + ?, last_updated = datetime('now')
-                    """;
-            }
+    private String resolveName(UUID uuid, String playerName) {
+        if (playerName != null) return playerName;
+        Player player = Bukkit.getPlayer(uuid);
+        return player != null ? player.getName() : null;
+    }
 
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setString(1, uuid.toString());
-                stmt.setString(2, type.name());
-                stmt.setString(3, period.name());
-                stmt.setLong(4, amount);
-                stmt.setLong(5, amount);
-                stmt.executeUpdate();
-            }
-        } catch (SQLException e) {
-            plugin.log(Level.WARNING, "§e⚠ Erreur increment score: " + e.getMessage());
-        }
+    /**
+     * Met en file une opération BDD de fin de période (flush, archivage, suppression, saisons)
+     * Les opérations s'exécutent sur l'exécuteur BDD, une à la fois, dans l'ordre de soumission:
+     * un flush en attente ne peut plus être écrit après le DELETE de la période
+     */
+    private synchronized CompletableFuture<Void> enqueuePeriodTask(Runnable task) {
+        periodTasks = periodTasks
+            .exceptionally(error -> null)
+            .thenCompose(ignored -> plugin.getDatabaseManager().executeAsync(task));
+        return periodTasks;
     }
 
     // ═══════════════════════════════════════════════════════════════════════════
@@ -772,6 +790,10 @@ public class LeaderboardManager {
     public void resetPeriodLeaderboards(LeaderboardPeriod period) {
         plugin.log(Level.INFO, "§6Reset des leaderboards " + period.getDisplayName());
 
+        // Les scores en attente appartiennent à la période qui se termine
+        // (toujours en file: l'archivage et la suppression ci-dessous passent après)
+        enqueuePeriodTask(scoreBuffer::flush);
+
         // Broadcast du début de la distribution
         broadcastPeriodEnd(period);
 
@@ -785,7 +807,7 @@ public class LeaderboardManager {
         archivePeriodData(period);
 
         // Enfin, reset les scores
-        CompletableFuture.runAsync(() -> {
+        enqueuePeriodTask(() -> {
             try (Connection conn = plugin.getDatabaseManager().getConnection()) {
                 String sql = "DELETE FROM zombiez_leaderboards WHERE period = ?";
                 try (PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -796,13 +818,13 @@ public class LeaderboardManager {
             } catch (SQLException e) {
                 plugin.log(Level.WARNING, "§e⚠ Erreur reset période: " + e.getMessage());
             }
-        });
 
-        // Vider le cache
-        for (LeaderboardType type : LeaderboardType.values()) {
-            String cacheKey = type.name() + "_" + period.name();
-            leaderboardCache.invalidate(cacheKey);
-        }
+            // Vider les classements en mémoire dans la même tâche: un snapshot mis en file
+            // avant le reset a déjà été chargé, ceux d'après lisent la table vidée
+            for (LeaderboardType type : LeaderboardType.values()) {
+                getIndex(type, period).clear();
+            }
+        });
     }
 
     private int distributeRewardsForPeriod(LeaderboardPeriod period) {
@@ -810,7 +832,7 @@ public class LeaderboardManager {
         Set<UUID> playersRewarded = new HashSet<>();
 
         for (LeaderboardType type : LeaderboardType.values()) {
-            List<LeaderboardEntry> top = getTopEntries(type, period, 100);
+            List<LeaderboardEntry> top = getTopEntries(type, period, MAX_ENTRIES);
 
             for (LeaderboardEntry entry : top) {
                 LeaderboardReward reward = LeaderboardReward.calculateReward(type, period, entry.getRank());
@@ -877,7 +899,7 @@ public class LeaderboardManager {
     }
 
     private void archivePeriodData(LeaderboardPeriod period) {
-        CompletableFuture.runAsync(() -> {
+        enqueuePeriodTask(() -> {
             try (Connection conn = plugin.getDatabaseManager().getConnection()) {
                 Instant now = Instant.now();
                 Instant start = switch (period) {
@@ -912,7 +934,7 @@ public class LeaderboardManager {
     // ═══════════════════════════════════════════════════════════════════════════
 
     private void saveReward(UUID uuid, LeaderboardType type, LeaderboardPeriod period, int rank, LeaderboardReward reward) {
-        CompletableFuture.runAsync(() -> {
+        plugin.getDatabaseManager().executeAsync(() -> {
             try (Connection conn = plugin.getDatabaseManager().getConnection()) {
                 String sql = """
                     INSERT INTO zombiez_leaderboard_rewards
@@ -1128,6 +1150,14 @@ public class LeaderboardManager {
      * Bannit un joueur des leaderboards
      */
     public CompletableFuture<Void> banFromLeaderboards(UUID uuid, UUID bannedBy, String reason) {
+        // Retirer immédiatement le joueur des classements
+        bannedPlayers.add(uuid);
+        for (LeaderboardIndex[] byPeriod : indexes) {
+            for (LeaderboardIndex index : byPeriod) {
+                index.remove(uuid);
+            }
+        }
+
         return CompletableFuture.runAsync(() -> {
             try (Connection conn = plugin.getDatabaseManager().getConnection()) {
                 String sql = """
@@ -1179,7 +1209,12 @@ public class LeaderboardManager {
                 }
             } catch (SQLException e) {
                 plugin.log(Level.WARNING, "§e⚠ Erreur unban leaderboard: " + e.getMessage());
+                return;
             }
+
+            // Réintégrer ses scores depuis la base
+            bannedPlayers.remove(uuid);
+            refreshAllLeaderboards();
         });
     }
 
@@ -1191,42 +1226,40 @@ public class LeaderboardManager {
      * Force le rafraîchissement d'un leaderboard
      */
     public void forceRefresh(LeaderboardType type, LeaderboardPeriod period) {
-        refreshLeaderboard(type, period);
+        enqueuePeriodTask(() -> refreshLeaderboard(type, period, getOnlinePlayerIds()));
     }
 
     /**
      * Force le rafraîchissement de tous les leaderboards
      */
     public void forceRefreshAll() {
-        CompletableFuture.runAsync(this::refreshAllLeaderboards);
+        refreshAllLeaderboards();
     }
 
     /**
      * Obtient les statistiques du système
      */
     public String getStats() {
-        int cachedEntries = 0;
-        for (LeaderboardType type : LeaderboardType.values()) {
-            for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
-                String key = type.name() + "_" + period.name();
-                List<LeaderboardEntry> entries = leaderboardCache.getIfPresent(key);
-                if (entries != null) cachedEntries += entries.size();
-            }
-        }
-
-        return String.format("§7Leaderboards: §e%d types §7| §e%d périodes §7| §e%d entrées cachées §7| §e%d joueurs flaggés",
+        return String.format("§7Leaderboards: §e%d types §7| §e%d périodes §7| §e%d entrées indexées §7| §e%d joueurs flaggés §7| §eScores: %s",
             LeaderboardType.values().length,
             LeaderboardPeriod.values().length,
-            cachedEntries,
-            flaggedPlayers.size());
+            getCacheSize(),
+            flaggedPlayers.size(),
+            scoreBuffer.getStatsLine());
     }
 
     /**
      * Arrêt propre du manager
      */
     public void shutdown() {
-        leaderboardCache.invalidateAll();
-        playerRankCache.clear();
+        // Écrire les scores en attente avant la fermeture du pool
+        scoreBuffer.flush();
+
+        for (LeaderboardIndex[] byPeriod : indexes) {
+            for (LeaderboardIndex index : byPeriod) {
+                index.clear();
+            }
+        }
         liveScores.clear();
         plugin.log(Level.INFO, "§7LeaderboardManager arrêté");
     }
@@ -1235,20 +1268,6 @@ public class LeaderboardManager {
     // MÉTHODES ADMIN
     // ═══════════════════════════════════════════════════════════════════════════
 
-    /**
-     * Met à jour le score d'un joueur (version avec nom)
-     */
-    public void updateScore(UUID uuid, String playerName, LeaderboardType type, long value) {
-        updateScore(uuid, type, value);
-    }
-
-    /**
-     * Incrémente le score d'un joueur (version avec nom)
-     */
-    public void incrementScore(UUID uuid, String playerName, LeaderboardType type, long amount) {
-        incrementScore(uuid, type, amount);
-    }
-
     /**
      * Rafraîchit tout le cache (alias pour forceRefreshAll)
      */
@@ -1260,7 +1279,8 @@ public class LeaderboardManager {
      * Reset un type de leaderboard pour une période donnée
      */
     public void resetPeriod(LeaderboardType type, LeaderboardPeriod period) {
-        CompletableFuture.runAsync(() -> {
+        enqueuePeriodTask(scoreBuffer::flush);
+        enqueuePeriodTask(() -> {
             try (Connection conn = plugin.getDatabaseManager().getConnection()) {
                 String sql = "DELETE FROM zombiez_leaderboards WHERE leaderboard_type = ? AND period = ?";
                 try (PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -1273,16 +1293,15 @@ public class LeaderboardManager {
             }
         });
 
-        // Invalider le cache pour ce type/période
-        String cacheKey = type.name() + "_" + period.name();
-        leaderboardCache.invalidate(cacheKey);
+        // Vider le classement en mémoire
+        getIndex(type, period).clear();
     }
 
     /**
      * Distribue les récompenses pour un type et une période
      */
     public void distributeRewards(LeaderboardType type, LeaderboardPeriod period) {
-        List<LeaderboardEntry> top = getTopEntries(type, period, 100);
+        List<LeaderboardEntry> top = getTopEntries(type, period, MAX_ENTRIES);
 
         for (LeaderboardEntry entry : top) {
             LeaderboardReward reward = LeaderboardReward.calculateReward(type, period, entry.getRank());
@@ -1344,10 +1363,16 @@ public class LeaderboardManager {
     }
 
     /**
-     * Retourne la taille du cache
+     * Retourne le nombre total d'entrées indexées
      */
     public int getCacheSize() {
-        return (int) leaderboardCache.estimatedSize();
+        int total = 0;
+        for (LeaderboardIndex[] byPeriod : indexes) {
+            for (LeaderboardIndex index : byPeriod) {
+                total += index.size();
+            }
+        }
+        return total;
     }
 
     /**
@@ -1366,7 +1391,7 @@ public class LeaderboardManager {
 
         currentSeason = new SeasonData(seasonId, name, now, endDate);
 
-        CompletableFuture.runAsync(() -> {
+        enqueuePeriodTask(() -> {
             try (Connection conn = plugin.getDatabaseManager().getConnection()) {
                 // Désactiver les anciennes saisons
                 try (PreparedStatement stmt = conn.prepareStatement(
@@ -1410,11 +1435,12 @@ public class LeaderboardManager {
         archiveSeasonData();
 
         // Marquer comme terminée en BDD
-        CompletableFuture.runAsync(() -> {
+        int seasonId = currentSeason.getId();
+        enqueuePeriodTask(() -> {
             try (Connection conn = plugin.getDatabaseManager().getConnection()) {
                 String sql = "UPDATE zombiez_seasons SET is_active = FALSE WHERE season_id = ?";
                 try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                    stmt.setInt(1, currentSeason.getId());
+                    stmt.setInt(1, seasonId);
                     stmt.executeUpdate();
                 }
             } catch (SQLException e) {
@@ -0,0 +1,287 @@
+package com.rinaorc.zombiez.leaderboards;
+
+import com.rinaorc.zombiez.ZombieZPlugin;
+import com.rinaorc.zombiez.data.DatabaseManager;
+import lombok.Getter;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+/**
+ * Tampon des scores périodiques (DAILY, WEEKLY, MONTHLY, SEASONAL)
+ *
+ * Architecture:
+ * - Les incréments sont cumulés en mémoire par (joueur, type, période)
+ *   dans une table découpée en segments verrouillés séparément
+ * - Un flush périodique écrit tout en upserts multi-lignes, un lot par période,
+ *   dans une seule transaction
+ * - En cas de crash, on perd au plus une fenêtre de flush
+ */
+class LeaderboardScoreBuffer {
+
+    private record Key(UUID uuid, LeaderboardType type, LeaderboardPeriod period) {}
+
+    /**
+     * Écriture en attente: incrément cumulé, ou valeur absolue (updateScore) + incréments suivants
+     */
+    private static final class Pending {
+        boolean absolute;
+        long value;
+
+        /**
+         * Réintègre une écriture plus ancienne (flush échoué) sous celle-ci
+         */
+        void mergeOlder(Pending older) {
+            if (absolute) return; // La valeur absolue récente remplace l'ancienne écriture
+            absolute = older.absolute;
+            value += older.value;
+        }
+    }
+
+    private static final class Stripe {
+        Map<Key, Pending> pending = new HashMap<>();
+    }
+
+    private static final int STRIPE_COUNT = 16;
+
+    // Lignes max par INSERT multi-lignes (4 paramètres par ligne, limite SQLite: 999)
+    private static final int MAX_ROWS_PER_STATEMENT = 200;
+
+    private final ZombieZPlugin plugin;
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+
+    // Sérialise les flushs (un ancien lot ne doit pas passer après un plus récent)
+    private final Object flushLock = new Object();
+
+    // Métriques
+    @Getter private final AtomicLong totalFlushes = new AtomicLong(0);
+    @Getter private final AtomicLong totalRows = new AtomicLong(0);
+    @Getter private final AtomicLong failedFlushes = new AtomicLong(0);
+    @Getter private volatile int lastFlushRows = 0;
+    @Getter private volatile long lastFlushNanos = 0;
+    @Getter private volatile long maxFlushNanos = 0;
+
+    LeaderboardScoreBuffer(ZombieZPlugin plugin) {
+        this.plugin = plugin;
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // ACCUMULATION
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Ajoute un incrément pour toutes les périodes non permanentes
+     */
+    void increment(UUID uuid, LeaderboardType type, long amount) {
+        for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
+            if (period == LeaderboardPeriod.ALL_TIME) continue;
+            Key key = new Key(uuid, type, period);
+            Stripe stripe = stripeFor(key);
+            synchronized (stripe) {
+                stripe.pending.computeIfAbsent(key, k -> new Pending()).value += amount;
+            }
+        }
+    }
+
+    /**
+     * Remplace le score pour toutes les périodes non permanentes
+     */
+    void set(UUID uuid, LeaderboardType type, long value) {
+        for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
+            if (period == LeaderboardPeriod.ALL_TIME) continue;
+            Key key = new Key(uuid, type, period);
+            Stripe stripe = stripeFor(key);
+            synchronized (stripe) {
+                Pending pending = stripe.pending.computeIfAbsent(key, k -> new Pending());
+                pending.absolute = true;
+                pending.value = value;
+            }
+        }
+    }
+
+    private Stripe stripeFor(Key key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (STRIPE_COUNT - 1)];
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // FLUSH
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Écrit toutes les écritures en attente (thread appelant, jamais le main thread)
+     */
+    void flush() {
+        synchronized (flushLock) {
+            Map<Key, Pending> batch = drain();
+            if (batch.isEmpty()) return;
+
+            // Regrouper par période, puis séparer incréments et valeurs absolues
+            Map<LeaderboardPeriod, List<Map.Entry<Key, Pending>>> increments = new EnumMap<>(LeaderboardPeriod.class);
+            Map<LeaderboardPeriod, List<Map.Entry<Key, Pending>>> absolutes = new EnumMap<>(LeaderboardPeriod.class);
+            for (Map.Entry<Key, Pending> entry : batch.entrySet()) {
+                var target = entry.getValue().absolute ? absolutes : increments;
+                target.computeIfAbsent(entry.getKey().period(), p -> new ArrayList<>()).add(entry);
+            }
+
+            boolean isSQLite = plugin.getDatabaseManager().getDatabaseType() == DatabaseManager.DatabaseType.SQLITE;
+            long start = System.nanoTime();
+            int rows = 0;
+
+            try (Connection conn = plugin.getDatabaseManager().getConnection()) {
+                boolean autoCommit = conn.getAutoCommit();
+                conn.setAutoCommit(false);
+                try {
+                    for (var rowsOfPeriod : absolutes.values()) {
+                        rows += upsert(conn, rowsOfPeriod, false, isSQLite);
+                    }
+                    for (var rowsOfPeriod : increments.values()) {
+                        rows += upsert(conn, rowsOfPeriod, true, isSQLite);
+                    }
+                    conn.commit();
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
+                } finally {
+                    conn.setAutoCommit(autoCommit);
+                }
+
+                recordFlush(rows, System.nanoTime() - start);
+
+            } catch (SQLException e) {
+                failedFlushes.incrementAndGet();
+                plugin.log(Level.WARNING, "§e⚠ Erreur flush scores leaderboard (" + batch.size() + " lignes): " + e.getMessage());
+                restore(batch);
+            }
+        }
+    }
+
+    /**
+     * Un INSERT multi-lignes par tranche de MAX_ROWS_PER_STATEMENT
+     */
+    private int upsert(Connection conn, List<Map.Entry<Key, Pending>> entries, boolean increment,
+                       boolean isSQLite) throws SQLException {
+        int written = 0;
+        for (int from = 0; from < entries.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<Map.Entry<Key, Pending>> chunk = entries.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, entries.size()));
+
+            try (PreparedStatement stmt = conn.prepareStatement(buildUpsertSql(chunk.size(), increment, isSQLite))) {
+                int i = 1;
+                for (Map.Entry<Key, Pending> entry : chunk) {
+                    Key key = entry.getKey();
+                    stmt.setString(i++, key.uuid().toString());
+                    stmt.setString(i++, key.type().name());
+                    stmt.setString(i++, key.period().name());
+                    stmt.setLong(i++, entry.getValue().value);
+                }
+                stmt.executeUpdate();
+            }
+            written += chunk.size();
+        }
+        return written;
+    }
+
+    private static String buildUpsertSql(int rowCount, boolean increment, boolean isSQLite) {
+        String nowFunc = isSQLite ? "datetime('now')" : "NOW()";
+        StringBuilder sql = new StringBuilder(
+            "INSERT INTO zombiez_leaderboards (uuid, leaderboard_type, period, value, last_updated) VALUES ");
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) sql.append(", ");
+            sql.append("(?, ?, ?, ?, ").append(nowFunc).append(')');
+        }
+
+        if (isSQLite) {
+            sql.append(" ON CONFLICT(uuid, leaderboard_type, period) DO UPDATE SET value = ")
+                .append(increment ? "value + excluded.value" : "excluded.value")
+                .append(", last_updated = datetime('now')");
+        } else {
+            sql.append(" ON DUPLICATE KEY UPDATE value = ")
+                .append(increment ? "value + VALUES(value)" : "VALUES(value)")
+                .append(", last_updated = NOW()");
+        }
+        return sql.toString();
+    }
+
+    private Map<Key, Pending> drain() {
+        Map<Key, Pending> batch = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            Map<Key, Pending> drained;
+            synchronized (stripe) {
+                if (stripe.pending.isEmpty()) continue;
+                drained = stripe.pending;
+                stripe.pending = new HashMap<>();
+            }
+            batch.putAll(drained);
+        }
+        return batch;
+    }
+
+    /**
+     * Remet un lot échoué en file, sous les écritures arrivées entre-temps
+     */
+    private void restore(Map<Key, Pending> batch) {
+        for (Map.Entry<Key, Pending> entry : batch.entrySet()) {
+            Stripe stripe = stripeFor(entry.getKey());
+            synchronized (stripe) {
+                Pending newer = stripe.pending.get(entry.getKey());
+                if (newer == null) {
+                    stripe.pending.put(entry.getKey(), entry.getValue());
+                } else {
+                    newer.mergeOlder(entry.getValue());
+                }
+            }
+        }
+    }
+
+    private void recordFlush(int rows, long nanos) {
+        totalFlushes.incrementAndGet();
+        totalRows.addAndGet(rows);
+        lastFlushRows = rows;
+        lastFlushNanos = nanos;
+        if (nanos > maxFlushNanos) {
+            maxFlushNanos = nanos;
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════
+    // MÉTRIQUES
+    // ═══════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Nombre d'écritures (joueur, type, période) en attente
+     */
+    int getPendingCount() {
+        int total = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                total += stripe.pending.size();
+            }
+        }
+        return total;
+    }
+
+    String getStatsLine() {
+        return String.format(
+            "%d en attente, %d flushs (%d échecs), %d lignes, dernier: %d lignes/%.1fms, max: %.1fms",
+            getPendingCount(),
+            totalFlushes.get(),
+            failedFlushes.get(),
+            totalRows.get(),
+            lastFlushRows,
+            lastFlushNanos / 1_000_000.0,
+            maxFlushNanos / 1_000_000.0
+        );
+    }
+}
@@ -1,6 +1,7 @@
 package com.rinaorc.zombiez.leaderboards.gui;
 
 import com.rinaorc.zombiez.ZombieZPlugin;
+import com.rinaorc.zombiez.data.OfflineProfile;
 import com.rinaorc.zombiez.leaderboards.*;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -29,6 +30,7 @@ public class LeaderboardCompareGUI implements InventoryHolder {
     private final UUID player1Uuid;
     private final UUID player2Uuid;
     private final Inventory inventory;
+    private final Map<UUID, OfflineProfile> profiles = new HashMap<>();
 
     private static final int GUI_SIZE = 54;
 
@@ -47,6 +49,19 @@ public class LeaderboardCompareGUI implements InventoryHolder {
             Component.text("⚖ " + name1 + " vs " + name2).color(NamedTextColor.GOLD)
                 .decoration(TextDecoration.BOLD, true));
         build();
+        loadProfiles();
+    }
+
+    /**
+     * Charge les deux profils en une requête puis met à jour les têtes
+     */
+    private void loadProfiles() {
+        plugin.getOfflineProfileService().getProfiles(List.of(player1Uuid, player2Uuid)).thenAccept(loaded ->
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                profiles.putAll(loaded);
+                inventory.setItem(2, createPlayerHead(player1Uuid));
+                inventory.setItem(6, createPlayerHead(player2Uuid));
+            }));
     }
 
     private void build() {
@@ -124,6 +139,15 @@ public class LeaderboardCompareGUI implements InventoryHolder {
 
         List<Component> lore = new ArrayList<>();
         lore.add(Component.empty());
+        OfflineProfile profile = profiles.get(uuid);
+        if (profile != null) {
+            String prestige = profile.getPrestige() > 0 ? " §d✦" + profile.getPrestige() : "";
+            lore.add(Component.text("§7Niveau: §b" + profile.getLevel() + prestige));
+            lore.add(Component.text("§7Kills: §c" + profile.getKills() + " §8| §7K/D: §e"
+                + String.format("%.2f", profile.getKDRatio())));
+            lore.add(Component.text("§7Zone max: §e" + profile.getMaxZone()));
+            lore.add(Component.empty());
+        }
         if (isViewer) {
             lore.add(Component.text("§a← C'est toi!"));
         }
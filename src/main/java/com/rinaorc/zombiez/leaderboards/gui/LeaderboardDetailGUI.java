@@ -1,6 +1,7 @@
 package com.rinaorc.zombiez.leaderboards.gui;
 
 import com.rinaorc.zombiez.ZombieZPlugin;
+import com.rinaorc.zombiez.data.OfflineProfile;
 import com.rinaorc.zombiez.leaderboards.*;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -31,6 +32,10 @@ public class LeaderboardDetailGUI implements InventoryHolder {
     private int page;
     private final Inventory inventory;
 
+    // Profils des joueurs affichés (chargés en une requête par page)
+    private final Map<UUID, OfflineProfile> profiles = new HashMap<>();
+    private final Set<UUID> requestedProfiles = new HashSet<>();
+
     private static final int GUI_SIZE = 54;
     private static final int ENTRIES_PER_PAGE = 21; // 7 par row x 3 rows
 
@@ -79,6 +84,7 @@ public class LeaderboardDetailGUI implements InventoryHolder {
 
         // Afficher les entrées de manière organisée
         placeEntriesCentered(entries, startIndex, endIndex);
+        requestProfiles(entries.subList(Math.min(startIndex, endIndex), endIndex));
 
         // Navigation - Row 4
         int totalPages = (int) Math.ceil(entries.size() / (double) ENTRIES_PER_PAGE);
@@ -127,6 +133,28 @@ public class LeaderboardDetailGUI implements InventoryHolder {
         }
     }
 
+    /**
+     * Charge en une seule requête les profils de la page qui manquent,
+     * puis redessine la page si le GUI est toujours ouvert
+     */
+    private void requestProfiles(List<LeaderboardEntry> pageEntries) {
+        List<UUID> missing = new ArrayList<>();
+        for (LeaderboardEntry entry : pageEntries) {
+            if (requestedProfiles.add(entry.getUuid())) {
+                missing.add(entry.getUuid());
+            }
+        }
+        if (missing.isEmpty()) return;
+
+        plugin.getOfflineProfileService().getProfiles(missing).thenAccept(loaded ->
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                profiles.putAll(loaded);
+                if (player.isOnline() && player.getOpenInventory().getTopInventory().getHolder() == this) {
+                    build();
+                }
+            }));
+    }
+
     private int[] getCenteredSlots(int[] rowSlots, int count) {
         if (count >= rowSlots.length) return rowSlots;
 
@@ -215,6 +243,15 @@ public class LeaderboardDetailGUI implements InventoryHolder {
             entry.getFormattedTime() : entry.getFormattedValue();
         lore.add(Component.text("§7" + type.getDisplayName() + ": §e" + value));
 
+        // Profil (si chargé)
+        OfflineProfile profile = profiles.get(entry.getUuid());
+        if (profile != null) {
+            String prestige = profile.getPrestige() > 0 ? " §d✦" + profile.getPrestige() : "";
+            lore.add(Component.text("§7Niveau: §b" + profile.getLevel() + prestige));
+            lore.add(Component.text("§7Kills: §c" + formatNumber(profile.getKills())
+                + " §8| §7K/D: §e" + String.format("%.2f", profile.getKDRatio())));
+        }
+
         // Rang avec médaille
         lore.add(Component.empty());
         lore.add(Component.text(entry.getRankIcon() + " §7Rang §f#" + entry.getRank()));
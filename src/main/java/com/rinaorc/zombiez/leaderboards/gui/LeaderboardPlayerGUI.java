@@ -1,6 +1,7 @@
 package com.rinaorc.zombiez.leaderboards.gui;
 
 import com.rinaorc.zombiez.ZombieZPlugin;
+import com.rinaorc.zombiez.data.OfflineProfile;
 import com.rinaorc.zombiez.leaderboards.*;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -29,6 +30,7 @@ public class LeaderboardPlayerGUI implements InventoryHolder {
     private final UUID targetUuid;
     private final Inventory inventory;
     private LeaderboardPeriod selectedPeriod = LeaderboardPeriod.ALL_TIME;
+    private OfflineProfile profile;
 
     private static final int GUI_SIZE = 54;
 
@@ -44,6 +46,13 @@ public class LeaderboardPlayerGUI implements InventoryHolder {
             Component.text("📊 Profil de " + name).color(NamedTextColor.AQUA)
                 .decoration(TextDecoration.BOLD, true));
         build();
+
+        // Profil chargé en arrière-plan (cache partagé), puis mise à jour de la tête
+        plugin.getOfflineProfileService().getProfile(targetUuid).thenAccept(loaded ->
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                profile = loaded;
+                inventory.setItem(4, createPlayerHeadItem());
+            }));
     }
 
     private void build() {
@@ -142,6 +151,16 @@ public class LeaderboardPlayerGUI implements InventoryHolder {
             lore.add(Component.text("§c○ Hors ligne"));
         }
 
+        if (profile != null) {
+            lore.add(Component.empty());
+            String prestige = profile.getPrestige() > 0 ? " §d✦" + profile.getPrestige() : "";
+            lore.add(Component.text("§7Niveau: §b" + profile.getLevel() + prestige));
+            lore.add(Component.text("§7Kills: §c" + profile.getKills() + " §8| §7Morts: §c" + profile.getDeaths()));
+            lore.add(Component.text("§7K/D: §e" + String.format("%.2f", profile.getKDRatio())));
+            lore.add(Component.text("§7Zone max: §e" + profile.getMaxZone()));
+            lore.add(Component.text("§7Temps de jeu: §e" + (profile.getPlaytime() / 3600) + "h"));
+        }
+
         lore.add(Component.empty());
         lore.add(Component.text("§ePériode sélectionnée: §f" + selectedPeriod.getDisplayName()));
 
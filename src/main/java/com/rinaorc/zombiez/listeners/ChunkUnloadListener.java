@@ -10,12 +10,14 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.world.ChunkLoadEvent;
 import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.EntitiesUnloadEvent;
 import org.bukkit.persistence.PersistentDataType;
 
 /**
  * Listener pour gérer les mobs ZombieZ lors du chargement/déchargement de chunks
  *
  * - ChunkUnload: Supprime les mobs pour éviter les orphelins en mémoire
+ * - EntitiesUnload: Réveille les mobs gelés par le LOD avant leur sauvegarde
  * - ChunkLoad: Nettoie les mobs orphelins après un reboot serveur
  *
  * Utilise le PDC pour identifier les mobs de manière ultra-performante
@@ -51,6 +53,17 @@ public class ChunkUnloadListener implements Listener {
         }
     }
 
+    /**
+     * Restaure l'IA vanilla des mobs gelés par le LOD avant la sauvegarde de leurs entités
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesUnload(EntitiesUnloadEvent event) {
+        var zombieManager = plugin.getZombieManager();
+        if (zombieManager != null && zombieManager.getAiManager() != null) {
+            zombieManager.getAiManager().onEntitiesUnload(event.getEntities());
+        }
+    }
+
     /**
      * Nettoie les mobs ZombieZ orphelins quand un chunk est chargé
      * Cela gère le cas où le serveur redémarre et les mobs persistent dans les chunks
@@ -4,10 +4,14 @@ import com.rinaorc.zombiez.ZombieZPlugin;
 import com.rinaorc.zombiez.combat.DPSTracker;
 import com.rinaorc.zombiez.combat.PacketDamageIndicator;
 import com.rinaorc.zombiez.data.PlayerData;
+import com.rinaorc.zombiez.items.PlayerStatVector;
 import com.rinaorc.zombiez.items.types.Rarity;
 import com.rinaorc.zombiez.items.types.StatType;
 import com.rinaorc.zombiez.items.ZombieZItem;
 import com.rinaorc.zombiez.progression.SkillTreeManager.SkillBonus;
+import com.rinaorc.zombiez.progression.MissionManager.MissionTracker;
+import com.rinaorc.zombiez.progression.kill.KillContext;
+import com.rinaorc.zombiez.progression.kill.KillPipeline;
 import com.rinaorc.zombiez.zones.Zone;
 import org.bukkit.Color;
 import org.bukkit.Location;
@@ -33,6 +37,9 @@ import org.bukkit.Material;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
@@ -66,9 +73,22 @@ public class CombatListener implements Listener {
     // Multiplicateur de dégâts appliqué en dessous du seuil minimum
     private static final double COOLDOWN_MIN_DAMAGE_MULT = 0.05; // 5% des dégâts
 
+    // ============ ACHIEVEMENTS DE KILLS (vérifiés hors du main thread) ============
+    private static final String[] KILL_ACHIEVEMENTS = {
+        "zombie_hunter_1", "zombie_hunter_2",                   // Chasseur (50, 250)
+        "zombie_slayer_1", "zombie_slayer_2", "zombie_slayer_3", // Tueur de Zombies (1000, 5000, 25000)
+        "exterminator", "genocide", "legend"                     // Extrêmes (100k, 500k, 1M)
+    };
+    private static final String[] STREAK_ACHIEVEMENTS = {
+        "killing_spree_1", "killing_spree_2", "unstoppable", "immortal", "deathless"
+    };
+    private static final String[] ELITE_ACHIEVEMENTS = { "elite_hunter_1", "elite_hunter_2", "elite_master" };
+    private static final String[] BOSS_ACHIEVEMENTS = { "boss_slayer_1", "boss_slayer_2", "boss_master" };
+
     public CombatListener(ZombieZPlugin plugin) {
         this.plugin = plugin;
         startHealthRegenTask();
+        registerKillSubscribers();
     }
 
     /**
@@ -84,8 +104,8 @@ public class CombatListener implements Listener {
                 }
 
                 // Récupérer la stat HEALTH_REGEN
-                Map<StatType, Double> playerStats = plugin.getItemManager().calculatePlayerStats(player);
-                double healthRegen = playerStats.getOrDefault(StatType.HEALTH_REGEN, 0.0);
+                PlayerStatVector playerStats = plugin.getItemManager().getStatVector(player);
+                double healthRegen = playerStats.get(StatType.HEALTH_REGEN);
 
                 // Ajouter la regen du SkillTree si disponible
                 var skillManager = plugin.getSkillTreeManager();
@@ -250,7 +270,7 @@ public class CombatListener implements Listener {
         if (!(event.getEntity() instanceof Player player)) return;
 
         // Récupérer les stats de résistance du joueur
-        Map<StatType, Double> playerStats = plugin.getItemManager().calculatePlayerStats(player);
+        PlayerStatVector playerStats = plugin.getItemManager().getStatVector(player);
 
         EntityDamageEvent.DamageCause cause = event.getCause();
         double resistance = 0.0;
@@ -258,19 +278,19 @@ public class CombatListener implements Listener {
 
         switch (cause) {
             case FIRE, FIRE_TICK, LAVA, HOT_FLOOR -> {
-                resistance = playerStats.getOrDefault(StatType.FIRE_RESISTANCE, 0.0);
+                resistance = playerStats.get(StatType.FIRE_RESISTANCE);
                 resistType = "§6🔥 Résist. Feu";
             }
             case FREEZE -> {
-                resistance = playerStats.getOrDefault(StatType.ICE_RESISTANCE, 0.0);
+                resistance = playerStats.get(StatType.ICE_RESISTANCE);
                 resistType = "§b❄ Résist. Glace";
             }
             case LIGHTNING -> {
-                resistance = playerStats.getOrDefault(StatType.LIGHTNING_RESISTANCE, 0.0);
+                resistance = playerStats.get(StatType.LIGHTNING_RESISTANCE);
                 resistType = "§e⚡ Résist. Foudre";
             }
             case POISON -> {
-                resistance = playerStats.getOrDefault(StatType.POISON_RESISTANCE, 0.0);
+                resistance = playerStats.get(StatType.POISON_RESISTANCE);
                 resistType = "§2☠ Résist. Poison";
             }
         }
@@ -870,14 +890,14 @@ public class CombatListener implements Listener {
         finalDamage *= damageMultiplier;
 
         // ============ STATS D'ÉQUIPEMENT ============
-        Map<StatType, Double> playerStats = plugin.getItemManager().calculatePlayerStats(player);
+        PlayerStatVector playerStats = plugin.getItemManager().getStatVector(player);
 
         // Bonus de dégâts flat
-        double flatDamageBonus = playerStats.getOrDefault(StatType.DAMAGE, 0.0);
+        double flatDamageBonus = playerStats.get(StatType.DAMAGE);
         finalDamage += flatDamageBonus;
 
         // Bonus de dégâts en pourcentage
-        double damagePercent = playerStats.getOrDefault(StatType.DAMAGE_PERCENT, 0.0);
+        double damagePercent = playerStats.get(StatType.DAMAGE_PERCENT);
         finalDamage *= (1 + damagePercent / 100.0);
 
         // ============ SKILL TREE BONUSES ============
@@ -886,14 +906,14 @@ public class CombatListener implements Listener {
         finalDamage *= (1 + skillDamageBonus / 100.0);
 
         // ============ SYSTÈME DE CRITIQUE ============
-        double baseCritChance = playerStats.getOrDefault(StatType.CRIT_CHANCE, 0.0);
+        double baseCritChance = playerStats.get(StatType.CRIT_CHANCE);
         double skillCritChance = skillManager.getSkillBonus(player, SkillBonus.CRIT_CHANCE);
         double totalCritChance = baseCritChance + skillCritChance;
 
         if (random.nextDouble() * 100 < totalCritChance) {
             isCritical = true;
             double baseCritDamage = 150.0;
-            double bonusCritDamage = playerStats.getOrDefault(StatType.CRIT_DAMAGE, 0.0);
+            double bonusCritDamage = playerStats.get(StatType.CRIT_DAMAGE);
             double skillCritDamage = skillManager.getSkillBonus(player, SkillBonus.CRIT_DAMAGE);
             double critMultiplier = (baseCritDamage + bonusCritDamage + skillCritDamage) / 100.0;
             finalDamage *= critMultiplier;
@@ -959,14 +979,14 @@ public class CombatListener implements Listener {
         finalDamage *= damageMultiplier;
 
         // ============ STATS D'ÉQUIPEMENT ============
-        Map<StatType, Double> playerStats = plugin.getItemManager().calculatePlayerStats(player);
+        PlayerStatVector playerStats = plugin.getItemManager().getStatVector(player);
 
         // Bonus de dégâts flat
-        double flatDamageBonus = playerStats.getOrDefault(StatType.DAMAGE, 0.0);
+        double flatDamageBonus = playerStats.get(StatType.DAMAGE);
         finalDamage += flatDamageBonus;
 
         // Bonus de dégâts en pourcentage
-        double damagePercent = playerStats.getOrDefault(StatType.DAMAGE_PERCENT, 0.0);
+        double damagePercent = playerStats.get(StatType.DAMAGE_PERCENT);
         finalDamage *= (1 + damagePercent / 100.0);
 
         // ============ SKILL TREE BONUSES ============
@@ -975,14 +995,14 @@ public class CombatListener implements Listener {
         finalDamage *= (1 + skillDamageBonus / 100.0);
 
         // ============ SYSTÈME DE CRITIQUE ============
-        double baseCritChance = playerStats.getOrDefault(StatType.CRIT_CHANCE, 0.0);
+        double baseCritChance = playerStats.get(StatType.CRIT_CHANCE);
         double skillCritChance = skillManager.getSkillBonus(player, SkillBonus.CRIT_CHANCE);
         double totalCritChance = baseCritChance + skillCritChance;
 
         if (random.nextDouble() * 100 < totalCritChance) {
             isCritical = true;
             double baseCritDamage = 150.0;
-            double bonusCritDamage = playerStats.getOrDefault(StatType.CRIT_DAMAGE, 0.0);
+            double bonusCritDamage = playerStats.get(StatType.CRIT_DAMAGE);
             double skillCritDamage = skillManager.getSkillBonus(player, SkillBonus.CRIT_DAMAGE);
             double critMultiplier = (baseCritDamage + bonusCritDamage + skillCritDamage) / 100.0;
             finalDamage *= critMultiplier;
@@ -1029,14 +1049,14 @@ public class CombatListener implements Listener {
         }
 
         // ============ STATS DÉFENSIVES ============
-        Map<StatType, Double> playerStats = plugin.getItemManager().calculatePlayerStats(player);
+        PlayerStatVector playerStats = plugin.getItemManager().getStatVector(player);
         var skillManager = plugin.getSkillTreeManager();
 
         // ============ ARMURE (réduction asymptotique améliorée) ============
         // Formule: reduction = armor / (armor + 50)
         // 25 armure = 33% réduction, 50 = 50%, 100 = 66%, 150 = 75%
-        double armor = playerStats.getOrDefault(StatType.ARMOR, 0.0);
-        double armorPercent = playerStats.getOrDefault(StatType.ARMOR_PERCENT, 0.0);
+        double armor = playerStats.get(StatType.ARMOR);
+        double armorPercent = playerStats.get(StatType.ARMOR_PERCENT);
         double totalArmor = armor * (1 + armorPercent / 100.0);
 
         if (totalArmor > 0) {
@@ -1052,14 +1072,14 @@ public class CombatListener implements Listener {
         }
 
         // ============ RÉDUCTION DE DÉGÂTS % (items + skills) ============
-        double damageReduction = playerStats.getOrDefault(StatType.DAMAGE_REDUCTION, 0.0);
+        double damageReduction = playerStats.get(StatType.DAMAGE_REDUCTION);
         double skillDamageReduction = skillManager.getSkillBonus(player, SkillBonus.DAMAGE_REDUCTION);
         double totalReduction = Math.min(75, damageReduction + skillDamageReduction); // Cap à 75%
 
         finalDamage *= (1 - totalReduction / 100.0);
 
         // ============ BLOCAGE (chance de réduire 50% des dégâts) ============
-        double blockChance = playerStats.getOrDefault(StatType.BLOCK_CHANCE, 0.0);
+        double blockChance = playerStats.get(StatType.BLOCK_CHANCE);
         if (blockChance > 0 && random.nextDouble() * 100 < blockChance) {
             finalDamage *= 0.5; // Bloque 50% des dégâts
             player.getWorld().spawnParticle(Particle.CRIT, player.getLocation().add(0, 1, 0), 8, 0.3, 0.3, 0.3, 0.05);
@@ -1069,7 +1089,7 @@ public class CombatListener implements Listener {
         }
 
         // ============ ESQUIVE ============
-        double dodgeChance = playerStats.getOrDefault(StatType.DODGE_CHANCE, 0.0);
+        double dodgeChance = playerStats.get(StatType.DODGE_CHANCE);
 
         // Spectre de Guerre: <30% HP = +25% Esquive
         var ascensionManager = plugin.getAscensionManager();
@@ -1094,7 +1114,7 @@ public class CombatListener implements Listener {
         }
 
         // ============ THORNS (Épines) ============
-        double thorns = playerStats.getOrDefault(StatType.THORNS, 0.0);
+        double thorns = playerStats.get(StatType.THORNS);
         if (thorns > 0) {
             mob.damage(thorns, player);
             mob.getWorld().spawnParticle(Particle.DAMAGE_INDICATOR, mob.getLocation().add(0, 1, 0), 5, 0.2, 0.2, 0.2);
@@ -1121,6 +1141,7 @@ public class CombatListener implements Listener {
 
     /**
      * Gère la mort d'un mob ZombieZ (zombie, squelette, etc.)
+     * Le contexte du kill est résolu une seule fois puis publié dans le pipeline de progression
      */
     private void handleZombieZMobDeath(Player killer, LivingEntity mob) {
         Zone zone = plugin.getZoneManager().getPlayerZone(killer);
@@ -1133,186 +1154,209 @@ public class CombatListener implements Listener {
         }
 
         // ============ ENREGISTRER LE KILL DANS MOMENTUM ============
+        // Avant le contexte: la streak figée doit inclure ce kill
         plugin.getMomentumManager().registerKill(killer);
 
-        // ============ ENREGISTRER LE KILL DANS ASCENSION ============
-        var ascensionManager = plugin.getAscensionManager();
-        if (ascensionManager != null) {
-            ascensionManager.registerKill(killer);
+        boolean elite = zombieType.contains("ELITE") || zombieType.contains("SPECIAL");
+        boolean boss = zombieType.contains("BOSS");
 
-            // ============ ASCENSION ON-KILL EFFECTS ============
-            var ascData = ascensionManager.getData(killer);
-            if (ascData != null) {
-                // Récolte de Sang: +2% HP on kill (cap 5%/s)
-                if (ascData.hasMutation(com.rinaorc.zombiez.ascension.Mutation.RECOLTE_DE_SANG)) {
-                    double maxHp = killer.getMaxHealth();
-                    double healAmount = maxHp * 0.02; // 2% max HP
-                    double actualHeal = ascData.registerHeal(healAmount, maxHp);
-                    if (actualHeal > 0) {
-                        double newHealth = Math.min(killer.getHealth() + actualHeal, maxHp);
-                        killer.setHealth(newHealth);
-                        killer.getWorld().spawnParticle(Particle.HEART, killer.getLocation().add(0, 1.5, 0), 1, 0.2, 0.2, 0.2);
-                    }
-                }
+        // Headshot - vérifie si le mob a été tué par un headshot
+        boolean headshot = mob.getScoreboardTags().contains("zombiez_headshot_kill");
 
-                // Éclats d'Os: 15% chance explosion AoE
-                if (ascData.hasMutation(com.rinaorc.zombiez.ascension.Mutation.ECLATS_DOS)) {
-                    if (random.nextDouble() < 0.15) {
-                        ascensionManager.triggerBoneShardsExplosion(killer, mob.getLocation(), 25.0);
-                    }
-                }
+        // Kill en groupe - vérifie si d'autres joueurs sont proches (< 20 blocs)
+        boolean groupKill = checkGroupKill(killer, mob.getLocation());
 
-                // Évanescence: Kill = 3s aggro réduit
-                if (ascData.hasMutation(com.rinaorc.zombiez.ascension.Mutation.EVANESCENCE)) {
-                    triggerEvanescence(killer, mob.getLocation());
-                }
-            }
-        }
+        // Kill sans dégâts - vérifie si le joueur n'a pas pris de dégâts depuis son dernier kill
+        UUID killerUuid = killer.getUniqueId();
+        boolean noDamage = playersWithoutDamage.contains(killerUuid);
+        // Réinitialiser pour le prochain kill (le joueur n'a pas pris de dégâts pour ce kill-ci)
+        playersWithoutDamage.add(killerUuid);
 
-        // ============ METTRE À JOUR LES MISSIONS ============
-        plugin.getMissionManager().updateProgress(killer,
-            com.rinaorc.zombiez.progression.MissionManager.MissionTracker.ZOMBIE_KILLS, 1);
+        // Dernier coup critique / à distance
+        boolean critical = mob.hasMetadata("zombiez_last_hit_critical") &&
+            mob.getMetadata("zombiez_last_hit_critical").get(0).asBoolean();
+        boolean ranged = mob.hasMetadata("zombiez_last_hit_ranged") &&
+            mob.getMetadata("zombiez_last_hit_ranged").get(0).asBoolean();
 
-        // Elite kill tracking
-        if (zombieType.contains("ELITE") || zombieType.contains("SPECIAL")) {
-            plugin.getMissionManager().updateProgress(killer,
-                com.rinaorc.zombiez.progression.MissionManager.MissionTracker.ELITE_KILLS, 1);
-        }
+        // Nuit (13000-23000 ticks)
+        long worldTime = killer.getWorld().getTime();
+        boolean night = worldTime >= 13000 && worldTime <= 23000;
 
-        // Boss kill tracking
-        if (zombieType.contains("BOSS")) {
-            plugin.getMissionManager().updateProgress(killer,
-                com.rinaorc.zombiez.progression.MissionManager.MissionTracker.BOSS_KILLS, 1);
-        }
+        // Compteurs figés avant la récompense (qui ajoute le kill à PlayerData)
+        PlayerData data = plugin.getPlayerDataManager().getPlayer(killer);
+        int totalKills = data != null ? (int) data.getTotalKills() + 1 : 0;
+        int eliteKills = data != null ? (int) data.getEliteKills().get() + (elite ? 1 : 0) : 0;
+        int bossKills = data != null ? (int) data.getBossKills().get() + (boss ? 1 : 0) : 0;
+
+        plugin.getKillPipeline().publish(new KillContext(
+            killer, killerUuid, mob, mob.getLocation(), zombieLevel, zombieType, data,
+            elite, boss, headshot, groupKill, noDamage, critical, ranged, night,
+            plugin.getMomentumManager().getStreak(killer), totalKills, eliteKills, bossKills
+        ));
+    }
 
-        // Headshot kill tracking - vérifie si le mob a été tué par un headshot
-        if (mob.getScoreboardTags().contains("zombiez_headshot_kill")) {
-            plugin.getMissionManager().updateProgress(killer,
-                com.rinaorc.zombiez.progression.MissionManager.MissionTracker.HEADSHOTS, 1);
-        }
+    /**
+     * Abonne les systèmes de progression du kill au pipeline
+     * Ordre SYNC identique à l'ancien traitement: ascension, missions, groupe, récompenses
+     */
+    private void registerKillSubscribers() {
+        KillPipeline pipeline = plugin.getKillPipeline();
+
+        pipeline.register("ascension", KillPipeline.Phase.SYNC,
+            ctx -> plugin.getAscensionManager() != null, this::applyAscensionKill);
+        pipeline.register("missions", KillPipeline.Phase.SYNC,
+            ctx -> true, this::applyMissionProgress);
+        pipeline.register("groupe", KillPipeline.Phase.SYNC,
+            ctx -> ctx.groupKill() && ctx.data() != null, this::applyGroupKill);
+        pipeline.register("achievements", KillPipeline.Phase.ASYNC,
+            ctx -> ctx.data() != null, this::checkKillAchievements);
+        pipeline.register("economie", KillPipeline.Phase.SYNC,
+            ctx -> true, ctx -> plugin.getEconomyManager().rewardZombieKill(ctx.killer(), ctx.data(), ctx.zombieType(), ctx.zombieLevel()));
+    }
 
-        // Group kill tracking - vérifie si d'autres joueurs sont proches (< 20 blocs)
-        boolean isGroupKill = checkGroupKill(killer, mob.getLocation());
-        if (isGroupKill) {
-            plugin.getMissionManager().updateProgress(killer,
-                com.rinaorc.zombiez.progression.MissionManager.MissionTracker.GROUP_KILLS, 1);
+    /**
+     * Kill d'ascension + effets on-kill des mutations
+     */
+    private void applyAscensionKill(KillContext ctx) {
+        var ascensionManager = plugin.getAscensionManager();
+        Player killer = ctx.killer();
+        ascensionManager.registerKill(killer);
+
+        var ascData = ascensionManager.getData(killer);
+        if (ascData == null) return;
+
+        // Récolte de Sang: +2% HP on kill (cap 5%/s)
+        if (ascData.hasMutation(com.rinaorc.zombiez.ascension.Mutation.RECOLTE_DE_SANG)) {
+            double maxHp = killer.getMaxHealth();
+            double healAmount = maxHp * 0.02; // 2% max HP
+            double actualHeal = ascData.registerHeal(healAmount, maxHp);
+            if (actualHeal > 0) {
+                double newHealth = Math.min(killer.getHealth() + actualHeal, maxHp);
+                killer.setHealth(newHealth);
+                killer.getWorld().spawnParticle(Particle.HEART, killer.getLocation().add(0, 1.5, 0), 1, 0.2, 0.2, 0.2);
+            }
         }
 
-        // Kills sans dégâts tracking - vérifie si le joueur n'a pas pris de dégâts depuis son dernier kill
-        UUID killerUuid = killer.getUniqueId();
-        boolean killWithoutDamage = playersWithoutDamage.contains(killerUuid);
-        if (killWithoutDamage) {
-            plugin.getMissionManager().updateProgress(killer,
-                com.rinaorc.zombiez.progression.MissionManager.MissionTracker.KILLS_NO_DAMAGE, 1);
+        // Éclats d'Os: 15% chance explosion AoE
+        if (ascData.hasMutation(com.rinaorc.zombiez.ascension.Mutation.ECLATS_DOS)) {
+            if (random.nextDouble() < 0.15) {
+                ascensionManager.triggerBoneShardsExplosion(killer, ctx.location(), 25.0);
+            }
         }
-        // Réinitialiser pour le prochain kill (le joueur n'a pas pris de dégâts pour ce kill-ci)
-        playersWithoutDamage.add(killerUuid);
 
-        // Critical kill tracking - vérifie si le dernier coup était critique
-        if (mob.hasMetadata("zombiez_last_hit_critical") &&
-            mob.getMetadata("zombiez_last_hit_critical").get(0).asBoolean()) {
-            plugin.getMissionManager().updateProgress(killer,
-                com.rinaorc.zombiez.progression.MissionManager.MissionTracker.CRIT_KILLS, 1);
+        // Évanescence: Kill = 3s aggro réduit
+        if (ascData.hasMutation(com.rinaorc.zombiez.ascension.Mutation.EVANESCENCE)) {
+            triggerEvanescence(killer, ctx.location());
         }
+    }
 
-        // Ranged/Melee kill tracking - vérifie si le kill était à distance ou au corps à corps
-        boolean wasRangedKill = mob.hasMetadata("zombiez_last_hit_ranged") &&
-                                mob.getMetadata("zombiez_last_hit_ranged").get(0).asBoolean();
-        if (wasRangedKill) {
-            plugin.getMissionManager().updateProgress(killer,
-                com.rinaorc.zombiez.progression.MissionManager.MissionTracker.RANGED_KILLS, 1);
-        } else {
-            plugin.getMissionManager().updateProgress(killer,
-                com.rinaorc.zombiez.progression.MissionManager.MissionTracker.MELEE_KILLS, 1);
-        }
+    /**
+     * Tous les trackers de missions du kill, appliqués en une seule passe
+     */
+    private void applyMissionProgress(KillContext ctx) {
+        EnumMap<MissionTracker, Integer> missionProgress = new EnumMap<>(MissionTracker.class);
+        missionProgress.put(MissionTracker.ZOMBIE_KILLS, 1);
+
+        if (ctx.elite()) missionProgress.put(MissionTracker.ELITE_KILLS, 1);
+        if (ctx.boss()) missionProgress.put(MissionTracker.BOSS_KILLS, 1);
+        if (ctx.headshot()) missionProgress.put(MissionTracker.HEADSHOTS, 1);
+        if (ctx.groupKill()) missionProgress.put(MissionTracker.GROUP_KILLS, 1);
+        if (ctx.noDamage()) missionProgress.put(MissionTracker.KILLS_NO_DAMAGE, 1);
+        if (ctx.critical()) missionProgress.put(MissionTracker.CRIT_KILLS, 1);
+        missionProgress.put(ctx.ranged() ? MissionTracker.RANGED_KILLS : MissionTracker.MELEE_KILLS, 1);
+        if (ctx.night()) missionProgress.put(MissionTracker.NIGHT_KILLS, 1);
+        if (ctx.streak() > 0) missionProgress.put(MissionTracker.KILLS_IN_STREAK, 1);
+
+        plugin.getMissionManager().updateProgress(ctx.killer(), missionProgress);
+    }
 
-        // Night kill tracking - vérifie si c'est la nuit (13000-23000 ticks)
-        long worldTime = killer.getWorld().getTime();
-        if (worldTime >= 13000 && worldTime <= 23000) {
-            plugin.getMissionManager().updateProgress(killer,
-                com.rinaorc.zombiez.progression.MissionManager.MissionTracker.NIGHT_KILLS, 1);
-        }
+    /**
+     * Kill en groupe: stat détaillée + achievements d'équipe
+     * Reste synchrone (les stats détaillées ne sont pas thread-safe)
+     */
+    private void applyGroupKill(KillContext ctx) {
+        PlayerData data = ctx.data();
+        data.incrementStat("group_kills");
+        int groupKills = (int) data.getStat("group_kills");
 
-        // Kills in streak tracking - ajoute le streak actuel
-        int currentStreak = plugin.getMomentumManager().getStreak(killer);
-        if (currentStreak > 0) {
-            plugin.getMissionManager().updateProgress(killer,
-                com.rinaorc.zombiez.progression.MissionManager.MissionTracker.KILLS_IN_STREAK, 1);
-        }
+        var achievementManager = plugin.getAchievementManager();
+        Player killer = ctx.killer();
 
-        // ============ ACHIEVEMENTS ============
-        PlayerData data = plugin.getPlayerDataManager().getPlayer(killer);
-        if (data != null) {
-            var achievementManager = plugin.getAchievementManager();
-            int totalKills = (int) data.getTotalKills() + 1;
-
-            // Premier kill
-            achievementManager.incrementProgress(killer, "first_blood", 1);
-
-            // Achievements de kills - Chasseur (50, 250)
-            achievementManager.checkAndUnlock(killer, "zombie_hunter_1", totalKills);
-            achievementManager.checkAndUnlock(killer, "zombie_hunter_2", totalKills);
-
-            // Achievements de kills - Tueur de Zombies (1000, 5000, 25000)
-            achievementManager.checkAndUnlock(killer, "zombie_slayer_1", totalKills);
-            achievementManager.checkAndUnlock(killer, "zombie_slayer_2", totalKills);
-            achievementManager.checkAndUnlock(killer, "zombie_slayer_3", totalKills);
-
-            // Achievements de kills extrêmes (100k, 500k, 1M)
-            achievementManager.checkAndUnlock(killer, "exterminator", totalKills);
-            achievementManager.checkAndUnlock(killer, "genocide", totalKills);
-            achievementManager.checkAndUnlock(killer, "legend", totalKills);
-
-            // Streak achievements (kills sans mourir)
-            int streak = plugin.getMomentumManager().getStreak(killer);
-            achievementManager.checkAndUnlock(killer, "killing_spree_1", streak);
-            achievementManager.checkAndUnlock(killer, "killing_spree_2", streak);
-            achievementManager.checkAndUnlock(killer, "unstoppable", streak);
-            achievementManager.checkAndUnlock(killer, "immortal", streak);
-            achievementManager.checkAndUnlock(killer, "deathless", streak);
-
-            // Elite kill achievements
-            if (zombieType.contains("ELITE") || zombieType.contains("SPECIAL")) {
-                int eliteKills = (int) data.getEliteKills().get() + 1;
-                achievementManager.checkAndUnlock(killer, "elite_hunter_1", eliteKills);
-                achievementManager.checkAndUnlock(killer, "elite_hunter_2", eliteKills);
-                achievementManager.checkAndUnlock(killer, "elite_master", eliteKills);
+        // Premier ami
+        achievementManager.incrementProgress(killer, "first_friend", 1);
+
+        // Joueur d'équipe I/II
+        achievementManager.checkAndUnlock(killer, "team_player_1", groupKills);
+        achievementManager.checkAndUnlock(killer, "team_player_2", groupKills);
+    }
+
+    /**
+     * Achievements de kills (thread asynchrone)
+     * Les seuils sont vérifiés hors du main thread sur les compteurs figés du contexte;
+     * seuls les déblocages effectifs repassent sur le main thread (titres, sons, récompenses)
+     */
+    private void checkKillAchievements(KillContext ctx) {
+        var achievementManager = plugin.getAchievementManager();
+        PlayerData data = ctx.data();
+        List<Runnable> unlocks = new ArrayList<>(2);
+
+        // Achievements de kills: Chasseur, Tueur de Zombies, extrêmes
+        for (String id : KILL_ACHIEVEMENTS) {
+            if (achievementManager.isReached(data, id, ctx.totalKills())) {
+                unlocks.add(() -> achievementManager.checkAndUnlock(ctx.killer(), id, ctx.totalKills()));
             }
+        }
 
-            // Boss kill achievements
-            if (zombieType.contains("BOSS")) {
-                int bossKills = (int) data.getBossKills().get() + 1;
-                achievementManager.checkAndUnlock(killer, "boss_slayer_1", bossKills);
-                achievementManager.checkAndUnlock(killer, "boss_slayer_2", bossKills);
-                achievementManager.checkAndUnlock(killer, "boss_master", bossKills);
+        // Streak achievements (kills sans mourir)
+        for (String id : STREAK_ACHIEVEMENTS) {
+            if (achievementManager.isReached(data, id, ctx.streak())) {
+                unlocks.add(() -> achievementManager.checkAndUnlock(ctx.killer(), id, ctx.streak()));
+            }
+        }
 
-                // Achievement spécial Patient Zéro
-                if (zombieType.equals("PATIENT_ZERO")) {
-                    achievementManager.incrementProgress(killer, "patient_zero", 1);
+        if (ctx.elite()) {
+            for (String id : ELITE_ACHIEVEMENTS) {
+                if (achievementManager.isReached(data, id, ctx.eliteKills())) {
+                    unlocks.add(() -> achievementManager.checkAndUnlock(ctx.killer(), id, ctx.eliteKills()));
                 }
+            }
+        }
 
-                // Achievement group_boss - tuer un boss en groupe
-                if (isGroupKill) {
-                    achievementManager.incrementProgress(killer, "group_boss", 1);
+        if (ctx.boss()) {
+            for (String id : BOSS_ACHIEVEMENTS) {
+                if (achievementManager.isReached(data, id, ctx.bossKills())) {
+                    unlocks.add(() -> achievementManager.checkAndUnlock(ctx.killer(), id, ctx.bossKills()));
                 }
             }
+        }
 
-            // Group kill achievements (kills avec des coéquipiers proches)
-            if (isGroupKill) {
-                data.incrementStat("group_kills");
-                int groupKills = (int) data.getStat("group_kills");
+        // Achievements à progression: uniquement tant qu'ils ne sont pas débloqués
+        addProgressUnlock(unlocks, data, ctx.killer(), "first_blood");
+        if (ctx.boss() && ctx.zombieType().equals("PATIENT_ZERO")) {
+            addProgressUnlock(unlocks, data, ctx.killer(), "patient_zero");
+        }
+        if (ctx.boss() && ctx.groupKill()) {
+            addProgressUnlock(unlocks, data, ctx.killer(), "group_boss");
+        }
 
-                // Premier ami
-                achievementManager.incrementProgress(killer, "first_friend", 1);
+        if (unlocks.isEmpty()) return;
 
-                // Joueur d'équipe I/II
-                achievementManager.checkAndUnlock(killer, "team_player_1", groupKills);
-                achievementManager.checkAndUnlock(killer, "team_player_2", groupKills);
-            }
+        Runnable apply = () -> {
+            if (!ctx.killer().isOnline()) return;
+            unlocks.forEach(Runnable::run);
+        };
+        if (plugin.isEnabled()) {
+            plugin.getServer().getScheduler().runTask(plugin, apply);
+        } else if (plugin.getServer().isPrimaryThread()) {
+            // Drain final de KillPipeline.shutdown() (onDisable): plus de planification possible
+            apply.run();
         }
+    }
 
-        // Récompenser le joueur
-        plugin.getEconomyManager().rewardZombieKill(killer, zombieType, zombieLevel);
+    private void addProgressUnlock(List<Runnable> unlocks, PlayerData data, Player killer, String id) {
+        if (!data.hasAchievement(id)) {
+            unlocks.add(() -> plugin.getAchievementManager().incrementProgress(killer, id, 1));
+        }
     }
 
     // ==================== SYSTÈME DE HEADSHOT ====================
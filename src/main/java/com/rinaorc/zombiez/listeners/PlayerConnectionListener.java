@@ -92,6 +92,11 @@ public class PlayerConnectionListener implements Listener {
         // Vérifier la zone actuelle
         plugin.getZoneManager().checkPlayerZone(player);
 
+        // Inscrire le joueur dans l'index des effets de talents
+        if (plugin.getTalentManager() != null) {
+            plugin.getTalentManager().refreshPlayer(player);
+        }
+
         // Message de bienvenue
         boolean isNew = data.getKills().get() == 0 && data.getPlaytime().get() < 60;
 
@@ -114,6 +119,9 @@ public class PlayerConnectionListener implements Listener {
             MessageUtils.broadcast("§a+ §7" + player.getName() + " §7a rejoint le serveur");
         }
 
+        // Migrer les items à l'ancien format avant toute lecture de l'équipement
+        plugin.getItemManager().migrateInventory(player);
+
         // Appliquer les attributs basés sur l'équipement (ex: bonus de vie max)
         plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
             plugin.getItemListener().applyPlayerAttributes(player);
@@ -385,6 +393,14 @@ public class PlayerConnectionListener implements Listener {
         // Supprimer du cache de zone
         plugin.getZoneManager().removeFromCache(player.getUniqueId());
 
+        // Libérer le vecteur de stats d'équipement
+        plugin.getItemManager().removePlayerStats(player.getUniqueId());
+
+        // Libérer l'index des effets de talents
+        if (plugin.getTalentManager() != null) {
+            plugin.getTalentManager().removePlayer(player);
+        }
+
         // Nettoyer le cache de déplacement (FIX: fuite mémoire)
         if (plugin.getPlayerMoveListener() != null) {
             plugin.getPlayerMoveListener().removeFromCache(player.getUniqueId());
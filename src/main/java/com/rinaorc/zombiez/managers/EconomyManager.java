@@ -245,6 +245,12 @@ public class EconomyManager {
     private void onLevelUp(Player player, PlayerData data) {
         int newLevel = data.getLevel().get();
 
+        // Invalider les placeholders de niveau
+        if (plugin.getPlaceholderCache() != null) {
+            plugin.getPlaceholderCache().invalidate(player.getUniqueId(),
+                com.rinaorc.zombiez.placeholder.PlaceholderCache.Category.LEVEL);
+        }
+
         // Notifier le système de Boss Bar Dynamique
         if (plugin.getDynamicBossBarManager() != null) {
             plugin.getDynamicBossBarManager().notifyLevelUp(player, newLevel);
@@ -298,7 +304,13 @@ public class EconomyManager {
      * Récompense un joueur pour un kill de zombie
      */
     public void rewardZombieKill(Player player, String zombieType, int zombieLevel) {
-        PlayerData data = plugin.getPlayerDataManager().getPlayer(player);
+        rewardZombieKill(player, plugin.getPlayerDataManager().getPlayer(player), zombieType, zombieLevel);
+    }
+
+    /**
+     * Récompense un kill avec des données déjà résolues (contexte de kill)
+     */
+    public void rewardZombieKill(Player player, PlayerData data, String zombieType, int zombieLevel) {
         if (data == null) return;
 
         // ====== FIRST BLOOD OF THE DAY ======
@@ -8,6 +8,7 @@ import com.rinaorc.zombiez.api.events.PlayerDataLoadEvent;
 import com.rinaorc.zombiez.api.events.PlayerDataSaveEvent;
 import com.rinaorc.zombiez.data.DatabaseManager;
 import com.rinaorc.zombiez.data.PlayerData;
+import com.rinaorc.zombiez.data.PlayerSaveQueue;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
@@ -29,7 +30,7 @@ import java.util.logging.Level;
  * 
  * Architecture:
  * - Cache Caffeine en mémoire pour accès ultra-rapide
- * - Sauvegarde async vers la BDD
+ * - Sauvegarde async vers la BDD via une file write-behind (PlayerSaveQueue)
  * - Batch updates pour optimiser les I/O
  */
 public class PlayerDataManager {
@@ -43,11 +44,11 @@ public class PlayerDataManager {
     // Cache secondaire - Joueurs récemment déconnectés (pour reconnexion rapide)
     private final Cache<UUID, PlayerData> recentCache;
 
-    // Set des joueurs en cours de chargement (évite les doubles loads)
-    private final Set<UUID> loadingPlayers = ConcurrentHashMap.newKeySet();
+    // Chargements en cours (évite les doubles loads: les demandes suivantes partagent le même future)
+    private final Map<UUID, CompletableFuture<PlayerData>> loadingPlayers = new ConcurrentHashMap<>();
 
-    // Set des joueurs en cours de sauvegarde
-    private final Set<UUID> savingPlayers = ConcurrentHashMap.newKeySet();
+    // File d'écriture différée - coalesce les joueurs et écrit par batchs JDBC
+    private final PlayerSaveQueue saveQueue;
 
     // Statistiques de performance
     private long cacheHits = 0;
@@ -57,6 +58,8 @@ public class PlayerDataManager {
     public PlayerDataManager(ZombieZPlugin plugin) {
         this.plugin = plugin;
         this.db = plugin.getDatabaseManager();
+        this.saveQueue = new PlayerSaveQueue(plugin, db, this::writeBatch);
+        db.attachSaveQueue(saveQueue);
 
         // Cache principal pour joueurs en ligne
         // Taille max 250 pour avoir de la marge sur 200 joueurs
@@ -111,39 +114,39 @@ public class PlayerDataManager {
 
         cacheMisses++;
 
-        // Éviter les doubles chargements
-        if (loadingPlayers.contains(uuid)) {
-            // Attendre que le chargement en cours se termine
-            return CompletableFuture.supplyAsync(() -> {
-                while (loadingPlayers.contains(uuid)) {
-                    try {
-                        Thread.sleep(50);
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                    }
-                }
-                return playerCache.getIfPresent(uuid);
-            });
+        // Éviter les doubles chargements: réutiliser le chargement en cours
+        CompletableFuture<PlayerData> inFlight = loadingPlayers.get(uuid);
+        if (inFlight != null) {
+            return inFlight;
         }
 
-        loadingPlayers.add(uuid);
+        CompletableFuture<PlayerData> created = new CompletableFuture<>();
+        inFlight = loadingPlayers.putIfAbsent(uuid, created);
+        if (inFlight != null) {
+            return inFlight;
+        }
 
-        // Charger depuis la BDD de manière async
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                PlayerData data = loadFromDatabase(uuid, name);
-                playerCache.put(uuid, data);
+        // Charger depuis la BDD sur l'exécuteur dédié (pas le ForkJoin commun)
+        db.supplyAsync(() -> {
+            PlayerData data = loadFromDatabase(uuid, name);
+            playerCache.put(uuid, data);
 
-                // Fire event sur le main thread
-                Bukkit.getScheduler().runTask(plugin, () -> {
-                    Bukkit.getPluginManager().callEvent(new PlayerDataLoadEvent(player, data));
-                });
+            // Fire event sur le main thread
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                Bukkit.getPluginManager().callEvent(new PlayerDataLoadEvent(player, data));
+            });
 
-                return data;
-            } finally {
-                loadingPlayers.remove(uuid);
+            return data;
+        }).whenComplete((data, error) -> {
+            // Libéré même si la tâche n'a jamais démarré (file pleine, refus)
+            loadingPlayers.remove(uuid, created);
+            if (error != null) {
+                created.completeExceptionally(error);
+            } else {
+                created.complete(data);
             }
         });
+        return created;
     }
 
     /**
@@ -230,6 +233,12 @@ public class PlayerDataManager {
             plugin.log(Level.FINE, "Journey columns not found for " + uuid + ", using defaults");
         }
 
+        try {
+            data.loadExploredChunks(rs.getString("explored_chunks"));
+        } catch (SQLException e) {
+            plugin.log(Level.FINE, "Explored chunks column not found for " + uuid + ", using defaults");
+        }
+
         data.setLastLogin(Instant.now());
         data.startSession();
         data.clearDirty(); // Données fraîches de la BDD
@@ -335,89 +344,130 @@ public class PlayerDataManager {
 
     /**
      * Sauvegarde les données d'un joueur de manière asynchrone
+     * Le joueur rejoint la file write-behind et un flush est demandé
      */
     public CompletableFuture<Void> saveAsync(PlayerData data) {
         if (data == null || !data.isDirty()) {
             return CompletableFuture.completedFuture(null);
         }
 
-        UUID uuid = data.getUuid();
-
-        // Éviter les doubles sauvegardes
-        if (savingPlayers.contains(uuid)) {
-            return CompletableFuture.completedFuture(null);
-        }
+        return saveQueue.enqueueAndFlush(data).thenRun(() -> {
+            // Fire event asynchronously (Paper 1.21.4 requires async-only)
+            Player player = data.getPlayer();
+            if (player != null) {
+                Bukkit.getPluginManager().callEvent(new PlayerDataSaveEvent(player, data));
+            }
+        });
+    }
 
-        savingPlayers.add(uuid);
+    // Groupes de champs persistés dans la table players
+    private static final int PLAYERS_TABLE_GROUPS = PlayerData.DirtyGroup.CORE.bit()
+        | PlayerData.DirtyGroup.JOURNEY.bit()
+        | PlayerData.DirtyGroup.EXPLORED_CHUNKS.bit();
 
-        return CompletableFuture.runAsync(() -> {
-            try {
-                saveToDatabase(data);
-                data.clearDirty();
+    // Requêtes UPDATE par combinaison de groupes (construites à la demande)
+    private final Map<Integer, String> updateSqlCache = new ConcurrentHashMap<>();
 
-                // Fire event asynchronously (Paper 1.21.4 requires async-only)
-                Player player = data.getPlayer();
-                if (player != null) {
-                    Bukkit.getPluginManager().callEvent(new PlayerDataSaveEvent(player, data));
-                }
-            } finally {
-                savingPlayers.remove(uuid);
+    /**
+     * Écrit un batch de joueurs (appelé par PlayerSaveQueue dans une transaction)
+     * Les joueurs sont regroupés par combinaison de groupes modifiés:
+     * un PreparedStatement par combinaison, seules les colonnes modifiées sont réécrites
+     */
+    private int writeBatch(Connection conn, List<PlayerSaveQueue.Entry> batch) throws SQLException {
+        Map<Integer, List<PlayerData>> byMask = new HashMap<>();
+        for (PlayerSaveQueue.Entry entry : batch) {
+            int mask = entry.dirtyMask() & PLAYERS_TABLE_GROUPS;
+            if (mask != 0) {
+                byMask.computeIfAbsent(mask, k -> new ArrayList<>()).add(entry.data());
             }
-        });
+        }
+
+        int rows = 0;
+        for (Map.Entry<Integer, List<PlayerData>> group : byMask.entrySet()) {
+            rows += writePlayersBatch(conn, group.getKey(), group.getValue());
+        }
+        return rows;
     }
 
     /**
-     * Sauvegarde vers la BDD (synchrone, appelé depuis thread async)
+     * Exécute un batch UPDATE pour des joueurs partageant la même combinaison de groupes
      */
-    private void saveToDatabase(PlayerData data) {
+    private int writePlayersBatch(Connection conn, int mask, List<PlayerData> players) throws SQLException {
         dbQueries++;
 
-        try (Connection conn = db.getConnection()) {
-            String sql = """
-                    UPDATE %s SET
-                        name = ?, level = ?, xp = ?, prestige = ?, points = ?, gems = ?,
-                        kills = ?, deaths = ?, playtime = ?, current_zone = ?, max_zone = ?,
-                        current_checkpoint = ?, vip_rank = ?, vip_expiry = ?, last_login = ?, last_logout = ?,
-                        journey_chapter = ?, journey_step = ?, journey_completed_steps = ?,
-                        journey_completed_chapters = ?, journey_unlocked_gates = ?, journey_step_progress = ?
-                    WHERE uuid = ?
-                    """.formatted(db.table("players"));
+        boolean core = PlayerData.DirtyGroup.CORE.isIn(mask);
+        boolean journey = PlayerData.DirtyGroup.JOURNEY.isIn(mask);
+        boolean explored = PlayerData.DirtyGroup.EXPLORED_CHUNKS.isIn(mask);
+        String sql = updateSqlCache.computeIfAbsent(mask, this::buildUpdateSql);
 
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setString(1, data.getName());
-                stmt.setInt(2, data.getLevel().get());
-                stmt.setLong(3, data.getXp().get());
-                stmt.setInt(4, data.getPrestige().get());
-                stmt.setLong(5, data.getPoints().get());
-                stmt.setInt(6, data.getGems().get());
-                stmt.setLong(7, data.getKills().get());
-                stmt.setLong(8, data.getDeaths().get());
-                stmt.setLong(9, data.getPlaytime().get());
-                stmt.setInt(10, data.getCurrentZone().get());
-                stmt.setInt(11, data.getMaxZone().get());
-                stmt.setInt(12, data.getCurrentCheckpoint().get());
-                stmt.setString(13, data.getVipRank());
-                stmt.setTimestamp(14, data.getVipExpiry() != null ? Timestamp.from(data.getVipExpiry()) : null);
-                stmt.setTimestamp(15, data.getLastLogin() != null ? Timestamp.from(data.getLastLogin()) : null);
-                stmt.setTimestamp(16, data.getLastLogout() != null ? Timestamp.from(data.getLastLogout()) : null);
-
-                // Journey data
-                stmt.setInt(17, data.getCurrentJourneyChapter());
-                stmt.setInt(18, data.getCurrentJourneyStep());
-                stmt.setString(19, serializeStringSet(data.getCompletedJourneySteps()));
-                stmt.setString(20, serializeIntegerSet(data.getCompletedJourneyChapters()));
-                stmt.setString(21, serializeStringSet(data.getUnlockedJourneyGates()));
-                stmt.setString(22, serializeStepProgress(data.getJourneyStepProgressMap()));
-
-                stmt.setString(23, data.getUuid().toString());
-
-                stmt.executeUpdate();
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (PlayerData data : players) {
+                int i = 1;
+                if (core) {
+                    stmt.setString(i++, data.getName());
+                    stmt.setInt(i++, data.getLevel().get());
+                    stmt.setLong(i++, data.getXp().get());
+                    stmt.setInt(i++, data.getPrestige().get());
+                    stmt.setLong(i++, data.getPoints().get());
+                    stmt.setInt(i++, data.getGems().get());
+                    stmt.setLong(i++, data.getKills().get());
+                    stmt.setLong(i++, data.getDeaths().get());
+                    stmt.setLong(i++, data.getPlaytime().get());
+                    stmt.setInt(i++, data.getCurrentZone().get());
+                    stmt.setInt(i++, data.getMaxZone().get());
+                    stmt.setInt(i++, data.getCurrentCheckpoint().get());
+                    stmt.setString(i++, data.getVipRank());
+                    stmt.setTimestamp(i++, data.getVipExpiry() != null ? Timestamp.from(data.getVipExpiry()) : null);
+                    stmt.setTimestamp(i++, data.getLastLogin() != null ? Timestamp.from(data.getLastLogin()) : null);
+                    stmt.setTimestamp(i++, data.getLastLogout() != null ? Timestamp.from(data.getLastLogout()) : null);
+                }
+                if (journey) {
+                    stmt.setInt(i++, data.getCurrentJourneyChapter());
+                    stmt.setInt(i++, data.getCurrentJourneyStep());
+                    stmt.setString(i++, serializeStringSet(data.getCompletedJourneySteps()));
+                    stmt.setString(i++, serializeIntegerSet(data.getCompletedJourneyChapters()));
+                    stmt.setString(i++, serializeStringSet(data.getUnlockedJourneyGates()));
+                    stmt.setString(i++, serializeStepProgress(data.getJourneyStepProgressMap()));
+                }
+                if (explored) {
+                    stmt.setString(i++, data.serializeExploredChunks());
+                }
+                stmt.setString(i, data.getUuid().toString());
+
+                stmt.addBatch();
             }
-        } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "§cErreur sauvegarde joueur " + data.getUuid() + ": " + e.getMessage());
+
+            int rows = 0;
+            for (int count : stmt.executeBatch()) {
+                // SUCCESS_NO_INFO (-2) compte comme une ligne écrite
+                rows += count == PreparedStatement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+            }
+            return rows;
         }
     }
 
+    /**
+     * Construit la requête UPDATE ne contenant que les colonnes des groupes modifiés
+     */
+    private String buildUpdateSql(int mask) {
+        List<String> columns = new ArrayList<>();
+        if (PlayerData.DirtyGroup.CORE.isIn(mask)) {
+            columns.add("""
+                name = ?, level = ?, xp = ?, prestige = ?, points = ?, gems = ?,
+                kills = ?, deaths = ?, playtime = ?, current_zone = ?, max_zone = ?,
+                current_checkpoint = ?, vip_rank = ?, vip_expiry = ?, last_login = ?, last_logout = ?""");
+        }
+        if (PlayerData.DirtyGroup.JOURNEY.isIn(mask)) {
+            columns.add("""
+                journey_chapter = ?, journey_step = ?, journey_completed_steps = ?,
+                journey_completed_chapters = ?, journey_unlocked_gates = ?, journey_step_progress = ?""");
+        }
+        if (PlayerData.DirtyGroup.EXPLORED_CHUNKS.isIn(mask)) {
+            columns.add("explored_chunks = ?");
+        }
+        return "UPDATE " + db.table("players") + " SET " + String.join(", ", columns) + " WHERE uuid = ?";
+    }
+
     // ==================== SERIALIZATION HELPERS ====================
 
     /**
@@ -511,6 +561,7 @@ public class PlayerDataManager {
 
     /**
      * Sauvegarde tous les joueurs de manière asynchrone
+     * Tous les joueurs modifiés partent dans un seul flush batché
      */
     public void saveAllAsync() {
         Collection<PlayerData> allData = playerCache.asMap().values();
@@ -518,19 +569,20 @@ public class PlayerDataManager {
         if (allData.isEmpty())
             return;
 
-        long dirtyCount = allData.stream().filter(PlayerData::isDirty).count();
+        int dirtyCount = 0;
+        for (PlayerData data : allData) {
+            if (data.isDirty()) {
+                saveQueue.enqueue(data);
+                dirtyCount++;
+            }
+        }
         if (dirtyCount == 0)
             return;
 
-        CompletableFuture.runAsync(() -> {
-            for (PlayerData data : allData) {
-                if (data.isDirty()) {
-                    saveToDatabase(data);
-                    data.clearDirty();
-                }
-            }
+        final int saved = dirtyCount;
+        saveQueue.requestFlush().thenRun(() -> {
             if (plugin.getConfigManager().isDebugMode()) {
-                plugin.log(Level.INFO, "§7Auto-save: §e" + dirtyCount + " §7joueurs sauvegardés");
+                plugin.log(Level.INFO, "§7Auto-save: §e" + saved + " §7joueurs sauvegardés");
             }
         });
     }
@@ -545,15 +597,23 @@ public class PlayerDataManager {
         for (PlayerData data : allData) {
             if (data.isDirty()) {
                 data.endSession();
-                saveToDatabase(data);
-                data.clearDirty();
+                saveQueue.enqueue(data);
                 saved++;
             }
         }
+        saveQueue.flushSync();
 
         plugin.log(Level.INFO, "§7Sauvegarde finale: §e" + saved + " §7joueurs");
     }
 
+    /**
+     * Arrête la file write-behind (flush de tout ce qui reste en attente)
+     * Doit être appelé avant la fermeture du pool de connexions
+     */
+    public void shutdown() {
+        saveQueue.shutdown();
+    }
+
     /**
      * Obtient tous les joueurs en cache
      */
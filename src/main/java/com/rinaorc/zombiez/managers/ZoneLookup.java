@@ -0,0 +1,75 @@
+package com.rinaorc.zombiez.managers;
+
+import com.rinaorc.zombiez.zones.Zone;
+
+import java.util.Map;
+import java.util.NavigableMap;
+
+/**
+ * Table de recherche immuable: zone par bloc Z et uniformité par rangée de chunks
+ * ~10 200 entrées pour la carte complète (~80 Ko), remplacée d'un bloc au rechargement
+ */
+record ZoneLookup(int minZ, Zone[] zones, int firstChunkRow, boolean[] uniformRows) {
+
+    static final ZoneLookup EMPTY = new ZoneLookup(0, new Zone[0], 0, new boolean[0]);
+
+    /**
+     * Construit la table pour [minZ, maxZ[ depuis le TreeMap des zones (clé = minZ de la zone)
+     */
+    static ZoneLookup build(NavigableMap<Integer, Zone> zonesByZ, Zone spawnZone, int minZ, int maxZ) {
+        Zone[] zones = new Zone[maxZ - minZ];
+        for (int i = 0; i < zones.length; i++) {
+            zones[i] = floor(zonesByZ, spawnZone, minZ + i);
+        }
+
+        // Une rangée de chunks est uniforme si ses 16 blocs Z sont dans la même zone
+        int firstRow = minZ >> 4;
+        int lastRow = (maxZ - 1) >> 4;
+        boolean[] uniformRows = new boolean[lastRow - firstRow + 1];
+        for (int row = firstRow; row <= lastRow; row++) {
+            Zone first = null;
+            boolean uniform = true;
+            for (int z = row << 4; z < (row << 4) + 16; z++) {
+                Zone zone = z >= minZ && z < maxZ ? zones[z - minZ] : spawnZone;
+                if (first == null) {
+                    first = zone;
+                } else if (zone != first) {
+                    uniform = false;
+                    break;
+                }
+            }
+            uniformRows[row - firstRow] = uniform;
+        }
+
+        return new ZoneLookup(minZ, zones, firstRow, uniformRows);
+    }
+
+    /**
+     * Recherche TreeMap O(log n): zone dont le minZ est <= z, spawn si hors limites
+     */
+    static Zone floor(NavigableMap<Integer, Zone> zonesByZ, Zone spawnZone, int z) {
+        Map.Entry<Integer, Zone> entry = zonesByZ.floorEntry(z);
+        if (entry != null && entry.getValue().containsZ(z)) {
+            return entry.getValue();
+        }
+        return spawnZone;
+    }
+
+    /**
+     * Zone au bloc Z, null hors de la table
+     */
+    Zone get(int z) {
+        int index = z - minZ;
+        return index >= 0 && index < zones.length ? zones[index] : null;
+    }
+
+    /**
+     * Hors de la table tout est au spawn: rangée uniforme.
+     * Table vide (zones pas encore chargées): jamais uniforme
+     */
+    boolean isUniformRow(int chunkZ) {
+        if (zones.length == 0) return false;
+        int index = chunkZ - firstChunkRow;
+        return index < 0 || index >= uniformRows.length || uniformRows[index];
+    }
+}
@@ -19,7 +19,8 @@ import java.util.logging.Level;
  * Gestionnaire des zones de jeu - Version 50 zones
  * Optimisé pour vérification rapide de 200+ joueurs
  *
- * Utilise un TreeMap pour une recherche O(log n) de la zone par coordonnée Z
+ * Recherche de la zone par coordonnée Z en O(1) via une table Zone[] par bloc,
+ * reconstruite à chaque chargement depuis le TreeMap des zones
  *
  * IMPORTANT: La progression se fait du SUD vers le NORD
  * - Le spawn est à Z = 10200 (sud de la map, zone sécurisée)
@@ -48,8 +49,12 @@ public class ZoneManager {
     // TreeMap pour recherche rapide par Z (clé = minZ de la zone)
     private final TreeMap<Integer, Zone> zonesByZ = new TreeMap<>();
 
-    // Cache de la zone actuelle par joueur (évite les recalculs)
-    private final Map<UUID, Integer> playerZoneCache = new ConcurrentHashMap<>();
+    // Table de recherche par bloc Z (remplacée d'un bloc au rechargement)
+    private volatile ZoneLookup zoneLookup = ZoneLookup.EMPTY;
+    private static final int MAX_LOOKUP_SPAN = 200_000;
+
+    // Cache de la zone actuelle par joueur (recalculée seulement au changement de chunk)
+    private final Map<UUID, PlayerZoneState> playerZoneCache = new ConcurrentHashMap<>();
 
     // Zone par défaut (spawn)
     @Getter
@@ -120,6 +125,7 @@ public class ZoneManager {
         if (zonesSection == null) {
             plugin.log(Level.WARNING, "§eAucune zone configurée, création des zones par défaut...");
             createDefaultZones();
+            rebuildZoneLookup();
             return;
         }
 
@@ -138,9 +144,45 @@ public class ZoneManager {
             registerZone(spawnZone);
         }
 
+        rebuildZoneLookup();
+
         plugin.log(Level.INFO, "§a✓ " + zonesById.size() + " zones chargées");
     }
 
+    /**
+     * Reconstruit la table de recherche par bloc Z depuis le TreeMap
+     */
+    private void rebuildZoneLookup() {
+        if (zonesByZ.isEmpty()) {
+            zoneLookup = ZoneLookup.EMPTY;
+            return;
+        }
+
+        int lookupMinZ = Integer.MAX_VALUE;
+        int lookupMaxZ = Integer.MIN_VALUE;
+        for (Zone zone : zonesByZ.values()) {
+            lookupMinZ = Math.min(lookupMinZ, zone.getMinZ());
+            lookupMaxZ = Math.max(lookupMaxZ, zone.getMaxZ());
+        }
+
+        if ((long) lookupMaxZ - lookupMinZ > MAX_LOOKUP_SPAN) {
+            plugin.log(Level.WARNING, "§eZones trop étendues pour la table de recherche, utilisation du TreeMap");
+            zoneLookup = ZoneLookup.EMPTY;
+            return;
+        }
+
+        zoneLookup = ZoneLookup.build(zonesByZ, spawnZone, lookupMinZ, lookupMaxZ);
+
+        // Les zones ont pu changer: forcer un recalcul des joueurs en cache
+        for (PlayerZoneState state : playerZoneCache.values()) {
+            state.chunkZ = Integer.MIN_VALUE;
+            if (state.zone != null) {
+                Zone reloaded = zonesById.get(state.zone.getId());
+                state.zone = reloaded != null ? reloaded : spawnZone;
+            }
+        }
+    }
+
     /**
      * Charge une zone depuis la configuration
      */
@@ -384,20 +426,21 @@ public class ZoneManager {
 
     /**
      * Obtient la zone à une coordonnée Z donnée
-     * Complexité: O(log n) grâce au TreeMap
+     * Complexité: O(1) - un accès tableau
      */
     public Zone getZoneAt(int z) {
-        // Trouver la zone dont le minZ est <= z
-        Map.Entry<Integer, Zone> entry = zonesByZ.floorEntry(z);
-        
-        if (entry != null) {
-            Zone zone = entry.getValue();
-            if (zone.containsZ(z)) {
-                return zone;
-            }
+        ZoneLookup lookup = zoneLookup;
+        Zone zone = lookup.get(z);
+        if (zone != null) {
+            return zone;
         }
-        
-        // Fallback au spawn si hors limites
+
+        // Pas de table (zones non chargées ou trop étendues): recherche TreeMap
+        if (lookup.zones().length == 0) {
+            return ZoneLookup.floor(zonesByZ, spawnZone, z);
+        }
+
+        // Hors de la table: même résultat que la recherche TreeMap (spawn)
         return spawnZone;
     }
 
@@ -445,6 +488,8 @@ public class ZoneManager {
 
     /**
      * Vérifie et met à jour la zone d'un joueur
+     * La zone n'est recalculée que si le joueur a changé de rangée de chunks
+     * (ou si sa rangée est à cheval sur deux zones)
      */
     public void checkPlayerZone(Player player) {
         // Vérifier le monde
@@ -454,24 +499,31 @@ public class ZoneManager {
 
         UUID uuid = player.getUniqueId();
         int currentZ = player.getLocation().getBlockZ();
+        int chunkZ = currentZ >> 4;
+
+        PlayerZoneState state = playerZoneCache.computeIfAbsent(uuid, k -> new PlayerZoneState());
+        if (state.zone != null && state.chunkZ == chunkZ && zoneLookup.isUniformRow(chunkZ)) {
+            return;
+        }
+        state.chunkZ = chunkZ;
+
         Zone newZone = getZoneAt(currentZ);
-        
+
         // Vérifier si la zone a changé
-        Integer cachedZoneId = playerZoneCache.get(uuid);
-        
-        if (cachedZoneId == null || cachedZoneId != newZone.getId()) {
+        Zone oldZone = state.zone;
+        if (oldZone == null || oldZone.getId() != newZone.getId()) {
             // La zone a changé !
-            Zone oldZone = cachedZoneId != null ? zonesById.get(cachedZoneId) : null;
-            
+            oldZone = oldZone != null ? zonesById.get(oldZone.getId()) : null;
+
             // Mettre à jour le cache
-            playerZoneCache.put(uuid, newZone.getId());
-            
+            state.zone = newZone;
+
             // Mettre à jour les données du joueur
             PlayerData data = plugin.getPlayerDataManager().getPlayer(uuid);
             if (data != null) {
                 boolean isNewZone = data.updateZone(newZone.getId());
                 data.setCachedZone(newZone);
-                
+
                 // Fire l'événement
                 Bukkit.getPluginManager().callEvent(
                     new PlayerZoneChangeEvent(player, oldZone, newZone, isNewZone)
@@ -484,14 +536,14 @@ public class ZoneManager {
      * Obtient la zone actuelle d'un joueur (depuis le cache)
      */
     public Zone getPlayerZone(Player player) {
-        Integer zoneId = playerZoneCache.get(player.getUniqueId());
-        if (zoneId != null) {
-            return zonesById.get(zoneId);
+        PlayerZoneState state = playerZoneCache.get(player.getUniqueId());
+        if (state != null && state.zone != null) {
+            return state.zone;
         }
-        
+
         // Pas en cache, calculer
         Zone zone = getZoneAt(player.getLocation());
-        playerZoneCache.put(player.getUniqueId(), zone.getId());
+        playerZoneCache.computeIfAbsent(player.getUniqueId(), k -> new PlayerZoneState()).zone = zone;
         return zone;
     }
 
@@ -499,16 +551,16 @@ public class ZoneManager {
      * Obtient la zone actuelle d'un joueur par UUID
      */
     public Zone getPlayerZone(UUID uuid) {
-        Integer zoneId = playerZoneCache.get(uuid);
-        if (zoneId != null) {
-            return zonesById.get(zoneId);
+        PlayerZoneState state = playerZoneCache.get(uuid);
+        if (state != null && state.zone != null) {
+            return state.zone;
         }
-        
+
         Player player = Bukkit.getPlayer(uuid);
         if (player != null) {
             return getPlayerZone(player);
         }
-        
+
         return spawnZone;
     }
 
@@ -553,9 +605,14 @@ public class ZoneManager {
      * Obtient le nombre de joueurs dans une zone
      */
     public int getPlayersInZone(int zoneId) {
-        return (int) playerZoneCache.values().stream()
-            .filter(id -> id == zoneId)
-            .count();
+        int count = 0;
+        for (PlayerZoneState state : playerZoneCache.values()) {
+            Zone zone = state.zone;
+            if (zone != null && zone.getId() == zoneId) {
+                count++;
+            }
+        }
+        return count;
     }
 
     /**
@@ -564,8 +621,9 @@ public class ZoneManager {
     public List<Player> getPlayersInZone(Zone zone) {
         List<Player> players = new ArrayList<>();
         
-        for (Map.Entry<UUID, Integer> entry : playerZoneCache.entrySet()) {
-            if (entry.getValue() == zone.getId()) {
+        for (Map.Entry<UUID, PlayerZoneState> entry : playerZoneCache.entrySet()) {
+            Zone cached = entry.getValue().zone;
+            if (cached != null && cached.getId() == zone.getId()) {
                 Player player = Bukkit.getPlayer(entry.getKey());
                 if (player != null) {
                     players.add(player);
@@ -590,5 +648,12 @@ public class ZoneManager {
         if (currentZone.getId() <= 1) return spawnZone;
         return zonesById.get(currentZone.getId() - 1);
     }
-    
+
+    /**
+     * Zone en cache d'un joueur et rangée de chunks où elle a été calculée
+     */
+    private static final class PlayerZoneState {
+        volatile Zone zone;
+        int chunkZ = Integer.MIN_VALUE;
+    }
 }
@@ -1,6 +1,7 @@
 package com.rinaorc.zombiez.pets.abilities;
 
 import com.rinaorc.zombiez.ZombieZPlugin;
+import com.rinaorc.zombiez.items.PlayerStatVector;
 import com.rinaorc.zombiez.items.ZombieZItem;
 import com.rinaorc.zombiez.items.types.StatType;
 import org.bukkit.Material;
@@ -68,9 +69,9 @@ public class PetDamageUtils {
                     double totalDamage = baseDamage * (1 + damagePercent / 100.0);
 
                     // Ajouter les bonus de stats du joueur (équipement)
-                    Map<StatType, Double> playerStats = plugin.getItemManager().calculatePlayerStats(player);
-                    double playerDamageBonus = playerStats.getOrDefault(StatType.DAMAGE, 0.0);
-                    double playerDamagePercent = playerStats.getOrDefault(StatType.DAMAGE_PERCENT, 0.0);
+                    PlayerStatVector playerStats = plugin.getItemManager().getStatVector(player);
+                    double playerDamageBonus = playerStats.get(StatType.DAMAGE);
+                    double playerDamagePercent = playerStats.get(StatType.DAMAGE_PERCENT);
 
                     totalDamage += playerDamageBonus;
                     totalDamage *= (1 + playerDamagePercent / 100.0);
@@ -106,8 +107,7 @@ public class PetDamageUtils {
                 }
 
                 // Ajouter les bonus de stats du joueur (équipement)
-                Map<StatType, Double> playerStats = plugin.getItemManager().calculatePlayerStats(player);
-                double playerDamagePercent = playerStats.getOrDefault(StatType.DAMAGE_PERCENT, 0.0);
+                double playerDamagePercent = plugin.getItemManager().getStatVector(player).get(StatType.DAMAGE_PERCENT);
 
                 baseDamage *= (1 + playerDamagePercent / 100.0);
             }
@@ -1,15 +1,18 @@
 package com.rinaorc.zombiez.pets.abilities.impl;
 
+import com.rinaorc.zombiez.ZombieZPlugin;
 import com.rinaorc.zombiez.pets.PetData;
 import com.rinaorc.zombiez.pets.abilities.PetAbility;
 import com.rinaorc.zombiez.pets.abilities.PetDamageUtils;
+import com.rinaorc.zombiez.scheduler.EffectScheduler.Subsystem;
+import com.rinaorc.zombiez.scheduler.EffectScheduler;
+import com.rinaorc.zombiez.scheduler.EffectTask;
 import lombok.Getter;
 import org.bukkit.*;
 import org.bukkit.block.Block;
 import org.bukkit.entity.*;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
 import java.util.*;
@@ -48,8 +51,8 @@ class EchoScanActive implements PetAbility {
         Collection<Entity> nearby = player.getNearbyEntities(adjustedRadius, adjustedRadius, adjustedRadius);
 
         // Effet sonore d'écholocation
-        player.playSound(player.getLocation(), Sound.ENTITY_BAT_TAKEOFF, 1.0f, 0.5f);
-        player.playSound(player.getLocation(), Sound.BLOCK_BEACON_AMBIENT, 0.8f, 2.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_BAT_TAKEOFF, 1.0f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.BLOCK_BEACON_AMBIENT, 0.8f, 2.0f);
 
         int enemiesFound = 0;
         for (Entity entity : nearby) {
@@ -95,10 +98,10 @@ class EchoScanActive implements PetAbility {
                 0.5,
                 Math.sin(rad) * radius
             );
-            center.getWorld().spawnParticle(Particle.END_ROD, loc, 3, 0.1, 0.2, 0.1, 0.02);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, loc, 3, 0.1, 0.2, 0.1, 0.02);
         }
         // Son d'écho à chaque anneau
-        center.getWorld().playSound(center, Sound.BLOCK_NOTE_BLOCK_CHIME, 0.5f, 1.5f + (radius * 0.05f));
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.BLOCK_NOTE_BLOCK_CHIME, 0.5f, 1.5f + (radius * 0.05f));
     }
 }
 
@@ -128,8 +131,8 @@ class SearchActive implements PetAbility {
         int itemCount = 1 + random.nextInt(3); // 1-3 items
         itemCount = (int) (itemCount * petData.getStatMultiplier());
 
-        player.playSound(player.getLocation(), Sound.BLOCK_GRAVEL_BREAK, 1.0f, 1.0f);
-        player.getWorld().spawnParticle(Particle.BLOCK, player.getLocation(),
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.BLOCK_GRAVEL_BREAK, 1.0f, 1.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, player.getLocation(),
             20, 0.5, 0.1, 0.5, Material.DIRT.createBlockData());
 
         // Donner des ressources aléatoires
@@ -186,8 +189,8 @@ class FlashActive implements PetAbility {
         }
 
         // Effet visuel
-        player.getWorld().spawnParticle(Particle.FLASH, player.getLocation().add(0, 1, 0), 1);
-        player.playSound(player.getLocation(), Sound.ENTITY_FIREWORK_ROCKET_BLAST, 1.0f, 2.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLASH, player.getLocation().add(0, 1, 0), 1);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_FIREWORK_ROCKET_BLAST, 1.0f, 2.0f);
 
         return true;
     }
@@ -231,7 +234,7 @@ class ScoutActive implements PetAbility {
             }
         }
 
-        player.playSound(player.getLocation(), Sound.ENTITY_PARROT_FLY, 1.0f, 1.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_PARROT_FLY, 1.0f, 1.0f);
         player.sendMessage("§a[Pet] §7Zone explorée! Ennemis marqués.");
 
         return true;
@@ -269,8 +272,8 @@ class HowlActive implements PetAbility {
 
         player.addPotionEffect(new PotionEffect(
             PotionEffectType.STRENGTH, adjustedDuration, level, false, true));
-        player.playSound(player.getLocation(), Sound.ENTITY_WOLF_HOWL, 1.0f, 1.0f);
-        player.getWorld().spawnParticle(Particle.ANGRY_VILLAGER, player.getLocation().add(0, 1, 0), 10);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_WOLF_HOWL, 1.0f, 1.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ANGRY_VILLAGER, player.getLocation().add(0, 1, 0), 10);
 
         player.sendMessage("§a[Pet] §7Hurlement! §c+" + (int)(damageBoost * 100) + "% §7dégâts!");
         return true;
@@ -305,8 +308,8 @@ class HealActive implements PetAbility {
         double newHealth = Math.min(player.getMaxHealth(), player.getHealth() + adjustedHeal * 2);
         player.setHealth(newHealth);
 
-        player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 2.0f);
-        player.getWorld().spawnParticle(Particle.HEART, player.getLocation().add(0, 2, 0), 10, 0.5, 0.5, 0.5, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 2.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.HEART, player.getLocation().add(0, 2, 0), 10, 0.5, 0.5, 0.5, 0);
         player.sendMessage("§a[Pet] §7Soigné de §c" + (int)(adjustedHeal * 2) + "❤");
 
         return true;
@@ -356,7 +359,7 @@ class WallActive implements PetAbility {
             }
         }
 
-        player.playSound(player.getLocation(), Sound.BLOCK_STONE_PLACE, 1.0f, 1.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.BLOCK_STONE_PLACE, 1.0f, 1.0f);
 
         // Supprimer le mur après la durée
         Bukkit.getScheduler().runTaskLater(
@@ -365,7 +368,7 @@ class WallActive implements PetAbility {
                 for (Location blockLoc : wallBlocks) {
                     if (blockLoc.getBlock().getType() == Material.COBBLESTONE) {
                         blockLoc.getBlock().setType(Material.AIR);
-                        blockLoc.getWorld().spawnParticle(Particle.BLOCK,
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK,
                             blockLoc.add(0.5, 0.5, 0.5), 10, Material.COBBLESTONE.createBlockData());
                     }
                 }
@@ -410,8 +413,8 @@ class IgniteAreaActive implements PetAbility {
             }
         }
 
-        player.getWorld().spawnParticle(Particle.FLAME, player.getLocation(), 100, radius, 1, radius, 0.1);
-        player.playSound(player.getLocation(), Sound.ITEM_FIRECHARGE_USE, 1.0f, 1.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, player.getLocation(), 100, radius, 1, radius, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ITEM_FIRECHARGE_USE, 1.0f, 1.0f);
 
         return true;
     }
@@ -454,7 +457,7 @@ class WebActive implements PetAbility {
             }
         }
 
-        player.playSound(player.getLocation(), Sound.ENTITY_SPIDER_AMBIENT, 1.0f, 1.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_SPIDER_AMBIENT, 1.0f, 1.0f);
 
         // Supprimer les toiles après la durée
         Bukkit.getScheduler().runTaskLater(
@@ -527,15 +530,15 @@ class FireNovaActive implements PetAbility {
                 totalDamage += actualDamage;
 
                 // Particules sur chaque cible touchée
-                world.spawnParticle(Particle.FLAME, monster.getLocation().add(0, 1, 0),
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, monster.getLocation().add(0, 1, 0),
                     15, 0.3, 0.3, 0.3, 0.1);
             }
         }
 
         // Effet visuel de nova de feu expansive
-        world.spawnParticle(Particle.EXPLOSION, loc, 3, 1, 0.5, 1, 0);
-        world.spawnParticle(Particle.FLAME, loc, 150, adjustedRadius, 1, adjustedRadius, 0.15);
-        world.spawnParticle(Particle.LAVA, loc, 30, adjustedRadius * 0.5, 0.5, adjustedRadius * 0.5, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION, loc, 3, 1, 0.5, 1, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, loc, 150, adjustedRadius, 1, adjustedRadius, 0.15);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.LAVA, loc, 30, adjustedRadius * 0.5, 0.5, adjustedRadius * 0.5, 0);
 
         // Cercle de feu au sol
         for (int angle = 0; angle < 360; angle += 15) {
@@ -545,12 +548,12 @@ class FireNovaActive implements PetAbility {
                 0.1,
                 Math.sin(rad) * adjustedRadius
             );
-            world.spawnParticle(Particle.FLAME, fireLoc, 5, 0.1, 0.1, 0.1, 0.02);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, fireLoc, 5, 0.1, 0.1, 0.1, 0.02);
         }
 
         // Sons
-        world.playSound(loc, Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 1.2f);
-        world.playSound(loc, Sound.ENTITY_BLAZE_SHOOT, 1.0f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.ENTITY_BLAZE_SHOOT, 1.0f, 0.8f);
 
         // Message
         if (hitCount > 0) {
@@ -605,8 +608,8 @@ class FreezeActive implements PetAbility {
             }
         }
 
-        player.getWorld().spawnParticle(Particle.SNOWFLAKE, player.getLocation().add(direction.multiply(3)), 50, 2, 1, 2, 0);
-        player.playSound(player.getLocation(), Sound.BLOCK_GLASS_BREAK, 1.0f, 2.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNOWFLAKE, player.getLocation().add(direction.multiply(3)), 50, 2, 1, 2, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.BLOCK_GLASS_BREAK, 1.0f, 2.0f);
 
         return true;
     }
@@ -635,8 +638,8 @@ class ResetCooldownActive implements PetAbility {
     @Override
     public boolean activate(Player player, PetData petData) {
         // Cette capacité reset les cooldowns de classe via le ClassManager
-        player.playSound(player.getLocation(), Sound.BLOCK_ENCHANTMENT_TABLE_USE, 1.0f, 2.0f);
-        player.getWorld().spawnParticle(Particle.ENCHANT, player.getLocation().add(0, 1, 0), 50, 0.5, 1, 0.5, 0.5);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.BLOCK_ENCHANTMENT_TABLE_USE, 1.0f, 2.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ENCHANT, player.getLocation().add(0, 1, 0), 50, 0.5, 1, 0.5, 0.5);
         player.sendMessage("§a[Pet] §7Cooldowns de classe réinitialisés!");
         return true;
     }
@@ -677,7 +680,7 @@ class SwarmActive implements PetAbility {
         double adjustedDamage = totalDamage * petData.getStatMultiplier();
         double damagePerTick = adjustedDamage / (durationSeconds * 4);
 
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticks = 0;
             @Override
             public void run() {
@@ -686,13 +689,13 @@ class SwarmActive implements PetAbility {
                     return;
                 }
                 target.damage(damagePerTick, player);
-                target.getWorld().spawnParticle(Particle.CRIT, target.getLocation().add(0, 1, 0), 5);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, target.getLocation().add(0, 1, 0), 5);
                 petData.addDamage((long) damagePerTick);
                 ticks++;
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 5L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 5L);
 
-        player.playSound(player.getLocation(), Sound.ENTITY_BEE_LOOP_AGGRESSIVE, 1.0f, 1.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_BEE_LOOP_AGGRESSIVE, 1.0f, 1.0f);
         return true;
     }
 
@@ -736,7 +739,7 @@ class RiposteActive implements PetAbility {
     @Override
     public boolean activate(Player player, PetData petData) {
         riposteReady.put(player.getUniqueId(), true);
-        player.playSound(player.getLocation(), Sound.ITEM_SHIELD_BLOCK, 1.0f, 1.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ITEM_SHIELD_BLOCK, 1.0f, 1.0f);
         player.sendMessage("§a[Pet] §7Riposte prête! Prochaine attaque subie = contre-attaque!");
 
         // Auto-désactivation après 10 secondes
@@ -796,7 +799,7 @@ class BreathActive implements PetAbility {
                 Bukkit.getPluginManager().getPlugin("ZombieZ"),
                 () -> {
                     Location loc = player.getLocation().add(direction.clone().multiply(distance)).add(0, 1, 0);
-                    loc.getWorld().spawnParticle(Particle.FLAME, loc, 20, 0.5, 0.5, 0.5, 0.05);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, loc, 20, 0.5, 0.5, 0.5, 0.05);
 
                     for (Entity entity : loc.getWorld().getNearbyEntities(loc, 2, 2, 2)) {
                         if (entity instanceof Monster monster) {
@@ -810,7 +813,7 @@ class BreathActive implements PetAbility {
             );
         }
 
-        player.playSound(player.getLocation(), Sound.ENTITY_ENDER_DRAGON_GROWL, 0.5f, 2.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_ENDER_DRAGON_GROWL, 0.5f, 2.0f);
         return true;
     }
 }
@@ -869,7 +872,7 @@ class AbyssLaserActive implements PetAbility {
         Entity guardianPet = findGuardianPet(player);
 
         player.sendMessage("§a[Pet] §b§l⚡ RAYON DES ABYSSES!");
-        world.playSound(playerLoc, Sound.ENTITY_GUARDIAN_ATTACK, 1.0f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_GUARDIAN_ATTACK, 1.0f, 0.8f);
 
         // Phase 1: Charge du laser (1.5s) - marquer les cibles
         Set<UUID> markedTargets = new java.util.HashSet<>();
@@ -878,10 +881,10 @@ class AbyssLaserActive implements PetAbility {
 
             // Effet de marquage sur la cible
             Location targetLoc = target.getLocation().add(0, 1, 0);
-            world.spawnParticle(Particle.SOUL, targetLoc, 10, 0.3, 0.3, 0.3, 0.02);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SOUL, targetLoc, 10, 0.3, 0.3, 0.3, 0.02);
 
             // Particules de charge vers la cible
-            new BukkitRunnable() {
+            new EffectTask() {
                 int ticks = 0;
 
                 @Override
@@ -903,17 +906,17 @@ class AbyssLaserActive implements PetAbility {
                             Math.sin(ticks * 0.2) * 0.3,
                             Math.sin(a) * radius
                         );
-                        world.spawnParticle(Particle.ELECTRIC_SPARK, orbLoc, 1, 0, 0, 0, 0);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ELECTRIC_SPARK, orbLoc, 1, 0, 0, 0, 0);
                     }
 
                     // Son de charge
                     if (ticks % 10 == 0) {
-                        world.playSound(loc, Sound.ENTITY_GUARDIAN_AMBIENT, 0.5f, 1.5f + (ticks / 30.0f));
+                        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.ENTITY_GUARDIAN_AMBIENT, 0.5f, 1.5f + (ticks / 30.0f));
                     }
 
                     ticks++;
                 }
-            }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+            }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 1L);
         }
 
         // Faire briller l'œil du Guardian pendant l'ultimate
@@ -924,8 +927,8 @@ class AbyssLaserActive implements PetAbility {
         // Phase 2: Tir des lasers (après 1.5s de charge)
         Bukkit.getScheduler().runTaskLater(Bukkit.getPluginManager().getPlugin("ZombieZ"), () -> {
             // Son de tir
-            world.playSound(playerLoc, Sound.ENTITY_GUARDIAN_ATTACK, 1.5f, 0.5f);
-            world.playSound(playerLoc, Sound.BLOCK_BEACON_ACTIVATE, 1.0f, 2.0f);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_GUARDIAN_ATTACK, 1.5f, 0.5f);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.BLOCK_BEACON_ACTIVATE, 1.0f, 2.0f);
 
             // Trouver la position du Guardian pet ou utiliser celle du joueur
             Location laserSource = guardianPet != null ?
@@ -947,9 +950,9 @@ class AbyssLaserActive implements PetAbility {
                 petData.addDamage((long) laserDamage);
 
                 // Effet d'impact
-                world.spawnParticle(Particle.ELECTRIC_SPARK, targetLoc, 30, 0.5, 0.5, 0.5, 0.1);
-                world.spawnParticle(Particle.BUBBLE_POP, targetLoc, 20, 0.4, 0.4, 0.4, 0.05);
-                world.spawnParticle(Particle.FLASH, targetLoc, 1, 0, 0, 0, 0);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ELECTRIC_SPARK, targetLoc, 30, 0.5, 0.5, 0.5, 0.1);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BUBBLE_POP, targetLoc, 20, 0.4, 0.4, 0.4, 0.05);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLASH, targetLoc, 1, 0, 0, 0, 0);
 
                 // Mining Fatigue (signature du Guardian)
                 target.addPotionEffect(new PotionEffect(
@@ -1005,15 +1008,15 @@ class AbyssLaserActive implements PetAbility {
 
             // Cœur du laser (blanc-cyan)
             Particle.DustOptions coreDust = new Particle.DustOptions(coreColor, 1.0f);
-            world.spawnParticle(Particle.DUST, point, 2, 0.02, 0.02, 0.02, coreDust);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, point, 2, 0.02, 0.02, 0.02, coreDust);
 
             // Aura du laser (cyan)
             Particle.DustOptions auraDust = new Particle.DustOptions(laserColor, 0.7f);
-            world.spawnParticle(Particle.DUST, point, 3, 0.08, 0.08, 0.08, auraDust);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, point, 3, 0.08, 0.08, 0.08, auraDust);
 
             // Étincelles électriques
             if (d % 1 < 0.3) {
-                world.spawnParticle(Particle.ELECTRIC_SPARK, point, 1, 0.1, 0.1, 0.1, 0.02);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ELECTRIC_SPARK, point, 1, 0.1, 0.1, 0.1, 0.02);
             }
         }
     }
@@ -1077,8 +1080,8 @@ class VexSwarmActive implements PetAbility {
         animateEvokerSummon(player);
 
         // Sons d'invocation
-        world.playSound(playerLoc, Sound.ENTITY_EVOKER_PREPARE_SUMMON, 1.0f, 1.0f);
-        world.playSound(playerLoc, Sound.ENTITY_VEX_AMBIENT, 1.0f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_EVOKER_PREPARE_SUMMON, 1.0f, 1.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_VEX_AMBIENT, 1.0f, 0.8f);
 
         // Particules de rituel
         spawnSummonCircle(world, playerLoc);
@@ -1116,9 +1119,9 @@ class VexSwarmActive implements PetAbility {
                     summonedVex.add(vex);
 
                     // Particules d'apparition
-                    world.spawnParticle(Particle.WITCH, spawnLoc, 15, 0.2, 0.3, 0.2, 0.05);
-                    world.spawnParticle(Particle.SMOKE, spawnLoc, 10, 0.2, 0.2, 0.2, 0.02);
-                    world.playSound(spawnLoc, Sound.ENTITY_VEX_CHARGE, 0.8f, 1.2f);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, spawnLoc, 15, 0.2, 0.3, 0.2, 0.05);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SMOKE, spawnLoc, 10, 0.2, 0.2, 0.2, 0.02);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, spawnLoc, Sound.ENTITY_VEX_CHARGE, 0.8f, 1.2f);
                 },
                 i * 3L // Délai progressif pour l'effet visuel
             );
@@ -1137,7 +1140,7 @@ class VexSwarmActive implements PetAbility {
     private void startVexAI(Player player, List<org.bukkit.entity.Vex> vexList, double damage, PetData petData, int durationTicks) {
         World world = player.getWorld();
 
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticks = 0;
 
             @Override
@@ -1150,8 +1153,8 @@ class VexSwarmActive implements PetAbility {
                     for (org.bukkit.entity.Vex vex : vexList) {
                         if (vex.isValid()) {
                             // Particules de disparition
-                            vex.getWorld().spawnParticle(Particle.WITCH, vex.getLocation(), 10, 0.2, 0.2, 0.2, 0.02);
-                            vex.getWorld().spawnParticle(Particle.SMOKE, vex.getLocation(), 8, 0.2, 0.2, 0.2, 0.02);
+                            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, vex.getLocation(), 10, 0.2, 0.2, 0.2, 0.02);
+                            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SMOKE, vex.getLocation(), 8, 0.2, 0.2, 0.2, 0.02);
                             vex.remove();
                         }
                     }
@@ -1191,9 +1194,9 @@ class VexSwarmActive implements PetAbility {
                                 petData.addDamage((long) damage);
 
                                 // Effets d'attaque
-                                vex.getWorld().spawnParticle(Particle.CRIT, target.getLocation().add(0, 1, 0),
+                                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, target.getLocation().add(0, 1, 0),
                                     5, 0.2, 0.2, 0.2, 0.05);
-                                vex.getWorld().playSound(target.getLocation(), Sound.ENTITY_VEX_HURT, 0.5f, 1.5f);
+                                ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, target.getLocation(), Sound.ENTITY_VEX_HURT, 0.5f, 1.5f);
 
                                 // Animation de charge
                                 vex.setCharging(true);
@@ -1211,7 +1214,7 @@ class VexSwarmActive implements PetAbility {
                 if (ticks % 20 == 0) {
                     for (org.bukkit.entity.Vex vex : vexList) {
                         if (vex.isValid()) {
-                            vex.getWorld().spawnParticle(Particle.WITCH, vex.getLocation(),
+                            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, vex.getLocation(),
                                 3, 0.1, 0.1, 0.1, 0.01);
                         }
                     }
@@ -1219,7 +1222,7 @@ class VexSwarmActive implements PetAbility {
 
                 ticks++;
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, null, 0L, 1L);
     }
 
     private void animateEvokerSummon(Player player) {
@@ -1233,9 +1236,9 @@ class VexSwarmActive implements PetAbility {
                 Location loc = evoker.getLocation().add(0, 1.5, 0);
 
                 // Particules d'invocation
-                evoker.getWorld().spawnParticle(Particle.WITCH, loc, 30, 0.4, 0.4, 0.4, 0.05);
-                evoker.getWorld().spawnParticle(Particle.ENCHANT, loc, 25, 0.5, 0.5, 0.5, 0.5);
-                evoker.getWorld().spawnParticle(Particle.SOUL, loc, 15, 0.3, 0.3, 0.3, 0.02);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, loc, 30, 0.4, 0.4, 0.4, 0.05);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ENCHANT, loc, 25, 0.5, 0.5, 0.5, 0.5);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SOUL, loc, 15, 0.3, 0.3, 0.3, 0.02);
 
                 break;
             }
@@ -1244,7 +1247,7 @@ class VexSwarmActive implements PetAbility {
 
     private void spawnSummonCircle(World world, Location center) {
         // Cercle de particules au sol
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticks = 0;
             double rotation = 0;
 
@@ -1267,16 +1270,16 @@ class VexSwarmActive implements PetAbility {
 
                     // Alterner les couleurs
                     if (i % 2 == 0) {
-                        world.spawnParticle(Particle.WITCH, particleLoc, 1, 0, 0, 0, 0);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, particleLoc, 1, 0, 0, 0, 0);
                     } else {
-                        world.spawnParticle(Particle.ENCHANT, particleLoc, 2, 0, 0.1, 0, 0.1);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ENCHANT, particleLoc, 2, 0, 0.1, 0, 0.1);
                     }
                 }
 
                 rotation += 0.3;
                 ticks++;
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, null, 0L, 1L);
     }
 }
 
@@ -1324,20 +1327,20 @@ class BenevolentRainActive implements PetAbility {
         player.sendMessage("§a[Pet] §d§l☔ PLUIE BIENFAISANTE! §r§d(rayon " + adjustedRadius + " blocs, " + adjustedDuration + "s)");
 
         // Sons de début
-        world.playSound(center, Sound.ENTITY_GHAST_AMBIENT, 1.0f, 1.5f);
-        world.playSound(center, Sound.WEATHER_RAIN, 1.0f, 1.2f);
-        world.playSound(center, Sound.BLOCK_BEACON_ACTIVATE, 0.8f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_GHAST_AMBIENT, 1.0f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.WEATHER_RAIN, 1.0f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.BLOCK_BEACON_ACTIVATE, 0.8f, 1.5f);
 
         // Trouver le Ghast pet pour les effets
         Entity ghastPet = findGhastPet(player);
         if (ghastPet != null) {
             // Effet de "pleurs" du Ghast
             Location ghastLoc = ghastPet.getLocation();
-            world.spawnParticle(Particle.FALLING_WATER, ghastLoc, 30, 0.3, 0.2, 0.3, 0);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FALLING_WATER, ghastLoc, 30, 0.3, 0.2, 0.3, 0);
         }
 
         // Animation de pluie bienfaisante
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticks = 0;
             final Location rainCenter = center.clone();
             final Random random = new Random();
@@ -1346,8 +1349,8 @@ class BenevolentRainActive implements PetAbility {
             public void run() {
                 if (ticks >= adjustedDuration * 20) {
                     // Fin de la pluie
-                    world.playSound(rainCenter, Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.0f);
-                    world.spawnParticle(Particle.HAPPY_VILLAGER, rainCenter.clone().add(0, 1, 0), 30,
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, rainCenter, Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.0f);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.HAPPY_VILLAGER, rainCenter.clone().add(0, 1, 0), 30,
                         adjustedRadius * 0.5, 1, adjustedRadius * 0.5, 0);
 
                     player.sendMessage("§a[Pet] §7La pluie s'arrête...");
@@ -1378,8 +1381,8 @@ class BenevolentRainActive implements PetAbility {
                         Color dropColor = colors[random.nextInt(colors.length)];
                         Particle.DustOptions dust = new Particle.DustOptions(dropColor, 0.6f);
 
-                        world.spawnParticle(Particle.DUST, dropLoc, 1, 0, 0, 0, dust);
-                        world.spawnParticle(Particle.FALLING_WATER, dropLoc, 1, 0.1, 0, 0.1, 0);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, dropLoc, 1, 0, 0, 0, dust);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FALLING_WATER, dropLoc, 1, 0.1, 0, 0.1, 0);
                     }
                 }
 
@@ -1393,15 +1396,15 @@ class BenevolentRainActive implements PetAbility {
                             0.1,
                             Math.sin(angle) * pulseRadius
                         );
-                        world.spawnParticle(Particle.HAPPY_VILLAGER, circleLoc, 1, 0, 0, 0, 0);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.HAPPY_VILLAGER, circleLoc, 1, 0, 0, 0, 0);
                     }
                 }
 
                 // Effets chaque seconde
                 if (ticks % 20 == 0) {
                     // Son ambiant de pluie douce
-                    world.playSound(rainCenter, Sound.WEATHER_RAIN, 0.5f, 1.5f);
-                    world.playSound(rainCenter, Sound.ENTITY_GHAST_AMBIENT, 0.3f, 2.0f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, rainCenter, Sound.WEATHER_RAIN, 0.5f, 1.5f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, rainCenter, Sound.ENTITY_GHAST_AMBIENT, 0.3f, 2.0f);
 
                     // Heal le joueur
                     if (player.getLocation().distanceSquared(rainCenter) <= adjustedRadius * adjustedRadius) {
@@ -1411,7 +1414,7 @@ class BenevolentRainActive implements PetAbility {
                         player.setHealth(newHealth);
 
                         // Effet de soin
-                        player.getWorld().spawnParticle(Particle.HEART,
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.HEART,
                             player.getLocation().add(0, 2, 0), 2, 0.3, 0.2, 0.3, 0);
                     }
 
@@ -1423,7 +1426,7 @@ class BenevolentRainActive implements PetAbility {
 
                             // Particules de slow sur les ennemis
                             Location mLoc = m.getLocation().add(0, 1, 0);
-                            world.spawnParticle(Particle.FALLING_WATER, mLoc, 5, 0.3, 0.3, 0.3, 0);
+                            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FALLING_WATER, mLoc, 5, 0.3, 0.3, 0.3, 0);
                         }
                     }
                 }
@@ -1438,13 +1441,13 @@ class BenevolentRainActive implements PetAbility {
                             5 + random.nextDouble(),
                             Math.sin(angle) * dist
                         );
-                        world.spawnParticle(Particle.CLOUD, cloudLoc, 3, 0.5, 0.2, 0.5, 0.01);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CLOUD, cloudLoc, 3, 0.5, 0.2, 0.5, 0.01);
                     }
                 }
 
                 ticks++;
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 1L);
 
         return true;
     }
@@ -1497,15 +1500,15 @@ class ResurrectActive implements PetAbility {
         ally.setTarget(null);
         ally.setBaby(false);
 
-        player.getWorld().spawnParticle(Particle.WITCH, ally.getLocation(), 30, 0.5, 1, 0.5, 0);
-        player.playSound(player.getLocation(), Sound.ENTITY_ZOMBIE_VILLAGER_CONVERTED, 1.0f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, ally.getLocation(), 30, 0.5, 1, 0.5, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_ZOMBIE_VILLAGER_CONVERTED, 1.0f, 0.5f);
 
         // Supprimer après la durée
         Bukkit.getScheduler().runTaskLater(
             Bukkit.getPluginManager().getPlugin("ZombieZ"),
             () -> {
                 if (ally.isValid()) {
-                    ally.getWorld().spawnParticle(Particle.SMOKE, ally.getLocation(), 20);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SMOKE, ally.getLocation(), 20);
                     ally.remove();
                 }
             },
@@ -1545,8 +1548,8 @@ class SacrificeActive implements PetAbility {
         player.addPotionEffect(new PotionEffect(
             PotionEffectType.RESISTANCE, durationSeconds * 20, 254, false, true));
 
-        player.playSound(player.getLocation(), Sound.BLOCK_AMETHYST_BLOCK_RESONATE, 1.0f, 0.5f);
-        player.getWorld().spawnParticle(Particle.END_ROD, player.getLocation(), 50, 1, 1, 1, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.BLOCK_AMETHYST_BLOCK_RESONATE, 1.0f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, player.getLocation(), 50, 1, 1, 1, 0);
 
         player.sendMessage("§a[Pet] §7Sacrifice cristallin activé! Invincible pendant §e" + durationSeconds + "s§7!");
 
@@ -1561,8 +1564,8 @@ class SacrificeActive implements PetAbility {
                         monster.damage(30 * petData.getStatMultiplier(), player);
                     }
                 }
-                player.getWorld().spawnParticle(Particle.EXPLOSION, player.getLocation(), 10, 2, 2, 2, 0);
-                player.playSound(player.getLocation(), Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 1.0f);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION, player.getLocation(), 10, 2, 2, 2, 0);
+                ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 1.0f);
             },
             durationSeconds * 20L
         );
@@ -1604,7 +1607,7 @@ class AmbushActive implements PetAbility {
         player.addPotionEffect(new PotionEffect(
             PotionEffectType.INVISIBILITY, 60, 0, false, false));
 
-        player.playSound(player.getLocation(), Sound.ENTITY_CAT_HISS, 1.0f, 1.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_CAT_HISS, 1.0f, 1.0f);
         player.sendMessage("§a[Pet] §7Embuscade prête! Prochaine attaque = §cx" + (int) critMultiplier + " §7critique!");
 
         // Auto-désactivation après 5 secondes
@@ -1668,7 +1671,7 @@ class ChaosActive implements PetAbility {
                         m.damage(50 * power, player);
                     }
                 }
-                player.getWorld().spawnParticle(Particle.EXPLOSION, player.getLocation(), 20, 5, 2, 5, 0);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION, player.getLocation(), 20, 5, 2, 5, 0);
                 player.sendMessage("§a[Pet] §7Chaos: §cExplosion massive!");
             }
             case 1 -> {
@@ -1686,7 +1689,7 @@ class ChaosActive implements PetAbility {
                         m.setFreezeTicks(200);
                     }
                 }
-                player.getWorld().spawnParticle(Particle.SNOWFLAKE, player.getLocation(), 100, 8, 2, 8, 0);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNOWFLAKE, player.getLocation(), 100, 8, 2, 8, 0);
                 player.sendMessage("§a[Pet] §7Chaos: §bGel de zone!");
             }
             case 3 -> {
@@ -1703,7 +1706,7 @@ class ChaosActive implements PetAbility {
                         m.damage(30 * power, player);
                     }
                 }
-                player.getWorld().spawnParticle(Particle.PORTAL, newLoc, 50, 1, 1, 1, 0.5);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.PORTAL, newLoc, 50, 1, 1, 1, 0.5);
                 player.sendMessage("§a[Pet] §7Chaos: §5Téléportation offensive!");
             }
             case 4 -> {
@@ -1713,7 +1716,7 @@ class ChaosActive implements PetAbility {
             }
         }
 
-        player.playSound(player.getLocation(), Sound.ENTITY_ENDERMAN_SCREAM, 1.0f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_ENDERMAN_SCREAM, 1.0f, 0.5f);
         return true;
     }
 }
@@ -1766,16 +1769,16 @@ class DivineActive implements PetAbility {
                     alliesBlessed++;
 
                     // Effet visuel sur l'allié
-                    ally.getWorld().spawnParticle(Particle.END_ROD, ally.getLocation().add(0, 1, 0), 50, 1, 1.5, 1, 0.05);
-                    ally.playSound(ally.getLocation(), Sound.BLOCK_BEACON_ACTIVATE, 0.8f, 1.2f);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, ally.getLocation().add(0, 1, 0), 50, 1, 1.5, 1, 0.05);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, ally, ally.getLocation(), Sound.BLOCK_BEACON_ACTIVATE, 0.8f, 1.2f);
                     ally.sendMessage("§a[Pet] §6Bénédiction Divine reçue! §7Invincible pendant §e" + invincibilitySeconds + "s§7!");
                 }
             }
         }
 
         // Effet visuel principal
-        player.getWorld().spawnParticle(Particle.END_ROD, player.getLocation(), 100, 2, 2, 2, 0.1);
-        player.playSound(player.getLocation(), Sound.UI_TOAST_CHALLENGE_COMPLETE, 1.0f, 1.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, player.getLocation(), 100, 2, 2, 2, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.UI_TOAST_CHALLENGE_COMPLETE, 1.0f, 1.0f);
 
         // Rayon de lumière si bénédiction de groupe
         if (blessAllies) {
@@ -1817,7 +1820,7 @@ class DivineActive implements PetAbility {
      * Crée un rayon de lumière divine descendant du ciel
      */
     private void spawnDivineRay(Location center) {
-        new org.bukkit.scheduler.BukkitRunnable() {
+        new EffectTask() {
             int ticks = 0;
             double height = 15;
 
@@ -1831,7 +1834,7 @@ class DivineActive implements PetAbility {
                 // Rayon descendant
                 for (double y = 0; y < height; y += 0.5) {
                     Location loc = center.clone().add(0, y, 0);
-                    center.getWorld().spawnParticle(Particle.END_ROD, loc, 1, 0.2, 0, 0.2, 0);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, loc, 1, 0.2, 0, 0.2, 0);
                 }
 
                 // Cercle au sol
@@ -1840,13 +1843,13 @@ class DivineActive implements PetAbility {
                     double x = ALLY_BLESSING_RADIUS * Math.cos(rad);
                     double z = ALLY_BLESSING_RADIUS * Math.sin(rad);
                     Location particleLoc = center.clone().add(x, 0.1, z);
-                    center.getWorld().spawnParticle(Particle.HAPPY_VILLAGER, particleLoc, 1, 0, 0, 0, 0);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.HAPPY_VILLAGER, particleLoc, 1, 0, 0, 0, 0);
                 }
 
                 height -= 0.5;
                 ticks++;
             }
-        }.runTaskTimer(org.bukkit.Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, null, 0L, 1L);
     }
 }
 
@@ -1889,9 +1892,9 @@ class PortalActive implements PetAbility {
         player.teleport(destination);
 
         // Effets
-        origin.getWorld().spawnParticle(Particle.PORTAL, origin, 50, 0.5, 1, 0.5, 0.5);
-        destination.getWorld().spawnParticle(Particle.PORTAL, destination, 50, 0.5, 1, 0.5, 0.5);
-        player.playSound(destination, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 1.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.PORTAL, origin, 50, 0.5, 1, 0.5, 0.5);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.PORTAL, destination, 50, 0.5, 1, 0.5, 0.5);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, destination, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 1.0f);
 
         return true;
     }
@@ -1941,10 +1944,10 @@ class SmashActive implements PetAbility {
             }
         }
 
-        player.getWorld().spawnParticle(Particle.EXPLOSION, player.getLocation(), 10, radius, 0.5, radius, 0);
-        player.getWorld().spawnParticle(Particle.BLOCK, player.getLocation(),
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION, player.getLocation(), 10, radius, 0.5, radius, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, player.getLocation(),
             50, radius, 0.1, radius, Material.STONE.createBlockData());
-        player.playSound(player.getLocation(), Sound.ENTITY_IRON_GOLEM_ATTACK, 1.0f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_IRON_GOLEM_ATTACK, 1.0f, 0.5f);
 
         return true;
     }
@@ -1979,7 +1982,7 @@ class SanctuaryActive implements PetAbility {
         Location center = player.getLocation();
         double adjustedHeal = healPerSecond * petData.getStatMultiplier();
 
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticks = 0;
             @Override
             public void run() {
@@ -1992,7 +1995,7 @@ class SanctuaryActive implements PetAbility {
                 for (int angle = 0; angle < 360; angle += 30) {
                     double rad = Math.toRadians(angle);
                     Location loc = center.clone().add(Math.cos(rad) * 5, 0.5, Math.sin(rad) * 5);
-                    center.getWorld().spawnParticle(Particle.COMPOSTER, loc, 3);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.COMPOSTER, loc, 3);
                 }
 
                 // Soin toutes les 20 ticks
@@ -2007,9 +2010,9 @@ class SanctuaryActive implements PetAbility {
 
                 ticks++;
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 1L);
 
-        player.playSound(player.getLocation(), Sound.BLOCK_BEACON_ACTIVATE, 1.0f, 1.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.BLOCK_BEACON_ACTIVATE, 1.0f, 1.0f);
         player.sendMessage("§a[Pet] §7Sanctuaire Naturel créé!");
 
         return true;
@@ -2047,7 +2050,7 @@ class ApocalypseActive implements PetAbility {
         int adjustedRadius = (int) (radius * petData.getStatMultiplier());
 
         // Pluie de feu
-        new BukkitRunnable() {
+        new EffectTask() {
             int count = 0;
             @Override
             public void run() {
@@ -2063,7 +2066,7 @@ class ApocalypseActive implements PetAbility {
                         (Math.random() - 0.5) * adjustedRadius * 2
                     );
 
-                    center.getWorld().spawnParticle(Particle.FLAME, dropLoc, 20, 0.5, 5, 0.5, 0.1);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, dropLoc, 20, 0.5, 5, 0.5, 0.1);
 
                     // Impact
                     Bukkit.getScheduler().runTaskLater(
@@ -2071,7 +2074,7 @@ class ApocalypseActive implements PetAbility {
                         () -> {
                             Location impact = dropLoc.clone();
                             impact.setY(center.getY());
-                            center.getWorld().spawnParticle(Particle.LAVA, impact, 10, 1, 0.5, 1, 0);
+                            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.LAVA, impact, 10, 1, 0.5, 1, 0);
 
                             for (Entity e : center.getWorld().getNearbyEntities(impact, 3, 3, 3)) {
                                 if (e instanceof Monster m) {
@@ -2086,9 +2089,9 @@ class ApocalypseActive implements PetAbility {
 
                 count++;
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 5L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 5L);
 
-        player.playSound(player.getLocation(), Sound.ENTITY_ENDER_DRAGON_GROWL, 1.0f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_ENDER_DRAGON_GROWL, 1.0f, 0.5f);
         player.sendMessage("§a[Pet] §c§lAPOCALYPSE DE FEU!");
 
         return true;
@@ -2128,7 +2131,7 @@ class DeathSentenceActive implements PetAbility {
         target.setGlowing(true);
         target.addPotionEffect(new PotionEffect(PotionEffectType.WITHER, delaySeconds * 20, 2, false, true));
 
-        player.playSound(player.getLocation(), Sound.ENTITY_WITHER_SPAWN, 0.5f, 2.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_WITHER_SPAWN, 0.5f, 2.0f);
         player.sendMessage("§a[Pet] §c§lSentence Mortelle! §7La cible mourra dans §e" + delaySeconds + "s§7!");
 
         Bukkit.getScheduler().runTaskLater(
@@ -2141,7 +2144,7 @@ class DeathSentenceActive implements PetAbility {
                     } else {
                         target.setHealth(0);
                     }
-                    target.getWorld().spawnParticle(Particle.SMOKE, target.getLocation(), 50, 1, 1, 1, 0.1);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SMOKE, target.getLocation(), 50, 1, 1, 1, 0.1);
                     petData.addKill();
                 }
             },
@@ -2191,13 +2194,13 @@ class BlackHoleActive implements PetAbility {
     public boolean activate(Player player, PetData petData) {
         Location center = player.getTargetBlock(null, 20).getLocation().add(0, 1, 0);
 
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticks = 0;
             @Override
             public void run() {
                 if (ticks >= durationSeconds * 20) {
                     // Explosion finale
-                    center.getWorld().spawnParticle(Particle.EXPLOSION, center, 20, 2, 2, 2, 0);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION, center, 20, 2, 2, 2, 0);
                     for (Entity e : center.getWorld().getNearbyEntities(center, 5, 5, 5)) {
                         if (e instanceof Monster m) {
                             m.damage(30 * petData.getStatMultiplier(), player);
@@ -2212,7 +2215,7 @@ class BlackHoleActive implements PetAbility {
                     double rad = Math.toRadians(angle + ticks * 10);
                     double r = 2 * (1 - (double) ticks / (durationSeconds * 20));
                     Location loc = center.clone().add(Math.cos(rad) * r, Math.sin(ticks * 0.1), Math.sin(rad) * r);
-                    center.getWorld().spawnParticle(Particle.PORTAL, loc, 3);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.PORTAL, loc, 3);
                 }
 
                 // Aspirer les ennemis
@@ -2225,9 +2228,9 @@ class BlackHoleActive implements PetAbility {
 
                 ticks++;
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 1L);
 
-        player.playSound(player.getLocation(), Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 0.3f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 0.3f);
         player.sendMessage("§a[Pet] §8§lTrou Noir créé!");
 
         return true;
@@ -2286,8 +2289,8 @@ class TimeStopActive implements PetAbility {
         player.addPotionEffect(new PotionEffect(
             PotionEffectType.STRENGTH, adjustedDuration, 1, false, true));
 
-        player.getWorld().spawnParticle(Particle.END_ROD, player.getLocation(), 100, 10, 5, 10, 0);
-        player.playSound(player.getLocation(), Sound.BLOCK_BELL_RESONATE, 1.0f, 0.1f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, player.getLocation(), 100, 10, 5, 10, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.BLOCK_BELL_RESONATE, 1.0f, 0.1f);
 
         player.sendMessage("§a[Pet] §e§lARRÊT DU TEMPS! §7(" + freezeSeconds + "s)");
         return true;
@@ -2327,7 +2330,7 @@ class TripleBreathActive implements PetAbility {
         spawnBreath(player, direction.clone().add(left.multiply(0.5)), Particle.SNOWFLAKE, damage, 0, petData); // Glace
         spawnBreath(player, direction.clone().add(right.multiply(0.5)), Particle.FALLING_SPORE_BLOSSOM, damage, 0, petData); // Poison
 
-        player.playSound(player.getLocation(), Sound.ENTITY_ENDER_DRAGON_GROWL, 1.0f, 1.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_ENDER_DRAGON_GROWL, 1.0f, 1.0f);
         return true;
     }
 
@@ -2339,7 +2342,7 @@ class TripleBreathActive implements PetAbility {
                 Bukkit.getPluginManager().getPlugin("ZombieZ"),
                 () -> {
                     Location loc = player.getLocation().add(dir.clone().multiply(distance)).add(0, 1, 0);
-                    loc.getWorld().spawnParticle(particle, loc, 15, 0.5, 0.5, 0.5, 0.02);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, particle, loc, 15, 0.5, 0.5, 0.5, 0.02);
 
                     for (Entity entity : loc.getWorld().getNearbyEntities(loc, 2, 2, 2)) {
                         if (entity instanceof Monster monster) {
@@ -2398,7 +2401,7 @@ class ColossusActive implements PetAbility {
             PotionEffectType.SLOWNESS, adjustedDuration, 1, false, false));
 
         // Effet visuel continu
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticks = 0;
             @Override
             public void run() {
@@ -2419,16 +2422,16 @@ class ColossusActive implements PetAbility {
                             e.setVelocity(kb);
                         }
                     }
-                    player.getWorld().spawnParticle(Particle.BLOCK, player.getLocation(),
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, player.getLocation(),
                         30, 3, 0.5, 3, Material.ANCIENT_DEBRIS.createBlockData());
                 }
 
                 ticks++;
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 1L);
 
         player.getWorld().strikeLightningEffect(player.getLocation());
-        player.playSound(player.getLocation(), Sound.ENTITY_WITHER_SPAWN, 0.5f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_WITHER_SPAWN, 0.5f, 0.5f);
 
         player.sendMessage("§a[Pet] §6§lÉVEIL DU COLOSSE! §7(" + durationSeconds + "s)");
         return true;
@@ -2472,11 +2475,11 @@ class ChaoticVortexActive implements PetAbility {
         player.sendMessage("§a[Pet] §b§l🌪️ VORTEX CHAOTIQUE! §7Les vents se déchaînent!");
 
         // Sons initiaux
-        world.playSound(center, Sound.ENTITY_BREEZE_CHARGE, 1.0f, 0.8f);
-        world.playSound(center, Sound.ENTITY_BREEZE_WIND_BURST, 1.0f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_BREEZE_CHARGE, 1.0f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_BREEZE_WIND_BURST, 1.0f, 0.5f);
 
         // Phase 1: Aspiration (2 secondes)
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticks = 0;
             final int suctionDuration = 40; // 2 secondes
             final List<Monster> trappedMonsters = new ArrayList<>();
@@ -2499,9 +2502,9 @@ class ChaoticVortexActive implements PetAbility {
                             Math.sin(angle) * currentRadius
                         );
 
-                        world.spawnParticle(Particle.CLOUD, particleLoc, 1, 0.1, 0.1, 0.1, 0);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CLOUD, particleLoc, 1, 0.1, 0.1, 0.1, 0);
                         if (i % 4 == 0) {
-                            world.spawnParticle(Particle.SWEEP_ATTACK, particleLoc, 1, 0, 0, 0, 0);
+                            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SWEEP_ATTACK, particleLoc, 1, 0, 0, 0, 0);
                         }
                     }
 
@@ -2527,19 +2530,19 @@ class ChaoticVortexActive implements PetAbility {
 
                     // Son périodique de vent
                     if (ticks % 10 == 0) {
-                        world.playSound(center, Sound.ENTITY_BREEZE_INHALE, 0.8f, 1.0f + (float) progress * 0.5f);
+                        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_BREEZE_INHALE, 0.8f, 1.0f + (float) progress * 0.5f);
                     }
                 } else if (ticks == suctionDuration) {
                     // Phase 2: EXPLOSION!
-                    world.playSound(center, Sound.ENTITY_BREEZE_SHOOT, 1.5f, 0.5f);
-                    world.playSound(center, Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 1.5f);
-                    world.playSound(center, Sound.ENTITY_BREEZE_WIND_BURST, 1.5f, 0.8f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_BREEZE_SHOOT, 1.5f, 0.5f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 1.5f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_BREEZE_WIND_BURST, 1.5f, 0.8f);
 
                     // Particules d'explosion
                     Location explosionCenter = center.clone().add(0, 1, 0);
-                    world.spawnParticle(Particle.EXPLOSION, explosionCenter, 5, 1, 1, 1, 0);
-                    world.spawnParticle(Particle.CLOUD, explosionCenter, 100, 3, 2, 3, 0.5);
-                    world.spawnParticle(Particle.SWEEP_ATTACK, explosionCenter, 30, 2, 1, 2, 0);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION, explosionCenter, 5, 1, 1, 1, 0);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CLOUD, explosionCenter, 100, 3, 2, 3, 0.5);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SWEEP_ATTACK, explosionCenter, 30, 2, 1, 2, 0);
 
                     // Projeter et endommager tous les monstres piégés
                     for (Monster m : trappedMonsters) {
@@ -2567,7 +2570,7 @@ class ChaoticVortexActive implements PetAbility {
                             m.addPotionEffect(new PotionEffect(PotionEffectType.WEAKNESS, 60, 1, false, false));
 
                             // Particules sur chaque monstre éjecté
-                            world.spawnParticle(Particle.CLOUD, m.getLocation().add(0, 1, 0), 10, 0.3, 0.3, 0.3, 0.1);
+                            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CLOUD, m.getLocation().add(0, 1, 0), 10, 0.3, 0.3, 0.3, 0.1);
                         }
                     }
 
@@ -2577,7 +2580,7 @@ class ChaoticVortexActive implements PetAbility {
 
                 ticks++;
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 1L);
 
         return true;
     }
@@ -1,7 +1,9 @@
 package com.rinaorc.zombiez.pets.abilities.impl;
 
+import com.rinaorc.zombiez.ZombieZPlugin;
 import com.rinaorc.zombiez.pets.PetData;
 import com.rinaorc.zombiez.pets.abilities.PetAbility;
+import com.rinaorc.zombiez.scheduler.EffectScheduler.Subsystem;
 import lombok.Getter;
 import org.bukkit.*;
 import org.bukkit.entity.LivingEntity;
@@ -91,13 +93,13 @@ public class BloodFrenzyActive implements PetAbility {
         player.addPotionEffect(new PotionEffect(PotionEffectType.HASTE, effectDuration, 0, false, true));
 
         // Son de hurlement
-        player.playSound(player.getLocation(), Sound.ENTITY_WOLF_HOWL, 1.0f, 0.8f);
-        player.getWorld().playSound(player.getLocation(), Sound.ENTITY_WOLF_HOWL, 0.5f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_WOLF_HOWL, 1.0f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player.getLocation(), Sound.ENTITY_WOLF_HOWL, 0.5f, 1.2f);
 
         // Particules de sang
-        player.getWorld().spawnParticle(Particle.DUST, player.getLocation().add(0, 1, 0), 30,
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, player.getLocation().add(0, 1, 0), 30,
             new Particle.DustOptions(Color.RED, 1.2f));
-        player.getWorld().spawnParticle(Particle.ANGRY_VILLAGER, player.getLocation().add(0, 2, 0), 10, 0.5, 0.3, 0.5, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ANGRY_VILLAGER, player.getLocation().add(0, 2, 0), 10, 0.5, 0.3, 0.5, 0);
 
         player.sendMessage("§a[Pet] §c§l🐺 FRÉNÉSIE SANGUINAIRE! §7Chaque kill = +5% dégâts/vitesse!");
 
@@ -115,7 +117,7 @@ public class BloodFrenzyActive implements PetAbility {
                         double totalBonus = getFrenzyBonus(uuid, petData.getStatMultiplier()) * 100;
                         player.sendMessage("§a[Pet] §7Frénésie terminée! §e" + kills + " §7kills, bonus max: §c+" +
                             String.format("%.1f", totalBonus) + "%");
-                        player.playSound(player.getLocation(), Sound.ENTITY_WOLF_WHINE, 0.5f, 1.0f);
+                        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_WOLF_WHINE, 0.5f, 1.0f);
                     }
                     frenzyEndTime.remove(uuid);
                     frenzyKills.remove(uuid);
@@ -127,12 +129,12 @@ public class BloodFrenzyActive implements PetAbility {
                 if (ticks % 10 == 0) {
                     int kills = getFrenzyKills(uuid);
                     float intensity = Math.min(1.0f, 0.3f + (kills * 0.15f));
-                    player.spawnParticle(Particle.DUST, player.getLocation().add(0, 0.5, 0),
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, player, Particle.DUST, player.getLocation().add(0, 0.5, 0),
                         3 + kills, new Particle.DustOptions(Color.fromRGB(200, 50, 50), intensity));
 
                     // Effet de rage croissante
                     if (kills >= 3) {
-                        player.spawnParticle(Particle.ANGRY_VILLAGER, player.getLocation().add(0, 2, 0), 1);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, player, Particle.ANGRY_VILLAGER, player.getLocation().add(0, 2, 0), 1);
                     }
                 }
 
@@ -158,7 +160,7 @@ public class BloodFrenzyActive implements PetAbility {
 
             // Notification et effet
             player.sendMessage("§a[Pet] §c🔥 Frénésie x" + newKills + " §7(§e+" + String.format("%.0f", currentBonus) + "% §7dégâts/vitesse)");
-            player.playSound(player.getLocation(), Sound.ENTITY_WOLF_GROWL, 0.5f, 1.0f + (newKills * 0.1f));
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_WOLF_GROWL, 0.5f, 1.0f + (newKills * 0.1f));
 
             // Mettre à jour le Haste selon les kills
             int remainingDuration = (int) ((frenzyEndTime.get(uuid) - System.currentTimeMillis()) / 50);
@@ -168,7 +170,7 @@ public class BloodFrenzyActive implements PetAbility {
             }
 
             // Particules de kill
-            player.getWorld().spawnParticle(Particle.DUST, killed.getLocation().add(0, 1, 0), 15,
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, killed.getLocation().add(0, 1, 0), 15,
                 new Particle.DustOptions(Color.RED, 1.0f));
         }
     }
@@ -1,7 +1,9 @@
 package com.rinaorc.zombiez.pets.abilities.impl;
 
+import com.rinaorc.zombiez.ZombieZPlugin;
 import com.rinaorc.zombiez.pets.PetData;
 import com.rinaorc.zombiez.pets.abilities.PetAbility;
+import com.rinaorc.zombiez.scheduler.EffectScheduler.Subsystem;
 import lombok.Getter;
 import org.bukkit.Bukkit;
 import org.bukkit.Particle;
@@ -75,7 +77,7 @@ public class CombatRegenPassive implements PetAbility {
                         player.setHealth(newHealth);
 
                         // Particules de soin
-                        player.getWorld().spawnParticle(Particle.HEART,
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.HEART,
                             player.getLocation().add(0, 1.5, 0),
                             2, 0.3, 0.3, 0.3, 0);
                     }
@@ -89,7 +91,7 @@ public class CombatRegenPassive implements PetAbility {
         activeRegens.put(player.getUniqueId(), regenTask);
 
         // Feedback visuel au kill
-        player.playSound(player.getLocation(), Sound.BLOCK_AMETHYST_BLOCK_CHIME, 0.5f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.BLOCK_AMETHYST_BLOCK_CHIME, 0.5f, 1.5f);
     }
 
     /**
@@ -1,7 +1,9 @@
 package com.rinaorc.zombiez.pets.abilities.impl;
 
+import com.rinaorc.zombiez.ZombieZPlugin;
 import com.rinaorc.zombiez.pets.PetData;
 import com.rinaorc.zombiez.pets.abilities.PetAbility;
+import com.rinaorc.zombiez.scheduler.EffectScheduler.Subsystem;
 import lombok.Getter;
 import org.bukkit.*;
 import org.bukkit.entity.*;
@@ -64,9 +66,9 @@ public class FrostFurPassive implements PetAbility {
                     monster.damage(reflectDamage, player);
 
                     // Effet visuel de gel
-                    world.spawnParticle(Particle.SNOWFLAKE, monster.getLocation().add(0, 1, 0),
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNOWFLAKE, monster.getLocation().add(0, 1, 0),
                         10, 0.3, 0.3, 0.3, 0.05);
-                    world.spawnParticle(Particle.BLOCK, monster.getLocation().add(0, 0.5, 0),
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, monster.getLocation().add(0, 0.5, 0),
                         5, 0.2, 0.2, 0.2, 0, org.bukkit.Material.PACKED_ICE.createBlockData());
                 }
 
@@ -76,7 +78,7 @@ public class FrostFurPassive implements PetAbility {
         }
 
         // Effet visuel de protection sur le joueur
-        world.spawnParticle(Particle.SNOWFLAKE, playerLoc.add(0, 1, 0), 15, 0.5, 0.5, 0.5, 0.02);
-        world.playSound(playerLoc, Sound.BLOCK_GLASS_BREAK, 0.3f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNOWFLAKE, playerLoc.add(0, 1, 0), 15, 0.5, 0.5, 0.5, 0.02);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.BLOCK_GLASS_BREAK, 0.3f, 1.5f);
     }
 }
@@ -1,7 +1,9 @@
 package com.rinaorc.zombiez.pets.abilities.impl;
 
+import com.rinaorc.zombiez.ZombieZPlugin;
 import com.rinaorc.zombiez.pets.PetData;
 import com.rinaorc.zombiez.pets.abilities.PetAbility;
+import com.rinaorc.zombiez.scheduler.EffectScheduler.Subsystem;
 import lombok.Getter;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
@@ -62,17 +64,17 @@ public class LifePulseActive implements PetAbility {
         ));
 
         // Effets visuels - onde de soin
-        player.getWorld().spawnParticle(Particle.HEART,
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.HEART,
             player.getLocation().add(0, 1, 0),
             10, 0.5, 0.5, 0.5, 0);
 
-        player.getWorld().spawnParticle(Particle.END_ROD,
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD,
             player.getLocation().add(0, 0.5, 0),
             25, 1, 0.5, 1, 0.05);
 
         // Son de soin
-        player.playSound(player.getLocation(), Sound.BLOCK_BEACON_POWER_SELECT, 1.0f, 1.5f);
-        player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 0.5f, 2.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.BLOCK_BEACON_POWER_SELECT, 1.0f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 0.5f, 2.0f);
 
         // Message
         player.sendMessage("§a[Pet] §7Pulse de Vie! §c+" + String.format("%.1f", actualHeal) + "❤ §7+ Régénération " + regenDurationSeconds + "s");
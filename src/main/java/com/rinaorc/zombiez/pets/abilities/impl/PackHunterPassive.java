@@ -1,7 +1,9 @@
 package com.rinaorc.zombiez.pets.abilities.impl;
 
+import com.rinaorc.zombiez.ZombieZPlugin;
 import com.rinaorc.zombiez.pets.PetData;
 import com.rinaorc.zombiez.pets.abilities.PetAbility;
+import com.rinaorc.zombiez.scheduler.EffectScheduler.Subsystem;
 import lombok.Getter;
 import org.bukkit.Color;
 import org.bukkit.Particle;
@@ -71,7 +73,7 @@ public class PackHunterPassive implements PetAbility {
         // Effet visuel quand le bonus est actif
         if (cappedBonus > 0.05) {
             // Particules de loup spectral autour du joueur
-            player.spawnParticle(Particle.DUST, player.getLocation().add(0, 1, 0), 3,
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, player, Particle.DUST, player.getLocation().add(0, 1, 0), 3,
                 new Particle.DustOptions(Color.fromRGB(100, 200, 255), 0.8f));
         }
 
@@ -83,7 +85,7 @@ public class PackHunterPassive implements PetAbility {
         int enemies = countNearbyEnemies(player);
         if (enemies >= 3) {
             // Effet visuel de meute active (yeux de loup)
-            player.spawnParticle(Particle.DUST, player.getLocation().add(0, 1.8, 0), 2,
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, player, Particle.DUST, player.getLocation().add(0, 1.8, 0), 2,
                 new Particle.DustOptions(Color.fromRGB(50, 150, 255), 0.5f));
         }
     }
@@ -1,9 +1,11 @@
 package com.rinaorc.zombiez.pets.abilities.impl;
 
+import com.rinaorc.zombiez.ZombieZPlugin;
 import com.rinaorc.zombiez.pets.PetData;
 import com.rinaorc.zombiez.pets.abilities.PetAbility;
 import com.rinaorc.zombiez.pets.abilities.PetDamageUtils;
 import com.rinaorc.zombiez.pets.listeners.PetCombatListener;
+import com.rinaorc.zombiez.scheduler.EffectScheduler.Subsystem;
 import lombok.Getter;
 import org.bukkit.*;
 import org.bukkit.entity.*;
@@ -46,7 +48,7 @@ class DetectionPassive implements PetAbility {
             if (entity instanceof Monster) {
                 // Particules de détection
                 Location loc = entity.getLocation().add(0, 1, 0);
-                player.spawnParticle(Particle.DUST, loc, 3,
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, player, Particle.DUST, loc, 3,
                         new Particle.DustOptions(Color.RED, 0.5f));
             }
         }
@@ -102,7 +104,7 @@ class LightPassive implements PetAbility {
     public void applyPassive(Player player, PetData petData) {
         // Particules lumineuses
         Location loc = player.getLocation().add(0, 1, 0);
-        player.spawnParticle(Particle.END_ROD, loc, 2, 0.5, 0.5, 0.5, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, player, Particle.END_ROD, loc, 2, 0.5, 0.5, 0.5, 0);
     }
 }
 
@@ -190,7 +192,7 @@ class AttackPassive implements PetAbility {
             petData.addDamage((long) adjustedDamage);
 
             // Effet visuel
-            target.getWorld().spawnParticle(Particle.CRIT, target.getLocation().add(0, 1, 0), 5);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, target.getLocation().add(0, 1, 0), 5);
         }
     }
 
@@ -266,7 +268,7 @@ class RegenPassive implements PetAbility {
         player.setHealth(newHealth);
 
         // Effet visuel
-        player.spawnParticle(Particle.HEART, player.getLocation().add(0, 2, 0), 1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, player, Particle.HEART, player.getLocation().add(0, 2, 0), 1);
     }
 }
 
@@ -298,7 +300,7 @@ class IgnitePassive implements PetAbility {
         double adjustedChance = igniteChance * petData.getStatMultiplier();
         if (Math.random() < adjustedChance) {
             target.setFireTicks(60); // 3 secondes de feu
-            target.getWorld().spawnParticle(Particle.FLAME, target.getLocation().add(0, 1, 0), 10);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, target.getLocation().add(0, 1, 0), 10);
         }
     }
 }
@@ -441,7 +443,7 @@ class AuraPassive implements PetAbility {
             if (priorityTargetId != null && monster.getUniqueId().equals(priorityTargetId)) {
                 damageToApply *= 1.5;
                 // Effet visuel spécial pour la cible prioritaire
-                monster.getWorld().spawnParticle(Particle.FLAME, monster.getLocation().add(0, 1, 0), 3, 0.2, 0.2, 0.2, 0.01);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, monster.getLocation().add(0, 1, 0), 3, 0.2, 0.2, 0.2, 0.01);
             }
 
             monster.damage(damageToApply, player);
@@ -485,7 +487,7 @@ class NecromancyPassive implements PetAbility {
         double adjustedChance = convertChance * petData.getStatMultiplier();
         if (Math.random() < adjustedChance) {
             // Particules de conversion
-            killed.getWorld().spawnParticle(Particle.WITCH, killed.getLocation(), 30, 0.5, 1, 0.5, 0);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, killed.getLocation(), 30, 0.5, 1, 0.5, 0);
             // La logique de minion est gérée ailleurs
         }
     }
@@ -563,11 +565,11 @@ class EvokerFangsPassive implements PetAbility {
         org.bukkit.util.Vector perpendicular = new org.bukkit.util.Vector(-direction.getZ(), 0, direction.getX());
 
         // Son d'invocation
-        world.playSound(center, Sound.ENTITY_EVOKER_FANGS_ATTACK, 1.0f, 1.0f);
-        world.playSound(center, Sound.ENTITY_EVOKER_PREPARE_ATTACK, 0.8f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_EVOKER_FANGS_ATTACK, 1.0f, 1.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_EVOKER_PREPARE_ATTACK, 0.8f, 1.2f);
 
         // Particules de préparation
-        world.spawnParticle(Particle.WITCH, center, 15, 0.5, 0.2, 0.5, 0.02);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, center, 15, 0.5, 0.2, 0.5, 0.02);
 
         // Spawner 3 crocs en ligne
         for (int i = -1; i <= 1; i++) {
@@ -594,7 +596,7 @@ class EvokerFangsPassive implements PetAbility {
                                     petData.addDamage((long) damage);
 
                                     // Particules d'impact
-                                    m.getWorld().spawnParticle(Particle.CRIT, m.getLocation().add(0, 1, 0),
+                                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, m.getLocation().add(0, 1, 0),
                                         10, 0.2, 0.3, 0.2, 0.1);
                                 }
                             }
@@ -619,8 +621,8 @@ class EvokerFangsPassive implements PetAbility {
                 // On utilise des particules pour simuler l'effet magique
                 if (raise) {
                     Location loc = evoker.getLocation().add(0, 1.5, 0);
-                    evoker.getWorld().spawnParticle(Particle.ENCHANT, loc, 20, 0.3, 0.3, 0.3, 0.5);
-                    evoker.getWorld().spawnParticle(Particle.WITCH, loc, 10, 0.2, 0.2, 0.2, 0.02);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ENCHANT, loc, 20, 0.3, 0.3, 0.3, 0.5);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, loc, 10, 0.2, 0.2, 0.2, 0.02);
                 }
                 break;
             }
@@ -696,12 +698,12 @@ class JoyfulTearsPassive implements PetAbility {
         spawnRainbowTears(world, effectLoc, playerLoc);
 
         // Particules de soin sur le joueur
-        world.spawnParticle(Particle.HEART, playerLoc, 3, 0.3, 0.3, 0.3, 0);
-        world.spawnParticle(Particle.HAPPY_VILLAGER, playerLoc, 5, 0.4, 0.4, 0.4, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.HEART, playerLoc, 3, 0.3, 0.3, 0.3, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.HAPPY_VILLAGER, playerLoc, 5, 0.4, 0.4, 0.4, 0);
 
         // Son de soin
-        world.playSound(playerLoc, Sound.ENTITY_PLAYER_LEVELUP, 0.3f, 2.0f);
-        world.playSound(effectLoc, Sound.ENTITY_GHAST_AMBIENT, 0.4f, 1.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_PLAYER_LEVELUP, 0.3f, 2.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, effectLoc, Sound.ENTITY_GHAST_AMBIENT, 0.4f, 1.8f);
     }
 
     private Entity findGhastPet(Player player) {
@@ -736,11 +738,11 @@ class JoyfulTearsPassive implements PetAbility {
             Color color = rainbowColors[(int)(d * 2) % rainbowColors.length];
             Particle.DustOptions dust = new Particle.DustOptions(color, 0.8f);
 
-            world.spawnParticle(Particle.DUST, point, 1, 0.05, 0.05, 0.05, dust);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, point, 1, 0.05, 0.05, 0.05, dust);
 
             // Petites étoiles scintillantes
             if (d % 0.8 < 0.4) {
-                world.spawnParticle(Particle.END_ROD, point, 1, 0.02, 0.02, 0.02, 0);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, point, 1, 0.02, 0.02, 0.02, 0);
             }
         }
     }
@@ -800,7 +802,7 @@ class ChaosPassive implements PetAbility {
             case 5 -> player.addPotionEffect(new PotionEffect(PotionEffectType.HASTE, duration, 1, false, false));
         }
 
-        player.getWorld().spawnParticle(Particle.ENCHANT, player.getLocation().add(0, 1, 0), 30, 0.5, 0.5, 0.5, 0.5);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ENCHANT, player.getLocation().add(0, 1, 0), 30, 0.5, 0.5, 0.5, 0.5);
     }
 }
 
@@ -911,9 +913,9 @@ class TeleportOnDamagePassive implements PetAbility {
         newLoc = findSafeLocation(newLoc);
         if (newLoc != null) {
             player.teleport(newLoc);
-            player.getWorld().spawnParticle(Particle.PORTAL, loc, 30, 0.5, 1, 0.5, 0);
-            player.getWorld().spawnParticle(Particle.PORTAL, newLoc, 30, 0.5, 1, 0.5, 0);
-            player.playSound(newLoc, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 1.0f);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.PORTAL, loc, 30, 0.5, 1, 0.5, 0);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.PORTAL, newLoc, 30, 0.5, 1, 0.5, 0);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, newLoc, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 1.0f);
         }
     }
 
@@ -1043,8 +1045,8 @@ class ExecutionPassive implements PetAbility {
 
         if (healthPercent <= threshold) {
             target.setHealth(0);
-            target.getWorld().spawnParticle(Particle.SMOKE, target.getLocation(), 30, 0.5, 1, 0.5, 0.1);
-            player.playSound(player.getLocation(), Sound.ENTITY_WITHER_DEATH, 0.5f, 2.0f);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SMOKE, target.getLocation(), 30, 0.5, 1, 0.5, 0.1);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_WITHER_DEATH, 0.5f, 2.0f);
             petData.addKill();
         }
     }
@@ -1169,12 +1171,12 @@ class WindGustPassive implements PetAbility {
             }
 
             // Effets visuels - particules de vent
-            world.spawnParticle(Particle.CLOUD, targetLoc.add(0, 1, 0), 20, 0.5, 0.5, 0.5, 0.1);
-            world.spawnParticle(Particle.SWEEP_ATTACK, targetLoc, 5, 0.3, 0.3, 0.3, 0);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CLOUD, targetLoc.add(0, 1, 0), 20, 0.5, 0.5, 0.5, 0.1);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SWEEP_ATTACK, targetLoc, 5, 0.3, 0.3, 0.3, 0);
 
             // Sons de vent (Breeze sounds)
-            world.playSound(targetLoc, Sound.ENTITY_BREEZE_INHALE, 0.8f, 1.2f);
-            world.playSound(targetLoc, Sound.ENTITY_BREEZE_WIND_BURST, 0.6f, 1.5f);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, targetLoc, Sound.ENTITY_BREEZE_INHALE, 0.8f, 1.2f);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, targetLoc, Sound.ENTITY_BREEZE_WIND_BURST, 0.6f, 1.5f);
 
             // Bonus de dégâts
             return damage * (1 + damageBonus);
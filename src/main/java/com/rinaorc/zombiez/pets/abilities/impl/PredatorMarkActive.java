@@ -1,7 +1,9 @@
 package com.rinaorc.zombiez.pets.abilities.impl;
 
+import com.rinaorc.zombiez.ZombieZPlugin;
 import com.rinaorc.zombiez.pets.PetData;
 import com.rinaorc.zombiez.pets.abilities.PetAbility;
+import com.rinaorc.zombiez.scheduler.EffectScheduler.Subsystem;
 import lombok.Getter;
 import org.bukkit.*;
 import org.bukkit.entity.*;
@@ -67,9 +69,9 @@ public class PredatorMarkActive implements PetAbility {
         player.sendMessage("§a[Pet] §c§l MARQUE DU PRÉDATEUR! §r§7Cible marquée pendant §e" + adjustedDuration + "s");
         player.sendMessage("§7   > §c+" + (int)(adjustedBonus * 100) + "% §7dégâts reçus, §e100% §7chance de crit");
 
-        world.playSound(target.getLocation(), Sound.ENTITY_CAT_HISS, 1.0f, 0.5f);
-        world.playSound(target.getLocation(), Sound.ENTITY_ELDER_GUARDIAN_CURSE, 0.5f, 2.0f);
-        world.playSound(player.getLocation(), Sound.ENTITY_EVOKER_PREPARE_ATTACK, 0.8f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, target.getLocation(), Sound.ENTITY_CAT_HISS, 1.0f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, target.getLocation(), Sound.ENTITY_ELDER_GUARDIAN_CURSE, 0.5f, 2.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player.getLocation(), Sound.ENTITY_EVOKER_PREPARE_ATTACK, 0.8f, 1.5f);
 
         // Animation du chat pet
         animateCatMark(player, target);
@@ -118,8 +120,8 @@ public class PredatorMarkActive implements PetAbility {
                 World world = cat.getWorld();
 
                 // Particules d'ombre autour du chat
-                world.spawnParticle(Particle.SMOKE, catLoc.add(0, 0.5, 0), 20, 0.3, 0.3, 0.3, 0.02);
-                world.spawnParticle(Particle.WITCH, catLoc, 10, 0.2, 0.2, 0.2, 0.01);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SMOKE, catLoc.add(0, 0.5, 0), 20, 0.3, 0.3, 0.3, 0.02);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, catLoc, 10, 0.2, 0.2, 0.2, 0.01);
 
                 // Ligne de particules du chat vers la cible
                 Vector dir = target.getLocation().toVector().subtract(catLoc.toVector());
@@ -129,7 +131,7 @@ public class PredatorMarkActive implements PetAbility {
                 for (double d = 0; d < dist; d += 0.5) {
                     Location point = catLoc.clone().add(dir.clone().multiply(d));
                     Particle.DustOptions dust = new Particle.DustOptions(Color.fromRGB(50, 0, 50), 0.6f);
-                    world.spawnParticle(Particle.DUST, point, 1, 0, 0, 0, dust);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, point, 1, 0, 0, 0, dust);
                 }
 
                 break;
@@ -152,8 +154,8 @@ public class PredatorMarkActive implements PetAbility {
                     // Fin de la marque
                     if (target.isValid()) {
                         Location loc = target.getLocation().add(0, 1, 0);
-                        world.spawnParticle(Particle.SMOKE, loc, 20, 0.4, 0.4, 0.4, 0.02);
-                        world.playSound(loc, Sound.BLOCK_BEACON_DEACTIVATE, 0.5f, 1.5f);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SMOKE, loc, 20, 0.4, 0.4, 0.4, 0.02);
+                        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.BLOCK_BEACON_DEACTIVATE, 0.5f, 1.5f);
                     }
 
                     // Nettoyer
@@ -186,11 +188,11 @@ public class PredatorMarkActive implements PetAbility {
                             Math.sin(a) * radius
                         );
                         Particle.DustOptions dust = new Particle.DustOptions(Color.fromRGB(180, 0, 0), 0.8f);
-                        world.spawnParticle(Particle.DUST, pointLoc, 1, 0, 0, 0, dust);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, pointLoc, 1, 0, 0, 0, dust);
                     }
 
                     // Point central
-                    world.spawnParticle(Particle.CRIT, markLoc, 1, 0, 0, 0, 0);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, markLoc, 1, 0, 0, 0, 0);
                 }
 
                 // Aura d'ombre autour de la cible
@@ -203,13 +205,13 @@ public class PredatorMarkActive implements PetAbility {
                             Math.sin(a) * 0.8
                         );
                         Particle.DustOptions dust = new Particle.DustOptions(Color.fromRGB(30, 0, 30), 0.5f);
-                        world.spawnParticle(Particle.DUST, auraLoc, 1, 0, 0, 0, dust);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, auraLoc, 1, 0, 0, 0, dust);
                     }
                 }
 
                 // Son périodique
                 if (ticks % 40 == 0) {
-                    world.playSound(loc, Sound.ENTITY_CAT_AMBIENT, 0.3f, 0.5f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.ENTITY_CAT_AMBIENT, 0.3f, 0.5f);
                 }
 
                 ticks++;
@@ -1,9 +1,11 @@
 package com.rinaorc.zombiez.pets.abilities.impl;
 
+import com.rinaorc.zombiez.ZombieZPlugin;
 import com.rinaorc.zombiez.pets.PetData;
 import com.rinaorc.zombiez.pets.abilities.PetAbility;
 import com.rinaorc.zombiez.pets.abilities.PetDamageUtils;
 import com.rinaorc.zombiez.pets.listeners.PetCombatListener;
+import com.rinaorc.zombiez.scheduler.EffectScheduler.Subsystem;
 import lombok.Getter;
 import org.bukkit.*;
 import org.bukkit.attribute.Attribute;
@@ -59,7 +61,7 @@ public class RavenStrikeActive implements PetAbility {
         Location targetLoc = target.getLocation().add(0, 1, 0);
 
         // Son de départ
-        player.playSound(player.getLocation(), Sound.ENTITY_PARROT_FLY, 1.0f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_PARROT_FLY, 1.0f, 1.2f);
 
         // Animation du corbeau qui vole vers la cible
         animateRavenStrike(player, startLoc, target, finalDamage, petData);
@@ -142,11 +144,11 @@ public class RavenStrikeActive implements PetAbility {
 
                         // Effet d'impact
                         Location impactLoc = target.getLocation().add(0, 1, 0);
-                        target.getWorld().spawnParticle(Particle.CRIT, impactLoc, 15, 0.3, 0.3, 0.3, 0.1);
-                        target.getWorld().spawnParticle(Particle.DUST, impactLoc, 10,
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, impactLoc, 15, 0.3, 0.3, 0.3, 0.1);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, impactLoc, 10,
                             new Particle.DustOptions(Color.fromRGB(30, 30, 30), 1.0f));
 
-                        player.playSound(target.getLocation(), Sound.ENTITY_PLAYER_ATTACK_CRIT, 1.0f, 1.0f);
+                        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, target.getLocation(), Sound.ENTITY_PLAYER_ATTACK_CRIT, 1.0f, 1.0f);
 
                         // Message
                         player.sendMessage("§a[Pet] §7Frappe du Corbeau! §c" + String.format("%.1f", damage) + " §7dégâts!");
@@ -166,13 +168,13 @@ public class RavenStrikeActive implements PetAbility {
                 }
 
                 // Particules de vol (traînée noire/grise pour un corbeau)
-                currentLoc.getWorld().spawnParticle(Particle.DUST, currentLoc, 5,
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, currentLoc, 5,
                     new Particle.DustOptions(Color.fromRGB(50, 50, 50), 0.8f));
-                currentLoc.getWorld().spawnParticle(Particle.SMOKE, currentLoc, 3, 0.1, 0.1, 0.1, 0);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SMOKE, currentLoc, 3, 0.1, 0.1, 0.1, 0);
 
                 // Son de battement d'ailes occasionnel
                 if (ticks % 5 == 0) {
-                    player.playSound(currentLoc, Sound.ENTITY_PARROT_FLY, 0.5f, 1.5f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, currentLoc, Sound.ENTITY_PARROT_FLY, 0.5f, 1.5f);
                 }
 
                 ticks++;
@@ -1,7 +1,9 @@
 package com.rinaorc.zombiez.pets.abilities.impl;
 
+import com.rinaorc.zombiez.ZombieZPlugin;
 import com.rinaorc.zombiez.pets.PetData;
 import com.rinaorc.zombiez.pets.abilities.PetAbility;
+import com.rinaorc.zombiez.scheduler.EffectScheduler.Subsystem;
 import lombok.Getter;
 import org.bukkit.*;
 import org.bukkit.entity.*;
@@ -58,13 +60,13 @@ public class RebornPassive implements PetAbility {
         World world = player.getWorld();
         Location loc = player.getLocation();
 
-        world.spawnParticle(Particle.FLAME, loc, 100, 1.5, 1.5, 1.5, 0.15);
-        world.spawnParticle(Particle.LAVA, loc, 30, 1, 1, 1, 0.1);
-        world.spawnParticle(Particle.TOTEM_OF_UNDYING, loc.add(0, 1, 0), 50, 0.5, 1, 0.5, 0.3);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, loc, 100, 1.5, 1.5, 1.5, 0.15);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.LAVA, loc, 30, 1, 1, 1, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.TOTEM_OF_UNDYING, loc.add(0, 1, 0), 50, 0.5, 1, 0.5, 0.3);
 
         // Son de résurrection
-        world.playSound(loc, Sound.ITEM_TOTEM_USE, 1.0f, 1.0f);
-        world.playSound(loc, Sound.ENTITY_BLAZE_SHOOT, 0.8f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.ITEM_TOTEM_USE, 1.0f, 1.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.ENTITY_BLAZE_SHOOT, 0.8f, 0.5f);
 
         // Message
         int healthRestored = (int) (healthPercent * petData.getStatMultiplier() * 100);
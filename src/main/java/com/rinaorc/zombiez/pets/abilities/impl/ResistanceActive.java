@@ -1,7 +1,9 @@
 package com.rinaorc.zombiez.pets.abilities.impl;
 
+import com.rinaorc.zombiez.ZombieZPlugin;
 import com.rinaorc.zombiez.pets.PetData;
 import com.rinaorc.zombiez.pets.abilities.PetAbility;
+import com.rinaorc.zombiez.scheduler.EffectScheduler.Subsystem;
 import lombok.Getter;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
@@ -55,16 +57,16 @@ public class ResistanceActive implements PetAbility {
         ));
 
         // Effets visuels - carapace
-        player.getWorld().spawnParticle(Particle.CRIT,
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT,
             player.getLocation().add(0, 1, 0),
             20, 0.5, 0.5, 0.5, 0.1);
 
-        player.getWorld().spawnParticle(Particle.HAPPY_VILLAGER,
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.HAPPY_VILLAGER,
             player.getLocation().add(0, 1, 0),
             10, 0.3, 0.3, 0.3, 0);
 
         // Son d'armure
-        player.playSound(player.getLocation(), Sound.ITEM_ARMOR_EQUIP_NETHERITE, 1.0f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ITEM_ARMOR_EQUIP_NETHERITE, 1.0f, 0.8f);
 
         // Message clair
         player.sendMessage("§a[Pet] §7Carapace Blindée! §e-40% dégâts §7pendant §e" + actualDuration + "s");
@@ -8,6 +8,7 @@ import com.rinaorc.zombiez.mobs.food.FoodItem;
 import com.rinaorc.zombiez.mobs.food.FoodItemRegistry;
 import com.rinaorc.zombiez.pets.PetData;
 import com.rinaorc.zombiez.pets.abilities.PetAbility;
+import com.rinaorc.zombiez.scheduler.EffectScheduler.Subsystem;
 import lombok.Getter;
 import org.bukkit.Bukkit;
 import org.bukkit.Particle;
@@ -51,8 +52,8 @@ public class ScavengeActive implements PetAbility {
         if (plugin == null) return false;
 
         // Effets visuels de fouille
-        player.playSound(player.getLocation(), Sound.BLOCK_GRAVEL_BREAK, 1.0f, 1.2f);
-        player.getWorld().spawnParticle(Particle.BLOCK,
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.BLOCK_GRAVEL_BREAK, 1.0f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK,
             player.getLocation().add(0, 0.5, 0),
             25, 0.5, 0.2, 0.5, 0,
             org.bukkit.Material.DIRT.createBlockData());
@@ -97,12 +98,12 @@ public class ScavengeActive implements PetAbility {
         String rarityColor = rarity.getColor();
         String rarityName = rarity.getDisplayName();
 
-        player.playSound(player.getLocation(), getSoundForRarity(rarity), 1.0f, 1.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), getSoundForRarity(rarity), 1.0f, 1.0f);
         player.sendMessage("§a[Pet] §7Votre rat a trouvé: " + rarityColor + itemName + " §7(" + rarityColor + rarityName + "§7)");
 
         // Particules bonus pour les items rares+
         if (rarity.ordinal() >= ConsumableRarity.RARE.ordinal()) {
-            player.getWorld().spawnParticle(Particle.HAPPY_VILLAGER,
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.HAPPY_VILLAGER,
                 player.getLocation().add(0, 1, 0), 15, 0.5, 0.5, 0.5, 0);
         }
 
@@ -4,6 +4,9 @@ import com.rinaorc.zombiez.ZombieZPlugin;
 import com.rinaorc.zombiez.pets.PetData;
 import com.rinaorc.zombiez.pets.abilities.PetAbility;
 import com.rinaorc.zombiez.pets.abilities.PetDamageUtils;
+import com.rinaorc.zombiez.scheduler.EffectScheduler.Subsystem;
+import com.rinaorc.zombiez.scheduler.EffectScheduler;
+import com.rinaorc.zombiez.scheduler.EffectTask;
 import lombok.Getter;
 import org.bukkit.*;
 import org.bukkit.entity.*;
@@ -181,7 +184,7 @@ class ComboPassive implements PetAbility {
         // Effet visuel selon le niveau de combo
         int stacks = comboStacks.get(uuid);
         if (stacks >= 5) {
-            player.spawnParticle(Particle.HAPPY_VILLAGER, player.getLocation().add(0, 1.5, 0),
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, player, Particle.HAPPY_VILLAGER, player.getLocation().add(0, 1.5, 0),
                 3 + stacks / 5, 0.3, 0.3, 0.3, 0);
         }
     }
@@ -278,7 +281,7 @@ class ComboExplosionActive implements PetAbility {
                 enemiesHit++;
 
                 // Effet visuel sur chaque cible
-                monster.getWorld().spawnParticle(Particle.CRIT, monster.getLocation().add(0, 1, 0),
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, monster.getLocation().add(0, 1, 0),
                     10, 0.3, 0.3, 0.3, 0.1);
             }
         }
@@ -293,7 +296,7 @@ class ComboExplosionActive implements PetAbility {
                     for (int angle = 0; angle < 360; angle += 15) {
                         double rad = Math.toRadians(angle);
                         Location loc = center.clone().add(Math.cos(rad) * r, 0.5, Math.sin(rad) * r);
-                        player.getWorld().spawnParticle(Particle.SWEEP_ATTACK, loc, 1, 0, 0, 0, 0);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SWEEP_ATTACK, loc, 1, 0, 0, 0, 0);
                     }
                 },
                 ring * 2L
@@ -301,10 +304,10 @@ class ComboExplosionActive implements PetAbility {
         }
 
         // Effets sonores et visuels centraux
-        player.getWorld().spawnParticle(Particle.EXPLOSION, player.getLocation(), 3, 1, 0.5, 1, 0);
-        player.getWorld().spawnParticle(Particle.HAPPY_VILLAGER, player.getLocation(), 30, 3, 1, 3, 0);
-        player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_ATTACK_SWEEP, 1.0f, 0.8f);
-        player.playSound(player.getLocation(), Sound.ENTITY_GENERIC_EXPLODE, 0.7f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION, player.getLocation(), 3, 1, 0.5, 1, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.HAPPY_VILLAGER, player.getLocation(), 30, 3, 1, 3, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_PLAYER_ATTACK_SWEEP, 1.0f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_GENERIC_EXPLODE, 0.7f, 1.5f);
 
         player.sendMessage("§a[Pet] §6§lEXPLOSION DE COMBO! §c" + (int)damage + " §7dégâts × §e" + enemiesHit +
             " §7ennemis (§6" + stacks + " §7stacks, §e+" + String.format("%.1f", bonusPercent) + "%§7)");
@@ -339,7 +342,7 @@ class LifestealPassive implements PetAbility {
         player.setHealth(newHealth);
 
         if (lifesteal > 0.5) {
-            player.spawnParticle(Particle.DAMAGE_INDICATOR, player.getLocation().add(0, 1, 0), 1, 0.2, 0.2, 0.2, 0);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, player, Particle.DAMAGE_INDICATOR, player.getLocation().add(0, 1, 0), 1, 0.2, 0.2, 0.2, 0);
         }
 
         return damage;
@@ -371,7 +374,7 @@ class FeastActive implements PetAbility {
     @Override
     public boolean activate(Player player, PetData petData) {
         feastReady.put(player.getUniqueId(), true);
-        player.playSound(player.getLocation(), Sound.ENTITY_SLIME_SQUISH, 1.0f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_SLIME_SQUISH, 1.0f, 0.5f);
         player.sendMessage("§a[Pet] §7Festin préparé! Le prochain kill soigne §c" + (int)(healPercent) + "% §7HP!");
 
         // Auto-expiration après 30s
@@ -389,8 +392,8 @@ class FeastActive implements PetAbility {
             feastReady.remove(player.getUniqueId());
             double heal = player.getMaxHealth() * (healPercent / 100.0) * petData.getStatMultiplier();
             player.setHealth(Math.min(player.getMaxHealth(), player.getHealth() + heal));
-            player.getWorld().spawnParticle(Particle.HEART, player.getLocation().add(0, 2, 0), 10, 0.5, 0.5, 0.5, 0);
-            player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_BURP, 1.0f, 1.0f);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.HEART, player.getLocation().add(0, 2, 0), 10, 0.5, 0.5, 0.5, 0);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_PLAYER_BURP, 1.0f, 1.0f);
             player.sendMessage("§a[Pet] §2Festin! §7Soigné de §c" + (int)heal + "❤");
         }
     }
@@ -464,12 +467,12 @@ class RageStackPassive implements PetAbility {
             bonus *= 2;
 
             // Effet visuel intense
-            player.spawnParticle(Particle.FLAME, player.getLocation().add(0, 1.5, 0), 5, 0.3, 0.3, 0.3, 0.05);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, player, Particle.FLAME, player.getLocation().add(0, 1.5, 0), 5, 0.3, 0.3, 0.3, 0.05);
         }
 
         // Effet visuel de rage (à partir de 5 stacks)
         if (currentStacks >= 5) {
-            player.spawnParticle(Particle.ANGRY_VILLAGER, player.getLocation().add(0, 2, 0), 1);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, player, Particle.ANGRY_VILLAGER, player.getLocation().add(0, 2, 0), 1);
         }
 
         return damage * (1 + bonus);
@@ -534,13 +537,13 @@ class UnleashActive implements PetAbility {
         double doubledBonus = currentBonus * 2;
 
         // Effet visuel explosif
-        player.getWorld().spawnParticle(Particle.LAVA, player.getLocation(), 50, 1.5, 1, 1.5, 0.1);
-        player.getWorld().spawnParticle(Particle.FLAME, player.getLocation(), 40, 1, 0.5, 1, 0.1);
-        player.getWorld().spawnParticle(Particle.ANGRY_VILLAGER, player.getLocation().add(0, 2, 0), 10, 0.5, 0.5, 0.5, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.LAVA, player.getLocation(), 50, 1.5, 1, 1.5, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, player.getLocation(), 40, 1, 0.5, 1, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ANGRY_VILLAGER, player.getLocation().add(0, 2, 0), 10, 0.5, 0.5, 0.5, 0);
 
         // Son de rugissement
-        player.playSound(player.getLocation(), Sound.ENTITY_RAVAGER_ROAR, 0.8f, 1.0f);
-        player.playSound(player.getLocation(), Sound.ENTITY_BLAZE_SHOOT, 0.5f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_RAVAGER_ROAR, 0.8f, 1.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_BLAZE_SHOOT, 0.5f, 0.5f);
 
         player.sendMessage("§a[Pet] §c§l🔥 DÉCHAÎNEMENT! §7Bonus §e+" + (int)currentBonus +
             "% §7→ §c+" + (int)doubledBonus + "% §7pendant 5s!");
@@ -653,11 +656,11 @@ class PredatorStrikeActive implements PetAbility {
 
         for (int i = 0; i < (int) minDist * 2; i++) {
             Location loc = from.clone().add(direction.clone().multiply(i * 0.5));
-            player.getWorld().spawnParticle(Particle.CRIT, loc, 3, 0.1, 0.1, 0.1, 0);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, loc, 3, 0.1, 0.1, 0.1, 0);
         }
 
-        player.getWorld().spawnParticle(Particle.EXPLOSION, to, 1);
-        player.playSound(player.getLocation(), Sound.ENTITY_ARROW_HIT_PLAYER, 1.0f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION, to, 1);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_ARROW_HIT_PLAYER, 1.0f, 1.5f);
         player.sendMessage("§a[Pet] §6Frappe Prédatrice! §c" + (int)damage + " §7dégâts!");
 
         return true;
@@ -718,7 +721,7 @@ class TurtleOffspringPassive implements PetAbility {
 
             // Indicateur de progression
             if (count == adjustedKills - 1) {
-                player.getWorld().spawnParticle(Particle.HAPPY_VILLAGER,
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.HAPPY_VILLAGER,
                     player.getLocation().add(0, 1.5, 0), 5, 0.2, 0.2, 0.2, 0.01);
             }
         }
@@ -740,8 +743,8 @@ class TurtleOffspringPassive implements PetAbility {
         }
 
         // Effet de ponte
-        world.spawnParticle(Particle.HAPPY_VILLAGER, center, 15, 0.3, 0.2, 0.3, 0.05);
-        world.playSound(center, Sound.ENTITY_TURTLE_LAY_EGG, 1.0f, 1.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.HAPPY_VILLAGER, center, 15, 0.3, 0.2, 0.3, 0.05);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_TURTLE_LAY_EGG, 1.0f, 1.0f);
 
         if (!isUltimate) {
             int currentBabies = activeBabyCount.getOrDefault(uuid, 0);
@@ -768,10 +771,10 @@ class TurtleOffspringPassive implements PetAbility {
         double babyDamage = playerDamage * dmgPercent;
 
         // Effet d'éclosion
-        world.spawnParticle(Particle.BLOCK, spawnLoc.add(0, 0.3, 0), 20, 0.3, 0.2, 0.3, 0,
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, spawnLoc.add(0, 0.3, 0), 20, 0.3, 0.2, 0.3, 0,
             org.bukkit.Material.TURTLE_EGG.createBlockData());
-        world.playSound(spawnLoc, Sound.ENTITY_TURTLE_EGG_HATCH, 1.2f, 1.2f);
-        world.playSound(spawnLoc, Sound.ENTITY_TURTLE_SHAMBLE_BABY, 1.0f, 1.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, spawnLoc, Sound.ENTITY_TURTLE_EGG_HATCH, 1.2f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, spawnLoc, Sound.ENTITY_TURTLE_SHAMBLE_BABY, 1.0f, 1.0f);
 
         // Spawner le bébé tortue
         org.bukkit.entity.Turtle babyTurtle = world.spawn(spawnLoc, org.bukkit.entity.Turtle.class, turtle -> {
@@ -793,7 +796,7 @@ class TurtleOffspringPassive implements PetAbility {
         });
 
         // Animation et comportement du bébé tortue
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticksAlive = 0;
             int attackTick = 0;
 
@@ -807,9 +810,9 @@ class TurtleOffspringPassive implements PetAbility {
 
                     // Disparition du bébé
                     if (babyTurtle.isValid()) {
-                        world.spawnParticle(Particle.HAPPY_VILLAGER, babyTurtle.getLocation().add(0, 0.3, 0),
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.HAPPY_VILLAGER, babyTurtle.getLocation().add(0, 0.3, 0),
                             15, 0.3, 0.2, 0.3, 0.05);
-                        world.playSound(babyTurtle.getLocation(), Sound.ENTITY_TURTLE_SHAMBLE_BABY, 0.8f, 1.5f);
+                        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, babyTurtle.getLocation(), Sound.ENTITY_TURTLE_SHAMBLE_BABY, 0.8f, 1.5f);
                         babyTurtle.remove();
                     }
                     cancel();
@@ -861,22 +864,22 @@ class TurtleOffspringPassive implements PetAbility {
                         }
 
                         // Effets visuels de morsure
-                        world.spawnParticle(Particle.CRIT, target.getLocation().add(0, 0.5, 0),
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, target.getLocation().add(0, 0.5, 0),
                             8, 0.2, 0.2, 0.2, 0.1);
-                        world.playSound(target.getLocation(), Sound.ENTITY_TURTLE_EGG_CRACK, 0.8f, 1.2f);
+                        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, target.getLocation(), Sound.ENTITY_TURTLE_EGG_CRACK, 0.8f, 1.2f);
                     }
                 }
 
                 // Particules de trail
                 if (ticksAlive % 5 == 0) {
                     Particle trailParticle = isUltimate ? Particle.ANGRY_VILLAGER : Particle.HAPPY_VILLAGER;
-                    world.spawnParticle(trailParticle, babyTurtle.getLocation().add(0, 0.2, 0),
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, trailParticle, babyTurtle.getLocation().add(0, 0.2, 0),
                         2, 0.1, 0.1, 0.1, 0);
                 }
 
                 ticksAlive++;
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, null, 0L, 1L);
     }
 
     private void decrementBabyCount(UUID uuid) {
@@ -938,8 +941,8 @@ class WarNestActive implements PetAbility {
         int adjustedEggs = eggCount + (int)((petData.getStatMultiplier() - 1) * 1.5);
 
         // Effet de préparation du nid
-        world.playSound(playerLoc, Sound.ENTITY_TURTLE_AMBIENT_LAND, 1.5f, 0.8f);
-        world.playSound(playerLoc, Sound.BLOCK_GRASS_BREAK, 1.0f, 0.6f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_TURTLE_AMBIENT_LAND, 1.5f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.BLOCK_GRASS_BREAK, 1.0f, 0.6f);
 
         player.sendMessage("§a[Pet] §2§l🥚 NID DE GUERRE! §7" + adjustedEggs + " œufs pondus!");
 
@@ -958,9 +961,9 @@ class WarNestActive implements PetAbility {
                 Bukkit.getPluginManager().getPlugin("ZombieZ"),
                 () -> {
                     // Effet de ponte
-                    world.spawnParticle(Particle.BLOCK, eggLoc, 15, 0.2, 0.1, 0.2, 0,
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, eggLoc, 15, 0.2, 0.1, 0.2, 0,
                         org.bukkit.Material.SAND.createBlockData());
-                    world.playSound(eggLoc, Sound.ENTITY_TURTLE_LAY_EGG, 1.0f, 1.0f + (eggIndex * 0.1f));
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, eggLoc, Sound.ENTITY_TURTLE_LAY_EGG, 1.0f, 1.0f + (eggIndex * 0.1f));
 
                     // Spawner l'œuf via le passif (avec flag ultimate=true)
                     turtlePassive.spawnTurtleEgg(player, petData, eggLoc, true);
@@ -970,7 +973,7 @@ class WarNestActive implements PetAbility {
         }
 
         // Effet visuel central
-        world.spawnParticle(Particle.HAPPY_VILLAGER, playerLoc, 30, 2, 0.5, 2, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.HAPPY_VILLAGER, playerLoc, 30, 2, 0.5, 2, 0.1);
 
         return true;
     }
@@ -1099,7 +1102,7 @@ class ElementalCatalystPassive implements PetAbility {
 
             // Effet visuel de marquage (léger)
             Particle markParticle = getElementParticle(currentEl);
-            world.spawnParticle(markParticle, target.getLocation().add(0, 1.5, 0), 5, 0.2, 0.2, 0.2, 0.02);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, markParticle, target.getLocation().add(0, 1.5, 0), 5, 0.2, 0.2, 0.2, 0.02);
 
             // Appliquer l'effet élémentaire de base
             applyElementEffect(target, currentEl);
@@ -1139,10 +1142,10 @@ class ElementalCatalystPassive implements PetAbility {
             petData.addDamage((long) actualDamage);
 
             // Effet visuel de vapeur
-            world.spawnParticle(Particle.CLOUD, loc.add(0, 1, 0), 30, 0.5, 0.5, 0.5, 0.1);
-            world.spawnParticle(Particle.FLAME, loc, 15, 0.3, 0.3, 0.3, 0.05);
-            world.playSound(loc, Sound.BLOCK_FIRE_EXTINGUISH, 1.2f, 1.0f);
-            world.playSound(loc, Sound.ENTITY_GENERIC_EXTINGUISH_FIRE, 1.0f, 0.8f);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CLOUD, loc.add(0, 1, 0), 30, 0.5, 0.5, 0.5, 0.1);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, loc, 15, 0.3, 0.3, 0.3, 0.05);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.BLOCK_FIRE_EXTINGUISH, 1.2f, 1.0f);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.ENTITY_GENERIC_EXTINGUISH_FIRE, 1.0f, 0.8f);
 
             player.sendMessage("§a[Pet] §6§l⚗ VAPORISATION! §c+" + (int)reactionDamage + " §7dégâts!");
 
@@ -1168,18 +1171,18 @@ class ElementalCatalystPassive implements PetAbility {
                     monster.setVelocity(knockback);
 
                     // Particules sur chaque cible
-                    world.spawnParticle(Particle.EXPLOSION, monster.getLocation(), 1);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION, monster.getLocation(), 1);
                 }
             }
 
             petData.addDamage((long) totalAoeDamage);
 
             // Effet central
-            world.spawnParticle(Particle.EXPLOSION_EMITTER, loc, 1);
-            world.spawnParticle(Particle.ELECTRIC_SPARK, loc, 30, 1, 1, 1, 0.3);
-            world.spawnParticle(Particle.FLAME, loc, 20, 0.8, 0.5, 0.8, 0.1);
-            world.playSound(loc, Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 1.2f);
-            world.playSound(loc, Sound.ENTITY_LIGHTNING_BOLT_IMPACT, 0.8f, 1.5f);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION_EMITTER, loc, 1);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ELECTRIC_SPARK, loc, 30, 1, 1, 1, 0.3);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, loc, 20, 0.8, 0.5, 0.8, 0.1);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 1.2f);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.ENTITY_LIGHTNING_BOLT_IMPACT, 0.8f, 1.5f);
 
             if (hitCount > 0) {
                 player.sendMessage("§a[Pet] §e§l⚡ SURCHARGE! §7" + hitCount + " cibles touchées (§c" + (int)totalAoeDamage + " §7dégâts AoE)");
@@ -1204,12 +1207,12 @@ class ElementalCatalystPassive implements PetAbility {
             target.addPotionEffect(new PotionEffect(PotionEffectType.SLOWNESS, weaknessDuration, 2, false, false));
 
             // Effet visuel électrique + givré
-            world.spawnParticle(Particle.ELECTRIC_SPARK, loc.add(0, 1, 0), 25, 0.4, 0.6, 0.4, 0.1);
-            world.spawnParticle(Particle.SNOWFLAKE, loc, 20, 0.5, 0.5, 0.5, 0.05);
-            world.spawnParticle(Particle.BLOCK, loc, 10, 0.3, 0.3, 0.3, 0,
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ELECTRIC_SPARK, loc.add(0, 1, 0), 25, 0.4, 0.6, 0.4, 0.1);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNOWFLAKE, loc, 20, 0.5, 0.5, 0.5, 0.05);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, loc, 10, 0.3, 0.3, 0.3, 0,
                 org.bukkit.Material.BLUE_ICE.createBlockData());
-            world.playSound(loc, Sound.BLOCK_GLASS_BREAK, 1.0f, 1.5f);
-            world.playSound(loc, Sound.ENTITY_PLAYER_HURT_FREEZE, 1.0f, 0.8f);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.BLOCK_GLASS_BREAK, 1.0f, 1.5f);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.ENTITY_PLAYER_HURT_FREEZE, 1.0f, 0.8f);
 
             player.sendMessage("§a[Pet] §b§l❄ SUPRACONDUCTION! §c+" + (int)supraconductionDamage + " §7dégâts, -20% défense 5s!");
 
@@ -1247,7 +1250,7 @@ class ElementalCatalystPassive implements PetAbility {
 
                 // Particules de transition
                 Particle particle = getElementParticle(element);
-                axolotl.getWorld().spawnParticle(particle, axolotl.getLocation().add(0, 0.3, 0),
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, particle, axolotl.getLocation().add(0, 0.3, 0),
                     15, 0.3, 0.2, 0.3, 0.05);
 
                 break;
@@ -1346,8 +1349,8 @@ class ChainReactionActive implements PetAbility {
         setAxolotlBlue(player);
 
         // Effet de préparation
-        world.playSound(playerLoc, Sound.ENTITY_AXOLOTL_ATTACK, 1.5f, 0.6f);
-        world.playSound(playerLoc, Sound.BLOCK_BEACON_ACTIVATE, 1.0f, 2.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_AXOLOTL_ATTACK, 1.5f, 0.6f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.BLOCK_BEACON_ACTIVATE, 1.0f, 2.0f);
 
         player.sendMessage("§a[Pet] §d§l⚗ RÉACTION EN CHAÎNE! §7Toutes les réactions déclenchées!");
 
@@ -1371,9 +1374,9 @@ class ChainReactionActive implements PetAbility {
                         target.damage(vapDamage, player);
                         petData.addDamage((long) vapDamage);
 
-                        world.spawnParticle(Particle.CLOUD, targetLoc.add(0, 1, 0), 20, 0.4, 0.4, 0.4, 0.08);
-                        world.spawnParticle(Particle.FLAME, targetLoc, 10, 0.2, 0.2, 0.2, 0.03);
-                        world.playSound(targetLoc, Sound.BLOCK_FIRE_EXTINGUISH, 0.8f, 1.2f);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CLOUD, targetLoc.add(0, 1, 0), 20, 0.4, 0.4, 0.4, 0.08);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, targetLoc, 10, 0.2, 0.2, 0.2, 0.03);
+                        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, targetLoc, Sound.BLOCK_FIRE_EXTINGUISH, 0.8f, 1.2f);
                     }
                 },
                 targetIndex * 2L + 5L
@@ -1394,9 +1397,9 @@ class ChainReactionActive implements PetAbility {
                         kb.setY(0.3);
                         target.setVelocity(kb);
 
-                        world.spawnParticle(Particle.EXPLOSION, targetLoc, 1);
-                        world.spawnParticle(Particle.ELECTRIC_SPARK, targetLoc, 15, 0.5, 0.5, 0.5, 0.1);
-                        world.playSound(targetLoc, Sound.ENTITY_FIREWORK_ROCKET_BLAST, 0.8f, 1.0f);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION, targetLoc, 1);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ELECTRIC_SPARK, targetLoc, 15, 0.5, 0.5, 0.5, 0.1);
+                        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, targetLoc, Sound.ENTITY_FIREWORK_ROCKET_BLAST, 0.8f, 1.0f);
                     }
                 },
                 targetIndex * 2L + 10L
@@ -1416,9 +1419,9 @@ class ChainReactionActive implements PetAbility {
                         target.addPotionEffect(new PotionEffect(
                             PotionEffectType.SLOWNESS, 80, 2, false, false));
 
-                        world.spawnParticle(Particle.SNOWFLAKE, targetLoc, 15, 0.4, 0.4, 0.4, 0.05);
-                        world.spawnParticle(Particle.ELECTRIC_SPARK, targetLoc, 10, 0.3, 0.3, 0.3, 0.05);
-                        world.playSound(targetLoc, Sound.BLOCK_GLASS_BREAK, 0.6f, 1.8f);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNOWFLAKE, targetLoc, 15, 0.4, 0.4, 0.4, 0.05);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ELECTRIC_SPARK, targetLoc, 10, 0.3, 0.3, 0.3, 0.05);
+                        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, targetLoc, Sound.BLOCK_GLASS_BREAK, 0.6f, 1.8f);
                     }
                 },
                 targetIndex * 2L + 15L
@@ -1431,7 +1434,7 @@ class ChainReactionActive implements PetAbility {
         }
 
         // Effet central multicolore
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticks = 0;
 
             @Override
@@ -1460,12 +1463,12 @@ class ChainReactionActive implements PetAbility {
                         default -> Particle.CRIT;
                     };
 
-                    world.spawnParticle(particle, particleLoc, 3, 0.1, 0.1, 0.1, 0.01);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, particle, particleLoc, 3, 0.1, 0.1, 0.1, 0.01);
                 }
 
                 ticks++;
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 1L);
 
         return true;
     }
@@ -1482,9 +1485,9 @@ class ChainReactionActive implements PetAbility {
                 axolotl.setVariant(org.bukkit.entity.Axolotl.Variant.BLUE);
 
                 // Effet de transformation
-                axolotl.getWorld().spawnParticle(Particle.TOTEM_OF_UNDYING, axolotl.getLocation(),
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.TOTEM_OF_UNDYING, axolotl.getLocation(),
                     30, 0.5, 0.5, 0.5, 0.3);
-                axolotl.getWorld().playSound(axolotl.getLocation(),
+                ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, axolotl.getLocation(),
                     Sound.ENTITY_AXOLOTL_SPLASH, 1.0f, 0.8f);
 
                 break;
@@ -1578,24 +1581,24 @@ class GourmandPassive implements PetAbility {
             }
 
             // Effets visuels
-            player.spawnParticle(Particle.HAPPY_VILLAGER, player.getLocation().add(0, 1, 0), 15, 0.5, 0.5, 0.5, 0);
-            player.playSound(player.getLocation(), Sound.ENTITY_PANDA_EAT, 1.0f, 1.2f);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, player, Particle.HAPPY_VILLAGER, player.getLocation().add(0, 1, 0), 15, 0.5, 0.5, 0.5, 0);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_PANDA_EAT, 1.0f, 1.2f);
             player.sendMessage("§a[Pet] §e" + buff.getDisplayName() + " §7activé! (" + buff.getDesc() + " §7pendant " + (duration / 20) + "s)");
 
             // Programmer la fin du buff
-            new BukkitRunnable() {
+            new EffectTask() {
                 @Override
                 public void run() {
                     activeBuffs.remove(uuid);
                 }
-            }.runTaskLater(Bukkit.getPluginManager().getPlugin("ZombieZ"), duration);
+            }.runTaskLater(EffectScheduler.Subsystem.PETS, null, duration);
 
         } else {
             killCounts.put(uuid, kills);
 
             // Notification de progression tous les kills
             if (kills == required - 1) {
-                player.spawnParticle(Particle.COMPOSTER, player.getLocation().add(0, 1.5, 0), 5, 0.3, 0.3, 0.3, 0);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, player, Particle.COMPOSTER, player.getLocation().add(0, 1.5, 0), 5, 0.3, 0.3, 0.3, 0);
             }
         }
     }
@@ -1660,8 +1663,8 @@ class SneezingExplosiveActive implements PetAbility {
         var plugin = (com.rinaorc.zombiez.ZombieZPlugin) Bukkit.getPluginManager().getPlugin("ZombieZ");
         if (plugin == null) return false;
 
-        Map<com.rinaorc.zombiez.items.types.StatType, Double> playerStats =
-            plugin.getItemManager().calculatePlayerStats(player);
+        com.rinaorc.zombiez.items.PlayerStatVector playerStats =
+            plugin.getItemManager().getStatVector(player);
 
         double flatDamage = playerStats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE, 7.0);
         double damagePercent = playerStats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE_PERCENT, 0.0);
@@ -1683,7 +1686,7 @@ class SneezingExplosiveActive implements PetAbility {
                 (random.nextDouble() - 0.5) * spread,
                 (random.nextDouble() - 0.5) * spread
             );
-            player.getWorld().spawnParticle(Particle.HAPPY_VILLAGER,
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.HAPPY_VILLAGER,
                 loc.clone().add(direction.clone().multiply(2)).add(offset).add(0, 1, 0),
                 1, 0, 0, 0, 0);
         }
@@ -1692,13 +1695,13 @@ class SneezingExplosiveActive implements PetAbility {
         for (double angle = 0; angle < Math.PI * 2; angle += Math.PI / 16) {
             double x = Math.cos(angle) * 6;
             double z = Math.sin(angle) * 6;
-            player.getWorld().spawnParticle(Particle.SNEEZE,
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNEEZE,
                 loc.clone().add(x, 0.5, z), 2, 0.2, 0.1, 0.2, 0.02);
         }
 
         // Son de l'éternuement
-        player.getWorld().playSound(loc, Sound.ENTITY_PANDA_SNEEZE, 2.0f, 0.8f);
-        player.getWorld().playSound(loc, Sound.ENTITY_GENERIC_EXPLODE, 0.5f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.ENTITY_PANDA_SNEEZE, 2.0f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.ENTITY_GENERIC_EXPLODE, 0.5f, 1.5f);
 
         // Infliger les dégâts aux ennemis dans le rayon
         int enemiesHit = 0;
@@ -1716,7 +1719,7 @@ class SneezingExplosiveActive implements PetAbility {
                 monster.setVelocity(knockback);
 
                 // Particule d'impact
-                monster.getWorld().spawnParticle(Particle.SNEEZE,
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNEEZE,
                     monster.getLocation().add(0, 1, 0), 8, 0.3, 0.3, 0.3, 0.05);
             }
         }
@@ -1753,7 +1756,7 @@ class SneezingExplosiveActive implements PetAbility {
                     org.bukkit.inventory.ItemStack foodItem = food.createItemStack(1);
                     player.getWorld().dropItemNaturally(player.getLocation(), foodItem);
                     player.sendMessage("§a[Pet] §6✦ §eLe Panda a trouvé: " + food.getRarity().getColor() + food.getDisplayName());
-                    player.playSound(player.getLocation(), Sound.ENTITY_ITEM_PICKUP, 1.0f, 1.0f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_ITEM_PICKUP, 1.0f, 1.0f);
                 }
             }
         } else {
@@ -1778,7 +1781,7 @@ class SneezingExplosiveActive implements PetAbility {
             org.bukkit.inventory.ItemStack consumableItem = consumable.createItemStack();
             player.getWorld().dropItemNaturally(player.getLocation(), consumableItem);
             player.sendMessage("§a[Pet] §6✦ §eLe Panda a trouvé: " + rarity.getColor() + randomType.getDisplayName());
-            player.playSound(player.getLocation(), Sound.ENTITY_ITEM_PICKUP, 1.0f, 1.0f);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_ITEM_PICKUP, 1.0f, 1.0f);
         }
     }
 }
@@ -1834,8 +1837,8 @@ class FlipperPassive implements PetAbility {
         var plugin = (com.rinaorc.zombiez.ZombieZPlugin) Bukkit.getPluginManager().getPlugin("ZombieZ");
         if (plugin == null) return;
 
-        Map<com.rinaorc.zombiez.items.types.StatType, Double> playerStats =
-            plugin.getItemManager().calculatePlayerStats(player);
+        com.rinaorc.zombiez.items.PlayerStatVector playerStats =
+            plugin.getItemManager().getStatVector(player);
 
         double flatDamage = playerStats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE, 7.0);
         double damagePercent = playerStats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE_PERCENT, 0.0);
@@ -1869,7 +1872,7 @@ class FlipperPassive implements PetAbility {
 
         // Infliger les dégâts avec délai pour l'effet visuel
         int finalBounceNumber = bounceNumber;
-        new BukkitRunnable() {
+        new EffectTask() {
             @Override
             public void run() {
                 if (!target.isValid() || target.isDead()) return;
@@ -1878,8 +1881,8 @@ class FlipperPassive implements PetAbility {
                 petData.addDamage((long) bounceDamage);
 
                 // Effet d'impact
-                target.getWorld().spawnParticle(Particle.CRIT, targetLoc, 15, 0.3, 0.3, 0.3, 0.1);
-                target.getWorld().playSound(targetLoc, Sound.ENTITY_SLIME_SQUISH, 1.0f, 1.2f + (finalBounceNumber * 0.1f));
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, targetLoc, 15, 0.3, 0.3, 0.3, 0.1);
+                ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, targetLoc, Sound.ENTITY_SLIME_SQUISH, 1.0f, 1.2f + (finalBounceNumber * 0.1f));
 
                 // Notification avec numéro de rebond
                 String bounceText = "§a[Pet] §e⚡ Rebond #" + finalBounceNumber + " §7→ §c" +
@@ -1896,15 +1899,15 @@ class FlipperPassive implements PetAbility {
                     startBounceChain(player, petData, target.getLocation(), playerDamage, finalBounceNumber + 1, alreadyHit);
                 }
             }
-        }.runTaskLater(Bukkit.getPluginManager().getPlugin("ZombieZ"), 3L * bounceNumber);
+        }.runTaskLater(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 3L * bounceNumber);
     }
 
     /**
      * Explosion lors d'un kill par ricochet (bonus max étoiles)
      */
     private void explodeOnKill(Player player, PetData petData, Location loc, double damage) {
-        loc.getWorld().spawnParticle(Particle.EXPLOSION, loc, 1, 0, 0, 0, 0);
-        loc.getWorld().playSound(loc, Sound.ENTITY_GENERIC_EXPLODE, 0.6f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION, loc, 1, 0, 0, 0, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.ENTITY_GENERIC_EXPLODE, 0.6f, 1.5f);
 
         for (Entity entity : loc.getWorld().getNearbyEntities(loc, 3, 3, 3)) {
             if (entity instanceof Monster monster && !entity.equals(player)) {
@@ -1931,7 +1934,7 @@ class FlipperPassive implements PetAbility {
             default -> new Particle.DustOptions(org.bukkit.Color.PURPLE, 1.6f);
         };
 
-        new BukkitRunnable() {
+        new EffectTask() {
             double traveled = 0;
             final Location current = from.clone();
 
@@ -1943,11 +1946,11 @@ class FlipperPassive implements PetAbility {
                 }
 
                 current.add(direction.clone().multiply(0.8));
-                current.getWorld().spawnParticle(Particle.DUST, current, 3, 0.1, 0.1, 0.1, 0, dust);
-                current.getWorld().spawnParticle(Particle.HAPPY_VILLAGER, current, 1, 0.1, 0.1, 0.1, 0);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, current, 3, 0.1, 0.1, 0.1, 0, dust);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.HAPPY_VILLAGER, current, 1, 0.1, 0.1, 0.1, 0);
                 traveled += 0.8;
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, null, 0L, 1L);
     }
 
     /**
@@ -2002,8 +2005,8 @@ class FlipperBallActive implements PetAbility {
         var plugin = (com.rinaorc.zombiez.ZombieZPlugin) Bukkit.getPluginManager().getPlugin("ZombieZ");
         if (plugin == null) return false;
 
-        Map<com.rinaorc.zombiez.items.types.StatType, Double> playerStats =
-            plugin.getItemManager().calculatePlayerStats(player);
+        com.rinaorc.zombiez.items.PlayerStatVector playerStats =
+            plugin.getItemManager().getStatVector(player);
 
         double flatDamage = playerStats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE, 7.0);
         double damagePercent = playerStats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE_PERCENT, 0.0);
@@ -2027,7 +2030,7 @@ class FlipperBallActive implements PetAbility {
         List<Monster> finalTargets = targets.subList(0, Math.min(targets.size(), maxTargets));
 
         // Son de départ
-        player.getWorld().playSound(player.getLocation(), Sound.ENTITY_GOAT_SCREAMING_LONG_JUMP, 1.5f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player.getLocation(), Sound.ENTITY_GOAT_SCREAMING_LONG_JUMP, 1.5f, 0.8f);
         player.sendMessage("§a[Pet] §e§l🎱 BOULE DE FLIPPER! §7Rebondissement sur " + finalTargets.size() + " ennemis!");
 
         // Lancer la séquence de rebonds
@@ -2044,7 +2047,7 @@ class FlipperBallActive implements PetAbility {
         if (index >= targets.size()) {
             // Fin de la séquence
             player.sendMessage("§a[Pet] §6§l★ COMBO PARFAIT! §7Tous les rebonds effectués!");
-            player.getWorld().playSound(player.getLocation(), Sound.UI_TOAST_CHALLENGE_COMPLETE, 1.0f, 1.5f);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player.getLocation(), Sound.UI_TOAST_CHALLENGE_COMPLETE, 1.0f, 1.5f);
             return;
         }
 
@@ -2066,7 +2069,7 @@ class FlipperBallActive implements PetAbility {
         spawnFlipperBallTrail(fromLoc.clone().add(0, 1, 0), targetLoc, bounceNumber);
 
         // Délai pour synchroniser avec l'animation
-        new BukkitRunnable() {
+        new EffectTask() {
             @Override
             public void run() {
                 if (!target.isValid() || target.isDead()) {
@@ -2085,13 +2088,13 @@ class FlipperBallActive implements PetAbility {
                 target.setVelocity(knockback);
 
                 // Effets visuels d'impact
-                target.getWorld().spawnParticle(Particle.ENCHANTED_HIT, targetLoc, 25, 0.5, 0.5, 0.5, 0.2);
-                target.getWorld().spawnParticle(Particle.EXPLOSION, targetLoc, 1, 0, 0, 0, 0);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ENCHANTED_HIT, targetLoc, 25, 0.5, 0.5, 0.5, 0.2);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION, targetLoc, 1, 0, 0, 0, 0);
 
                 // Son d'impact crescendo
                 float pitch = 0.5f + (bounceNumber * 0.15f);
-                target.getWorld().playSound(targetLoc, Sound.ENTITY_GOAT_RAM_IMPACT, 1.2f, pitch);
-                target.getWorld().playSound(targetLoc, Sound.BLOCK_SLIME_BLOCK_HIT, 1.0f, pitch);
+                ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, targetLoc, Sound.ENTITY_GOAT_RAM_IMPACT, 1.2f, pitch);
+                ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, targetLoc, Sound.BLOCK_SLIME_BLOCK_HIT, 1.0f, pitch);
 
                 // Message avec dégâts croissants
                 String damageColor = bounceNumber <= 3 ? "§e" : (bounceNumber <= 6 ? "§6" : "§c");
@@ -2102,7 +2105,7 @@ class FlipperBallActive implements PetAbility {
                 // Continuer vers le prochain
                 executeFlipperBall(player, petData, target.getLocation(), targets, index + 1, playerDamage);
             }
-        }.runTaskLater(Bukkit.getPluginManager().getPlugin("ZombieZ"), 5L + (index * 4L));
+        }.runTaskLater(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 5L + (index * 4L));
     }
 
     /**
@@ -2125,7 +2128,7 @@ class FlipperBallActive implements PetAbility {
         };
         Particle.DustOptions dust = new Particle.DustOptions(color, 1.5f + (bounceNumber * 0.2f));
 
-        new BukkitRunnable() {
+        new EffectTask() {
             double traveled = 0;
             final Location current = from.clone();
 
@@ -2137,12 +2140,12 @@ class FlipperBallActive implements PetAbility {
                 }
 
                 current.add(direction.clone().multiply(1.2));
-                current.getWorld().spawnParticle(Particle.DUST, current, 5, 0.15, 0.15, 0.15, 0, dust);
-                current.getWorld().spawnParticle(Particle.END_ROD, current, 2, 0.1, 0.1, 0.1, 0.02);
-                current.getWorld().spawnParticle(Particle.FIREWORK, current, 1, 0.05, 0.05, 0.05, 0);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, current, 5, 0.15, 0.15, 0.15, 0, dust);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, current, 2, 0.1, 0.1, 0.1, 0.02);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FIREWORK, current, 1, 0.05, 0.05, 0.05, 0);
                 traveled += 1.2;
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, null, 0L, 1L);
     }
 }
 
@@ -2208,9 +2211,9 @@ class EggBomberPassive implements PetAbility {
 
             // Indicateur de charge (œuf qui se forme)
             if (count == needed - 1) {
-                player.getWorld().spawnParticle(Particle.SNOWFLAKE,
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNOWFLAKE,
                     player.getLocation().add(0, 2, 0), 5, 0.2, 0.2, 0.2, 0.01);
-                player.playSound(player.getLocation(), Sound.ENTITY_CHICKEN_EGG, 0.5f, 0.8f);
+                ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_CHICKEN_EGG, 0.5f, 0.8f);
             }
         }
         return damage;
@@ -2224,8 +2227,8 @@ class EggBomberPassive implements PetAbility {
         var plugin = (com.rinaorc.zombiez.ZombieZPlugin) Bukkit.getPluginManager().getPlugin("ZombieZ");
         if (plugin == null) return;
 
-        Map<com.rinaorc.zombiez.items.types.StatType, Double> playerStats =
-            plugin.getItemManager().calculatePlayerStats(player);
+        com.rinaorc.zombiez.items.PlayerStatVector playerStats =
+            plugin.getItemManager().getStatVector(player);
 
         double flatDamage = playerStats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE, 7.0);
         double damagePercent = playerStats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE_PERCENT, 0.0);
@@ -2243,7 +2246,7 @@ class EggBomberPassive implements PetAbility {
         Location targetLoc = target.getLocation().add(0, 1, 0);
 
         // Son de ponte
-        player.playSound(start, Sound.ENTITY_CHICKEN_EGG, 1.0f, isGolden ? 1.5f : 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, start, Sound.ENTITY_CHICKEN_EGG, 1.0f, isGolden ? 1.5f : 1.2f);
 
         // Animation de l'œuf volant
         spawnEggProjectile(player, start, targetLoc, eggDamage, isGolden, petData);
@@ -2263,7 +2266,7 @@ class EggBomberPassive implements PetAbility {
             ? new Particle.DustOptions(org.bukkit.Color.YELLOW, 1.5f)
             : new Particle.DustOptions(org.bukkit.Color.WHITE, 1.2f);
 
-        new BukkitRunnable() {
+        new EffectTask() {
             double traveled = 0;
             final Location current = from.clone();
 
@@ -2277,13 +2280,13 @@ class EggBomberPassive implements PetAbility {
                 }
 
                 current.add(direction.clone().multiply(1.5));
-                current.getWorld().spawnParticle(Particle.DUST, current, 3, 0.1, 0.1, 0.1, 0, dust);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, current, 3, 0.1, 0.1, 0.1, 0, dust);
                 if (isGolden) {
-                    current.getWorld().spawnParticle(Particle.WAX_ON, current, 2, 0.05, 0.05, 0.05, 0);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WAX_ON, current, 2, 0.05, 0.05, 0.05, 0);
                 }
                 traveled += 1.5;
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 1L);
     }
 
     /**
@@ -2292,13 +2295,13 @@ class EggBomberPassive implements PetAbility {
     private void explodeEgg(Player player, Location loc, double damage, boolean isGolden, PetData petData) {
         // Effets visuels
         if (isGolden) {
-            loc.getWorld().spawnParticle(Particle.TOTEM_OF_UNDYING, loc, 30, 0.5, 0.5, 0.5, 0.1);
-            loc.getWorld().playSound(loc, Sound.ENTITY_FIREWORK_ROCKET_BLAST, 1.0f, 1.2f);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.TOTEM_OF_UNDYING, loc, 30, 0.5, 0.5, 0.5, 0.1);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.ENTITY_FIREWORK_ROCKET_BLAST, 1.0f, 1.2f);
         } else {
-            loc.getWorld().spawnParticle(Particle.BLOCK, loc, 20, 0.5, 0.5, 0.5, 0.1,
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, loc, 20, 0.5, 0.5, 0.5, 0.1,
                 org.bukkit.Material.BONE_BLOCK.createBlockData());
-            loc.getWorld().spawnParticle(Particle.EXPLOSION, loc, 1, 0, 0, 0, 0);
-            loc.getWorld().playSound(loc, Sound.ENTITY_TURTLE_EGG_BREAK, 1.5f, 1.0f);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION, loc, 1, 0, 0, 0, 0);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.ENTITY_TURTLE_EGG_BREAK, 1.5f, 1.0f);
         }
 
         // Dégâts de zone (rayon 3)
@@ -2360,8 +2363,8 @@ class AirstrikeActive implements PetAbility {
         var plugin = (com.rinaorc.zombiez.ZombieZPlugin) Bukkit.getPluginManager().getPlugin("ZombieZ");
         if (plugin == null) return false;
 
-        Map<com.rinaorc.zombiez.items.types.StatType, Double> playerStats =
-            plugin.getItemManager().calculatePlayerStats(player);
+        com.rinaorc.zombiez.items.PlayerStatVector playerStats =
+            plugin.getItemManager().getStatVector(player);
 
         double flatDamage = playerStats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE, 7.0);
         double damagePercent = playerStats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE_PERCENT, 0.0);
@@ -2381,9 +2384,9 @@ class AirstrikeActive implements PetAbility {
         }
 
         // Son d'alerte
-        player.getWorld().playSound(player.getLocation(), Sound.ENTITY_CHICKEN_AMBIENT, 2.0f, 0.5f);
-        player.getWorld().playSound(player.getLocation(), Sound.ENTITY_CHICKEN_AMBIENT, 2.0f, 0.7f);
-        player.getWorld().playSound(player.getLocation(), Sound.ENTITY_CHICKEN_AMBIENT, 2.0f, 0.9f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player.getLocation(), Sound.ENTITY_CHICKEN_AMBIENT, 2.0f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player.getLocation(), Sound.ENTITY_CHICKEN_AMBIENT, 2.0f, 0.7f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player.getLocation(), Sound.ENTITY_CHICKEN_AMBIENT, 2.0f, 0.9f);
         player.sendMessage("§a[Pet] §c§l🐔 FRAPPE AÉRIENNE! §e" + eggCount + " §7œufs en approche!");
 
         // Calculer les dégâts par œuf
@@ -2393,7 +2396,7 @@ class AirstrikeActive implements PetAbility {
         // Lancer les œufs avec délai
         for (int i = 0; i < eggCount; i++) {
             int index = i;
-            new BukkitRunnable() {
+            new EffectTask() {
                 @Override
                 public void run() {
                     // Choisir une cible (cycle ou random)
@@ -2424,7 +2427,7 @@ class AirstrikeActive implements PetAbility {
                         launchAirstrikeEgg(player, skyPos, targetLoc, finalDamage, isGolden, petData, index + 1);
                     }
                 }
-            }.runTaskLater(Bukkit.getPluginManager().getPlugin("ZombieZ"), i * 4L);
+            }.runTaskLater(EffectScheduler.Subsystem.PETS, player.getUniqueId(), i * 4L);
         }
 
         return true;
@@ -2442,7 +2445,7 @@ class AirstrikeActive implements PetAbility {
             ? new Particle.DustOptions(org.bukkit.Color.YELLOW, 2.0f)
             : new Particle.DustOptions(org.bukkit.Color.WHITE, 1.5f);
 
-        new BukkitRunnable() {
+        new EffectTask() {
             final Location current = from.clone();
             int ticks = 0;
 
@@ -2459,19 +2462,19 @@ class AirstrikeActive implements PetAbility {
                 current.add(direction.clone().multiply(1.2));
 
                 // Particules
-                current.getWorld().spawnParticle(Particle.DUST, current, 5, 0.15, 0.15, 0.15, 0, dust);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, current, 5, 0.15, 0.15, 0.15, 0, dust);
                 if (isGolden) {
-                    current.getWorld().spawnParticle(Particle.END_ROD, current, 2, 0.1, 0.1, 0.1, 0.02);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, current, 2, 0.1, 0.1, 0.1, 0.02);
                 }
 
                 // Son de chute
                 if (ticks % 5 == 0) {
-                    current.getWorld().playSound(current, Sound.ENTITY_CHICKEN_EGG, 0.3f, 1.5f + (ticks * 0.02f));
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, current, Sound.ENTITY_CHICKEN_EGG, 0.3f, 1.5f + (ticks * 0.02f));
                 }
 
                 ticks++;
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 1L);
     }
 
     /**
@@ -2481,15 +2484,15 @@ class AirstrikeActive implements PetAbility {
                                       PetData petData, int eggNumber) {
         // Effets visuels épiques
         if (isGolden) {
-            loc.getWorld().spawnParticle(Particle.TOTEM_OF_UNDYING, loc, 50, 1, 1, 1, 0.2);
-            loc.getWorld().spawnParticle(Particle.FLASH, loc, 1, 0, 0, 0, 0);
-            loc.getWorld().playSound(loc, Sound.ENTITY_DRAGON_FIREBALL_EXPLODE, 0.8f, 1.5f);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.TOTEM_OF_UNDYING, loc, 50, 1, 1, 1, 0.2);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLASH, loc, 1, 0, 0, 0, 0);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.ENTITY_DRAGON_FIREBALL_EXPLODE, 0.8f, 1.5f);
         } else {
-            loc.getWorld().spawnParticle(Particle.EXPLOSION, loc, 2, 0.3, 0.3, 0.3, 0);
-            loc.getWorld().spawnParticle(Particle.BLOCK, loc, 30, 0.8, 0.8, 0.8, 0.1,
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION, loc, 2, 0.3, 0.3, 0.3, 0);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, loc, 30, 0.8, 0.8, 0.8, 0.1,
                 org.bukkit.Material.BONE_BLOCK.createBlockData());
-            loc.getWorld().playSound(loc, Sound.ENTITY_TURTLE_EGG_BREAK, 1.5f, 0.8f);
-            loc.getWorld().playSound(loc, Sound.ENTITY_GENERIC_EXPLODE, 0.6f, 1.5f);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.ENTITY_TURTLE_EGG_BREAK, 1.5f, 0.8f);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.ENTITY_GENERIC_EXPLODE, 0.6f, 1.5f);
         }
 
         // Dégâts de zone (rayon 3.5)
@@ -2580,8 +2583,8 @@ class ChromaticBreathActive implements PetAbility {
                 Bukkit.getPluginManager().getPlugin("ZombieZ"),
                 () -> {
                     Location loc = player.getLocation().add(direction.clone().multiply(distance)).add(0, 1, 0);
-                    loc.getWorld().spawnParticle(Particle.DRAGON_BREATH, loc, 30, 1, 0.5, 1, 0.05);
-                    loc.getWorld().spawnParticle(Particle.END_ROD, loc, 10, 0.5, 0.5, 0.5, 0.1);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DRAGON_BREATH, loc, 30, 1, 0.5, 1, 0.05);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, loc, 10, 0.5, 0.5, 0.5, 0.1);
 
                     for (Entity entity : loc.getWorld().getNearbyEntities(loc, 3, 3, 3)) {
                         if (entity instanceof Monster monster) {
@@ -2594,7 +2597,7 @@ class ChromaticBreathActive implements PetAbility {
             );
         }
 
-        player.playSound(player.getLocation(), Sound.ENTITY_ENDER_DRAGON_GROWL, 1.0f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_ENDER_DRAGON_GROWL, 1.0f, 1.2f);
         player.sendMessage("§a[Pet] §5§lSouffle Chromatique! §7Adapté à votre classe!");
 
         return true;
@@ -2657,8 +2660,8 @@ class ZoneMasteryActive implements PetAbility {
         player.addPotionEffect(new PotionEffect(PotionEffectType.STRENGTH, duration, 1, false, true));
         player.addPotionEffect(new PotionEffect(PotionEffectType.SPEED, duration, 1, false, true));
 
-        player.getWorld().spawnParticle(Particle.ENCHANT, player.getLocation(), 100, 2, 2, 2, 1);
-        player.playSound(player.getLocation(), Sound.BLOCK_BEACON_POWER_SELECT, 1.0f, 1.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ENCHANT, player.getLocation(), 100, 2, 2, 2, 1);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.BLOCK_BEACON_POWER_SELECT, 1.0f, 1.0f);
         player.sendMessage("§a[Pet] §b§lMaîtrise de Zone! §7Immunité environnementale + bonus x2!");
 
         return true;
@@ -2726,7 +2729,7 @@ class SymbioticFusionActive implements PetAbility {
         player.addPotionEffect(new PotionEffect(PotionEffectType.RESISTANCE, duration, 2, false, true));
 
         // Effet visuel continu
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticks = 0;
             @Override
             public void run() {
@@ -2734,13 +2737,13 @@ class SymbioticFusionActive implements PetAbility {
                     cancel();
                     return;
                 }
-                player.spawnParticle(Particle.WITCH, player.getLocation(), 10, 0.5, 1, 0.5, 0.02);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, player, Particle.WITCH, player.getLocation(), 10, 0.5, 1, 0.5, 0.02);
                 ticks++;
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 1L);
 
-        player.getWorld().spawnParticle(Particle.TOTEM_OF_UNDYING, player.getLocation(), 100, 1, 2, 1, 0.5);
-        player.playSound(player.getLocation(), Sound.ENTITY_WITHER_SPAWN, 0.3f, 2.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.TOTEM_OF_UNDYING, player.getLocation(), 100, 1, 2, 1, 0.5);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_WITHER_SPAWN, 0.3f, 2.0f);
         player.sendMessage("§a[Pet] §5§l★ FUSION SYMBIOTIQUE! §7Tous les bonus x2 pendant 15s!");
 
         return true;
@@ -2794,22 +2797,22 @@ class VolatileSporesPassive implements PetAbility {
                 enemiesHit++;
 
                 // Effet visuel sur chaque cible
-                monster.getWorld().spawnParticle(Particle.SPORE_BLOSSOM_AIR,
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SPORE_BLOSSOM_AIR,
                     monster.getLocation().add(0, 1, 0), 10, 0.3, 0.3, 0.3, 0.05);
             }
         }
 
         // Effets visuels de l'explosion de spores
-        world.spawnParticle(Particle.SPORE_BLOSSOM_AIR, deathLocation.add(0, 0.5, 0),
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SPORE_BLOSSOM_AIR, deathLocation.add(0, 0.5, 0),
             40, 1.5, 0.5, 1.5, 0.1);
-        world.spawnParticle(Particle.CRIMSON_SPORE, deathLocation,
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIMSON_SPORE, deathLocation,
             30, 1, 0.5, 1, 0.02);
-        world.spawnParticle(Particle.POOF, deathLocation,
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.POOF, deathLocation,
             15, 0.5, 0.3, 0.5, 0.05);
 
         // Son d'explosion de spores
-        world.playSound(deathLocation, Sound.BLOCK_FUNGUS_BREAK, 1.0f, 0.5f);
-        world.playSound(deathLocation, Sound.ENTITY_PUFFER_FISH_BLOW_OUT, 0.8f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, deathLocation, Sound.BLOCK_FUNGUS_BREAK, 1.0f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, deathLocation, Sound.ENTITY_PUFFER_FISH_BLOW_OUT, 0.8f, 1.2f);
 
         // Message si des ennemis sont touchés
         if (enemiesHit > 0) {
@@ -2850,10 +2853,10 @@ class FungalDetonationActive implements PetAbility {
 
         // Annonce de la charge
         player.sendMessage("§a[Pet] §c§l⚠ DÉTONATION EN COURS...");
-        world.playSound(center, Sound.BLOCK_NOTE_BLOCK_BASS, 1.0f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.BLOCK_NOTE_BLOCK_BASS, 1.0f, 0.5f);
 
         // Phase de charge avec effets visuels progressifs
-        new BukkitRunnable() {
+        new EffectTask() {
             int tick = 0;
             @Override
             public void run() {
@@ -2875,12 +2878,12 @@ class FungalDetonationActive implements PetAbility {
                     double x = Math.cos(rad) * radius * (1 - progress * 0.5);
                     double z = Math.sin(rad) * radius * (1 - progress * 0.5);
                     Location particleLoc = playerLoc.clone().add(x, 0.5 + progress, z);
-                    world.spawnParticle(Particle.CRIMSON_SPORE, particleLoc, 2, 0.1, 0.1, 0.1, 0);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIMSON_SPORE, particleLoc, 2, 0.1, 0.1, 0.1, 0);
                 }
 
                 // Son de charge
                 if (tick % 5 == 0) {
-                    world.playSound(playerLoc, Sound.BLOCK_NOTE_BLOCK_BASS, 0.5f, 0.5f + (float)progress);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.BLOCK_NOTE_BLOCK_BASS, 0.5f, 0.5f + (float)progress);
                 }
 
                 tick++;
@@ -2891,7 +2894,7 @@ class FungalDetonationActive implements PetAbility {
                     executeDetonation(player, petData);
                 }
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 1L);
 
         return true;
     }
@@ -2925,16 +2928,16 @@ class FungalDetonationActive implements PetAbility {
                 monster.setVelocity(knockback);
 
                 // Effet sur la cible
-                monster.getWorld().spawnParticle(Particle.CRIT,
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT,
                     monster.getLocation().add(0, 1, 0), 10, 0.3, 0.3, 0.3, 0.1);
             }
         }
 
         // Explosion visuelle massive
-        world.spawnParticle(Particle.EXPLOSION, center.clone().add(0, 1, 0), 5, 2, 1, 2, 0);
-        world.spawnParticle(Particle.SPORE_BLOSSOM_AIR, center, 200, adjustedRadius, 2, adjustedRadius, 0.2);
-        world.spawnParticle(Particle.CRIMSON_SPORE, center, 150, adjustedRadius, 3, adjustedRadius, 0.1);
-        world.spawnParticle(Particle.POOF, center, 50, adjustedRadius * 0.7, 1, adjustedRadius * 0.7, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION, center.clone().add(0, 1, 0), 5, 2, 1, 2, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SPORE_BLOSSOM_AIR, center, 200, adjustedRadius, 2, adjustedRadius, 0.2);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIMSON_SPORE, center, 150, adjustedRadius, 3, adjustedRadius, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.POOF, center, 50, adjustedRadius * 0.7, 1, adjustedRadius * 0.7, 0.1);
 
         // Onde de choc visuelle (anneaux concentriques)
         for (int ring = 1; ring <= adjustedRadius; ring++) {
@@ -2945,7 +2948,7 @@ class FungalDetonationActive implements PetAbility {
                     for (int angle = 0; angle < 360; angle += 10) {
                         double rad = Math.toRadians(angle);
                         Location loc = center.clone().add(Math.cos(rad) * r, 0.3, Math.sin(rad) * r);
-                        world.spawnParticle(Particle.SWEEP_ATTACK, loc, 1, 0, 0, 0, 0);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SWEEP_ATTACK, loc, 1, 0, 0, 0, 0);
                     }
                 },
                 ring * 2L
@@ -2953,9 +2956,9 @@ class FungalDetonationActive implements PetAbility {
         }
 
         // Sons d'explosion
-        world.playSound(center, Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 1.2f);
-        world.playSound(center, Sound.ENTITY_DRAGON_FIREBALL_EXPLODE, 0.8f, 0.8f);
-        world.playSound(center, Sound.BLOCK_FUNGUS_BREAK, 2.0f, 0.3f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_DRAGON_FIREBALL_EXPLODE, 0.8f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.BLOCK_FUNGUS_BREAK, 2.0f, 0.3f);
 
         // Message final (affiche les dégâts totaux infligés)
         int totalDamage = (int)(damage * enemiesHit);
@@ -3011,7 +3014,7 @@ class NexusAuraPassive implements PetAbility {
                 0.5,
                 Math.sin(rad) * adjustedRadius * 0.8
             );
-            player.getWorld().spawnParticle(Particle.PORTAL, particleLoc, 2, 0, 0, 0, 0);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.PORTAL, particleLoc, 2, 0, 0, 0, 0);
         }
     }
 
@@ -3054,7 +3057,7 @@ class DimensionalConvergenceActive implements PetAbility {
                     ally.teleport(destination.clone().add(Math.random() * 3 - 1.5, 0, Math.random() * 3 - 1.5));
 
                     // Effet de téléportation
-                    oldLoc.getWorld().spawnParticle(Particle.PORTAL, oldLoc, 30, 0.5, 1, 0.5, 0.5);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.PORTAL, oldLoc, 30, 0.5, 1, 0.5, 0.5);
 
                     // Bouclier (via Resistance)
                     ally.addPotionEffect(new PotionEffect(
@@ -3068,9 +3071,9 @@ class DimensionalConvergenceActive implements PetAbility {
         player.addPotionEffect(new PotionEffect(
             PotionEffectType.ABSORPTION, 200, 4, false, true));
 
-        player.getWorld().spawnParticle(Particle.END_ROD, destination, 100, 3, 2, 3, 0.1);
-        player.getWorld().spawnParticle(Particle.PORTAL, destination, 200, 5, 1, 5, 1);
-        player.playSound(destination, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, destination, 100, 3, 2, 3, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.PORTAL, destination, 200, 5, 1, 5, 1);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, destination, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 0.5f);
         player.sendMessage("§a[Pet] §5§lConvergence Dimensionnelle! §7Alliés téléportés + boucliers!");
 
         return true;
@@ -3155,7 +3158,7 @@ class HeavyStepsPassive implements PetAbility {
                     for (int angle = 0; angle < 360; angle += 30) {
                         double rad = Math.toRadians(angle);
                         Location loc = center.clone().add(Math.cos(rad) * r, 0.1, Math.sin(rad) * r);
-                        world.spawnParticle(Particle.BLOCK, loc, 8, 0.2, 0.1, 0.2, 0,
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, loc, 8, 0.2, 0.1, 0.2, 0,
                             org.bukkit.Material.STONE.createBlockData());
                     }
                 },
@@ -3164,11 +3167,11 @@ class HeavyStepsPassive implements PetAbility {
         }
 
         // Particules centrales
-        world.spawnParticle(Particle.EXPLOSION, center.add(0, 0.5, 0), 1, 0, 0, 0, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION, center.add(0, 0.5, 0), 1, 0, 0, 0, 0);
 
         // Son de secousse
-        world.playSound(center, Sound.ENTITY_IRON_GOLEM_ATTACK, 1.0f, 0.5f);
-        world.playSound(center, Sound.BLOCK_ANVIL_LAND, 0.5f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_IRON_GOLEM_ATTACK, 1.0f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.BLOCK_ANVIL_LAND, 0.5f, 0.5f);
 
         // Message
         if (enemiesStunned > 0) {
@@ -3217,7 +3220,7 @@ class SeismicSlamActive implements PetAbility {
 
         // Animation de préparation (le golem lève les bras)
         player.sendMessage("§a[Pet] §6§l⚡ SÉISME!");
-        world.playSound(center, Sound.ENTITY_IRON_GOLEM_HURT, 1.0f, 0.3f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_IRON_GOLEM_HURT, 1.0f, 0.3f);
 
         // Appliquer dégâts et stun
         int enemiesHit = 0;
@@ -3257,29 +3260,29 @@ class SeismicSlamActive implements PetAbility {
                         Location loc = center.clone().add(Math.cos(rad) * r, 0.2, Math.sin(rad) * r);
 
                         // Blocs qui sautent
-                        world.spawnParticle(Particle.BLOCK, loc, 15, 0.3, 0.3, 0.3, 0.1,
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, loc, 15, 0.3, 0.3, 0.3, 0.1,
                             org.bukkit.Material.COBBLESTONE.createBlockData());
 
                         // Fissures
-                        world.spawnParticle(Particle.CAMPFIRE_COSY_SMOKE, loc, 2, 0.1, 0.1, 0.1, 0.02);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CAMPFIRE_COSY_SMOKE, loc, 2, 0.1, 0.1, 0.1, 0.02);
                     }
 
                     // Son progressif
-                    world.playSound(center.clone().add(0, 0, r), Sound.BLOCK_STONE_BREAK, 0.8f, 0.5f + r * 0.05f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center.clone().add(0, 0, r), Sound.BLOCK_STONE_BREAK, 0.8f, 0.5f + r * 0.05f);
                 },
                 ring * 2L
             );
         }
 
         // Explosion centrale
-        world.spawnParticle(Particle.EXPLOSION, center.clone().add(0, 1, 0), 3, 1, 0.5, 1, 0);
-        world.spawnParticle(Particle.BLOCK, center, 100, 2, 0.5, 2, 0.5,
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION, center.clone().add(0, 1, 0), 3, 1, 0.5, 1, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, center, 100, 2, 0.5, 2, 0.5,
             org.bukkit.Material.STONE.createBlockData());
 
         // Sons principaux
-        world.playSound(center, Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 0.6f);
-        world.playSound(center, Sound.ENTITY_IRON_GOLEM_ATTACK, 1.5f, 0.3f);
-        world.playSound(center, Sound.BLOCK_ANVIL_LAND, 1.0f, 0.3f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 0.6f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_IRON_GOLEM_ATTACK, 1.5f, 0.3f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.BLOCK_ANVIL_LAND, 1.0f, 0.3f);
 
         // Message final
         player.sendMessage("§a[Pet] §c§l💥 " + (int)damage + " §7dégâts + §cstun " +
@@ -3346,10 +3349,10 @@ class WispFireballPassive implements PetAbility {
         double fireballDamage = playerDamage * adjustedDamagePercent;
 
         // Son de lancement
-        world.playSound(origin, Sound.ENTITY_BLAZE_SHOOT, 1.0f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, origin, Sound.ENTITY_BLAZE_SHOOT, 1.0f, 1.2f);
 
         // Animation de la boule de feu (projectile visuel)
-        new BukkitRunnable() {
+        new EffectTask() {
             Location currentLoc = origin.clone();
             int ticks = 0;
             final int maxTicks = 40; // 2 secondes max
@@ -3366,8 +3369,8 @@ class WispFireballPassive implements PetAbility {
                 currentLoc.add(direction.clone().multiply(1.0));
 
                 // Particules de la boule de feu
-                world.spawnParticle(Particle.FLAME, currentLoc, 10, 0.2, 0.2, 0.2, 0.02);
-                world.spawnParticle(Particle.SMOKE, currentLoc, 3, 0.1, 0.1, 0.1, 0.01);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, currentLoc, 10, 0.2, 0.2, 0.2, 0.02);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SMOKE, currentLoc, 3, 0.1, 0.1, 0.1, 0.01);
 
                 // Vérifier collision avec les mobs
                 for (Entity entity : world.getNearbyEntities(currentLoc, 1, 1, 1)) {
@@ -3380,9 +3383,9 @@ class WispFireballPassive implements PetAbility {
                         petData.addDamage((long) fireballDamage);
 
                         // Effets d'impact
-                        world.spawnParticle(Particle.LAVA, currentLoc, 15, 0.3, 0.3, 0.3, 0);
-                        world.spawnParticle(Particle.FLAME, currentLoc, 20, 0.5, 0.5, 0.5, 0.1);
-                        world.playSound(currentLoc, Sound.ENTITY_GENERIC_BURN, 1.0f, 1.0f);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.LAVA, currentLoc, 15, 0.3, 0.3, 0.3, 0);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, currentLoc, 20, 0.5, 0.5, 0.5, 0.1);
+                        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, currentLoc, Sound.ENTITY_GENERIC_BURN, 1.0f, 1.0f);
 
                         // Message uniquement si dégâts significatifs (pas de spam)
                         if (fireballDamage >= 1) {
@@ -3402,7 +3405,7 @@ class WispFireballPassive implements PetAbility {
 
                 ticks++;
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 1L);
     }
 }
 
@@ -3443,7 +3446,7 @@ class InfernalBarrageActive implements PetAbility {
         int adjustedCount = (int) (fireballCount + (petData.getStatMultiplier() - 1) * 2);
 
         player.sendMessage("§a[Pet] §c§l🔥 BARRAGE INFERNAL!");
-        world.playSound(origin, Sound.ENTITY_BLAZE_SHOOT, 1.5f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, origin, Sound.ENTITY_BLAZE_SHOOT, 1.5f, 0.8f);
 
         // Tirer les boules de feu en éventail
         double spreadAngle = 60.0; // 60 degrés d'éventail total
@@ -3479,10 +3482,10 @@ class InfernalBarrageActive implements PetAbility {
         ).normalize();
 
         // Son de lancement
-        world.playSound(origin, Sound.ENTITY_BLAZE_SHOOT, 0.8f, 1.0f + (float)(Math.random() * 0.4));
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, origin, Sound.ENTITY_BLAZE_SHOOT, 0.8f, 1.0f + (float)(Math.random() * 0.4));
 
         // Animation de la boule de feu
-        new BukkitRunnable() {
+        new EffectTask() {
             Location currentLoc = origin.clone();
             int ticks = 0;
             final int maxTicks = 60;
@@ -3499,8 +3502,8 @@ class InfernalBarrageActive implements PetAbility {
                 currentLoc.add(direction.clone().multiply(0.8));
 
                 // Particules plus grosses pour le barrage
-                world.spawnParticle(Particle.FLAME, currentLoc, 15, 0.25, 0.25, 0.25, 0.03);
-                world.spawnParticle(Particle.LAVA, currentLoc, 2, 0.1, 0.1, 0.1, 0);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, currentLoc, 15, 0.25, 0.25, 0.25, 0.03);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.LAVA, currentLoc, 2, 0.1, 0.1, 0.1, 0);
 
                 // Vérifier collision avec les mobs
                 for (Entity entity : world.getNearbyEntities(currentLoc, 1.2, 1.2, 1.2)) {
@@ -3513,24 +3516,24 @@ class InfernalBarrageActive implements PetAbility {
                         petData.addDamage((long) damage);
 
                         // Effets d'impact
-                        world.spawnParticle(Particle.EXPLOSION, currentLoc, 1, 0, 0, 0, 0);
-                        world.spawnParticle(Particle.FLAME, currentLoc, 30, 0.5, 0.5, 0.5, 0.15);
-                        world.playSound(currentLoc, Sound.ENTITY_GENERIC_EXPLODE, 0.6f, 1.5f);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION, currentLoc, 1, 0, 0, 0, 0);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, currentLoc, 30, 0.5, 0.5, 0.5, 0.15);
+                        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, currentLoc, Sound.ENTITY_GENERIC_EXPLODE, 0.6f, 1.5f);
                     }
                 }
 
                 // Vérifier si on a touché un bloc solide
                 if (currentLoc.getBlock().getType().isSolid()) {
                     // Explosion à l'impact
-                    world.spawnParticle(Particle.FLAME, currentLoc, 20, 0.3, 0.3, 0.3, 0.1);
-                    world.playSound(currentLoc, Sound.BLOCK_FIRE_EXTINGUISH, 1.0f, 1.0f);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, currentLoc, 20, 0.3, 0.3, 0.3, 0.1);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, currentLoc, Sound.BLOCK_FIRE_EXTINGUISH, 1.0f, 1.0f);
                     cancel();
                     return;
                 }
 
                 ticks++;
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 1L);
     }
 }
 
@@ -3584,7 +3587,7 @@ class PredatorPassive implements PetAbility {
             PotionEffectType.SLOWNESS, adjustedSlowDuration, 1, false, false));
 
         // Effet visuel de toile
-        world.spawnParticle(Particle.BLOCK, target.getLocation().add(0, 0.5, 0),
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, target.getLocation().add(0, 0.5, 0),
             5, 0.2, 0.2, 0.2, 0, org.bukkit.Material.COBWEB.createBlockData());
 
         // Calculer les dégâts bonus si la cible est vulnérable
@@ -3593,9 +3596,9 @@ class PredatorPassive implements PetAbility {
             double bonusDamage = damage * adjustedBonus;
 
             // Effet visuel de prédateur
-            world.spawnParticle(Particle.CRIT, target.getLocation().add(0, 1, 0),
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, target.getLocation().add(0, 1, 0),
                 8, 0.3, 0.3, 0.3, 0.1);
-            world.playSound(target.getLocation(), Sound.ENTITY_SPIDER_HURT, 0.5f, 1.5f);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, target.getLocation(), Sound.ENTITY_SPIDER_HURT, 0.5f, 1.5f);
 
             return damage + bonusDamage;
         }
@@ -3686,7 +3689,7 @@ class SpiderAmbushActive implements PetAbility {
         int adjustedMarkDuration = (int) (markDurationTicks + (petData.getStatMultiplier() - 1) * 40);
 
         // Son de préparation
-        world.playSound(playerLoc, Sound.ENTITY_SPIDER_AMBIENT, 1.0f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_SPIDER_AMBIENT, 1.0f, 0.5f);
         player.sendMessage("§a[Pet] §c§l\uD83D\uDD77 EMBUSCADE!");
 
         // Spawn d'une araignée temporaire pour l'animation de bond
@@ -3715,7 +3718,7 @@ class SpiderAmbushActive implements PetAbility {
         // Ajouter une courbe parabolique (arc de saut)
         velocity.setY(velocity.getY() + 0.15);
 
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticks = 0;
 
             @Override
@@ -3724,7 +3727,7 @@ class SpiderAmbushActive implements PetAbility {
                     // Arrivée sur la cible - Impact!
                     if (leapSpider.isValid()) {
                         // Effet de disparition
-                        world.spawnParticle(Particle.POOF, leapSpider.getLocation(), 10, 0.3, 0.3, 0.3, 0.05);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.POOF, leapSpider.getLocation(), 10, 0.3, 0.3, 0.3, 0.05);
                         leapSpider.remove();
                     }
                     executeImpact(player, petData, finalTarget, adjustedImmobilize, adjustedMarkDuration);
@@ -3741,17 +3744,17 @@ class SpiderAmbushActive implements PetAbility {
                 leapSpider.teleport(newLoc);
 
                 // Particules de traînée
-                world.spawnParticle(Particle.BLOCK, newLoc, 3, 0.1, 0.1, 0.1, 0,
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, newLoc, 3, 0.1, 0.1, 0.1, 0,
                     org.bukkit.Material.COBWEB.createBlockData());
 
                 // Son de saut
                 if (ticks % 5 == 0) {
-                    world.playSound(newLoc, Sound.ENTITY_SPIDER_STEP, 0.6f, 1.8f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, newLoc, Sound.ENTITY_SPIDER_STEP, 0.6f, 1.8f);
                 }
 
                 ticks++;
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, null, 0L, 1L);
 
         return true;
     }
@@ -3783,22 +3786,22 @@ class SpiderAmbushActive implements PetAbility {
         );
 
         // Effet visuel de toile d'immobilisation
-        world.spawnParticle(Particle.BLOCK, impactLoc.add(0, 0.5, 0), 50, 1, 0.5, 1, 0,
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, impactLoc.add(0, 0.5, 0), 50, 1, 0.5, 1, 0,
             org.bukkit.Material.COBWEB.createBlockData());
-        world.spawnParticle(Particle.CRIT, impactLoc, 20, 0.5, 0.5, 0.5, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, impactLoc, 20, 0.5, 0.5, 0.5, 0.1);
 
         // Toiles visuelles au sol (cercle)
         for (int angle = 0; angle < 360; angle += 45) {
             double rad = Math.toRadians(angle);
             Location webLoc = impactLoc.clone().add(Math.cos(rad) * 1.5, 0.1, Math.sin(rad) * 1.5);
-            world.spawnParticle(Particle.BLOCK, webLoc, 5, 0.2, 0, 0.2, 0,
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, webLoc, 5, 0.2, 0, 0.2, 0,
                 org.bukkit.Material.COBWEB.createBlockData());
         }
 
         // Sons d'impact
-        world.playSound(impactLoc, Sound.ENTITY_SPIDER_DEATH, 1.0f, 0.8f);
-        world.playSound(impactLoc, Sound.BLOCK_WOOL_PLACE, 1.0f, 0.5f);
-        world.playSound(impactLoc, Sound.ENTITY_PLAYER_ATTACK_CRIT, 1.0f, 1.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, impactLoc, Sound.ENTITY_SPIDER_DEATH, 1.0f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, impactLoc, Sound.BLOCK_WOOL_PLACE, 1.0f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, impactLoc, Sound.ENTITY_PLAYER_ATTACK_CRIT, 1.0f, 1.0f);
 
         // Message
         player.sendMessage("§a[Pet] §7Cible immobilisée §c" + String.format("%.1f", immobilizeDuration / 20.0) +
@@ -3845,9 +3848,9 @@ class PredatorInstinctPassive implements PetAbility {
             target.setGlowing(true);
 
             // Effet visuel de marquage
-            world.spawnParticle(Particle.WITCH, target.getLocation().add(0, 1.5, 0),
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, target.getLocation().add(0, 1.5, 0),
                 15, 0.3, 0.3, 0.3, 0.05);
-            world.playSound(target.getLocation(), Sound.ENTITY_PHANTOM_AMBIENT, 0.8f, 1.5f);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, target.getLocation(), Sound.ENTITY_PHANTOM_AMBIENT, 0.8f, 1.5f);
 
             player.sendMessage("§a[Pet] §c\uD83D\uDC41 Proie repérée! §7Cible marquée (§e<" +
                 (int)(adjustedThreshold * 100) + "% HP§7)");
@@ -3868,7 +3871,7 @@ class PredatorInstinctPassive implements PetAbility {
             double adjustedBonus = bonusDamageOnMarked + (petData.getStatMultiplier() - 1) * 0.10;
 
             // Effet visuel de prédateur
-            world.spawnParticle(Particle.CRIT, target.getLocation().add(0, 1, 0),
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, target.getLocation().add(0, 1, 0),
                 5, 0.2, 0.2, 0.2, 0.1);
 
             return damage * (1 + adjustedBonus);
@@ -3974,13 +3977,13 @@ class DeadlyDiveActive implements PetAbility {
 
         // Animation du plongeon du phantom
         player.sendMessage("§a[Pet] §5§l\uD83E\uDD87 PLONGEON MORTEL!");
-        world.playSound(playerLoc, Sound.ENTITY_PHANTOM_BITE, 1.0f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_PHANTOM_BITE, 1.0f, 0.5f);
 
         // Départ depuis le ciel (au-dessus du joueur)
         Location diveStart = playerLoc.clone().add(0, 10, 0);
         Vector direction = targetLoc.toVector().subtract(diveStart.toVector()).normalize();
 
-        new BukkitRunnable() {
+        new EffectTask() {
             Location currentLoc = diveStart.clone();
             int ticks = 0;
             final int maxTicks = 20; // 1 seconde de plongeon
@@ -3998,17 +4001,17 @@ class DeadlyDiveActive implements PetAbility {
                 currentLoc.add(direction.clone().multiply(0.8));
 
                 // Particules de phantom en mouvement
-                world.spawnParticle(Particle.WITCH, currentLoc, 10, 0.3, 0.3, 0.3, 0.02);
-                world.spawnParticle(Particle.SMOKE, currentLoc, 5, 0.2, 0.2, 0.2, 0.01);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, currentLoc, 10, 0.3, 0.3, 0.3, 0.02);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SMOKE, currentLoc, 5, 0.2, 0.2, 0.2, 0.01);
 
                 // Son de plongeon
                 if (ticks % 5 == 0) {
-                    world.playSound(currentLoc, Sound.ENTITY_PHANTOM_FLAP, 0.5f, 1.2f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, currentLoc, Sound.ENTITY_PHANTOM_FLAP, 0.5f, 1.2f);
                 }
 
                 ticks++;
             }
-        }.runTaskTimer(JavaPlugin.getPlugin(ZombieZPlugin.class), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 1L);
 
         return true;
     }
@@ -4030,10 +4033,10 @@ class DeadlyDiveActive implements PetAbility {
             damage = target.getHealth() + 100; // Assure la mort
 
             // Effets visuels d'exécution
-            world.spawnParticle(Particle.SOUL, impactLoc.add(0, 1, 0), 30, 0.5, 0.5, 0.5, 0.1);
-            world.spawnParticle(Particle.ENCHANTED_HIT, impactLoc, 20, 0.3, 0.3, 0.3, 0.2);
-            world.playSound(impactLoc, Sound.ENTITY_PHANTOM_DEATH, 1.0f, 0.5f);
-            world.playSound(impactLoc, Sound.ENTITY_WITHER_BREAK_BLOCK, 0.5f, 1.5f);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SOUL, impactLoc.add(0, 1, 0), 30, 0.5, 0.5, 0.5, 0.1);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ENCHANTED_HIT, impactLoc, 20, 0.3, 0.3, 0.3, 0.2);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, impactLoc, Sound.ENTITY_PHANTOM_DEATH, 1.0f, 0.5f);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, impactLoc, Sound.ENTITY_WITHER_BREAK_BLOCK, 0.5f, 1.5f);
 
             player.sendMessage("§a[Pet] §c§l💀 EXÉCUTION! §7La proie a été achevée!");
 
@@ -4043,15 +4046,15 @@ class DeadlyDiveActive implements PetAbility {
                 double newHealth = Math.min(player.getMaxHealth(), player.getHealth() + healAmount);
                 player.setHealth(newHealth);
                 player.sendMessage("§a[Pet] §d✦ Starpower: §a+" + (int)healAmount + " HP §7récupérés!");
-                world.spawnParticle(Particle.HEART, player.getLocation().add(0, 1.5, 0), 8, 0.3, 0.3, 0.3, 0);
-                world.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 0.5f, 1.5f);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.HEART, player.getLocation().add(0, 1.5, 0), 8, 0.3, 0.3, 0.3, 0);
+                ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 0.5f, 1.5f);
             }
         } else {
             // Dégâts normaux
-            world.spawnParticle(Particle.CRIT, impactLoc.add(0, 1, 0), 20, 0.5, 0.5, 0.5, 0.1);
-            world.spawnParticle(Particle.WITCH, impactLoc, 15, 0.3, 0.3, 0.3, 0.05);
-            world.playSound(impactLoc, Sound.ENTITY_PHANTOM_BITE, 1.0f, 1.0f);
-            world.playSound(impactLoc, Sound.ENTITY_PLAYER_ATTACK_CRIT, 1.0f, 0.8f);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, impactLoc.add(0, 1, 0), 20, 0.5, 0.5, 0.5, 0.1);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, impactLoc, 15, 0.3, 0.3, 0.3, 0.05);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, impactLoc, Sound.ENTITY_PHANTOM_BITE, 1.0f, 1.0f);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, impactLoc, Sound.ENTITY_PLAYER_ATTACK_CRIT, 1.0f, 0.8f);
 
             player.sendMessage("§a[Pet] §c\uD83E\uDD87 " + (int)damage + " §7dégâts! §8(Execute si <" +
                 (int)(adjustedExecuteThreshold * 100) + "% HP)");
@@ -4116,12 +4119,12 @@ class FrogBouncePassive implements PetAbility {
             Location targetLoc = target.getLocation();
 
             // Particules de bond (splash d'eau + slime)
-            world.spawnParticle(Particle.SPLASH, targetLoc.clone().add(0, 0.5, 0), 20, 0.5, 0.3, 0.5, 0.1);
-            world.spawnParticle(Particle.ITEM_SLIME, targetLoc, 10, 0.3, 0.3, 0.3, 0.05);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SPLASH, targetLoc.clone().add(0, 0.5, 0), 20, 0.5, 0.3, 0.5, 0.1);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ITEM_SLIME, targetLoc, 10, 0.3, 0.3, 0.3, 0.05);
 
             // Sons de grenouille
-            world.playSound(targetLoc, Sound.ENTITY_FROG_LONG_JUMP, 1.0f, 1.2f);
-            world.playSound(targetLoc, Sound.ENTITY_PLAYER_ATTACK_CRIT, 0.8f, 1.0f);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, targetLoc, Sound.ENTITY_FROG_LONG_JUMP, 1.0f, 1.2f);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, targetLoc, Sound.ENTITY_PLAYER_ATTACK_CRIT, 0.8f, 1.0f);
 
             player.sendMessage("§a[Pet] §2🐸 BOND! §c" + String.format("%.1f", bonusDamage) + " §7dégâts bonus + stun!");
 
@@ -4182,7 +4185,7 @@ class BouncingAssaultActive implements PetAbility {
         adjustedBounces = Math.min(adjustedBounces, Math.max(targets.size(), bounceCount));
 
         player.sendMessage("§a[Pet] §2§l🐸 ASSAUT BONDISSANT! §7(" + adjustedBounces + " bonds)");
-        world.playSound(playerLoc, Sound.ENTITY_FROG_LONG_JUMP, 1.0f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_FROG_LONG_JUMP, 1.0f, 0.8f);
 
         // Lancer la séquence de bonds
         executeBounceSequence(player, petData, targets, damagePerBounce, adjustedBounces, 0, playerLoc);
@@ -4227,7 +4230,7 @@ class BouncingAssaultActive implements PetAbility {
         double distance = direction.length();
         direction.normalize();
 
-        new BukkitRunnable() {
+        new EffectTask() {
             Location currentLoc = lastLoc.clone().add(0, 0.5, 0);
             int ticks = 0;
             final int maxTicks = 8; // Bond rapide
@@ -4259,12 +4262,12 @@ class BouncingAssaultActive implements PetAbility {
                 ).add(0, heightOffset, 0);
 
                 // Particules de bond
-                world.spawnParticle(Particle.SPLASH, currentLoc, 5, 0.1, 0.1, 0.1, 0.02);
-                world.spawnParticle(Particle.ITEM_SLIME, currentLoc, 3, 0.1, 0.1, 0.1, 0.01);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SPLASH, currentLoc, 5, 0.1, 0.1, 0.1, 0.02);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ITEM_SLIME, currentLoc, 3, 0.1, 0.1, 0.1, 0.01);
 
                 ticks++;
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 1L);
     }
 
     private void executeImpact(Player player, PetData petData, Monster target, double damage, World world) {
@@ -4281,12 +4284,12 @@ class BouncingAssaultActive implements PetAbility {
         petData.addDamage((long) damage);
 
         // Effets visuels d'impact
-        world.spawnParticle(Particle.SPLASH, impactLoc.add(0, 0.3, 0), 30, 0.5, 0.2, 0.5, 0.1);
-        world.spawnParticle(Particle.CRIT, impactLoc, 10, 0.3, 0.3, 0.3, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SPLASH, impactLoc.add(0, 0.3, 0), 30, 0.5, 0.2, 0.5, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, impactLoc, 10, 0.3, 0.3, 0.3, 0.1);
 
         // Son d'impact
-        world.playSound(impactLoc, Sound.ENTITY_FROG_STEP, 1.0f, 0.8f);
-        world.playSound(impactLoc, Sound.ENTITY_PLAYER_ATTACK_SWEEP, 0.8f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, impactLoc, Sound.ENTITY_FROG_STEP, 1.0f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, impactLoc, Sound.ENTITY_PLAYER_ATTACK_SWEEP, 0.8f, 1.2f);
     }
 }
 
@@ -4352,9 +4355,9 @@ class ArcticRoarActive implements PetAbility {
                     PotionEffectType.WEAKNESS, adjustedFreeze, 127, false, false));
 
                 // Effet visuel de gel sur chaque ennemi
-                world.spawnParticle(Particle.SNOWFLAKE, monster.getLocation().add(0, 1, 0),
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNOWFLAKE, monster.getLocation().add(0, 1, 0),
                     20, 0.5, 0.5, 0.5, 0.1);
-                world.spawnParticle(Particle.BLOCK, monster.getLocation(),
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, monster.getLocation(),
                     10, 0.3, 0.3, 0.3, 0, org.bukkit.Material.BLUE_ICE.createBlockData());
 
                 hitCount++;
@@ -4377,14 +4380,14 @@ class ArcticRoarActive implements PetAbility {
         }
 
         // Effet central
-        world.spawnParticle(Particle.EXPLOSION, playerLoc, 1, 0, 0, 0, 0);
-        world.spawnParticle(Particle.SNOWFLAKE, playerLoc, 100, 3, 1, 3, 0.2);
-        world.spawnParticle(Particle.CLOUD, playerLoc, 50, 2, 0.5, 2, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION, playerLoc, 1, 0, 0, 0, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNOWFLAKE, playerLoc, 100, 3, 1, 3, 0.2);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CLOUD, playerLoc, 50, 2, 0.5, 2, 0.1);
 
         // Son de rugissement d'ours
-        world.playSound(playerLoc, Sound.ENTITY_POLAR_BEAR_WARNING, 1.5f, 0.6f);
-        world.playSound(playerLoc, Sound.ENTITY_POLAR_BEAR_HURT, 1.0f, 0.5f);
-        world.playSound(playerLoc, Sound.BLOCK_GLASS_BREAK, 1.0f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_POLAR_BEAR_WARNING, 1.5f, 0.6f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_POLAR_BEAR_HURT, 1.0f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.BLOCK_GLASS_BREAK, 1.0f, 0.8f);
 
         // Message
         player.sendMessage("§a[Pet] §b§l❄ RUGISSEMENT ARCTIQUE! §7" + hitCount +
@@ -4401,8 +4404,8 @@ class ArcticRoarActive implements PetAbility {
                 0.1,
                 Math.sin(rad) * radius
             );
-            world.spawnParticle(Particle.SNOWFLAKE, ringLoc, 3, 0.1, 0.1, 0.1, 0.01);
-            world.spawnParticle(Particle.BLOCK, ringLoc, 2, 0.1, 0, 0.1, 0,
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNOWFLAKE, ringLoc, 3, 0.1, 0.1, 0.1, 0.01);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, ringLoc, 2, 0.1, 0, 0.1, 0,
                 org.bukkit.Material.PACKED_ICE.createBlockData());
         }
     }
@@ -4456,7 +4459,7 @@ class InkPuddlePassive implements PetAbility {
 
             // Indicateur de progression
             if (count == adjustedAttacks - 1) {
-                player.getWorld().spawnParticle(Particle.SQUID_INK, player.getLocation().add(0, 1.5, 0),
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SQUID_INK, player.getLocation().add(0, 1.5, 0),
                     5, 0.2, 0.2, 0.2, 0.01);
             }
         }
@@ -4479,13 +4482,13 @@ class InkPuddlePassive implements PetAbility {
         int adjustedDuration = (int) (puddleDurationTicks + (petData.getStatMultiplier() - 1) * 20);
 
         // Effet de création
-        world.playSound(center, Sound.ENTITY_GLOW_SQUID_SQUIRT, 1.2f, 0.8f);
-        world.playSound(center, Sound.BLOCK_SLIME_BLOCK_PLACE, 1.0f, 0.6f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_GLOW_SQUID_SQUIRT, 1.2f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.BLOCK_SLIME_BLOCK_PLACE, 1.0f, 0.6f);
 
         player.sendMessage("§a[Pet] §8§l🦑 ENCRE TOXIQUE! §7Flaque créée (" + (adjustedDuration / 20) + "s)");
 
         // Animation de la flaque
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticksAlive = 0;
             final Set<UUID> damagedThisTick = new HashSet<>();
 
@@ -4493,7 +4496,7 @@ class InkPuddlePassive implements PetAbility {
             public void run() {
                 if (ticksAlive >= adjustedDuration) {
                     // Effet de dissipation
-                    world.spawnParticle(Particle.SMOKE, center.clone().add(0, 0.3, 0),
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SMOKE, center.clone().add(0, 0.3, 0),
                         20, adjustedRadius * 0.5, 0.1, adjustedRadius * 0.5, 0.02);
                     cancel();
                     return;
@@ -4506,10 +4509,10 @@ class InkPuddlePassive implements PetAbility {
                         double r = Math.random() * adjustedRadius;
                         Location particleLoc = center.clone().add(
                             Math.cos(angle) * r, 0.1, Math.sin(angle) * r);
-                        world.spawnParticle(Particle.SQUID_INK, particleLoc, 1, 0, 0, 0, 0);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SQUID_INK, particleLoc, 1, 0, 0, 0, 0);
                     }
                     // Quelques bulles
-                    world.spawnParticle(Particle.BUBBLE_POP, center.clone().add(0, 0.2, 0),
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BUBBLE_POP, center.clone().add(0, 0.2, 0),
                         3, adjustedRadius * 0.3, 0, adjustedRadius * 0.3, 0);
                 }
 
@@ -4534,7 +4537,7 @@ class InkPuddlePassive implements PetAbility {
                                 petData.addDamage((long) secDamage);
 
                                 // Effet visuel sur le monstre
-                                world.spawnParticle(Particle.SQUID_INK, monster.getLocation().add(0, 0.5, 0),
+                                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SQUID_INK, monster.getLocation().add(0, 0.5, 0),
                                     5, 0.2, 0.2, 0.2, 0.02);
                             }
                         }
@@ -4543,7 +4546,7 @@ class InkPuddlePassive implements PetAbility {
 
                 ticksAlive++;
             }
-        }.runTaskTimer(JavaPlugin.getPlugin(ZombieZPlugin.class), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 1L);
     }
 
     public int getAttackCount(UUID uuid) {
@@ -4604,9 +4607,9 @@ class DarknessCloudActive implements PetAbility {
         }
 
         // Effet sonore de création du nuage
-        world.playSound(center, Sound.ENTITY_GLOW_SQUID_SQUIRT, 2.0f, 0.5f);
-        world.playSound(center, Sound.ENTITY_ELDER_GUARDIAN_CURSE, 0.5f, 2.0f);
-        world.playSound(center, Sound.AMBIENT_UNDERWATER_ENTER, 1.0f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_GLOW_SQUID_SQUIRT, 2.0f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_ELDER_GUARDIAN_CURSE, 0.5f, 2.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.AMBIENT_UNDERWATER_ENTER, 1.0f, 0.5f);
 
         player.sendMessage("§a[Pet] §8§l🦑 NUAGE D'OBSCURITÉ! §7" + affectedMonsters.size() +
             " zombies confus s'attaquent entre eux!");
@@ -4636,7 +4639,7 @@ class DarknessCloudActive implements PetAbility {
         final double infightDamage = playerDamage * 0.3 * petData.getStatMultiplier();
 
         // Animation du nuage d'encre et combat entre monstres
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticksAlive = 0;
             final int cloudDuration = adjustedConfusion;
             int nextInfightTick = 20; // Premier infight après 1 seconde
@@ -4650,9 +4653,9 @@ class DarknessCloudActive implements PetAbility {
                             mob.setTarget(player); // Remettre le joueur comme cible
                         }
                     }
-                    world.spawnParticle(Particle.SMOKE, center.clone().add(0, 1, 0),
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SMOKE, center.clone().add(0, 1, 0),
                         50, adjustedRadius * 0.5, 1, adjustedRadius * 0.5, 0.05);
-                    world.playSound(center, Sound.BLOCK_FIRE_EXTINGUISH, 0.8f, 0.5f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.BLOCK_FIRE_EXTINGUISH, 0.8f, 0.5f);
                     cancel();
                     return;
                 }
@@ -4666,10 +4669,10 @@ class DarknessCloudActive implements PetAbility {
                         double height = Math.random() * 3;
                         Location particleLoc = center.clone().add(
                             Math.cos(angle) * r, height, Math.sin(angle) * r);
-                        world.spawnParticle(Particle.SQUID_INK, particleLoc, 1, 0.1, 0.1, 0.1, 0);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SQUID_INK, particleLoc, 1, 0.1, 0.1, 0.1, 0);
                     }
                     // Quelques particules de glow
-                    world.spawnParticle(Particle.GLOW, center.clone().add(0, 1.5, 0),
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.GLOW, center.clone().add(0, 1.5, 0),
                         3, adjustedRadius * 0.3, 1, adjustedRadius * 0.3, 0.01);
                 }
 
@@ -4714,15 +4717,15 @@ class DarknessCloudActive implements PetAbility {
                                 Location targetLoc = target.getLocation();
                                 Location midPoint = attackerLoc.clone().add(targetLoc).multiply(0.5).add(0, 1, 0);
 
-                                world.spawnParticle(Particle.SWEEP_ATTACK, midPoint, 1, 0, 0, 0, 0);
-                                world.spawnParticle(Particle.SQUID_INK, targetLoc.add(0, 1, 0),
+                                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SWEEP_ATTACK, midPoint, 1, 0, 0, 0, 0);
+                                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SQUID_INK, targetLoc.add(0, 1, 0),
                                     8, 0.3, 0.3, 0.3, 0.05);
-                                world.spawnParticle(Particle.DAMAGE_INDICATOR, targetLoc,
+                                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DAMAGE_INDICATOR, targetLoc,
                                     3, 0.2, 0.2, 0.2, 0.1);
 
                                 // Son d'attaque
                                 if (Math.random() < 0.3) {
-                                    world.playSound(targetLoc, Sound.ENTITY_PLAYER_ATTACK_SWEEP, 0.5f, 0.8f);
+                                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, targetLoc, Sound.ENTITY_PLAYER_ATTACK_SWEEP, 0.5f, 0.8f);
                                 }
                             }
                         }
@@ -4731,12 +4734,12 @@ class DarknessCloudActive implements PetAbility {
 
                 ticksAlive++;
             }
-        }.runTaskTimer(JavaPlugin.getPlugin(ZombieZPlugin.class), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, null, 0L, 1L);
 
         // Effet visuel initial (explosion d'encre)
-        world.spawnParticle(Particle.SQUID_INK, center.clone().add(0, 1, 0),
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SQUID_INK, center.clone().add(0, 1, 0),
             100, adjustedRadius * 0.5, 1.5, adjustedRadius * 0.5, 0.1);
-        world.spawnParticle(Particle.GLOW, center.clone().add(0, 1.5, 0),
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.GLOW, center.clone().add(0, 1.5, 0),
             30, adjustedRadius * 0.3, 1, adjustedRadius * 0.3, 0.05);
 
         return true;
@@ -4824,7 +4827,7 @@ class SwarmRetaliationPassive implements PetAbility {
             }
 
             // Son de l'essaim
-            world.playSound(playerLoc, Sound.ENTITY_BEE_LOOP_AGGRESSIVE, 1.0f, 1.2f);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_BEE_LOOP_AGGRESSIVE, 1.0f, 1.2f);
 
             // Limiter les messages (1 message max toutes les 5 secondes)
             long lastMsgTime = lastMessage.getOrDefault(uuid, 0L);
@@ -4840,7 +4843,7 @@ class SwarmRetaliationPassive implements PetAbility {
 
         World world = start.getWorld();
 
-        new BukkitRunnable() {
+        new EffectTask() {
             Location currentLoc = start.clone().add(0, 1, 0);
             int ticks = 0;
             final int maxTicks = 15;
@@ -4861,8 +4864,8 @@ class SwarmRetaliationPassive implements PetAbility {
                     petData.addDamage((long) damage);
 
                     // Effet d'impact
-                    world.spawnParticle(Particle.CRIT, targetLoc, 5, 0.2, 0.2, 0.2, 0.1);
-                    world.playSound(targetLoc, Sound.ENTITY_BEE_STING, 0.8f, 1.5f);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, targetLoc, 5, 0.2, 0.2, 0.2, 0.1);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, targetLoc, Sound.ENTITY_BEE_STING, 0.8f, 1.5f);
                     cancel();
                     return;
                 }
@@ -4879,12 +4882,12 @@ class SwarmRetaliationPassive implements PetAbility {
                 );
 
                 // Particules d'abeille
-                world.spawnParticle(Particle.WAX_ON, currentLoc, 2, 0.1, 0.1, 0.1, 0);
-                world.spawnParticle(Particle.FALLING_HONEY, currentLoc, 1, 0, 0, 0, 0);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WAX_ON, currentLoc, 2, 0.1, 0.1, 0.1, 0);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FALLING_HONEY, currentLoc, 1, 0, 0, 0, 0);
 
                 ticks++;
             }
-        }.runTaskTimer(JavaPlugin.getPlugin(ZombieZPlugin.class), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 1L);
     }
 }
 
@@ -4943,8 +4946,8 @@ class SwarmFuryActive implements PetAbility {
             (adjustedDuration / 20) + "s!");
 
         // Son initial de rage
-        world.playSound(playerLoc, Sound.ENTITY_BEE_LOOP_AGGRESSIVE, 2.0f, 0.8f);
-        world.playSound(playerLoc, Sound.ENTITY_EVOKER_PREPARE_ATTACK, 0.8f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_BEE_LOOP_AGGRESSIVE, 2.0f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_EVOKER_PREPARE_ATTACK, 0.8f, 1.5f);
 
         // Spawner les 3 mini-abeilles
         List<Bee> miniBees = new ArrayList<>();
@@ -4979,11 +4982,11 @@ class SwarmFuryActive implements PetAbility {
             miniBees.add(bee);
 
             // Effet de spawn
-            world.spawnParticle(Particle.WAX_ON, spawnLoc, 20, 0.3, 0.3, 0.3, 0.1);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WAX_ON, spawnLoc, 20, 0.3, 0.3, 0.3, 0.1);
         }
 
         // Animation et attaques des abeilles
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticksAlive = 0;
             int nextStingTick = stingIntervalTicks;
             final double[] beeAngles = {0, 2 * Math.PI / 3, 4 * Math.PI / 3};
@@ -4995,11 +4998,11 @@ class SwarmFuryActive implements PetAbility {
                     // Supprimer les abeilles
                     for (Bee bee : miniBees) {
                         if (bee.isValid()) {
-                            world.spawnParticle(Particle.WAX_OFF, bee.getLocation(), 15, 0.3, 0.3, 0.3, 0.1);
+                            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WAX_OFF, bee.getLocation(), 15, 0.3, 0.3, 0.3, 0.1);
                             bee.remove();
                         }
                     }
-                    world.playSound(player.getLocation(), Sound.ENTITY_BEE_LOOP, 0.5f, 0.5f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player.getLocation(), Sound.ENTITY_BEE_LOOP, 0.5f, 0.5f);
                     player.sendMessage("§a[Pet] §7L'essaim se calme...");
                     cancel();
                     return;
@@ -5027,13 +5030,13 @@ class SwarmFuryActive implements PetAbility {
 
                     // Particules de traînée
                     if (ticksAlive % 2 == 0) {
-                        world.spawnParticle(Particle.WAX_ON, newLoc, 1, 0, 0, 0, 0);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WAX_ON, newLoc, 1, 0, 0, 0, 0);
                     }
                 }
 
                 // Son de bourdonnement
                 if (ticksAlive % 20 == 0) {
-                    world.playSound(center, Sound.ENTITY_BEE_LOOP_AGGRESSIVE, 0.6f, 1.0f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_BEE_LOOP_AGGRESSIVE, 0.6f, 1.0f);
                 }
 
                 // Attaquer tous les ennemis à intervalle régulier
@@ -5064,7 +5067,7 @@ class SwarmFuryActive implements PetAbility {
 
                 ticksAlive++;
             }
-        }.runTaskTimer(JavaPlugin.getPlugin(ZombieZPlugin.class), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, null, 0L, 1L);
 
         return true;
     }
@@ -5075,7 +5078,7 @@ class SwarmFuryActive implements PetAbility {
         Location targetLoc = target.getLocation().add(0, 1, 0);
         Vector direction = targetLoc.toVector().subtract(from.toVector()).normalize();
 
-        new BukkitRunnable() {
+        new EffectTask() {
             Location currentLoc = from.clone();
             int ticks = 0;
 
@@ -5089,7 +5092,7 @@ class SwarmFuryActive implements PetAbility {
                 currentLoc.add(direction.clone().multiply(1.5));
 
                 // Particules de trajectoire
-                world.spawnParticle(Particle.ENCHANTED_HIT, currentLoc, 2, 0.05, 0.05, 0.05, 0);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ENCHANTED_HIT, currentLoc, 2, 0.05, 0.05, 0.05, 0);
 
                 // Vérifier si on a atteint la cible
                 if (currentLoc.distanceSquared(targetLoc) < 2) {
@@ -5098,9 +5101,9 @@ class SwarmFuryActive implements PetAbility {
                     petData.addDamage((long) damage);
 
                     // Effet de piqûre
-                    world.spawnParticle(Particle.CRIT, targetLoc, 8, 0.3, 0.3, 0.3, 0.1);
-                    world.spawnParticle(Particle.FALLING_HONEY, targetLoc, 3, 0.2, 0.2, 0.2, 0);
-                    world.playSound(targetLoc, Sound.ENTITY_BEE_STING, 0.6f, 1.2f);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, targetLoc, 8, 0.3, 0.3, 0.3, 0.1);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FALLING_HONEY, targetLoc, 3, 0.2, 0.2, 0.2, 0);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, targetLoc, Sound.ENTITY_BEE_STING, 0.6f, 1.2f);
 
                     cancel();
                     return;
@@ -5108,7 +5111,7 @@ class SwarmFuryActive implements PetAbility {
 
                 ticks++;
             }
-        }.runTaskTimer(JavaPlugin.getPlugin(ZombieZPlugin.class), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 1L);
     }
 }
 
@@ -5201,8 +5204,8 @@ class VoidTentaclePassive implements PetAbility {
         double tentacleDamage = playerDamage * (isUltimate ? adjustedDmgPercent * 1.5 : adjustedDmgPercent);
 
         // Son d'invocation
-        world.playSound(center, Sound.ENTITY_WARDEN_EMERGE, 0.8f, 1.5f);
-        world.playSound(center, Sound.ENTITY_ELDER_GUARDIAN_CURSE, 0.5f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_WARDEN_EMERGE, 0.8f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_ELDER_GUARDIAN_CURSE, 0.5f, 0.5f);
 
         if (!isUltimate) {
             int currentActive = activeTentacleCount.getOrDefault(uuid, 0);
@@ -5246,12 +5249,12 @@ class VoidTentaclePassive implements PetAbility {
         UUID uuid = player.getUniqueId();
 
         // Effet d'émergence
-        world.spawnParticle(Particle.PORTAL, spawnLoc, 30, 0.3, 0.5, 0.3, 0.5);
-        world.spawnParticle(Particle.SQUID_INK, spawnLoc, 15, 0.2, 0.3, 0.2, 0.1);
-        world.playSound(spawnLoc, Sound.ENTITY_SQUID_SQUIRT, 1.0f, 0.6f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.PORTAL, spawnLoc, 30, 0.3, 0.5, 0.3, 0.5);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SQUID_INK, spawnLoc, 15, 0.2, 0.3, 0.2, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, spawnLoc, Sound.ENTITY_SQUID_SQUIRT, 1.0f, 0.6f);
 
         // Animation du tentacule
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticksAlive = 0;
             double tentacleHeight = 0;
             final double maxHeight = isUltimate ? 4.0 : 2.5;
@@ -5267,9 +5270,9 @@ class VoidTentaclePassive implements PetAbility {
                     }
 
                     // Disparition du tentacule
-                    world.spawnParticle(Particle.PORTAL, spawnLoc.clone().add(0, tentacleHeight / 2, 0),
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.PORTAL, spawnLoc.clone().add(0, tentacleHeight / 2, 0),
                         20, 0.3, tentacleHeight / 2, 0.3, 0.3);
-                    world.playSound(spawnLoc, Sound.ENTITY_SQUID_HURT, 0.8f, 0.8f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, spawnLoc, Sound.ENTITY_SQUID_HURT, 0.8f, 0.8f);
                     cancel();
                     return;
                 }
@@ -5289,10 +5292,10 @@ class VoidTentaclePassive implements PetAbility {
                         Location particleLoc = spawnLoc.clone().add(wave, h, wave2);
 
                         // Couleur violette/sombre pour le vide
-                        world.spawnParticle(Particle.PORTAL, particleLoc, 1, 0.05, 0.05, 0.05, 0);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.PORTAL, particleLoc, 1, 0.05, 0.05, 0.05, 0);
                         if (h > tentacleHeight - 0.8) {
                             // Bout du tentacule plus visible
-                            world.spawnParticle(Particle.WITCH, particleLoc, 1, 0.1, 0.1, 0.1, 0);
+                            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, particleLoc, 1, 0.1, 0.1, 0.1, 0);
                         }
                     }
                 }
@@ -5317,8 +5320,8 @@ class VoidTentaclePassive implements PetAbility {
 
                                 // Effet visuel d'attaque
                                 Location monsterLoc = monster.getLocation().add(0, 1, 0);
-                                world.spawnParticle(Particle.SQUID_INK, monsterLoc, 8, 0.3, 0.3, 0.3, 0.05);
-                                world.spawnParticle(Particle.ENCHANTED_HIT, monsterLoc, 5, 0.2, 0.2, 0.2, 0.1);
+                                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SQUID_INK, monsterLoc, 8, 0.3, 0.3, 0.3, 0.05);
+                                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ENCHANTED_HIT, monsterLoc, 5, 0.2, 0.2, 0.2, 0.1);
 
                                 // Ligne de particules du tentacule vers la cible
                                 Vector dir = monsterLoc.toVector().subtract(spawnLoc.clone().add(0, tentacleHeight, 0).toVector());
@@ -5326,19 +5329,19 @@ class VoidTentaclePassive implements PetAbility {
                                 dir.normalize();
                                 for (double d = 0; d < dist; d += 0.5) {
                                     Location lineLoc = spawnLoc.clone().add(0, tentacleHeight, 0).add(dir.clone().multiply(d));
-                                    world.spawnParticle(Particle.PORTAL, lineLoc, 1, 0, 0, 0, 0);
+                                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.PORTAL, lineLoc, 1, 0, 0, 0, 0);
                                 }
                             }
                         }
                     }
 
                     // Son d'attaque
-                    world.playSound(spawnLoc, Sound.ENTITY_SQUID_SQUIRT, 0.6f, 1.2f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, spawnLoc, Sound.ENTITY_SQUID_SQUIRT, 0.6f, 1.2f);
                 }
 
                 ticksAlive++;
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 1L);
     }
 }
 
@@ -5400,14 +5403,14 @@ class VoidEruptionActive implements PetAbility {
             " tentacules géants pendant " + (adjustedDuration / 20) + "s!");
 
         // Effet d'éruption centrale
-        world.spawnParticle(Particle.EXPLOSION, playerLoc, 3, 1, 0.5, 1, 0);
-        world.spawnParticle(Particle.PORTAL, playerLoc, 100, 2, 1, 2, 1);
-        world.spawnParticle(Particle.SQUID_INK, playerLoc, 50, 1.5, 0.5, 1.5, 0.2);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION, playerLoc, 3, 1, 0.5, 1, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.PORTAL, playerLoc, 100, 2, 1, 2, 1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SQUID_INK, playerLoc, 50, 1.5, 0.5, 1.5, 0.2);
 
         // Sons épiques
-        world.playSound(playerLoc, Sound.ENTITY_WARDEN_ROAR, 0.6f, 1.5f);
-        world.playSound(playerLoc, Sound.ENTITY_ELDER_GUARDIAN_CURSE, 1.0f, 0.3f);
-        world.playSound(playerLoc, Sound.ENTITY_ENDER_DRAGON_GROWL, 0.4f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_WARDEN_ROAR, 0.6f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_ELDER_GUARDIAN_CURSE, 1.0f, 0.3f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_ENDER_DRAGON_GROWL, 0.4f, 1.5f);
 
         // Spawner les tentacules en cercle élargi
         for (int i = 0; i < adjustedCount; i++) {
@@ -5436,13 +5439,13 @@ class VoidEruptionActive implements PetAbility {
         World world = spawnLoc.getWorld();
 
         // Effet d'émergence épique
-        world.spawnParticle(Particle.PORTAL, spawnLoc, 50, 0.5, 1, 0.5, 1);
-        world.spawnParticle(Particle.SQUID_INK, spawnLoc, 30, 0.3, 0.5, 0.3, 0.2);
-        world.spawnParticle(Particle.REVERSE_PORTAL, spawnLoc, 20, 0.5, 0.1, 0.5, 0.1);
-        world.playSound(spawnLoc, Sound.ENTITY_WARDEN_EMERGE, 1.0f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.PORTAL, spawnLoc, 50, 0.5, 1, 0.5, 1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SQUID_INK, spawnLoc, 30, 0.3, 0.5, 0.3, 0.2);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.REVERSE_PORTAL, spawnLoc, 20, 0.5, 0.1, 0.5, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, spawnLoc, Sound.ENTITY_WARDEN_EMERGE, 1.0f, 1.2f);
 
         // Animation du tentacule géant
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticksAlive = 0;
             double tentacleHeight = 0;
             final double maxHeight = 5.0;
@@ -5455,9 +5458,9 @@ class VoidEruptionActive implements PetAbility {
                     // Disparition épique
                     for (double h = 0; h < tentacleHeight; h += 0.5) {
                         Location particleLoc = spawnLoc.clone().add(0, h, 0);
-                        world.spawnParticle(Particle.PORTAL, particleLoc, 5, 0.3, 0.3, 0.3, 0.5);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.PORTAL, particleLoc, 5, 0.3, 0.3, 0.3, 0.5);
                     }
-                    world.playSound(spawnLoc, Sound.ENTITY_SQUID_DEATH, 1.0f, 0.6f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, spawnLoc, Sound.ENTITY_SQUID_DEATH, 1.0f, 0.6f);
                     cancel();
                     return;
                 }
@@ -5477,13 +5480,13 @@ class VoidEruptionActive implements PetAbility {
 
                         // Tentacule principal
                         Location particleLoc = spawnLoc.clone().add(wave, h, wave2);
-                        world.spawnParticle(Particle.PORTAL, particleLoc, 2, 0.1, 0.1, 0.1, 0);
-                        world.spawnParticle(Particle.WITCH, particleLoc, 1, 0.1, 0.1, 0.1, 0);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.PORTAL, particleLoc, 2, 0.1, 0.1, 0.1, 0);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, particleLoc, 1, 0.1, 0.1, 0.1, 0);
 
                         // Bout du tentacule (tête)
                         if (h > tentacleHeight - 1.0) {
-                            world.spawnParticle(Particle.SQUID_INK, particleLoc, 2, 0.2, 0.2, 0.2, 0.02);
-                            world.spawnParticle(Particle.DRAGON_BREATH, particleLoc, 1, 0.15, 0.15, 0.15, 0);
+                            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SQUID_INK, particleLoc, 2, 0.2, 0.2, 0.2, 0.02);
+                            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DRAGON_BREATH, particleLoc, 1, 0.15, 0.15, 0.15, 0);
                         }
                     }
 
@@ -5495,7 +5498,7 @@ class VoidEruptionActive implements PetAbility {
                             0.1,
                             Math.sin(rad) * radius * 0.8
                         );
-                        world.spawnParticle(Particle.PORTAL, ringLoc, 1, 0, 0, 0, 0);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.PORTAL, ringLoc, 1, 0, 0, 0, 0);
                     }
                 }
 
@@ -5521,9 +5524,9 @@ class VoidEruptionActive implements PetAbility {
 
                                 // Effet visuel d'attaque
                                 Location monsterLoc = monster.getLocation().add(0, 1, 0);
-                                world.spawnParticle(Particle.SQUID_INK, monsterLoc, 12, 0.4, 0.4, 0.4, 0.08);
-                                world.spawnParticle(Particle.ENCHANTED_HIT, monsterLoc, 8, 0.3, 0.3, 0.3, 0.15);
-                                world.spawnParticle(Particle.DRAGON_BREATH, monsterLoc, 3, 0.2, 0.2, 0.2, 0.02);
+                                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SQUID_INK, monsterLoc, 12, 0.4, 0.4, 0.4, 0.08);
+                                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ENCHANTED_HIT, monsterLoc, 8, 0.3, 0.3, 0.3, 0.15);
+                                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DRAGON_BREATH, monsterLoc, 3, 0.2, 0.2, 0.2, 0.02);
                             }
                         }
                     }
@@ -5536,23 +5539,23 @@ class VoidEruptionActive implements PetAbility {
                         player.setHealth(newHealth);
 
                         // Effet visuel de drain
-                        world.spawnParticle(Particle.HEART, player.getLocation().add(0, 1.5, 0),
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.HEART, player.getLocation().add(0, 1.5, 0),
                             3, 0.3, 0.3, 0.3, 0);
                     }
 
                     // Son d'attaque
-                    world.playSound(spawnLoc, Sound.ENTITY_SQUID_SQUIRT, 0.8f, 0.8f);
-                    world.playSound(spawnLoc, Sound.ENTITY_WARDEN_ATTACK_IMPACT, 0.3f, 1.5f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, spawnLoc, Sound.ENTITY_SQUID_SQUIRT, 0.8f, 0.8f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, spawnLoc, Sound.ENTITY_WARDEN_ATTACK_IMPACT, 0.3f, 1.5f);
                 }
 
                 // Son ambiant toutes les 30 ticks
                 if (ticksAlive % 30 == 0) {
-                    world.playSound(spawnLoc, Sound.ENTITY_SQUID_AMBIENT, 0.4f, 0.5f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, spawnLoc, Sound.ENTITY_SQUID_AMBIENT, 0.4f, 0.5f);
                 }
 
                 ticksAlive++;
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 1L);
     }
 }
 
@@ -5638,7 +5641,7 @@ class VoidScreamPassive implements PetAbility {
         var plugin = (com.rinaorc.zombiez.ZombieZPlugin) Bukkit.getPluginManager().getPlugin("ZombieZ");
         if (plugin == null) return;
 
-        var playerStats = plugin.getItemManager().calculatePlayerStats(player);
+        var playerStats = plugin.getItemManager().getStatVector(player);
         double flatDamage = playerStats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE, 0.0);
         double damagePercent = playerStats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE_PERCENT, 0.0);
         double baseDamage = (7.0 + flatDamage) * (1.0 + damagePercent);
@@ -5648,8 +5651,8 @@ class VoidScreamPassive implements PetAbility {
         boolean applyBlindness = shouldApplyBlindness(petData);
 
         // Effet visuel du cri
-        world.playSound(center, Sound.ENTITY_ENDERMAN_SCREAM, 1.5f, 0.5f);
-        world.playSound(center, Sound.ENTITY_ENDERMAN_STARE, 1.0f, 0.7f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_ENDERMAN_SCREAM, 1.5f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_ENDERMAN_STARE, 1.0f, 0.7f);
 
         // Particules d'onde de choc violette
         for (double angle = 0; angle < 360; angle += 15) {
@@ -5658,8 +5661,8 @@ class VoidScreamPassive implements PetAbility {
                 double x = center.getX() + r * Math.cos(rad);
                 double z = center.getZ() + r * Math.sin(rad);
                 Location particleLoc = new Location(world, x, center.getY() + 0.5, z);
-                world.spawnParticle(Particle.PORTAL, particleLoc, 2, 0.1, 0.3, 0.1, 0);
-                world.spawnParticle(Particle.WITCH, particleLoc, 1, 0.1, 0.2, 0.1, 0);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.PORTAL, particleLoc, 2, 0.1, 0.3, 0.1, 0);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, particleLoc, 1, 0.1, 0.2, 0.1, 0);
             }
         }
 
@@ -5683,7 +5686,7 @@ class VoidScreamPassive implements PetAbility {
                 applyVoidDoT(player, living, damagePerTick, dotDurationTicks, plugin);
 
                 // Particules sur chaque cible
-                world.spawnParticle(Particle.REVERSE_PORTAL, living.getLocation().add(0, 1, 0),
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.REVERSE_PORTAL, living.getLocation().add(0, 1, 0),
                     15, 0.3, 0.5, 0.3, 0.05);
             }
         }
@@ -5701,7 +5704,7 @@ class VoidScreamPassive implements PetAbility {
      */
     private void applyVoidDoT(Player player, LivingEntity target, double damagePerTick,
                                int totalTicks, com.rinaorc.zombiez.ZombieZPlugin plugin) {
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticksRemaining = totalTicks;
 
             @Override
@@ -5730,13 +5733,13 @@ class VoidScreamPassive implements PetAbility {
                     }
 
                     // Petites particules de dégâts
-                    target.getWorld().spawnParticle(Particle.WITCH,
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH,
                         target.getLocation().add(0, 1, 0), 5, 0.2, 0.3, 0.2, 0);
                 }
 
                 ticksRemaining--;
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 1L);
     }
 
     public void onKill(Player player, LivingEntity victim, PetData petData) { }
@@ -5801,7 +5804,7 @@ class PhantomStrikeActive implements PetAbility {
         if (plugin == null) return false;
 
         // Calculer les dégâts du joueur
-        var playerStats = plugin.getItemManager().calculatePlayerStats(player);
+        var playerStats = plugin.getItemManager().getStatVector(player);
         double flatDamage = playerStats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE, 0.0);
         double damagePercent = playerStats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE_PERCENT, 0.0);
         double baseDamage = (7.0 + flatDamage) * (1.0 + damagePercent) * petData.getStatMultiplier();
@@ -5823,7 +5826,7 @@ class PhantomStrikeActive implements PetAbility {
 
         // Lancer la chaîne de téléportation
         player.sendMessage("§5[Pet] §d⚡ §5Frappe Fantôme activée! §7(" + maxChains + " cibles)");
-        world.playSound(start, Sound.ENTITY_ENDERMAN_TELEPORT, 1.5f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, start, Sound.ENTITY_ENDERMAN_TELEPORT, 1.5f, 1.2f);
 
         executePhantomChain(player, firstTarget, strikeDamage, echoDamage, maxChains, finalVortex, plugin);
         return true;
@@ -5839,7 +5842,7 @@ class PhantomStrikeActive implements PetAbility {
         Set<UUID> hitTargets = new HashSet<>();
         List<Location> echoLocations = new ArrayList<>();
 
-        new BukkitRunnable() {
+        new EffectTask() {
             int chainsRemaining = maxChains;
             LivingEntity currentTarget = firstTarget;
             Location phantomLoc = player.getLocation().clone();
@@ -5860,9 +5863,9 @@ class PhantomStrikeActive implements PetAbility {
                 phantomLoc = targetLoc.clone();
 
                 // Effet visuel de téléportation
-                world.playSound(targetLoc, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 1.5f);
-                world.spawnParticle(Particle.PORTAL, targetLoc.add(0, 1, 0), 30, 0.5, 1, 0.5, 0.1);
-                world.spawnParticle(Particle.REVERSE_PORTAL, targetLoc, 20, 0.3, 0.8, 0.3, 0.05);
+                ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, targetLoc, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 1.5f);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.PORTAL, targetLoc.add(0, 1, 0), 30, 0.5, 1, 0.5, 0.1);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.REVERSE_PORTAL, targetLoc, 20, 0.3, 0.8, 0.3, 0.05);
 
                 // Infliger les dégâts
                 dealPhantomDamage(player, currentTarget, strikeDamage, plugin);
@@ -5876,7 +5879,7 @@ class PhantomStrikeActive implements PetAbility {
                 // Chercher la prochaine cible
                 currentTarget = findNearestEnemy(phantomLoc, world, hitTargets, chainRadius);
             }
-        }.runTaskTimer(plugin, 0L, 6L); // 6 ticks = 0.3s entre chaque TP
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 6L); // 6 ticks = 0.3s entre chaque TP
     }
 
     /**
@@ -5924,7 +5927,7 @@ class PhantomStrikeActive implements PetAbility {
      */
     private void spawnEchoMarker(Location loc, World world) {
         // Particules sombres indiquant où l'écho va exploser
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticks = 0;
 
             @Override
@@ -5933,11 +5936,11 @@ class PhantomStrikeActive implements PetAbility {
                     cancel();
                     return;
                 }
-                world.spawnParticle(Particle.WITCH, loc, 5, 0.3, 0.3, 0.3, 0);
-                world.spawnParticle(Particle.SMOKE, loc, 3, 0.2, 0.2, 0.2, 0.01);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, loc, 5, 0.3, 0.3, 0.3, 0);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SMOKE, loc, 3, 0.2, 0.2, 0.2, 0.01);
                 ticks++;
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, null, 0L, 1L);
     }
 
     /**
@@ -5957,11 +5960,11 @@ class PhantomStrikeActive implements PetAbility {
             boolean isLast = (i == echoLocations.size() - 1);
 
             // Effet d'explosion
-            world.playSound(echoLoc, Sound.ENTITY_ENDERMAN_HURT, 0.8f, 0.6f);
-            world.playSound(echoLoc, Sound.ENTITY_GENERIC_EXPLODE, 0.5f, 1.5f);
-            world.spawnParticle(Particle.EXPLOSION, echoLoc, 1, 0, 0, 0, 0);
-            world.spawnParticle(Particle.PORTAL, echoLoc, 50, 1, 1, 1, 0.5);
-            world.spawnParticle(Particle.REVERSE_PORTAL, echoLoc, 30, 0.5, 0.5, 0.5, 0.2);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, echoLoc, Sound.ENTITY_ENDERMAN_HURT, 0.8f, 0.6f);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, echoLoc, Sound.ENTITY_GENERIC_EXPLODE, 0.5f, 1.5f);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION, echoLoc, 1, 0, 0, 0, 0);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.PORTAL, echoLoc, 50, 1, 1, 1, 0.5);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.REVERSE_PORTAL, echoLoc, 30, 0.5, 0.5, 0.5, 0.2);
 
             // Dégâts AoE
             for (Entity entity : world.getNearbyEntities(echoLoc, echoRadius, echoRadius, echoRadius)) {
@@ -5993,18 +5996,18 @@ class PhantomStrikeActive implements PetAbility {
         double vortexRadius = 5.0;
         int vortexDuration = 40; // 2 secondes
 
-        world.playSound(center, Sound.ENTITY_ENDERMAN_STARE, 1.5f, 0.3f);
-        world.playSound(center, Sound.BLOCK_PORTAL_AMBIENT, 1.0f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_ENDERMAN_STARE, 1.5f, 0.3f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.BLOCK_PORTAL_AMBIENT, 1.0f, 0.5f);
 
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticks = 0;
 
             @Override
             public void run() {
                 if (ticks >= vortexDuration) {
                     // Explosion finale
-                    world.playSound(center, Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 0.8f);
-                    world.spawnParticle(Particle.EXPLOSION_EMITTER, center, 1, 0, 0, 0, 0);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 0.8f);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION_EMITTER, center, 1, 0, 0, 0, 0);
                     cancel();
                     return;
                 }
@@ -6016,7 +6019,7 @@ class PhantomStrikeActive implements PetAbility {
                     double x = center.getX() + r * Math.cos(rad);
                     double z = center.getZ() + r * Math.sin(rad);
                     Location particleLoc = new Location(world, x, center.getY() + 0.5, z);
-                    world.spawnParticle(Particle.PORTAL, particleLoc, 3, 0.1, 0.2, 0.1, 0);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.PORTAL, particleLoc, 3, 0.1, 0.2, 0.1, 0);
                 }
 
                 // Attirer les ennemis vers le centre
@@ -6034,7 +6037,7 @@ class PhantomStrikeActive implements PetAbility {
 
                 ticks++;
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, null, 0L, 1L);
     }
 
     public void onKill(Player player, LivingEntity victim, PetData petData) { }
@@ -6118,7 +6121,7 @@ class WarLeapPassive implements PetAbility {
         Location playerLoc = player.getLocation();
 
         // Calculer les dégâts du joueur
-        var playerStats = plugin.getItemManager().calculatePlayerStats(player);
+        var playerStats = plugin.getItemManager().getStatVector(player);
         double flatDamage = playerStats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE, 0.0);
         double damagePercent = playerStats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE_PERCENT, 0.0);
         double baseDamage = (7.0 + flatDamage) * (1.0 + damagePercent);
@@ -6126,26 +6129,26 @@ class WarLeapPassive implements PetAbility {
         double leapDamage = baseDamage * getEffectiveDamagePercent(petData) * petData.getStatMultiplier();
 
         // Son de saut
-        world.playSound(playerLoc, Sound.ENTITY_PIGLIN_BRUTE_ANGRY, 1.5f, 0.8f);
-        world.playSound(playerLoc, Sound.ENTITY_RAVAGER_ATTACK, 0.8f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_PIGLIN_BRUTE_ANGRY, 1.5f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_RAVAGER_ATTACK, 0.8f, 1.2f);
 
         // Animation de saut (particules arc)
         animateLeapTrail(playerLoc, targetLoc, world);
 
         // Impact après un court délai
-        new BukkitRunnable() {
+        new EffectTask() {
             @Override
             public void run() {
                 executeLeapImpact(player, targetLoc, leapDamage, plugin);
             }
-        }.runTaskLater(plugin, 8L); // 0.4s de délai pour l'animation
+        }.runTaskLater(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 8L); // 0.4s de délai pour l'animation
     }
 
     /**
      * Anime la trajectoire du saut
      */
     private void animateLeapTrail(Location start, Location end, World world) {
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticks = 0;
             final int maxTicks = 8;
 
@@ -6164,12 +6167,12 @@ class WarLeapPassive implements PetAbility {
                 double y = start.getY() + (end.getY() - start.getY()) * progress + height;
 
                 Location trailLoc = new Location(world, x, y, z);
-                world.spawnParticle(Particle.FLAME, trailLoc, 5, 0.2, 0.2, 0.2, 0.02);
-                world.spawnParticle(Particle.SMOKE, trailLoc, 3, 0.1, 0.1, 0.1, 0.01);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, trailLoc, 5, 0.2, 0.2, 0.2, 0.02);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SMOKE, trailLoc, 3, 0.1, 0.1, 0.1, 0.01);
 
                 ticks++;
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, null, 0L, 1L);
     }
 
     /**
@@ -6181,14 +6184,14 @@ class WarLeapPassive implements PetAbility {
         if (world == null) return;
 
         // Effet d'impact
-        world.playSound(impactLoc, Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 0.7f);
-        world.playSound(impactLoc, Sound.ENTITY_PIGLIN_BRUTE_HURT, 1.0f, 0.6f);
-        world.playSound(impactLoc, Sound.BLOCK_ANVIL_LAND, 0.8f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, impactLoc, Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 0.7f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, impactLoc, Sound.ENTITY_PIGLIN_BRUTE_HURT, 1.0f, 0.6f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, impactLoc, Sound.BLOCK_ANVIL_LAND, 0.8f, 0.5f);
 
         // Particules d'impact au sol
-        world.spawnParticle(Particle.EXPLOSION, impactLoc, 3, 0.5, 0.2, 0.5, 0);
-        world.spawnParticle(Particle.FLAME, impactLoc, 40, 2, 0.5, 2, 0.1);
-        world.spawnParticle(Particle.SMOKE, impactLoc, 30, 1.5, 0.3, 1.5, 0.05);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION, impactLoc, 3, 0.5, 0.2, 0.5, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, impactLoc, 40, 2, 0.5, 2, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SMOKE, impactLoc, 30, 1.5, 0.3, 1.5, 0.05);
 
         // Onde de choc circulaire
         for (double angle = 0; angle < 360; angle += 20) {
@@ -6197,7 +6200,7 @@ class WarLeapPassive implements PetAbility {
                 double x = impactLoc.getX() + r * Math.cos(rad);
                 double z = impactLoc.getZ() + r * Math.sin(rad);
                 Location particleLoc = new Location(world, x, impactLoc.getY() + 0.1, z);
-                world.spawnParticle(Particle.CRIT, particleLoc, 2, 0.1, 0.1, 0.1, 0.1);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, particleLoc, 2, 0.1, 0.1, 0.1, 0.1);
             }
         }
 
@@ -6306,9 +6309,9 @@ class FerociousCryActive implements PetAbility {
         boolean applyWeakness = shouldApplyWeakness(petData);
 
         // Cri de guerre
-        world.playSound(center, Sound.ENTITY_PIGLIN_BRUTE_ANGRY, 2.0f, 0.5f);
-        world.playSound(center, Sound.ENTITY_RAVAGER_ROAR, 1.5f, 0.8f);
-        world.playSound(center, Sound.ENTITY_ENDER_DRAGON_GROWL, 0.8f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_PIGLIN_BRUTE_ANGRY, 2.0f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_RAVAGER_ROAR, 1.5f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_ENDER_DRAGON_GROWL, 0.8f, 1.2f);
 
         // Onde de choc visuelle
         spawnCryShockwave(center, world);
@@ -6337,9 +6340,9 @@ class FerociousCryActive implements PetAbility {
                 }
 
                 // Effet visuel sur chaque ennemi
-                world.spawnParticle(Particle.ANGRY_VILLAGER, living.getLocation().add(0, 1.5, 0),
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ANGRY_VILLAGER, living.getLocation().add(0, 1.5, 0),
                     5, 0.3, 0.3, 0.3, 0);
-                world.spawnParticle(Particle.SMOKE, living.getLocation().add(0, 1, 0),
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SMOKE, living.getLocation().add(0, 1, 0),
                     10, 0.3, 0.5, 0.3, 0.02);
             }
         }
@@ -6374,7 +6377,7 @@ class FerociousCryActive implements PetAbility {
      * Crée l'onde de choc du cri
      */
     private void spawnCryShockwave(Location center, World world) {
-        new BukkitRunnable() {
+        new EffectTask() {
             double radius = 0;
 
             @Override
@@ -6390,19 +6393,19 @@ class FerociousCryActive implements PetAbility {
                     double x = center.getX() + radius * Math.cos(rad);
                     double z = center.getZ() + radius * Math.sin(rad);
                     Location particleLoc = new Location(world, x, center.getY() + 0.5, z);
-                    world.spawnParticle(Particle.SONIC_BOOM, particleLoc, 1, 0, 0, 0, 0);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SONIC_BOOM, particleLoc, 1, 0, 0, 0, 0);
                 }
 
                 radius += 3;
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 2L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, null, 0L, 2L);
     }
 
     /**
      * Affiche une aura d'intimidation autour du joueur
      */
     private void spawnIntimidationAura(Player player, com.rinaorc.zombiez.ZombieZPlugin plugin, int duration) {
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticks = 0;
 
             @Override
@@ -6415,13 +6418,13 @@ class FerociousCryActive implements PetAbility {
                 // Aura toutes les 20 ticks (1s)
                 if (ticks % 20 == 0) {
                     Location loc = player.getLocation();
-                    player.getWorld().spawnParticle(Particle.FLAME, loc.add(0, 0.5, 0),
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, loc.add(0, 0.5, 0),
                         8, 0.5, 0.3, 0.5, 0.01);
                 }
 
                 ticks++;
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 1L);
     }
 
     public void onKill(Player player, LivingEntity victim, PetData petData) { }
@@ -6481,7 +6484,7 @@ class SpectralSwiftPassive implements PetAbility {
 
         // Effet visuel subtil (particules de givre occasionnelles)
         if (Math.random() < 0.1) { // 10% chance par tick
-            player.getWorld().spawnParticle(Particle.SNOWFLAKE,
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNOWFLAKE,
                 player.getLocation().add(0, 0.5, 0), 2, 0.3, 0.2, 0.3, 0.01);
         }
     }
@@ -6538,7 +6541,7 @@ class PhantomBladeActive implements PetAbility {
         if (plugin == null) return false;
 
         // Calculer les dégâts du joueur
-        var playerStats = plugin.getItemManager().calculatePlayerStats(player);
+        var playerStats = plugin.getItemManager().getStatVector(player);
         double flatDamage = playerStats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE, 0.0);
         double damagePercent = playerStats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE_PERCENT, 0.0);
         double baseDamage = (7.0 + flatDamage) * (1.0 + damagePercent);
@@ -6551,8 +6554,8 @@ class PhantomBladeActive implements PetAbility {
         Vector direction = startLoc.getDirection().normalize();
 
         // Son de lancement
-        player.getWorld().playSound(startLoc, Sound.ENTITY_PLAYER_ATTACK_SWEEP, 1.5f, 1.2f);
-        player.getWorld().playSound(startLoc, Sound.ITEM_TRIDENT_THROW, 1.0f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, startLoc, Sound.ENTITY_PLAYER_ATTACK_SWEEP, 1.5f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, startLoc, Sound.ITEM_TRIDENT_THROW, 1.0f, 0.8f);
 
         // Lancer le couteau
         launchPhantomBlade(player, startLoc, direction, bladeDamage, piercing, plugin);
@@ -6591,7 +6594,7 @@ class PhantomBladeActive implements PetAbility {
         Set<UUID> hitEntities = new HashSet<>();
 
         // Animation du couteau
-        new BukkitRunnable() {
+        new EffectTask() {
             double traveled = 0;
             final double maxDistance = 30;
             int rotationAngle = 0;
@@ -6631,12 +6634,12 @@ class PhantomBladeActive implements PetAbility {
                 blade.setRightArmPose(armPose);
 
                 // Particules de traînée
-                world.spawnParticle(Particle.SNOWFLAKE, currentLoc, 3, 0.1, 0.1, 0.1, 0.02);
-                world.spawnParticle(Particle.CRIT, currentLoc, 2, 0.05, 0.05, 0.05, 0.1);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNOWFLAKE, currentLoc, 3, 0.1, 0.1, 0.1, 0.02);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, currentLoc, 2, 0.05, 0.05, 0.05, 0.1);
 
                 // Son de sifflement
                 if (traveled % 3 < projectileSpeed) {
-                    world.playSound(currentLoc, Sound.ENTITY_PLAYER_ATTACK_SWEEP, 0.3f, 1.5f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, currentLoc, Sound.ENTITY_PLAYER_ATTACK_SWEEP, 0.3f, 1.5f);
                 }
 
                 // Détecter les collisions avec les ennemis
@@ -6649,7 +6652,7 @@ class PhantomBladeActive implements PetAbility {
                     cancel();
                 }
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, null, 0L, 1L);
     }
 
     /**
@@ -6689,11 +6692,11 @@ class PhantomBladeActive implements PetAbility {
                 }
 
                 // Effet d'empalement
-                world.playSound(loc, Sound.ENTITY_PLAYER_ATTACK_CRIT, 1.0f, 0.8f);
-                world.playSound(loc, Sound.ITEM_TRIDENT_HIT, 1.0f, 1.0f);
-                world.spawnParticle(Particle.CRIT, living.getLocation().add(0, 1, 0),
+                ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.ENTITY_PLAYER_ATTACK_CRIT, 1.0f, 0.8f);
+                ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.ITEM_TRIDENT_HIT, 1.0f, 1.0f);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, living.getLocation().add(0, 1, 0),
                     20, 0.3, 0.5, 0.3, 0.2);
-                world.spawnParticle(Particle.DAMAGE_INDICATOR, living.getLocation().add(0, 1.5, 0),
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DAMAGE_INDICATOR, living.getLocation().add(0, 1.5, 0),
                     5, 0.2, 0.2, 0.2, 0.1);
 
                 // Message de hit
@@ -6709,10 +6712,10 @@ class PhantomBladeActive implements PetAbility {
      * Effet d'impact quand le couteau s'arrête
      */
     private void spawnImpactEffect(Location loc, World world) {
-        world.playSound(loc, Sound.BLOCK_GLASS_BREAK, 0.8f, 1.2f);
-        world.playSound(loc, Sound.BLOCK_CHAIN_BREAK, 0.6f, 0.8f);
-        world.spawnParticle(Particle.SNOWFLAKE, loc, 30, 0.5, 0.5, 0.5, 0.1);
-        world.spawnParticle(Particle.CRIT, loc, 15, 0.3, 0.3, 0.3, 0.2);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.BLOCK_GLASS_BREAK, 0.8f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.BLOCK_CHAIN_BREAK, 0.6f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNOWFLAKE, loc, 30, 0.5, 0.5, 0.5, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, loc, 15, 0.3, 0.3, 0.3, 0.2);
     }
 
     public void onKill(Player player, LivingEntity victim, PetData petData) { }
@@ -6799,7 +6802,7 @@ class RootGraspPassive implements PetAbility {
         World world = target.getWorld();
 
         // Calculer les dégâts
-        var playerStats = plugin.getItemManager().calculatePlayerStats(player);
+        var playerStats = plugin.getItemManager().getStatVector(player);
         double flatDamage = playerStats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE, 0.0);
         double damagePercent = playerStats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE_PERCENT, 0.0);
         double baseDamage = (7.0 + flatDamage) * (1.0 + damagePercent);
@@ -6808,9 +6811,9 @@ class RootGraspPassive implements PetAbility {
         boolean applyWither = shouldApplyWither(petData);
 
         // Effet visuel des racines
-        world.playSound(loc, Sound.BLOCK_ROOTS_BREAK, 1.5f, 0.6f);
-        world.playSound(loc, Sound.BLOCK_WOOD_BREAK, 1.0f, 0.5f);
-        world.playSound(loc, Sound.ENTITY_CREAKING_SPAWN, 0.8f, 1.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.BLOCK_ROOTS_BREAK, 1.5f, 0.6f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.BLOCK_WOOD_BREAK, 1.0f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.ENTITY_CREAKING_SPAWN, 0.8f, 1.0f);
 
         // Particules de racines qui jaillissent
         spawnRootParticles(loc, world);
@@ -6850,7 +6853,7 @@ class RootGraspPassive implements PetAbility {
      */
     private void spawnRootParticles(Location center, World world) {
         // Racines qui montent du sol
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticks = 0;
             double height = 0;
 
@@ -6869,10 +6872,10 @@ class RootGraspPassive implements PetAbility {
                     double z = center.getZ() + r * Math.sin(rad);
                     Location particleLoc = new Location(world, x, center.getY() + height, z);
 
-                    world.spawnParticle(Particle.BLOCK, particleLoc,
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, particleLoc,
                         3, 0.1, 0.2, 0.1, 0,
                         Material.PALE_OAK_WOOD.createBlockData());
-                    world.spawnParticle(Particle.BLOCK, particleLoc,
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, particleLoc,
                         2, 0.1, 0.1, 0.1, 0,
                         Material.PALE_OAK_LEAVES.createBlockData());
                 }
@@ -6880,7 +6883,7 @@ class RootGraspPassive implements PetAbility {
                 height += 0.1;
                 ticks++;
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, null, 0L, 1L);
     }
 
     public void onKill(Player player, LivingEntity victim, PetData petData) { }
@@ -6933,7 +6936,7 @@ class AwakenedForestActive implements PetAbility {
         World world = player.getWorld();
 
         // Calculer les dégâts
-        var playerStats = plugin.getItemManager().calculatePlayerStats(player);
+        var playerStats = plugin.getItemManager().getStatVector(player);
         double flatDamage = playerStats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE, 0.0);
         double damagePercent = playerStats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE_PERCENT, 0.0);
         double baseDamage = (7.0 + flatDamage) * (1.0 + damagePercent);
@@ -6943,9 +6946,9 @@ class AwakenedForestActive implements PetAbility {
         boolean applyWither = petData.getStarPower() > 0;
 
         // Son d'activation
-        world.playSound(center, Sound.ENTITY_CREAKING_ACTIVATE, 2.0f, 0.5f);
-        world.playSound(center, Sound.ENTITY_ENDER_DRAGON_GROWL, 0.8f, 0.3f);
-        world.playSound(center, Sound.BLOCK_ROOTS_BREAK, 2.0f, 0.4f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_CREAKING_ACTIVATE, 2.0f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_ENDER_DRAGON_GROWL, 0.8f, 0.3f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.BLOCK_ROOTS_BREAK, 2.0f, 0.4f);
 
         // Explosion initiale de racines
         spawnForestExplosion(center, world);
@@ -6993,7 +6996,7 @@ class AwakenedForestActive implements PetAbility {
      */
     private void spawnForestExplosion(Location center, World world) {
         // Onde de racines qui s'expand
-        new BukkitRunnable() {
+        new EffectTask() {
             double radius = 0;
 
             @Override
@@ -7010,22 +7013,22 @@ class AwakenedForestActive implements PetAbility {
                     double z = center.getZ() + radius * Math.sin(rad);
                     Location particleLoc = new Location(world, x, center.getY() + 0.2, z);
 
-                    world.spawnParticle(Particle.BLOCK, particleLoc,
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, particleLoc,
                         5, 0.2, 0.1, 0.2, 0,
                         Material.PALE_OAK_WOOD.createBlockData());
-                    world.spawnParticle(Particle.BLOCK, particleLoc,
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, particleLoc,
                         3, 0.1, 0.1, 0.1, 0,
                         Material.PALE_OAK_LEAVES.createBlockData());
                 }
 
                 // Son de craquement
                 if (radius % 3 < 1) {
-                    world.playSound(center.clone().add(radius, 0, 0), Sound.BLOCK_WOOD_BREAK, 0.5f, 0.6f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center.clone().add(radius, 0, 0), Sound.BLOCK_WOOD_BREAK, 0.5f, 0.6f);
                 }
 
                 radius += 1.5;
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, null, 0L, 1L);
     }
 
     /**
@@ -7041,7 +7044,7 @@ class AwakenedForestActive implements PetAbility {
 
             for (double y = 0; y < 1.5; y += 0.3) {
                 Location particleLoc = new Location(world, x, loc.getY() + y, z);
-                world.spawnParticle(Particle.BLOCK, particleLoc,
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, particleLoc,
                     2, 0.05, 0.1, 0.05, 0,
                     Material.PALE_OAK_WOOD.createBlockData());
             }
@@ -7056,7 +7059,7 @@ class AwakenedForestActive implements PetAbility {
         World world = center.getWorld();
         Random random = new Random();
 
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticksRemaining = eruptionDurationTicks;
 
             @Override
@@ -7102,18 +7105,18 @@ class AwakenedForestActive implements PetAbility {
 
                 ticksRemaining--;
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 1L);
     }
 
     /**
      * Crée une éruption de racine ponctuelle
      */
     private void spawnEruption(Location loc, World world) {
-        world.playSound(loc, Sound.BLOCK_ROOTS_BREAK, 1.0f, 0.8f);
-        world.playSound(loc, Sound.ENTITY_CREAKING_STEP, 0.8f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.BLOCK_ROOTS_BREAK, 1.0f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.ENTITY_CREAKING_STEP, 0.8f, 1.2f);
 
         // Racines qui jaillissent
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticks = 0;
             double height = 0;
 
@@ -7131,19 +7134,19 @@ class AwakenedForestActive implements PetAbility {
                     double z = loc.getZ() + r * Math.sin(rad);
                     Location particleLoc = new Location(world, x, loc.getY() + height, z);
 
-                    world.spawnParticle(Particle.BLOCK, particleLoc,
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, particleLoc,
                         3, 0.1, 0.15, 0.1, 0,
                         Material.PALE_OAK_WOOD.createBlockData());
                 }
 
                 // Pointe de la racine
-                world.spawnParticle(Particle.CRIT, loc.clone().add(0, height + 0.3, 0),
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, loc.clone().add(0, height + 0.3, 0),
                     3, 0.1, 0.1, 0.1, 0.1);
 
                 height += 0.2;
                 ticks++;
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, null, 0L, 1L);
     }
 
     /**
@@ -7294,8 +7297,8 @@ class LifeDrainPassive implements PetAbility {
         buffExpireTime.put(player.getUniqueId(), currentTime + buffDuration);
 
         // Effet visuel et sonore de la Witch
-        world.playSound(playerLoc, Sound.ENTITY_WITCH_CELEBRATE, 1.0f, 0.8f);
-        world.playSound(playerLoc, Sound.ENTITY_WITCH_AMBIENT, 0.8f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_WITCH_CELEBRATE, 1.0f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_WITCH_AMBIENT, 0.8f, 1.2f);
 
         // Drainer chaque cible
         var zombieManager = plugin.getZombieManager();
@@ -7314,7 +7317,7 @@ class LifeDrainPassive implements PetAbility {
             double newHealth = Math.min(player.getMaxHealth(), player.getHealth() + healAmount);
             player.setHealth(newHealth);
 
-            world.spawnParticle(Particle.HEART, playerLoc.add(0, 2, 0),
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.HEART, playerLoc.add(0, 2, 0),
                 targets.size(), 0.3, 0.2, 0.3, 0);
         }
     }
@@ -7346,9 +7349,9 @@ class LifeDrainPassive implements PetAbility {
         spawnDrainBeam(targetLoc.add(0, 1, 0), player.getLocation().add(0, 1.5, 0), world);
 
         // Particules sur la cible
-        world.spawnParticle(Particle.WITCH, targetLoc.add(0, 0.5, 0),
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, targetLoc.add(0, 0.5, 0),
             10, 0.3, 0.5, 0.3, 0.02);
-        world.spawnParticle(Particle.DAMAGE_INDICATOR, targetLoc.add(0, 1, 0),
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DAMAGE_INDICATOR, targetLoc.add(0, 1, 0),
             3, 0.2, 0.2, 0.2, 0.1);
     }
 
@@ -7363,9 +7366,9 @@ class LifeDrainPassive implements PetAbility {
         int steps = (int) (distance * 3);
         for (int i = 0; i < steps; i++) {
             Location particleLoc = from.clone().add(direction.clone().multiply(i / 3.0));
-            world.spawnParticle(Particle.WITCH, particleLoc, 1, 0, 0, 0, 0);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, particleLoc, 1, 0, 0, 0, 0);
             if (i % 2 == 0) {
-                world.spawnParticle(Particle.SOUL, particleLoc, 1, 0.05, 0.05, 0.05, 0.01);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SOUL, particleLoc, 1, 0.05, 0.05, 0.05, 0.01);
             }
         }
     }
@@ -7431,7 +7434,7 @@ class SuicidalZombieActive implements PetAbility {
         Location spawnLoc = player.getLocation().add(player.getLocation().getDirection().multiply(2));
 
         // Calculer les dégâts
-        var playerStats = plugin.getItemManager().calculatePlayerStats(player);
+        var playerStats = plugin.getItemManager().getStatVector(player);
         double flatDamage = playerStats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE, 0.0);
         double damagePercentBonus = playerStats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE_PERCENT, 0.0);
         double baseDamage = (7.0 + flatDamage) * (1.0 + damagePercentBonus);
@@ -7440,13 +7443,13 @@ class SuicidalZombieActive implements PetAbility {
         boolean leaveTrail = petData.getStarPower() > 0; // Traînée de poison si étoiles max
 
         // Sons d'invocation
-        world.playSound(spawnLoc, Sound.ENTITY_WITCH_CELEBRATE, 1.5f, 0.6f);
-        world.playSound(spawnLoc, Sound.ENTITY_ZOMBIE_VILLAGER_CONVERTED, 1.0f, 0.5f);
-        world.playSound(spawnLoc, Sound.BLOCK_BREWING_STAND_BREW, 1.0f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, spawnLoc, Sound.ENTITY_WITCH_CELEBRATE, 1.5f, 0.6f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, spawnLoc, Sound.ENTITY_ZOMBIE_VILLAGER_CONVERTED, 1.0f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, spawnLoc, Sound.BLOCK_BREWING_STAND_BREW, 1.0f, 0.8f);
 
         // Particules d'invocation
-        world.spawnParticle(Particle.WITCH, spawnLoc, 30, 0.5, 1, 0.5, 0.1);
-        world.spawnParticle(Particle.SOUL, spawnLoc, 15, 0.3, 0.5, 0.3, 0.05);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, spawnLoc, 30, 0.5, 1, 0.5, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SOUL, spawnLoc, 15, 0.3, 0.5, 0.3, 0.05);
 
         // Créer le zombie suicidaire (visuel uniquement, pas via ZombieManager car c'est un allié)
         Zombie suicidalZombie = world.spawn(spawnLoc, Zombie.class, zombie -> {
@@ -7486,7 +7489,7 @@ class SuicidalZombieActive implements PetAbility {
         Set<UUID> hitEntities = new HashSet<>();
         List<Location> trailLocations = new ArrayList<>();
 
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticksAlive = 0;
             LivingEntity currentTarget = null;
             int explosionCount = 0;
@@ -7524,9 +7527,9 @@ class SuicidalZombieActive implements PetAbility {
 
                 // Particules constantes
                 if (ticksAlive % 2 == 0) {
-                    world.spawnParticle(Particle.WITCH, zombieLoc.add(0, 0.5, 0),
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, zombieLoc.add(0, 0.5, 0),
                         3, 0.2, 0.3, 0.2, 0.02);
-                    world.spawnParticle(Particle.ITEM_SLIME, zombieLoc,
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ITEM_SLIME, zombieLoc,
                         2, 0.1, 0.1, 0.1, 0.05);
                 }
 
@@ -7548,7 +7551,7 @@ class SuicidalZombieActive implements PetAbility {
 
                         if (explosionCount >= maxExplosions) {
                             // Décomposition finale
-                            world.playSound(zombieLoc, Sound.ENTITY_ZOMBIE_DEATH, 1.0f, 0.5f);
+                            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, zombieLoc, Sound.ENTITY_ZOMBIE_DEATH, 1.0f, 0.5f);
                             finalExplosion(zombieLoc, world, player, poisonDamage * 0.5, plugin);
                             zombie.remove();
                             cancel();
@@ -7569,7 +7572,7 @@ class SuicidalZombieActive implements PetAbility {
                     }
                 }
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, null, 0L, 1L);
     }
 
     /**
@@ -7615,14 +7618,14 @@ class SuicidalZombieActive implements PetAbility {
     private void explodePoison(Location center, World world, Player player, double damage,
                                 Set<UUID> hitEntities, com.rinaorc.zombiez.ZombieZPlugin plugin) {
         // Sons
-        world.playSound(center, Sound.ENTITY_SPLASH_POTION_BREAK, 1.5f, 0.8f);
-        world.playSound(center, Sound.ENTITY_SLIME_SQUISH, 1.0f, 0.5f);
-        world.playSound(center, Sound.BLOCK_BREWING_STAND_BREW, 1.0f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_SPLASH_POTION_BREAK, 1.5f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_SLIME_SQUISH, 1.0f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.BLOCK_BREWING_STAND_BREW, 1.0f, 1.2f);
 
         // Particules d'explosion
-        world.spawnParticle(Particle.WITCH, center, 50, 1.5, 1, 1.5, 0.1);
-        world.spawnParticle(Particle.ITEM_SLIME, center, 30, 1, 0.5, 1, 0.2);
-        world.spawnParticle(Particle.EFFECT, center, 40, 1.5, 1, 1.5, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, center, 50, 1.5, 1, 1.5, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ITEM_SLIME, center, 30, 1, 0.5, 1, 0.2);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EFFECT, center, 40, 1.5, 1, 1.5, 0);
 
         // Dégâts
         damageNearbyEnemies(player, center, damage, explosionRadius, hitEntities, plugin, false);
@@ -7636,14 +7639,14 @@ class SuicidalZombieActive implements PetAbility {
     private void finalExplosion(Location center, World world, Player player, double damage,
                                  com.rinaorc.zombiez.ZombieZPlugin plugin) {
         // Sons dramatiques
-        world.playSound(center, Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 0.6f);
-        world.playSound(center, Sound.ENTITY_ZOMBIE_DEATH, 1.5f, 0.3f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 0.6f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_ZOMBIE_DEATH, 1.5f, 0.3f);
 
         // Particules de décomposition
-        world.spawnParticle(Particle.WITCH, center, 80, 2, 1.5, 2, 0.1);
-        world.spawnParticle(Particle.EFFECT, center, 60, 2.5, 1.5, 2.5, 0);
-        world.spawnParticle(Particle.SOUL, center, 20, 1, 1, 1, 0.05);
-        world.spawnParticle(Particle.EXPLOSION, center, 1, 0, 0, 0, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, center, 80, 2, 1.5, 2, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EFFECT, center, 60, 2.5, 1.5, 2.5, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SOUL, center, 20, 1, 1, 1, 0.05);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION, center, 1, 0, 0, 0, 0);
 
         // Dégâts finaux dans un rayon plus large
         Set<UUID> hitEntities = new HashSet<>();
@@ -7687,7 +7690,7 @@ class SuicidalZombieActive implements PetAbility {
                 living.addPotionEffect(new PotionEffect(PotionEffectType.POISON, 60, 1)); // Poison II 3s
 
                 // Particules sur la cible
-                world.spawnParticle(Particle.WITCH, living.getLocation().add(0, 1, 0),
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, living.getLocation().add(0, 1, 0),
                     10, 0.3, 0.5, 0.3, 0.05);
             }
         }
@@ -7697,8 +7700,8 @@ class SuicidalZombieActive implements PetAbility {
      * Spawn un nuage de poison
      */
     private void spawnPoisonCloud(Location loc, World world) {
-        world.spawnParticle(Particle.WITCH, loc, 5, 0.3, 0.2, 0.3, 0.01);
-        world.spawnParticle(Particle.EFFECT, loc, 3, 0.2, 0.1, 0.2, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, loc, 5, 0.3, 0.2, 0.3, 0.01);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EFFECT, loc, 3, 0.2, 0.1, 0.2, 0);
     }
 
     public void onKill(Player player, LivingEntity victim, PetData petData) { }
@@ -7772,16 +7775,16 @@ class RangedDamagePassive implements PetAbility {
         World world = target.getWorld();
 
         // Particules de flèche améliorée
-        world.spawnParticle(Particle.CRIT, targetLoc, 5, 0.2, 0.3, 0.2, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, targetLoc, 5, 0.2, 0.3, 0.2, 0.1);
 
         // Son de tir puissant
         if (Math.random() < 0.3) { // 30% chance
-            world.playSound(targetLoc, Sound.ENTITY_ARROW_HIT_PLAYER, 0.5f, 1.2f);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, targetLoc, Sound.ENTITY_ARROW_HIT_PLAYER, 0.5f, 1.2f);
         }
 
         // Effet de perce-armure si étoiles max
         if (hasArmorPiercing(petData)) {
-            world.spawnParticle(Particle.ENCHANT, targetLoc, 8, 0.3, 0.4, 0.3, 0.5);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ENCHANT, targetLoc, 8, 0.3, 0.4, 0.3, 0.5);
         }
     }
 
@@ -7846,7 +7849,7 @@ class ArrowVolleyActive implements PetAbility {
             : playerLoc.add(player.getLocation().getDirection().multiply(15));
 
         // Calculer les dégâts
-        var playerStats = plugin.getItemManager().calculatePlayerStats(player);
+        var playerStats = plugin.getItemManager().getStatVector(player);
         double flatDamage = playerStats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE, 0.0);
         double damagePercentBonus = playerStats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE_PERCENT, 0.0);
         double baseDamage = (7.0 + flatDamage) * (1.0 + damagePercentBonus);
@@ -7856,8 +7859,8 @@ class ArrowVolleyActive implements PetAbility {
         boolean hasArmorPiercing = linkedPassive != null && linkedPassive.hasArmorPiercing(petData);
 
         // Son d'activation
-        world.playSound(playerLoc, Sound.ENTITY_PILLAGER_CELEBRATE, 1.5f, 0.8f);
-        world.playSound(playerLoc, Sound.ITEM_CROSSBOW_SHOOT, 2.0f, 0.6f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_PILLAGER_CELEBRATE, 1.5f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ITEM_CROSSBOW_SHOOT, 2.0f, 0.6f);
 
         // Message
         player.sendMessage("§6[Pet] §e🏹 §7Volée de Flèches! §c" +
@@ -7880,7 +7883,7 @@ class ArrowVolleyActive implements PetAbility {
         // Créer les flèches qui tombent du ciel
         Location skyCenter = center.clone().add(0, 15, 0);
 
-        new BukkitRunnable() {
+        new EffectTask() {
             int wave = 0;
             final int totalWaves = 3;
             final Random random = new Random();
@@ -7893,7 +7896,7 @@ class ArrowVolleyActive implements PetAbility {
                 }
 
                 // Sons de flèches
-                world.playSound(center, Sound.ENTITY_ARROW_SHOOT, 1.5f, 0.8f + random.nextFloat() * 0.4f);
+                ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_ARROW_SHOOT, 1.5f, 0.8f + random.nextFloat() * 0.4f);
 
                 // Spawn des flèches visuelles
                 int arrowsThisWave = arrowCount / totalWaves;
@@ -7915,7 +7918,7 @@ class ArrowVolleyActive implements PetAbility {
 
                 wave++;
             }
-        }.runTaskTimer(plugin, 0L, 5L); // Une vague toutes les 0.25s
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 5L); // Une vague toutes les 0.25s
     }
 
     /**
@@ -7926,7 +7929,7 @@ class ArrowVolleyActive implements PetAbility {
         double distance = direction.length();
         direction.normalize();
 
-        new BukkitRunnable() {
+        new EffectTask() {
             double traveled = 0;
             final double speed = 2.0;
             Location current = start.clone();
@@ -7935,10 +7938,10 @@ class ArrowVolleyActive implements PetAbility {
             public void run() {
                 if (traveled >= distance) {
                     // Impact
-                    world.spawnParticle(Particle.CRIT, current, 10, 0.3, 0.1, 0.3, 0.1);
-                    world.spawnParticle(Particle.BLOCK, current, 5, 0.2, 0.1, 0.2, 0,
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, current, 10, 0.3, 0.1, 0.3, 0.1);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, current, 5, 0.2, 0.1, 0.2, 0,
                         Material.DIRT.createBlockData());
-                    world.playSound(current, Sound.ENTITY_ARROW_HIT, 0.5f, 1.0f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, current, Sound.ENTITY_ARROW_HIT, 0.5f, 1.0f);
                     cancel();
                     return;
                 }
@@ -7948,9 +7951,9 @@ class ArrowVolleyActive implements PetAbility {
                 traveled += speed;
 
                 // Particules de traînée
-                world.spawnParticle(Particle.CRIT, current, 1, 0, 0, 0, 0);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, current, 1, 0, 0, 0, 0);
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, null, 0L, 1L);
     }
 
     /**
@@ -7989,11 +7992,11 @@ class ArrowVolleyActive implements PetAbility {
 
                 // Effet visuel
                 Location targetLoc = living.getLocation().add(0, 1, 0);
-                world.spawnParticle(Particle.CRIT, targetLoc, 15, 0.3, 0.5, 0.3, 0.1);
-                world.spawnParticle(Particle.DAMAGE_INDICATOR, targetLoc, 5, 0.2, 0.3, 0.2, 0.1);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, targetLoc, 15, 0.3, 0.5, 0.3, 0.1);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DAMAGE_INDICATOR, targetLoc, 5, 0.2, 0.3, 0.2, 0.1);
 
                 // Flèche plantée dans la cible
-                world.playSound(targetLoc, Sound.ENTITY_ARROW_HIT, 1.0f, 0.9f);
+                ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, targetLoc, Sound.ENTITY_ARROW_HIT, 1.0f, 0.9f);
             }
         }
 
@@ -8016,7 +8019,7 @@ class ArrowVolleyActive implements PetAbility {
                                  int bounceCount, Set<UUID> hitEntities,
                                  com.rinaorc.zombiez.zombies.ZombieManager zombieManager, World world) {
 
-        new BukkitRunnable() {
+        new EffectTask() {
             int remainingBounces = bounceCount;
             List<LivingEntity> currentTargets = new ArrayList<>(initialTargets);
 
@@ -8047,15 +8050,15 @@ class ArrowVolleyActive implements PetAbility {
 
                         // Effet
                         Location targetLoc = bounceTarget.getLocation().add(0, 1, 0);
-                        world.spawnParticle(Particle.CRIT, targetLoc, 8, 0.2, 0.3, 0.2, 0.1);
-                        world.playSound(targetLoc, Sound.ENTITY_ARROW_HIT, 0.8f, 1.2f);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, targetLoc, 8, 0.2, 0.3, 0.2, 0.1);
+                        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, targetLoc, Sound.ENTITY_ARROW_HIT, 0.8f, 1.2f);
                     }
                 }
 
                 currentTargets = nextTargets;
                 remainingBounces--;
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 5L, 5L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 5L, 5L);
     }
 
     /**
@@ -8093,7 +8096,7 @@ class ArrowVolleyActive implements PetAbility {
         int steps = (int) (distance * 2);
         for (int i = 0; i < steps; i++) {
             Location particleLoc = from.clone().add(direction.clone().multiply(i / 2.0));
-            world.spawnParticle(Particle.CRIT, particleLoc, 1, 0, 0, 0, 0);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, particleLoc, 1, 0, 0, 0, 0);
         }
     }
 
@@ -8170,17 +8173,17 @@ class FireDamagePassive implements PetAbility {
             target.setFireTicks(60); // 3 secondes de feu
 
             // Effet visuel d'ignition
-            world.spawnParticle(Particle.FLAME, targetLoc, 15, 0.3, 0.5, 0.3, 0.05);
-            world.playSound(targetLoc, Sound.ITEM_FIRECHARGE_USE, 0.6f, 1.2f);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, targetLoc, 15, 0.3, 0.5, 0.3, 0.05);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, targetLoc, Sound.ITEM_FIRECHARGE_USE, 0.6f, 1.2f);
         }
 
         // Effet visuel si la cible est en feu
         if (target.getFireTicks() > 0) {
-            world.spawnParticle(Particle.LAVA, targetLoc, 3, 0.2, 0.3, 0.2, 0);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.LAVA, targetLoc, 3, 0.2, 0.3, 0.2, 0);
 
             // Son occasionnel
             if (Math.random() < 0.2) {
-                world.playSound(targetLoc, Sound.BLOCK_FIRE_AMBIENT, 0.4f, 1.0f);
+                ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, targetLoc, Sound.BLOCK_FIRE_AMBIENT, 0.4f, 1.0f);
             }
         }
     }
@@ -8255,7 +8258,7 @@ class MeteorStrikeActive implements PetAbility {
             : playerLoc.add(player.getLocation().getDirection().multiply(10));
 
         // Calculer les dégâts
-        var playerStats = plugin.getItemManager().calculatePlayerStats(player);
+        var playerStats = plugin.getItemManager().getStatVector(player);
         double flatDamage = playerStats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE, 0.0);
         double damagePercentBonus = playerStats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE_PERCENT, 0.0);
         double baseDamage = (7.0 + flatDamage) * (1.0 + damagePercentBonus);
@@ -8266,8 +8269,8 @@ class MeteorStrikeActive implements PetAbility {
         double lavaDamagePerSecond = baseDamage * 0.50 * petData.getStatMultiplier(); // 50% par seconde
 
         // Son d'avertissement
-        world.playSound(targetLoc, Sound.ENTITY_BLAZE_SHOOT, 2.0f, 0.5f);
-        world.playSound(playerLoc, Sound.ENTITY_MAGMA_CUBE_JUMP, 1.5f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, targetLoc, Sound.ENTITY_BLAZE_SHOOT, 2.0f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_MAGMA_CUBE_JUMP, 1.5f, 0.8f);
 
         // Message
         player.sendMessage("§c[Pet] §6☄ §7Frappe Météoritique! §c" +
@@ -8292,7 +8295,7 @@ class MeteorStrikeActive implements PetAbility {
         final Location impactPoint = target.clone();
 
         // Animation du météore qui tombe
-        new BukkitRunnable() {
+        new EffectTask() {
             Location current = meteorStart.clone();
             final org.bukkit.util.Vector velocity = new org.bukkit.util.Vector(0, -1.5, 0);
             int ticks = 0;
@@ -8313,25 +8316,25 @@ class MeteorStrikeActive implements PetAbility {
                 ticks++;
 
                 // Particules du météore
-                world.spawnParticle(Particle.FLAME, current, 30, 0.8, 0.8, 0.8, 0.1);
-                world.spawnParticle(Particle.LAVA, current, 10, 0.5, 0.5, 0.5, 0);
-                world.spawnParticle(Particle.SMOKE, current, 15, 0.6, 0.6, 0.6, 0.05);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, current, 30, 0.8, 0.8, 0.8, 0.1);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.LAVA, current, 10, 0.5, 0.5, 0.5, 0);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SMOKE, current, 15, 0.6, 0.6, 0.6, 0.05);
 
                 // Traînée de feu
                 for (int i = 1; i <= 3; i++) {
                     Location trailLoc = current.clone().add(0, i * 0.8, 0);
-                    world.spawnParticle(Particle.FLAME, trailLoc, 8, 0.3, 0.3, 0.3, 0.02);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, trailLoc, 8, 0.3, 0.3, 0.3, 0.02);
                 }
 
                 // Son de chute
                 if (ticks % 5 == 0) {
-                    world.playSound(current, Sound.ENTITY_BLAZE_BURN, 1.0f, 0.5f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, current, Sound.ENTITY_BLAZE_BURN, 1.0f, 0.5f);
                 }
 
                 // Indicateur au sol
-                world.spawnParticle(Particle.FLAME, impactPoint, 5, impactRadius * 0.5, 0.1, impactRadius * 0.5, 0.01);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, impactPoint, 5, impactRadius * 0.5, 0.1, impactRadius * 0.5, 0.01);
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 1L);
     }
 
     /**
@@ -8344,15 +8347,15 @@ class MeteorStrikeActive implements PetAbility {
         if (world == null) return;
 
         // Sons d'explosion
-        world.playSound(center, Sound.ENTITY_GENERIC_EXPLODE, 2.0f, 0.6f);
-        world.playSound(center, Sound.ENTITY_BLAZE_DEATH, 1.5f, 0.5f);
-        world.playSound(center, Sound.BLOCK_LAVA_POP, 2.0f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_GENERIC_EXPLODE, 2.0f, 0.6f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_BLAZE_DEATH, 1.5f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.BLOCK_LAVA_POP, 2.0f, 0.8f);
 
         // Explosion visuelle massive
-        world.spawnParticle(Particle.EXPLOSION_EMITTER, center, 3, 0.5, 0.5, 0.5, 0);
-        world.spawnParticle(Particle.FLAME, center, 100, impactRadius, 1.5, impactRadius, 0.2);
-        world.spawnParticle(Particle.LAVA, center, 50, impactRadius * 0.8, 1, impactRadius * 0.8, 0);
-        world.spawnParticle(Particle.SMOKE, center, 60, impactRadius, 2, impactRadius, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION_EMITTER, center, 3, 0.5, 0.5, 0.5, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, center, 100, impactRadius, 1.5, impactRadius, 0.2);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.LAVA, center, 50, impactRadius * 0.8, 1, impactRadius * 0.8, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SMOKE, center, 60, impactRadius, 2, impactRadius, 0.1);
 
         // Onde de choc visuelle
         spawnShockwave(center, world);
@@ -8386,8 +8389,8 @@ class MeteorStrikeActive implements PetAbility {
 
                 // Effet sur la cible
                 Location targetLoc = living.getLocation().add(0, 1, 0);
-                world.spawnParticle(Particle.FLAME, targetLoc, 20, 0.3, 0.5, 0.3, 0.1);
-                world.spawnParticle(Particle.DAMAGE_INDICATOR, targetLoc, 8, 0.2, 0.3, 0.2, 0.1);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, targetLoc, 20, 0.3, 0.5, 0.3, 0.1);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DAMAGE_INDICATOR, targetLoc, 8, 0.2, 0.3, 0.2, 0.1);
             }
         }
 
@@ -8409,7 +8412,7 @@ class MeteorStrikeActive implements PetAbility {
      * Crée l'onde de choc visuelle
      */
     private void spawnShockwave(Location center, World world) {
-        new BukkitRunnable() {
+        new EffectTask() {
             double radius = 0;
 
             @Override
@@ -8425,12 +8428,12 @@ class MeteorStrikeActive implements PetAbility {
                     double z = center.getZ() + radius * Math.sin(rad);
                     Location particleLoc = new Location(world, x, center.getY() + 0.2, z);
 
-                    world.spawnParticle(Particle.FLAME, particleLoc, 2, 0.1, 0.05, 0.1, 0.02);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, particleLoc, 2, 0.1, 0.05, 0.1, 0.02);
                 }
 
                 radius += 1.0;
             }
-        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, null, 0L, 1L);
     }
 
     /**
@@ -8444,7 +8447,7 @@ class MeteorStrikeActive implements PetAbility {
         double damagePerTick = totalDamage / 60.0; // 3 secondes = 60 ticks
         var zombieManager = plugin.getZombieManager();
 
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticksRemaining = 60; // 3 secondes
 
             @Override
@@ -8463,7 +8466,7 @@ class MeteorStrikeActive implements PetAbility {
                         double z = center.getZ() + r * Math.sin(rad);
                         Location flameLoc = new Location(world, x, center.getY() + 0.1, z);
 
-                        world.spawnParticle(Particle.FLAME, flameLoc, 2, 0.1, 0.2, 0.1, 0.02);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, flameLoc, 2, 0.1, 0.2, 0.1, 0.02);
                     }
                 }
 
@@ -8489,12 +8492,12 @@ class MeteorStrikeActive implements PetAbility {
 
                 // Son de feu
                 if (ticksRemaining % 20 == 0) {
-                    world.playSound(center, Sound.BLOCK_FIRE_AMBIENT, 0.8f, 1.0f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.BLOCK_FIRE_AMBIENT, 0.8f, 1.0f);
                 }
 
                 ticksRemaining--;
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 1L);
     }
 
     /**
@@ -8508,7 +8511,7 @@ class MeteorStrikeActive implements PetAbility {
         var zombieManager = plugin.getZombieManager();
         double lakeRadius = impactRadius * 0.8;
 
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticksRemaining = 200; // 10 secondes
 
             @Override
@@ -8528,8 +8531,8 @@ class MeteorStrikeActive implements PetAbility {
                         double z = center.getZ() + r * Math.sin(rad);
                         Location lavaLoc = new Location(world, x, center.getY() + 0.1, z);
 
-                        world.spawnParticle(Particle.LAVA, lavaLoc, 1, 0.1, 0.05, 0.1, 0);
-                        world.spawnParticle(Particle.FLAME, lavaLoc, 1, 0.1, 0.1, 0.1, 0.01);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.LAVA, lavaLoc, 1, 0.1, 0.05, 0.1, 0);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, lavaLoc, 1, 0.1, 0.1, 0.1, 0.01);
                     }
                 }
 
@@ -8540,8 +8543,8 @@ class MeteorStrikeActive implements PetAbility {
                     double r = Math.random() * lakeRadius;
                     Location bubbleLoc = center.clone().add(r * Math.cos(rad), 0.2, r * Math.sin(rad));
 
-                    world.spawnParticle(Particle.LAVA, bubbleLoc, 3, 0.1, 0.1, 0.1, 0);
-                    world.playSound(bubbleLoc, Sound.BLOCK_LAVA_POP, 0.5f, 1.0f);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.LAVA, bubbleLoc, 3, 0.1, 0.1, 0.1, 0);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, bubbleLoc, Sound.BLOCK_LAVA_POP, 0.5f, 1.0f);
                 }
 
                 // Dégâts toutes les 20 ticks (1s)
@@ -8561,14 +8564,14 @@ class MeteorStrikeActive implements PetAbility {
 
                             // Effet
                             Location targetLoc = living.getLocation().add(0, 0.5, 0);
-                            world.spawnParticle(Particle.LAVA, targetLoc, 5, 0.2, 0.3, 0.2, 0);
+                            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.LAVA, targetLoc, 5, 0.2, 0.3, 0.2, 0);
                         }
                     }
                 }
 
                 ticksRemaining--;
             }
-        }.runTaskTimer(plugin, 60L, 1L); // Commence après les flammes initiales
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 60L, 1L); // Commence après les flammes initiales
     }
 
     /**
@@ -8661,12 +8664,12 @@ class ExecuteDamagePassive implements PetAbility {
             Location targetLoc = target.getLocation().add(0, 1, 0);
 
             // Effet visuel d'exécution
-            world.spawnParticle(Particle.DAMAGE_INDICATOR, targetLoc, 8, 0.3, 0.4, 0.3, 0.1);
-            world.spawnParticle(Particle.ANGRY_VILLAGER, targetLoc, 3, 0.2, 0.3, 0.2, 0);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DAMAGE_INDICATOR, targetLoc, 8, 0.3, 0.4, 0.3, 0.1);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ANGRY_VILLAGER, targetLoc, 3, 0.2, 0.3, 0.2, 0);
 
             // Son de rage
             if (Math.random() < 0.25) {
-                world.playSound(targetLoc, Sound.ENTITY_ZOGLIN_ANGRY, 0.5f, 1.2f);
+                ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, targetLoc, Sound.ENTITY_ZOGLIN_ANGRY, 0.5f, 1.2f);
             }
         }
     }
@@ -8676,8 +8679,8 @@ class ExecuteDamagePassive implements PetAbility {
         World world = victim.getWorld();
         Location loc = victim.getLocation().add(0, 1, 0);
 
-        world.spawnParticle(Particle.ANGRY_VILLAGER, loc, 10, 0.5, 0.5, 0.5, 0);
-        world.playSound(loc, Sound.ENTITY_ZOGLIN_DEATH, 0.6f, 1.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ANGRY_VILLAGER, loc, 10, 0.5, 0.5, 0.5, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.ENTITY_ZOGLIN_DEATH, 0.6f, 1.0f);
     }
 
     public void onDamageReceived(Player player, double damage, PetData petData) { }
@@ -8734,7 +8737,7 @@ class ZoglinChargeActive implements PetAbility {
         org.bukkit.util.Vector direction = startLoc.getDirection().setY(0).normalize();
 
         // Calculer les dégâts
-        var playerStats = plugin.getItemManager().calculatePlayerStats(player);
+        var playerStats = plugin.getItemManager().getStatVector(player);
         double flatDamage = playerStats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE, 0.0);
         double damagePercentBonus = playerStats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE_PERCENT, 0.0);
         double baseDamage = (7.0 + flatDamage) * (1.0 + damagePercentBonus);
@@ -8744,8 +8747,8 @@ class ZoglinChargeActive implements PetAbility {
         double fireTrailDamage = baseDamage * 0.50 * petData.getStatMultiplier(); // 50% par seconde
 
         // Son d'activation
-        world.playSound(startLoc, Sound.ENTITY_ZOGLIN_ANGRY, 2.0f, 0.6f);
-        world.playSound(startLoc, Sound.ENTITY_RAVAGER_ROAR, 1.0f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, startLoc, Sound.ENTITY_ZOGLIN_ANGRY, 2.0f, 0.6f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, startLoc, Sound.ENTITY_RAVAGER_ROAR, 1.0f, 1.2f);
 
         // Message
         player.sendMessage("§4[Pet] §c🐗 §7Charge Dévastatrice! §c" +
@@ -8769,7 +8772,7 @@ class ZoglinChargeActive implements PetAbility {
         List<Location> trailLocations = new ArrayList<>();
         var zombieManager = plugin.getZombieManager();
 
-        new BukkitRunnable() {
+        new EffectTask() {
             double traveled = 0;
             Location current = start.clone();
             final double speed = 1.5; // Blocs par tick
@@ -8799,12 +8802,12 @@ class ZoglinChargeActive implements PetAbility {
                 }
 
                 // Particules de charge
-                world.spawnParticle(Particle.CAMPFIRE_COSY_SMOKE, current, 8, 0.3, 0.2, 0.3, 0.02);
-                world.spawnParticle(Particle.CRIT, current, 5, 0.2, 0.1, 0.2, 0.1);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CAMPFIRE_COSY_SMOKE, current, 8, 0.3, 0.2, 0.3, 0.02);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, current, 5, 0.2, 0.1, 0.2, 0.1);
 
                 // Son de course
                 if (traveled % 3 < speed) {
-                    world.playSound(current, Sound.ENTITY_ZOGLIN_STEP, 1.0f, 0.8f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, current, Sound.ENTITY_ZOGLIN_STEP, 1.0f, 0.8f);
                 }
 
                 // Détecter les collisions
@@ -8827,31 +8830,31 @@ class ZoglinChargeActive implements PetAbility {
 
                         // Effet visuel
                         Location targetLoc = living.getLocation().add(0, 1, 0);
-                        world.spawnParticle(Particle.DAMAGE_INDICATOR, targetLoc, 10, 0.3, 0.4, 0.3, 0.1);
-                        world.spawnParticle(Particle.ANGRY_VILLAGER, targetLoc, 5, 0.2, 0.3, 0.2, 0);
-                        world.playSound(targetLoc, Sound.ENTITY_ZOGLIN_ATTACK, 1.0f, 0.9f);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DAMAGE_INDICATOR, targetLoc, 10, 0.3, 0.4, 0.3, 0.1);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ANGRY_VILLAGER, targetLoc, 5, 0.2, 0.3, 0.2, 0);
+                        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, targetLoc, Sound.ENTITY_ZOGLIN_ATTACK, 1.0f, 0.9f);
                     }
                 }
 
                 // Particules de traînée de feu si étoiles max
                 if (leaveFireTrail) {
-                    world.spawnParticle(Particle.FLAME, current, 5, 0.2, 0.1, 0.2, 0.03);
-                    world.spawnParticle(Particle.LAVA, current, 2, 0.1, 0.05, 0.1, 0);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, current, 5, 0.2, 0.1, 0.2, 0.03);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.LAVA, current, 2, 0.1, 0.05, 0.1, 0);
                 }
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 1L);
     }
 
     /**
      * Impact final de la charge
      */
     private void performImpact(Location loc, World world) {
-        world.playSound(loc, Sound.ENTITY_GENERIC_EXPLODE, 0.8f, 1.2f);
-        world.playSound(loc, Sound.ENTITY_ZOGLIN_ANGRY, 1.5f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.ENTITY_GENERIC_EXPLODE, 0.8f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.ENTITY_ZOGLIN_ANGRY, 1.5f, 0.5f);
 
-        world.spawnParticle(Particle.EXPLOSION, loc, 1, 0, 0, 0, 0);
-        world.spawnParticle(Particle.CAMPFIRE_COSY_SMOKE, loc, 30, 1, 0.5, 1, 0.05);
-        world.spawnParticle(Particle.CRIT, loc, 20, 0.8, 0.3, 0.8, 0.2);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION, loc, 1, 0, 0, 0, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CAMPFIRE_COSY_SMOKE, loc, 30, 1, 0.5, 1, 0.05);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, loc, 20, 0.8, 0.3, 0.8, 0.2);
     }
 
     /**
@@ -8865,7 +8868,7 @@ class ZoglinChargeActive implements PetAbility {
         var zombieManager = plugin.getZombieManager();
         Set<UUID> hitThisTick = new HashSet<>();
 
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticksRemaining = 100; // 5 secondes
 
             @Override
@@ -8879,7 +8882,7 @@ class ZoglinChargeActive implements PetAbility {
                 if (ticksRemaining % 3 == 0) {
                     for (Location loc : trailLocations) {
                         if (Math.random() < 0.3) {
-                            world.spawnParticle(Particle.FLAME, loc.clone().add(0, 0.2, 0),
+                            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, loc.clone().add(0, 0.2, 0),
                                 2, 0.2, 0.1, 0.2, 0.02);
                         }
                     }
@@ -8905,7 +8908,7 @@ class ZoglinChargeActive implements PetAbility {
                                 dealDamage(player, living, damagePerSecond, zombieManager);
 
                                 // Effet
-                                world.spawnParticle(Particle.FLAME, living.getLocation().add(0, 0.5, 0),
+                                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, living.getLocation().add(0, 0.5, 0),
                                     5, 0.2, 0.3, 0.2, 0.03);
                             }
                         }
@@ -8915,12 +8918,12 @@ class ZoglinChargeActive implements PetAbility {
                 // Son de feu
                 if (ticksRemaining % 30 == 0 && !trailLocations.isEmpty()) {
                     Location midPoint = trailLocations.get(trailLocations.size() / 2);
-                    world.playSound(midPoint, Sound.BLOCK_FIRE_AMBIENT, 0.6f, 1.0f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, midPoint, Sound.BLOCK_FIRE_AMBIENT, 0.6f, 1.0f);
                 }
 
                 ticksRemaining--;
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 1L);
     }
 
     /**
@@ -8987,8 +8990,8 @@ class SniperDamagePassive extends SynergyAbilities.BasePetAbility {
             var zombieManager = plugin.getZombieManager();
 
             // Récupérer stats joueur
-            Map<com.rinaorc.zombiez.items.types.StatType, Double> stats =
-                plugin.getItemManager().calculatePlayerStats(player);
+            com.rinaorc.zombiez.items.PlayerStatVector stats =
+                plugin.getItemManager().getStatVector(player);
 
             double flatDamage = stats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE, 0.0);
             double damagePercent = stats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE_PERCENT, 0.0);
@@ -9013,8 +9016,8 @@ class SniperDamagePassive extends SynergyAbilities.BasePetAbility {
             // Effet visuel arcanique
             World world = target.getWorld();
             Location targetLoc = target.getLocation().add(0, 1, 0);
-            world.spawnParticle(Particle.WITCH, targetLoc, 8, 0.3, 0.4, 0.3, 0.02);
-            world.spawnParticle(Particle.END_ROD, targetLoc, 3, 0.2, 0.3, 0.2, 0.01);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, targetLoc, 8, 0.3, 0.4, 0.3, 0.02);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, targetLoc, 3, 0.2, 0.3, 0.2, 0.01);
         }
     }
 
@@ -9056,8 +9059,8 @@ class ArcaneTorrentActive extends SynergyAbilities.BasePetAbility {
         Location playerLoc = player.getLocation();
 
         // Récupérer stats joueur
-        Map<com.rinaorc.zombiez.items.types.StatType, Double> stats =
-            plugin.getItemManager().calculatePlayerStats(player);
+        com.rinaorc.zombiez.items.PlayerStatVector stats =
+            plugin.getItemManager().getStatVector(player);
 
         double flatDamage = stats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE, 0.0);
         double damagePercent = stats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE_PERCENT, 0.0);
@@ -9069,12 +9072,12 @@ class ArcaneTorrentActive extends SynergyAbilities.BasePetAbility {
         double statMultiplier = petData.getStatMultiplier();
 
         // Son d'invocation
-        world.playSound(playerLoc, Sound.ENTITY_ILLUSIONER_CAST_SPELL, 1.2f, 0.8f);
-        world.playSound(playerLoc, Sound.BLOCK_BEACON_POWER_SELECT, 0.8f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_ILLUSIONER_CAST_SPELL, 1.2f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.BLOCK_BEACON_POWER_SELECT, 0.8f, 1.5f);
 
         // Effet de lancement
-        world.spawnParticle(Particle.WITCH, playerLoc.clone().add(0, 1, 0), 30, 0.5, 0.5, 0.5, 0.1);
-        world.spawnParticle(Particle.END_ROD, playerLoc.clone().add(0, 1, 0), 15, 0.3, 0.3, 0.3, 0.05);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, playerLoc.clone().add(0, 1, 0), 30, 0.5, 0.5, 0.5, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, playerLoc.clone().add(0, 1, 0), 15, 0.3, 0.3, 0.3, 0.05);
 
         // Collecter les cibles initiales
         List<LivingEntity> targets = new ArrayList<>();
@@ -9097,7 +9100,7 @@ class ArcaneTorrentActive extends SynergyAbilities.BasePetAbility {
         final int DURATION_TICKS = 100;
         final int WAVES = 5;
 
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticksElapsed = 0;
             int wavesFired = 0;
 
@@ -9123,8 +9126,8 @@ class ArcaneTorrentActive extends SynergyAbilities.BasePetAbility {
                     Location origin = player.getLocation().add(0, 1.5, 0);
 
                     // Effet de lancement de vague
-                    world.playSound(origin, Sound.ENTITY_ILLUSIONER_PREPARE_BLINDNESS, 0.7f, 1.2f + (wavesFired * 0.1f));
-                    world.spawnParticle(Particle.REVERSE_PORTAL, origin, 20, 0.3, 0.3, 0.3, 0.05);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, origin, Sound.ENTITY_ILLUSIONER_PREPARE_BLINDNESS, 0.7f, 1.2f + (wavesFired * 0.1f));
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.REVERSE_PORTAL, origin, 20, 0.3, 0.3, 0.3, 0.05);
 
                     // Tirer vers chaque cible (ou leurs dernières positions connues)
                     for (LivingEntity target : new ArrayList<>(targets)) {
@@ -9153,7 +9156,7 @@ class ArcaneTorrentActive extends SynergyAbilities.BasePetAbility {
 
                 ticksElapsed++;
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, null, 0L, 1L);
     }
 
     private void fireArcaneProjectile(Player player, Location origin, Location targetLoc, double damage,
@@ -9169,7 +9172,7 @@ class ArcaneTorrentActive extends SynergyAbilities.BasePetAbility {
         final double SPEED = 1.5;
         final int maxTicks = (int) (distance / SPEED) + 10;
 
-        new BukkitRunnable() {
+        new EffectTask() {
             Location current = origin.clone();
             int ticks = 0;
 
@@ -9184,8 +9187,8 @@ class ArcaneTorrentActive extends SynergyAbilities.BasePetAbility {
                 current.add(direction.clone().multiply(SPEED));
 
                 // Particules de traînée
-                world.spawnParticle(Particle.WITCH, current, 3, 0.1, 0.1, 0.1, 0.01);
-                world.spawnParticle(Particle.DRAGON_BREATH, current, 2, 0.05, 0.05, 0.05, 0.01);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, current, 3, 0.1, 0.1, 0.1, 0.01);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DRAGON_BREATH, current, 2, 0.05, 0.05, 0.05, 0.01);
 
                 // Vérifier les collisions
                 for (Entity entity : world.getNearbyEntities(current, 1.2, 1.2, 1.2)) {
@@ -9196,9 +9199,9 @@ class ArcaneTorrentActive extends SynergyAbilities.BasePetAbility {
                         dealDamage(player, living, damage, zombieManager);
 
                         // Effet d'impact
-                        world.spawnParticle(Particle.WITCH, current, 20, 0.4, 0.4, 0.4, 0.1);
-                        world.spawnParticle(Particle.REVERSE_PORTAL, current, 15, 0.3, 0.3, 0.3, 0.05);
-                        world.playSound(current, Sound.ENTITY_ILLUSIONER_HURT, 0.8f, 1.5f);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, current, 20, 0.4, 0.4, 0.4, 0.1);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.REVERSE_PORTAL, current, 15, 0.3, 0.3, 0.3, 0.05);
+                        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, current, Sound.ENTITY_ILLUSIONER_HURT, 0.8f, 1.5f);
 
                         // Explosion secondaire si max stars
                         if (hasMaxStars) {
@@ -9212,15 +9215,15 @@ class ArcaneTorrentActive extends SynergyAbilities.BasePetAbility {
 
                 ticks++;
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 1L);
     }
 
     private void createSecondaryExplosion(Player player, Location center, double damage,
                                           com.rinaorc.zombiez.zombies.ZombieManager zombieManager, World world) {
         // Explosion arcanique secondaire
-        world.spawnParticle(Particle.WITCH, center, 40, 2, 1, 2, 0.1);
-        world.spawnParticle(Particle.END_ROD, center, 20, 1.5, 0.5, 1.5, 0.05);
-        world.playSound(center, Sound.ENTITY_EVOKER_CAST_SPELL, 0.7f, 1.3f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, center, 40, 2, 1, 2, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, center, 20, 1.5, 0.5, 1.5, 0.05);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_EVOKER_CAST_SPELL, 0.7f, 1.3f);
 
         Set<UUID> hit = new HashSet<>();
         for (Entity entity : world.getNearbyEntities(center, 3, 2, 3)) {
@@ -9292,8 +9295,8 @@ class FinalJudgmentActive extends SynergyAbilities.BasePetAbility {
         Location playerLoc = player.getLocation();
 
         // Récupérer stats joueur
-        Map<com.rinaorc.zombiez.items.types.StatType, Double> stats =
-            plugin.getItemManager().calculatePlayerStats(player);
+        com.rinaorc.zombiez.items.PlayerStatVector stats =
+            plugin.getItemManager().getStatVector(player);
 
         double flatDamage = stats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE, 0.0);
         double damagePercent = stats.getOrDefault(com.rinaorc.zombiez.items.types.StatType.DAMAGE_PERCENT, 0.0);
@@ -9305,12 +9308,12 @@ class FinalJudgmentActive extends SynergyAbilities.BasePetAbility {
         double statMultiplier = petData.getStatMultiplier();
 
         // Son de préparation - Vindicator
-        world.playSound(playerLoc, Sound.ENTITY_VINDICATOR_CELEBRATE, 1.2f, 0.6f);
-        world.playSound(playerLoc, Sound.ITEM_TRIDENT_THUNDER, 0.8f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_VINDICATOR_CELEBRATE, 1.2f, 0.6f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ITEM_TRIDENT_THUNDER, 0.8f, 0.5f);
 
         // Effet de charge - aura mortelle
-        world.spawnParticle(Particle.SMOKE, playerLoc.clone().add(0, 1, 0), 40, 0.5, 0.8, 0.5, 0.05);
-        world.spawnParticle(Particle.SOUL, playerLoc.clone().add(0, 1, 0), 20, 0.4, 0.6, 0.4, 0.02);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SMOKE, playerLoc.clone().add(0, 1, 0), 40, 0.5, 0.8, 0.5, 0.05);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SOUL, playerLoc.clone().add(0, 1, 0), 20, 0.4, 0.6, 0.4, 0.02);
 
         // Trouver la cible la plus proche (priorité aux faibles HP)
         LivingEntity primaryTarget = null;
@@ -9346,7 +9349,7 @@ class FinalJudgmentActive extends SynergyAbilities.BasePetAbility {
         player.teleport(strikePos);
 
         // Délai court puis frappe
-        new BukkitRunnable() {
+        new EffectTask() {
             @Override
             public void run() {
                 // Calculer les dégâts
@@ -9360,13 +9363,13 @@ class FinalJudgmentActive extends SynergyAbilities.BasePetAbility {
                 double totalDamage = baseDamage + missingHpBonus;
 
                 // Effet de frappe
-                world.playSound(target.getLocation(), Sound.ENTITY_VINDICATOR_HURT, 1.5f, 0.5f);
-                world.playSound(target.getLocation(), Sound.ITEM_MACE_SMASH_GROUND_HEAVY, 1.2f, 0.8f);
+                ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, target.getLocation(), Sound.ENTITY_VINDICATOR_HURT, 1.5f, 0.5f);
+                ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, target.getLocation(), Sound.ITEM_MACE_SMASH_GROUND_HEAVY, 1.2f, 0.8f);
 
                 // Particules d'impact
-                world.spawnParticle(Particle.CRIT, target.getLocation().add(0, 1, 0), 30, 0.4, 0.5, 0.4, 0.3);
-                world.spawnParticle(Particle.DAMAGE_INDICATOR, target.getLocation().add(0, 1, 0), 15, 0.3, 0.4, 0.3, 0.1);
-                world.spawnParticle(Particle.SOUL, target.getLocation().add(0, 1, 0), 20, 0.5, 0.6, 0.5, 0.05);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, target.getLocation().add(0, 1, 0), 30, 0.4, 0.5, 0.4, 0.3);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DAMAGE_INDICATOR, target.getLocation().add(0, 1, 0), 15, 0.3, 0.4, 0.3, 0.1);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SOUL, target.getLocation().add(0, 1, 0), 20, 0.5, 0.6, 0.5, 0.05);
 
                 // Infliger les dégâts à la cible principale
                 dealDamage(player, target, totalDamage, zombieManager);
@@ -9380,15 +9383,15 @@ class FinalJudgmentActive extends SynergyAbilities.BasePetAbility {
                 // Onde de mort si étoiles max
                 if (hasMaxStars) {
                     // Délai court pour l'onde
-                    new BukkitRunnable() {
+                    new EffectTask() {
                         @Override
                         public void run() {
                             createDeathWave(player, target.getLocation(), weaponDamage, statMultiplier, zombieManager, world);
                         }
-                    }.runTaskLater(plugin, 5L);
+                    }.runTaskLater(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 5L);
                 }
             }
-        }.runTaskLater(plugin, 3L);
+        }.runTaskLater(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 3L);
     }
 
     private void createDeathWave(Player player, Location center, double weaponDamage, double statMultiplier,
@@ -9396,24 +9399,24 @@ class FinalJudgmentActive extends SynergyAbilities.BasePetAbility {
         double waveDamage = weaponDamage * deathWaveDamagePercent * statMultiplier;
 
         // Effet visuel de l'onde
-        world.playSound(center, Sound.ENTITY_WARDEN_SONIC_BOOM, 0.8f, 0.5f);
-        world.playSound(center, Sound.ENTITY_WITHER_DEATH, 0.6f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_WARDEN_SONIC_BOOM, 0.8f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_WITHER_DEATH, 0.6f, 1.5f);
 
         // Cercle de particules expansif
         for (double radius = 1; radius <= waveRadius; radius += 1.5) {
             final double r = radius;
-            new BukkitRunnable() {
+            new EffectTask() {
                 @Override
                 public void run() {
                     for (double angle = 0; angle < Math.PI * 2; angle += Math.PI / 8) {
                         double x = Math.cos(angle) * r;
                         double z = Math.sin(angle) * r;
                         Location particleLoc = center.clone().add(x, 0.5, z);
-                        world.spawnParticle(Particle.SOUL, particleLoc, 2, 0.1, 0.1, 0.1, 0.01);
-                        world.spawnParticle(Particle.SMOKE, particleLoc, 3, 0.1, 0.2, 0.1, 0.02);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SOUL, particleLoc, 2, 0.1, 0.1, 0.1, 0.01);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SMOKE, particleLoc, 3, 0.1, 0.2, 0.1, 0.02);
                     }
                 }
-            }.runTaskLater(com.rinaorc.zombiez.ZombieZPlugin.getInstance(), (long) (radius / 1.5));
+            }.runTaskLater(EffectScheduler.Subsystem.PETS, player.getUniqueId(), (long) (radius / 1.5));
         }
 
         // Dégâts aux ennemis dans la zone
@@ -9426,7 +9429,7 @@ class FinalJudgmentActive extends SynergyAbilities.BasePetAbility {
                     dealDamage(player, living, waveDamage, zombieManager);
 
                     // Effet sur chaque cible
-                    world.spawnParticle(Particle.SOUL, living.getLocation().add(0, 1, 0), 8, 0.2, 0.3, 0.2, 0.02);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SOUL, living.getLocation().add(0, 1, 0), 8, 0.2, 0.3, 0.2, 0.02);
                 }
             }
         }
@@ -9513,7 +9516,7 @@ class AbyssalRegenPassive implements PetAbility {
             if (regenStacks.getOrDefault(uuid, 0) > 0) {
                 regenStacks.put(uuid, 0);
                 World world = player.getWorld();
-                world.playSound(player.getLocation(), Sound.BLOCK_CONDUIT_DEACTIVATE, 0.5f, 1.2f);
+                ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player.getLocation(), Sound.BLOCK_CONDUIT_DEACTIVATE, 0.5f, 1.2f);
             }
             return;
         }
@@ -9530,8 +9533,8 @@ class AbyssalRegenPassive implements PetAbility {
             // Feedback visuel pour gain de stack
             World world = player.getWorld();
             Location loc = player.getLocation().add(0, 1, 0);
-            world.spawnParticle(Particle.BUBBLE_POP, loc, 8, 0.3, 0.5, 0.3, 0.02);
-            world.playSound(loc, Sound.ENTITY_DROWNED_AMBIENT_WATER, 0.3f, 1.5f + (currentStacks * 0.2f));
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BUBBLE_POP, loc, 8, 0.3, 0.5, 0.3, 0.02);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.ENTITY_DROWNED_AMBIENT_WATER, 0.3f, 1.5f + (currentStacks * 0.2f));
 
             // Message de stack
             String stackBar = "§b" + "▮".repeat(currentStacks) + "§7" + "▯".repeat(adjustedMaxStacks - currentStacks);
@@ -9552,8 +9555,8 @@ class AbyssalRegenPassive implements PetAbility {
                 // Particules de heal
                 World world = player.getWorld();
                 Location loc = player.getLocation().add(0, 1, 0);
-                world.spawnParticle(Particle.HEART, loc, 1, 0.3, 0.3, 0.3, 0);
-                world.spawnParticle(Particle.DRIPPING_WATER, loc, 5, 0.4, 0.5, 0.4, 0);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.HEART, loc, 1, 0.3, 0.3, 0.3, 0);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DRIPPING_WATER, loc, 5, 0.4, 0.5, 0.4, 0);
             }
         }
     }
@@ -9569,8 +9572,8 @@ class AbyssalRegenPassive implements PetAbility {
             regenStacks.put(uuid, 0);
 
             World world = player.getWorld();
-            world.playSound(player.getLocation(), Sound.ENTITY_DROWNED_HURT, 0.6f, 0.8f);
-            world.spawnParticle(Particle.FALLING_WATER, player.getLocation().add(0, 1, 0), 15, 0.4, 0.5, 0.4, 0);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player.getLocation(), Sound.ENTITY_DROWNED_HURT, 0.6f, 0.8f);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FALLING_WATER, player.getLocation().add(0, 1, 0), 15, 0.4, 0.5, 0.4, 0);
             player.sendMessage("§a[Pet] §c⚓ Régénération interrompue! §7(5s de récupération)");
         }
     }
@@ -9663,8 +9666,8 @@ class TridentStormActive implements PetAbility {
         }
 
         // Son d'activation
-        world.playSound(playerLoc, Sound.ITEM_TRIDENT_RIPTIDE_3, 1.2f, 0.8f);
-        world.playSound(playerLoc, Sound.ENTITY_DROWNED_SHOOT, 1.0f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ITEM_TRIDENT_RIPTIDE_3, 1.2f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_DROWNED_SHOOT, 1.0f, 1.2f);
 
         player.sendMessage("§a[Pet] §3§l⚓ TEMPÊTE DE TRIDENTS! §7" + adjustedCount + " tridents lancés!");
 
@@ -9674,7 +9677,7 @@ class TridentStormActive implements PetAbility {
 
         // Lancer les tridents avec un délai entre chaque
         final double finalTridentDamage = tridentDamage;
-        new BukkitRunnable() {
+        new EffectTask() {
             int launched = 0;
             int targetIndex = 0;
             Set<UUID> hitByPiercing = new HashSet<>();
@@ -9717,12 +9720,12 @@ class TridentStormActive implements PetAbility {
                     player, zombieManager, piercing, hitByPiercing);
 
                 // Son de lancer
-                world.playSound(startLoc, Sound.ITEM_TRIDENT_THROW, 0.8f, 1.0f + (float)(Math.random() * 0.4));
+                ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, startLoc, Sound.ITEM_TRIDENT_THROW, 0.8f, 1.0f + (float)(Math.random() * 0.4));
 
                 launched++;
                 targetIndex++;
             }
-        }.runTaskTimer(plugin, 0L, 2L); // Un trident toutes les 2 ticks (0.1s)
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, null, 0L, 2L); // Un trident toutes les 2 ticks (0.1s)
 
         return true;
     }
@@ -9732,7 +9735,7 @@ class TridentStormActive implements PetAbility {
             com.rinaorc.zombiez.zombies.ZombieManager zombieManager,
             boolean piercing, Set<UUID> alreadyHit) {
 
-        new BukkitRunnable() {
+        new EffectTask() {
             Location currentLoc = start.clone();
             int ticks = 0;
             final int maxTicks = 40; // 2 secondes max
@@ -9749,8 +9752,8 @@ class TridentStormActive implements PetAbility {
                 currentLoc.add(direction.clone().multiply(1.5));
 
                 // Particules de traînée
-                world.spawnParticle(Particle.BUBBLE_POP, currentLoc, 3, 0.1, 0.1, 0.1, 0);
-                world.spawnParticle(Particle.DRIPPING_WATER, currentLoc, 2, 0.1, 0.1, 0.1, 0);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BUBBLE_POP, currentLoc, 3, 0.1, 0.1, 0.1, 0);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DRIPPING_WATER, currentLoc, 2, 0.1, 0.1, 0.1, 0);
 
                 // Vérifier les collisions
                 for (Entity entity : world.getNearbyEntities(currentLoc, 1, 1, 1)) {
@@ -9763,8 +9766,8 @@ class TridentStormActive implements PetAbility {
                         }
 
                         // Impact!
-                        world.spawnParticle(Particle.CRIT, living.getLocation().add(0, 1, 0), 10, 0.2, 0.3, 0.2, 0.1);
-                        world.playSound(living.getLocation(), Sound.ITEM_TRIDENT_HIT, 1.0f, 1.0f);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, living.getLocation().add(0, 1, 0), 10, 0.2, 0.3, 0.2, 0.1);
+                        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, living.getLocation(), Sound.ITEM_TRIDENT_HIT, 1.0f, 1.0f);
 
                         // Infliger les dégâts
                         dealDamage(player, living, damage, zombieManager);
@@ -9790,7 +9793,7 @@ class TridentStormActive implements PetAbility {
 
                 ticks++;
             }
-        }.runTaskTimer(com.rinaorc.zombiez.ZombieZPlugin.getInstance(), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 1L);
     }
 
     private void dealDamage(Player player, LivingEntity target, double damage,
@@ -9884,7 +9887,7 @@ class DesertEndurancePassive implements PetAbility {
         player.sendMessage("§a❤ Les blocages soignent §b" + String.format("%.0f", adjustedHeal * 100) + "% HP");
 
         World world = player.getWorld();
-        world.playSound(player.getLocation(), Sound.ENTITY_CAMEL_AMBIENT, 1.0f, 1.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player.getLocation(), Sound.ENTITY_CAMEL_AMBIENT, 1.0f, 1.0f);
     }
 
     @Override
@@ -9915,9 +9918,9 @@ class DesertEndurancePassive implements PetAbility {
         // Feedback visuel
         World world = player.getWorld();
         Location loc = player.getLocation().add(0, 1, 0);
-        world.spawnParticle(Particle.HEART, loc, 2, 0.3, 0.3, 0.3, 0);
-        world.spawnParticle(Particle.BLOCK, loc, 8, 0.3, 0.5, 0.3, 0, Material.SAND.createBlockData());
-        world.playSound(loc, Sound.ITEM_SHIELD_BLOCK, 0.8f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.HEART, loc, 2, 0.3, 0.3, 0.3, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, loc, 8, 0.3, 0.5, 0.3, 0, Material.SAND.createBlockData());
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.ITEM_SHIELD_BLOCK, 0.8f, 1.2f);
 
         return healAmount;
     }
@@ -10014,9 +10017,9 @@ class CaravanChargeActive implements PetAbility {
         int adjustedDuration = durationSeconds + (petData.getStarPower() >= 2 ? 2 : 0);
 
         // Effets de démarrage
-        world.playSound(playerLoc, Sound.ENTITY_CAMEL_DASH, 1.2f, 0.8f);
-        world.playSound(playerLoc, Sound.ITEM_SHIELD_BLOCK, 1.0f, 0.6f);
-        world.spawnParticle(Particle.BLOCK, playerLoc.add(0, 1, 0), 30, 1, 1, 1, 0, Material.SAND.createBlockData());
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_CAMEL_DASH, 1.2f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ITEM_SHIELD_BLOCK, 1.0f, 0.6f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, playerLoc.add(0, 1, 0), 30, 1, 1, 1, 0, Material.SAND.createBlockData());
 
         player.sendMessage("§a[Pet] §e§l🐫 CHARGE DU CARAVANIER! §7Bloquez pour stocker les dégâts!");
         player.sendMessage("§7Bonus blocage: §a+" + String.format("%.0f", getExtraBlockBonus(petData) * 100) + "% §7pendant " + adjustedDuration + "s");
@@ -10026,7 +10029,7 @@ class CaravanChargeActive implements PetAbility {
         var zombieManager = plugin.getZombieManager();
 
         // Timer pour l'explosion finale
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticks = 0;
             final int maxTicks = adjustedDuration * 20;
 
@@ -10045,13 +10048,13 @@ class CaravanChargeActive implements PetAbility {
 
                     // Plus de particules si plus de dégâts stockés
                     int particleCount = Math.min(20, (int)(stored / 10) + 3);
-                    world.spawnParticle(Particle.DUST, loc, particleCount, 0.5, 0.5, 0.5, 0,
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, loc, particleCount, 0.5, 0.5, 0.5, 0,
                         new Particle.DustOptions(org.bukkit.Color.fromRGB(194, 178, 128), 1.5f));
 
                     // Son de charge croissant
                     if (stored > 50 && ticks % 20 == 0) {
                         float pitch = Math.min(1.5f, 0.8f + (float)(stored / 200));
-                        world.playSound(loc, Sound.BLOCK_ANVIL_LAND, 0.3f, pitch);
+                        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.BLOCK_ANVIL_LAND, 0.3f, pitch);
                     }
                 }
 
@@ -10080,7 +10083,7 @@ class CaravanChargeActive implements PetAbility {
                 chargeStartTime.remove(uuid);
                 storedDamage.remove(uuid);
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, null, 0L, 1L);
 
         return true;
     }
@@ -10101,9 +10104,9 @@ class CaravanChargeActive implements PetAbility {
         }
 
         // Effets visuels d'explosion
-        world.playSound(center, Sound.ENTITY_CAMEL_DASH, 1.5f, 0.5f);
-        world.playSound(center, Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 1.2f);
-        world.playSound(center, Sound.ITEM_SHIELD_BREAK, 1.0f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_CAMEL_DASH, 1.5f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ITEM_SHIELD_BREAK, 1.0f, 0.8f);
 
         // Vague de particules de sable
         for (int ring = 0; ring < 3; ring++) {
@@ -10117,9 +10120,9 @@ class CaravanChargeActive implements PetAbility {
                         0.5,
                         Math.sin(rad) * ringRadius
                     );
-                    world.spawnParticle(Particle.BLOCK, particleLoc, 5, 0.3, 0.3, 0.3, 0.1,
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, particleLoc, 5, 0.3, 0.3, 0.3, 0.1,
                         Material.SAND.createBlockData());
-                    world.spawnParticle(Particle.EXPLOSION, particleLoc, 1, 0, 0, 0, 0);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION, particleLoc, 1, 0, 0, 0, 0);
                 }
             }, ringIndex * 3L);
         }
@@ -10127,7 +10130,7 @@ class CaravanChargeActive implements PetAbility {
         // Colonne centrale
         for (double y = 0; y < 3; y += 0.5) {
             Location colLoc = center.clone().add(0, y, 0);
-            world.spawnParticle(Particle.DUST, colLoc, 10, 0.5, 0.2, 0.5, 0,
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, colLoc, 10, 0.5, 0.2, 0.5, 0,
                 new Particle.DustOptions(org.bukkit.Color.fromRGB(194, 128, 64), 2.0f));
         }
 
@@ -10149,7 +10152,7 @@ class CaravanChargeActive implements PetAbility {
                     // Stun si Star 3
                     if (stun && living instanceof org.bukkit.entity.Mob mob) {
                         mob.setAI(false);
-                        world.spawnParticle(Particle.FLASH, living.getLocation().add(0, 1, 0), 1);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLASH, living.getLocation().add(0, 1, 0), 1);
 
                         Bukkit.getScheduler().runTaskLater(com.rinaorc.zombiez.ZombieZPlugin.getInstance(), () -> {
                             if (mob.isValid() && !mob.isDead()) {
@@ -10159,7 +10162,7 @@ class CaravanChargeActive implements PetAbility {
                     }
 
                     // Particules d'impact
-                    world.spawnParticle(Particle.CRIT, living.getLocation().add(0, 1, 0), 15, 0.3, 0.5, 0.3, 0.2);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, living.getLocation().add(0, 1, 0), 15, 0.3, 0.5, 0.3, 0.2);
                 }
             }
         }
@@ -10262,8 +10265,8 @@ class UnstableMerchandisePassive implements PetAbility {
             adjustedCharges + " charges électriques");
 
         World world = player.getWorld();
-        world.playSound(player.getLocation(), Sound.ENTITY_WANDERING_TRADER_AMBIENT, 1.0f, 1.0f);
-        world.playSound(player.getLocation(), Sound.BLOCK_RESPAWN_ANCHOR_CHARGE, 0.5f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player.getLocation(), Sound.ENTITY_WANDERING_TRADER_AMBIENT, 1.0f, 1.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player.getLocation(), Sound.BLOCK_RESPAWN_ANCHOR_CHARGE, 0.5f, 1.5f);
     }
 
     @Override
@@ -10286,8 +10289,8 @@ class UnstableMerchandisePassive implements PetAbility {
         double chargeDamage = weaponDamage * adjustedDamagePercent;
 
         // Son d'activation
-        world.playSound(playerLoc, Sound.BLOCK_RESPAWN_ANCHOR_CHARGE, 0.8f, 1.8f);
-        world.playSound(playerLoc, Sound.ENTITY_FIREWORK_ROCKET_TWINKLE, 0.6f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.BLOCK_RESPAWN_ANCHOR_CHARGE, 0.8f, 1.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_FIREWORK_ROCKET_TWINKLE, 0.6f, 1.5f);
 
         player.sendMessage("§a[Pet] §e⚡ CHARGES LIBÉRÉES! §7" + adjustedCharges + " charges électriques!");
 
@@ -10335,7 +10338,7 @@ class UnstableMerchandisePassive implements PetAbility {
     private void spawnElectricCharge(World world, Location start, LivingEntity target, double damage,
                                       Player player, com.rinaorc.zombiez.zombies.ZombieManager zombieManager) {
 
-        new BukkitRunnable() {
+        new EffectTask() {
             Location currentLoc = start.clone();
             int ticks = 0;
             final int maxTicks = 30;
@@ -10370,19 +10373,19 @@ class UnstableMerchandisePassive implements PetAbility {
                 currentLoc.add(direction);
 
                 // Particules de la charge électrique
-                world.spawnParticle(Particle.ELECTRIC_SPARK, currentLoc, 5, 0.1, 0.1, 0.1, 0.02);
-                world.spawnParticle(Particle.END_ROD, currentLoc, 2, 0.05, 0.05, 0.05, 0);
-                world.spawnParticle(Particle.DUST, currentLoc, 3, 0.1, 0.1, 0.1, 0,
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ELECTRIC_SPARK, currentLoc, 5, 0.1, 0.1, 0.1, 0.02);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, currentLoc, 2, 0.05, 0.05, 0.05, 0);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, currentLoc, 3, 0.1, 0.1, 0.1, 0,
                     new Particle.DustOptions(org.bukkit.Color.fromRGB(255, 255, 100), 0.8f));
 
                 // Son crépitant occasionnel
                 if (ticks % 5 == 0) {
-                    world.playSound(currentLoc, Sound.BLOCK_AMETHYST_BLOCK_CHIME, 0.3f, 2.0f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, currentLoc, Sound.BLOCK_AMETHYST_BLOCK_CHIME, 0.3f, 2.0f);
                 }
 
                 ticks++;
             }
-        }.runTaskTimer(com.rinaorc.zombiez.ZombieZPlugin.getInstance(), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 1L);
     }
 
     /**
@@ -10390,21 +10393,21 @@ class UnstableMerchandisePassive implements PetAbility {
      */
     private void spawnLightningImpact(World world, Location loc) {
         // Explosion de particules électriques
-        world.spawnParticle(Particle.ELECTRIC_SPARK, loc, 25, 0.5, 0.5, 0.5, 0.1);
-        world.spawnParticle(Particle.END_ROD, loc, 15, 0.3, 0.5, 0.3, 0.05);
-        world.spawnParticle(Particle.FIREWORK, loc, 8, 0.2, 0.2, 0.2, 0.1);
-        world.spawnParticle(Particle.DUST, loc, 10, 0.4, 0.4, 0.4, 0,
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ELECTRIC_SPARK, loc, 25, 0.5, 0.5, 0.5, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, loc, 15, 0.3, 0.5, 0.3, 0.05);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FIREWORK, loc, 8, 0.2, 0.2, 0.2, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, loc, 10, 0.4, 0.4, 0.4, 0,
             new Particle.DustOptions(org.bukkit.Color.fromRGB(200, 255, 255), 1.2f));
 
         // Colonne de lumière vers le haut
         for (double y = 0; y < 2; y += 0.3) {
             Location colLoc = loc.clone().add(0, y, 0);
-            world.spawnParticle(Particle.END_ROD, colLoc, 2, 0.1, 0, 0.1, 0);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, colLoc, 2, 0.1, 0, 0.1, 0);
         }
 
         // Son d'impact
-        world.playSound(loc, Sound.ENTITY_FIREWORK_ROCKET_BLAST, 1.0f, 1.5f);
-        world.playSound(loc, Sound.BLOCK_RESPAWN_ANCHOR_DEPLETE, 0.8f, 1.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.ENTITY_FIREWORK_ROCKET_BLAST, 1.0f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.BLOCK_RESPAWN_ANCHOR_DEPLETE, 0.8f, 1.8f);
     }
 
     /**
@@ -10500,9 +10503,9 @@ class VoltaicArcActive implements PetAbility {
         }
 
         // Son d'activation
-        world.playSound(playerLoc, Sound.ENTITY_LIGHTNING_BOLT_THUNDER, 0.8f, 1.5f);
-        world.playSound(playerLoc, Sound.BLOCK_RESPAWN_ANCHOR_CHARGE, 1.0f, 0.8f);
-        world.playSound(playerLoc, Sound.ENTITY_WANDERING_TRADER_TRADE, 1.0f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_LIGHTNING_BOLT_THUNDER, 0.8f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.BLOCK_RESPAWN_ANCHOR_CHARGE, 1.0f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_WANDERING_TRADER_TRADE, 1.0f, 1.2f);
 
         player.sendMessage("§a[Pet] §e§l⚡ ARC VOLTAÏQUE! §7" + adjustedBounces + " rebonds max!");
 
@@ -10571,7 +10574,7 @@ class VoltaicArcActive implements PetAbility {
 
         // Animer la chaîne d'éclairs
         final List<LivingEntity> finalChain = chainTargets;
-        new BukkitRunnable() {
+        new EffectTask() {
             int currentIndex = 0;
             Location arcStart = startLoc.clone();
 
@@ -10600,7 +10603,7 @@ class VoltaicArcActive implements PetAbility {
                 // Chance de paralyser
                 if (Math.random() < paralyzeChance && target instanceof org.bukkit.entity.Mob mob) {
                     mob.setAI(false);
-                    world.spawnParticle(Particle.ELECTRIC_SPARK, targetLoc, 15, 0.3, 0.5, 0.3, 0.05);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ELECTRIC_SPARK, targetLoc, 15, 0.3, 0.5, 0.3, 0.05);
 
                     Bukkit.getScheduler().runTaskLater(com.rinaorc.zombiez.ZombieZPlugin.getInstance(), () -> {
                         if (mob.isValid() && !mob.isDead()) {
@@ -10612,7 +10615,7 @@ class VoltaicArcActive implements PetAbility {
                 arcStart = targetLoc.clone();
                 currentIndex++;
             }
-        }.runTaskTimer(com.rinaorc.zombiez.ZombieZPlugin.getInstance(), 0L, 4L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, null, 0L, 4L);
 
         // Message de résultat
         Bukkit.getScheduler().runTaskLater(com.rinaorc.zombiez.ZombieZPlugin.getInstance(), () -> {
@@ -10669,38 +10672,38 @@ class VoltaicArcActive implements PetAbility {
             );
 
             // Particules de l'arc
-            world.spawnParticle(Particle.ELECTRIC_SPARK, particleLoc, 2, 0.05, 0.05, 0.05, 0);
-            world.spawnParticle(Particle.END_ROD, particleLoc, 1, 0, 0, 0, 0);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ELECTRIC_SPARK, particleLoc, 2, 0.05, 0.05, 0.05, 0);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, particleLoc, 1, 0, 0, 0, 0);
 
             // Particules colorées tous les 2 segments
             if (i % 2 == 0) {
-                world.spawnParticle(Particle.DUST, particleLoc, 2, 0.1, 0.1, 0.1, 0,
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, particleLoc, 2, 0.1, 0.1, 0.1, 0,
                     new Particle.DustOptions(org.bukkit.Color.fromRGB(100, 200, 255), 1.0f));
             }
         }
 
         // Son de crépitement
-        world.playSound(from, Sound.BLOCK_AMETHYST_BLOCK_CHIME, 0.5f, 1.8f);
-        world.playSound(to, Sound.ENTITY_FIREWORK_ROCKET_TWINKLE, 0.6f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, from, Sound.BLOCK_AMETHYST_BLOCK_CHIME, 0.5f, 1.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, to, Sound.ENTITY_FIREWORK_ROCKET_TWINKLE, 0.6f, 1.5f);
     }
 
     /**
      * Effet visuel d'impact de foudre
      */
     private void spawnLightningImpact(World world, Location loc) {
-        world.spawnParticle(Particle.ELECTRIC_SPARK, loc, 30, 0.5, 0.5, 0.5, 0.15);
-        world.spawnParticle(Particle.END_ROD, loc, 12, 0.3, 0.4, 0.3, 0.05);
-        world.spawnParticle(Particle.FIREWORK, loc, 6, 0.2, 0.2, 0.2, 0.1);
-        world.spawnParticle(Particle.DUST, loc, 8, 0.3, 0.3, 0.3, 0,
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ELECTRIC_SPARK, loc, 30, 0.5, 0.5, 0.5, 0.15);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, loc, 12, 0.3, 0.4, 0.3, 0.05);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FIREWORK, loc, 6, 0.2, 0.2, 0.2, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, loc, 8, 0.3, 0.3, 0.3, 0,
             new Particle.DustOptions(org.bukkit.Color.fromRGB(255, 255, 150), 1.5f));
 
         // Colonne de lumière
         for (double y = 0; y < 1.5; y += 0.2) {
             Location colLoc = loc.clone().add(0, y, 0);
-            world.spawnParticle(Particle.END_ROD, colLoc, 1, 0.05, 0, 0.05, 0);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, colLoc, 1, 0.05, 0, 0.05, 0);
         }
 
-        world.playSound(loc, Sound.ENTITY_FIREWORK_ROCKET_BLAST, 0.8f, 1.3f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.ENTITY_FIREWORK_ROCKET_BLAST, 0.8f, 1.3f);
     }
 
     /**
@@ -10802,7 +10805,7 @@ class BurningCritPassive implements PetAbility {
                 ));
 
                 // Effet visuel
-                player.getWorld().spawnParticle(Particle.FLAME, player.getLocation().add(0, 1, 0),
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, player.getLocation().add(0, 1, 0),
                     stacks * 3, 0.5, 0.5, 0.5, 0.02);
             }
         } else {
@@ -10943,8 +10946,8 @@ class DisintegrationRayActive implements PetAbility {
 
         // Effet d'activation
         player.sendMessage("§6§l⚡ RAYON DE DÉSINTÉGRATION ACTIVÉ!");
-        player.getWorld().playSound(player.getLocation(), Sound.ITEM_FIRECHARGE_USE, 1.5f, 0.5f);
-        player.getWorld().playSound(player.getLocation(), Sound.ENTITY_BLAZE_AMBIENT, 1.0f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player.getLocation(), Sound.ITEM_FIRECHARGE_USE, 1.5f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player.getLocation(), Sound.ENTITY_BLAZE_AMBIENT, 1.0f, 0.8f);
 
         // Démarre la canalisation
         final int[] ticksElapsed = {0};
@@ -11002,7 +11005,7 @@ class DisintegrationRayActive implements PetAbility {
             task.cancel();
         }
         player.sendMessage(message);
-        player.getWorld().playSound(player.getLocation(), Sound.BLOCK_FIRE_EXTINGUISH, 1.0f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player.getLocation(), Sound.BLOCK_FIRE_EXTINGUISH, 1.0f, 1.2f);
     }
 
     /**
@@ -11108,23 +11111,23 @@ class DisintegrationRayActive implements PetAbility {
             // Couleur selon si on touche une cible
             if (hasTarget) {
                 // Rayon orange/rouge intense
-                world.spawnParticle(Particle.FLAME, currentPoint, 2, 0.05, 0.05, 0.05, 0.01);
-                world.spawnParticle(Particle.DUST, currentPoint, 3, 0.08, 0.08, 0.08, 0,
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, currentPoint, 2, 0.05, 0.05, 0.05, 0.01);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, currentPoint, 3, 0.08, 0.08, 0.08, 0,
                     new Particle.DustOptions(org.bukkit.Color.fromRGB(255, 100, 0), 1.2f));
             } else {
                 // Rayon jaune/orange
-                world.spawnParticle(Particle.DUST, currentPoint, 2, 0.06, 0.06, 0.06, 0,
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, currentPoint, 2, 0.06, 0.06, 0.06, 0,
                     new Particle.DustOptions(org.bukkit.Color.fromRGB(255, 180, 50), 0.8f));
             }
 
             // Étincelles tous les 3 segments
             if (i % 3 == 0) {
-                world.spawnParticle(Particle.LAVA, currentPoint, 1, 0.1, 0.1, 0.1, 0);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.LAVA, currentPoint, 1, 0.1, 0.1, 0.1, 0);
             }
         }
 
         // Son du rayon
-        world.playSound(from, Sound.ENTITY_BLAZE_SHOOT, 0.3f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, from, Sound.ENTITY_BLAZE_SHOOT, 0.3f, 1.5f);
     }
 
     /**
@@ -11132,10 +11135,10 @@ class DisintegrationRayActive implements PetAbility {
      */
     private void spawnDisintegrationEffect(World world, Location loc) {
         // Explosion de cendres et particules
-        world.spawnParticle(Particle.FLAME, loc.add(0, 1, 0), 50, 0.5, 0.8, 0.5, 0.15);
-        world.spawnParticle(Particle.CAMPFIRE_COSY_SMOKE, loc, 20, 0.3, 0.5, 0.3, 0.05);
-        world.spawnParticle(Particle.ASH, loc, 80, 1.0, 1.0, 1.0, 0.1);
-        world.spawnParticle(Particle.DUST, loc, 30, 0.6, 0.8, 0.6, 0,
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, loc.add(0, 1, 0), 50, 0.5, 0.8, 0.5, 0.15);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CAMPFIRE_COSY_SMOKE, loc, 20, 0.3, 0.5, 0.3, 0.05);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ASH, loc, 80, 1.0, 1.0, 1.0, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, loc, 30, 0.6, 0.8, 0.6, 0,
             new Particle.DustOptions(org.bukkit.Color.fromRGB(50, 50, 50), 1.5f));
 
         // Spirale montante de cendres
@@ -11144,13 +11147,13 @@ class DisintegrationRayActive implements PetAbility {
             double radius = 0.4 * (1 - y/2);
             double x = Math.cos(angle) * radius;
             double z = Math.sin(angle) * radius;
-            world.spawnParticle(Particle.CAMPFIRE_SIGNAL_SMOKE, loc.clone().add(x, y, z),
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CAMPFIRE_SIGNAL_SMOKE, loc.clone().add(x, y, z),
                 1, 0, 0, 0, 0);
         }
 
         // Sons
-        world.playSound(loc, Sound.BLOCK_FIRE_EXTINGUISH, 1.5f, 0.6f);
-        world.playSound(loc, Sound.ENTITY_BLAZE_DEATH, 0.8f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.BLOCK_FIRE_EXTINGUISH, 1.5f, 0.6f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.ENTITY_BLAZE_DEATH, 0.8f, 1.5f);
 
         // Message
         world.getPlayers().stream()
@@ -11171,12 +11174,12 @@ class DisintegrationRayActive implements PetAbility {
             double radius = 0.5 + Math.random() * 0.3;
             double x = Math.cos(angle) * radius;
             double z = Math.sin(angle) * radius;
-            world.spawnParticle(Particle.FLAME, loc.clone().add(x, 0, z), 1, 0, 0.2, 0, 0.02);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, loc.clone().add(x, 0, z), 1, 0, 0.2, 0, 0.02);
         }
 
         // Particules sur les mains
         Location handLoc = player.getEyeLocation().add(player.getEyeLocation().getDirection().multiply(0.5));
-        world.spawnParticle(Particle.DUST, handLoc, 3, 0.1, 0.1, 0.1, 0,
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, handLoc, 3, 0.1, 0.1, 0.1, 0,
             new Particle.DustOptions(org.bukkit.Color.fromRGB(255, 150, 0), 0.6f));
     }
 
@@ -11309,7 +11312,7 @@ class ElementalSensitivityPassive implements PetAbility {
         if (isNewStack && activeStacks > 0) {
             // Effet visuel sur la cible
             Location loc = target.getLocation().add(0, 1, 0);
-            target.getWorld().spawnParticle(Particle.DUST, loc, 15, 0.5, 0.5, 0.5, 0,
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, loc, 15, 0.5, 0.5, 0.5, 0,
                 new Particle.DustOptions(element.color, 1.2f));
 
             // Construit l'affichage des stacks
@@ -11326,7 +11329,7 @@ class ElementalSensitivityPassive implements PetAbility {
             ));
 
             // Son
-            player.playSound(player.getLocation(), Sound.BLOCK_AMETHYST_BLOCK_CHIME, 0.5f, 1.5f + activeStacks * 0.2f);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.BLOCK_AMETHYST_BLOCK_CHIME, 0.5f, 1.5f + activeStacks * 0.2f);
         }
     }
 
@@ -11476,8 +11479,8 @@ class ArchonFormActive implements PetAbility {
         player.sendMessage("§7» §a+30% dégâts §7| §b+150% armure §7| §e+6% par kill");
 
         // Sons et effets
-        player.getWorld().playSound(player.getLocation(), Sound.ENTITY_WITHER_SPAWN, 0.8f, 1.5f);
-        player.getWorld().playSound(player.getLocation(), Sound.BLOCK_BEACON_ACTIVATE, 1.5f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player.getLocation(), Sound.ENTITY_WITHER_SPAWN, 0.8f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player.getLocation(), Sound.BLOCK_BEACON_ACTIVATE, 1.5f, 1.2f);
         spawnArchonNovaEffect(player);
 
         // Timer de la transformation
@@ -11583,11 +11586,11 @@ class ArchonFormActive implements PetAbility {
         revertTransformation(player, state);
 
         player.sendMessage(message);
-        player.getWorld().playSound(player.getLocation(), Sound.BLOCK_BEACON_DEACTIVATE, 1.0f, 1.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player.getLocation(), Sound.BLOCK_BEACON_DEACTIVATE, 1.0f, 1.0f);
 
         // Effet de fin
         Location loc = player.getLocation().add(0, 1, 0);
-        player.getWorld().spawnParticle(Particle.REVERSE_PORTAL, loc, 50, 0.5, 0.8, 0.5, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.REVERSE_PORTAL, loc, 50, 0.5, 0.8, 0.5, 0.1);
     }
 
     /**
@@ -11604,7 +11607,7 @@ class ArchonFormActive implements PetAbility {
                 double z = Math.sin(angle) * r;
                 Location particleLoc = center.clone().add(x, 0, z);
 
-                world.spawnParticle(Particle.DUST, particleLoc, 1, 0, 0, 0, 0,
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, particleLoc, 1, 0, 0, 0, 0,
                     new Particle.DustOptions(org.bukkit.Color.fromRGB(128, 0, 255), 1.5f));
             }
         }
@@ -11612,8 +11615,8 @@ class ArchonFormActive implements PetAbility {
         // Colonne centrale
         for (double y = 0; y < 3; y += 0.2) {
             Location colLoc = center.clone().add(0, y, 0);
-            world.spawnParticle(Particle.END_ROD, colLoc, 2, 0.1, 0, 0.1, 0.02);
-            world.spawnParticle(Particle.PORTAL, colLoc, 5, 0.2, 0.2, 0.2, 0.5);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, colLoc, 2, 0.1, 0, 0.1, 0.02);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.PORTAL, colLoc, 5, 0.2, 0.2, 0.2, 0.5);
         }
     }
 
@@ -11631,12 +11634,12 @@ class ArchonFormActive implements PetAbility {
             double x = Math.cos(angle) * 0.8;
             double z = Math.sin(angle) * 0.8;
 
-            world.spawnParticle(Particle.DUST, loc.clone().add(x, 0, z), 3, 0.1, 0.3, 0.1, 0,
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, loc.clone().add(x, 0, z), 3, 0.1, 0.3, 0.1, 0,
                 new Particle.DustOptions(org.bukkit.Color.fromRGB(180, 50, 255), 1.0f));
         }
 
         // Particules de portail
-        world.spawnParticle(Particle.PORTAL, loc, 8, 0.4, 0.6, 0.4, 0.3);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.PORTAL, loc, 8, 0.4, 0.6, 0.4, 0.3);
     }
 
     /**
@@ -11663,8 +11666,8 @@ class ArchonFormActive implements PetAbility {
 
             // Effet visuel de power-up
             Location loc = player.getLocation().add(0, 1.5, 0);
-            player.getWorld().spawnParticle(Particle.TOTEM_OF_UNDYING, loc, 10, 0.3, 0.3, 0.3, 0.1);
-            player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 0.5f, 1.5f + state.killCount * 0.05f);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.TOTEM_OF_UNDYING, loc, 10, 0.3, 0.3, 0.3, 0.1);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 0.5f, 1.5f + state.killCount * 0.05f);
 
             double totalBonus = baseDamageBonus + (state.killCount * damagePerKill);
             player.sendMessage("§5§l⚡ §dKill Archonte! §7Dégâts: §a+" + String.format("%.0f", totalBonus * 100) + "%");
@@ -11799,7 +11802,7 @@ class VoidGravityPassive implements PetAbility {
                     living.setVelocity(living.getVelocity().add(pullDirection.multiply(pullForce)));
 
                     // Particules de vide sur l'ennemi
-                    world.spawnParticle(Particle.PORTAL, living.getLocation().add(0, 1, 0),
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.PORTAL, living.getLocation().add(0, 1, 0),
                         5, 0.3, 0.5, 0.3, 0.1);
                 }
             }
@@ -11827,7 +11830,7 @@ class VoidGravityPassive implements PetAbility {
             double z = Math.sin(angle) * zoneRadius;
 
             Location particleLoc = center.clone().add(x, 0, z);
-            world.spawnParticle(Particle.DUST, particleLoc, 2, 0.1, 0.1, 0.1, 0,
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, particleLoc, 2, 0.1, 0.1, 0.1, 0,
                 new Particle.DustOptions(org.bukkit.Color.fromRGB(75, 0, 130), 1.0f));
         }
 
@@ -11838,7 +11841,7 @@ class VoidGravityPassive implements PetAbility {
             double z = Math.sin(angle) * r;
 
             Location particleLoc = center.clone().add(x, 0.5, z);
-            world.spawnParticle(Particle.END_ROD, particleLoc, 1, 0, 0, 0, 0);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, particleLoc, 1, 0, 0, 0, 0);
         }
     }
 
@@ -11961,8 +11964,8 @@ class SingularityActive implements PetAbility {
 
         // Message d'activation
         player.sendMessage("§5§l✦ SINGULARITÉ CRÉÉE!");
-        world.playSound(singularityLoc, Sound.ENTITY_WITHER_SPAWN, 1.0f, 0.5f);
-        world.playSound(singularityLoc, Sound.BLOCK_PORTAL_TRIGGER, 1.5f, 0.3f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, singularityLoc, Sound.ENTITY_WITHER_SPAWN, 1.0f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, singularityLoc, Sound.BLOCK_PORTAL_TRIGGER, 1.5f, 0.3f);
 
         // Phase d'aspiration
         final int chargeTicks = (int)(chargeDuration * 20);
@@ -12035,7 +12038,7 @@ class SingularityActive implements PetAbility {
                 living.addPotionEffect(new PotionEffect(PotionEffectType.SLOWNESS, 20, 3, false, false));
 
                 // Particules sur l'ennemi
-                world.spawnParticle(Particle.PORTAL, living.getLocation().add(0, 1, 0),
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.PORTAL, living.getLocation().add(0, 1, 0),
                     8, 0.3, 0.5, 0.3, 0.5);
             }
         }
@@ -12057,7 +12060,7 @@ class SingularityActive implements PetAbility {
             double z = Math.cos(phi) * radius;
 
             Location particleLoc = center.clone().add(x, y, z);
-            world.spawnParticle(Particle.DUST, particleLoc, 1, 0, 0, 0, 0,
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, particleLoc, 1, 0, 0, 0, 0,
                 new Particle.DustOptions(org.bukkit.Color.fromRGB(20, 0, 40), 1.5f));
         }
 
@@ -12069,15 +12072,15 @@ class SingularityActive implements PetAbility {
             double z = Math.sin(angle) * r;
 
             Location spiralLoc = center.clone().add(x, 0, z);
-            world.spawnParticle(Particle.END_ROD, spiralLoc, 1, 0, 0, 0, 0);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, spiralLoc, 1, 0, 0, 0, 0);
         }
 
         // Centre brillant
-        world.spawnParticle(Particle.REVERSE_PORTAL, center, 15, 0.3, 0.3, 0.3, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.REVERSE_PORTAL, center, 15, 0.3, 0.3, 0.3, 0.1);
 
         // Son de charge
         if (ticksElapsed % 10 == 0) {
-            world.playSound(center, Sound.BLOCK_BEACON_AMBIENT, 0.8f, 0.5f + (float)progress * 0.5f);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.BLOCK_BEACON_AMBIENT, 0.8f, 0.5f + (float)progress * 0.5f);
         }
     }
 
@@ -12128,7 +12131,7 @@ class SingularityActive implements PetAbility {
                 target.setVelocity(knockback.multiply(knockbackForce));
 
                 // Effet de dispersion
-                world.spawnParticle(Particle.EXPLOSION, target.getLocation(), 1);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION, target.getLocation(), 1);
             }
         }
 
@@ -12150,20 +12153,20 @@ class SingularityActive implements PetAbility {
                 double z = Math.sin(angle) * r;
                 Location particleLoc = center.clone().add(x, 0, z);
 
-                world.spawnParticle(Particle.DUST, particleLoc, 2, 0.1, 0.1, 0.1, 0,
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, particleLoc, 2, 0.1, 0.1, 0.1, 0,
                     new Particle.DustOptions(org.bukkit.Color.fromRGB(128, 0, 255), 2.0f));
             }
         }
 
         // Explosion centrale
-        world.spawnParticle(Particle.EXPLOSION_EMITTER, center, 1);
-        world.spawnParticle(Particle.REVERSE_PORTAL, center, 100, 0.5, 0.5, 0.5, 0.5);
-        world.spawnParticle(Particle.END_ROD, center, 50, 1, 1, 1, 0.3);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION_EMITTER, center, 1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.REVERSE_PORTAL, center, 100, 0.5, 0.5, 0.5, 0.5);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, center, 50, 1, 1, 1, 0.3);
 
         // Sons
-        world.playSound(center, Sound.ENTITY_GENERIC_EXPLODE, 1.5f, 0.6f);
-        world.playSound(center, Sound.ENTITY_WITHER_BREAK_BLOCK, 1.0f, 0.8f);
-        world.playSound(center, Sound.BLOCK_END_PORTAL_SPAWN, 1.0f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_GENERIC_EXPLODE, 1.5f, 0.6f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_WITHER_BREAK_BLOCK, 1.0f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.BLOCK_END_PORTAL_SPAWN, 1.0f, 1.5f);
     }
 
     /**
@@ -12315,7 +12318,7 @@ class ShulkerBulletPassive implements PetAbility {
         levitated.add(target.getUniqueId());
 
         // Planifie le retrait de la lévitation après la durée
-        new BukkitRunnable() {
+        new EffectTask() {
             @Override
             public void run() {
                 Set<UUID> lev = levitatingEnemies.get(playerId);
@@ -12331,17 +12334,17 @@ class ShulkerBulletPassive implements PetAbility {
                         target.damage(fallDamage, player);
 
                         // Effet d'impact
-                        world.spawnParticle(Particle.BLOCK, target.getLocation(), 20,
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, target.getLocation(), 20,
                             0.5, 0.1, 0.5, 0.1, org.bukkit.Material.PURPLE_CONCRETE.createBlockData());
-                        world.playSound(target.getLocation(), Sound.ENTITY_PLAYER_BIG_FALL, 1.0f, 0.8f);
+                        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, target.getLocation(), Sound.ENTITY_PLAYER_BIG_FALL, 1.0f, 0.8f);
                     }
                 }
             }
-        }.runTaskLater(plugin, levitationDuration + 10);
+        }.runTaskLater(EffectScheduler.Subsystem.PETS, null, levitationDuration + 10);
 
         // Effet visuel et sonore
-        world.spawnParticle(Particle.END_ROD, targetLoc, 15, 0.3, 0.5, 0.3, 0.1);
-        world.playSound(targetLoc, Sound.ENTITY_SHULKER_SHOOT, 1.0f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, targetLoc, 15, 0.3, 0.5, 0.3, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, targetLoc, Sound.ENTITY_SHULKER_SHOOT, 1.0f, 1.2f);
 
         // Message
         String bonusText = wasLevitating ? " §d(+20% Aérien!)" : "";
@@ -12363,7 +12366,7 @@ class ShulkerBulletPassive implements PetAbility {
 
         for (int i = 0; i < segments; i++) {
             currentPoint.add(direction.clone().multiply(distance / segments));
-            world.spawnParticle(Particle.DUST, currentPoint, 2, 0.05, 0.05, 0.05, 0,
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, currentPoint, 2, 0.05, 0.05, 0.05, 0,
                 new Particle.DustOptions(org.bukkit.Color.fromRGB(200, 100, 255), 0.8f));
         }
     }
@@ -12495,8 +12498,8 @@ class GravitationalBarrageActive implements PetAbility {
 
         // Message d'activation
         player.sendMessage("§5§l✦ BARRAGE GRAVITATIONNEL!");
-        world.playSound(playerLoc, Sound.ENTITY_SHULKER_OPEN, 1.5f, 0.8f);
-        world.playSound(playerLoc, Sound.ENTITY_ENDER_DRAGON_FLAP, 1.0f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_SHULKER_OPEN, 1.5f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_ENDER_DRAGON_FLAP, 1.0f, 1.5f);
 
         // Track des ennemis touchés
         Set<LivingEntity> hitEnemies = ConcurrentHashMap.newKeySet();
@@ -12516,12 +12519,12 @@ class GravitationalBarrageActive implements PetAbility {
         }
 
         // Planifie le slam après la lévitation
-        new BukkitRunnable() {
+        new EffectTask() {
             @Override
             public void run() {
                 slamEnemies(player, hitEnemies, weaponDamage, statMultiplier, zombieManager, world);
             }
-        }.runTaskLater(plugin, levitationDuration);
+        }.runTaskLater(EffectScheduler.Subsystem.PETS, player.getUniqueId(), levitationDuration);
         return true;
     }
 
@@ -12539,7 +12542,7 @@ class GravitationalBarrageActive implements PetAbility {
             Location checkLoc = start.clone().add(direction.clone().multiply(d));
 
             // Particules de traînée
-            world.spawnParticle(Particle.DUST, checkLoc, 1, 0, 0, 0, 0,
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, checkLoc, 1, 0, 0, 0, 0,
                 new Particle.DustOptions(org.bukkit.Color.fromRGB(200, 100, 255), 1.0f));
 
             // Cherche des ennemis proches
@@ -12556,7 +12559,7 @@ class GravitationalBarrageActive implements PetAbility {
                     // Double dégâts si déjà en lévitation
                     if (linkedPassive != null && linkedPassive.isLevitating(player, living)) {
                         bulletDamage *= doubleDamageIfLevitating;
-                        world.spawnParticle(Particle.ENCHANTED_HIT, living.getLocation().add(0, 1, 0),
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ENCHANTED_HIT, living.getLocation().add(0, 1, 0),
                             20, 0.3, 0.5, 0.3, 0.2);
                     }
 
@@ -12577,9 +12580,9 @@ class GravitationalBarrageActive implements PetAbility {
                     living.addPotionEffect(new PotionEffect(PotionEffectType.LEVITATION, levitationDuration, 2, false, true));
 
                     // Effet d'impact
-                    world.spawnParticle(Particle.END_ROD, living.getLocation().add(0, 1, 0),
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, living.getLocation().add(0, 1, 0),
                         12, 0.3, 0.4, 0.3, 0.1);
-                    world.playSound(living.getLocation(), Sound.ENTITY_SHULKER_BULLET_HIT, 0.8f, 1.3f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, living.getLocation(), Sound.ENTITY_SHULKER_BULLET_HIT, 0.8f, 1.3f);
                 }
             }
         }
@@ -12608,7 +12611,7 @@ class GravitationalBarrageActive implements PetAbility {
 
             // Planifie l'impact au sol
             Location targetLoc = target.getLocation();
-            new BukkitRunnable() {
+            new EffectTask() {
                 @Override
                 public void run() {
                     if (target.isDead()) return;
@@ -12638,22 +12641,22 @@ class GravitationalBarrageActive implements PetAbility {
 
                     // Effet d'impact au sol
                     Location impactLoc = target.getLocation();
-                    world.spawnParticle(Particle.EXPLOSION, impactLoc, 1);
-                    world.spawnParticle(Particle.BLOCK, impactLoc, 30, 1, 0.2, 1, 0.1,
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION, impactLoc, 1);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, impactLoc, 30, 1, 0.2, 1, 0.1,
                         org.bukkit.Material.PURPLE_CONCRETE.createBlockData());
-                    world.spawnParticle(Particle.DUST, impactLoc, 20, 0.8, 0.3, 0.8, 0,
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, impactLoc, 20, 0.8, 0.3, 0.8, 0,
                         new Particle.DustOptions(org.bukkit.Color.fromRGB(150, 50, 200), 1.5f));
-                    world.playSound(impactLoc, Sound.ENTITY_IRON_GOLEM_DAMAGE, 1.2f, 0.6f);
-                    world.playSound(impactLoc, Sound.ENTITY_PLAYER_BIG_FALL, 1.5f, 0.7f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, impactLoc, Sound.ENTITY_IRON_GOLEM_DAMAGE, 1.2f, 0.6f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, impactLoc, Sound.ENTITY_PLAYER_BIG_FALL, 1.5f, 0.7f);
                 }
-            }.runTaskLater((com.rinaorc.zombiez.ZombieZPlugin) player.getServer().getPluginManager().getPlugin("ZombieZ"), 5L);
+            }.runTaskLater(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 5L);
         }
 
         // Message final
         player.sendMessage("§5§l✦ SLAM! §7" + slammed + " ennemis écrasés au sol!");
 
         // Son de fin
-        world.playSound(player.getLocation(), Sound.ENTITY_WITHER_BREAK_BLOCK, 0.8f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player.getLocation(), Sound.ENTITY_WITHER_BREAK_BLOCK, 0.8f, 1.2f);
     }
 
     /**
@@ -12785,7 +12788,7 @@ class SonicSentinelPassive implements PetAbility {
             }
 
             // Effet visuel de dégâts bonus
-            world.spawnParticle(Particle.SONIC_BOOM, target.getLocation().add(0, 1, 0), 1);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SONIC_BOOM, target.getLocation().add(0, 1, 0), 1);
         }
 
         // Compteur pour onde de choc
@@ -12833,8 +12836,8 @@ class SonicSentinelPassive implements PetAbility {
         World world = player.getWorld();
         Location targetLoc = target.getLocation().add(0, target.getHeight() + 0.5, 0);
 
-        world.spawnParticle(Particle.SCULK_SOUL, targetLoc, 15, 0.3, 0.3, 0.3, 0.02);
-        world.playSound(targetLoc, Sound.BLOCK_SCULK_SENSOR_CLICKING, 0.8f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SCULK_SOUL, targetLoc, 15, 0.3, 0.3, 0.3, 0.02);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, targetLoc, Sound.BLOCK_SCULK_SENSOR_CLICKING, 0.8f, 1.2f);
 
         // Message
         player.sendMessage("§8§l⦿ §7Cible détectée: §c" + target.getName() + " §7(+25% dégâts)");
@@ -12869,7 +12872,7 @@ class SonicSentinelPassive implements PetAbility {
         int hit = 0;
 
         // Expansion visuelle de l'onde
-        new BukkitRunnable() {
+        new EffectTask() {
             double radius = 1.0;
             int ticks = 0;
 
@@ -12885,13 +12888,13 @@ class SonicSentinelPassive implements PetAbility {
                     double x = center.getX() + Math.cos(angle) * radius;
                     double z = center.getZ() + Math.sin(angle) * radius;
                     Location particleLoc = new Location(world, x, center.getY() + 0.5, z);
-                    world.spawnParticle(Particle.SONIC_BOOM, particleLoc, 1, 0, 0, 0, 0);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SONIC_BOOM, particleLoc, 1, 0, 0, 0, 0);
                 }
 
                 radius += 1.5;
                 ticks++;
             }
-        }.runTaskTimer((com.rinaorc.zombiez.ZombieZPlugin) player.getServer().getPluginManager().getPlugin("ZombieZ"), 0L, 2L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 2L);
 
         // Dégâts aux ennemis
         for (Entity entity : world.getNearbyEntities(center, shockwaveRadius, 4, shockwaveRadius)) {
@@ -12912,8 +12915,8 @@ class SonicSentinelPassive implements PetAbility {
         }
 
         // Sons
-        world.playSound(center, Sound.ENTITY_WARDEN_SONIC_BOOM, 0.6f, 1.5f);
-        world.playSound(center, Sound.BLOCK_SCULK_SHRIEKER_SHRIEK, 0.5f, 1.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_WARDEN_SONIC_BOOM, 0.6f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.BLOCK_SCULK_SHRIEKER_SHRIEK, 0.5f, 1.8f);
 
         // Message
         if (hit > 0) {
@@ -13013,7 +13016,7 @@ class SonicBoomActive implements PetAbility {
         player.sendTitle("§4§l⦿ CHARGE ⦿", "§7Boom Sonique imminente...", 5, 40, 5);
 
         // Phase de charge avec effets visuels
-        new BukkitRunnable() {
+        new EffectTask() {
             int ticks = 0;
             final int chargeTicks = (int) (chargeTime * 20);
 
@@ -13035,21 +13038,21 @@ class SonicBoomActive implements PetAbility {
                     double x = playerLoc.getX() + Math.cos(angle) * currentRadius;
                     double z = playerLoc.getZ() + Math.sin(angle) * currentRadius;
                     Location particleLoc = new Location(world, x, playerLoc.getY() + 0.5, z);
-                    world.spawnParticle(Particle.SCULK_CHARGE_POP, particleLoc, 2, 0.1, 0.1, 0.1, 0);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SCULK_CHARGE_POP, particleLoc, 2, 0.1, 0.1, 0.1, 0);
                 }
 
                 // Particules montantes vers le joueur
-                world.spawnParticle(Particle.SCULK_SOUL, playerLoc.clone().add(0, 1.5, 0), 5, 0.5, 0.5, 0.5, 0.02);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SCULK_SOUL, playerLoc.clone().add(0, 1.5, 0), 5, 0.5, 0.5, 0.5, 0.02);
 
                 // Sons de charge crescendo
                 if (ticks % 5 == 0) {
                     float pitch = 0.5f + (float) progress * 1.5f;
-                    world.playSound(playerLoc, Sound.BLOCK_SCULK_SENSOR_CLICKING, 0.5f, pitch);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.BLOCK_SCULK_SENSOR_CLICKING, 0.5f, pitch);
                 }
 
                 ticks++;
             }
-        }.runTaskTimer((com.rinaorc.zombiez.ZombieZPlugin) player.getServer().getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 1L);
         return true;
     }
 
@@ -13065,12 +13068,12 @@ class SonicBoomActive implements PetAbility {
         List<Location> secondaryWaveLocations = new ArrayList<>();
 
         // Effet visuel principal - explosion sonique massive
-        world.spawnParticle(Particle.SONIC_BOOM, center.clone().add(0, 1, 0), 30, 2, 1, 2, 0);
-        world.spawnParticle(Particle.SCULK_SOUL, center.clone().add(0, 1.5, 0), 100, 3, 2, 3, 0.1);
-        world.spawnParticle(Particle.FLASH, center.clone().add(0, 2, 0), 3, 0, 0, 0, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SONIC_BOOM, center.clone().add(0, 1, 0), 30, 2, 1, 2, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SCULK_SOUL, center.clone().add(0, 1.5, 0), 100, 3, 2, 3, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLASH, center.clone().add(0, 2, 0), 3, 0, 0, 0, 0);
 
         // Ondes concentriques visuelles
-        new BukkitRunnable() {
+        new EffectTask() {
             double currentRadius = 2.0;
             int wave = 0;
 
@@ -13085,21 +13088,21 @@ class SonicBoomActive implements PetAbility {
                     double x = center.getX() + Math.cos(angle) * currentRadius;
                     double z = center.getZ() + Math.sin(angle) * currentRadius;
                     Location particleLoc = new Location(world, x, center.getY() + 0.5, z);
-                    world.spawnParticle(Particle.SONIC_BOOM, particleLoc, 1, 0, 0, 0, 0);
-                    world.spawnParticle(Particle.BLOCK, particleLoc, 3, 0.2, 0.1, 0.2, 0,
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SONIC_BOOM, particleLoc, 1, 0, 0, 0, 0);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, particleLoc, 3, 0.2, 0.1, 0.2, 0,
                         Material.SCULK.createBlockData());
                 }
 
                 currentRadius += 3;
                 wave++;
             }
-        }.runTaskTimer((com.rinaorc.zombiez.ZombieZPlugin) player.getServer().getPluginManager().getPlugin("ZombieZ"), 0L, 3L);
+        }.runTaskTimer(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 0L, 3L);
 
         // Sons dévastateurs
-        world.playSound(center, Sound.ENTITY_WARDEN_SONIC_BOOM, 2.0f, 0.7f);
-        world.playSound(center, Sound.ENTITY_WARDEN_ROAR, 1.5f, 0.5f);
-        world.playSound(center, Sound.ENTITY_GENERIC_EXPLODE, 1.5f, 0.6f);
-        world.playSound(center, Sound.BLOCK_SCULK_SHRIEKER_SHRIEK, 1.0f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_WARDEN_SONIC_BOOM, 2.0f, 0.7f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_WARDEN_ROAR, 1.5f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_GENERIC_EXPLODE, 1.5f, 0.6f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.BLOCK_SCULK_SHRIEKER_SHRIEK, 1.0f, 0.5f);
 
         // Dégâts aux ennemis
         for (Entity entity : world.getNearbyEntities(center, radius, 5, radius)) {
@@ -13126,9 +13129,9 @@ class SonicBoomActive implements PetAbility {
 
                     // Effet de désintégration
                     Location entityLoc = living.getLocation().add(0, 1, 0);
-                    world.spawnParticle(Particle.SCULK_SOUL, entityLoc, 30, 0.5, 1, 0.5, 0.1);
-                    world.spawnParticle(Particle.ASH, entityLoc, 50, 0.5, 1, 0.5, 0.05);
-                    world.playSound(entityLoc, Sound.ENTITY_WARDEN_DEATH, 0.5f, 1.5f);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SCULK_SOUL, entityLoc, 30, 0.5, 1, 0.5, 0.1);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.ASH, entityLoc, 50, 0.5, 1, 0.5, 0.05);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, entityLoc, Sound.ENTITY_WARDEN_DEATH, 0.5f, 1.5f);
 
                     // Location pour onde secondaire
                     if (hasStarPower) {
@@ -13165,14 +13168,14 @@ class SonicBoomActive implements PetAbility {
 
         // Ondes secondaires (max stars)
         if (hasStarPower && !secondaryWaveLocations.isEmpty()) {
-            new BukkitRunnable() {
+            new EffectTask() {
                 @Override
                 public void run() {
                     for (Location loc : secondaryWaveLocations) {
                         triggerSecondaryWave(player, loc, damage * 0.3, petData);
                     }
                 }
-            }.runTaskLater((com.rinaorc.zombiez.ZombieZPlugin) player.getServer().getPluginManager().getPlugin("ZombieZ"), 10L);
+            }.runTaskLater(EffectScheduler.Subsystem.PETS, player.getUniqueId(), 10L);
         }
 
         // Messages
@@ -13198,10 +13201,10 @@ class SonicBoomActive implements PetAbility {
             double x = center.getX() + Math.cos(angle) * secondaryRadius;
             double z = center.getZ() + Math.sin(angle) * secondaryRadius;
             Location particleLoc = new Location(world, x, center.getY() + 0.3, z);
-            world.spawnParticle(Particle.SONIC_BOOM, particleLoc, 1, 0, 0, 0, 0);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SONIC_BOOM, particleLoc, 1, 0, 0, 0, 0);
         }
 
-        world.playSound(center, Sound.ENTITY_WARDEN_SONIC_BOOM, 0.5f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_WARDEN_SONIC_BOOM, 0.5f, 1.5f);
 
         // Dégâts
         for (Entity entity : world.getNearbyEntities(center, secondaryRadius, 3, secondaryRadius)) {
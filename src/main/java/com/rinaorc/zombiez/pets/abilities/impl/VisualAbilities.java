@@ -4,6 +4,7 @@ import com.rinaorc.zombiez.ZombieZPlugin;
 import com.rinaorc.zombiez.pets.PetData;
 import com.rinaorc.zombiez.pets.abilities.PetAbility;
 import com.rinaorc.zombiez.pets.abilities.PetDamageUtils;
+import com.rinaorc.zombiez.scheduler.EffectScheduler.Subsystem;
 import lombok.Getter;
 import org.bukkit.*;
 import org.bukkit.attribute.Attribute;
@@ -78,9 +79,9 @@ class FireballPassive implements PetAbility {
                 current.add(direction.clone().multiply(1.5));
 
                 // Particules de la boule de feu
-                current.getWorld().spawnParticle(Particle.FLAME, current, 15, 0.2, 0.2, 0.2, 0.02);
-                current.getWorld().spawnParticle(Particle.LAVA, current, 3, 0.1, 0.1, 0.1, 0);
-                current.getWorld().spawnParticle(Particle.SMOKE, current, 5, 0.1, 0.1, 0.1, 0.02);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, current, 15, 0.2, 0.2, 0.2, 0.02);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.LAVA, current, 3, 0.1, 0.1, 0.1, 0);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SMOKE, current, 5, 0.1, 0.1, 0.1, 0.02);
 
                 // Vérifier collision
                 for (Entity e : current.getWorld().getNearbyEntities(current, 1.5, 1.5, 1.5)) {
@@ -93,7 +94,7 @@ class FireballPassive implements PetAbility {
 
                 // Son de vol
                 if (distance % 3 == 0) {
-                    current.getWorld().playSound(current, Sound.ENTITY_BLAZE_SHOOT, 0.3f, 1.5f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, current, Sound.ENTITY_BLAZE_SHOOT, 0.3f, 1.5f);
                 }
 
                 distance++;
@@ -105,10 +106,10 @@ class FireballPassive implements PetAbility {
 
     private void explodeFireball(Location loc, Player player, double damage, PetData petData) {
         // Explosion visuelle
-        loc.getWorld().spawnParticle(Particle.EXPLOSION, loc, 3, 0.5, 0.5, 0.5, 0);
-        loc.getWorld().spawnParticle(Particle.FLAME, loc, 50, 2, 2, 2, 0.1);
-        loc.getWorld().spawnParticle(Particle.LAVA, loc, 20, 1.5, 1.5, 1.5, 0);
-        loc.getWorld().playSound(loc, Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 1.2f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION, loc, 3, 0.5, 0.5, 0.5, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, loc, 50, 2, 2, 2, 0.1);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.LAVA, loc, 20, 1.5, 1.5, 1.5, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, loc, Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 1.2f);
 
         // Dégâts
         for (Entity e : loc.getWorld().getNearbyEntities(loc, 3, 3, 3)) {
@@ -150,7 +151,7 @@ class MeteorShowerActive implements PetAbility {
         int count = (int) (meteorCount * petData.getStatMultiplier());
 
         player.sendMessage("§a[Pet] §6§l☄ PLUIE DE MÉTÉORES!");
-        player.playSound(player.getLocation(), Sound.ENTITY_ENDER_DRAGON_GROWL, 0.5f, 2.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_ENDER_DRAGON_GROWL, 0.5f, 2.0f);
 
         // Spawner les météores
         new BukkitRunnable() {
@@ -190,11 +191,11 @@ class MeteorShowerActive implements PetAbility {
             public void run() {
                 if (current.getY() <= target.getY() + 1) {
                     // Impact!
-                    current.getWorld().spawnParticle(Particle.EXPLOSION, current, 5, 1, 0.5, 1, 0);
-                    current.getWorld().spawnParticle(Particle.FLAME, current, 80, 3, 0.5, 3, 0.15);
-                    current.getWorld().spawnParticle(Particle.LAVA, current, 30, 2, 0.3, 2, 0);
-                    current.getWorld().spawnParticle(Particle.CAMPFIRE_COSY_SMOKE, current, 20, 2, 0.5, 2, 0.05);
-                    current.getWorld().playSound(current, Sound.ENTITY_GENERIC_EXPLODE, 1.5f, 0.8f);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION, current, 5, 1, 0.5, 1, 0);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, current, 80, 3, 0.5, 3, 0.15);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.LAVA, current, 30, 2, 0.3, 2, 0);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CAMPFIRE_COSY_SMOKE, current, 20, 2, 0.5, 2, 0.05);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, current, Sound.ENTITY_GENERIC_EXPLODE, 1.5f, 0.8f);
 
                     // Dégâts de zone
                     for (Entity e : current.getWorld().getNearbyEntities(current, 4, 4, 4)) {
@@ -215,9 +216,9 @@ class MeteorShowerActive implements PetAbility {
 
                 // Traînée du météore
                 current.add(direction);
-                current.getWorld().spawnParticle(Particle.FLAME, current, 20, 0.3, 0.3, 0.3, 0.05);
-                current.getWorld().spawnParticle(Particle.SMOKE, current, 10, 0.2, 0.2, 0.2, 0.02);
-                current.getWorld().spawnParticle(Particle.LAVA, current, 5, 0.2, 0.2, 0.2, 0);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, current, 20, 0.3, 0.3, 0.3, 0.05);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SMOKE, current, 10, 0.2, 0.2, 0.2, 0.02);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.LAVA, current, 5, 0.2, 0.2, 0.2, 0);
             }
         }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
     }
@@ -262,9 +263,9 @@ class IceShardPassive implements PetAbility {
             public void run() {
                 if (ticks > 15 || current.distance(end) < 1) {
                     // Impact glacé
-                    current.getWorld().spawnParticle(Particle.SNOWFLAKE, current, 30, 0.5, 0.5, 0.5, 0.1);
-                    current.getWorld().spawnParticle(Particle.BLOCK, current, 20, 0.3, 0.3, 0.3, Material.ICE.createBlockData());
-                    current.getWorld().playSound(current, Sound.BLOCK_GLASS_BREAK, 1.0f, 1.5f);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNOWFLAKE, current, 30, 0.5, 0.5, 0.5, 0.1);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, current, 20, 0.3, 0.3, 0.3, Material.ICE.createBlockData());
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, current, Sound.BLOCK_GLASS_BREAK, 1.0f, 1.5f);
 
                     target.addPotionEffect(new PotionEffect(
                         PotionEffectType.SLOWNESS, (int)(slowDuration * 20 * petData.getStatMultiplier()), 2, false, true));
@@ -275,8 +276,8 @@ class IceShardPassive implements PetAbility {
                 }
 
                 current.add(direction.clone().multiply(1.2));
-                current.getWorld().spawnParticle(Particle.SNOWFLAKE, current, 8, 0.1, 0.1, 0.1, 0.02);
-                current.getWorld().spawnParticle(Particle.END_ROD, current, 3, 0.05, 0.05, 0.05, 0);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNOWFLAKE, current, 8, 0.1, 0.1, 0.1, 0.02);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, current, 3, 0.05, 0.05, 0.05, 0);
                 ticks++;
             }
         }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
@@ -316,7 +317,7 @@ class BlizzardActive implements PetAbility {
         int adjustedRadius = (int) (radius * petData.getStatMultiplier());
 
         player.sendMessage("§a[Pet] §b§l❄ BLIZZARD DÉCHAÎNÉ!");
-        player.playSound(player.getLocation(), Sound.ITEM_TRIDENT_THUNDER, 1.0f, 2.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ITEM_TRIDENT_THUNDER, 1.0f, 2.0f);
 
         new BukkitRunnable() {
             int ticks = 0;
@@ -336,9 +337,9 @@ class BlizzardActive implements PetAbility {
                     double z = (random.nextDouble() - 0.5) * adjustedRadius * 2;
                     Location particleLoc = center.clone().add(x, y, z);
 
-                    center.getWorld().spawnParticle(Particle.SNOWFLAKE, particleLoc, 2, 0.2, 0.2, 0.2, 0.05);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNOWFLAKE, particleLoc, 2, 0.2, 0.2, 0.2, 0.05);
                     if (random.nextDouble() < 0.3) {
-                        center.getWorld().spawnParticle(Particle.BLOCK, particleLoc, 1, 0, 0, 0, Material.SNOW_BLOCK.createBlockData());
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, particleLoc, 1, 0, 0, 0, Material.SNOW_BLOCK.createBlockData());
                     }
                 }
 
@@ -349,13 +350,13 @@ class BlizzardActive implements PetAbility {
                     for (int j = 0; j < 8; j++) {
                         double a = angle + j * Math.PI / 4 + ring * Math.PI / 6;
                         Location ringLoc = center.clone().add(Math.cos(a) * ringRadius, 0.5 + ring, Math.sin(a) * ringRadius);
-                        center.getWorld().spawnParticle(Particle.SNOWFLAKE, ringLoc, 3, 0.1, 0.1, 0.1, 0.02);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNOWFLAKE, ringLoc, 3, 0.1, 0.1, 0.1, 0.02);
                     }
                 }
 
                 // Dégâts et gel (toutes les 20 ticks)
                 if (ticks % 20 == 0) {
-                    center.getWorld().playSound(center, Sound.ENTITY_SNOW_GOLEM_AMBIENT, 0.5f, 0.5f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_SNOW_GOLEM_AMBIENT, 0.5f, 0.5f);
                     for (Entity e : center.getWorld().getNearbyEntities(center, adjustedRadius, 6, adjustedRadius)) {
                         if (e instanceof Monster m) {
                             m.damage(dps, player);
@@ -364,14 +365,14 @@ class BlizzardActive implements PetAbility {
                             petData.addDamage((long) dps);
 
                             // Particules de gel sur l'ennemi
-                            m.getWorld().spawnParticle(Particle.SNOWFLAKE, m.getLocation().add(0, 1, 0), 10, 0.3, 0.5, 0.3, 0.05);
+                            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNOWFLAKE, m.getLocation().add(0, 1, 0), 10, 0.3, 0.5, 0.3, 0.05);
                         }
                     }
                 }
 
                 // Son ambiant
                 if (ticks % 10 == 0) {
-                    center.getWorld().playSound(center, Sound.WEATHER_RAIN, 0.8f, 0.5f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.WEATHER_RAIN, 0.8f, 0.5f);
                 }
 
                 ticks++;
@@ -506,7 +507,7 @@ class ChromaticSpectrumPassive implements PetAbility {
             // Jaune: +10% crit (simulé par dégâts bonus aléatoire)
             if (Math.random() < 0.10 + (petData.getStatMultiplier() - 1) * 0.03) {
                 bonusDamage += damage * 0.5; // Crit!
-                world.spawnParticle(Particle.CRIT, target.getLocation().add(0, 1, 0), 10, 0.3, 0.3, 0.3, 0.1);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, target.getLocation().add(0, 1, 0), 10, 0.3, 0.3, 0.3, 0.1);
             }
 
             // Vert: 5% lifesteal
@@ -524,30 +525,30 @@ class ChromaticSpectrumPassive implements PetAbility {
             switch (color) {
                 case 0 -> { // Rouge: +15% dégâts
                     bonusDamage = damage * adjustedBonus;
-                    world.spawnParticle(Particle.FLAME, target.getLocation().add(0, 1, 0), 5, 0.2, 0.2, 0.2, 0.02);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, target.getLocation().add(0, 1, 0), 5, 0.2, 0.2, 0.2, 0.02);
                 }
                 case 1 -> { // Orange: Vitesse d'attaque (effet visuel + petit bonus)
                     bonusDamage = damage * 0.08;
-                    world.spawnParticle(Particle.LAVA, target.getLocation().add(0, 1, 0), 3, 0.2, 0.2, 0.2, 0);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.LAVA, target.getLocation().add(0, 1, 0), 3, 0.2, 0.2, 0.2, 0);
                 }
                 case 2 -> { // Jaune: Crit chance +10%
                     if (Math.random() < 0.10 + (petData.getStatMultiplier() - 1) * 0.03) {
                         bonusDamage = damage * 0.5;
-                        world.spawnParticle(Particle.CRIT, target.getLocation().add(0, 1, 0), 10, 0.3, 0.3, 0.3, 0.1);
-                        world.playSound(target.getLocation(), Sound.ENTITY_PLAYER_ATTACK_CRIT, 0.8f, 1.2f);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, target.getLocation().add(0, 1, 0), 10, 0.3, 0.3, 0.3, 0.1);
+                        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, target.getLocation(), Sound.ENTITY_PLAYER_ATTACK_CRIT, 0.8f, 1.2f);
                     }
                 }
                 case 3 -> { // Vert: 5% lifesteal
                     double heal = damage * adjustedLifesteal;
                     player.setHealth(Math.min(player.getHealth() + heal, player.getMaxHealth()));
-                    world.spawnParticle(Particle.HAPPY_VILLAGER, player.getLocation().add(0, 1, 0), 5, 0.3, 0.3, 0.3, 0);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.HAPPY_VILLAGER, player.getLocation().add(0, 1, 0), 5, 0.3, 0.3, 0.3, 0);
                 }
                 case 4 -> { // Bleu: (défense gérée dans onDamageReceived)
-                    world.spawnParticle(Particle.SNOWFLAKE, target.getLocation().add(0, 1, 0), 5, 0.2, 0.2, 0.2, 0.02);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNOWFLAKE, target.getLocation().add(0, 1, 0), 5, 0.2, 0.2, 0.2, 0.02);
                 }
                 case 5 -> { // Violet: Slow ennemi
                     target.addPotionEffect(new PotionEffect(PotionEffectType.SLOWNESS, 30, 1, false, false));
-                    world.spawnParticle(Particle.WITCH, target.getLocation().add(0, 1, 0), 8, 0.3, 0.3, 0.3, 0.02);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, target.getLocation().add(0, 1, 0), 8, 0.3, 0.3, 0.3, 0.02);
                 }
             }
         }
@@ -563,9 +564,9 @@ class ChromaticSpectrumPassive implements PetAbility {
 
         // Bleu: -10% dégâts reçus (appliqué via effet de particules ici, réduction réelle ailleurs)
         if (color == 4 || allBuffs) {
-            player.getWorld().spawnParticle(Particle.SNOWFLAKE, player.getLocation().add(0, 1, 0),
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNOWFLAKE, player.getLocation().add(0, 1, 0),
                 10, 0.4, 0.4, 0.4, 0.02);
-            player.getWorld().playSound(player.getLocation(), Sound.BLOCK_GLASS_BREAK, 0.3f, 1.8f);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player.getLocation(), Sound.BLOCK_GLASS_BREAK, 0.3f, 1.8f);
         }
     }
 
@@ -594,7 +595,7 @@ class ChromaticSpectrumPassive implements PetAbility {
 
                 // Particules de transition
                 Particle particle = getColorParticle(colorIndex);
-                sheep.getWorld().spawnParticle(particle, sheep.getLocation().add(0, 0.5, 0),
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, particle, sheep.getLocation().add(0, 0.5, 0),
                     15, 0.3, 0.3, 0.3, 0.05);
 
                 break;
@@ -628,12 +629,12 @@ class ChromaticSpectrumPassive implements PetAbility {
     }
 
     private void spawnRainbowParticles(Location loc, World world) {
-        world.spawnParticle(Particle.FLAME, loc, 2, 0.2, 0.2, 0.2, 0.02);
-        world.spawnParticle(Particle.LAVA, loc, 1, 0.2, 0.2, 0.2, 0);
-        world.spawnParticle(Particle.CRIT, loc, 2, 0.2, 0.2, 0.2, 0.02);
-        world.spawnParticle(Particle.HAPPY_VILLAGER, loc, 2, 0.2, 0.2, 0.2, 0);
-        world.spawnParticle(Particle.SNOWFLAKE, loc, 2, 0.2, 0.2, 0.2, 0.02);
-        world.spawnParticle(Particle.WITCH, loc, 2, 0.2, 0.2, 0.2, 0.02);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, loc, 2, 0.2, 0.2, 0.2, 0.02);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.LAVA, loc, 1, 0.2, 0.2, 0.2, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CRIT, loc, 2, 0.2, 0.2, 0.2, 0.02);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.HAPPY_VILLAGER, loc, 2, 0.2, 0.2, 0.2, 0);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNOWFLAKE, loc, 2, 0.2, 0.2, 0.2, 0.02);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, loc, 2, 0.2, 0.2, 0.2, 0.02);
     }
 
     public void setAllBuffsActive(UUID uuid, boolean active) {
@@ -703,8 +704,8 @@ class PrismaticNovaActive implements PetAbility {
         cycleSheepColorsRapidly(player, 30); // 1.5 secondes d'animation
 
         // Effet de préparation
-        world.playSound(playerLoc, Sound.ENTITY_SHEEP_AMBIENT, 2.0f, 0.5f);
-        world.playSound(playerLoc, Sound.BLOCK_BEACON_ACTIVATE, 1.0f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_SHEEP_AMBIENT, 2.0f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.BLOCK_BEACON_ACTIVATE, 1.0f, 1.5f);
 
         player.sendMessage("§a[Pet] §d§l🌈 NOVA PRISMATIQUE! §7Tous les bonus actifs pendant " + (adjustedDuration / 20) + "s!");
 
@@ -733,7 +734,7 @@ class PrismaticNovaActive implements PetAbility {
 
             // Particules sur la cible
             Location targetLoc = target.getLocation().add(0, 1, 0);
-            world.spawnParticle(Particle.TOTEM_OF_UNDYING, targetLoc, 20, 0.5, 0.5, 0.5, 0.2);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.TOTEM_OF_UNDYING, targetLoc, 20, 0.5, 0.5, 0.5, 0.2);
         }
 
         // Appliquer les buffs au joueur
@@ -746,8 +747,8 @@ class PrismaticNovaActive implements PetAbility {
         applyAttackSpeedBonus(player, 0.20); // +20% vitesse attaque
 
         // Son d'explosion
-        world.playSound(playerLoc, Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.5f);
-        world.playSound(playerLoc, Sound.BLOCK_NOTE_BLOCK_CHIME, 1.0f, 1.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, playerLoc, Sound.BLOCK_NOTE_BLOCK_CHIME, 1.0f, 1.0f);
 
         // Animation arc-en-ciel persistante pendant le buff
         startPersistentRainbowAnimation(player, adjustedDuration);
@@ -759,7 +760,7 @@ class PrismaticNovaActive implements PetAbility {
                 spectrumPassive.setAllBuffsActive(uuid, false);
                 removeAttackSpeedBonus(player); // Retirer le bonus vitesse attaque
                 player.sendMessage("§a[Pet] §7Les bonus arc-en-ciel se dissipent...");
-                world.playSound(player.getLocation(), Sound.BLOCK_BEACON_DEACTIVATE, 0.8f, 1.2f);
+                ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player.getLocation(), Sound.BLOCK_BEACON_DEACTIVATE, 0.8f, 1.2f);
             },
             adjustedDuration
         );
@@ -906,12 +907,12 @@ class PrismaticNovaActive implements PetAbility {
                 double y = Math.sin(rad) * layerRadius * 0.6; // Aplati un peu pour un bel arc
 
                 Location particleLoc = arcCenter.clone().add(x, y, 0);
-                world.spawnParticle(Particle.DUST, particleLoc, 1, 0, 0, 0, 0, dustOptions);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, particleLoc, 1, 0, 0, 0, 0, dustOptions);
             }
         }
 
         // Ajouter quelques étoiles scintillantes autour
-        world.spawnParticle(Particle.END_ROD, arcCenter.clone().add(0, 0.5, 0), 3, 0.8, 0.4, 0.8, 0.02);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, arcCenter.clone().add(0, 0.5, 0), 3, 0.8, 0.4, 0.8, 0.02);
     }
 
     private void spawnRainbowRing(World world, Location center, double radius) {
@@ -940,10 +941,10 @@ class PrismaticNovaActive implements PetAbility {
                 default -> Particle.CRIT;
             };
 
-            world.spawnParticle(particle, ringLoc, 3, 0.1, 0.1, 0.1, 0.01);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, particle, ringLoc, 3, 0.1, 0.1, 0.1, 0.01);
         }
 
-        world.playSound(center, Sound.BLOCK_NOTE_BLOCK_CHIME, 0.5f, 1.0f + (float)(radius * 0.1));
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.BLOCK_NOTE_BLOCK_CHIME, 0.5f, 1.0f + (float)(radius * 0.1));
     }
 }
 
@@ -1003,9 +1004,9 @@ class FrostBitePassive implements PetAbility {
             double bonusDamage = damage * adjustedBonus;
 
             // Effet visuel de dégâts de glace
-            world.spawnParticle(Particle.BLOCK, targetLoc, 15, 0.3, 0.3, 0.3, Material.BLUE_ICE.createBlockData());
-            world.spawnParticle(Particle.SNOWFLAKE, targetLoc, 10, 0.3, 0.3, 0.3, 0.05);
-            world.playSound(targetLoc, Sound.BLOCK_GLASS_BREAK, 0.8f, 1.5f);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, targetLoc, 15, 0.3, 0.3, 0.3, Material.BLUE_ICE.createBlockData());
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNOWFLAKE, targetLoc, 10, 0.3, 0.3, 0.3, 0.05);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, targetLoc, Sound.BLOCK_GLASS_BREAK, 0.8f, 1.5f);
 
             return damage + bonusDamage;
         }
@@ -1015,7 +1016,7 @@ class FrostBitePassive implements PetAbility {
         playerFrostStacks.put(targetUUID, currentStacks);
 
         // Particules de givre (intensité selon stacks)
-        world.spawnParticle(Particle.SNOWFLAKE, targetLoc, currentStacks * 3, 0.2, 0.3, 0.2, 0.02);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNOWFLAKE, targetLoc, currentStacks * 3, 0.2, 0.3, 0.2, 0.02);
 
         // Afficher les stacks
         if (currentStacks < maxStacks) {
@@ -1027,14 +1028,14 @@ class FrostBitePassive implements PetAbility {
                     0.3 + i * 0.2,
                     Math.sin(angle) * 0.5
                 );
-                world.spawnParticle(Particle.END_ROD, crystalLoc, 1, 0, 0, 0, 0);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, crystalLoc, 1, 0, 0, 0, 0);
             }
 
             // Slow progressif selon les stacks
             int slowLevel = Math.min(currentStacks - 1, 2); // Slow I à III
             target.addPotionEffect(new PotionEffect(PotionEffectType.SLOWNESS, 40, slowLevel, false, false));
 
-            world.playSound(targetLoc, Sound.BLOCK_POWDER_SNOW_STEP, 0.6f, 1.2f + currentStacks * 0.1f);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, targetLoc, Sound.BLOCK_POWDER_SNOW_STEP, 0.6f, 1.2f + currentStacks * 0.1f);
         }
 
         // À 5 stacks: GELER l'ennemi
@@ -1051,8 +1052,8 @@ class FrostBitePassive implements PetAbility {
             player.sendMessage("§a[Pet] §b❄ Cible §lGELÉE §r§bpendant " + String.format("%.1f", adjustedFreezeDuration) + "s!");
 
             // Effet de gel spectaculaire
-            world.playSound(targetLoc, Sound.BLOCK_GLASS_BREAK, 1.0f, 0.5f);
-            world.playSound(targetLoc, Sound.ENTITY_PLAYER_HURT_FREEZE, 1.0f, 0.8f);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, targetLoc, Sound.BLOCK_GLASS_BREAK, 1.0f, 0.5f);
+            ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, targetLoc, Sound.ENTITY_PLAYER_HURT_FREEZE, 1.0f, 0.8f);
 
             // Animation de gel
             freezeEnemy(target, player, petData, (int)(adjustedFreezeDuration * 20));
@@ -1074,7 +1075,7 @@ class FrostBitePassive implements PetAbility {
                 Math.random() * 2,
                 Math.sin(angle) * radius
             );
-            world.spawnParticle(Particle.BLOCK, crystalLoc, 3, 0.1, 0.1, 0.1, Material.ICE.createBlockData());
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, crystalLoc, 3, 0.1, 0.1, 0.1, Material.ICE.createBlockData());
         }
 
         // Maintenir l'ennemi gelé
@@ -1087,9 +1088,9 @@ class FrostBitePassive implements PetAbility {
                     // Fin du gel - explosion de glace
                     if (target.isValid()) {
                         Location endLoc = target.getLocation().add(0, 1, 0);
-                        world.spawnParticle(Particle.BLOCK, endLoc, 30, 0.5, 0.5, 0.5, Material.BLUE_ICE.createBlockData());
-                        world.spawnParticle(Particle.SNOWFLAKE, endLoc, 20, 0.5, 0.5, 0.5, 0.1);
-                        world.playSound(endLoc, Sound.BLOCK_GLASS_BREAK, 1.0f, 1.2f);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, endLoc, 30, 0.5, 0.5, 0.5, Material.BLUE_ICE.createBlockData());
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNOWFLAKE, endLoc, 20, 0.5, 0.5, 0.5, 0.1);
+                        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, endLoc, Sound.BLOCK_GLASS_BREAK, 1.0f, 1.2f);
                     }
                     cancel();
                     return;
@@ -1113,18 +1114,18 @@ class FrostBitePassive implements PetAbility {
                             Math.sin(ticks * 0.2) * 0.3,
                             Math.sin(angle) * radius
                         );
-                        world.spawnParticle(Particle.SNOWFLAKE, iceLoc, 1, 0, 0, 0, 0);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNOWFLAKE, iceLoc, 1, 0, 0, 0, 0);
                     }
 
                     // Cristaux statiques
                     if (ticks % 10 == 0) {
-                        world.spawnParticle(Particle.BLOCK, loc, 5, 0.3, 0.5, 0.3, Material.PACKED_ICE.createBlockData());
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, loc, 5, 0.3, 0.5, 0.3, Material.PACKED_ICE.createBlockData());
                     }
                 }
 
                 // Son de craquement de glace
                 if (ticks % 20 == 0) {
-                    world.playSound(target.getLocation(), Sound.BLOCK_POWDER_SNOW_STEP, 0.5f, 0.8f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, target.getLocation(), Sound.BLOCK_POWDER_SNOW_STEP, 0.5f, 0.8f);
                 }
 
                 ticks++;
@@ -1210,8 +1211,8 @@ class ArcticStormActive implements PetAbility {
 
         // Message et son de début
         player.sendMessage("§a[Pet] §b§l❄ TEMPÊTE ARCTIQUE! §r§b(rayon " + adjustedRadius + " blocs, " + adjustedDuration + "s)");
-        world.playSound(center, Sound.ITEM_TRIDENT_THUNDER, 1.0f, 1.5f);
-        world.playSound(center, Sound.ENTITY_WITHER_SPAWN, 0.5f, 2.0f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ITEM_TRIDENT_THUNDER, 1.0f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_WITHER_SPAWN, 0.5f, 2.0f);
 
         // Changer le renard en variante SNOW
         setFoxToSnowVariant(player, true);
@@ -1226,7 +1227,7 @@ class ArcticStormActive implements PetAbility {
             public void run() {
                 if (ticks >= adjustedDuration * 20) {
                     // Fin de la tempête - Explosion de gel finale
-                    world.playSound(stormCenter, Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 1.5f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, stormCenter, Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 1.5f);
 
                     for (int i = 0; i < 100; i++) {
                         double angle = random.nextDouble() * Math.PI * 2;
@@ -1236,8 +1237,8 @@ class ArcticStormActive implements PetAbility {
                             random.nextDouble() * 4,
                             Math.sin(angle) * dist
                         );
-                        world.spawnParticle(Particle.SNOWFLAKE, explosionLoc, 3, 0.2, 0.2, 0.2, 0.1);
-                        world.spawnParticle(Particle.BLOCK, explosionLoc, 2, 0.1, 0.1, 0.1, Material.SNOW_BLOCK.createBlockData());
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNOWFLAKE, explosionLoc, 3, 0.2, 0.2, 0.2, 0.1);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, explosionLoc, 2, 0.1, 0.1, 0.1, Material.SNOW_BLOCK.createBlockData());
                     }
 
                     // Remettre le renard normal
@@ -1260,11 +1261,11 @@ class ArcticStormActive implements PetAbility {
                         Math.sin(angle) * dist
                     );
 
-                    world.spawnParticle(Particle.SNOWFLAKE, particleLoc, 2, 0.3, 0.3, 0.3, 0.02);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNOWFLAKE, particleLoc, 2, 0.3, 0.3, 0.3, 0.02);
 
                     // Neige tombante occasionnelle
                     if (random.nextDouble() < 0.2) {
-                        world.spawnParticle(Particle.BLOCK, particleLoc, 1, 0, 0, 0, Material.SNOW.createBlockData());
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, particleLoc, 1, 0, 0, 0, Material.SNOW.createBlockData());
                     }
                 }
 
@@ -1279,8 +1280,8 @@ class ArcticStormActive implements PetAbility {
                             0.5 + ring * 0.8 + Math.sin(ticks * 0.1) * 0.3,
                             Math.sin(a) * ringRadius
                         );
-                        world.spawnParticle(Particle.SNOWFLAKE, ringLoc, 2, 0.1, 0.1, 0.1, 0.01);
-                        world.spawnParticle(Particle.END_ROD, ringLoc, 1, 0, 0, 0, 0);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNOWFLAKE, ringLoc, 2, 0.1, 0.1, 0.1, 0.01);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, ringLoc, 1, 0, 0, 0, 0);
                     }
                 }
 
@@ -1296,15 +1297,15 @@ class ArcticStormActive implements PetAbility {
 
                     for (double y = 0; y < 4; y += 0.3) {
                         Location pillarLoc = pillarBase.clone().add(0, y, 0);
-                        world.spawnParticle(Particle.BLOCK, pillarLoc, 3, 0.15, 0.1, 0.15, Material.BLUE_ICE.createBlockData());
-                        world.spawnParticle(Particle.SNOWFLAKE, pillarLoc, 2, 0.1, 0.1, 0.1, 0.01);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, pillarLoc, 3, 0.15, 0.1, 0.15, Material.BLUE_ICE.createBlockData());
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNOWFLAKE, pillarLoc, 2, 0.1, 0.1, 0.1, 0.01);
                     }
-                    world.playSound(pillarBase, Sound.BLOCK_GLASS_PLACE, 0.5f, 1.5f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, pillarBase, Sound.BLOCK_GLASS_PLACE, 0.5f, 1.5f);
                 }
 
                 // Dégâts et slow toutes les 20 ticks (1 seconde)
                 if (ticks % 20 == 0) {
-                    world.playSound(stormCenter, Sound.ENTITY_SNOW_GOLEM_AMBIENT, 0.8f, 0.5f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, stormCenter, Sound.ENTITY_SNOW_GOLEM_AMBIENT, 0.8f, 0.5f);
 
                     for (Entity e : stormCenter.getWorld().getNearbyEntities(stormCenter, adjustedRadius, 6, adjustedRadius)) {
                         if (e instanceof Monster m) {
@@ -1320,16 +1321,16 @@ class ArcticStormActive implements PetAbility {
 
                             // Particules sur la cible
                             Location mLoc = m.getLocation().add(0, 1, 0);
-                            world.spawnParticle(Particle.SNOWFLAKE, mLoc, 10, 0.3, 0.4, 0.3, 0.05);
-                            world.spawnParticle(Particle.BLOCK, mLoc, 5, 0.2, 0.3, 0.2, Material.ICE.createBlockData());
+                            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNOWFLAKE, mLoc, 10, 0.3, 0.4, 0.3, 0.05);
+                            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BLOCK, mLoc, 5, 0.2, 0.3, 0.2, Material.ICE.createBlockData());
                         }
                     }
                 }
 
                 // Son ambiant de vent glacial
                 if (ticks % 10 == 0) {
-                    world.playSound(stormCenter, Sound.WEATHER_RAIN, 0.6f, 0.3f);
-                    world.playSound(stormCenter, Sound.ENTITY_PLAYER_HURT_FREEZE, 0.3f, 1.5f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, stormCenter, Sound.WEATHER_RAIN, 0.6f, 0.3f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, stormCenter, Sound.ENTITY_PLAYER_HURT_FREEZE, 0.3f, 1.5f);
                 }
 
                 ticks++;
@@ -1358,11 +1359,11 @@ class ArcticStormActive implements PetAbility {
                 // Particules de transformation
                 Location foxLoc = fox.getLocation().add(0, 0.5, 0);
                 if (snow) {
-                    fox.getWorld().spawnParticle(Particle.SNOWFLAKE, foxLoc, 30, 0.3, 0.4, 0.3, 0.1);
-                    fox.getWorld().spawnParticle(Particle.END_ROD, foxLoc, 10, 0.2, 0.3, 0.2, 0.05);
-                    fox.getWorld().playSound(foxLoc, Sound.ENTITY_PLAYER_HURT_FREEZE, 1.0f, 1.0f);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SNOWFLAKE, foxLoc, 30, 0.3, 0.4, 0.3, 0.1);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, foxLoc, 10, 0.2, 0.3, 0.2, 0.05);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, foxLoc, Sound.ENTITY_PLAYER_HURT_FREEZE, 1.0f, 1.0f);
                 } else {
-                    fox.getWorld().spawnParticle(Particle.FLAME, foxLoc, 15, 0.3, 0.3, 0.3, 0.05);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLAME, foxLoc, 15, 0.3, 0.3, 0.3, 0.05);
                 }
 
                 break;
@@ -1413,8 +1414,8 @@ class ShadowTentaclePassive implements PetAbility {
                     target.addPotionEffect(new PotionEffect(PotionEffectType.BLINDNESS, 20, 0, false, false));
                     petData.addDamage((long) tentacleDmg);
 
-                    baseLoc.getWorld().spawnParticle(Particle.SMOKE, baseLoc.clone().add(0, 2, 0), 30, 0.3, 0.5, 0.3, 0.05);
-                    baseLoc.getWorld().playSound(baseLoc, Sound.ENTITY_PHANTOM_BITE, 1.0f, 0.5f);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SMOKE, baseLoc.clone().add(0, 2, 0), 30, 0.3, 0.5, 0.3, 0.05);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, baseLoc, Sound.ENTITY_PHANTOM_BITE, 1.0f, 0.5f);
 
                     cancel();
                     return;
@@ -1429,8 +1430,8 @@ class ShadowTentaclePassive implements PetAbility {
                         height,
                         Math.sin(angle) * radius
                     );
-                    baseLoc.getWorld().spawnParticle(Particle.SMOKE, particleLoc, 5, 0.05, 0.05, 0.05, 0);
-                    baseLoc.getWorld().spawnParticle(Particle.WITCH, particleLoc, 2, 0.05, 0.05, 0.05, 0);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SMOKE, particleLoc, 5, 0.05, 0.05, 0.05, 0);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, particleLoc, 2, 0.05, 0.05, 0.05, 0);
                 }
 
                 height += 0.5;
@@ -1469,7 +1470,7 @@ class VoidVortexActive implements PetAbility {
         double damage = vortexDamage * petData.getStatMultiplier();
 
         player.sendMessage("§a[Pet] §8§l🌀 VORTEX DU NÉANT!");
-        player.playSound(player.getLocation(), Sound.ENTITY_ENDERMAN_SCREAM, 0.5f, 0.3f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_ENDERMAN_SCREAM, 0.5f, 0.3f);
 
         new BukkitRunnable() {
             int ticks = 0;
@@ -1479,9 +1480,9 @@ class VoidVortexActive implements PetAbility {
             public void run() {
                 if (ticks >= durationSeconds * 20) {
                     // Explosion finale
-                    center.getWorld().spawnParticle(Particle.EXPLOSION, center, 10, 2, 1, 2, 0);
-                    center.getWorld().spawnParticle(Particle.WITCH, center, 100, 4, 2, 4, 0.3);
-                    center.getWorld().playSound(center, Sound.ENTITY_WARDEN_SONIC_BOOM, 1.0f, 0.5f);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.EXPLOSION, center, 10, 2, 1, 2, 0);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, center, 100, 4, 2, 4, 0.3);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.ENTITY_WARDEN_SONIC_BOOM, 1.0f, 0.5f);
 
                     for (Entity e : center.getWorld().getNearbyEntities(center, 6, 6, 6)) {
                         if (e instanceof Monster m) {
@@ -1508,8 +1509,8 @@ class VoidVortexActive implements PetAbility {
                             Math.sin(a) * radius
                         );
 
-                        center.getWorld().spawnParticle(Particle.SMOKE, particleLoc, 2, 0.1, 0.1, 0.1, 0);
-                        center.getWorld().spawnParticle(Particle.WITCH, particleLoc, 1, 0, 0, 0, 0);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SMOKE, particleLoc, 2, 0.1, 0.1, 0.1, 0);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.WITCH, particleLoc, 1, 0, 0, 0, 0);
                     }
                 }
 
@@ -1535,7 +1536,7 @@ class VoidVortexActive implements PetAbility {
 
                 // Son ambiant
                 if (ticks % 15 == 0) {
-                    center.getWorld().playSound(center, Sound.BLOCK_PORTAL_AMBIENT, 0.5f, 0.5f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, center, Sound.BLOCK_PORTAL_AMBIENT, 0.5f, 0.5f);
                 }
 
                 angle += 0.15;
@@ -1570,7 +1571,7 @@ class VoidVortexActive implements PetAbility {
                         height,
                         Math.sin(angle) * 0.2
                     );
-                    loc.getWorld().spawnParticle(Particle.SMOKE, particleLoc, 3, 0.05, 0.05, 0.05, 0);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SMOKE, particleLoc, 3, 0.05, 0.05, 0.05, 0);
                 }
 
                 height += 0.4;
@@ -1620,8 +1621,8 @@ class PrismaticBeamPassive implements PetAbility {
         petData.addDamage((long) beamDmg);
 
         // Effet sur la cible
-        target.getWorld().spawnParticle(Particle.TOTEM_OF_UNDYING, target.getLocation().add(0, 1, 0), 30, 0.5, 0.5, 0.5, 0.2);
-        target.getWorld().playSound(target.getLocation(), Sound.BLOCK_AMETHYST_BLOCK_CHIME, 1.0f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.TOTEM_OF_UNDYING, target.getLocation().add(0, 1, 0), 30, 0.5, 0.5, 0.5, 0.2);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, target.getLocation(), Sound.BLOCK_AMETHYST_BLOCK_CHIME, 1.0f, 1.5f);
 
         return damage;
     }
@@ -1639,8 +1640,8 @@ class PrismaticBeamPassive implements PetAbility {
             Color color = colors[colorIndex];
 
             Particle.DustOptions dust = new Particle.DustOptions(color, 1.2f);
-            from.getWorld().spawnParticle(Particle.DUST, point, 3, 0.05, 0.05, 0.05, dust);
-            from.getWorld().spawnParticle(Particle.END_ROD, point, 1, 0, 0, 0, 0);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, point, 3, 0.05, 0.05, 0.05, dust);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, point, 1, 0, 0, 0, 0);
         }
     }
 }
@@ -1674,7 +1675,7 @@ class RainbowNovaActive implements PetAbility {
         int adjustedRadius = (int) (radius * petData.getStatMultiplier());
 
         player.sendMessage("§a[Pet] §d§l✨ NOVA PRISMATIQUE!");
-        player.playSound(player.getLocation(), Sound.BLOCK_BEACON_ACTIVATE, 1.0f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.BLOCK_BEACON_ACTIVATE, 1.0f, 1.5f);
 
         Color[] colors = {Color.RED, Color.ORANGE, Color.YELLOW, Color.LIME, Color.AQUA, Color.BLUE, Color.PURPLE, Color.FUCHSIA};
 
@@ -1703,8 +1704,8 @@ class RainbowNovaActive implements PetAbility {
                     Color color = colors[colorIndex];
                     Particle.DustOptions dust = new Particle.DustOptions(color, 1.5f);
 
-                    center.getWorld().spawnParticle(Particle.DUST, particleLoc, 3, 0.1, 0.1, 0.1, dust);
-                    center.getWorld().spawnParticle(Particle.END_ROD, particleLoc, 1, 0.05, 0.05, 0.05, 0);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, particleLoc, 3, 0.1, 0.1, 0.1, dust);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, particleLoc, 1, 0.05, 0.05, 0.05, 0);
                 }
 
                 // Piliers de lumière
@@ -1723,7 +1724,7 @@ class RainbowNovaActive implements PetAbility {
                         for (double y = 0; y < 5; y += 0.3) {
                             Location pillarLoc = pillarBase.clone().add(0, y, 0);
                             Particle.DustOptions dust = new Particle.DustOptions(color, 1.0f);
-                            center.getWorld().spawnParticle(Particle.DUST, pillarLoc, 2, 0.05, 0.05, 0.05, dust);
+                            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, pillarLoc, 2, 0.05, 0.05, 0.05, dust);
                         }
                     }
                 }
@@ -1737,7 +1738,7 @@ class RainbowNovaActive implements PetAbility {
                             petData.addDamage((long) damage);
 
                             // Particules sur l'ennemi
-                            m.getWorld().spawnParticle(Particle.TOTEM_OF_UNDYING, m.getLocation().add(0, 1, 0), 20, 0.3, 0.5, 0.3, 0.1);
+                            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.TOTEM_OF_UNDYING, m.getLocation().add(0, 1, 0), 20, 0.3, 0.5, 0.3, 0.1);
                         }
                     }
                 }
@@ -1805,8 +1806,8 @@ class WaterTentaclePassive implements PetAbility {
                             y,
                             Math.sin(angle) * radius
                         );
-                        targetLoc.getWorld().spawnParticle(Particle.DRIPPING_WATER, particleLoc, 2, 0.05, 0.05, 0.05, 0);
-                        targetLoc.getWorld().spawnParticle(Particle.BUBBLE, particleLoc, 1, 0.05, 0.05, 0.05, 0);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DRIPPING_WATER, particleLoc, 2, 0.05, 0.05, 0.05, 0);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BUBBLE, particleLoc, 1, 0.05, 0.05, 0.05, 0);
                     }
                 }
 
@@ -1814,7 +1815,7 @@ class WaterTentaclePassive implements PetAbility {
             }
         }.runTaskTimer(Bukkit.getPluginManager().getPlugin("ZombieZ"), 0L, 1L);
 
-        targetLoc.getWorld().playSound(targetLoc, Sound.ENTITY_SQUID_SQUIRT, 1.0f, 0.8f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, targetLoc, Sound.ENTITY_SQUID_SQUIRT, 1.0f, 0.8f);
 
         return damage * 1.2; // Bonus de dégâts sur cible immobilisée
     }
@@ -1850,7 +1851,7 @@ class TsunamiActive implements PetAbility {
         int length = (int) (waveLength * petData.getStatMultiplier());
 
         player.sendMessage("§a[Pet] §b§l🌊 TSUNAMI!");
-        player.playSound(player.getLocation(), Sound.ENTITY_GENERIC_SPLASH, 2.0f, 0.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.ENTITY_GENERIC_SPLASH, 2.0f, 0.5f);
 
         new BukkitRunnable() {
             int distance = 0;
@@ -1877,18 +1878,18 @@ class TsunamiActive implements PetAbility {
                     // Particules d'eau
                     for (double y = 0; y < waveHeight; y += 0.3) {
                         Location particleLoc = waveLoc.clone().add(0, y, 0);
-                        start.getWorld().spawnParticle(Particle.DRIPPING_WATER, particleLoc, 3, 0.2, 0.1, 0.2, 0);
-                        start.getWorld().spawnParticle(Particle.BUBBLE_POP, particleLoc, 2, 0.1, 0.1, 0.1, 0.05);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DRIPPING_WATER, particleLoc, 3, 0.2, 0.1, 0.2, 0);
+                        ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.BUBBLE_POP, particleLoc, 2, 0.1, 0.1, 0.1, 0.05);
 
                         if (y < 0.5) {
-                            start.getWorld().spawnParticle(Particle.SPLASH, particleLoc, 5, 0.3, 0.1, 0.3, 0.1);
+                            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SPLASH, particleLoc, 5, 0.3, 0.1, 0.3, 0.1);
                         }
                     }
 
                     // Crête de la vague (plus de particules en haut)
                     Location crestLoc = waveLoc.clone().add(0, waveHeight, 0);
-                    start.getWorld().spawnParticle(Particle.SPLASH, crestLoc, 10, 0.2, 0.1, 0.2, 0.2);
-                    start.getWorld().spawnParticle(Particle.CLOUD, crestLoc, 2, 0.1, 0.05, 0.1, 0.02);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.SPLASH, crestLoc, 10, 0.2, 0.1, 0.2, 0.2);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.CLOUD, crestLoc, 2, 0.1, 0.05, 0.1, 0.02);
                 }
 
                 // Dégâts et knockback
@@ -1910,7 +1911,7 @@ class TsunamiActive implements PetAbility {
 
                 // Son de vague
                 if (distance % 3 == 0) {
-                    waveCenter.getWorld().playSound(waveCenter, Sound.WEATHER_RAIN_ABOVE, 1.0f, 0.8f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, waveCenter, Sound.WEATHER_RAIN_ABOVE, 1.0f, 0.8f);
                 }
 
                 distance += 2;
@@ -1965,8 +1966,8 @@ class StardustTrailPassive implements PetAbility {
 
             Color color = starColors[random.nextInt(starColors.length)];
             Particle.DustOptions dust = new Particle.DustOptions(color, 0.8f);
-            loc.getWorld().spawnParticle(Particle.DUST, particleLoc, 2, 0.05, 0.05, 0.05, dust);
-            loc.getWorld().spawnParticle(Particle.END_ROD, particleLoc, 1, 0, 0, 0, 0.01);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, particleLoc, 2, 0.05, 0.05, 0.05, dust);
+            ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, particleLoc, 1, 0, 0, 0, 0.01);
         }
 
         // Dégâts aux ennemis dans la traînée
@@ -2008,7 +2009,7 @@ class ShootingStarActive implements PetAbility {
         int count = (int) (starCount * petData.getStatMultiplier());
 
         player.sendMessage("§a[Pet] §e§l⭐ PLUIE D'ÉTOILES!");
-        player.playSound(player.getLocation(), Sound.BLOCK_AMETHYST_CLUSTER_BREAK, 1.0f, 1.5f);
+        ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, player, player.getLocation(), Sound.BLOCK_AMETHYST_CLUSTER_BREAK, 1.0f, 1.5f);
 
         Random random = new Random();
         Color[] colors = {Color.WHITE, Color.YELLOW, Color.fromRGB(255, 215, 0), Color.fromRGB(255, 182, 193)};
@@ -2055,13 +2056,13 @@ class ShootingStarActive implements PetAbility {
             public void run() {
                 if (ticks > 40 || current.getY() < target.getY() + 1) {
                     // Impact stellaire
-                    current.getWorld().spawnParticle(Particle.END_ROD, current, 30, 1, 0.5, 1, 0.1);
-                    current.getWorld().spawnParticle(Particle.FLASH, current, 1, 0, 0, 0, 0);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, current, 30, 1, 0.5, 1, 0.1);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.FLASH, current, 1, 0, 0, 0, 0);
 
                     Particle.DustOptions dust = new Particle.DustOptions(color, 2.0f);
-                    current.getWorld().spawnParticle(Particle.DUST, current, 50, 1.5, 0.5, 1.5, dust);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, current, 50, 1.5, 0.5, 1.5, dust);
 
-                    current.getWorld().playSound(current, Sound.ENTITY_FIREWORK_ROCKET_TWINKLE, 1.0f, 1.5f);
+                    ZombieZPlugin.getInstance().getEffectBudget().playSound(Subsystem.PETS, current, Sound.ENTITY_FIREWORK_ROCKET_TWINKLE, 1.0f, 1.5f);
 
                     for (Entity e : current.getWorld().getNearbyEntities(current, 3, 3, 3)) {
                         if (e instanceof Monster m) {
@@ -2078,14 +2079,14 @@ class ShootingStarActive implements PetAbility {
 
                 // Traînée d'étoile
                 Particle.DustOptions dust = new Particle.DustOptions(color, 1.5f);
-                current.getWorld().spawnParticle(Particle.DUST, current, 5, 0.1, 0.1, 0.1, dust);
-                current.getWorld().spawnParticle(Particle.END_ROD, current, 3, 0.05, 0.05, 0.05, 0.02);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, current, 5, 0.1, 0.1, 0.1, dust);
+                ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.END_ROD, current, 3, 0.05, 0.05, 0.05, 0.02);
 
                 // Traînée scintillante
                 for (int i = 0; i < 3; i++) {
                     Location trailLoc = current.clone().subtract(direction.clone().multiply(i * 0.3));
                     Particle.DustOptions trailDust = new Particle.DustOptions(color, 1.0f - i * 0.2f);
-                    current.getWorld().spawnParticle(Particle.DUST, trailLoc, 2, 0.05, 0.05, 0.05, trailDust);
+                    ZombieZPlugin.getInstance().getEffectBudget().spawn(Subsystem.PETS, Particle.DUST, trailLoc, 2, 0.05, 0.05, 0.05, trailDust);
                 }
 
                 ticks++;
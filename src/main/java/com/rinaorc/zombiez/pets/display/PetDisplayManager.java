@@ -3,11 +3,18 @@ package com.rinaorc.zombiez.pets.display;
 import com.rinaorc.zombiez.ZombieZPlugin;
 import com.rinaorc.zombiez.pets.PetData;
 import com.rinaorc.zombiez.pets.PetManager;
+import com.rinaorc.zombiez.pets.PetRarity;
 import com.rinaorc.zombiez.pets.PetType;
 import com.rinaorc.zombiez.pets.PlayerPetData;
+import io.papermc.paper.event.player.PlayerTrackEntityEvent;
+import io.papermc.paper.event.player.PlayerUntrackEntityEvent;
 import org.bukkit.*;
 import org.bukkit.entity.*;
 import org.bukkit.entity.Display.Billboard;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.Transformation;
 import org.bukkit.util.Vector;
@@ -15,55 +22,88 @@ import org.joml.AxisAngle4f;
 import org.joml.Vector3f;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Gère l'affichage visuel des pets en jeu
  *
- * Système de suivi intelligent avec hologrammes montés (passenger system)
- * pour une fluidité frame-perfect sans calcul par tick.
- *
  * Architecture:
- * - Les TextDisplay hologrammes sont montés en tant que passagers sur le pet
- * - Le client Minecraft gère nativement l'interpolation du mouvement
- * - Zero impact sur les performances du thread principal pour le suivi
+ * - Un seul état par pet ({@link PetDisplay}): entité, cible, hologramme, spectateurs
+ * - Hologrammes: TextDisplay virtuels (ProtocolLib) montés côté client sur le pet,
+ *   envoyés uniquement aux joueurs qui voient le pet. Le client les déplace avec le pet:
+ *   aucun paquet de position, aucune entité serveur supplémentaire.
+ *   Sans ProtocolLib: TextDisplay réels montés en passagers.
+ * - Une seule tâche par tick: chaque pet est rangé dans un créneau, le suivi (toutes les
+ *   4 ticks), les noms (chaque seconde) et les particules (toutes les 10 ticks) sont
+ *   étalés sur les ticks au lieu de tout traiter d'un coup
+ * - Le mouvement reste celui de l'entité serveur (vélocité), interpolé nativement par le client
  */
-public class PetDisplayManager {
+public class PetDisplayManager implements Listener {
+
+    /**
+     * État d'affichage d'un pet
+     */
+    private static final class PetDisplay {
+        final UUID ownerUuid;
+        final PetType type;
+        final Entity entity;
+        final UUID worldUuid;
+        final int slot; // Créneau de mise à jour (0 à FOLLOW_INTERVAL_TICKS - 1)
+        Location targetLocation;
+
+        // Texte courant des lignes de l'hologramme (null = ligne absente)
+        final String[] lines = new String[HOLOGRAM_LINES];
+        boolean hasHologram;
+
+        // Hologramme virtuel: IDs client, joueurs qui suivent le pet, joueurs qui ont reçu l'hologramme
+        int[] lineIds;
+        final Set<UUID> tracking = new HashSet<>();
+        final Set<UUID> viewers = new HashSet<>();
+
+        // Sans ProtocolLib: TextDisplay réels montés en passagers
+        final TextDisplay[] lineEntities = new TextDisplay[HOLOGRAM_LINES];
+
+        PetDisplay(UUID ownerUuid, PetType type, Entity entity, UUID worldUuid, int slot) {
+            this.ownerUuid = ownerUuid;
+            this.type = type;
+            this.entity = entity;
+            this.worldUuid = worldUuid;
+            this.slot = slot;
+        }
+    }
 
     private final ZombieZPlugin plugin;
     private final PetManager petManager;
 
-    // Map des entités de pet actives: Player UUID -> Entity UUID
-    private final Map<UUID, UUID> activePetEntities = new ConcurrentHashMap<>();
-
-    // Map des positions cibles pour le suivi fluide
-    private final Map<UUID, Location> targetLocations = new ConcurrentHashMap<>();
-
-    // Map des mondes des joueurs pour détecter les changements
-    private final Map<UUID, UUID> playerWorlds = new ConcurrentHashMap<>();
-
-    // Maps des TextDisplay hologrammes: Player UUID -> TextDisplay Entity UUID
-    // Les hologrammes sont montés en passagers sur le pet pour fluidité parfaite
-    private final Map<UUID, UUID> hologramLine1 = new ConcurrentHashMap<>();
-    private final Map<UUID, UUID> hologramLine2 = new ConcurrentHashMap<>();
-    private final Map<UUID, UUID> hologramLine3 = new ConcurrentHashMap<>();
-
-    // Cache du dernier texte affiché pour optimisation (éviter updates inutiles)
-    private final Map<UUID, String> lastLine1Text = new ConcurrentHashMap<>();
-    private final Map<UUID, String> lastLine2Text = new ConcurrentHashMap<>();
-    private final Map<UUID, String> lastLine3Text = new ConcurrentHashMap<>();
+    // Hologrammes virtuels (null si ProtocolLib absent)
+    private final PetHologramPackets hologramPackets;
 
-    // Map des tasks de particules par joueur pour cleanup propre
-    private final Map<UUID, BukkitTask> particleTasks = new ConcurrentHashMap<>();
+    // Pets actifs: Player UUID -> état, et ID d'entité du pet -> état (événements de suivi)
+    private final Map<UUID, PetDisplay> pets = new ConcurrentHashMap<>();
+    private final Map<Integer, PetDisplay> petsByEntityId = new ConcurrentHashMap<>();
 
-    // Task de mise à jour des positions du pet (pas des hologrammes)
+    // Tâche unique de mise à jour (suivi, noms, particules)
     private BukkitTask updateTask;
-
-    // Task de mise à jour des noms (pour le timer ultime)
-    private BukkitTask nameUpdateTask;
+    private long currentTick = 0;
+    private int nextSlot = 0;
+
+    // Coût par tick (fenêtre glissante de STATS_WINDOW_TICKS)
+    private static final int STATS_WINDOW_TICKS = 200;
+    private long windowNanos = 0;
+    private long windowMaxNanos = 0;
+    private int windowTicks = 0;
+    private volatile double lastAvgTickMs = 0;
+    private volatile double lastMaxTickMs = 0;
+
+    // Intervalles (en ticks)
+    private static final int FOLLOW_INTERVAL_TICKS = 4;
+    private static final int NAME_INTERVAL_TICKS = 20;
+    private static final int PARTICLE_INTERVAL_TICKS = 10;
 
     // Constantes de comportement du pet
     private static final double TELEPORT_DISTANCE = 20.0; // TP si > 20 blocs
@@ -72,24 +112,21 @@ public class PetDisplayManager {
     private static final double MAX_SPEED = 0.8; // Vitesse doublée pour mieux suivre
     private static final double ACCELERATION = 0.20; // Accélération légèrement augmentée
 
-    // Constantes pour les hologrammes TextDisplay (offsets via Transformation)
-    // Ces offsets sont appliqués via setTransformation() car les hologrammes sont
-    // des passagers
-    private static final float HOLOGRAM_Y_OFFSET_LINE1 = 1.35f; // Nom du pet (en gras)
-    private static final float HOLOGRAM_Y_OFFSET_LINE2 = 1.10f; // Propriétaire
-    private static final float HOLOGRAM_Y_OFFSET_LINE3 = 0.85f; // Timer ultime
+    // Lignes de l'hologramme et leur offset Y au-dessus du pet (via Transformation)
+    private static final int HOLOGRAM_LINES = 3;
+    private static final float[] HOLOGRAM_Y_OFFSETS = {
+            1.35f, // Ligne 1: nom du pet (en gras)
+            1.10f, // Ligne 2: propriétaire
+            0.85f  // Ligne 3: timer ultime
+    };
 
     public PetDisplayManager(ZombieZPlugin plugin, PetManager petManager) {
         this.plugin = plugin;
         this.petManager = petManager;
+        this.hologramPackets = Bukkit.getPluginManager().isPluginEnabled("ProtocolLib")
+                ? new PetHologramPackets(plugin) : null;
 
-        // Tâche de suivi du pet (pas des hologrammes - ils suivent automatiquement en
-        // tant que passagers)
-        // Optimisé à 4 ticks (5 updates/sec) - suffisant pour un suivi fluide
-        updateTask = Bukkit.getScheduler().runTaskTimer(plugin, this::updateAllPets, 1L, 4L);
-
-        // Tâche de mise à jour des noms toutes les secondes (pour le timer ultime)
-        nameUpdateTask = Bukkit.getScheduler().runTaskTimer(plugin, this::updateAllPetNames, 20L, 20L);
+        updateTask = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
     }
 
     /**
@@ -118,16 +155,18 @@ public class PetDisplayManager {
         // Configurer l'entité
         configurePetEntity(petEntity, type, player);
 
-        // Enregistrer l'entité et le monde actuel
+        // Enregistrer l'état du pet
         UUID playerUuid = player.getUniqueId();
-        activePetEntities.put(playerUuid, petEntity.getUniqueId());
-        playerWorlds.put(playerUuid, player.getWorld().getUID());
-        targetLocations.put(playerUuid, spawnLoc.clone());
+        PetDisplay display = new PetDisplay(playerUuid, type, petEntity, player.getWorld().getUID(),
+                nextSlot++ % FOLLOW_INTERVAL_TICKS);
+        display.targetLocation = spawnLoc.clone();
+        pets.put(playerUuid, display);
+        petsByEntityId.put(petEntity.getEntityId(), display);
 
-        // Créer les hologrammes TextDisplay montés en passagers sur le pet
+        // Créer l'hologramme (les joueurs qui voient le pet le reçoivent via le suivi d'entité)
         PetData petData = playerData != null ? playerData.getPet(type) : null;
         if (petData != null) {
-            createHologramDisplays(playerUuid, petEntity, type, petData);
+            createHologram(display, petData);
         }
     }
 
@@ -142,29 +181,32 @@ public class PetDisplayManager {
      * Retire l'entité visuelle par UUID du joueur (pour déconnexion)
      */
     public void removePetDisplayByUUID(UUID playerUuid) {
-        UUID entityUuid = activePetEntities.remove(playerUuid);
-        playerWorlds.remove(playerUuid);
-        targetLocations.remove(playerUuid);
-
-        // Annuler la task de particules
-        BukkitTask particleTask = particleTasks.remove(playerUuid);
-        if (particleTask != null) {
-            particleTask.cancel();
+        PetDisplay display = pets.get(playerUuid);
+        if (display == null)
+            return;
+
+        Entity entity = display.entity;
+        if (entity.isValid()) {
+            // Effet de disparition
+            Location loc = entity.getLocation();
+            if (loc.getWorld() != null) {
+                loc.getWorld().spawnParticle(Particle.CLOUD, loc.add(0, 0.5, 0), 10, 0.3, 0.3, 0.3, 0.02);
+            }
         }
+        discard(display);
+    }
 
-        // Supprimer les hologrammes TextDisplay
-        removeHologramDisplays(playerUuid);
+    /**
+     * Retire un pet (hologramme + entité) sans effet visuel
+     */
+    private void discard(PetDisplay display) {
+        pets.remove(display.ownerUuid, display);
+        petsByEntityId.remove(display.entity.getEntityId(), display);
 
-        if (entityUuid != null) {
-            Entity entity = Bukkit.getEntity(entityUuid);
-            if (entity != null && entity.isValid()) {
-                // Effet de disparition
-                Location loc = entity.getLocation();
-                if (loc.getWorld() != null) {
-                    loc.getWorld().spawnParticle(Particle.CLOUD, loc.add(0, 0.5, 0), 10, 0.3, 0.3, 0.3, 0.02);
-                }
-                entity.remove();
-            }
+        removeHologram(display);
+
+        if (display.entity.isValid()) {
+            display.entity.remove();
         }
     }
 
@@ -172,22 +214,24 @@ public class PetDisplayManager {
      * Vérifie si un joueur a un pet actif
      */
     public boolean hasPetDisplay(UUID playerUuid) {
-        return activePetEntities.containsKey(playerUuid);
+        return pets.containsKey(playerUuid);
     }
 
     /**
      * Met à jour l'affichage du pet (position, nom, etc.)
      */
     public void updatePetDisplay(Player player) {
+        PetDisplay display = pets.get(player.getUniqueId());
+        if (display != null) {
+            updatePetDisplay(player, display);
+        }
+    }
+
+    private void updatePetDisplay(Player player, PetDisplay display) {
         UUID playerUuid = player.getUniqueId();
-        UUID entityUuid = activePetEntities.get(playerUuid);
-        if (entityUuid == null)
-            return;
 
         // Vérifier si le joueur a changé de monde
-        UUID currentWorldUuid = player.getWorld().getUID();
-        UUID storedWorldUuid = playerWorlds.get(playerUuid);
-        if (storedWorldUuid != null && !storedWorldUuid.equals(currentWorldUuid)) {
+        if (!display.worldUuid.equals(player.getWorld().getUID())) {
             // Changement de monde détecté - recréer le pet
             PlayerPetData data = petManager.getPlayerData(playerUuid);
             if (data != null && data.getEquippedPet() != null && data.isShowPetEntity()) {
@@ -201,14 +245,14 @@ public class PetDisplayManager {
             return;
         }
 
-        Entity entity = Bukkit.getEntity(entityUuid);
-        if (entity == null || !entity.isValid() || entity.isDead()) {
+        Entity entity = display.entity;
+        if (!entity.isValid() || entity.isDead()) {
             // L'entité n'existe plus, en recréer une
             PlayerPetData data = petManager.getPlayerData(playerUuid);
             if (data != null && data.getEquippedPet() != null && data.isShowPetEntity()) {
-                activePetEntities.remove(playerUuid);
-                targetLocations.remove(playerUuid);
                 spawnPetDisplay(player, data.getEquippedPet());
+            } else {
+                discard(display);
             }
             return;
         }
@@ -272,12 +316,10 @@ public class PetDisplayManager {
         }
 
         // Mettre à jour la position cible
-        targetLocations.put(playerUuid, targetLoc);
+        display.targetLocation = targetLoc;
 
         // Note: Les hologrammes suivent automatiquement le pet car ils sont montés en
-        // passagers
-        // Pas besoin de updateHologramPositions() - le client gère l'interpolation
-        // nativement
+        // passagers (côté client ou serveur) - le client gère l'interpolation
     }
 
     /**
@@ -377,94 +419,110 @@ public class PetDisplayManager {
     }
 
     /**
-     * Met à jour tous les pets
+     * Tâche unique: chaque pet est traité dans son créneau
+     * (suivi toutes les 4 ticks, noms chaque seconde, particules toutes les 10 ticks)
      */
-    private void updateAllPets() {
-        for (Map.Entry<UUID, UUID> entry : activePetEntities.entrySet()) {
-            UUID playerUuid = entry.getKey();
-            Player player = Bukkit.getPlayer(playerUuid);
-
-            if (player == null || !player.isOnline()) {
-                // Joueur déconnecté - nettoyer immédiatement
-                cleanupDisconnectedPlayer(playerUuid, entry.getValue());
-                continue;
-            }
+    private void tick() {
+        long start = System.nanoTime();
+        long tick = ++currentTick;
+        int followSlot = (int) (tick % FOLLOW_INTERVAL_TICKS);
+        int nameSlot = (int) (tick % NAME_INTERVAL_TICKS);
+        int particleSlot = (int) (tick % PARTICLE_INTERVAL_TICKS);
 
-            // Skip si le chunk du joueur n'est pas chargé (optimisation)
-            if (!player.getLocation().isChunkLoaded()) {
-                continue;
+        for (PetDisplay display : pets.values()) {
+            if (display.slot == followSlot) {
+                updatePet(display);
             }
-
-            // Vérifier si le joueur est mort
-            if (player.isDead()) {
-                // Cacher temporairement le pet
-                Entity entity = Bukkit.getEntity(entry.getValue());
-                if (entity != null && entity.isValid()) {
-                    entity.setCustomNameVisible(false);
-                    entity.teleport(player.getLocation().add(0, -5, 0)); // Cacher sous le sol
-                }
-                continue;
+            if (display.slot == nameSlot) {
+                updatePetName(display);
             }
-
-            try {
-                updatePetDisplay(player);
-            } catch (Exception e) {
-                // En cas d'erreur, nettoyer et recréer au prochain tick
-                plugin.getLogger().warning("Erreur mise à jour pet pour " + player.getName() + ": " + e.getMessage());
+            if (display.slot == particleSlot) {
+                spawnRarityParticles(display);
             }
         }
+
+        recordTick(System.nanoTime() - start);
     }
 
     /**
-     * Nettoie les données d'un joueur déconnecté
+     * Met à jour la position d'un pet
      */
-    private void cleanupDisconnectedPlayer(UUID playerUuid, UUID entityUuid) {
-        // Supprimer les hologrammes TextDisplay
-        removeHologramDisplays(playerUuid);
-
-        // Supprimer l'entité du pet
-        Entity entity = Bukkit.getEntity(entityUuid);
-        if (entity != null && entity.isValid()) {
-            entity.remove();
+    private void updatePet(PetDisplay display) {
+        Player player = Bukkit.getPlayer(display.ownerUuid);
+
+        if (player == null || !player.isOnline()) {
+            // Joueur déconnecté - nettoyer immédiatement
+            discard(display);
+            return;
+        }
+
+        // Skip si le chunk du joueur n'est pas chargé (optimisation)
+        if (!player.getLocation().isChunkLoaded()) {
+            return;
+        }
+
+        // Vérifier si le joueur est mort
+        if (player.isDead()) {
+            // Cacher temporairement le pet
+            Entity entity = display.entity;
+            if (entity.isValid()) {
+                entity.setCustomNameVisible(false);
+                entity.teleport(player.getLocation().add(0, -5, 0)); // Cacher sous le sol
+            }
+            return;
+        }
+
+        try {
+            updatePetDisplay(player, display);
+        } catch (Exception e) {
+            // En cas d'erreur, nettoyer et recréer au prochain tick
+            plugin.getLogger().warning("Erreur mise à jour pet pour " + player.getName() + ": " + e.getMessage());
         }
-        activePetEntities.remove(playerUuid);
-        playerWorlds.remove(playerUuid);
-        targetLocations.remove(playerUuid);
     }
 
     /**
-     * Met à jour les noms de tous les pets (pour le timer ultime)
-     * Utilise les TextDisplay hologrammes au lieu de setCustomName()
+     * Met à jour le nom d'un pet (pour le timer ultime)
      */
-    private void updateAllPetNames() {
-        for (Map.Entry<UUID, UUID> entry : activePetEntities.entrySet()) {
-            UUID playerUuid = entry.getKey();
-            UUID entityUuid = entry.getValue();
+    private void updatePetName(PetDisplay display) {
+        if (!display.hasHologram)
+            return;
 
-            Player player = Bukkit.getPlayer(playerUuid);
-            if (player == null || !player.isOnline())
-                continue;
+        Player player = Bukkit.getPlayer(display.ownerUuid);
+        if (player == null || !player.isOnline())
+            return;
 
-            Entity entity = Bukkit.getEntity(entityUuid);
-            if (entity == null || !entity.isValid())
-                continue;
+        Entity entity = display.entity;
+        if (!entity.isValid())
+            return;
 
-            // Optimisation: skip si le chunk n'est pas chargé
-            if (!entity.getLocation().isChunkLoaded())
-                continue;
+        // Optimisation: skip si le chunk n'est pas chargé
+        if (!entity.getLocation().isChunkLoaded())
+            return;
 
-            PlayerPetData playerData = petManager.getPlayerData(playerUuid);
-            if (playerData == null || playerData.getEquippedPet() == null)
-                continue;
+        PlayerPetData playerData = petManager.getPlayerData(display.ownerUuid);
+        if (playerData == null || playerData.getEquippedPet() == null)
+            return;
 
-            PetType type = playerData.getEquippedPet();
-            PetData petData = playerData.getPet(type);
-            if (petData == null)
-                continue;
+        PetType type = playerData.getEquippedPet();
+        PetData petData = playerData.getPet(type);
+        if (petData == null)
+            return;
 
-            // Mettre à jour les hologrammes TextDisplay (optimisé - seulement si
-            // changement)
-            updateHologramText(playerUuid, type, petData);
+        // Mettre à jour les lignes (seulement si changement)
+        updateHologramText(display, type, petData);
+    }
+
+    private void recordTick(long nanos) {
+        windowNanos += nanos;
+        if (nanos > windowMaxNanos) {
+            windowMaxNanos = nanos;
+        }
+        if (++windowTicks >= STATS_WINDOW_TICKS) {
+            lastAvgTickMs = windowNanos / (double) windowTicks / 1_000_000.0;
+            lastMaxTickMs = windowMaxNanos / 1_000_000.0;
+            windowNanos = 0;
+            windowMaxNanos = 0;
+            windowTicks = 0;
         }
     }
 
@@ -515,68 +573,44 @@ public class PetDisplayManager {
     }
 
     /**
-     * Crée les TextDisplay hologrammes montés en passagers sur le pet.
+     * Crée l'hologramme d'un pet.
      *
-     * Système de passenger mounting pour fluidité frame-perfect:
-     * - Les hologrammes sont spawned à la position du pet
-     * - Ils sont immédiatement ajoutés comme passagers
-     * - L'offset Y est géré via setTransformation() au lieu de la position
-     * - Le client Minecraft interpoler automatiquement le mouvement
-     *
-     * @param playerUuid UUID du joueur propriétaire
-     * @param petEntity  L'entité du pet sur laquelle monter les hologrammes
-     * @param type       Type du pet
-     * @param petData    Données du pet
+     * - ProtocolLib: IDs virtuels réservés; chaque joueur qui suit le pet reçoit
+     *   les lignes montées sur le pet (voir {@link #onTrack})
+     * - Sinon: TextDisplay réels montés en passagers, l'offset Y étant géré via
+     *   setTransformation() pour que le client interpole correctement
      */
-    private void createHologramDisplays(UUID playerUuid, Entity petEntity, PetType type, PetData petData) {
-        World world = petEntity.getWorld();
-        if (world == null)
+    private void createHologram(PetDisplay display, PetData petData) {
+        display.lines[0] = buildPetLine1(display.type, petData);
+        display.lines[1] = buildPetLine2(display.ownerUuid);
+        // Ligne 3 seulement si le pet a une ultime
+        display.lines[2] = buildPetLine3(display.type, display.ownerUuid);
+        display.hasHologram = true;
+
+        if (hologramPackets != null) {
+            display.lineIds = hologramPackets.allocateIds(HOLOGRAM_LINES);
+            // Joueurs qui suivaient déjà le pet avant son enregistrement (suivi déclenché au spawn)
+            for (Player viewer : display.entity.getTrackedBy()) {
+                display.tracking.add(viewer.getUniqueId());
+                Bukkit.getScheduler().runTask(plugin, () -> showHologram(display, viewer));
+            }
             return;
-
-        // Supprimer les anciens hologrammes s'ils existent
-        removeHologramDisplays(playerUuid);
-
-        Location spawnLoc = petEntity.getLocation();
-
-        // Créer la ligne 1 (nom en gras + niveau + étoiles) - montée en passager
-        String line1Text = buildPetLine1(type, petData);
-        TextDisplay line1 = spawnMountedTextDisplay(world, spawnLoc, line1Text, HOLOGRAM_Y_OFFSET_LINE1);
-        if (line1 != null) {
-            // Monter l'hologramme comme passager du pet
-            petEntity.addPassenger(line1);
-            hologramLine1.put(playerUuid, line1.getUniqueId());
-            lastLine1Text.put(playerUuid, line1Text);
         }
 
-        // Créer la ligne 2 (propriétaire) - toujours affichée
-        String line2Text = buildPetLine2(playerUuid);
-        TextDisplay line2 = spawnMountedTextDisplay(world, spawnLoc, line2Text, HOLOGRAM_Y_OFFSET_LINE2);
-        if (line2 != null) {
+        World world = display.entity.getWorld();
+        Location spawnLoc = display.entity.getLocation();
+        for (int i = 0; i < HOLOGRAM_LINES; i++) {
+            if (display.lines[i] == null) continue;
+            TextDisplay line = spawnMountedTextDisplay(world, spawnLoc, display.lines[i], HOLOGRAM_Y_OFFSETS[i]);
             // Monter l'hologramme comme passager du pet
-            petEntity.addPassenger(line2);
-            hologramLine2.put(playerUuid, line2.getUniqueId());
-            lastLine2Text.put(playerUuid, line2Text);
-        }
-
-        // Créer la ligne 3 (timer ultime) seulement si le pet a une ultime
-        String line3Text = buildPetLine3(type, playerUuid);
-        if (line3Text != null) {
-            TextDisplay line3 = spawnMountedTextDisplay(world, spawnLoc, line3Text, HOLOGRAM_Y_OFFSET_LINE3);
-            if (line3 != null) {
-                // Monter l'hologramme comme passager du pet
-                petEntity.addPassenger(line3);
-                hologramLine3.put(playerUuid, line3.getUniqueId());
-                lastLine3Text.put(playerUuid, line3Text);
-            }
+            display.entity.addPassenger(line);
+            display.lineEntities[i] = line;
         }
     }
 
     /**
      * Spawn un TextDisplay configuré pour être monté en passager avec offset Y via
-     * transformation.
-     *
-     * Le TextDisplay est positionné à la location du pet, mais son offset visuel
-     * est géré via setTransformation() pour que le client interpole correctement.
+     * transformation (fallback sans ProtocolLib).
      *
      * @param world   Le monde où spawner
      * @param loc     La location de base (position du pet)
@@ -601,7 +635,6 @@ public class PetDisplayManager {
 
         // Transformation avec offset Y pour positionner au-dessus du pet
         // Comme le TextDisplay est un passager, sa position de base est celle du pet
-        // L'offset Y est donc appliqué via la translation de la transformation
         display.setTransformation(new Transformation(
                 new Vector3f(0, yOffset, 0), // Translation Y pour offset vertical
                 new AxisAngle4f(0, 0, 0, 1), // Rotation gauche (identité)
@@ -609,9 +642,7 @@ public class PetDisplayManager {
                 new AxisAngle4f(0, 0, 0, 1) // Rotation droite (identité)
         ));
 
-        // Pas besoin d'interpolation pour la transformation car elle est statique
-        // Le mouvement fluide vient du fait que le TextDisplay est un passager du pet
-        // Le client Minecraft interpole automatiquement la position du véhicule (pet)
+        // Transformation statique: le mouvement fluide vient du véhicule (pet)
         display.setInterpolationDuration(0);
         display.setInterpolationDelay(0);
 
@@ -629,135 +660,130 @@ public class PetDisplayManager {
     }
 
     /**
-     * Supprime les TextDisplay hologrammes d'un joueur.
-     * Les hologrammes sont des passagers du pet, ils seront automatiquement éjectés
-     * lors du remove().
+     * Supprime l'hologramme d'un pet
      */
-    private void removeHologramDisplays(UUID playerUuid) {
-        // Supprimer la ligne 1
-        UUID line1Uuid = hologramLine1.remove(playerUuid);
-        if (line1Uuid != null) {
-            Entity entity = Bukkit.getEntity(line1Uuid);
-            if (entity != null && entity.isValid()) {
-                // Éjecter du véhicule si monté (sera fait automatiquement par remove() mais
-                // explicite pour clarté)
-                if (entity.getVehicle() != null) {
-                    entity.getVehicle().removePassenger(entity);
-                }
-                entity.remove();
-            }
-        }
+    private void removeHologram(PetDisplay display) {
+        if (!display.hasHologram)
+            return;
+        display.hasHologram = false;
 
-        // Supprimer la ligne 2
-        UUID line2Uuid = hologramLine2.remove(playerUuid);
-        if (line2Uuid != null) {
-            Entity entity = Bukkit.getEntity(line2Uuid);
-            if (entity != null && entity.isValid()) {
-                if (entity.getVehicle() != null) {
-                    entity.getVehicle().removePassenger(entity);
+        if (display.lineIds != null) {
+            for (UUID viewerUuid : display.viewers) {
+                Player viewer = Bukkit.getPlayer(viewerUuid);
+                if (viewer != null && viewer.isOnline()) {
+                    hologramPackets.hide(viewer, display.lineIds);
                 }
-                entity.remove();
             }
+            display.viewers.clear();
+            display.tracking.clear();
+            hologramPackets.releaseIds(display.lineIds);
+            display.lineIds = null;
+            return;
         }
 
-        // Supprimer la ligne 3
-        UUID line3Uuid = hologramLine3.remove(playerUuid);
-        if (line3Uuid != null) {
-            Entity entity = Bukkit.getEntity(line3Uuid);
-            if (entity != null && entity.isValid()) {
-                if (entity.getVehicle() != null) {
-                    entity.getVehicle().removePassenger(entity);
-                }
-                entity.remove();
+        for (int i = 0; i < HOLOGRAM_LINES; i++) {
+            TextDisplay line = display.lineEntities[i];
+            display.lineEntities[i] = null;
+            if (line != null && line.isValid()) {
+                line.remove();
             }
         }
-
-        // Nettoyer les caches de texte
-        lastLine1Text.remove(playerUuid);
-        lastLine2Text.remove(playerUuid);
-        lastLine3Text.remove(playerUuid);
     }
 
     /**
-     * Met à jour le texte des hologrammes (optimisé - seulement si changement).
-     * Note: La position n'a pas besoin d'être mise à jour car les hologrammes sont
-     * des passagers.
+     * Met à jour le texte des lignes (seulement si changement).
+     * Le nombre de lignes est fixe pour un type de pet (ultime ou non).
      */
-    private void updateHologramText(UUID playerUuid, PetType type, PetData petData) {
-        // Mise à jour ligne 1 (nom en gras + niveau + étoiles)
-        String newLine1 = buildPetLine1(type, petData);
-        String oldLine1 = lastLine1Text.get(playerUuid);
-
-        if (!newLine1.equals(oldLine1)) {
-            UUID line1Uuid = hologramLine1.get(playerUuid);
-            if (line1Uuid != null) {
-                Entity entity = Bukkit.getEntity(line1Uuid);
-                if (entity instanceof TextDisplay textDisplay) {
-                    textDisplay.setText(newLine1);
-                    lastLine1Text.put(playerUuid, newLine1);
+    private void updateHologramText(PetDisplay display, PetType type, PetData petData) {
+        String[] newLines = {
+                buildPetLine1(type, petData),
+                buildPetLine2(display.ownerUuid),
+                buildPetLine3(type, display.ownerUuid)
+        };
+
+        for (int i = 0; i < HOLOGRAM_LINES; i++) {
+            String newText = newLines[i];
+            if (display.lines[i] == null || newText == null || newText.equals(display.lines[i]))
+                continue;
+            display.lines[i] = newText;
+
+            if (display.lineIds != null) {
+                if (!display.viewers.isEmpty()) {
+                    hologramPackets.updateLine(onlineViewers(display), display.lineIds[i], newText);
                 }
+            } else if (display.lineEntities[i] != null && display.lineEntities[i].isValid()) {
+                display.lineEntities[i].setText(newText);
             }
         }
+    }
 
-        // Mise à jour ligne 2 (propriétaire) - généralement statique
-        String newLine2 = buildPetLine2(playerUuid);
-        String oldLine2 = lastLine2Text.get(playerUuid);
-
-        if (!newLine2.equals(oldLine2)) {
-            UUID line2Uuid = hologramLine2.get(playerUuid);
-            if (line2Uuid != null) {
-                Entity entity = Bukkit.getEntity(line2Uuid);
-                if (entity instanceof TextDisplay textDisplay) {
-                    textDisplay.setText(newLine2);
-                    lastLine2Text.put(playerUuid, newLine2);
-                }
+    private List<Player> onlineViewers(PetDisplay display) {
+        List<Player> result = new ArrayList<>(display.viewers.size());
+        for (UUID viewerUuid : display.viewers) {
+            Player viewer = Bukkit.getPlayer(viewerUuid);
+            if (viewer != null && viewer.isOnline()) {
+                result.add(viewer);
             }
         }
+        return result;
+    }
 
-        // Mise à jour ligne 3 (timer ultime)
-        String newLine3 = buildPetLine3(type, playerUuid);
-        String oldLine3 = lastLine3Text.get(playerUuid);
+    /**
+     * Envoie l'hologramme à un joueur qui suit toujours le pet
+     */
+    private void showHologram(PetDisplay display, Player viewer) {
+        if (pets.get(display.ownerUuid) != display || display.lineIds == null)
+            return;
+        if (!viewer.isOnline() || !display.tracking.contains(viewer.getUniqueId()))
+            return;
+        if (display.viewers.add(viewer.getUniqueId())) {
+            hologramPackets.show(viewer, display.entity, display.lineIds, display.lines, HOLOGRAM_Y_OFFSETS);
+        }
+    }
 
-        // Gérer le cas où la ligne 3 doit apparaître/disparaître
-        UUID line3Uuid = hologramLine3.get(playerUuid);
+    // ==================== SUIVI DES SPECTATEURS ====================
 
-        if (newLine3 == null) {
-            // Pas d'ultime - supprimer la ligne 3 si elle existe
-            if (line3Uuid != null) {
-                Entity entity = Bukkit.getEntity(line3Uuid);
-                if (entity != null && entity.isValid()) {
-                    entity.remove();
-                }
-                hologramLine3.remove(playerUuid);
-                lastLine3Text.remove(playerUuid);
-            }
-        } else if (newLine3.equals(oldLine3)) {
-            // Pas de changement - ne rien faire
-        } else {
-            // Texte changé - mettre à jour
-            if (line3Uuid != null) {
-                Entity entity = Bukkit.getEntity(line3Uuid);
-                if (entity instanceof TextDisplay textDisplay) {
-                    textDisplay.setText(newLine3);
-                    lastLine3Text.put(playerUuid, newLine3);
-                }
-            } else {
-                // La ligne 3 n'existe pas mais devrait - la créer et la monter en passager
-                UUID petEntityUuid = activePetEntities.get(playerUuid);
-                if (petEntityUuid != null) {
-                    Entity petEntity = Bukkit.getEntity(petEntityUuid);
-                    if (petEntity != null && petEntity.isValid()) {
-                        // Créer et monter le TextDisplay en passager
-                        TextDisplay line3 = spawnMountedTextDisplay(petEntity.getWorld(), petEntity.getLocation(),
-                                newLine3, HOLOGRAM_Y_OFFSET_LINE3);
-                        if (line3 != null) {
-                            petEntity.addPassenger(line3);
-                            hologramLine3.put(playerUuid, line3.getUniqueId());
-                            lastLine3Text.put(playerUuid, newLine3);
-                        }
-                    }
-                }
-            }
+    /**
+     * Un joueur commence à voir un pet: lui envoyer l'hologramme
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTrack(PlayerTrackEntityEvent event) {
+        if (hologramPackets == null)
+            return;
+        PetDisplay display = petsByEntityId.get(event.getEntity().getEntityId());
+        if (display == null || display.lineIds == null)
+            return;
+
+        Player viewer = event.getPlayer();
+        display.tracking.add(viewer.getUniqueId());
+        // Le paquet de spawn du pet part après l'événement: monter l'hologramme au tick suivant
+        Bukkit.getScheduler().runTask(plugin, () -> showHologram(display, viewer));
+    }
+
+    /**
+     * Un joueur ne voit plus un pet: retirer l'hologramme (sinon il resterait figé côté client)
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onUntrack(PlayerUntrackEntityEvent event) {
+        if (hologramPackets == null)
+            return;
+        PetDisplay display = petsByEntityId.get(event.getEntity().getEntityId());
+        if (display == null)
+            return;
+
+        UUID viewerUuid = event.getPlayer().getUniqueId();
+        display.tracking.remove(viewerUuid);
+        if (display.viewers.remove(viewerUuid) && display.lineIds != null && event.getPlayer().isOnline()) {
+            hologramPackets.hide(event.getPlayer(), display.lineIds);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        UUID viewerUuid = event.getPlayer().getUniqueId();
+        for (PetDisplay display : pets.values()) {
+            display.tracking.remove(viewerUuid);
+            display.viewers.remove(viewerUuid);
         }
     }
 
@@ -1189,64 +1215,49 @@ public class PetDisplayManager {
                 mob.setAware(true);
             }
         }
-
-        // Effets de particules selon la rareté
-        spawnRarityParticles(entity, type, player);
     }
 
     /**
-     * Spawn des particules selon la rareté du pet
+     * Particules selon la rareté du pet (appelé dans le créneau du pet, toutes les 10 ticks)
      */
-    private void spawnRarityParticles(Entity entity, PetType type, Player owner) {
-        UUID ownerUuid = owner.getUniqueId();
-
-        // Annuler l'ancienne task si elle existe
-        BukkitTask oldTask = particleTasks.remove(ownerUuid);
-        if (oldTask != null) {
-            oldTask.cancel();
+    private void spawnRarityParticles(PetDisplay display) {
+        PetRarity rarity = display.type.getRarity();
+        // Pas de particules pour common/uncommon/rare
+        if (rarity != PetRarity.EPIC && rarity != PetRarity.LEGENDARY
+                && rarity != PetRarity.MYTHIC && rarity != PetRarity.EXALTED) {
+            return;
         }
 
-        BukkitTask task = new org.bukkit.scheduler.BukkitRunnable() {
-            @Override
-            public void run() {
-                // Arrêter si l'entité n'est plus valide ou si le pet a été retiré
-                if (!entity.isValid() || !activePetEntities.containsKey(ownerUuid)) {
-                    this.cancel();
-                    particleTasks.remove(ownerUuid);
-                    return;
-                }
+        Entity entity = display.entity;
+        if (!entity.isValid())
+            return;
 
-                // Vérifier l'option de particules du joueur
-                PlayerPetData data = petManager.getPlayerData(ownerUuid);
-                if (data == null || !data.isShowPetParticles()) {
-                    return; // Ne pas afficher les particules mais garder la tâche
-                }
+        // Vérifier l'option de particules du joueur
+        PlayerPetData data = petManager.getPlayerData(display.ownerUuid);
+        if (data == null || !data.isShowPetParticles())
+            return;
 
-                Location loc = entity.getLocation().add(0, 0.5, 0);
-                if (loc.getWorld() == null)
-                    return;
+        Location loc = entity.getLocation().add(0, 0.5, 0);
+        if (loc.getWorld() == null)
+            return;
 
-                switch (type.getRarity()) {
-                    case EPIC -> loc.getWorld().spawnParticle(Particle.WITCH, loc, 2, 0.2, 0.2, 0.2, 0);
-                    case LEGENDARY -> {
-                        loc.getWorld().spawnParticle(Particle.END_ROD, loc, 3, 0.2, 0.2, 0.2, 0.02);
-                        loc.getWorld().spawnParticle(Particle.GLOW, loc, 1, 0.1, 0.1, 0.1, 0);
-                    }
-                    case MYTHIC -> {
-                        loc.getWorld().spawnParticle(Particle.ENCHANT, loc, 5, 0.3, 0.3, 0.3, 0.5);
-                        loc.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, loc, 2, 0.2, 0.2, 0.2, 0);
-                    }
-                    case EXALTED -> {
-                        loc.getWorld().spawnParticle(Particle.TRIAL_SPAWNER_DETECTION_OMINOUS, loc, 3, 0.3, 0.3, 0.3, 0.02);
-                        loc.getWorld().spawnParticle(Particle.SONIC_BOOM, loc, 1, 0.1, 0.1, 0.1, 0);
-                    }
-                    default -> {
-                    } // Pas de particules pour common/uncommon/rare
-                }
+        switch (rarity) {
+            case EPIC -> loc.getWorld().spawnParticle(Particle.WITCH, loc, 2, 0.2, 0.2, 0.2, 0);
+            case LEGENDARY -> {
+                loc.getWorld().spawnParticle(Particle.END_ROD, loc, 3, 0.2, 0.2, 0.2, 0.02);
+                loc.getWorld().spawnParticle(Particle.GLOW, loc, 1, 0.1, 0.1, 0.1, 0);
             }
-        }.runTaskTimer(plugin, 10L, 10L);
-
-        particleTasks.put(ownerUuid, task);
+            case MYTHIC -> {
+                loc.getWorld().spawnParticle(Particle.ENCHANT, loc, 5, 0.3, 0.3, 0.3, 0.5);
+                loc.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME, loc, 2, 0.2, 0.2, 0.2, 0);
+            }
+            case EXALTED -> {
+                loc.getWorld().spawnParticle(Particle.TRIAL_SPAWNER_DETECTION_OMINOUS, loc, 3, 0.3, 0.3, 0.3, 0.02);
+                loc.getWorld().spawnParticle(Particle.SONIC_BOOM, loc, 1, 0.1, 0.1, 0.1, 0);
+            }
+            default -> {
+            }
+        }
     }
 
     /**
@@ -1282,101 +1293,34 @@ public class PetDisplayManager {
         if (updateTask != null) {
             updateTask.cancel();
         }
-        if (nameUpdateTask != null) {
-            nameUpdateTask.cancel();
-        }
 
-        // Supprimer tous les hologrammes TextDisplay
-        for (UUID line1Uuid : hologramLine1.values()) {
-            Entity entity = Bukkit.getEntity(line1Uuid);
-            if (entity != null && entity.isValid()) {
-                entity.remove();
-            }
+        for (PetDisplay display : new ArrayList<>(pets.values())) {
+            discard(display);
         }
-        hologramLine1.clear();
-
-        for (UUID line2Uuid : hologramLine2.values()) {
-            Entity entity = Bukkit.getEntity(line2Uuid);
-            if (entity != null && entity.isValid()) {
-                entity.remove();
-            }
-        }
-        hologramLine2.clear();
-
-        for (UUID line3Uuid : hologramLine3.values()) {
-            Entity entity = Bukkit.getEntity(line3Uuid);
-            if (entity != null && entity.isValid()) {
-                entity.remove();
-            }
-        }
-        hologramLine3.clear();
-
-        // Nettoyer les caches de texte
-        lastLine1Text.clear();
-        lastLine2Text.clear();
-        lastLine3Text.clear();
-
-        // Supprimer les entités de pet
-        for (UUID entityUuid : activePetEntities.values()) {
-            Entity entity = Bukkit.getEntity(entityUuid);
-            if (entity != null && entity.isValid()) {
-                entity.remove();
-            }
-        }
-        activePetEntities.clear();
-        playerWorlds.clear();
-        targetLocations.clear();
+        pets.clear();
+        petsByEntityId.clear();
     }
 
     /**
-     * Nettoie les maps pour une entité donnée (appelé lors du chunk unload)
+     * Nettoie l'état d'une entité donnée (appelé lors du chunk unload)
      * Évite les fuites mémoire quand un chunk contenant un pet est déchargé
      */
     public void cleanupEntityFromMaps(UUID entityUuid) {
-        // Trouver et supprimer l'entrée dans activePetEntities
-        UUID ownerToRemove = null;
-        for (Map.Entry<UUID, UUID> entry : activePetEntities.entrySet()) {
-            if (entry.getValue().equals(entityUuid)) {
-                ownerToRemove = entry.getKey();
+        for (PetDisplay display : pets.values()) {
+            if (display.entity.getUniqueId().equals(entityUuid)) {
+                discard(display);
                 break;
             }
         }
+    }
 
-        if (ownerToRemove != null) {
-            activePetEntities.remove(ownerToRemove);
-            playerWorlds.remove(ownerToRemove);
-            targetLocations.remove(ownerToRemove);
-
-            // Nettoyer aussi les hologrammes associés
-            UUID line1Uuid = hologramLine1.remove(ownerToRemove);
-            if (line1Uuid != null) {
-                Entity line1 = Bukkit.getEntity(line1Uuid);
-                if (line1 != null && line1.isValid()) {
-                    line1.remove();
-                }
-            }
-
-            UUID line2Uuid = hologramLine2.remove(ownerToRemove);
-            if (line2Uuid != null) {
-                Entity line2 = Bukkit.getEntity(line2Uuid);
-                if (line2 != null && line2.isValid()) {
-                    line2.remove();
-                }
-            }
-
-            UUID line3Uuid = hologramLine3.remove(ownerToRemove);
-            if (line3Uuid != null) {
-                Entity line3 = Bukkit.getEntity(line3Uuid);
-                if (line3 != null && line3.isValid()) {
-                    line3.remove();
-                }
-            }
-
-            // Nettoyer les caches de texte
-            lastLine1Text.remove(ownerToRemove);
-            lastLine2Text.remove(ownerToRemove);
-            lastLine3Text.remove(ownerToRemove);
-        }
+    /**
+     * Obtient les statistiques d'affichage (coût moyen/max par tick sur les 10 dernières secondes)
+     */
+    public String getStats() {
+        return String.format("%d pets | Tick: %.3fms moy, %.3fms max | Hologrammes: %s",
+                pets.size(), lastAvgTickMs, lastMaxTickMs,
+                hologramPackets != null ? hologramPackets.getStats() : "entités");
     }
 
     /**
@@ -1400,4 +1344,4 @@ public class PetDisplayManager {
         }
         return null;
     }
-}
\ No newline at end of file
+}
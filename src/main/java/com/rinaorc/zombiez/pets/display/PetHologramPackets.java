@@ -0,0 +1,199 @@
+package com.rinaorc.zombiez.pets.display;
+
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.ProtocolLibrary;
+import com.comphenix.protocol.ProtocolManager;
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.wrappers.WrappedChatComponent;
+import com.comphenix.protocol.wrappers.WrappedDataValue;
+import com.comphenix.protocol.wrappers.WrappedDataWatcher;
+import com.rinaorc.zombiez.ZombieZPlugin;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+import org.joml.Vector3f;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Level;
+
+/**
+ * Hologrammes de pets virtuels (ProtocolLib)
+ *
+ * Chaque ligne est un TextDisplay côté client, monté sur l'entité du pet:
+ * le client le déplace avec le pet, aucun paquet de position n'est jamais envoyé.
+ * Seuls les joueurs qui voient le pet reçoivent ses lignes.
+ *
+ * Main thread uniquement.
+ */
+class PetHologramPackets {
+
+    // Plage d'IDs réservée (distincte de celle des indicateurs de dégâts)
+    private static final int FIRST_ENTITY_ID = 1_950_000_000;
+
+    // Index des métadonnées Display/TextDisplay (1.21.4)
+    private static final int META_TRANSLATION = 11;
+    private static final int META_BILLBOARD = 15;
+    private static final int META_VIEW_RANGE = 17;
+    private static final int META_TEXT = 23;
+    private static final int META_BACKGROUND = 25;
+    private static final int META_TEXT_FLAGS = 27;
+
+    private final ZombieZPlugin plugin;
+    private final ProtocolManager protocolManager;
+    private final WrappedDataWatcher.Serializer intSerializer;
+    private final WrappedDataWatcher.Serializer byteSerializer;
+    private final WrappedDataWatcher.Serializer floatSerializer;
+    private final WrappedDataWatcher.Serializer vectorSerializer;
+    private final WrappedDataWatcher.Serializer chatSerializer;
+
+    // Pool d'IDs d'entités recyclés
+    private int[] freeIds = new int[256];
+    private int freeIdCount = 0;
+    private int nextEntityId = FIRST_ENTITY_ID;
+
+    // Statistiques
+    private long packetsSent = 0;
+
+    PetHologramPackets(ZombieZPlugin plugin) {
+        this.plugin = plugin;
+        this.protocolManager = ProtocolLibrary.getProtocolManager();
+        this.intSerializer = WrappedDataWatcher.Registry.get(Integer.class);
+        this.byteSerializer = WrappedDataWatcher.Registry.get(Byte.class);
+        this.floatSerializer = WrappedDataWatcher.Registry.get(Float.class);
+        this.vectorSerializer = WrappedDataWatcher.Registry.get(Vector3f.class);
+        this.chatSerializer = WrappedDataWatcher.Registry.getChatComponentSerializer(false);
+    }
+
+    // ==================== AFFICHAGE ====================
+
+    /**
+     * Envoie l'hologramme complet à un joueur: spawn + métadonnées de chaque ligne,
+     * puis montage sur le pet, dans un seul bundle
+     *
+     * @param lines   Texte des lignes (null = ligne absente)
+     * @param offsets Décalage vertical de chaque ligne au-dessus du pet
+     */
+    void show(Player viewer, Entity vehicle, int[] ids, String[] lines, float[] offsets) {
+        Location loc = vehicle.getLocation();
+        List<PacketContainer> packets = new ArrayList<>(lines.length * 2 + 1);
+        int[] mounted = new int[lines.length];
+        int mountedCount = 0;
+
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i] == null) continue;
+            packets.add(spawnPacket(ids[i], loc));
+            packets.add(metadataPacket(ids[i], fullMetadata(lines[i], offsets[i])));
+            mounted[mountedCount++] = ids[i];
+        }
+        if (mountedCount == 0) return;
+
+        PacketContainer mount = protocolManager.createPacket(PacketType.Play.Server.MOUNT);
+        mount.getIntegers().write(0, vehicle.getEntityId());
+        mount.getIntegerArrays().write(0, Arrays.copyOf(mounted, mountedCount));
+        packets.add(mount);
+
+        PacketContainer bundle = new PacketContainer(PacketType.Play.Server.BUNDLE);
+        bundle.getPacketBundles().write(0, packets);
+        send(viewer, bundle);
+    }
+
+    /**
+     * Retire l'hologramme d'un joueur
+     */
+    void hide(Player viewer, int[] ids) {
+        PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.ENTITY_DESTROY);
+        List<Integer> list = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            list.add(id);
+        }
+        packet.getIntLists().write(0, list);
+        send(viewer, packet);
+    }
+
+    /**
+     * Change le texte d'une ligne pour tous ses spectateurs
+     */
+    void updateLine(Iterable<Player> viewers, int id, String text) {
+        List<WrappedDataValue> data = List.of(new WrappedDataValue(META_TEXT, chatSerializer, toChat(text)));
+        PacketContainer packet = metadataPacket(id, data);
+        for (Player viewer : viewers) {
+            send(viewer, packet);
+        }
+    }
+
+    // ==================== PAQUETS ====================
+
+    private List<WrappedDataValue> fullMetadata(String text, float offset) {
+        List<WrappedDataValue> data = new ArrayList<>(6);
+        data.add(new WrappedDataValue(META_TRANSLATION, vectorSerializer, new Vector3f(0, offset, 0)));
+        data.add(new WrappedDataValue(META_BILLBOARD, byteSerializer, (byte) 3)); // CENTER
+        data.add(new WrappedDataValue(META_VIEW_RANGE, floatSerializer, 0.5f));
+        data.add(new WrappedDataValue(META_TEXT, chatSerializer, toChat(text)));
+        data.add(new WrappedDataValue(META_BACKGROUND, intSerializer, 0));
+        data.add(new WrappedDataValue(META_TEXT_FLAGS, byteSerializer, (byte) 0)); // Sans ombre
+        return data;
+    }
+
+    private PacketContainer spawnPacket(int entityId, Location loc) {
+        PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.SPAWN_ENTITY);
+        packet.getIntegers().write(0, entityId);
+        packet.getUUIDs().write(0, UUID.randomUUID());
+        packet.getEntityTypeModifier().write(0, EntityType.TEXT_DISPLAY);
+        packet.getDoubles().write(0, loc.getX());
+        packet.getDoubles().write(1, loc.getY());
+        packet.getDoubles().write(2, loc.getZ());
+        if (packet.getIntegers().size() > 1) {
+            packet.getIntegers().write(1, 0);
+        }
+        return packet;
+    }
+
+    private PacketContainer metadataPacket(int entityId, List<WrappedDataValue> data) {
+        PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.ENTITY_METADATA);
+        packet.getIntegers().write(0, entityId);
+        packet.getDataValueCollectionModifier().write(0, data);
+        return packet;
+    }
+
+    private static Object toChat(String legacyText) {
+        return WrappedChatComponent.fromLegacyText(legacyText).getHandle();
+    }
+
+    private void send(Player viewer, PacketContainer packet) {
+        try {
+            protocolManager.sendServerPacket(viewer, packet);
+            packetsSent++;
+        } catch (Exception e) {
+            plugin.log(Level.FINE, "Hologrammes pets: envoi impossible pour " + viewer.getName() + ": " + e.getMessage());
+        }
+    }
+
+    // ==================== POOL D'IDS ====================
+
+    int[] allocateIds(int count) {
+        int[] ids = new int[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = freeIdCount > 0 ? freeIds[--freeIdCount] : nextEntityId++;
+        }
+        return ids;
+    }
+
+    void releaseIds(int[] ids) {
+        for (int id : ids) {
+            if (freeIdCount == freeIds.length) {
+                freeIds = Arrays.copyOf(freeIds, freeIds.length * 2);
+            }
+            freeIds[freeIdCount++] = id;
+        }
+    }
+
+    // ==================== MÉTRIQUES ====================
+
+    String getStats() {
+        return String.format("virtuels (%d IDs, %d paquets)", nextEntityId - FIRST_ENTITY_ID, packetsSent);
+    }
+}
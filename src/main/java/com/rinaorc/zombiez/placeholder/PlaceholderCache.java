@@ -0,0 +1,301 @@
+package com.rinaorc.zombiez.placeholder;
+
+import com.rinaorc.zombiez.api.events.PlayerZoneChangeEvent;
+import com.rinaorc.zombiez.api.events.ZombieDeathEvent;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Cache des placeholders ZombieZ
+ *
+ * - Compilation: chaque chaîne de paramètres n'est parsée qu'une fois
+ *   (minuscules, découpage, catégorie et TTL résolus à l'avance)
+ * - Valeurs: cache par joueur et par placeholder, avec TTL par catégorie
+ *   (entrée créée à la connexion, supprimée à la déconnexion: jamais recréée après)
+ * - Invalidation par événement: stats (kill/mort), niveau (kill/level up), zone (changement)
+ * - Métriques hit/miss et coût des recalculs par placeholder
+ *
+ * Thread-safe: TAB peut demander les placeholders hors du main thread.
+ */
+public class PlaceholderCache implements Listener {
+
+    /**
+     * Catégorie d'invalidation d'un placeholder, avec son TTL par défaut
+     */
+    public enum Category {
+        STATS(2000),
+        LEVEL(5000),
+        ZONE(5000),
+        EQUIPMENT(1000),
+        RANK(10000),
+        PROFILE(5000),
+        GLOBAL(5000),
+        VOLATILE(0); // Jamais mis en cache
+
+        final long ttlNanos;
+
+        Category(long ttlMillis) {
+            this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        }
+    }
+
+    /**
+     * Placeholder compilé: paramètres parsés une fois pour toutes
+     */
+    public static final class Compiled {
+        private final String key;
+        private final String[] parts;
+        private final Category category;
+        private final long ttlNanos;
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder missNanos = new LongAdder();
+
+        Compiled(String key, String[] parts, Category category, long ttlNanos) {
+            this.key = key;
+            this.parts = parts;
+            this.category = category;
+            this.ttlNanos = ttlNanos;
+        }
+
+        public String key() {
+            return key;
+        }
+
+        public String[] parts() {
+            return parts;
+        }
+
+        /**
+         * Variante sans cache de valeur (hors du cache de compilation, donc sans identité stable)
+         */
+        Compiled uncached() {
+            return new Compiled(key, parts, category, 0);
+        }
+    }
+
+    private record Entry(String value, long expiresAt, int generation) {}
+
+    /**
+     * Valeurs d'un joueur + compteurs de génération par catégorie
+     */
+    private static final class PlayerCache {
+        final Map<Compiled, Entry> values = new ConcurrentHashMap<>();
+        final AtomicIntegerArray generations = new AtomicIntegerArray(Category.values().length);
+    }
+
+    // Borne du cache de compilation (les clés viennent des configs, pas des joueurs)
+    private static final int MAX_COMPILED = 4096;
+
+    private static final Map<String, Category> CATEGORIES = new HashMap<>();
+
+    static {
+        register(Category.STATS, "total", "points", "money", "coins", "gems", "bank", "bankpoints", "fragments",
+            "kills", "deaths", "kd", "kdr", "ratio", "killstreak", "streak", "beststreak", "headshots", "assists",
+            "zombie", "elite", "boss", "session");
+        register(Category.LEVEL, "level", "lvl", "xp", "xpnext", "prestige", "skill", "spent", "skills");
+        register(Category.ZONE, "zone", "currentzone", "maxzone", "highest", "checkpoint", "secret");
+        register(Category.EQUIPMENT, "ilvl", "itemlevel", "iscore");
+        register(Category.RANK, "rank");
+        register(Category.PROFILE, "vip", "playtime", "first", "achievements", "title", "titles", "cosmetic",
+            "cosmetics", "daily", "weekly", "mission", "booster", "loot", "party", "class", "pet", "battlepass", "bp",
+            "recycle", "awaken", "event");
+        register(Category.GLOBAL, "mutation", "season", "max");
+        register(Category.VOLATILE, "combo", "fever", "momentum", "online", "tps");
+    }
+
+    private static void register(Category category, String... mainParams) {
+        for (String param : mainParams) {
+            CATEGORIES.put(param, category);
+        }
+    }
+
+    private final Map<String, Compiled> compiled = new ConcurrentHashMap<>();
+    private final Map<UUID, PlayerCache> players = new ConcurrentHashMap<>();
+
+    public PlaceholderCache() {
+        // Joueurs déjà connectés (rechargement du plugin)
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            players.put(player.getUniqueId(), new PlayerCache());
+        }
+    }
+
+    // ==================== COMPILATION ====================
+
+    /**
+     * Compile une chaîne de paramètres (mise en cache)
+     * Au-delà de MAX_COMPILED, le placeholder est résolu sans cache: une nouvelle instance
+     * à chaque appel ne doit pas devenir une clé des caches de valeurs par joueur
+     */
+    public Compiled compile(String params) {
+        Compiled result = compiled.get(params);
+        if (result != null) return result;
+
+        result = parse(params);
+        if (compiled.size() >= MAX_COMPILED) {
+            return result.uncached();
+        }
+        Compiled existing = compiled.putIfAbsent(params, result);
+        return existing != null ? existing : result;
+    }
+
+    private static Compiled parse(String params) {
+        String key = params.toLowerCase(Locale.ROOT);
+        String[] parts = key.split("_");
+        Category category = CATEGORIES.getOrDefault(parts[0], Category.VOLATILE);
+        long ttl = category.ttlNanos;
+
+        // Sous-placeholders qui changent à chaque seconde ou chaque coup
+        if (parts.length > 1) {
+            switch (parts[0]) {
+                case "session", "event" -> {
+                    if (parts[1].equals("time")) category = Category.VOLATILE;
+                }
+                case "class" -> {
+                    switch (parts[1]) {
+                        case "shadow", "ombre", "frost", "givre", "beast", "bete", "poison", "virulence" ->
+                            category = Category.VOLATILE;
+                        case "xp", "kills", "deaths", "kd", "kdr", "damage" -> ttl = TimeUnit.SECONDS.toNanos(1);
+                        default -> { }
+                    }
+                }
+                default -> { }
+            }
+        }
+        if (category == Category.VOLATILE) ttl = 0;
+
+        return new Compiled(key, parts, category, ttl);
+    }
+
+    // ==================== VALEURS ====================
+
+    /**
+     * Retourne la valeur en cache ou la calcule
+     */
+    public String get(UUID uuid, Compiled placeholder, Supplier<String> resolver) {
+        if (placeholder.ttlNanos <= 0) {
+            return resolve(placeholder, resolver);
+        }
+
+        PlayerCache cache = players.get(uuid);
+        if (cache == null) {
+            // Joueur hors ligne ou déjà déconnecté: pas de cache à recréer
+            return resolve(placeholder, resolver);
+        }
+        long now = System.nanoTime();
+        // Génération lue avant le calcul: une invalidation pendant le calcul rend l'entrée obsolète
+        int generation = cache.generations.get(placeholder.category.ordinal());
+
+        Entry entry = cache.values.get(placeholder);
+        if (entry != null && entry.generation == generation && now - entry.expiresAt < 0) {
+            placeholder.hits.increment();
+            return entry.value;
+        }
+
+        String value = resolve(placeholder, resolver);
+        cache.values.put(placeholder, new Entry(value, now + placeholder.ttlNanos, generation));
+        return value;
+    }
+
+    private String resolve(Compiled placeholder, Supplier<String> resolver) {
+        long start = System.nanoTime();
+        String value = resolver.get();
+        placeholder.misses.increment();
+        placeholder.missNanos.add(System.nanoTime() - start);
+        return value;
+    }
+
+    /**
+     * Invalide une catégorie de placeholders pour un joueur
+     */
+    public void invalidate(UUID uuid, Category category) {
+        PlayerCache cache = players.get(uuid);
+        if (cache != null) {
+            cache.generations.incrementAndGet(category.ordinal());
+        }
+    }
+
+    // ==================== ÉVÉNEMENTS ====================
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onZoneChange(PlayerZoneChangeEvent event) {
+        invalidate(event.getPlayer().getUniqueId(), Category.ZONE);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onZombieDeath(ZombieDeathEvent event) {
+        if (event.getKiller() == null) return;
+        UUID uuid = event.getKiller().getUniqueId();
+        invalidate(uuid, Category.STATS);
+        invalidate(uuid, Category.LEVEL);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerDeath(PlayerDeathEvent event) {
+        invalidate(event.getEntity().getUniqueId(), Category.STATS);
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onJoin(PlayerJoinEvent event) {
+        players.put(event.getPlayer().getUniqueId(), new PlayerCache());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        players.remove(event.getPlayer().getUniqueId());
+    }
+
+    // ==================== MÉTRIQUES ====================
+
+    /**
+     * Obtient les statistiques du cache (taux de hit + placeholders les plus coûteux)
+     */
+    public String getStats() {
+        long hits = 0;
+        long misses = 0;
+        List<Compiled> all = new ArrayList<>(compiled.values());
+        for (Compiled placeholder : all) {
+            hits += placeholder.hits.sum();
+            misses += placeholder.misses.sum();
+        }
+        long total = hits + misses;
+        double hitRate = total > 0 ? hits * 100.0 / total : 0;
+
+        all.sort((a, b) -> Long.compare(b.missNanos.sum(), a.missNanos.sum()));
+        StringBuilder expensive = new StringBuilder();
+        for (int i = 0; i < Math.min(3, all.size()); i++) {
+            Compiled placeholder = all.get(i);
+            long placeholderMisses = placeholder.misses.sum();
+            long placeholderTotal = placeholder.hits.sum() + placeholderMisses;
+            if (placeholderMisses == 0) break;
+            if (expensive.length() > 0) expensive.append(", ");
+            expensive.append(String.format("%s %.1fms (%.0f%% hit)",
+                placeholder.key,
+                placeholder.missNanos.sum() / 1_000_000.0,
+                placeholder.hits.sum() * 100.0 / placeholderTotal));
+        }
+
+        return String.format("Compilés: %d | Joueurs: %d | Hit: %.1f%% (%d/%d) | Coûteux: %s",
+            compiled.size(), players.size(), hitRate, hits, total,
+            expensive.length() > 0 ? expensive : "-");
+    }
+}
@@ -12,6 +12,7 @@ import com.rinaorc.zombiez.classes.shadow.ShadowManager;
 import com.rinaorc.zombiez.classes.talents.Talent;
 import com.rinaorc.zombiez.classes.talents.TalentBranch;
 import com.rinaorc.zombiez.classes.talents.TalentTier;
+import com.rinaorc.zombiez.data.OfflineProfile;
 import com.rinaorc.zombiez.data.PlayerData;
 import com.rinaorc.zombiez.items.ItemManager;
 import com.rinaorc.zombiez.momentum.MomentumManager;
@@ -24,6 +25,7 @@ import com.rinaorc.zombiez.recycling.RecycleSettings;
 import com.rinaorc.zombiez.zones.Zone;
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
 import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
@@ -45,11 +47,13 @@ import java.util.Locale;
 public class ZombieZExpansion extends PlaceholderExpansion {
 
     private final ZombieZPlugin plugin;
+    private final PlaceholderCache cache;
     private final DecimalFormat decimalFormat = new DecimalFormat("#,##0.##");
     private final NumberFormat numberFormat = NumberFormat.getNumberInstance(Locale.FRANCE);
 
-    public ZombieZExpansion(ZombieZPlugin plugin) {
+    public ZombieZExpansion(ZombieZPlugin plugin, PlaceholderCache cache) {
         this.plugin = plugin;
+        this.cache = cache;
     }
 
     @Override
@@ -77,10 +81,25 @@ public class ZombieZExpansion extends PlaceholderExpansion {
         return true;
     }
 
+    @Override
+    public @Nullable String onRequest(OfflinePlayer player, @NotNull String params) {
+        if (player == null || player.isOnline()) {
+            return onPlaceholderRequest(player != null ? player.getPlayer() : null, params);
+        }
+
+        // Joueur hors ligne: profil du service (jamais de requête bloquante)
+        PlaceholderCache.Compiled compiled = cache.compile(params);
+        String value = resolveOffline(player, compiled.parts());
+        return value != null ? value : handleOfflinePlaceholder(compiled.key());
+    }
+
     @Override
     public @Nullable String onPlaceholderRequest(Player player, @NotNull String params) {
+        // Parse le placeholder (une seule fois par chaîne)
+        PlaceholderCache.Compiled compiled = cache.compile(params);
+
         if (player == null) {
-            return handleOfflinePlaceholder(params);
+            return handleOfflinePlaceholder(compiled.key());
         }
 
         PlayerData data = plugin.getPlayerDataManager().getPlayerData(player.getUniqueId());
@@ -88,8 +107,13 @@ public class ZombieZExpansion extends PlaceholderExpansion {
             return "N/A";
         }
 
-        // Parse le placeholder
-        String[] parts = params.toLowerCase().split("_");
+        return cache.get(player.getUniqueId(), compiled, () -> resolve(player, data, compiled.parts()));
+    }
+
+    /**
+     * Calcule la valeur d'un placeholder joueur
+     */
+    private String resolve(Player player, PlayerData data, String[] parts) {
         String mainParam = parts[0];
 
         return switch (mainParam) {
@@ -588,11 +612,50 @@ public class ZombieZExpansion extends PlaceholderExpansion {
         };
     }
 
+    /**
+     * Placeholders de profil d'un joueur hors ligne
+     * Retourne "..." pendant le chargement, null si le placeholder n'est pas un placeholder de profil
+     * ou si le joueur n'a jamais joué
+     */
+    private String resolveOffline(OfflinePlayer player, String[] parts) {
+        boolean raw = parts.length > 1 && parts[1].equals("raw");
+        switch (parts[0]) {
+            case "name", "level", "lvl", "prestige", "points", "money", "coins", "kills", "deaths",
+                 "kd", "kdr", "ratio", "beststreak", "maxzone", "highest", "playtime" -> { }
+            default -> {
+                return null;
+            }
+        }
+
+        OfflineProfile profile = plugin.getOfflineProfileService().getIfReady(player.getUniqueId());
+        if (profile == null) {
+            return plugin.getOfflineProfileService().isUnknown(player.getUniqueId()) ? null : "...";
+        }
+
+        return switch (parts[0]) {
+            case "name" -> profile.getName();
+            case "level", "lvl" -> String.valueOf(profile.getLevel());
+            case "prestige" -> String.valueOf(profile.getPrestige());
+            case "points", "money", "coins" -> raw ? String.valueOf(profile.getPoints()) : formatNumber(profile.getPoints());
+            case "kills" -> raw ? String.valueOf(profile.getKills()) : formatNumber(profile.getKills());
+            case "deaths" -> raw ? String.valueOf(profile.getDeaths()) : formatNumber(profile.getDeaths());
+            case "kd", "kdr", "ratio" -> decimalFormat.format(profile.getKDRatio());
+            case "beststreak" -> String.valueOf(profile.getBestKillStreak());
+            case "maxzone", "highest" -> String.valueOf(profile.getMaxZone());
+            default -> {
+                long seconds = profile.getPlaytime();
+                if (parts.length > 1 && parts[1].equals("hours")) yield String.valueOf(seconds / 3600);
+                if (raw) yield String.valueOf(seconds);
+                yield String.format("%dh %dm", seconds / 3600, (seconds % 3600) / 60);
+            }
+        };
+    }
+
     /**
      * Gere les placeholders pour les joueurs hors ligne (stats serveur)
      */
     private String handleOfflinePlaceholder(String params) {
-        return switch (params.toLowerCase()) {
+        return switch (params) {
             case "online" -> String.valueOf(Bukkit.getOnlinePlayers().size());
             case "max_players" -> String.valueOf(Bukkit.getMaxPlayers());
             case "tps" -> getTPS();
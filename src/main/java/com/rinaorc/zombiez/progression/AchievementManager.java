@@ -1115,6 +1115,15 @@ public class AchievementManager {
         }
     }
 
+    /**
+     * Indique si un progrès suffit à débloquer un achievement, sans rien modifier
+     * Lecture seule: utilisable hors du main thread (le déblocage, lui, reste sur le main thread)
+     */
+    public boolean isReached(PlayerData data, String achievementId, int progress) {
+        Achievement achievement = achievements.get(achievementId);
+        return achievement != null && !data.hasAchievement(achievementId) && progress >= achievement.requirement();
+    }
+
     /**
      * Vérifie et débloque un achievement pour un joueur
      */
@@ -1192,8 +1201,10 @@ public class AchievementManager {
         // Récompenses
         applyRewards(player, achievement, data);
 
-        // Effets visuels
-        spawnTierEffects(player, achievement.tier());
+        // Effets visuels (tâches planifiées: impossibles pendant l'arrêt du plugin)
+        if (plugin.isEnabled()) {
+            spawnTierEffects(player, achievement.tier());
+        }
 
         // Sons
         playUnlockSound(player, achievement.tier());
@@ -1476,7 +1487,9 @@ public class AchievementManager {
         }
 
         // Effets visuels
-        spawnMilestoneEffects(player);
+        if (plugin.isEnabled()) {
+            spawnMilestoneEffects(player);
+        }
     }
 
     /**
@@ -1008,22 +1008,34 @@ public class MissionManager {
      * Met à jour le progrès d'une mission
      */
     public void updateProgress(Player player, MissionTracker tracker, int amount) {
-        UUID playerId = player.getUniqueId();
-        PlayerMissions missions = getMissions(playerId);
-        
-        List<MissionProgress> allMissions = new ArrayList<>();
-        allMissions.addAll(missions.getDailyMissions().values());
-        allMissions.addAll(missions.getWeeklyMissions().values());
-        
-        for (MissionProgress progress : allMissions) {
+        PlayerMissions missions = getMissions(player.getUniqueId());
+        applyProgress(player, missions, tracker, amount);
+    }
+
+    /**
+     * Met à jour plusieurs trackers en une passe (ex: tous les trackers d'un kill)
+     */
+    public void updateProgress(Player player, EnumMap<MissionTracker, Integer> amounts) {
+        if (amounts.isEmpty()) return;
+        PlayerMissions missions = getMissions(player.getUniqueId());
+        for (Map.Entry<MissionTracker, Integer> entry : amounts.entrySet()) {
+            applyProgress(player, missions, entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Applique un progrès aux seules missions non complétées du tracker (index par tracker)
+     */
+    private void applyProgress(Player player, PlayerMissions missions, MissionTracker tracker, int amount) {
+        for (MissionProgress progress : missions.getActiveMissions(tracker)) {
+            // Une complétion pendant la boucle reconstruit l'index, ce tableau reste valide
             if (progress.isCompleted()) continue;
-            if (progress.getMission().getTracker() != tracker) continue;
-            
+
             progress.addProgress(amount);
-            
+
             // Vérifier si complétée
             if (progress.getProgress() >= progress.getMission().getGoal()) {
-                completeMission(player, progress);
+                completeMission(player, missions, progress);
             }
         }
     }
@@ -1031,9 +1043,10 @@ public class MissionManager {
     /**
      * Complète une mission
      */
-    private void completeMission(Player player, MissionProgress progress) {
+    private void completeMission(Player player, PlayerMissions missions, MissionProgress progress) {
         progress.setCompleted(true);
         progress.setCompletedAt(System.currentTimeMillis());
+        missions.invalidateIndex();
         
         Mission mission = progress.getMission();
         
@@ -1087,7 +1100,7 @@ public class MissionManager {
      */
     public void resetDailyMissions() {
         for (PlayerMissions missions : playerMissions.values()) {
-            missions.getDailyMissions().clear();
+            missions.clearDailyMissions();
             
             // Générer de nouvelles missions journalières
             List<Mission> dailyPool = missionPool.values().stream()
@@ -1113,7 +1126,7 @@ public class MissionManager {
      */
     public void resetWeeklyMissions() {
         for (PlayerMissions missions : playerMissions.values()) {
-            missions.getWeeklyMissions().clear();
+            missions.clearWeeklyMissions();
             
             List<Mission> weeklyPool = missionPool.values().stream()
                 .filter(m -> m.getType() == MissionType.WEEKLY)
@@ -1406,13 +1419,23 @@ public class MissionManager {
     /**
      * Missions d'un joueur
      */
-    @Getter
     public static class PlayerMissions {
+        private static final MissionProgress[] NO_MISSIONS = new MissionProgress[0];
+
+        @Getter
         private final UUID playerId;
+        @Getter
         private final Map<String, MissionProgress> dailyMissions;
+        @Getter
         private final Map<String, MissionProgress> weeklyMissions;
+        @Getter
         private long lastDailyReset;
+        @Getter
         private long lastWeeklyReset;
+
+        // Missions non complétées par tracker, reconstruit après rotation ou complétion
+        private final Map<MissionTracker, MissionProgress[]> activeByTracker = new EnumMap<>(MissionTracker.class);
+        private boolean indexDirty = true;
         
         public PlayerMissions(UUID playerId) {
             this.playerId = playerId;
@@ -1424,10 +1447,56 @@ public class MissionManager {
         
         public void addDailyMission(Mission mission) {
             dailyMissions.put(mission.getId(), new MissionProgress(mission));
+            indexDirty = true;
         }
         
         public void addWeeklyMission(Mission mission) {
             weeklyMissions.put(mission.getId(), new MissionProgress(mission));
+            indexDirty = true;
+        }
+
+        public void clearDailyMissions() {
+            dailyMissions.clear();
+            indexDirty = true;
+        }
+
+        public void clearWeeklyMissions() {
+            weeklyMissions.clear();
+            indexDirty = true;
+        }
+
+        /**
+         * Missions non complétées suivant ce tracker (tableau vide si aucune)
+         */
+        public MissionProgress[] getActiveMissions(MissionTracker tracker) {
+            if (indexDirty) {
+                rebuildIndex();
+            }
+            return activeByTracker.getOrDefault(tracker, NO_MISSIONS);
+        }
+
+        void invalidateIndex() {
+            indexDirty = true;
+        }
+
+        private void rebuildIndex() {
+            Map<MissionTracker, List<MissionProgress>> grouped = new EnumMap<>(MissionTracker.class);
+            for (MissionProgress progress : dailyMissions.values()) {
+                if (!progress.isCompleted()) {
+                    grouped.computeIfAbsent(progress.getMission().getTracker(), t -> new ArrayList<>()).add(progress);
+                }
+            }
+            for (MissionProgress progress : weeklyMissions.values()) {
+                if (!progress.isCompleted()) {
+                    grouped.computeIfAbsent(progress.getMission().getTracker(), t -> new ArrayList<>()).add(progress);
+                }
+            }
+
+            activeByTracker.clear();
+            for (Map.Entry<MissionTracker, List<MissionProgress>> entry : grouped.entrySet()) {
+                activeByTracker.put(entry.getKey(), entry.getValue().toArray(NO_MISSIONS));
+            }
+            indexDirty = false;
         }
         
         public int getCompletedDailyCount() {
@@ -246,7 +246,7 @@ public class JourneyListener implements Listener {
                 if (dxSquared + dz * dz > EXPLORATION_RADIUS_SQUARED) continue;
 
                 // Marquer le chunk comme exploré
-                if (data.markChunkExplored(zoneId, targetChunkX, targetChunkZ)) {
+                if (data.markChunkExplored(zone, targetChunkX, targetChunkZ)) {
                     newChunksExplored++;
                 }
             }
@@ -637,6 +637,7 @@ public class JourneyManager {
             // Prochaine étape dans le même chapitre
             data.setCurrentJourneyStep(nextStep.getStepNumber());
             currentStepCache.put(player.getUniqueId(), nextStep);
+            refreshPhasing(player);
 
             // Afficher la prochaine étape
             sendNextStepNotification(player, nextStep);
@@ -701,6 +702,16 @@ public class JourneyManager {
         };
     }
 
+    /**
+     * Recalcule la visibilité des objets de quête après un changement d'étape
+     */
+    private void refreshPhasing(Player player) {
+        JourneyPhasing phasing = plugin.getJourneyPhasing();
+        if (phasing != null) {
+            phasing.refresh(player);
+        }
+    }
+
     /**
      * Déclenche les effets spéciaux au démarrage d'une étape
      * Ex: Spawn d'animaux pour l'étape de chasse, reset exploration, etc.
@@ -1022,6 +1033,7 @@ public class JourneyManager {
             JourneyStep firstStep = JourneyStep.getFirstStep(nextChapter);
             if (firstStep != null) {
                 currentStepCache.put(uuid, firstStep);
+                refreshPhasing(player);
 
                 // Déclencher les effets spéciaux de la première étape du nouveau chapitre
                 // (ex: donner un oeuf de pet pour STEP_3_1)
@@ -1340,6 +1352,7 @@ public class JourneyManager {
         if (stepNum > 0 && stepNum <= steps.size()) {
             JourneyStep currentStep = steps.get(stepNum - 1);
             currentStepCache.put(uuid, currentStep);
+            refreshPhasing(player);
 
             // Vérifier si l'étape actuelle est déjà complétée (le joueur a peut-être progressé hors-ligne)
             checkCurrentStepCompletion(player, currentStep);
@@ -0,0 +1,312 @@
+package com.rinaorc.zombiez.progression.journey;
+
+import com.rinaorc.zombiez.ZombieZPlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Phasing des objets de quête du Journey (visibilité per-player)
+ *
+ * Chaque entité suivie porte une règle de visibilité (état de quête du joueur) et une
+ * distance de vue. La visibilité n'est recalculée que lorsqu'elle peut changer:
+ * - le joueur entre dans un nouveau chunk (ou se téléporte, change de monde, se connecte)
+ * - son étape de Journey change
+ * - un système signale un changement d'état (refresh)
+ * - une entité est (re)créée
+ *
+ * Seuls les deltas sont envoyés: showEntity/hideEntity uniquement si l'état change.
+ * Les entités suivies sont invisibles par défaut.
+ *
+ * Main thread uniquement.
+ */
+public class JourneyPhasing implements Listener {
+
+    /**
+     * Réaction d'un système quand une entité de son groupe apparaît/disparaît pour un joueur
+     * (introductions, BossBars...). Ne doit pas modifier le phasing.
+     */
+    @FunctionalInterface
+    public interface VisibilityListener {
+        void onVisibilityChange(Player player, boolean visible);
+    }
+
+    private static final class Phased {
+        final String group;
+        final Entity entity;
+        final Location anchor;
+        final double rangeSq;
+        final Predicate<Player> rule;
+        final Set<UUID> shownTo = new HashSet<>();
+
+        Phased(String group, Entity entity, Location anchor, double viewDistance, Predicate<Player> rule) {
+            this.group = group;
+            this.entity = entity;
+            this.anchor = anchor;
+            this.rangeSq = viewDistance * viewDistance;
+            this.rule = rule;
+        }
+    }
+
+    // Distance de vue sans limite (visible dans tout le monde de l'entité)
+    public static final double UNLIMITED = Double.POSITIVE_INFINITY;
+
+    private final ZombieZPlugin plugin;
+    private final Map<UUID, Phased> byEntity = new HashMap<>();
+    private final Map<String, List<Phased>> byGroup = new HashMap<>();
+    private final Map<String, VisibilityListener> listeners = new HashMap<>();
+
+    // Métriques
+    private long refreshes = 0;
+    private long evaluations = 0;
+    private long shows = 0;
+    private long hides = 0;
+
+    public JourneyPhasing(ZombieZPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    // ==================== ENREGISTREMENT ====================
+
+    /**
+     * Suit une entité, visible dans un rayon autour de sa position
+     */
+    public void track(String group, Entity entity, double viewDistance, Predicate<Player> rule) {
+        if (entity == null) return;
+        track(group, entity, entity.getLocation(), viewDistance, rule);
+    }
+
+    /**
+     * Suit une entité, visible dans un rayon autour d'un point d'ancrage
+     * (re)calcule immédiatement sa visibilité pour les joueurs du monde
+     */
+    public void track(String group, Entity entity, Location anchor, double viewDistance, Predicate<Player> rule) {
+        if (entity == null || !entity.isValid()) return;
+
+        entity.setVisibleByDefault(false);
+
+        Phased phased = new Phased(group, entity, anchor.clone(), viewDistance, rule);
+        Phased previous = byEntity.put(entity.getUniqueId(), phased);
+        if (previous != null) {
+            // Entité déjà suivie: conserver ce que les joueurs voient réellement
+            removeFromGroup(previous);
+            phased.shownTo.addAll(previous.shownTo);
+        }
+        byGroup.computeIfAbsent(group, k -> new ArrayList<>()).add(phased);
+
+        for (Player player : entity.getWorld().getPlayers()) {
+            apply(phased, player);
+        }
+    }
+
+    /**
+     * Arrête de suivre une entité (sa visibilité n'est plus modifiée)
+     */
+    public void untrack(Entity entity) {
+        if (entity == null) return;
+        Phased phased = byEntity.remove(entity.getUniqueId());
+        if (phased != null) {
+            removeFromGroup(phased);
+        }
+    }
+
+    /**
+     * Arrête de suivre toutes les entités d'un groupe
+     * (masquées d'abord pour les joueurs qui les voyaient encore)
+     */
+    public void untrackGroup(String group) {
+        List<Phased> phasedList = byGroup.remove(group);
+        if (phasedList == null) return;
+        for (Phased phased : phasedList) {
+            byEntity.remove(phased.entity.getUniqueId());
+            if (phased.entity.isValid()) {
+                for (UUID uuid : phased.shownTo) {
+                    Player player = Bukkit.getPlayer(uuid);
+                    if (player != null) {
+                        player.hideEntity(plugin, phased.entity);
+                        hides++;
+                        notifyListener(group, player, false);
+                    }
+                }
+            }
+            phased.shownTo.clear();
+        }
+    }
+
+    /**
+     * Écoute les changements de visibilité d'un groupe (appelé à chaque delta envoyé)
+     */
+    public void listen(String group, VisibilityListener listener) {
+        listeners.put(group, listener);
+    }
+
+    // ==================== RECALCUL ====================
+
+    /**
+     * Recalcule toutes les entités suivies pour un joueur
+     */
+    public void refresh(Player player) {
+        refreshes++;
+        List<Phased> invalid = null;
+        for (Phased phased : byEntity.values()) {
+            if (!apply(phased, player)) {
+                if (invalid == null) invalid = new ArrayList<>();
+                invalid.add(phased);
+            }
+        }
+        purge(invalid);
+    }
+
+    /**
+     * Recalcule un groupe pour un joueur (état de quête modifié par un système)
+     */
+    public void refresh(Player player, String group) {
+        List<Phased> phasedList = byGroup.get(group);
+        if (phasedList == null) return;
+
+        refreshes++;
+        List<Phased> invalid = null;
+        for (Phased phased : phasedList) {
+            if (!apply(phased, player)) {
+                if (invalid == null) invalid = new ArrayList<>();
+                invalid.add(phased);
+            }
+        }
+        purge(invalid);
+    }
+
+    /**
+     * Recalcule un groupe pour tous les joueurs (état global modifié)
+     */
+    public void refreshGroup(String group) {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            refresh(player, group);
+        }
+    }
+
+    /**
+     * Applique la visibilité d'une entité pour un joueur, en n'envoyant que le delta
+     *
+     * @return false si l'entité n'est plus valide (à retirer)
+     */
+    private boolean apply(Phased phased, Player player) {
+        Entity entity = phased.entity;
+        if (!entity.isValid()) return false;
+
+        evaluations++;
+        UUID uuid = player.getUniqueId();
+        boolean visible = player.getWorld().equals(phased.anchor.getWorld())
+            && player.getLocation().distanceSquared(phased.anchor) <= phased.rangeSq
+            && phased.rule.test(player);
+
+        if (visible) {
+            if (phased.shownTo.add(uuid)) {
+                player.showEntity(plugin, entity);
+                shows++;
+                notifyListener(phased.group, player, true);
+            }
+        } else if (phased.shownTo.remove(uuid)) {
+            player.hideEntity(plugin, entity);
+            hides++;
+            notifyListener(phased.group, player, false);
+        }
+        return true;
+    }
+
+    private void notifyListener(String group, Player player, boolean visible) {
+        VisibilityListener listener = listeners.get(group);
+        if (listener != null) {
+            listener.onVisibilityChange(player, visible);
+        }
+    }
+
+    private void purge(List<Phased> invalid) {
+        if (invalid == null) return;
+        for (Phased phased : invalid) {
+            byEntity.remove(phased.entity.getUniqueId(), phased);
+            removeFromGroup(phased);
+        }
+    }
+
+    private void removeFromGroup(Phased phased) {
+        List<Phased> phasedList = byGroup.get(phased.group);
+        if (phasedList != null) {
+            phasedList.remove(phased);
+            if (phasedList.isEmpty()) {
+                byGroup.remove(phased.group);
+            }
+        }
+    }
+
+    // ==================== ÉVÉNEMENTS ====================
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onMove(PlayerMoveEvent event) {
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        if ((from.getBlockX() >> 4) == (to.getBlockX() >> 4) && (from.getBlockZ() >> 4) == (to.getBlockZ() >> 4)) {
+            return;
+        }
+        if (!byEntity.isEmpty()) {
+            refresh(event.getPlayer());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTeleport(PlayerTeleportEvent event) {
+        // La position n'est appliquée qu'après l'événement
+        Player player = event.getPlayer();
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            if (player.isOnline()) refresh(player);
+        });
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldChange(PlayerChangedWorldEvent event) {
+        refresh(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        Player player = event.getPlayer();
+        Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            if (player.isOnline()) refresh(player);
+        }, 20L);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        UUID uuid = event.getPlayer().getUniqueId();
+        for (Phased phased : byEntity.values()) {
+            phased.shownTo.remove(uuid);
+        }
+    }
+
+    // ==================== MÉTRIQUES ====================
+
+    /**
+     * Obtient les statistiques du phasing
+     */
+    public String getStats() {
+        return String.format("Entités: %d (%d groupes) | Recalculs: %d | Évaluations: %d | Show: %d | Hide: %d",
+            byEntity.size(), byGroup.size(), refreshes, evaluations, shows, hides);
+    }
+}
@@ -3,6 +3,7 @@ package com.rinaorc.zombiez.progression.journey.chapter3;
 import com.rinaorc.zombiez.ZombieZPlugin;
 import com.rinaorc.zombiez.progression.journey.JourneyManager;
 import com.rinaorc.zombiez.progression.journey.JourneyNPCManager;
+import com.rinaorc.zombiez.progression.journey.JourneyPhasing;
 import com.rinaorc.zombiez.progression.journey.JourneyStep;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -37,6 +38,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 
 import com.rinaorc.zombiez.zombies.ZombieManager;
@@ -57,6 +59,7 @@ public class Chapter3Systems implements Listener {
     private final ZombieZPlugin plugin;
     private final JourneyManager journeyManager;
     private final JourneyNPCManager npcManager;
+    private final JourneyPhasing phasing;
 
     // === CLÉS PDC ===
     private final NamespacedKey FORAIN_NPC_KEY;
@@ -123,6 +126,13 @@ public class Chapter3Systems implements Listener {
     private static final double CAT_DISPLAY_HEIGHT = 1.2;
     private static final double CAT_VIEW_DISTANCE = 64;
     private static final double CLUE_VIEW_DISTANCE = 32;
+    private static final double NPC_VIEW_DISTANCE = 64;
+
+    // Groupes de phasing (visibilité per-player)
+    private static final String PHASE_CAT = "chapter3_cat";
+    private static final String PHASE_CLUES = "chapter3_clues";
+    private static final String PHASE_SURVIVOR = "chapter3_survivor";
+    private static final String PHASE_ZEPPELIN = "chapter3_zeppelin";
 
     // === TRACKING ===
     private Entity forainEntity;
@@ -187,6 +197,7 @@ public class Chapter3Systems implements Listener {
         this.plugin = plugin;
         this.journeyManager = plugin.getJourneyManager();
         this.npcManager = plugin.getJourneyNPCManager();
+        this.phasing = plugin.getJourneyPhasing();
 
         // Initialiser les clés PDC
         this.FORAIN_NPC_KEY = new NamespacedKey(plugin, "forain_npc");
@@ -251,7 +262,7 @@ public class Chapter3Systems implements Listener {
         spawnMineBoss(world);
         startBossDisplayUpdater();
 
-        // Démarrer les systèmes de visibilité per-player
+        // Démarrer les respawns (la visibilité per-player est gérée par le phasing)
         startCatVisibilityUpdater();
         startClueVisibilityUpdater();
         startSurvivorVisibilityUpdater();
@@ -497,8 +508,8 @@ public class Chapter3Systems implements Listener {
         // Créer le TextDisplay au-dessus (également invisible par défaut)
         createCatDisplay(world, loc);
 
-        // Initialiser la visibilité pour les joueurs en ligne
-        initializeCatVisibility();
+        // Confier la visibilité per-player au phasing
+        phaseLostCat();
     }
 
     /**
@@ -539,30 +550,22 @@ public class Chapter3Systems implements Listener {
     }
 
     /**
-     * Initialise la visibilité du chat pour tous les joueurs en ligne
+     * Le chat et son display sont visibles tant que le joueur ne l'a pas sauvé
      */
-    private void initializeCatVisibility() {
-        if (lostCatEntity == null || !lostCatEntity.isValid() ||
-                lostCatDisplay == null || !lostCatDisplay.isValid()) {
+    private void phaseLostCat() {
+        if (lostCatEntity == null || !lostCatEntity.isValid()) {
             return;
         }
 
         Location catLoc = lostCatEntity.getLocation();
-
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            boolean inRange = player.getWorld().equals(catLoc.getWorld()) &&
-                    player.getLocation().distanceSquared(catLoc) <= CAT_VIEW_DISTANCE * CAT_VIEW_DISTANCE;
-
-            if (inRange) {
-                boolean hasRescued = hasPlayerRescuedCat(player);
-                updateCatVisibilityForPlayer(player, hasRescued);
-            }
-        }
+        Predicate<Player> rule = player -> !hasPlayerRescuedCat(player);
+        phasing.track(PHASE_CAT, lostCatEntity, catLoc, CAT_VIEW_DISTANCE, rule);
+        phasing.track(PHASE_CAT, lostCatDisplay, catLoc, CAT_VIEW_DISTANCE, rule);
     }
 
     /**
-     * Démarre le système de mise à jour de visibilité per-player pour le chat
-     * Inclut aussi le respawn si le chat a disparu (chunk unload, etc.)
+     * Démarre le vérificateur de respawn du chat (chunk unload, etc.)
+     * La visibilité per-player est gérée par le phasing
      */
     private void startCatVisibilityUpdater() {
         catVisibilityUpdaterTask = new BukkitRunnable() {
@@ -576,68 +579,18 @@ public class Chapter3Systems implements Listener {
                 if (lostCatEntity == null || !lostCatEntity.isValid() || lostCatEntity.isDead()) {
                     spawnLostCat(world);
                     plugin.log(Level.FINE, "Chat perdu respawné (entité invalide)");
-                    return; // Attendre le prochain tick pour la visibilité
+                    return;
                 }
 
                 // Recréer le TextDisplay si nécessaire
                 if (lostCatDisplay == null || !lostCatDisplay.isValid()) {
                     createCatDisplay(world, lostCatEntity.getLocation());
-                }
-
-                Location catLoc = lostCatEntity.getLocation();
-
-                for (Player player : Bukkit.getOnlinePlayers()) {
-                    if (!player.getWorld().equals(catLoc.getWorld())) {
-                        hideCatForPlayer(player);
-                        continue;
-                    }
-
-                    double distSq = player.getLocation().distanceSquared(catLoc);
-                    boolean inRange = distSq <= CAT_VIEW_DISTANCE * CAT_VIEW_DISTANCE;
-
-                    if (inRange) {
-                        boolean hasRescued = hasPlayerRescuedCat(player);
-                        updateCatVisibilityForPlayer(player, hasRescued);
-                    } else {
-                        hideCatForPlayer(player);
-                    }
+                    phaseLostCat();
                 }
             }
         }.runTaskTimer(plugin, 100L, 20L); // Toutes les secondes
     }
 
-    /**
-     * Met à jour la visibilité du chat pour un joueur
-     */
-    private void updateCatVisibilityForPlayer(Player player, boolean hasRescued) {
-        if (lostCatEntity == null || !lostCatEntity.isValid() ||
-                lostCatDisplay == null || !lostCatDisplay.isValid()) {
-            return;
-        }
-
-        if (hasRescued) {
-            // Le joueur a déjà sauvé le chat: tout cacher
-            player.hideEntity(plugin, lostCatEntity);
-            player.hideEntity(plugin, lostCatDisplay);
-        } else {
-            // Le joueur n'a pas encore sauvé le chat: montrer
-            player.showEntity(plugin, lostCatEntity);
-            player.showEntity(plugin, lostCatDisplay);
-        }
-    }
-
-    /**
-     * Cache le chat et son display pour un joueur
-     */
-    private void hideCatForPlayer(Player player) {
-        if (lostCatEntity != null && lostCatEntity.isValid()) {
-            player.hideEntity(plugin, lostCatEntity);
-        }
-        if (lostCatDisplay != null && lostCatDisplay.isValid()) {
-            player.hideEntity(plugin, lostCatDisplay);
-        }
-    }
-
     /**
      * Vérifie si le joueur a déjà sauvé le chat
      */
@@ -677,7 +630,7 @@ public class Chapter3Systems implements Listener {
         playersWhoRescuedCat.add(player.getUniqueId());
 
         // Cacher le chat pour ce joueur
-        updateCatVisibilityForPlayer(player, true);
+        phasing.refresh(player, PHASE_CAT);
 
         // Incrémenter la progression
         journeyManager.incrementProgress(player, JourneyStep.StepType.RESCUE_LOST_CAT, 1);
@@ -834,23 +787,35 @@ public class Chapter3Systems implements Listener {
             interaction.setVisibleByDefault(false);
             interaction.setPersistent(false);
         });
+
+        phaseClue(world, clueIndex);
     }
 
     /**
-     * Démarre le système de visibilité per-player pour les indices
+     * Un indice est visible autour de la maison tant que le joueur ne l'a pas trouvé
+     */
+    private void phaseClue(World world, int clueIndex) {
+        Location houseLoc = PATIENT_ZERO_HOUSE.clone();
+        houseLoc.setWorld(world);
+
+        int mask = 1 << clueIndex;
+        Predicate<Player> rule = player -> (getPlayerCluesFound(player) & mask) == 0;
+        phasing.track(PHASE_CLUES, clueVisuals[clueIndex], houseLoc, CLUE_VIEW_DISTANCE, rule);
+        phasing.track(PHASE_CLUES, clueHitboxes[clueIndex], houseLoc, CLUE_VIEW_DISTANCE, rule);
+    }
+
+    /**
+     * Démarre le vérificateur de respawn des indices (chunk unload, etc.)
+     * La visibilité per-player est gérée par le phasing
      */
     private void startClueVisibilityUpdater() {
         clueVisibilityUpdaterTask = new BukkitRunnable() {
             @Override
             public void run() {
-                Location houseLoc = PATIENT_ZERO_HOUSE.clone();
                 World world = Bukkit.getWorld("world");
                 if (world == null)
                     return;
-                houseLoc.setWorld(world);
 
-                // Respawn les indices si les entités sont devenues invalides (chunk unload,
-                // etc.)
                 for (int i = 0; i < 4; i++) {
                     boolean visualInvalid = clueVisuals[i] == null || !clueVisuals[i].isValid();
                     boolean hitboxInvalid = clueHitboxes[i] == null || !clueHitboxes[i].isValid();
@@ -858,67 +823,10 @@ public class Chapter3Systems implements Listener {
                         spawnClue(world, i);
                     }
                 }
-
-                for (Player player : Bukkit.getOnlinePlayers()) {
-                    if (!player.getWorld().equals(world)) {
-                        hideAllCluesForPlayer(player);
-                        continue;
-                    }
-
-                    double distSq = player.getLocation().distanceSquared(houseLoc);
-                    boolean inRange = distSq <= CLUE_VIEW_DISTANCE * CLUE_VIEW_DISTANCE;
-
-                    if (inRange) {
-                        updateClueVisibilityForPlayer(player);
-                    } else {
-                        hideAllCluesForPlayer(player);
-                    }
-                }
             }
         }.runTaskTimer(plugin, 100L, 20L);
     }
 
-    /**
-     * Met à jour la visibilité des indices pour un joueur
-     */
-    private void updateClueVisibilityForPlayer(Player player) {
-        int found = getPlayerCluesFound(player);
-
-        for (int i = 0; i < 4; i++) {
-            boolean hasFoundThis = (found & (1 << i)) != 0;
-
-            if (clueHitboxes[i] != null && clueHitboxes[i].isValid()) {
-                if (hasFoundThis) {
-                    player.hideEntity(plugin, clueHitboxes[i]);
-                } else {
-                    player.showEntity(plugin, clueHitboxes[i]);
-                }
-            }
-
-            if (clueVisuals[i] != null && clueVisuals[i].isValid()) {
-                if (hasFoundThis) {
-                    player.hideEntity(plugin, clueVisuals[i]);
-                } else {
-                    player.showEntity(plugin, clueVisuals[i]);
-                }
-            }
-        }
-    }
-
-    /**
-     * Cache tous les indices pour un joueur
-     */
-    private void hideAllCluesForPlayer(Player player) {
-        for (int i = 0; i < 4; i++) {
-            if (clueHitboxes[i] != null && clueHitboxes[i].isValid()) {
-                player.hideEntity(plugin, clueHitboxes[i]);
-            }
-            if (clueVisuals[i] != null && clueVisuals[i].isValid()) {
-                player.hideEntity(plugin, clueVisuals[i]);
-            }
-        }
-    }
-
     /**
      * Obtient le bitmask des indices trouvés par un joueur
      */
@@ -994,7 +902,7 @@ public class Chapter3Systems implements Listener {
         playerCluesFound.put(player.getUniqueId(), found);
 
         // Cacher l'indice pour ce joueur
-        updateClueVisibilityForPlayer(player);
+        phasing.refresh(player, PHASE_CLUES);
 
         // Incrémenter la progression
         journeyManager.incrementProgress(player, JourneyStep.StepType.INVESTIGATE_PATIENT_ZERO, 1);
@@ -1100,6 +1008,12 @@ public class Chapter3Systems implements Listener {
 
         // Créer le TextDisplay au-dessus
         createSurvivorDisplay(world, loc);
+
+        // Visible tant que le village n'est pas défendu (ou pendant la défense)
+        Predicate<Player> rule = player -> !hasPlayerDefendedVillage(player)
+                || activeDefenseEvents.containsKey(player.getUniqueId());
+        phasing.track(PHASE_SURVIVOR, villageSurvivorEntity, loc, NPC_VIEW_DISTANCE, rule);
+        phasing.track(PHASE_SURVIVOR, villageSurvivorDisplay, loc, NPC_VIEW_DISTANCE, rule);
     }
 
     /**
@@ -1147,8 +1061,9 @@ public class Chapter3Systems implements Listener {
     }
 
     /**
-     * Démarre le système de visibilité per-player pour le survivant.
+     * Démarre le vérificateur de respawn du survivant.
      * SÉCURITÉ MAXMOBS=1: Respawne automatiquement avec nettoyage préalable.
+     * La visibilité per-player est gérée par le phasing
      */
     private void startSurvivorVisibilityUpdater() {
         villageSurvivorUpdaterTask = new BukkitRunnable() {
@@ -1169,64 +1084,11 @@ public class Chapter3Systems implements Listener {
                         cleanupSurvivorEntities(world);
                         spawnVillageSurvivor(world);
                     }
-                    return;
-                }
-
-                survivorLoc = villageSurvivorEntity.getLocation();
-
-                for (Player player : Bukkit.getOnlinePlayers()) {
-                    if (!player.getWorld().equals(survivorLoc.getWorld())) {
-                        hideSurvivorForPlayer(player);
-                        continue;
-                    }
-
-                    double distSq = player.getLocation().distanceSquared(survivorLoc);
-                    boolean inRange = distSq <= 64 * 64;
-
-                    if (inRange) {
-                        boolean hasDefended = hasPlayerDefendedVillage(player);
-                        boolean inDefenseEvent = activeDefenseEvents.containsKey(player.getUniqueId());
-                        updateSurvivorVisibilityForPlayer(player, hasDefended, inDefenseEvent);
-                    } else {
-                        hideSurvivorForPlayer(player);
-                    }
                 }
             }
         }.runTaskTimer(plugin, 100L, 20L);
     }
 
-    /**
-     * Met à jour la visibilité du survivant pour un joueur
-     */
-    private void updateSurvivorVisibilityForPlayer(Player player, boolean hasDefended, boolean inDefenseEvent) {
-        if (villageSurvivorEntity == null || !villageSurvivorEntity.isValid() ||
-                villageSurvivorDisplay == null || !villageSurvivorDisplay.isValid()) {
-            return;
-        }
-
-        if (hasDefended && !inDefenseEvent) {
-            // Le joueur a déjà défendu le village
-            player.hideEntity(plugin, villageSurvivorEntity);
-            player.hideEntity(plugin, villageSurvivorDisplay);
-        } else {
-            // Montrer le survivant
-            player.showEntity(plugin, villageSurvivorEntity);
-            player.showEntity(plugin, villageSurvivorDisplay);
-        }
-    }
-
-    /**
-     * Cache le survivant pour un joueur
-     */
-    private void hideSurvivorForPlayer(Player player) {
-        if (villageSurvivorEntity != null && villageSurvivorEntity.isValid()) {
-            player.hideEntity(plugin, villageSurvivorEntity);
-        }
-        if (villageSurvivorDisplay != null && villageSurvivorDisplay.isValid()) {
-            player.hideEntity(plugin, villageSurvivorDisplay);
-        }
-    }
-
     /**
      * Nettoie TOUS les survivants orphelins dans le monde entier (maxmobs=1)
      */
@@ -1333,6 +1195,7 @@ public class Chapter3Systems implements Listener {
         // Créer l'événement de défense
         VillageDefenseEvent defenseEvent = new VillageDefenseEvent(player.getUniqueId());
         activeDefenseEvents.put(player.getUniqueId(), defenseEvent);
+        phasing.refresh(player, PHASE_SURVIVOR);
 
         // Timer de countdown avant le début
         new BukkitRunnable() {
@@ -1567,6 +1430,7 @@ public class Chapter3Systems implements Listener {
 
         // Retirer l'événement
         activeDefenseEvents.remove(player.getUniqueId());
+        phasing.refresh(player, PHASE_SURVIVOR);
 
         // Désactiver le mode boss bar personnalisée et restaurer la BossBar normale du
         // Journey
@@ -1590,7 +1454,7 @@ public class Chapter3Systems implements Listener {
         journeyManager.incrementProgress(player, JourneyStep.StepType.DEFEND_VILLAGE, 1);
 
         // Cacher le survivant pour ce joueur
-        updateSurvivorVisibilityForPlayer(player, true, false);
+        phasing.refresh(player, PHASE_SURVIVOR);
 
         // Calculer le bonus selon la santé restante d'Henri
         int healthPercent = (int) ((defenseEvent.survivorHealth / SURVIVOR_MAX_DAMAGE) * 100);
@@ -1823,10 +1687,17 @@ public class Chapter3Systems implements Listener {
 
             display.setVisibleByDefault(false);
         });
+
+        // Visible tant que le joueur n'a pas réparé le Zeppelin
+        Predicate<Player> rule = player -> !hasPlayerRepairedZeppelin(player);
+        phasing.track(PHASE_ZEPPELIN, zeppelinControlVisual, loc, NPC_VIEW_DISTANCE, rule);
+        phasing.track(PHASE_ZEPPELIN, zeppelinControlHitbox, loc, NPC_VIEW_DISTANCE, rule);
+        phasing.track(PHASE_ZEPPELIN, zeppelinControlDisplay, loc, NPC_VIEW_DISTANCE, rule);
     }
 
     /**
-     * Démarre le système de visibilité per-player pour le panneau de contrôle
+     * Démarre le vérificateur de respawn du panneau de contrôle (chunk unload, etc.)
+     * La visibilité per-player est gérée par le phasing
      */
     private void startZeppelinControlVisibilityUpdater() {
         zeppelinControlUpdaterTask = new BukkitRunnable() {
@@ -1836,76 +1707,16 @@ public class Chapter3Systems implements Listener {
                 if (world == null)
                     return;
 
-                // Respawn le panneau de contrôle si les entités sont devenues invalides (chunk
-                // unload, etc.)
                 boolean visualInvalid = zeppelinControlVisual == null || !zeppelinControlVisual.isValid();
                 boolean hitboxInvalid = zeppelinControlHitbox == null || !zeppelinControlHitbox.isValid();
                 boolean displayInvalid = zeppelinControlDisplay == null || !zeppelinControlDisplay.isValid();
                 if (visualInvalid || hitboxInvalid || displayInvalid) {
                     spawnZeppelinControl(world);
-                    return; // Attendre le prochain tick pour la visibilité
-                }
-
-                Location controlLoc = zeppelinControlHitbox.getLocation();
-
-                for (Player player : Bukkit.getOnlinePlayers()) {
-                    if (!player.getWorld().equals(controlLoc.getWorld())) {
-                        hideZeppelinControlForPlayer(player);
-                        continue;
-                    }
-
-                    double distSq = player.getLocation().distanceSquared(controlLoc);
-                    boolean inRange = distSq <= 64 * 64;
-
-                    if (inRange) {
-                        boolean hasRepaired = hasPlayerRepairedZeppelin(player);
-                        updateZeppelinControlVisibilityForPlayer(player, hasRepaired);
-                    } else {
-                        hideZeppelinControlForPlayer(player);
-                    }
                 }
             }
         }.runTaskTimer(plugin, 100L, 20L);
     }
 
-    /**
-     * Met à jour la visibilité du panneau de contrôle pour un joueur
-     */
-    private void updateZeppelinControlVisibilityForPlayer(Player player, boolean hasRepaired) {
-        if (zeppelinControlVisual == null || !zeppelinControlVisual.isValid() ||
-                zeppelinControlHitbox == null || !zeppelinControlHitbox.isValid() ||
-                zeppelinControlDisplay == null || !zeppelinControlDisplay.isValid()) {
-            return;
-        }
-
-        if (hasRepaired) {
-            // Le joueur a déjà réparé le Zeppelin
-            player.hideEntity(plugin, zeppelinControlVisual);
-            player.hideEntity(plugin, zeppelinControlHitbox);
-            player.hideEntity(plugin, zeppelinControlDisplay);
-        } else {
-            // Montrer le panneau de contrôle
-            player.showEntity(plugin, zeppelinControlVisual);
-            player.showEntity(plugin, zeppelinControlHitbox);
-            player.showEntity(plugin, zeppelinControlDisplay);
-        }
-    }
-
-    /**
-     * Cache le panneau de contrôle pour un joueur
-     */
-    private void hideZeppelinControlForPlayer(Player player) {
-        if (zeppelinControlVisual != null && zeppelinControlVisual.isValid()) {
-            player.hideEntity(plugin, zeppelinControlVisual);
-        }
-        if (zeppelinControlHitbox != null && zeppelinControlHitbox.isValid()) {
-            player.hideEntity(plugin, zeppelinControlHitbox);
-        }
-        if (zeppelinControlDisplay != null && zeppelinControlDisplay.isValid()) {
-            player.hideEntity(plugin, zeppelinControlDisplay);
-        }
-    }
-
     /**
      * Vérifie si le joueur a déjà réparé le Zeppelin
      */
@@ -1980,7 +1791,7 @@ public class Chapter3Systems implements Listener {
         journeyManager.incrementProgress(player, JourneyStep.StepType.REPAIR_ZEPPELIN, 1);
 
         // Cacher le panneau de contrôle pour ce joueur
-        updateZeppelinControlVisibilityForPlayer(player, true);
+        phasing.refresh(player, PHASE_ZEPPELIN);
 
         // Effets supplémentaires
         player.getWorld().spawnParticle(Particle.TOTEM_OF_UNDYING, player.getLocation().add(0, 1, 0), 50, 1, 1, 1, 0.3);
@@ -7,6 +7,7 @@ import com.rinaorc.zombiez.items.ZombieZItem;
 import com.rinaorc.zombiez.items.types.StatType;
 import com.rinaorc.zombiez.progression.journey.JourneyManager;
 import com.rinaorc.zombiez.progression.journey.JourneyNPCManager;
+import com.rinaorc.zombiez.progression.journey.JourneyPhasing;
 import com.rinaorc.zombiez.progression.journey.JourneyStep;
 import com.rinaorc.zombiez.zombies.ZombieManager;
 import com.rinaorc.zombiez.zombies.types.ZombieType;
@@ -42,6 +43,7 @@ import org.joml.Vector3f;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 
 /**
@@ -63,6 +65,7 @@ public class Chapter4Systems implements Listener {
     private final ZombieZPlugin plugin;
     private final JourneyManager journeyManager;
     private final JourneyNPCManager npcManager;
+    private final JourneyPhasing phasing;
 
     // === CLÉS PDC ===
     // Fossoyeur
@@ -194,6 +197,13 @@ public class Chapter4Systems implements Listener {
     private static final double CRYSTAL_VIEW_DISTANCE = 40.0; // Distance pour voir le cristal
     private static final long CRYSTAL_REGEN_INTERVAL = 5L; // Tick interval pour la regen (5 ticks = 0.25s)
 
+    // Groupes de phasing (visibilité per-player)
+    private static final String PHASE_GRAVES = "chapter4_graves";
+    private static final String PHASE_MUSHROOMS = "chapter4_mushrooms";
+    private static final String PHASE_CORRUPTION_SOURCES = "chapter4_corruption_sources";
+    private static final String PHASE_ORBS = "chapter4_orbs";
+    private static final String PHASE_CRYSTAL = "chapter4_crystal";
+
     // === TRACKING ENTITÉS ===
     private Entity priestEntity;
     private TextDisplay priestDisplay;
@@ -322,26 +332,35 @@ public class Chapter4Systems implements Listener {
 
     // === TASKS (pour cleanup propre) ===
     private BukkitTask priestCheckerTask;
-    private BukkitTask graveVisibilityUpdaterTask;
     private BukkitTask graveRespawnCheckerTask;
     private BukkitTask mushroomCollectorCheckerTask;
-    private BukkitTask mushroomVisibilityUpdaterTask;
     private BukkitTask mushroomRespawnCheckerTask;
     private BukkitTask damnedSoulSpawnerTask;
-    private BukkitTask corruptionSourceVisibilityTask;
     private BukkitTask corruptionSourceRespawnTask;
     private BukkitTask swampPoisonTickerTask;
-    private BukkitTask orbVisibilityUpdaterTask;
     private BukkitTask orbRespawnCheckerTask;
     private BukkitTask alchemistCheckerTask;
     private BukkitTask crystalRespawnTask;
     private BukkitTask crystalRegenTask;
-    private BukkitTask crystalVisibilityTask;
 
     public Chapter4Systems(ZombieZPlugin plugin) {
         this.plugin = plugin;
         this.journeyManager = plugin.getJourneyManager();
         this.npcManager = plugin.getJourneyNPCManager();
+        this.phasing = plugin.getJourneyPhasing();
+
+        // Introductions et BossBar déclenchées par l'apparition des objets de quête
+        phasing.listen(PHASE_CORRUPTION_SOURCES, (player, visible) -> {
+            if (visible && !playersIntroducedToToxicFog.contains(player.getUniqueId())) {
+                introducePlayerToToxicFog(player);
+            }
+        });
+        phasing.listen(PHASE_ORBS, (player, visible) -> {
+            if (visible && !playersIntroducedToCreaking.contains(player.getUniqueId())) {
+                introducePlayerToCreaking(player);
+            }
+        });
+        phasing.listen(PHASE_CRYSTAL, this::onCrystalVisibilityChange);
 
         // Initialiser les clés PDC
         this.PRIEST_NPC_KEY = new NamespacedKey(plugin, "gravedigger_priest");
@@ -391,7 +410,6 @@ public class Chapter4Systems implements Listener {
 
         // Démarrer les systèmes de mise à jour
         startPriestRespawnChecker();
-        startGraveVisibilityUpdater();
         startGraveRespawnChecker();
 
         // === ÉTAPE 3: LA RÉCOLTE MAUDITE ===
@@ -406,7 +424,6 @@ public class Chapter4Systems implements Listener {
 
         // Démarrer les systèmes de mise à jour
         startMushroomCollectorRespawnChecker();
-        startMushroomVisibilityUpdater();
         startMushroomRespawnChecker();
 
         // === ÉTAPE 6: PURIFICATION DES ÂMES ===
@@ -418,7 +435,6 @@ public class Chapter4Systems implements Listener {
         spawnCorruptionSources(world);
 
         // Démarrer les systèmes de mise à jour
-        startCorruptionSourceVisibilityUpdater();
         startCorruptionSourceRespawnChecker();
         startSwampPoisonChecker();
 
@@ -427,7 +443,6 @@ public class Chapter4Systems implements Listener {
         spawnOrbs(world);
 
         // Démarrer les systèmes de mise à jour
-        startOrbVisibilityUpdater();
         startOrbRespawnChecker();
 
         // === ÉTAPE 9: LIVRAISON ANTIDOTE ===
@@ -441,7 +456,6 @@ public class Chapter4Systems implements Listener {
         spawnCorruptionCrystal(world);
         startCrystalRespawnChecker();
         startCrystalRegenSystem();
-        startCrystalVisibilityUpdater();
 
         plugin.log(Level.INFO,
                 "§a✓ Chapter4Systems initialisé (Fossoyeur, Récolte, Purification, Brume Toxique, Arbre Maudit, Alchimiste, Cristal)");
@@ -711,6 +725,7 @@ public class Chapter4Systems implements Listener {
 
         // Initialiser la progression
         initializePlayerGraveProgress(player);
+        phasing.refresh(player, PHASE_GRAVES);
 
         // Incrémenter la progression (Phase 1 complétée)
         journeyManager.incrementProgress(player, JourneyStep.StepType.GRAVEDIGGER_QUEST, 1);
@@ -869,6 +884,13 @@ public class Chapter4Systems implements Listener {
 
         // 3. Créer le TextDisplay au-dessus
         createGraveDisplay(world, loc, graveIndex);
+
+        // Visible après avoir parlé au prêtre, tant que la tombe n'est pas creusée
+        Predicate<Player> rule = player -> hasPlayerTalkedToPriest(player) && !hasPlayerCompletedQuest(player)
+                && !hasPlayerDugGrave(player, graveIndex);
+        phasing.track(PHASE_GRAVES, graveVisuals[graveIndex], loc, GRAVE_VIEW_DISTANCE, rule);
+        phasing.track(PHASE_GRAVES, graveHitboxes[graveIndex], loc, GRAVE_VIEW_DISTANCE, rule);
+        phasing.track(PHASE_GRAVES, graveDisplays[graveIndex], loc, GRAVE_VIEW_DISTANCE, rule);
     }
 
     /**
@@ -910,97 +932,6 @@ public class Chapter4Systems implements Listener {
         });
     }
 
-    /**
-     * Démarre le système de visibilité per-player pour les tombes
-     */
-    private void startGraveVisibilityUpdater() {
-        graveVisibilityUpdaterTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                World world = Bukkit.getWorld("world");
-                if (world == null)
-                    return;
-
-                for (Player player : Bukkit.getOnlinePlayers()) {
-                    if (!player.getWorld().equals(world)) {
-                        hideAllGravesForPlayer(player);
-                        continue;
-                    }
-
-                    // Vérifier si le joueur a parlé au prêtre et n'a pas fini
-                    boolean shouldSeeGraves = hasPlayerTalkedToPriest(player) &&
-                            !hasPlayerCompletedQuest(player);
-
-                    if (shouldSeeGraves) {
-                        updateGraveVisibilityForPlayer(player);
-                    } else {
-                        hideAllGravesForPlayer(player);
-                    }
-                }
-            }
-        }.runTaskTimer(plugin, 100L, 20L);
-    }
-
-    /**
-     * Met à jour la visibilité des tombes pour un joueur
-     */
-    private void updateGraveVisibilityForPlayer(Player player) {
-        for (int i = 0; i < 5; i++) {
-            boolean hasDigThis = hasPlayerDugGrave(player, i);
-
-            // Distance check
-            boolean inRange = false;
-            if (graveVisuals[i] != null && graveVisuals[i].isValid()) {
-                double distSq = player.getLocation().distanceSquared(graveVisuals[i].getLocation());
-                inRange = distSq <= GRAVE_VIEW_DISTANCE * GRAVE_VIEW_DISTANCE;
-            }
-
-            // Visual (COARSE_DIRT block)
-            if (graveVisuals[i] != null && graveVisuals[i].isValid()) {
-                if (hasDigThis || !inRange) {
-                    player.hideEntity(plugin, graveVisuals[i]);
-                } else {
-                    player.showEntity(plugin, graveVisuals[i]);
-                }
-            }
-
-            // Hitbox (Interaction)
-            if (graveHitboxes[i] != null && graveHitboxes[i].isValid()) {
-                if (hasDigThis || !inRange) {
-                    player.hideEntity(plugin, graveHitboxes[i]);
-                } else {
-                    player.showEntity(plugin, graveHitboxes[i]);
-                }
-            }
-
-            // TextDisplay
-            if (graveDisplays[i] != null && graveDisplays[i].isValid()) {
-                if (hasDigThis || !inRange) {
-                    player.hideEntity(plugin, graveDisplays[i]);
-                } else {
-                    player.showEntity(plugin, graveDisplays[i]);
-                }
-            }
-        }
-    }
-
-    /**
-     * Cache toutes les tombes pour un joueur
-     */
-    private void hideAllGravesForPlayer(Player player) {
-        for (int i = 0; i < 5; i++) {
-            if (graveVisuals[i] != null && graveVisuals[i].isValid()) {
-                player.hideEntity(plugin, graveVisuals[i]);
-            }
-            if (graveHitboxes[i] != null && graveHitboxes[i].isValid()) {
-                player.hideEntity(plugin, graveHitboxes[i]);
-            }
-            if (graveDisplays[i] != null && graveDisplays[i].isValid()) {
-                player.hideEntity(plugin, graveDisplays[i]);
-            }
-        }
-    }
-
     /**
      * Démarre le vérificateur de respawn des tombes
      */
@@ -1135,7 +1066,7 @@ public class Chapter4Systems implements Listener {
         graveLoc.setWorld(player.getWorld());
 
         // Cacher la tombe pour ce joueur
-        updateGraveVisibilityForPlayer(player);
+        phasing.refresh(player, PHASE_GRAVES);
 
         // Incrémenter la progression du Journey (+1 par tombe)
         journeyManager.incrementProgress(player, JourneyStep.StepType.GRAVEDIGGER_QUEST, 1);
@@ -1395,6 +1326,7 @@ public class Chapter4Systems implements Listener {
      */
     private void completeQuest(Player player) {
         playersWhoKilledBoss.add(player.getUniqueId());
+        phasing.refresh(player, PHASE_GRAVES);
 
         // Incrémenter la progression pour compléter l'étape
         // Phase 1 (prêtre) = 1, Phase 2 (5 tombes) = 5, Phase 3 (boss) = 1
@@ -1618,89 +1550,17 @@ public class Chapter4Systems implements Listener {
             mushroomHitboxes.add(null);
         }
         mushroomHitboxes.set(index, hitbox);
-    }
-
-    /**
-     * Démarre le système de visibilité per-player pour les champignons
-     */
-    private void startMushroomVisibilityUpdater() {
-        mushroomVisibilityUpdaterTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                World world = Bukkit.getWorld("world");
-                if (world == null)
-                    return;
-
-                for (Player player : Bukkit.getOnlinePlayers()) {
-                    if (!player.getWorld().equals(world)) {
-                        hideAllMushroomsForPlayer(player);
-                        continue;
-                    }
-
-                    // Le joueur voit les champignons s'il est à l'étape 4_3 et n'a pas fini
-                    JourneyStep currentStep = journeyManager.getCurrentStep(player);
-                    boolean shouldSeeMushrooms = currentStep == JourneyStep.STEP_4_3 &&
-                            !hasPlayerCompletedMushroomQuest(player);
-
-                    if (shouldSeeMushrooms) {
-                        updateMushroomVisibilityForPlayer(player);
-                    } else {
-                        hideAllMushroomsForPlayer(player);
-                    }
-                }
-            }
-        }.runTaskTimer(plugin, 100L, 20L);
-    }
-
-    /**
-     * Met à jour la visibilité des champignons pour un joueur
-     */
-    private void updateMushroomVisibilityForPlayer(Player player) {
-        UUID uuid = player.getUniqueId();
-        int[] hits = playerMushroomHits.get(uuid);
-
-        for (int i = 0; i < mushroomVisuals.size(); i++) {
-            ItemDisplay visual = mushroomVisuals.get(i);
-            Interaction hitbox = i < mushroomHitboxes.size() ? mushroomHitboxes.get(i) : null;
-
-            if (visual == null || !visual.isValid())
-                continue;
-
-            // Vérifier si ce champignon a été collecté par ce joueur
-            boolean collected = hits != null && hits.length > i && hits[i] >= getHitsForMushroom(i);
-
-            // Distance check
-            double distSq = player.getLocation().distanceSquared(visual.getLocation());
-            boolean inRange = distSq <= MUSHROOM_VIEW_DISTANCE * MUSHROOM_VIEW_DISTANCE;
-
-            if (collected || !inRange) {
-                player.hideEntity(plugin, visual);
-                if (hitbox != null && hitbox.isValid()) {
-                    player.hideEntity(plugin, hitbox);
-                }
-            } else {
-                player.showEntity(plugin, visual);
-                if (hitbox != null && hitbox.isValid()) {
-                    player.showEntity(plugin, hitbox);
-                }
-            }
-        }
-    }
 
-    /**
-     * Cache tous les champignons pour un joueur
-     */
-    private void hideAllMushroomsForPlayer(Player player) {
-        for (ItemDisplay visual : mushroomVisuals) {
-            if (visual != null && visual.isValid()) {
-                player.hideEntity(plugin, visual);
+        // Visible à l'étape 4.3 tant que ce champignon n'est pas collecté
+        Predicate<Player> rule = player -> {
+            if (journeyManager.getCurrentStep(player) != JourneyStep.STEP_4_3 || hasPlayerCompletedMushroomQuest(player)) {
+                return false;
             }
-        }
-        for (Interaction hitbox : mushroomHitboxes) {
-            if (hitbox != null && hitbox.isValid()) {
-                player.hideEntity(plugin, hitbox);
-            }
-        }
+            int[] hits = playerMushroomHits.get(player.getUniqueId());
+            return hits == null || hits.length <= index || hits[index] < getHitsForMushroom(index);
+        };
+        phasing.track(PHASE_MUSHROOMS, visual, loc, MUSHROOM_VIEW_DISTANCE, rule);
+        phasing.track(PHASE_MUSHROOMS, hitbox, loc, MUSHROOM_VIEW_DISTANCE, rule);
     }
 
     /**
@@ -1911,7 +1771,7 @@ public class Chapter4Systems implements Listener {
         journeyManager.incrementProgress(player, JourneyStep.StepType.MUSHROOM_COLLECTION, 1);
 
         // Cacher ce champignon pour le joueur
-        updateMushroomVisibilityForPlayer(player);
+        phasing.refresh(player, PHASE_MUSHROOMS);
 
         // Effets
         player.playSound(player.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 1f, 1.5f);
@@ -1939,6 +1799,7 @@ public class Chapter4Systems implements Listener {
      */
     private void onMushroomQuestComplete(Player player) {
         playersWhoCompletedMushrooms.add(player.getUniqueId());
+        phasing.refresh(player, PHASE_MUSHROOMS);
 
         // Incrémenter la progression pour compléter l'étape (13 = 12 champignons + 1
         // livraison)
@@ -2379,6 +2240,9 @@ public class Chapter4Systems implements Listener {
                     playersWhoDestroyedCrystal.add(player.getUniqueId());
                     playersIntroducedToCrystal.add(player.getUniqueId());
                 }
+
+                // Appliquer la visibilité des objets de quête avec l'état rechargé
+                phasing.refresh(player);
             }
         }.runTaskLater(plugin, 20L);
     }
@@ -2940,98 +2804,18 @@ public class Chapter4Systems implements Listener {
             display.addScoreboardTag("corruption_display_" + index);
         });
 
+        // Visible partout à l'étape 4.7 tant que cette source n'est pas détruite
+        Predicate<Player> rule = player -> journeyManager.getCurrentStep(player) == JourneyStep.STEP_4_7
+                && !playersWhoCompletedToxicFog.contains(player.getUniqueId())
+                && !playerDestroyedSources.getOrDefault(player.getUniqueId(), Set.of()).contains(index);
+        phasing.track(PHASE_CORRUPTION_SOURCES, corruptionSourceVisuals[index], loc, JourneyPhasing.UNLIMITED, rule);
+        phasing.track(PHASE_CORRUPTION_SOURCES, corruptionSourceHitboxes[index], loc, JourneyPhasing.UNLIMITED, rule);
+        phasing.track(PHASE_CORRUPTION_SOURCES, corruptionSourceDisplays[index], loc, JourneyPhasing.UNLIMITED, rule);
+
         // Particules d'ambiance autour de la source
         world.spawnParticle(Particle.DRAGON_BREATH, loc.clone().add(0, 1.5, 0), 20, 0.5, 0.5, 0.5, 0.01);
     }
 
-    /**
-     * Démarre le système de visibilité per-player pour les sources
-     */
-    private void startCorruptionSourceVisibilityUpdater() {
-        corruptionSourceVisibilityTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                World world = Bukkit.getWorld("world");
-                if (world == null)
-                    return;
-
-                for (Player player : Bukkit.getOnlinePlayers()) {
-                    if (!player.getWorld().equals(world)) {
-                        hideAllSourcesForPlayer(player);
-                        continue;
-                    }
-
-                    JourneyStep currentStep = journeyManager.getCurrentStep(player);
-                    boolean shouldSeeSources = currentStep == JourneyStep.STEP_4_7 &&
-                            !playersWhoCompletedToxicFog.contains(player.getUniqueId());
-
-                    if (shouldSeeSources) {
-                        updateSourceVisibilityForPlayer(player);
-
-                        // Introduction si pas encore faite
-                        if (!playersIntroducedToToxicFog.contains(player.getUniqueId())) {
-                            introducePlayerToToxicFog(player);
-                        }
-                    } else {
-                        hideAllSourcesForPlayer(player);
-                    }
-                }
-            }
-        }.runTaskTimer(plugin, 100L, 20L);
-    }
-
-    /**
-     * Met à jour la visibilité des sources pour un joueur
-     */
-    private void updateSourceVisibilityForPlayer(Player player) {
-        UUID uuid = player.getUniqueId();
-        Set<Integer> destroyed = playerDestroyedSources.getOrDefault(uuid, Set.of());
-
-        for (int i = 0; i < corruptionSourceVisuals.length; i++) {
-            ItemDisplay visual = corruptionSourceVisuals[i];
-            Interaction hitbox = corruptionSourceHitboxes[i];
-            TextDisplay display = corruptionSourceDisplays[i];
-
-            if (visual == null || !visual.isValid())
-                continue;
-
-            // Si cette source est détruite par le joueur, la cacher
-            if (destroyed.contains(i)) {
-                if (visual != null)
-                    player.hideEntity(plugin, visual);
-                if (hitbox != null && hitbox.isValid())
-                    player.hideEntity(plugin, hitbox);
-                if (display != null && display.isValid())
-                    player.hideEntity(plugin, display);
-            } else {
-                // Sinon, la montrer
-                if (visual != null)
-                    player.showEntity(plugin, visual);
-                if (hitbox != null && hitbox.isValid())
-                    player.showEntity(plugin, hitbox);
-                if (display != null && display.isValid())
-                    player.showEntity(plugin, display);
-            }
-        }
-    }
-
-    /**
-     * Cache toutes les sources pour un joueur
-     */
-    private void hideAllSourcesForPlayer(Player player) {
-        for (int i = 0; i < corruptionSourceVisuals.length; i++) {
-            if (corruptionSourceVisuals[i] != null && corruptionSourceVisuals[i].isValid()) {
-                player.hideEntity(plugin, corruptionSourceVisuals[i]);
-            }
-            if (corruptionSourceHitboxes[i] != null && corruptionSourceHitboxes[i].isValid()) {
-                player.hideEntity(plugin, corruptionSourceHitboxes[i]);
-            }
-            if (corruptionSourceDisplays[i] != null && corruptionSourceDisplays[i].isValid()) {
-                player.hideEntity(plugin, corruptionSourceDisplays[i]);
-            }
-        }
-    }
-
     /**
      * Démarre le vérificateur de respawn des sources
      */
@@ -3194,7 +2978,7 @@ public class Chapter4Systems implements Listener {
         }
 
         // Cacher la source pour ce joueur
-        updateSourceVisibilityForPlayer(player);
+        phasing.refresh(player, PHASE_CORRUPTION_SOURCES);
 
         boolean isLastSource = (sourceIndex == 3);
         int remainingSources = 4 - destroyed.size();
@@ -3258,7 +3042,7 @@ public class Chapter4Systems implements Listener {
         player.sendMessage("");
 
         // Cacher toutes les sources
-        hideAllSourcesForPlayer(player);
+        phasing.refresh(player, PHASE_CORRUPTION_SOURCES);
     }
 
     /**
@@ -3368,6 +3152,15 @@ public class Chapter4Systems implements Listener {
 
         orbVisuals[index] = display;
         orbHitboxes[index] = interaction;
+
+        // Visibles près de l'arbre à l'étape 4.8 tant que l'orbe n'est pas collectée
+        Location treeLoc = ORB_LOCATIONS[0].clone();
+        treeLoc.setWorld(world);
+        Predicate<Player> rule = player -> journeyManager.getCurrentStep(player) == JourneyStep.STEP_4_8
+                && !playersWhoCompletedCreakingQuest.contains(player.getUniqueId())
+                && !playerCollectedOrbs.getOrDefault(player.getUniqueId(), Set.of()).contains(index);
+        phasing.track(PHASE_ORBS, display, treeLoc, ORB_VIEW_DISTANCE, rule);
+        phasing.track(PHASE_ORBS, interaction, treeLoc, ORB_VIEW_DISTANCE, rule);
     }
 
     /**
@@ -3383,92 +3176,6 @@ public class Chapter4Systems implements Listener {
         team.addEntry(entity.getUniqueId().toString());
     }
 
-    /**
-     * Démarre le système de mise à jour de visibilité des orbes
-     */
-    private void startOrbVisibilityUpdater() {
-        orbVisibilityUpdaterTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                World world = Bukkit.getWorld("world");
-                if (world == null)
-                    return;
-
-                for (Player player : world.getPlayers()) {
-                    updateOrbVisibilityForPlayer(player);
-                }
-            }
-        }.runTaskTimer(plugin, 20L, 20L);
-    }
-
-    /**
-     * Met à jour la visibilité des orbes pour un joueur
-     */
-    private void updateOrbVisibilityForPlayer(Player player) {
-        JourneyStep currentStep = journeyManager.getCurrentStep(player);
-        boolean isAtStep = currentStep == JourneyStep.STEP_4_8;
-        boolean hasCompleted = playersWhoCompletedCreakingQuest.contains(player.getUniqueId());
-
-        if (!isAtStep || hasCompleted) {
-            hideAllOrbsForPlayer(player);
-            return;
-        }
-
-        Location playerLoc = player.getLocation();
-        Location treeLoc = ORB_LOCATIONS[0].clone();
-        treeLoc.setWorld(player.getWorld());
-
-        // Vérifier si le joueur est proche de l'arbre
-        double distance = playerLoc.distance(treeLoc);
-        if (distance > ORB_VIEW_DISTANCE) {
-            hideAllOrbsForPlayer(player);
-            return;
-        }
-
-        // Introduction si pas encore faite
-        if (!playersIntroducedToCreaking.contains(player.getUniqueId())) {
-            introducePlayerToCreaking(player);
-        }
-
-        // Obtenir les orbes collectées par ce joueur
-        Set<Integer> collected = playerCollectedOrbs.getOrDefault(player.getUniqueId(), ConcurrentHashMap.newKeySet());
-
-        // Montrer les orbes non collectées
-        for (int i = 0; i < ORB_COUNT; i++) {
-            if (collected.contains(i)) {
-                // Orbe déjà collectée - masquer
-                if (orbVisuals[i] != null && orbVisuals[i].isValid()) {
-                    player.hideEntity(plugin, orbVisuals[i]);
-                }
-                if (orbHitboxes[i] != null && orbHitboxes[i].isValid()) {
-                    player.hideEntity(plugin, orbHitboxes[i]);
-                }
-            } else {
-                // Orbe disponible - montrer
-                if (orbVisuals[i] != null && orbVisuals[i].isValid()) {
-                    player.showEntity(plugin, orbVisuals[i]);
-                }
-                if (orbHitboxes[i] != null && orbHitboxes[i].isValid()) {
-                    player.showEntity(plugin, orbHitboxes[i]);
-                }
-            }
-        }
-    }
-
-    /**
-     * Masque toutes les orbes pour un joueur
-     */
-    private void hideAllOrbsForPlayer(Player player) {
-        for (int i = 0; i < ORB_COUNT; i++) {
-            if (orbVisuals[i] != null && orbVisuals[i].isValid()) {
-                player.hideEntity(plugin, orbVisuals[i]);
-            }
-            if (orbHitboxes[i] != null && orbHitboxes[i].isValid()) {
-                player.hideEntity(plugin, orbHitboxes[i]);
-            }
-        }
-    }
-
     /**
      * Vérifie et respawn les orbes si nécessaire
      */
@@ -3519,6 +3226,7 @@ public class Chapter4Systems implements Listener {
 
         // Marquer comme collectée
         collected.add(orbIndex);
+        phasing.refresh(player, PHASE_ORBS);
         int totalCollected = collected.size();
 
         // Effets visuels et sonores
@@ -3682,6 +3390,7 @@ public class Chapter4Systems implements Listener {
 
         // Marquer comme complété
         playersWhoCompletedCreakingQuest.add(ownerId);
+        phasing.refresh(owner, PHASE_ORBS);
 
         // Finaliser la quête (8 orbes + 1 boss = 9)
         journeyManager.setStepProgress(owner, JourneyStep.STEP_4_8, ORB_COUNT + 1);
@@ -4117,6 +3826,8 @@ public class Chapter4Systems implements Listener {
                 display.addScoreboardTag("chapter4_crystal_display");
             });
 
+            phaseCrystal();
+
             // SÉCURITÉ 5 : Vérification finale - max 1 cristal + 1 display
             int finalCount = countCrystalsInWorld(world);
             if (finalCount > 2) {
@@ -4227,11 +3938,17 @@ public class Chapter4Systems implements Listener {
                 }
 
                 // Mettre à jour les références avec les entités trouvées
-                if (foundCrystal != null && foundCrystal.isValid()) {
+                boolean referencesChanged = false;
+                if (foundCrystal != null && foundCrystal.isValid() && foundCrystal != crystalEntity) {
                     crystalEntity = foundCrystal;
+                    referencesChanged = true;
                 }
-                if (foundDisplay != null && foundDisplay.isValid()) {
+                if (foundDisplay != null && foundDisplay.isValid() && foundDisplay != crystalDisplay) {
                     crystalDisplay = foundDisplay;
+                    referencesChanged = true;
+                }
+                if (referencesChanged) {
+                    phaseCrystal();
                 }
 
                 // Vérifier si les références sont valides
@@ -4305,89 +4022,38 @@ public class Chapter4Systems implements Listener {
     }
 
     /**
-     * Démarre le système de mise à jour de visibilité du cristal
-     */
-    private void startCrystalVisibilityUpdater() {
-        crystalVisibilityTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                World world = Bukkit.getWorld("world");
-                if (world == null)
-                    return;
-
-                for (Player player : world.getPlayers()) {
-                    updateCrystalVisibilityForPlayer(player);
-                }
-            }
-        }.runTaskTimer(plugin, 20L, 20L);
-    }
-
-    /**
-     * Met à jour la visibilité du cristal pour un joueur
+     * Le cristal est visible près de sa position à l'étape 4.10 tant qu'il n'est pas détruit
      */
-    private void updateCrystalVisibilityForPlayer(Player player) {
-        JourneyStep currentStep = journeyManager.getCurrentStep(player);
-        boolean isAtStep = currentStep == JourneyStep.STEP_4_10;
-        boolean hasCompleted = playersWhoDestroyedCrystal.contains(player.getUniqueId());
-
-        if (!isAtStep || hasCompleted) {
-            // Cacher le cristal et retirer la BossBar
-            hideCrystalForPlayer(player);
-
-            BossBar bossBar = playerCrystalBossBar.get(player.getUniqueId());
-            if (bossBar != null) {
-                bossBar.removePlayer(player);
-            }
-            playersAttackingCrystal.remove(player.getUniqueId());
-            return;
-        }
-
-        // Vérifier la distance
-        Location playerLoc = player.getLocation();
+    private void phaseCrystal() {
         Location crystalLoc = CRYSTAL_LOCATION.clone();
-        crystalLoc.setWorld(player.getWorld());
-
-        double distance = playerLoc.distance(crystalLoc);
-        if (distance > CRYSTAL_VIEW_DISTANCE) {
-            hideCrystalForPlayer(player);
-
-            BossBar bossBar = playerCrystalBossBar.get(player.getUniqueId());
-            if (bossBar != null) {
-                bossBar.removePlayer(player);
-            }
+        crystalLoc.setWorld(Bukkit.getWorld("world"));
+        if (crystalLoc.getWorld() == null)
             return;
-        }
 
-        // Montrer le cristal
-        showCrystalForPlayer(player);
-
-        // Introduction si pas encore faite
-        if (!playersIntroducedToCrystal.contains(player.getUniqueId())) {
-            introducePlayerToCrystal(player);
-        }
+        Predicate<Player> rule = player -> journeyManager.getCurrentStep(player) == JourneyStep.STEP_4_10
+                && !playersWhoDestroyedCrystal.contains(player.getUniqueId());
+        phasing.track(PHASE_CRYSTAL, crystalEntity, crystalLoc, CRYSTAL_VIEW_DISTANCE, rule);
+        phasing.track(PHASE_CRYSTAL, crystalDisplay, crystalLoc, CRYSTAL_VIEW_DISTANCE, rule);
     }
 
     /**
-     * Montre le cristal au joueur
+     * Apparition: introduction. Disparition: retirer la BossBar (et l'attaque si l'étape est finie)
      */
-    private void showCrystalForPlayer(Player player) {
-        if (crystalEntity != null && crystalEntity.isValid()) {
-            player.showEntity(plugin, crystalEntity);
-        }
-        if (crystalDisplay != null && crystalDisplay.isValid()) {
-            player.showEntity(plugin, crystalDisplay);
+    private void onCrystalVisibilityChange(Player player, boolean visible) {
+        UUID uuid = player.getUniqueId();
+        if (visible) {
+            if (!playersIntroducedToCrystal.contains(uuid)) {
+                introducePlayerToCrystal(player);
+            }
+            return;
         }
-    }
 
-    /**
-     * Cache le cristal pour un joueur
-     */
-    private void hideCrystalForPlayer(Player player) {
-        if (crystalEntity != null && crystalEntity.isValid()) {
-            player.hideEntity(plugin, crystalEntity);
+        BossBar bossBar = playerCrystalBossBar.get(uuid);
+        if (bossBar != null) {
+            bossBar.removePlayer(player);
         }
-        if (crystalDisplay != null && crystalDisplay.isValid()) {
-            player.hideEntity(plugin, crystalDisplay);
+        if (journeyManager.getCurrentStep(player) != JourneyStep.STEP_4_10 || playersWhoDestroyedCrystal.contains(uuid)) {
+            playersAttackingCrystal.remove(uuid);
         }
     }
 
@@ -4510,7 +4176,7 @@ public class Chapter4Systems implements Listener {
         player.getWorld().spawnParticle(Particle.END_ROD, loc, 50, 2, 2, 2, 0.1);
 
         // Cacher le cristal pour ce joueur
-        hideCrystalForPlayer(player);
+        phasing.refresh(player, PHASE_CRYSTAL);
 
         // Message de victoire
         player.sendTitle("§a§l✓ CRISTAL DÉTRUIT!", "§7Tu as prouvé ta puissance!", 10, 60, 20);
@@ -4600,36 +4266,24 @@ public class Chapter4Systems implements Listener {
         if (priestCheckerTask != null && !priestCheckerTask.isCancelled()) {
             priestCheckerTask.cancel();
         }
-        if (graveVisibilityUpdaterTask != null && !graveVisibilityUpdaterTask.isCancelled()) {
-            graveVisibilityUpdaterTask.cancel();
-        }
         if (graveRespawnCheckerTask != null && !graveRespawnCheckerTask.isCancelled()) {
             graveRespawnCheckerTask.cancel();
         }
         if (mushroomCollectorCheckerTask != null && !mushroomCollectorCheckerTask.isCancelled()) {
             mushroomCollectorCheckerTask.cancel();
         }
-        if (mushroomVisibilityUpdaterTask != null && !mushroomVisibilityUpdaterTask.isCancelled()) {
-            mushroomVisibilityUpdaterTask.cancel();
-        }
         if (mushroomRespawnCheckerTask != null && !mushroomRespawnCheckerTask.isCancelled()) {
             mushroomRespawnCheckerTask.cancel();
         }
         if (damnedSoulSpawnerTask != null && !damnedSoulSpawnerTask.isCancelled()) {
             damnedSoulSpawnerTask.cancel();
         }
-        if (corruptionSourceVisibilityTask != null && !corruptionSourceVisibilityTask.isCancelled()) {
-            corruptionSourceVisibilityTask.cancel();
-        }
         if (corruptionSourceRespawnTask != null && !corruptionSourceRespawnTask.isCancelled()) {
             corruptionSourceRespawnTask.cancel();
         }
         if (swampPoisonTickerTask != null && !swampPoisonTickerTask.isCancelled()) {
             swampPoisonTickerTask.cancel();
         }
-        if (orbVisibilityUpdaterTask != null && !orbVisibilityUpdaterTask.isCancelled()) {
-            orbVisibilityUpdaterTask.cancel();
-        }
         if (orbRespawnCheckerTask != null && !orbRespawnCheckerTask.isCancelled()) {
             orbRespawnCheckerTask.cancel();
         }
@@ -4642,9 +4296,6 @@ public class Chapter4Systems implements Listener {
         if (crystalRegenTask != null && !crystalRegenTask.isCancelled()) {
             crystalRegenTask.cancel();
         }
-        if (crystalVisibilityTask != null && !crystalVisibilityTask.isCancelled()) {
-            crystalVisibilityTask.cancel();
-        }
 
         // === NETTOYAGE DES DONNÉES JOUEURS ===
         playersIntroducedToPriest.clear();
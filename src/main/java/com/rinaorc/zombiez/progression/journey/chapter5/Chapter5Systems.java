@@ -2,6 +2,7 @@ package com.rinaorc.zombiez.progression.journey.chapter5;
 
 import com.rinaorc.zombiez.ZombieZPlugin;
 import com.rinaorc.zombiez.progression.journey.JourneyManager;
+import com.rinaorc.zombiez.progression.journey.JourneyPhasing;
 import com.rinaorc.zombiez.progression.journey.JourneyStep;
 import com.rinaorc.zombiez.zombies.ZombieManager;
 import com.rinaorc.zombiez.zombies.types.ZombieType;
@@ -35,6 +36,7 @@ import org.joml.Vector3f;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
 
 /**
  * Systèmes du Chapitre 5 - Territoire Hostile
@@ -57,6 +59,7 @@ public class Chapter5Systems implements Listener {
 
     private final ZombieZPlugin plugin;
     private final JourneyManager journeyManager;
+    private final JourneyPhasing phasing;
 
     // === CLÉS PDC ===
     private final NamespacedKey QUEST_SALMON_KEY;
@@ -170,6 +173,12 @@ public class Chapter5Systems implements Listener {
     private static final int FROGS_TO_CAPTURE = 5;      // Nombre de grenouilles requises pour compléter
     private static final float FROG_VIEW_DISTANCE = 48f; // Distance de vue des grenouilles
 
+    // Groupes de phasing (visibilité per-player)
+    private static final String PHASE_ORES = "chapter5_ores";
+    private static final String PHASE_SUSPECTS = "chapter5_suspects";
+    private static final String PHASE_LUMBER = "chapter5_lumber";
+    private static final String PHASE_FROGS = "chapter5_frogs";
+
     // Biologiste NPC: près de la zone des grenouilles
     private static final double BIOLOGIST_X = 395.5;
     private static final double BIOLOGIST_Y = 90;
@@ -223,13 +232,9 @@ public class Chapter5Systems implements Listener {
     private BukkitTask salmonSpawnTask;
 
     // === TOUTES LES TASKS (pour cleanup propre) ===
-    private BukkitTask oreUpdaterTask;
     private BukkitTask oreCheckerTask;
-    private BukkitTask suspectUpdaterTask;
     private BukkitTask suspectCheckerTask;
-    private BukkitTask lumberUpdaterTask;
     private BukkitTask lumberjackCheckerTask;
-    private BukkitTask frogUpdaterTask;
     private BukkitTask biologistCheckerTask;
     private BukkitTask oracleCheckerTask;
     private BukkitTask bossSpawnCheckerTask;
@@ -316,6 +321,7 @@ public class Chapter5Systems implements Listener {
     public Chapter5Systems(ZombieZPlugin plugin) {
         this.plugin = plugin;
         this.journeyManager = plugin.getJourneyManager();
+        this.phasing = plugin.getJourneyPhasing();
 
         // Initialiser les clés PDC
         this.QUEST_SALMON_KEY = new NamespacedKey(plugin, "quest_salmon_ch5");
@@ -348,25 +354,21 @@ public class Chapter5Systems implements Listener {
                 World world = Bukkit.getWorld("world");
                 if (world != null) {
                     initializeOres(world);
-                    startOreVisibilityUpdater();
                     startOreRespawnChecker();
 
                     // Système du traître
                     initializeSuspectGlowTeam();
                     initializeSuspects(world);
-                    startSuspectVisibilityUpdater();
                     startSuspectRespawnChecker();
 
                     // Système de bûcheronnage
                     initializeLumber(world);
                     initializeLumberjack(world);
-                    startLumberVisibilityUpdater();
                     startLumberRespawnChecker();
 
                     // Système des grenouilles
                     initializeFrogs(world);
                     initializeBiologist(world);
-                    startFrogVisibilityUpdater();
                     startFrogRespawnChecker();
 
                     // Système des énigmes
@@ -838,6 +840,13 @@ public class Chapter5Systems implements Listener {
 
         // 3. Créer le TextDisplay au-dessus
         createOreDisplay(world, loc, oreIndex, oreType);
+
+        // Visible pendant la quête de minage tant que ce minerai n'est pas miné
+        Predicate<Player> rule = player -> isPlayerOnMiningQuest(player) && !hasPlayerCompletedMiningQuest(player)
+                && !playerMinedOres.getOrDefault(player.getUniqueId(), Set.of()).contains(oreIndex);
+        phasing.track(PHASE_ORES, oreVisuals[oreIndex], loc, ORE_VIEW_DISTANCE, rule);
+        phasing.track(PHASE_ORES, oreHitboxes[oreIndex], loc, ORE_VIEW_DISTANCE, rule);
+        phasing.track(PHASE_ORES, oreDisplays[oreIndex], loc, ORE_VIEW_DISTANCE, rule);
     }
 
     /**
@@ -878,97 +887,6 @@ public class Chapter5Systems implements Listener {
         });
     }
 
-    /**
-     * Démarre le système de visibilité per-player pour les minerais
-     */
-    private void startOreVisibilityUpdater() {
-        oreUpdaterTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                World world = Bukkit.getWorld("world");
-                if (world == null) return;
-
-                for (Player player : Bukkit.getOnlinePlayers()) {
-                    if (!player.getWorld().equals(world)) {
-                        hideAllOresForPlayer(player);
-                        continue;
-                    }
-
-                    // Vérifier si le joueur est sur la quête et ne l'a pas terminée
-                    boolean shouldSeeOres = isPlayerOnMiningQuest(player) && !hasPlayerCompletedMiningQuest(player);
-
-                    if (shouldSeeOres) {
-                        updateOreVisibilityForPlayer(player);
-                    } else {
-                        hideAllOresForPlayer(player);
-                    }
-                }
-            }
-        }.runTaskTimer(plugin, 100L, 20L);
-    }
-
-    /**
-     * Met à jour la visibilité des minerais pour un joueur
-     */
-    private void updateOreVisibilityForPlayer(Player player) {
-        Set<Integer> minedOres = playerMinedOres.getOrDefault(player.getUniqueId(), Set.of());
-
-        for (int i = 0; i < TOTAL_ORES; i++) {
-            boolean hasMined = minedOres.contains(i);
-
-            // Distance check
-            boolean inRange = false;
-            if (oreVisuals[i] != null && oreVisuals[i].isValid()) {
-                double distSq = player.getLocation().distanceSquared(oreVisuals[i].getLocation());
-                inRange = distSq <= ORE_VIEW_DISTANCE * ORE_VIEW_DISTANCE;
-            }
-
-            // Visual (ORE block)
-            if (oreVisuals[i] != null && oreVisuals[i].isValid()) {
-                if (hasMined || !inRange) {
-                    player.hideEntity(plugin, oreVisuals[i]);
-                } else {
-                    player.showEntity(plugin, oreVisuals[i]);
-                }
-            }
-
-            // Hitbox (Interaction)
-            if (oreHitboxes[i] != null && oreHitboxes[i].isValid()) {
-                if (hasMined || !inRange) {
-                    player.hideEntity(plugin, oreHitboxes[i]);
-                } else {
-                    player.showEntity(plugin, oreHitboxes[i]);
-                }
-            }
-
-            // TextDisplay
-            if (oreDisplays[i] != null && oreDisplays[i].isValid()) {
-                if (hasMined || !inRange) {
-                    player.hideEntity(plugin, oreDisplays[i]);
-                } else {
-                    player.showEntity(plugin, oreDisplays[i]);
-                }
-            }
-        }
-    }
-
-    /**
-     * Cache tous les minerais pour un joueur
-     */
-    private void hideAllOresForPlayer(Player player) {
-        for (int i = 0; i < TOTAL_ORES; i++) {
-            if (oreVisuals[i] != null && oreVisuals[i].isValid()) {
-                player.hideEntity(plugin, oreVisuals[i]);
-            }
-            if (oreHitboxes[i] != null && oreHitboxes[i].isValid()) {
-                player.hideEntity(plugin, oreHitboxes[i]);
-            }
-            if (oreDisplays[i] != null && oreDisplays[i].isValid()) {
-                player.hideEntity(plugin, oreDisplays[i]);
-            }
-        }
-    }
-
     /**
      * Démarre le vérificateur de respawn des minerais
      */
@@ -1126,7 +1044,7 @@ public class Chapter5Systems implements Listener {
         OreType oreType = oreTypes[oreIndex];
 
         // Cacher le minerai pour ce joueur
-        updateOreVisibilityForPlayer(player);
+        phasing.refresh(player, PHASE_ORES);
 
         // Incrémenter la progression
         int progress = journeyManager.getStepProgress(player, JourneyStep.STEP_5_3);
@@ -1160,11 +1078,9 @@ public class Chapter5Systems implements Listener {
         playerOreHits.remove(playerId);
         playerMinedOres.remove(playerId);
 
-        // Cacher tous les minerais
-        hideAllOresForPlayer(player);
-
-        // Compléter l'étape
+        // Compléter l'étape puis cacher tous les minerais
         journeyManager.completeStep(player, JourneyStep.STEP_5_3);
+        phasing.refresh(player, PHASE_ORES);
 
         // Message de victoire
         player.sendTitle(
@@ -1248,6 +1164,7 @@ public class Chapter5Systems implements Listener {
 
         // Réinitialiser les minerais minés
         playerMinedOres.put(uuid, ConcurrentHashMap.newKeySet());
+        phasing.refresh(player, PHASE_ORES);
 
         // Réinitialiser la progression dans JourneyManager
         journeyManager.setStepProgress(player, JourneyStep.STEP_5_3, 0);
@@ -1414,78 +1331,12 @@ public class Chapter5Systems implements Listener {
 
             display.setVisibleByDefault(false);
         });
-    }
-
-    /**
-     * Démarre le système de visibilité per-player pour les suspects
-     */
-    private void startSuspectVisibilityUpdater() {
-        suspectUpdaterTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                World world = Bukkit.getWorld("world");
-                if (world == null) return;
-
-                for (Player player : Bukkit.getOnlinePlayers()) {
-                    if (!player.getWorld().equals(world)) {
-                        hideAllSuspectsForPlayer(player);
-                        continue;
-                    }
-
-                    // Vérifier si le joueur est sur la quête et ne l'a pas terminée
-                    boolean shouldSeeSuspects = isPlayerOnTraitorQuest(player) && !hasPlayerCompletedTraitorQuest(player);
-
-                    if (shouldSeeSuspects) {
-                        updateSuspectVisibilityForPlayer(player);
-                    } else {
-                        hideAllSuspectsForPlayer(player);
-                    }
-                }
-            }
-        }.runTaskTimer(plugin, 100L, 20L);
-    }
-
-    /**
-     * Met à jour la visibilité des suspects pour un joueur
-     */
-    private void updateSuspectVisibilityForPlayer(Player player) {
-        Set<Integer> interrogated = playerInterrogatedSuspects.getOrDefault(player.getUniqueId(), Set.of());
-
-        for (int i = 0; i < TOTAL_SUSPECTS; i++) {
-            boolean hasInterrogated = interrogated.contains(i);
-
-            // Villager
-            if (suspectNPCs[i] != null && suspectNPCs[i].isValid()) {
-                if (hasInterrogated) {
-                    player.hideEntity(plugin, suspectNPCs[i]);
-                } else {
-                    player.showEntity(plugin, suspectNPCs[i]);
-                }
-            }
-
-            // TextDisplay
-            if (suspectDisplays[i] != null && suspectDisplays[i].isValid()) {
-                if (hasInterrogated) {
-                    player.hideEntity(plugin, suspectDisplays[i]);
-                } else {
-                    player.showEntity(plugin, suspectDisplays[i]);
-                }
-            }
-        }
-    }
 
-    /**
-     * Cache tous les suspects pour un joueur
-     */
-    private void hideAllSuspectsForPlayer(Player player) {
-        for (int i = 0; i < TOTAL_SUSPECTS; i++) {
-            if (suspectNPCs[i] != null && suspectNPCs[i].isValid()) {
-                player.hideEntity(plugin, suspectNPCs[i]);
-            }
-            if (suspectDisplays[i] != null && suspectDisplays[i].isValid()) {
-                player.hideEntity(plugin, suspectDisplays[i]);
-            }
-        }
+        // Visible partout pendant la quête du traître tant que le suspect n'est pas interrogé
+        Predicate<Player> rule = player -> isPlayerOnTraitorQuest(player) && !hasPlayerCompletedTraitorQuest(player)
+                && !playerInterrogatedSuspects.getOrDefault(player.getUniqueId(), Set.of()).contains(index);
+        phasing.track(PHASE_SUSPECTS, suspectNPCs[suspectIndex], loc, JourneyPhasing.UNLIMITED, rule);
+        phasing.track(PHASE_SUSPECTS, suspectDisplays[suspectIndex], loc, JourneyPhasing.UNLIMITED, rule);
     }
 
     /**
@@ -1533,6 +1384,7 @@ public class Chapter5Systems implements Listener {
 
         // Initialiser le tracking
         playerInterrogatedSuspects.put(playerId, ConcurrentHashMap.newKeySet());
+        phasing.refresh(player, PHASE_SUSPECTS);
         activeTraitorPlayers.add(playerId);
 
         // Afficher l'introduction
@@ -1619,12 +1471,7 @@ public class Chapter5Systems implements Listener {
         int totalInterrogated = interrogated.size();
 
         // Cacher ce suspect pour le joueur
-        if (suspectNPCs[suspectIndex] != null && suspectNPCs[suspectIndex].isValid()) {
-            player.hideEntity(plugin, suspectNPCs[suspectIndex]);
-        }
-        if (suspectDisplays[suspectIndex] != null && suspectDisplays[suspectIndex].isValid()) {
-            player.hideEntity(plugin, suspectDisplays[suspectIndex]);
-        }
+        phasing.refresh(player, PHASE_SUSPECTS);
 
         // Afficher le dialogue
         player.sendMessage("");
@@ -1761,6 +1608,7 @@ public class Chapter5Systems implements Listener {
 
         // Réinitialiser les suspects interrogés
         playerInterrogatedSuspects.put(uuid, ConcurrentHashMap.newKeySet());
+        phasing.refresh(player, PHASE_SUSPECTS);
 
         // Réinitialiser la progression dans JourneyManager
         journeyManager.setStepProgress(player, JourneyStep.STEP_5_5, 0);
@@ -1894,6 +1742,12 @@ public class Chapter5Systems implements Listener {
             interaction.setVisibleByDefault(false);
             interaction.setPersistent(false);
         });
+
+        // Visible pendant la quête de bûcheronnage tant que ce bois n'est pas collecté
+        Predicate<Player> rule = player -> isPlayerOnLumberQuest(player) && !hasPlayerCompletedLumberQuest(player)
+                && !playerCollectedLumber.getOrDefault(player.getUniqueId(), Set.of()).contains(lumberIndex);
+        phasing.track(PHASE_LUMBER, lumberVisuals[lumberIndex], loc, LUMBER_VIEW_DISTANCE, rule);
+        phasing.track(PHASE_LUMBER, lumberHitboxes[lumberIndex], loc, LUMBER_VIEW_DISTANCE, rule);
     }
 
     /**
@@ -1977,85 +1831,6 @@ public class Chapter5Systems implements Listener {
         plugin.getLogger().info("[Chapter5Systems] Bûcheron Aldric initialisé");
     }
 
-    /**
-     * Démarre le système de visibilité per-player pour les bois
-     */
-    private void startLumberVisibilityUpdater() {
-        lumberUpdaterTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                World world = Bukkit.getWorld("world");
-                if (world == null) return;
-
-                for (Player player : Bukkit.getOnlinePlayers()) {
-                    if (!player.getWorld().equals(world)) {
-                        hideAllLumberForPlayer(player);
-                        continue;
-                    }
-
-                    // Vérifier si le joueur est sur la quête et ne l'a pas terminée
-                    boolean shouldSeeLumber = isPlayerOnLumberQuest(player) && !hasPlayerCompletedLumberQuest(player);
-
-                    if (shouldSeeLumber) {
-                        updateLumberVisibilityForPlayer(player);
-                    } else {
-                        hideAllLumberForPlayer(player);
-                    }
-                }
-            }
-        }.runTaskTimer(plugin, 100L, 20L);
-    }
-
-    /**
-     * Met à jour la visibilité des bois pour un joueur
-     */
-    private void updateLumberVisibilityForPlayer(Player player) {
-        Set<Integer> collectedLumber = playerCollectedLumber.getOrDefault(player.getUniqueId(), Set.of());
-
-        for (int i = 0; i < TOTAL_LUMBER; i++) {
-            boolean hasCollected = collectedLumber.contains(i);
-
-            // Distance check
-            boolean inRange = false;
-            if (lumberVisuals[i] != null && lumberVisuals[i].isValid()) {
-                double distSq = player.getLocation().distanceSquared(lumberVisuals[i].getLocation());
-                inRange = distSq <= LUMBER_VIEW_DISTANCE * LUMBER_VIEW_DISTANCE;
-            }
-
-            // Visual (bois)
-            if (lumberVisuals[i] != null && lumberVisuals[i].isValid()) {
-                if (hasCollected || !inRange) {
-                    player.hideEntity(plugin, lumberVisuals[i]);
-                } else {
-                    player.showEntity(plugin, lumberVisuals[i]);
-                }
-            }
-
-            // Hitbox (Interaction)
-            if (lumberHitboxes[i] != null && lumberHitboxes[i].isValid()) {
-                if (hasCollected || !inRange) {
-                    player.hideEntity(plugin, lumberHitboxes[i]);
-                } else {
-                    player.showEntity(plugin, lumberHitboxes[i]);
-                }
-            }
-        }
-    }
-
-    /**
-     * Cache tous les bois pour un joueur
-     */
-    private void hideAllLumberForPlayer(Player player) {
-        for (int i = 0; i < TOTAL_LUMBER; i++) {
-            if (lumberVisuals[i] != null && lumberVisuals[i].isValid()) {
-                player.hideEntity(plugin, lumberVisuals[i]);
-            }
-            if (lumberHitboxes[i] != null && lumberHitboxes[i].isValid()) {
-                player.hideEntity(plugin, lumberHitboxes[i]);
-            }
-        }
-    }
-
     /**
      * Démarre le vérificateur de respawn des bois
      */
@@ -2238,7 +2013,7 @@ public class Chapter5Systems implements Listener {
         player.getInventory().addItem(woodItem);
 
         // Cacher ce bois pour le joueur
-        updateLumberVisibilityForPlayer(player);
+        phasing.refresh(player, PHASE_LUMBER);
 
         // Mettre à jour le compteur
         int lumberInInv = playerLumberInInventory.getOrDefault(playerId, 0) + 1;
@@ -2372,11 +2147,9 @@ public class Chapter5Systems implements Listener {
             gpsManager.clearCustomDestination(player);
         }
 
-        // Cacher les bois
-        hideAllLumberForPlayer(player);
-
-        // Compléter l'étape
+        // Compléter l'étape puis cacher les bois
         journeyManager.completeStep(player, JourneyStep.STEP_5_6);
+        phasing.refresh(player, PHASE_LUMBER);
 
         // Dialogue du bûcheron
         player.sendMessage("");
@@ -2406,6 +2179,7 @@ public class Chapter5Systems implements Listener {
 
         // Réinitialiser les bois collectés
         playerCollectedLumber.put(uuid, ConcurrentHashMap.newKeySet());
+        phasing.refresh(player, PHASE_LUMBER);
 
         // Retirer le bois de l'inventaire
         for (ItemStack item : player.getInventory().getContents()) {
@@ -2544,6 +2318,11 @@ public class Chapter5Systems implements Listener {
             // Visibilité par défaut désactivée (géré per-player)
             frog.setVisibleByDefault(false);
         });
+
+        // Visible pendant la quête des grenouilles tant qu'elle n'est pas capturée
+        Predicate<Player> rule = player -> isPlayerOnFrogQuest(player) && !hasPlayerCompletedFrogQuest(player)
+                && !playerCapturedFrogs.getOrDefault(player.getUniqueId(), Set.of()).contains(frogIndex);
+        phasing.track(PHASE_FROGS, frogEntities[frogIndex], loc, FROG_VIEW_DISTANCE, rule);
     }
 
     /**
@@ -2629,73 +2408,6 @@ public class Chapter5Systems implements Listener {
         plugin.getLogger().info("[Chapter5Systems] Dr. Marlow (Biologiste) initialisé");
     }
 
-    /**
-     * Démarre le système de visibilité per-player pour les grenouilles
-     */
-    private void startFrogVisibilityUpdater() {
-        frogUpdaterTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                World world = Bukkit.getWorld("world");
-                if (world == null) return;
-
-                for (Player player : Bukkit.getOnlinePlayers()) {
-                    if (!player.getWorld().equals(world)) {
-                        hideAllFrogsForPlayer(player);
-                        continue;
-                    }
-
-                    // Vérifier si le joueur est sur la quête et ne l'a pas terminée
-                    boolean shouldSeeFrogs = isPlayerOnFrogQuest(player) && !hasPlayerCompletedFrogQuest(player);
-
-                    if (shouldSeeFrogs) {
-                        updateFrogVisibilityForPlayer(player);
-                    } else {
-                        hideAllFrogsForPlayer(player);
-                    }
-                }
-            }
-        }.runTaskTimer(plugin, 100L, 20L);
-    }
-
-    /**
-     * Met à jour la visibilité des grenouilles pour un joueur
-     */
-    private void updateFrogVisibilityForPlayer(Player player) {
-        Set<Integer> captured = playerCapturedFrogs.getOrDefault(player.getUniqueId(), Set.of());
-
-        for (int i = 0; i < TOTAL_FROGS; i++) {
-            boolean hasCaptured = captured.contains(i);
-
-            // Vérifier la validité de la grenouille
-            if (frogEntities[i] == null || !frogEntities[i].isValid()) {
-                continue;
-            }
-
-            // Distance check
-            double distSq = player.getLocation().distanceSquared(frogEntities[i].getLocation());
-            boolean inRange = distSq <= FROG_VIEW_DISTANCE * FROG_VIEW_DISTANCE;
-
-            // Afficher ou cacher la grenouille
-            if (hasCaptured || !inRange) {
-                player.hideEntity(plugin, frogEntities[i]);
-            } else {
-                player.showEntity(plugin, frogEntities[i]);
-            }
-        }
-    }
-
-    /**
-     * Cache toutes les grenouilles pour un joueur
-     */
-    private void hideAllFrogsForPlayer(Player player) {
-        for (int i = 0; i < TOTAL_FROGS; i++) {
-            if (frogEntities[i] != null && frogEntities[i].isValid()) {
-                player.hideEntity(plugin, frogEntities[i]);
-            }
-        }
-    }
-
     /**
      * Démarre le vérificateur de respawn des grenouilles
      */
@@ -2900,7 +2612,7 @@ public class Chapter5Systems implements Listener {
         player.getInventory().addItem(frogItem);
 
         // Cacher cette grenouille pour le joueur
-        updateFrogVisibilityForPlayer(player);
+        phasing.refresh(player, PHASE_FROGS);
 
         // Mettre à jour le compteur
         int frogsInInv = playerFrogsInInventory.getOrDefault(playerId, 0) + 1;
@@ -3036,11 +2748,9 @@ public class Chapter5Systems implements Listener {
         playerCapturedFrogs.remove(playerId);
         playerFrogsInInventory.remove(playerId);
 
-        // Cacher les grenouilles
-        hideAllFrogsForPlayer(player);
-
-        // Compléter l'étape
+        // Compléter l'étape puis cacher les grenouilles
         journeyManager.completeStep(player, JourneyStep.STEP_5_7);
+        phasing.refresh(player, PHASE_FROGS);
 
         // Dialogue du biologiste
         player.sendMessage("");
@@ -3072,6 +2782,7 @@ public class Chapter5Systems implements Listener {
 
         // Réinitialiser les grenouilles capturées
         playerCapturedFrogs.put(uuid, ConcurrentHashMap.newKeySet());
+        phasing.refresh(player, PHASE_FROGS);
 
         // Retirer les grenouilles de l'inventaire
         for (ItemStack item : player.getInventory().getContents()) {
@@ -3931,6 +3642,9 @@ public class Chapter5Systems implements Listener {
                         activateGPSToOracle(player);
                     }
                 }
+
+                // Appliquer la visibilité des objets de quête avec l'état rechargé
+                phasing.refresh(player);
             }
         }.runTaskLater(plugin, 40L);
     }
@@ -4330,27 +4044,15 @@ public class Chapter5Systems implements Listener {
         if (salmonSpawnTask != null && !salmonSpawnTask.isCancelled()) {
             salmonSpawnTask.cancel();
         }
-        if (oreUpdaterTask != null && !oreUpdaterTask.isCancelled()) {
-            oreUpdaterTask.cancel();
-        }
         if (oreCheckerTask != null && !oreCheckerTask.isCancelled()) {
             oreCheckerTask.cancel();
         }
-        if (suspectUpdaterTask != null && !suspectUpdaterTask.isCancelled()) {
-            suspectUpdaterTask.cancel();
-        }
         if (suspectCheckerTask != null && !suspectCheckerTask.isCancelled()) {
             suspectCheckerTask.cancel();
         }
-        if (lumberUpdaterTask != null && !lumberUpdaterTask.isCancelled()) {
-            lumberUpdaterTask.cancel();
-        }
         if (lumberjackCheckerTask != null && !lumberjackCheckerTask.isCancelled()) {
             lumberjackCheckerTask.cancel();
         }
-        if (frogUpdaterTask != null && !frogUpdaterTask.isCancelled()) {
-            frogUpdaterTask.cancel();
-        }
         if (biologistCheckerTask != null && !biologistCheckerTask.isCancelled()) {
             biologistCheckerTask.cancel();
         }
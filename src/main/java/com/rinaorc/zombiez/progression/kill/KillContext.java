@@ -0,0 +1,45 @@
+package com.rinaorc.zombiez.progression.kill;
+
+import com.rinaorc.zombiez.data.PlayerData;
+import org.bukkit.Location;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+
+import java.util.UUID;
+
+/**
+ * Contexte d'un kill de mob ZombieZ, résolu une seule fois sur le main thread
+ *
+ * Tout ce que les systèmes de progression lisent pendant un kill (niveau, PlayerData,
+ * flags du coup final, streak) est figé ici: les abonnés asynchrones ne touchent
+ * jamais au monde, ils lisent uniquement ces valeurs.
+ *
+ * @param location    Position du mob à sa mort (copie)
+ * @param data        Données du tueur (null si non chargées)
+ * @param totalKills  Kills totaux du tueur, ce kill inclus
+ * @param eliteKills  Kills d'élites, ce kill inclus s'il s'agit d'un élite
+ * @param bossKills   Kills de boss, ce kill inclus s'il s'agit d'un boss
+ * @param streak      Streak Momentum après ce kill
+ */
+public record KillContext(
+    Player killer,
+    UUID killerId,
+    LivingEntity mob,
+    Location location,
+    int zombieLevel,
+    String zombieType,
+    PlayerData data,
+    boolean elite,
+    boolean boss,
+    boolean headshot,
+    boolean groupKill,
+    boolean noDamage,
+    boolean critical,
+    boolean ranged,
+    boolean night,
+    int streak,
+    int totalKills,
+    int eliteKills,
+    int bossKills
+) {
+}
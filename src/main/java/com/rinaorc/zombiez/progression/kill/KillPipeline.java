@@ -0,0 +1,186 @@
+package com.rinaorc.zombiez.progression.kill;
+
+import com.rinaorc.zombiez.ZombieZPlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+
+/**
+ * Pipeline de progression des kills
+ *
+ * Un kill = un KillContext publié une fois. Chaque système s'abonne avec un filtre d'intérêt:
+ * - SYNC: exécuté immédiatement sur le main thread (tout ce qui est visible: sons, titres, effets)
+ * - ASYNC: mis en file et traité hors du main thread par micro-lots (comptabilité pure)
+ *
+ * Chaque abonné est chronométré pour repérer les systèmes coûteux pendant les hordes.
+ */
+public class KillPipeline {
+
+    public enum Phase { SYNC, ASYNC }
+
+    @FunctionalInterface
+    public interface Subscriber {
+        void onKill(KillContext context);
+    }
+
+    private static final class Registration {
+        final String name;
+        final Phase phase;
+        final Predicate<KillContext> interest;
+        final Subscriber subscriber;
+
+        final LongAdder calls = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+        Registration(String name, Phase phase, Predicate<KillContext> interest, Subscriber subscriber) {
+            this.name = name;
+            this.phase = phase;
+            this.interest = interest;
+            this.subscriber = subscriber;
+        }
+    }
+
+    // Intervalle du drain asynchrone (ticks) et taille max d'un micro-lot
+    private static final long DRAIN_INTERVAL_TICKS = 2L;
+    private static final int MAX_BATCH_SIZE = 256;
+
+    private final ZombieZPlugin plugin;
+    private final List<Registration> syncSubscribers = new CopyOnWriteArrayList<>();
+    private final List<Registration> asyncSubscribers = new CopyOnWriteArrayList<>();
+
+    private final Queue<KillContext> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger(0);
+    private final BukkitTask drainTask;
+
+    // Métriques
+    private final LongAdder published = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAccumulator maxBatch = new LongAccumulator(Long::max, 0);
+
+    public KillPipeline(ZombieZPlugin plugin) {
+        this.plugin = plugin;
+        this.drainTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::drain,
+            DRAIN_INTERVAL_TICKS, DRAIN_INTERVAL_TICKS);
+    }
+
+    // ==================== ABONNEMENTS ====================
+
+    /**
+     * Abonne un système aux kills
+     * Les abonnés SYNC sont appelés dans leur ordre d'enregistrement
+     *
+     * @param interest Filtre évalué avant l'appel (ex: uniquement les kills en groupe)
+     */
+    public void register(String name, Phase phase, Predicate<KillContext> interest, Subscriber subscriber) {
+        Registration registration = new Registration(name, phase, interest, subscriber);
+        (phase == Phase.SYNC ? syncSubscribers : asyncSubscribers).add(registration);
+    }
+
+    // ==================== PUBLICATION ====================
+
+    /**
+     * Publie un kill (main thread)
+     */
+    public void publish(KillContext context) {
+        published.increment();
+
+        for (Registration registration : syncSubscribers) {
+            dispatch(registration, context);
+        }
+
+        if (!asyncSubscribers.isEmpty()) {
+            queue.offer(context);
+            queued.incrementAndGet();
+        }
+    }
+
+    /**
+     * Traite un micro-lot de kills en attente (thread asynchrone)
+     */
+    private void drain() {
+        int count = 0;
+        KillContext context;
+        while (count < MAX_BATCH_SIZE && (context = queue.poll()) != null) {
+            queued.decrementAndGet();
+            for (Registration registration : asyncSubscribers) {
+                dispatch(registration, context);
+            }
+            count++;
+        }
+
+        if (count > 0) {
+            batches.increment();
+            maxBatch.accumulate(count);
+        }
+    }
+
+    private void dispatch(Registration registration, KillContext context) {
+        if (!registration.interest.test(context)) return;
+
+        long start = System.nanoTime();
+        try {
+            registration.subscriber.onKill(context);
+        } catch (Exception e) {
+            registration.errors.increment();
+            plugin.log(Level.WARNING, "§e⚠ Erreur abonné kill '" + registration.name + "': " + e.getMessage());
+        }
+        long elapsed = System.nanoTime() - start;
+
+        registration.calls.increment();
+        registration.totalNanos.add(elapsed);
+        registration.maxNanos.accumulate(elapsed);
+    }
+
+    /**
+     * Arrête le drain et traite les kills restants
+     */
+    public void shutdown() {
+        drainTask.cancel();
+        while (!queue.isEmpty()) {
+            drain();
+        }
+    }
+
+    // ==================== MÉTRIQUES ====================
+
+    /**
+     * Obtient les statistiques du pipeline, abonnés triés par temps total
+     */
+    public String getStats() {
+        List<Registration> all = new ArrayList<>(syncSubscribers);
+        all.addAll(asyncSubscribers);
+        all.sort((a, b) -> Long.compare(b.totalNanos.sum(), a.totalNanos.sum()));
+
+        StringBuilder subscribers = new StringBuilder();
+        for (Registration registration : all) {
+            long calls = registration.calls.sum();
+            if (subscribers.length() > 0) subscribers.append(", ");
+            subscribers.append(String.format("%s[%s] %.1fms moy %.0fµs max %.1fms",
+                registration.name,
+                registration.phase == Phase.SYNC ? "S" : "A",
+                registration.totalNanos.sum() / 1_000_000.0,
+                calls > 0 ? registration.totalNanos.sum() / 1_000.0 / calls : 0,
+                registration.maxNanos.get() / 1_000_000.0));
+            long errors = registration.errors.sum();
+            if (errors > 0) {
+                subscribers.append(" (").append(errors).append(" erreurs)");
+            }
+        }
+
+        return String.format("Publiés: %d | File: %d | Lots: %d (max %d) | %s",
+            published.sum(), queued.get(), batches.sum(), maxBatch.get(),
+            subscribers.length() > 0 ? subscribers : "-");
+    }
+}
@@ -0,0 +1,354 @@
+package com.rinaorc.zombiez.scheduler;
+
+import com.rinaorc.zombiez.ZombieZPlugin;
+import com.rinaorc.zombiez.classes.ClassData;
+import com.rinaorc.zombiez.scheduler.EffectScheduler.Subsystem;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.Sound;
+import org.bukkit.World;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Budget de particules et de sons par joueur
+ *
+ * Tous les effets visuels/sonores passent par ce service plutôt que par
+ * World/Player#spawnParticle et #playSound:
+ * - Budget par joueur et par tick: au-delà, les particules ne sont plus envoyées à ce joueur
+ * - LOD par distance: quantité complète jusqu'à full-detail-distance, dégressive jusqu'à
+ *   max-distance (au plus 32 blocs, la portée vanilla des particules non forcées), rien au-delà
+ * - Dédoublonnage: un effet identique (même particule, position, quantité et données, même tick)
+ *   n'est envoyé qu'une fois
+ * - Effets réduits (préférence joueur): budget et distances réduits
+ * - Métriques par sous-système: émis, abandonnés, fusionnés
+ *
+ * Main thread uniquement.
+ */
+public class EffectBudget implements Listener {
+
+    private static final Subsystem[] SUBSYSTEMS = Subsystem.values();
+
+    // Précision du dédoublonnage (1/8 de bloc): les formes dessinées restent intactes
+    private static final double DEDUP_PRECISION = 8.0;
+
+    // Portée vanilla: le serveur n'envoie pas les particules non forcées au-delà de 32 blocs
+    private static final double VANILLA_PARTICLE_RANGE = 32.0;
+
+    /**
+     * Clés de dédoublonnage: comparaison exacte, sans collision entre effets différents
+     * Les données sans equals (DustOptions) ne sont fusionnées que si c'est la même instance
+     */
+    private record ParticleKey(Particle particle, long x, long y, long z, int count, Object data) {}
+
+    private record SoundKey(Sound sound, int x, int y, int z) {}
+
+    /**
+     * État d'un joueur pour le tick courant
+     */
+    private static final class Viewer {
+        int tick = -1;
+        boolean reduced;
+        int particles;
+        int sounds;
+        final Set<Object> seen = new HashSet<>();
+    }
+
+    private final ZombieZPlugin plugin;
+    private final Map<UUID, Viewer> viewers = new HashMap<>();
+
+    // Configuration
+    private int particleBudget = 400;
+    private int soundBudget = 32;
+    private double fullDetailDistance = 24.0;
+    private double maxDistance = VANILLA_PARTICLE_RANGE;
+    private double reducedFactor = 0.25;
+
+    // Métriques par sous-système
+    private final long[] particlesEmitted = new long[SUBSYSTEMS.length];
+    private final long[] particlesDropped = new long[SUBSYSTEMS.length];
+    private final long[] particlesMerged = new long[SUBSYSTEMS.length];
+    private final long[] soundsEmitted = new long[SUBSYSTEMS.length];
+    private final long[] soundsDropped = new long[SUBSYSTEMS.length];
+    private final long[] soundsMerged = new long[SUBSYSTEMS.length];
+
+    public EffectBudget(ZombieZPlugin plugin) {
+        this.plugin = plugin;
+        loadConfig();
+    }
+
+    /**
+     * Charge (ou recharge) la configuration du budget
+     */
+    public void loadConfig() {
+        FileConfiguration config = plugin.getConfigManager().getMainConfig();
+        particleBudget = Math.max(1, config.getInt("performance.effects.particle-budget-per-tick", 400));
+        soundBudget = Math.max(1, config.getInt("performance.effects.sound-budget-per-tick", 32));
+        fullDetailDistance = Math.max(1.0, config.getDouble("performance.effects.full-detail-distance", 24.0));
+        fullDetailDistance = Math.min(fullDetailDistance, VANILLA_PARTICLE_RANGE);
+        maxDistance = Math.min(VANILLA_PARTICLE_RANGE,
+            Math.max(fullDetailDistance, config.getDouble("performance.effects.max-distance", VANILLA_PARTICLE_RANGE)));
+        reducedFactor = Math.min(1.0, Math.max(0.05, config.getDouble("performance.effects.reduced-factor", 0.25)));
+    }
+
+    // ==================== PARTICULES ====================
+
+    /**
+     * Affiche une particule à tous les joueurs proches (sans dispersion, extra = 1, comme Bukkit)
+     */
+    public void spawn(Subsystem subsystem, Particle particle, Location location, int count) {
+        spawn(subsystem, particle, location, count, 0, 0, 0, 1.0, null);
+    }
+
+    /**
+     * Affiche une particule avec données à tous les joueurs proches (sans dispersion, extra = 1)
+     */
+    public <T> void spawn(Subsystem subsystem, Particle particle, Location location, int count, T data) {
+        spawn(subsystem, particle, location, count, 0, 0, 0, 1.0, data);
+    }
+
+    /**
+     * Affiche une particule à tous les joueurs proches (extra = 1, comme Bukkit)
+     */
+    public void spawn(Subsystem subsystem, Particle particle, Location location, int count,
+                      double offsetX, double offsetY, double offsetZ) {
+        spawn(subsystem, particle, location, count, offsetX, offsetY, offsetZ, 1.0, null);
+    }
+
+    /**
+     * Affiche une particule à tous les joueurs proches
+     */
+    public void spawn(Subsystem subsystem, Particle particle, Location location, int count,
+                      double offsetX, double offsetY, double offsetZ, double extra) {
+        spawn(subsystem, particle, location, count, offsetX, offsetY, offsetZ, extra, null);
+    }
+
+    /**
+     * Affiche une particule avec données à tous les joueurs proches (extra = 1, comme Bukkit)
+     */
+    public <T> void spawn(Subsystem subsystem, Particle particle, Location location, int count,
+                          double offsetX, double offsetY, double offsetZ, T data) {
+        spawn(subsystem, particle, location, count, offsetX, offsetY, offsetZ, 1.0, data);
+    }
+
+    /**
+     * Affiche une particule (avec données: DustOptions, BlockData...) à tous les joueurs proches
+     */
+    public <T> void spawn(Subsystem subsystem, Particle particle, Location location, int count,
+                          double offsetX, double offsetY, double offsetZ, double extra, T data) {
+        World world = location.getWorld();
+        if (world == null) return;
+        for (Player viewer : world.getPlayers()) {
+            spawn(subsystem, viewer, particle, location, count, offsetX, offsetY, offsetZ, extra, data);
+        }
+    }
+
+    /**
+     * Affiche une particule à un seul joueur (sans dispersion, extra = 1, comme Bukkit)
+     */
+    public void spawn(Subsystem subsystem, Player viewer, Particle particle, Location location, int count) {
+        spawn(subsystem, viewer, particle, location, count, 0, 0, 0, 1.0, null);
+    }
+
+    /**
+     * Affiche une particule avec données à un seul joueur (sans dispersion, extra = 1)
+     */
+    public <T> void spawn(Subsystem subsystem, Player viewer, Particle particle, Location location, int count, T data) {
+        spawn(subsystem, viewer, particle, location, count, 0, 0, 0, 1.0, data);
+    }
+
+    /**
+     * Affiche une particule à un seul joueur
+     */
+    public void spawn(Subsystem subsystem, Player viewer, Particle particle, Location location, int count,
+                      double offsetX, double offsetY, double offsetZ, double extra) {
+        spawn(subsystem, viewer, particle, location, count, offsetX, offsetY, offsetZ, extra, null);
+    }
+
+    /**
+     * Affiche une particule avec données à un seul joueur (extra = 1, comme Bukkit)
+     */
+    public <T> void spawn(Subsystem subsystem, Player viewer, Particle particle, Location location, int count,
+                          double offsetX, double offsetY, double offsetZ, T data) {
+        spawn(subsystem, viewer, particle, location, count, offsetX, offsetY, offsetZ, 1.0, data);
+    }
+
+    /**
+     * Affiche une particule (avec données) à un seul joueur
+     * count = 0 garde sa signification Bukkit (particule directionnelle, offsets = vitesse)
+     */
+    public <T> void spawn(Subsystem subsystem, Player viewer, Particle particle, Location location, int count,
+                          double offsetX, double offsetY, double offsetZ, double extra, T data) {
+        int s = subsystem.ordinal();
+        int requested = Math.max(1, count);
+
+        if (!viewer.getWorld().equals(location.getWorld())) return;
+
+        Viewer state = state(viewer);
+        double distanceSq = viewer.getLocation().distanceSquared(location);
+        double full = state.reduced ? fullDetailDistance * 0.5 : fullDetailDistance;
+        double max = state.reduced ? maxDistance * 0.5 : maxDistance;
+
+        // LOD par distance
+        if (distanceSq > max * max) {
+            particlesDropped[s] += requested;
+            return;
+        }
+        int scaled = requested;
+        if (count > 1 && distanceSq > full * full) {
+            double distance = Math.sqrt(distanceSq);
+            scaled = Math.max(1, (int) Math.round(count * (1.0 - (distance - full) / (max - full))));
+        }
+        if (state.reduced && count > 1) {
+            scaled = Math.max(1, (int) (scaled * reducedFactor));
+        }
+
+        // Dédoublonnage
+        if (!state.seen.add(particleKey(particle, location, count, data))) {
+            particlesMerged[s] += requested;
+            return;
+        }
+
+        // Budget du tick
+        int budget = state.reduced ? Math.max(1, (int) (particleBudget * reducedFactor)) : particleBudget;
+        int remaining = budget - state.particles;
+        if (remaining <= 0) {
+            particlesDropped[s] += requested;
+            return;
+        }
+        if (scaled > remaining) {
+            scaled = remaining;
+        }
+
+        viewer.spawnParticle(particle, location, count > 0 ? scaled : 0, offsetX, offsetY, offsetZ, extra, data);
+        state.particles += scaled;
+        particlesEmitted[s] += scaled;
+        particlesDropped[s] += requested - scaled;
+    }
+
+    // ==================== SONS ====================
+
+    /**
+     * Joue un son à tous les joueurs qui peuvent l'entendre
+     */
+    public void playSound(Subsystem subsystem, Location location, Sound sound, float volume, float pitch) {
+        World world = location.getWorld();
+        if (world == null) return;
+        for (Player viewer : world.getPlayers()) {
+            playSound(subsystem, viewer, location, sound, volume, pitch);
+        }
+    }
+
+    /**
+     * Joue un son à un seul joueur
+     */
+    public void playSound(Subsystem subsystem, Player viewer, Location location, Sound sound, float volume, float pitch) {
+        int s = subsystem.ordinal();
+        if (!viewer.getWorld().equals(location.getWorld())) return;
+
+        // Au-delà de cette distance le client ne l'entendrait pas
+        double audible = 16.0 * Math.max(1.0f, volume);
+        if (viewer.getLocation().distanceSquared(location) > audible * audible) {
+            soundsDropped[s]++;
+            return;
+        }
+
+        Viewer state = state(viewer);
+        if (!state.seen.add(soundKey(sound, location))) {
+            soundsMerged[s]++;
+            return;
+        }
+
+        int budget = state.reduced ? Math.max(1, (int) (soundBudget * reducedFactor)) : soundBudget;
+        if (state.sounds >= budget) {
+            soundsDropped[s]++;
+            return;
+        }
+
+        viewer.playSound(location, sound, volume, pitch);
+        state.sounds++;
+        soundsEmitted[s]++;
+    }
+
+    // ==================== ÉTAT JOUEUR ====================
+
+    private Viewer state(Player viewer) {
+        Viewer state = viewers.computeIfAbsent(viewer.getUniqueId(), k -> new Viewer());
+        int tick = Bukkit.getCurrentTick();
+        if (state.tick != tick) {
+            state.tick = tick;
+            state.particles = 0;
+            state.sounds = 0;
+            state.seen.clear();
+            ClassData data = plugin.getClassManager() != null
+                ? plugin.getClassManager().getLoadedClassData(viewer.getUniqueId()) : null;
+            state.reduced = data != null && data.isReducedEffects();
+        }
+        return state;
+    }
+
+    /**
+     * Force la relecture des préférences d'un joueur (après changement d'option)
+     */
+    public void invalidate(Player player) {
+        Viewer state = viewers.get(player.getUniqueId());
+        if (state != null) {
+            state.tick = -1;
+        }
+    }
+
+    private static ParticleKey particleKey(Particle particle, Location location, int count, Object data) {
+        return new ParticleKey(particle,
+            (long) Math.floor(location.getX() * DEDUP_PRECISION),
+            (long) Math.floor(location.getY() * DEDUP_PRECISION),
+            (long) Math.floor(location.getZ() * DEDUP_PRECISION),
+            count, data);
+    }
+
+    private static SoundKey soundKey(Sound sound, Location location) {
+        return new SoundKey(sound, location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        viewers.remove(event.getPlayer().getUniqueId());
+    }
+
+    // ==================== MÉTRIQUES ====================
+
+    /**
+     * Obtient les statistiques du budget d'effets par sous-système
+     */
+    public String getStats() {
+        long emitted = 0, dropped = 0, merged = 0;
+        for (int i = 0; i < SUBSYSTEMS.length; i++) {
+            emitted += particlesEmitted[i];
+            dropped += particlesDropped[i];
+            merged += particlesMerged[i];
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Particules: %d émises, %d abandonnées, %d fusionnées | Joueurs: %d",
+            emitted, dropped, merged, viewers.size()));
+        for (Subsystem subsystem : SUBSYSTEMS) {
+            int i = subsystem.ordinal();
+            if (particlesEmitted[i] == 0 && particlesDropped[i] == 0 && particlesMerged[i] == 0
+                    && soundsEmitted[i] == 0 && soundsDropped[i] == 0 && soundsMerged[i] == 0) continue;
+            sb.append(String.format(" | %s: %d/%d/%d part, %d/%d/%d sons",
+                subsystem.name(), particlesEmitted[i], particlesDropped[i], particlesMerged[i],
+                soundsEmitted[i], soundsDropped[i], soundsMerged[i]));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,490 @@
+package com.rinaorc.zombiez.scheduler;
+
+import com.rinaorc.zombiez.ZombieZPlugin;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Level;
+
+/**
+ * Planificateur central des effets courts (talents, pets, boss, animations)
+ *
+ * Une seule tâche Bukkit (1 tick) fait avancer une roue temporelle hiérarchique:
+ * - Niveau 0: 256 cases de 1 tick
+ * - Niveau 1: 64 cases de 256 ticks
+ * - Niveau 2: 64 cases de 16384 ticks
+ * - Débordement: au-delà (~14h), revérifié à chaque cascade du niveau 2
+ * Planifier, annuler et exécuter sont en O(1); les noeuds de la roue sont recyclés.
+ *
+ * Fonctionnalités:
+ * - Annulation par propriétaire (joueur/entité) à la déconnexion ou à la mort
+ * - Comptabilité CPU par sous-système
+ * - Budget par tick: les effets qui dépassent sont reportés au tick suivant (exécutés en premier)
+ *
+ * Main thread uniquement.
+ */
+public class EffectScheduler implements Listener {
+
+    /**
+     * Sous-systèmes suivis pour la comptabilité CPU
+     */
+    public enum Subsystem {
+        TALENTS,
+        PETS,
+        COMBAT,
+        BOSSES,
+        CONSUMABLES,
+        JOURNEY,
+        WEATHER,
+        OTHER
+    }
+
+    // Géométrie de la roue
+    private static final int L0_SIZE = 256;
+    private static final int L1_SIZE = 64;
+    private static final int L2_SIZE = 64;
+    private static final int L1_SHIFT = 8;
+    private static final int L2_SHIFT = 14;
+    private static final long L1_SPAN = 1L << L1_SHIFT;
+    private static final long L2_SPAN = 1L << L2_SHIFT;
+    private static final long WHEEL_SPAN = 1L << 20;
+
+    // Taille max du pool de noeuds recyclés
+    private static final int MAX_POOL_SIZE = 4096;
+
+    private static final Subsystem[] SUBSYSTEMS = Subsystem.values();
+
+    /**
+     * Noeud de la roue: lien entre une tâche et sa case (listes doublement chaînées intrusives)
+     */
+    static final class Node {
+        EffectTask task;
+        Subsystem subsystem;
+        UUID owner;
+        long due;
+        long period;
+
+        // Case de la roue (null si en cours d'exécution ou reporté)
+        Node[] bucket;
+        int bucketIndex;
+        Node prev;
+        Node next;
+
+        // Liste des tâches du même propriétaire
+        Node ownerPrev;
+        Node ownerNext;
+
+        boolean deferred;
+    }
+
+    private final ZombieZPlugin plugin;
+
+    private final Node[] level0 = new Node[L0_SIZE];
+    private final Node[] level1 = new Node[L1_SIZE];
+    private final Node[] level2 = new Node[L2_SIZE];
+    private final Node[] overflow = new Node[1];
+
+    private final ArrayDeque<Node> deferred = new ArrayDeque<>();
+    private final ArrayDeque<Node> pool = new ArrayDeque<>();
+
+    // Propriétaire -> tête de la liste de ses tâches
+    private final Map<UUID, Node> ownerHeads = new HashMap<>();
+
+    private long currentTick = 0;
+    private long budgetNanos;
+    private BukkitTask tickTask;
+
+    // Comptabilité par sous-système
+    private final long[] subsystemNanos = new long[SUBSYSTEMS.length];
+    private final long[] subsystemRuns = new long[SUBSYSTEMS.length];
+    private final long[] subsystemDeferrals = new long[SUBSYSTEMS.length];
+    private final int[] subsystemActive = new int[SUBSYSTEMS.length];
+
+    @Getter
+    private long overBudgetTicks = 0;
+    @Getter
+    private long peakTickNanos = 0;
+
+    public EffectScheduler(ZombieZPlugin plugin) {
+        this.plugin = plugin;
+        loadConfig();
+        this.tickTask = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    /**
+     * Charge le budget par tick depuis config.yml
+     */
+    public void loadConfig() {
+        double budgetMs = 5.0;
+        var config = plugin.getConfigManager() != null ? plugin.getConfigManager().getMainConfig() : null;
+        if (config != null) {
+            budgetMs = config.getDouble("performance.effect-tick-budget-ms", 5.0);
+        }
+        this.budgetNanos = (long) (Math.max(0.5, budgetMs) * 1_000_000L);
+    }
+
+    // ==================== PLANIFICATION ====================
+
+    /**
+     * Planifie une tâche (utiliser EffectTask.runTaskTimer / runTaskLater)
+     *
+     * @param period 0 pour une exécution unique
+     */
+    void schedule(EffectTask task, Subsystem subsystem, UUID owner, long delay, long period) {
+        if (!Bukkit.isPrimaryThread()) {
+            throw new IllegalStateException("EffectTask doit être planifiée depuis le main thread");
+        }
+        if (task.node != null) {
+            throw new IllegalStateException("EffectTask déjà planifiée");
+        }
+        if (tickTask == null) {
+            // Planificateur arrêté (désactivation du plugin)
+            task.cancelled = true;
+            return;
+        }
+
+        Node node = pool.poll();
+        if (node == null) {
+            node = new Node();
+        }
+        node.task = task;
+        node.subsystem = subsystem != null ? subsystem : Subsystem.OTHER;
+        node.owner = owner;
+        node.period = period;
+        // Comme Bukkit: un délai de 0 s'exécute au prochain tick
+        node.due = currentTick + Math.max(1L, delay);
+
+        task.node = node;
+        task.scheduler = this;
+
+        if (owner != null) {
+            linkOwner(node);
+        }
+        subsystemActive[node.subsystem.ordinal()]++;
+        insert(node);
+    }
+
+    /**
+     * Planifie une action unique (équivalent de runTaskLater)
+     */
+    public EffectTask runLater(Subsystem subsystem, UUID owner, long delay, Runnable action) {
+        EffectTask task = new EffectTask() {
+            @Override
+            public void run() {
+                action.run();
+            }
+        };
+        schedule(task, subsystem, owner, delay, 0L);
+        return task;
+    }
+
+    /**
+     * Annule une tâche (appelé par EffectTask.cancel)
+     */
+    void cancel(EffectTask task) {
+        Node node = task.node;
+        if (node == null) return;
+
+        if (node.bucket != null) {
+            unlink(node);
+            release(node);
+        }
+        // En cours d'exécution ou reportée: libérée après run() ou au dépilement
+    }
+
+    /**
+     * Annule toutes les tâches d'un propriétaire
+     * @return nombre de tâches annulées
+     */
+    public int cancelOwner(UUID owner) {
+        Node node = ownerHeads.get(owner);
+        int count = 0;
+        while (node != null) {
+            Node next = node.ownerNext;
+            node.task.cancelled = true;
+            if (node.bucket != null) {
+                unlink(node);
+                release(node);
+            } else {
+                unlinkOwner(node);
+            }
+            count++;
+            node = next;
+        }
+        return count;
+    }
+
+    // ==================== ROUE ====================
+
+    private void insert(Node node) {
+        long delta = node.due - currentTick;
+        if (delta < L0_SIZE) {
+            link(node, level0, (int) (node.due & (L0_SIZE - 1)));
+        } else if (delta < L2_SPAN) {
+            link(node, level1, (int) ((node.due >>> L1_SHIFT) & (L1_SIZE - 1)));
+        } else if (delta < WHEEL_SPAN) {
+            link(node, level2, (int) ((node.due >>> L2_SHIFT) & (L2_SIZE - 1)));
+        } else {
+            link(node, overflow, 0);
+        }
+    }
+
+    private void link(Node node, Node[] bucket, int index) {
+        Node head = bucket[index];
+        node.bucket = bucket;
+        node.bucketIndex = index;
+        node.prev = null;
+        node.next = head;
+        if (head != null) {
+            head.prev = node;
+        }
+        bucket[index] = node;
+    }
+
+    private void unlink(Node node) {
+        if (node.prev != null) {
+            node.prev.next = node.next;
+        } else {
+            node.bucket[node.bucketIndex] = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        }
+        node.bucket = null;
+        node.prev = null;
+        node.next = null;
+    }
+
+    /**
+     * Redescend les noeuds d'une case vers les niveaux inférieurs
+     */
+    private void cascade(Node[] bucket, int index) {
+        Node node = bucket[index];
+        bucket[index] = null;
+        while (node != null) {
+            Node next = node.next;
+            node.bucket = null;
+            node.prev = null;
+            node.next = null;
+            insert(node);
+            node = next;
+        }
+    }
+
+    private void linkOwner(Node node) {
+        Node head = ownerHeads.get(node.owner);
+        node.ownerPrev = null;
+        node.ownerNext = head;
+        if (head != null) {
+            head.ownerPrev = node;
+        }
+        ownerHeads.put(node.owner, node);
+    }
+
+    private void unlinkOwner(Node node) {
+        if (node.owner == null) return;
+        if (node.ownerPrev != null) {
+            node.ownerPrev.ownerNext = node.ownerNext;
+        } else if (node.ownerNext != null) {
+            ownerHeads.put(node.owner, node.ownerNext);
+        } else {
+            ownerHeads.remove(node.owner);
+        }
+        if (node.ownerNext != null) {
+            node.ownerNext.ownerPrev = node.ownerPrev;
+        }
+        node.ownerPrev = null;
+        node.ownerNext = null;
+        node.owner = null;
+    }
+
+    /**
+     * Libère un noeud terminé ou annulé et le remet dans le pool
+     */
+    private void release(Node node) {
+        unlinkOwner(node);
+        subsystemActive[node.subsystem.ordinal()]--;
+        node.task.node = null;
+        node.task = null;
+        node.subsystem = null;
+        node.deferred = false;
+        if (pool.size() < MAX_POOL_SIZE) {
+            pool.add(node);
+        }
+    }
+
+    // ==================== EXÉCUTION ====================
+
+    private void tick() {
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+        currentTick++;
+
+        // Cascades: débordement et niveau 2 toutes les 16384 ticks, niveau 1 toutes les 256
+        if ((currentTick & (L1_SPAN - 1)) == 0) {
+            if ((currentTick & (L2_SPAN - 1)) == 0) {
+                cascade(overflow, 0);
+                cascade(level2, (int) ((currentTick >>> L2_SHIFT) & (L2_SIZE - 1)));
+            }
+            cascade(level1, (int) ((currentTick >>> L1_SHIFT) & (L1_SIZE - 1)));
+        }
+
+        // Tâches reportées au tick précédent: toujours en premier
+        long now = start;
+        boolean ranAny = false;
+        int pending = deferred.size();
+        while (pending-- > 0) {
+            if (ranAny && now >= deadline) break;
+            Node node = deferred.poll();
+            node.deferred = false;
+            now = runNode(node, now);
+            ranAny = true;
+        }
+
+        // Case du tick courant
+        int index = (int) (currentTick & (L0_SIZE - 1));
+        Node node;
+        while ((node = level0[index]) != null) {
+            unlink(node);
+            if (ranAny && now >= deadline) {
+                node.deferred = true;
+                deferred.add(node);
+                subsystemDeferrals[node.subsystem.ordinal()]++;
+                continue;
+            }
+            now = runNode(node, now);
+            ranAny = true;
+        }
+
+        long elapsed = now - start;
+        if (elapsed > peakTickNanos) {
+            peakTickNanos = elapsed;
+        }
+        if (!deferred.isEmpty()) {
+            overBudgetTicks++;
+        }
+    }
+
+    /**
+     * Exécute une tâche puis la replanifie ou la libère
+     * @return l'heure (nanoTime) de fin d'exécution
+     */
+    private long runNode(Node node, long startNanos) {
+        EffectTask task = node.task;
+        if (task.cancelled) {
+            release(node);
+            return startNanos;
+        }
+
+        try {
+            task.run();
+        } catch (Throwable t) {
+            task.cancelled = true;
+            plugin.getLogger().log(Level.WARNING, "Erreur dans un effet (" + node.subsystem + "), tâche annulée", t);
+        }
+
+        long end = System.nanoTime();
+        int sub = node.subsystem.ordinal();
+        subsystemNanos[sub] += end - startNanos;
+        subsystemRuns[sub]++;
+
+        if (task.cancelled || node.period <= 0) {
+            release(node);
+        } else {
+            node.due = currentTick + node.period;
+            insert(node);
+        }
+        return end;
+    }
+
+    // ==================== ÉVÉNEMENTS ====================
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        cancelOwner(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityDeath(EntityDeathEvent event) {
+        cancelOwner(event.getEntity().getUniqueId());
+    }
+
+    // ==================== CYCLE DE VIE ====================
+
+    /**
+     * Arrête la roue et annule toutes les tâches
+     */
+    public void shutdown() {
+        if (tickTask != null) {
+            tickTask.cancel();
+            tickTask = null;
+        }
+        cancelAll(level0);
+        cancelAll(level1);
+        cancelAll(level2);
+        cancelAll(overflow);
+        for (Node node : deferred) {
+            node.task.cancelled = true;
+            release(node);
+        }
+        deferred.clear();
+        ownerHeads.clear();
+        pool.clear();
+    }
+
+    private void cancelAll(Node[] bucket) {
+        for (int i = 0; i < bucket.length; i++) {
+            Node node = bucket[i];
+            bucket[i] = null;
+            while (node != null) {
+                Node next = node.next;
+                node.bucket = null;
+                node.prev = null;
+                node.next = null;
+                node.task.cancelled = true;
+                release(node);
+                node = next;
+            }
+        }
+    }
+
+    // ==================== STATISTIQUES ====================
+
+    /**
+     * Nombre de tâches actives (planifiées ou reportées)
+     */
+    public int getActiveCount() {
+        int total = 0;
+        for (int active : subsystemActive) {
+            total += active;
+        }
+        return total;
+    }
+
+    /**
+     * Obtient les statistiques du planificateur
+     */
+    public String getStats() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Actives: %d | Reportées: %d | Ticks hors budget: %d | Pic: %.2fms",
+            getActiveCount(), deferred.size(), overBudgetTicks, peakTickNanos / 1_000_000.0));
+        for (Subsystem subsystem : SUBSYSTEMS) {
+            int i = subsystem.ordinal();
+            if (subsystemRuns[i] == 0 && subsystemActive[i] == 0) continue;
+            sb.append(String.format(" | %s: %d actives, %d exec, %.1fms CPU, %d reports",
+                subsystem.name(), subsystemActive[i], subsystemRuns[i],
+                subsystemNanos[i] / 1_000_000.0, subsystemDeferrals[i]));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,70 @@
+package com.rinaorc.zombiez.scheduler;
+
+import com.rinaorc.zombiez.ZombieZPlugin;
+
+import java.util.UUID;
+
+/**
+ * Tâche courte planifiée sur la roue de l'EffectScheduler
+ *
+ * Remplace BukkitRunnable pour les effets (talents, pets, boss, animations):
+ * même usage (classe anonyme avec état, cancel() depuis run()), mais sans
+ * créer de tâche Bukkit. Main thread uniquement.
+ *
+ * Exemple:
+ * <pre>
+ * new EffectTask() {
+ *     int ticks = 0;
+ *     public void run() {
+ *         if (++ticks > 20) { cancel(); return; }
+ *         ...
+ *     }
+ * }.runTaskTimer(EffectScheduler.Subsystem.TALENTS, player.getUniqueId(), 0L, 1L);
+ * </pre>
+ */
+public abstract class EffectTask implements Runnable {
+
+    // Noeud de la roue (null si la tâche n'est pas planifiée)
+    EffectScheduler.Node node;
+    EffectScheduler scheduler;
+    boolean cancelled = false;
+
+    /**
+     * Annule la tâche (peut être appelé depuis run())
+     */
+    public void cancel() {
+        if (cancelled) return;
+        cancelled = true;
+        if (scheduler != null) {
+            scheduler.cancel(this);
+        }
+    }
+
+    /**
+     * Vérifie si la tâche a été annulée
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Planifie la tâche en répétition
+     *
+     * @param subsystem sous-système pour le budget et les statistiques
+     * @param owner     joueur ou entité propriétaire (annulation à la déconnexion/mort), peut être null
+     * @param delay     délai avant la première exécution (ticks)
+     * @param period    période entre deux exécutions (ticks, minimum 1)
+     */
+    public EffectTask runTaskTimer(EffectScheduler.Subsystem subsystem, UUID owner, long delay, long period) {
+        ZombieZPlugin.getInstance().getEffectScheduler().schedule(this, subsystem, owner, delay, Math.max(1L, period));
+        return this;
+    }
+
+    /**
+     * Planifie une exécution unique
+     */
+    public EffectTask runTaskLater(EffectScheduler.Subsystem subsystem, UUID owner, long delay) {
+        ZombieZPlugin.getInstance().getEffectScheduler().schedule(this, subsystem, owner, delay, 0L);
+        return this;
+    }
+}
@@ -1,6 +1,7 @@
 package com.rinaorc.zombiez.weather;
 
 import com.rinaorc.zombiez.ZombieZPlugin;
+import com.rinaorc.zombiez.scheduler.EffectScheduler.Subsystem;
 import lombok.Getter;
 import org.bukkit.*;
 import org.bukkit.attribute.Attribute;
@@ -141,9 +142,9 @@ public class GiantInvasionEffect extends WeatherEffect {
 
         // Effets visuels sur le zombie
         Location loc = zombie.getLocation();
-        zombie.getWorld().spawnParticle(Particle.EXPLOSION, loc, 3, 0.5, 0.5, 0.5, 0);
-        zombie.getWorld().spawnParticle(Particle.CLOUD, loc, 10, 1, 1, 1, 0.1);
-        zombie.getWorld().playSound(loc, Sound.ENTITY_WITHER_SPAWN, 0.3f, 0.5f);
+        plugin.getEffectBudget().spawn(Subsystem.WEATHER, Particle.EXPLOSION, loc, 3, 0.5, 0.5, 0.5, 0);
+        plugin.getEffectBudget().spawn(Subsystem.WEATHER, Particle.CLOUD, loc, 10, 1, 1, 1, 0.1);
+        plugin.getEffectBudget().playSound(Subsystem.WEATHER, loc, Sound.ENTITY_WITHER_SPAWN, 0.3f, 0.5f);
 
         totalMobsEnlarged++;
     }
@@ -164,8 +165,8 @@ public class GiantInvasionEffect extends WeatherEffect {
 
         // Effets visuels de rétrécissement
         Location loc = zombie.getLocation();
-        zombie.getWorld().spawnParticle(Particle.POOF, loc, 15, 1, 1, 1, 0.05);
-        zombie.getWorld().playSound(loc, Sound.ENTITY_ENDERMAN_TELEPORT, 0.3f, 1.5f);
+        plugin.getEffectBudget().spawn(Subsystem.WEATHER, Particle.POOF, loc, 15, 1, 1, 1, 0.05);
+        plugin.getEffectBudget().playSound(Subsystem.WEATHER, loc, Sound.ENTITY_ENDERMAN_TELEPORT, 0.3f, 1.5f);
     }
 
     /**
@@ -234,7 +235,7 @@ public class GiantInvasionEffect extends WeatherEffect {
         Location playerLoc = player.getLocation();
 
         // Son de tremblement de sol
-        player.playSound(playerLoc, Sound.ENTITY_RAVAGER_STEP, 0.8f, 0.5f);
+        plugin.getEffectBudget().playSound(Subsystem.WEATHER, player, playerLoc, Sound.ENTITY_RAVAGER_STEP, 0.8f, 0.5f);
 
         // Particules au sol autour du joueur
         for (int i = 0; i < 8; i++) {
@@ -243,13 +244,13 @@ public class GiantInvasionEffect extends WeatherEffect {
             double z = playerLoc.getZ() + Math.sin(angle) * 3;
             Location particleLoc = new Location(playerLoc.getWorld(), x, playerLoc.getY(), z);
 
-            player.spawnParticle(Particle.BLOCK, particleLoc, 5, 0.2, 0.1, 0.2, 0,
+            plugin.getEffectBudget().spawn(Subsystem.WEATHER, player, Particle.BLOCK, particleLoc, 5, 0.2, 0.1, 0.2, 0,
                 Material.DIRT.createBlockData());
         }
 
         // Son distant d'explosion occasionnel
         if (random.nextDouble() < 0.3) {
-            player.playSound(playerLoc, Sound.ENTITY_GENERIC_EXPLODE, 0.4f, 0.8f);
+            plugin.getEffectBudget().playSound(Subsystem.WEATHER, player, playerLoc, Sound.ENTITY_GENERIC_EXPLODE, 0.4f, 0.8f);
         }
     }
 
@@ -302,10 +303,10 @@ public class GiantInvasionEffect extends WeatherEffect {
                 float volume = (float) (0.3 + (scale / 10.0) * 0.5);
                 float pitch = (float) (1.0 - (scale / 10.0) * 0.4);
 
-                player.playSound(giantLoc, Sound.ENTITY_IRON_GOLEM_STEP, volume, pitch);
+                plugin.getEffectBudget().playSound(Subsystem.WEATHER, player, giantLoc, Sound.ENTITY_IRON_GOLEM_STEP, volume, pitch);
 
                 // Particules de pas
-                player.spawnParticle(Particle.BLOCK, giantLoc, 8, 0.3, 0.1, 0.3, 0,
+                plugin.getEffectBudget().spawn(Subsystem.WEATHER, player, Particle.BLOCK, giantLoc, 8, 0.3, 0.1, 0.3, 0,
                     Material.STONE.createBlockData());
             }
         }
@@ -322,7 +323,7 @@ public class GiantInvasionEffect extends WeatherEffect {
             double z = loc.getZ() + (random.nextDouble() - 0.5) * 30;
 
             Location particleLoc = new Location(loc.getWorld(), x, y, z);
-            player.spawnParticle(Particle.SMOKE, particleLoc, 1, 0.5, 0.5, 0.5, 0.01);
+            plugin.getEffectBudget().spawn(Subsystem.WEATHER, player, Particle.SMOKE, particleLoc, 1, 0.5, 0.5, 0.5, 0.01);
         }
     }
 
@@ -336,7 +337,7 @@ public class GiantInvasionEffect extends WeatherEffect {
 
             // Couleur terre/brun
             Color dirtColor = Color.fromRGB(139, 90, 43);
-            player.spawnParticle(Particle.DUST, groundLoc, 2, 0.2, 0.1, 0.2, 0,
+            plugin.getEffectBudget().spawn(Subsystem.WEATHER, player, Particle.DUST, groundLoc, 2, 0.2, 0.1, 0.2, 0,
                 new Particle.DustOptions(dirtColor, 1.5f));
         }
 
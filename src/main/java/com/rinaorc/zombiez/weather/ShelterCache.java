@@ -0,0 +1,268 @@
+package com.rinaorc.zombiez.weather;
+
+import org.bukkit.HeightMap;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockBurnEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Cache de détection d'abri pour la météo dangereuse
+ *
+ * Un joueur est à l'abri s'il a un bloc solide dans les 8 blocs au-dessus de sa tête.
+ * - Par chunk: hauteur du "toit" de chaque colonne (plus haut bloc solide), calculée
+ *   à la demande depuis la heightmap et invalidée sur pose/casse/explosion et chargement du chunk
+ * - Par joueur: résultat mémorisé tant que le joueur ne change pas de bloc
+ *   (ou que la colonne de son chunk n'est pas invalidée)
+ *
+ * Le scan des 8 blocs n'est fait que si le toit de la colonne est plus haut que 8 blocs
+ * (arbres hauts, grottes).
+ *
+ * Main thread uniquement.
+ */
+public class ShelterCache implements Listener {
+
+    // Hauteur max d'un abri au-dessus du joueur
+    private static final int SHELTER_HEIGHT = 8;
+    // Descente max depuis la surface pour trouver le toit d'une colonne (océans, lacs)
+    private static final int MAX_ROOF_SCAN = 32;
+    // Filet de sécurité pour les changements de blocs non couverts par les événements
+    private static final long ROOF_TTL_MS = 30_000;
+
+    private static final short UNKNOWN = Short.MIN_VALUE;
+
+    /**
+     * Toits des 256 colonnes d'un chunk
+     * ceiling[i]: aucun bloc solide au-dessus de cette hauteur
+     * exact[i]: le bloc à cette hauteur est solide (sinon simple borne, toit plus bas inconnu)
+     */
+    private static final class ChunkRoof {
+        final short[] ceiling = new short[256];
+        final boolean[] exact = new boolean[256];
+        long builtAt;
+        int version;
+
+        ChunkRoof() {
+            reset();
+        }
+
+        void reset() {
+            Arrays.fill(ceiling, UNKNOWN);
+            builtAt = System.currentTimeMillis();
+            version++;
+        }
+    }
+
+    /**
+     * Dernier résultat connu pour un joueur
+     */
+    private static final class PlayerShelter {
+        UUID worldId;
+        int x, y, z;
+        ChunkRoof roof;
+        int roofVersion;
+        boolean sheltered;
+    }
+
+    private final Map<UUID, Map<Long, ChunkRoof>> roofs = new HashMap<>();
+    private final Map<UUID, PlayerShelter> players = new HashMap<>();
+
+    // Métriques
+    private long lookups = 0;
+    private long playerHits = 0;
+    private long roofDecisions = 0;
+    private long scans = 0;
+    private long invalidations = 0;
+
+    /**
+     * Vérifie si un joueur est à l'abri
+     */
+    public boolean isSheltered(Player player) {
+        lookups++;
+
+        Location loc = player.getLocation();
+        World world = loc.getWorld();
+        int x = loc.getBlockX();
+        int y = loc.getBlockY();
+        int z = loc.getBlockZ();
+
+        ChunkRoof roof = getRoof(world, x >> 4, z >> 4);
+
+        PlayerShelter cached = players.get(player.getUniqueId());
+        if (cached != null && cached.x == x && cached.y == y && cached.z == z
+                && cached.roof == roof && cached.roofVersion == roof.version
+                && cached.worldId.equals(world.getUID())) {
+            playerHits++;
+            return cached.sheltered;
+        }
+
+        boolean sheltered = compute(world, roof, x, y, z);
+
+        if (cached == null) {
+            cached = new PlayerShelter();
+            players.put(player.getUniqueId(), cached);
+        }
+        cached.worldId = world.getUID();
+        cached.x = x;
+        cached.y = y;
+        cached.z = z;
+        cached.roof = roof;
+        cached.roofVersion = roof.version;
+        cached.sheltered = sheltered;
+        return sheltered;
+    }
+
+    private boolean compute(World world, ChunkRoof roof, int x, int y, int z) {
+        int column = ((z & 15) << 4) | (x & 15);
+        if (roof.ceiling[column] == UNKNOWN) {
+            computeColumn(world, roof, column, x, z);
+        }
+
+        int ceiling = roof.ceiling[column];
+        if (ceiling <= y) {
+            // Rien de solide au-dessus
+            roofDecisions++;
+            return false;
+        }
+        if (roof.exact[column] && ceiling <= y + SHELTER_HEIGHT) {
+            roofDecisions++;
+            return true;
+        }
+
+        // Toit trop haut (ou inconnu): un abri plus bas est possible
+        scans++;
+        for (int dy = 1; dy <= SHELTER_HEIGHT; dy++) {
+            if (world.getBlockAt(x, y + dy, z).getType().isSolid()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void computeColumn(World world, ChunkRoof roof, int column, int x, int z) {
+        // Au-dessus de WORLD_SURFACE il n'y a que de l'air
+        int top = world.getHighestBlockYAt(x, z, HeightMap.WORLD_SURFACE);
+        int bottom = Math.max(world.getMinHeight(), top - MAX_ROOF_SCAN);
+
+        for (int y = top; y >= bottom; y--) {
+            if (world.getBlockAt(x, y, z).getType().isSolid()) {
+                roof.ceiling[column] = (short) y;
+                roof.exact[column] = true;
+                return;
+            }
+        }
+
+        roof.ceiling[column] = (short) (bottom - 1);
+        roof.exact[column] = false;
+    }
+
+    private ChunkRoof getRoof(World world, int chunkX, int chunkZ) {
+        Map<Long, ChunkRoof> worldRoofs = roofs.computeIfAbsent(world.getUID(), k -> new HashMap<>());
+        ChunkRoof roof = worldRoofs.computeIfAbsent(chunkKey(chunkX, chunkZ), k -> new ChunkRoof());
+        if (System.currentTimeMillis() - roof.builtAt > ROOF_TTL_MS) {
+            roof.reset();
+        }
+        return roof;
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    // ==================== INVALIDATION ====================
+
+    private void invalidate(Block block) {
+        Map<Long, ChunkRoof> worldRoofs = roofs.get(block.getWorld().getUID());
+        if (worldRoofs == null) return;
+
+        ChunkRoof roof = worldRoofs.get(chunkKey(block.getX() >> 4, block.getZ() >> 4));
+        if (roof == null) return;
+
+        roof.ceiling[((block.getZ() & 15) << 4) | (block.getX() & 15)] = UNKNOWN;
+        roof.version++;
+        invalidations++;
+    }
+
+    private void invalidate(List<Block> blocks) {
+        for (Block block : blocks) {
+            invalidate(block);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        invalidate(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        invalidate(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBurn(BlockBurnEvent event) {
+        invalidate(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        invalidate(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        invalidate(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        Map<Long, ChunkRoof> worldRoofs = roofs.get(event.getWorld().getUID());
+        if (worldRoofs != null) {
+            worldRoofs.remove(chunkKey(event.getChunk().getX(), event.getChunk().getZ()));
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        Map<Long, ChunkRoof> worldRoofs = roofs.get(event.getWorld().getUID());
+        if (worldRoofs != null) {
+            worldRoofs.remove(chunkKey(event.getChunk().getX(), event.getChunk().getZ()));
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        players.remove(event.getPlayer().getUniqueId());
+    }
+
+    // ==================== MÉTRIQUES ====================
+
+    /**
+     * Obtient les statistiques du cache d'abris
+     */
+    public String getStats() {
+        int chunks = 0;
+        for (Map<Long, ChunkRoof> worldRoofs : roofs.values()) {
+            chunks += worldRoofs.size();
+        }
+        return String.format("Requêtes: %d | Cache joueur: %.1f%% | Toit: %d | Scans: %d | Chunks: %d | Invalidations: %d",
+            lookups, lookups > 0 ? playerHits * 100.0 / lookups : 0, roofDecisions, scans, chunks, invalidations);
+    }
+}
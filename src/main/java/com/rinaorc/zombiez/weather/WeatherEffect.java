@@ -1,6 +1,7 @@
 package com.rinaorc.zombiez.weather;
 
 import com.rinaorc.zombiez.ZombieZPlugin;
+import com.rinaorc.zombiez.scheduler.EffectScheduler.Subsystem;
 import lombok.Getter;
 import lombok.Setter;
 import org.bukkit.*;
@@ -178,7 +179,7 @@ public class WeatherEffect {
 
         // Jouer un son sinistre
         for (Player player : getAffectedPlayers()) {
-            player.playSound(player.getLocation(), Sound.AMBIENT_CAVE, 1.0f, 0.5f);
+            plugin.getEffectBudget().playSound(Subsystem.WEATHER, player, player.getLocation(), Sound.AMBIENT_CAVE, 1.0f, 0.5f);
         }
 
         // Démarrer la transition animée
@@ -206,7 +207,7 @@ public class WeatherEffect {
                 if (step % 10 == 0) {
                     for (Player player : getAffectedPlayers()) {
                         // Particules sombres
-                        player.spawnParticle(Particle.SMOKE,
+                        plugin.getEffectBudget().spawn(Subsystem.WEATHER, player, Particle.SMOKE,
                                 player.getLocation().add(0, 2, 0),
                                 10, 2, 1, 2, 0.02);
                     }
@@ -611,10 +612,10 @@ public class WeatherEffect {
             // Spawner pour le joueur uniquement (optimisation)
             // Gérer les particules qui nécessitent BlockData
             if (particle == Particle.FALLING_DUST) {
-                player.spawnParticle(particle, particleLoc, 1, 0, -0.1, 0, 0,
+                plugin.getEffectBudget().spawn(Subsystem.WEATHER, player, particle, particleLoc, 1, 0, -0.1, 0, 0,
                         org.bukkit.Material.SAND.createBlockData());
             } else {
-                player.spawnParticle(particle, particleLoc, 1, 0, -0.1, 0, 0);
+                plugin.getEffectBudget().spawn(Subsystem.WEATHER, player, particle, particleLoc, 1, 0, -0.1, 0, 0);
             }
         }
     }
@@ -628,7 +629,7 @@ public class WeatherEffect {
             case STORM -> {
                 // Flash d'éclair occasionnel
                 if (Math.random() < 0.03) {
-                    player.spawnParticle(Particle.FLASH, loc.clone().add(0, 20, 0), 1);
+                    plugin.getEffectBudget().spawn(Subsystem.WEATHER, player, Particle.FLASH, loc.clone().add(0, 20, 0), 1, 0, 0, 0, 0);
                 }
             }
             case BLOOD_MOON -> {
@@ -643,7 +644,7 @@ public class WeatherEffect {
                         (Math.random() - 0.5) * 15,
                         12 + Math.random() * 8,
                         (Math.random() - 0.5) * 15);
-                player.spawnParticle(Particle.DUST, skyLoc, 1, 0.5, 0.2, 0.5, 0,
+                plugin.getEffectBudget().spawn(Subsystem.WEATHER, player, Particle.DUST, skyLoc, 1, 0.5, 0.2, 0.5, 0,
                         new Particle.DustOptions(color, 1.5f));
             }
             case ACID_RAIN -> {
@@ -665,15 +666,15 @@ public class WeatherEffect {
             // FOG: Pas de particules supplémentaires, le fog de la BossBar suffit
             case SOLAR_BLESSING -> {
                 // Rayons de lumière dorés
-                player.spawnParticle(Particle.END_ROD, loc.clone().add(
+                plugin.getEffectBudget().spawn(Subsystem.WEATHER, player, Particle.END_ROD, loc.clone().add(
                         (Math.random() - 0.5) * 3, 3 + Math.random() * 2, (Math.random() - 0.5) * 3),
                         1, 0, -0.05, 0, 0);
             }
             case HARVEST_MOON -> {
                 // Particules de récolte dorées
                 if (Math.random() < 0.3) {
-                    player.spawnParticle(Particle.HAPPY_VILLAGER, loc.clone().add(
-                            (Math.random() - 0.5) * 4, 1 + Math.random(), (Math.random() - 0.5) * 4), 1);
+                    plugin.getEffectBudget().spawn(Subsystem.WEATHER, player, Particle.HAPPY_VILLAGER, loc.clone().add(
+                            (Math.random() - 0.5) * 4, 1 + Math.random(), (Math.random() - 0.5) * 4), 1, 0, 0, 0, 0);
                 }
             }
             default -> {
@@ -730,7 +731,7 @@ public class WeatherEffect {
 
             // Particules de taille variable pour un effet plus naturel
             float size = 2.0f + (float) (Math.random() * 1.5);
-            player.spawnParticle(Particle.DUST, fogLoc, 1, 0.3, 0.1, 0.3, 0,
+            plugin.getEffectBudget().spawn(Subsystem.WEATHER, player, Particle.DUST, fogLoc, 1, 0.3, 0.1, 0.3, 0,
                     new Particle.DustOptions(fogColor, size));
         }
 
@@ -748,7 +749,7 @@ public class WeatherEffect {
                     20 + (int) (Math.random() * 30),
                     20 + (int) (Math.random() * 30));
 
-            player.spawnParticle(Particle.DUST, highFogLoc, 1, 0.5, 0.3, 0.5, 0,
+            plugin.getEffectBudget().spawn(Subsystem.WEATHER, player, Particle.DUST, highFogLoc, 1, 0.5, 0.3, 0.5, 0,
                     new Particle.DustOptions(highFogColor, 1.5f));
         }
 
@@ -758,12 +759,12 @@ public class WeatherEffect {
                     (Math.random() - 0.5) * 8,
                     Math.random() * 3,
                     (Math.random() - 0.5) * 8);
-            player.spawnParticle(Particle.SMOKE, smokeLoc, 2, 0.2, 0.1, 0.2, 0.01);
+            plugin.getEffectBudget().spawn(Subsystem.WEATHER, player, Particle.SMOKE, smokeLoc, 2, 0.2, 0.1, 0.2, 0.01);
         }
 
         // Effet de lueur rouge sur le joueur (aura sinistre)
         if (Math.random() < 0.2) {
-            player.spawnParticle(Particle.DUST, loc.clone().add(0, 1, 0), 3, 0.4, 0.5, 0.4, 0,
+            plugin.getEffectBudget().spawn(Subsystem.WEATHER, player, Particle.DUST, loc.clone().add(0, 1, 0), 3, 0.4, 0.5, 0.4, 0,
                     new Particle.DustOptions(crimson, 0.8f));
         }
     }
@@ -796,7 +797,7 @@ public class WeatherEffect {
             }
 
             float size = 1.5f + (float) (Math.random() * 1.0);
-            player.spawnParticle(Particle.DUST, fogLoc, 1, 0.2, 0.1, 0.2, 0,
+            plugin.getEffectBudget().spawn(Subsystem.WEATHER, player, Particle.DUST, fogLoc, 1, 0.2, 0.1, 0.2, 0,
                     new Particle.DustOptions(fogColor, size));
         }
 
@@ -806,7 +807,7 @@ public class WeatherEffect {
                     (Math.random() - 0.5) * 6,
                     0.5 + Math.random(),
                     (Math.random() - 0.5) * 6);
-            player.spawnParticle(Particle.ITEM_SLIME, slimeLoc, 2, 0.1, 0.1, 0.1, 0);
+            plugin.getEffectBudget().spawn(Subsystem.WEATHER, player, Particle.ITEM_SLIME, slimeLoc, 2, 0.1, 0.1, 0.1, 0);
         }
     }
 
@@ -838,7 +839,7 @@ public class WeatherEffect {
             }
 
             float size = 2.0f + (float) (Math.random() * 1.5);
-            player.spawnParticle(Particle.DUST, fogLoc, 1, 0.3, 0.15, 0.3, 0,
+            plugin.getEffectBudget().spawn(Subsystem.WEATHER, player, Particle.DUST, fogLoc, 1, 0.3, 0.15, 0.3, 0,
                     new Particle.DustOptions(fogColor, size));
         }
 
@@ -848,12 +849,12 @@ public class WeatherEffect {
                     (Math.random() - 0.5) * 14,
                     3 + Math.random() * 5,
                     (Math.random() - 0.5) * 14);
-            player.spawnParticle(Particle.SNOWFLAKE, snowLoc, 1, 0.3, 0.2, 0.3, 0.02);
+            plugin.getEffectBudget().spawn(Subsystem.WEATHER, player, Particle.SNOWFLAKE, snowLoc, 1, 0.3, 0.2, 0.3, 0.02);
         }
 
         // Effet de givre autour du joueur
         if (Math.random() < 0.15) {
-            player.spawnParticle(Particle.SNOWFLAKE, loc.clone().add(0, 1, 0), 3, 0.5, 0.5, 0.5, 0.01);
+            plugin.getEffectBudget().spawn(Subsystem.WEATHER, player, Particle.SNOWFLAKE, loc.clone().add(0, 1, 0), 3, 0.5, 0.5, 0.5, 0.01);
         }
     }
 
@@ -885,7 +886,7 @@ public class WeatherEffect {
             }
 
             float size = 2.5f + (float) (Math.random() * 1.5);
-            player.spawnParticle(Particle.DUST, fogLoc, 1, 0.4, 0.2, 0.4, 0,
+            plugin.getEffectBudget().spawn(Subsystem.WEATHER, player, Particle.DUST, fogLoc, 1, 0.4, 0.2, 0.4, 0,
                     new Particle.DustOptions(fogColor, size));
         }
 
@@ -895,7 +896,7 @@ public class WeatherEffect {
                     (Math.random() - 0.5) * 8,
                     0.5,
                     (Math.random() - 0.5) * 8);
-            player.spawnParticle(Particle.DUST, whirlLoc, 5, 0.1, 0.8, 0.1, 0,
+            plugin.getEffectBudget().spawn(Subsystem.WEATHER, player, Particle.DUST, whirlLoc, 5, 0.1, 0.8, 0.1, 0,
                     new Particle.DustOptions(sand, 1.0f));
         }
     }
@@ -928,7 +929,7 @@ public class WeatherEffect {
             }
 
             float size = 1.8f + (float) (Math.random() * 1.2);
-            player.spawnParticle(Particle.DUST, fogLoc, 1, 0.3, 0.15, 0.3, 0,
+            plugin.getEffectBudget().spawn(Subsystem.WEATHER, player, Particle.DUST, fogLoc, 1, 0.3, 0.15, 0.3, 0,
                     new Particle.DustOptions(fogColor, size));
         }
 
@@ -938,7 +939,7 @@ public class WeatherEffect {
                     (Math.random() - 0.5) * 8,
                     Math.random() * 2,
                     (Math.random() - 0.5) * 8);
-            player.spawnParticle(Particle.CAMPFIRE_COSY_SMOKE, smokeLoc, 1, 0.1, 0.1, 0.1, 0.01);
+            plugin.getEffectBudget().spawn(Subsystem.WEATHER, player, Particle.CAMPFIRE_COSY_SMOKE, smokeLoc, 1, 0.1, 0.1, 0.1, 0.01);
         }
 
         // Braises occasionnelles
@@ -947,7 +948,7 @@ public class WeatherEffect {
                     (Math.random() - 0.5) * 6,
                     1 + Math.random() * 2,
                     (Math.random() - 0.5) * 6);
-            player.spawnParticle(Particle.LAVA, emberLoc, 1, 0, 0, 0, 0);
+            plugin.getEffectBudget().spawn(Subsystem.WEATHER, player, Particle.LAVA, emberLoc, 1, 0, 0, 0, 0);
         }
     }
 
@@ -992,7 +993,7 @@ public class WeatherEffect {
                 totalRegenGiven += (int) regenAmount;
 
                 // Effet visuel de régénération
-                player.spawnParticle(Particle.HEART, player.getLocation().add(0, 1.5, 0),
+                plugin.getEffectBudget().spawn(Subsystem.WEATHER, player, Particle.HEART, player.getLocation().add(0, 1.5, 0),
                         1, 0.2, 0.2, 0.2, 0);
             }
         }
@@ -1057,15 +1058,8 @@ public class WeatherEffect {
     }
 
     protected boolean isPlayerSheltered(Player player) {
-        Location loc = player.getLocation();
-
-        // Vérifier bloc solide au-dessus (optimisé: max 8 blocs)
-        for (int y = 1; y <= 8; y++) {
-            if (loc.clone().add(0, y, 0).getBlock().getType().isSolid()) {
-                return true;
-            }
-        }
-        return false;
+        // Bloc solide dans les 8 blocs au-dessus (toits par chunk + résultat par joueur en cache)
+        return plugin.getWeatherManager().getShelterCache().isSheltered(player);
     }
 
     protected double calculateReducedDamage(Player player, double baseDamage) {
@@ -1093,7 +1087,7 @@ public class WeatherEffect {
         float pitch = 0.9f + (float) (Math.random() * 0.2);
 
         for (Player player : cachedPlayers) {
-            player.playSound(player.getLocation(), type.getAmbientSound(), volume, pitch);
+            plugin.getEffectBudget().playSound(Subsystem.WEATHER, player, player.getLocation(), type.getAmbientSound(), volume, pitch);
         }
     }
 
@@ -1107,7 +1101,7 @@ public class WeatherEffect {
             player.sendTitle(title, subtitle, 20, 60, 20);
 
             if (type.getAmbientSound() != null) {
-                player.playSound(player.getLocation(), type.getAmbientSound(), 1.0f, 0.8f);
+                plugin.getEffectBudget().playSound(Subsystem.WEATHER, player, player.getLocation(), type.getAmbientSound(), 1.0f, 0.8f);
             }
 
             // Message détaillé
@@ -1167,7 +1161,7 @@ public class WeatherEffect {
                     10, 40, 20);
 
             player.sendMessage("§a§l☀ §7La météo §e" + type.getDisplayName() + " §7s'est dissipée.");
-            player.playSound(player.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 0.5f, 1.2f);
+            plugin.getEffectBudget().playSound(Subsystem.WEATHER, player, player.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 0.5f, 1.2f);
         }
     }
 
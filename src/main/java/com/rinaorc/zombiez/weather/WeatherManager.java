@@ -75,6 +75,10 @@ public class WeatherManager {
     // Monde cible (null = monde principal)
     private World targetWorld;
 
+    // Détection d'abri pour la météo dangereuse
+    @Getter
+    private final ShelterCache shelterCache = new ShelterCache();
+
     public WeatherManager(ZombieZPlugin plugin) {
         this.plugin = plugin;
         this.random = new Random();
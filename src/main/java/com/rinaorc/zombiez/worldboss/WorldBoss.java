@@ -3,6 +3,7 @@ package com.rinaorc.zombiez.worldboss;
 import com.rinaorc.zombiez.ZombieZPlugin;
 import com.rinaorc.zombiez.items.generator.ArmorTrimGenerator;
 import com.rinaorc.zombiez.items.types.Rarity;
+import com.rinaorc.zombiez.scheduler.EffectScheduler.Subsystem;
 import com.rinaorc.zombiez.worldboss.procedural.BossModifiers;
 import com.rinaorc.zombiez.worldboss.procedural.BossTrait;
 import lombok.Getter;
@@ -688,35 +689,35 @@ public abstract class WorldBoss {
             float size = modifiers.getParticleSize();
 
             if (ambient == Particle.DUST) {
-                world.spawnParticle(Particle.DUST, loc, 8, 0.6, 0.6, 0.6,
+                plugin.getEffectBudget().spawn(Subsystem.BOSSES, Particle.DUST, loc, 8, 0.6, 0.6, 0.6,
                     new Particle.DustOptions(primary, size));
             } else {
-                world.spawnParticle(ambient, loc, 8, 0.5, 0.5, 0.5, 0.02);
+                plugin.getEffectBudget().spawn(Subsystem.BOSSES, ambient, loc, 8, 0.5, 0.5, 0.5, 0.02);
             }
 
             // Particule secondaire basée sur les traits
             if (modifiers.hasTrait(BossTrait.BURNING)) {
-                world.spawnParticle(Particle.FLAME, loc, 5, 0.4, 0.4, 0.4, 0.02);
+                plugin.getEffectBudget().spawn(Subsystem.BOSSES, Particle.FLAME, loc, 5, 0.4, 0.4, 0.4, 0.02);
             }
             if (modifiers.hasTrait(BossTrait.FROZEN)) {
-                world.spawnParticle(Particle.SNOWFLAKE, loc, 8, 0.4, 0.4, 0.4, 0.01);
+                plugin.getEffectBudget().spawn(Subsystem.BOSSES, Particle.SNOWFLAKE, loc, 8, 0.4, 0.4, 0.4, 0.01);
             }
             if (modifiers.hasTrait(BossTrait.VENOMOUS)) {
-                world.spawnParticle(Particle.DUST, loc, 4, 0.3, 0.3, 0.3,
+                plugin.getEffectBudget().spawn(Subsystem.BOSSES, Particle.DUST, loc, 4, 0.3, 0.3, 0.3,
                     new Particle.DustOptions(Color.GREEN, 1.2f));
             }
             if (modifiers.hasTrait(BossTrait.CURSED)) {
-                world.spawnParticle(Particle.SOUL, loc, 3, 0.4, 0.4, 0.4, 0.02);
+                plugin.getEffectBudget().spawn(Subsystem.BOSSES, Particle.SOUL, loc, 3, 0.4, 0.4, 0.4, 0.02);
             }
         } else {
             // Fallback aux particules par type
             switch (type) {
-                case THE_BUTCHER -> world.spawnParticle(Particle.DUST, loc, 5,
+                case THE_BUTCHER -> plugin.getEffectBudget().spawn(Subsystem.BOSSES, Particle.DUST, loc, 5,
                     0.5, 0.5, 0.5, new Particle.DustOptions(Color.RED, 2f));
-                case SHADOW_UNSTABLE -> world.spawnParticle(Particle.SMOKE, loc, 10, 0.5, 0.5, 0.5, 0.02);
-                case PYROMANCER -> world.spawnParticle(Particle.FLAME, loc, 10, 0.5, 0.5, 0.5, 0.02);
-                case HORDE_QUEEN -> world.spawnParticle(Particle.WITCH, loc, 5, 0.5, 0.5, 0.5, 0);
-                case ICE_BREAKER -> world.spawnParticle(Particle.SNOWFLAKE, loc, 15, 0.5, 0.5, 0.5, 0.02);
+                case SHADOW_UNSTABLE -> plugin.getEffectBudget().spawn(Subsystem.BOSSES, Particle.SMOKE, loc, 10, 0.5, 0.5, 0.5, 0.02);
+                case PYROMANCER -> plugin.getEffectBudget().spawn(Subsystem.BOSSES, Particle.FLAME, loc, 10, 0.5, 0.5, 0.5, 0.02);
+                case HORDE_QUEEN -> plugin.getEffectBudget().spawn(Subsystem.BOSSES, Particle.WITCH, loc, 5, 0.5, 0.5, 0.5, 0);
+                case ICE_BREAKER -> plugin.getEffectBudget().spawn(Subsystem.BOSSES, Particle.SNOWFLAKE, loc, 15, 0.5, 0.5, 0.5, 0.02);
             }
         }
     }
@@ -753,7 +754,7 @@ public abstract class WorldBoss {
                 entity.setHealth(newHealth);
 
                 // Effet visuel de régénération
-                world.spawnParticle(Particle.HEART, bossLoc.clone().add(0, 2, 0), 2, 0.3, 0.3, 0.3, 0);
+                plugin.getEffectBudget().spawn(Subsystem.BOSSES, Particle.HEART, bossLoc.clone().add(0, 2, 0), 2, 0.3, 0.3, 0.3, 0);
             }
         }
 
@@ -831,13 +832,13 @@ public abstract class WorldBoss {
             teleportLoc.setY(world.getHighestBlockYAt(teleportLoc) + 1);
 
             // Effets de téléportation
-            world.playSound(bossLoc, Sound.ENTITY_ENDERMAN_TELEPORT, 1.5f, 0.8f);
-            world.spawnParticle(Particle.PORTAL, bossLoc, 30, 0.5, 1, 0.5, 0.3);
+            plugin.getEffectBudget().playSound(Subsystem.BOSSES, bossLoc, Sound.ENTITY_ENDERMAN_TELEPORT, 1.5f, 0.8f);
+            plugin.getEffectBudget().spawn(Subsystem.BOSSES, Particle.PORTAL, bossLoc, 30, 0.5, 1, 0.5, 0.3);
 
             entity.teleport(teleportLoc);
 
-            world.playSound(teleportLoc, Sound.ENTITY_ENDERMAN_TELEPORT, 1.5f, 1.2f);
-            world.spawnParticle(Particle.PORTAL, teleportLoc, 30, 0.5, 1, 0.5, 0.3);
+            plugin.getEffectBudget().playSound(Subsystem.BOSSES, teleportLoc, Sound.ENTITY_ENDERMAN_TELEPORT, 1.5f, 1.2f);
+            plugin.getEffectBudget().spawn(Subsystem.BOSSES, Particle.PORTAL, teleportLoc, 30, 0.5, 1, 0.5, 0.3);
         }
 
         // Trait: Spectral (devient intangible brièvement - 10% chance, dure 2s)
@@ -848,8 +849,8 @@ public abstract class WorldBoss {
             if (isPhasing && now >= phasingEndTime) {
                 isPhasing = false;
                 entity.setGlowing(true);
-                world.playSound(bossLoc, Sound.ENTITY_ENDERMAN_TELEPORT, 1f, 1.5f);
-                world.spawnParticle(Particle.REVERSE_PORTAL, bossLoc, 20, 0.5, 1, 0.5, 0.1);
+                plugin.getEffectBudget().playSound(Subsystem.BOSSES, bossLoc, Sound.ENTITY_ENDERMAN_TELEPORT, 1f, 1.5f);
+                plugin.getEffectBudget().spawn(Subsystem.BOSSES, Particle.REVERSE_PORTAL, bossLoc, 20, 0.5, 1, 0.5, 0.1);
 
                 for (Player player : getNearbyPlayers(30)) {
                     player.sendMessage("§f" + modifiers.getName().displayName() + " §7redevient tangible!");
@@ -861,8 +862,8 @@ public abstract class WorldBoss {
                 isPhasing = true;
                 phasingEndTime = now + 2000; // 2 secondes
                 entity.setGlowing(false);
-                world.playSound(bossLoc, Sound.ENTITY_ILLUSIONER_CAST_SPELL, 1.5f, 1.2f);
-                world.spawnParticle(Particle.REVERSE_PORTAL, bossLoc, 30, 0.5, 1, 0.5, 0.1);
+                plugin.getEffectBudget().playSound(Subsystem.BOSSES, bossLoc, Sound.ENTITY_ILLUSIONER_CAST_SPELL, 1.5f, 1.2f);
+                plugin.getEffectBudget().spawn(Subsystem.BOSSES, Particle.REVERSE_PORTAL, bossLoc, 30, 0.5, 1, 0.5, 0.1);
 
                 for (Player player : getNearbyPlayers(30)) {
                     player.sendMessage("§f§l⚠ " + modifiers.getName().displayName() + " §7devient §fintangible§7!");
@@ -871,7 +872,7 @@ public abstract class WorldBoss {
 
             // Effet visuel pendant l'intangibilité
             if (isPhasing) {
-                world.spawnParticle(Particle.REVERSE_PORTAL, bossLoc.clone().add(0, 1, 0), 5, 0.5, 1, 0.5, 0.05);
+                plugin.getEffectBudget().spawn(Subsystem.BOSSES, Particle.REVERSE_PORTAL, bossLoc.clone().add(0, 1, 0), 5, 0.5, 1, 0.5, 0.05);
             }
         }
 
@@ -899,10 +900,10 @@ public abstract class WorldBoss {
                         player.sendMessage("§b§l❄ §6§l🔥 §7Choc Thermique! §c-" + String.format("%.1f", shockDamage) + " PV");
 
                         // Effets visuels spectaculaires
-                        world.spawnParticle(Particle.EXPLOSION, player.getLocation().add(0, 1, 0), 1, 0, 0, 0, 0);
-                        world.spawnParticle(Particle.SNOWFLAKE, player.getLocation(), 10, 0.5, 1, 0.5, 0.1);
-                        world.spawnParticle(Particle.FLAME, player.getLocation(), 10, 0.5, 1, 0.5, 0.05);
-                        world.playSound(player.getLocation(), Sound.BLOCK_GLASS_BREAK, 1f, 0.5f);
+                        plugin.getEffectBudget().spawn(Subsystem.BOSSES, Particle.EXPLOSION, player.getLocation().add(0, 1, 0), 1, 0, 0, 0, 0);
+                        plugin.getEffectBudget().spawn(Subsystem.BOSSES, Particle.SNOWFLAKE, player.getLocation(), 10, 0.5, 1, 0.5, 0.1);
+                        plugin.getEffectBudget().spawn(Subsystem.BOSSES, Particle.FLAME, player.getLocation(), 10, 0.5, 1, 0.5, 0.05);
+                        plugin.getEffectBudget().playSound(Subsystem.BOSSES, player.getLocation(), Sound.BLOCK_GLASS_BREAK, 1f, 0.5f);
 
                         // Retire le feu (le choc "consomme" les effets)
                         player.setFireTicks(0);
@@ -920,7 +921,7 @@ public abstract class WorldBoss {
                 double healthPercent = entity.getHealth() / maxHealth.getValue();
                 if (healthPercent < 0.3) {
                     // Effet visuel de frénésie
-                    world.spawnParticle(Particle.DUST, bossLoc.clone().add(0, 1.5, 0), 8, 0.5, 0.5, 0.5,
+                    plugin.getEffectBudget().spawn(Subsystem.BOSSES, Particle.DUST, bossLoc.clone().add(0, 1.5, 0), 8, 0.5, 0.5, 0.5,
                         new Particle.DustOptions(Color.fromRGB(139, 0, 0), 1.5f)); // Rouge sang foncé
                 }
             }
@@ -936,7 +937,7 @@ public abstract class WorldBoss {
         if (modifiers.hasTrait(BossTrait.ARMORED) && modifiers.isHasThorns()) {
             // Effet visuel de forteresse (particules de bouclier)
             if (Math.random() < 0.3) {
-                world.spawnParticle(Particle.WAX_ON, bossLoc.clone().add(0, 1.2, 0), 5, 0.5, 0.5, 0.5, 0);
+                plugin.getEffectBudget().spawn(Subsystem.BOSSES, Particle.WAX_ON, bossLoc.clone().add(0, 1.2, 0), 5, 0.5, 0.5, 0.5, 0);
             }
         }
 
@@ -947,7 +948,7 @@ public abstract class WorldBoss {
             long timeSincePhaseEnd = System.currentTimeMillis() - phasingEndTime;
             if (!isPhasing && timeSincePhaseEnd >= 0 && timeSincePhaseEnd < 2000) {
                 // Effet visuel de vitesse
-                world.spawnParticle(Particle.CLOUD, bossLoc, 3, 0.3, 0.1, 0.3, 0.05);
+                plugin.getEffectBudget().spawn(Subsystem.BOSSES, Particle.CLOUD, bossLoc, 3, 0.3, 0.1, 0.3, 0.05);
             }
         }
 
@@ -962,7 +963,7 @@ public abstract class WorldBoss {
                         if (!player.hasPotionEffect(PotionEffectType.WITHER)) {
                             player.addPotionEffect(new PotionEffect(PotionEffectType.WITHER, 40, 0, true, false));
                             player.sendMessage("§5§l☠ §7La peste venimeuse vous consume!");
-                            world.spawnParticle(Particle.DUST, player.getLocation().add(0, 1, 0), 10, 0.5, 0.5, 0.5,
+                            plugin.getEffectBudget().spawn(Subsystem.BOSSES, Particle.DUST, player.getLocation().add(0, 1, 0), 10, 0.5, 0.5, 0.5,
                                 new Particle.DustOptions(Color.fromRGB(75, 0, 130), 1.2f)); // Indigo
                         }
                     }
@@ -1008,8 +1009,8 @@ public abstract class WorldBoss {
             attacker.sendMessage("§8§l⚔ §7Les épines vous renvoient §c" + String.format("%.1f", thornsDamage) + " §7dégâts!");
 
             World world = entity.getWorld();
-            world.spawnParticle(Particle.CRIT, attacker.getLocation().add(0, 1, 0), 10, 0.3, 0.5, 0.3, 0.1);
-            world.playSound(attacker.getLocation(), Sound.ENCHANT_THORNS_HIT, 0.8f, 1f);
+            plugin.getEffectBudget().spawn(Subsystem.BOSSES, Particle.CRIT, attacker.getLocation().add(0, 1, 0), 10, 0.3, 0.5, 0.3, 0.1);
+            plugin.getEffectBudget().playSound(Subsystem.BOSSES, attacker.getLocation(), Sound.ENCHANT_THORNS_HIT, 0.8f, 1f);
         }
 
         // Hook pour les sous-classes
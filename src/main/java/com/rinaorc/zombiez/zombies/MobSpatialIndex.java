@@ -0,0 +1,226 @@
+package com.rinaorc.zombiez.zombies;
+
+import lombok.Getter;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.LivingEntity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Index spatial des mobs ZombieZ actifs (hash par cellule de 16x16 blocs)
+ *
+ * Remplace les World.getNearbyEntities + isZombieZMob pour les requêtes
+ * "mobs autour d'un point": on ne parcourt que les cellules couvertes par la requête,
+ * sans passer par la recherche d'entités NMS.
+ *
+ * Les positions sont mises en cache et rafraîchies par le tick des IA (toutes les 5 ticks).
+ * Accès main thread uniquement.
+ */
+public class MobSpatialIndex {
+
+    // Taille d'une cellule = 1 chunk (16 blocs)
+    private static final int CELL_SHIFT = 4;
+
+    /**
+     * Mob indexé avec sa position en cache
+     */
+    @Getter
+    public static final class Entry {
+        private final UUID id;
+        private final LivingEntity entity;
+        private final ZombieManager.ActiveZombie zombie;
+        private UUID worldId;
+        private long cellKey;
+        private double x;
+        private double y;
+        private double z;
+        // Position dans la liste de sa cellule (suppression en O(1) par swap)
+        private int slot;
+
+        private Entry(LivingEntity entity, ZombieManager.ActiveZombie zombie) {
+            this.id = entity.getUniqueId();
+            this.entity = entity;
+            this.zombie = zombie;
+        }
+    }
+
+    private final Map<UUID, Entry> byId = new HashMap<>();
+    private final Map<UUID, Map<Long, ArrayList<Entry>>> cellsByWorld = new HashMap<>();
+
+    // Location réutilisée pour lire les positions sans allocation
+    private final Location scratch = new Location(null, 0, 0, 0);
+
+    /**
+     * Clé de cellule à partir des coordonnées de cellule
+     */
+    public static long cellKey(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Ajoute un mob à l'index
+     */
+    public void track(LivingEntity entity, ZombieManager.ActiveZombie zombie) {
+        remove(entity.getUniqueId());
+
+        Entry entry = new Entry(entity, zombie);
+        Location loc = entity.getLocation(scratch);
+        entry.worldId = loc.getWorld().getUID();
+        entry.x = loc.getX();
+        entry.y = loc.getY();
+        entry.z = loc.getZ();
+        entry.cellKey = cellKey((int) Math.floor(entry.x) >> CELL_SHIFT, (int) Math.floor(entry.z) >> CELL_SHIFT);
+
+        byId.put(entry.id, entry);
+        addToCell(entry);
+    }
+
+    /**
+     * Retire un mob de l'index
+     */
+    public void remove(UUID entityId) {
+        Entry entry = byId.remove(entityId);
+        if (entry != null) {
+            removeFromCell(entry);
+        }
+    }
+
+    /**
+     * Vide l'index
+     */
+    public void clear() {
+        byId.clear();
+        cellsByWorld.clear();
+    }
+
+    /**
+     * Rafraîchit la position de tous les mobs et retire les entités invalides
+     * Appelé par le tick des IA
+     */
+    public void refreshAll() {
+        Iterator<Entry> it = byId.values().iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            LivingEntity entity = entry.entity;
+            if (!entity.isValid() || entity.isDead()) {
+                it.remove();
+                removeFromCell(entry);
+                continue;
+            }
+            relocate(entry, entity.getLocation(scratch));
+        }
+    }
+
+    private void relocate(Entry entry, Location loc) {
+        entry.x = loc.getX();
+        entry.y = loc.getY();
+        entry.z = loc.getZ();
+
+        UUID worldId = loc.getWorld().getUID();
+        long newCell = cellKey((int) Math.floor(entry.x) >> CELL_SHIFT, (int) Math.floor(entry.z) >> CELL_SHIFT);
+        if (newCell != entry.cellKey || !worldId.equals(entry.worldId)) {
+            removeFromCell(entry);
+            entry.worldId = worldId;
+            entry.cellKey = newCell;
+            addToCell(entry);
+        }
+    }
+
+    private void addToCell(Entry entry) {
+        ArrayList<Entry> cell = cellsByWorld
+            .computeIfAbsent(entry.worldId, k -> new HashMap<>())
+            .computeIfAbsent(entry.cellKey, k -> new ArrayList<>(8));
+        entry.slot = cell.size();
+        cell.add(entry);
+    }
+
+    private void removeFromCell(Entry entry) {
+        Map<Long, ArrayList<Entry>> cells = cellsByWorld.get(entry.worldId);
+        if (cells == null) return;
+        ArrayList<Entry> cell = cells.get(entry.cellKey);
+        if (cell == null || entry.slot >= cell.size() || cell.get(entry.slot) != entry) return;
+
+        // Swap-remove: le dernier élément prend la place de celui retiré
+        Entry last = cell.remove(cell.size() - 1);
+        if (last != entry) {
+            cell.set(entry.slot, last);
+            last.slot = entry.slot;
+        }
+        if (cell.isEmpty()) {
+            cells.remove(entry.cellKey);
+        }
+    }
+
+    // ==================== REQUÊTES ====================
+
+    /**
+     * Parcourt les mobs dans une boîte centrée (mêmes bornes que getNearbyEntities)
+     */
+    public void forEachInBox(Location center, double rx, double ry, double rz, Consumer<Entry> action) {
+        World world = center.getWorld();
+        if (world == null) return;
+        Map<Long, ArrayList<Entry>> cells = cellsByWorld.get(world.getUID());
+        if (cells == null || cells.isEmpty()) return;
+
+        double cx = center.getX(), cy = center.getY(), cz = center.getZ();
+        int minCellX = (int) Math.floor(cx - rx) >> CELL_SHIFT;
+        int maxCellX = (int) Math.floor(cx + rx) >> CELL_SHIFT;
+        int minCellZ = (int) Math.floor(cz - rz) >> CELL_SHIFT;
+        int maxCellZ = (int) Math.floor(cz + rz) >> CELL_SHIFT;
+
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                ArrayList<Entry> cell = cells.get(cellKey(cellX, cellZ));
+                if (cell == null) continue;
+                for (int i = 0; i < cell.size(); i++) {
+                    Entry entry = cell.get(i);
+                    if (Math.abs(entry.x - cx) <= rx && Math.abs(entry.y - cy) <= ry && Math.abs(entry.z - cz) <= rz) {
+                        action.accept(entry);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Compte les mobs dans une boîte centrée
+     */
+    public int countInBox(Location center, double rx, double ry, double rz) {
+        int[] count = {0};
+        forEachInBox(center, rx, ry, rz, entry -> count[0]++);
+        return count[0];
+    }
+
+    /**
+     * Obtient les entités des mobs dans une boîte centrée
+     */
+    public List<LivingEntity> getEntitiesInBox(Location center, double rx, double ry, double rz) {
+        List<LivingEntity> result = new ArrayList<>();
+        forEachInBox(center, rx, ry, rz, entry -> result.add(entry.entity));
+        return result;
+    }
+
+    /**
+     * Distance au carré entre la position en cache d'un mob et un point
+     */
+    public static double distanceSquared(Entry entry, Location loc) {
+        double dx = entry.x - loc.getX();
+        double dy = entry.y - loc.getY();
+        double dz = entry.z - loc.getZ();
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Nombre de mobs indexés
+     */
+    public int size() {
+        return byId.size();
+    }
+}
@@ -75,6 +75,10 @@ public class ZombieManager {
 
     // Tracking des zombies actifs
     private final Map<UUID, ActiveZombie> activeZombies;
+
+    // Index spatial des zombies actifs (remplace getNearbyEntities + isZombieZMob)
+    @Getter
+    private final MobSpatialIndex spatialIndex = new MobSpatialIndex();
     
     // Compteurs par zone
     private final Map<Integer, Integer> zombieCountByZone;
@@ -125,7 +129,7 @@ public class ZombieManager {
         this.plugin = plugin;
         this.affixRegistry = ZombieAffix.ZombieAffixRegistry.getInstance();
         this.lootTableRegistry = LootTable.LootTableRegistry.getInstance();
-        this.aiManager = new ZombieAIManager(plugin);
+        this.aiManager = new ZombieAIManager(plugin, spatialIndex);
         this.activeZombies = new ConcurrentHashMap<>();
         this.zombieCountByZone = new ConcurrentHashMap<>();
         this.maxZombiesPerZone = new ConcurrentHashMap<>();
@@ -334,6 +338,7 @@ public class ZombieManager {
 
         // Enregistrer AVANT la conversion élite (pour que updateZombieHealthDisplay fonctionne)
         activeZombies.put(entity.getUniqueId(), zombie);
+        spatialIndex.track(entity, zombie);
         zombieCountByZone.merge(zoneId, 1, Integer::sum);
         lastSpawnByZone.put(zoneId, System.currentTimeMillis());
         totalSpawned++;
@@ -1098,7 +1103,7 @@ public class ZombieManager {
      * Traite la mort d'un zombie
      */
     public void onZombieDeath(UUID entityId, Player killer) {
-        ActiveZombie zombie = activeZombies.remove(entityId);
+        ActiveZombie zombie = untrackZombie(entityId);
         if (zombie == null) return;
 
         // Nettoyer de la team de collision
@@ -1448,6 +1453,14 @@ public class ZombieManager {
         }
     }
 
+    /**
+     * Retire un zombie du tracking et de l'index spatial
+     */
+    private ActiveZombie untrackZombie(UUID entityId) {
+        spatialIndex.remove(entityId);
+        return activeZombies.remove(entityId);
+    }
+
     /**
      * Vérifie si une entité est un zombie ZombieZ
      * Utilise le PDC en priorité (ultra-performant), puis fallback sur metadata
@@ -1558,7 +1571,7 @@ public class ZombieManager {
 
         // Nettoyer les entrées
         for (UUID id : toRemove) {
-            ActiveZombie zombie = activeZombies.remove(id);
+            ActiveZombie zombie = untrackZombie(id);
             if (zombie != null) {
                 zombieCountByZone.merge(zombie.getZoneId(), -1, (a, b) -> Math.max(0, a + b));
             }
@@ -1590,21 +1603,13 @@ public class ZombieManager {
     /**
      * Vérifie si un mob est isolé (pas d'autres mobs proches)
      * Les mobs isolés sont candidats au nettoyage s'ils sont vieux
+     * Utilise l'index spatial au lieu de getNearbyEntities
      */
     private boolean isIsolated(Entity entity) {
-        int nearbyMobs = 0;
-
-        for (Entity nearby : entity.getWorld().getNearbyEntities(
-                entity.getLocation(), ISOLATION_RADIUS, ISOLATION_RADIUS, ISOLATION_RADIUS)) {
-            if (nearby.getUniqueId().equals(entity.getUniqueId())) continue;
-            if (isZombieZMob(nearby)) {
-                nearbyMobs++;
-                if (nearbyMobs >= MIN_MOBS_FOR_GROUP) {
-                    return false; // Pas isolé, fait partie d'un groupe
-                }
-            }
-        }
-        return true; // Isolé
+        // L'index compte le mob lui-même
+        int nearbyMobs = spatialIndex.countInBox(entity.getLocation(),
+            ISOLATION_RADIUS, ISOLATION_RADIUS, ISOLATION_RADIUS) - 1;
+        return nearbyMobs < MIN_MOBS_FOR_GROUP;
     }
 
     /**
@@ -1629,7 +1634,7 @@ public class ZombieManager {
         }
 
         for (UUID id : toRemove) {
-            ActiveZombie zombie = activeZombies.remove(id);
+            ActiveZombie zombie = untrackZombie(id);
             if (zombie != null) {
                 zombieCountByZone.merge(zombie.getZoneId(), -1, (a, b) -> Math.max(0, a + b));
             }
@@ -1660,7 +1665,7 @@ public class ZombieManager {
         }
 
         for (UUID id : toRemove) {
-            ActiveZombie zombie = activeZombies.remove(id);
+            ActiveZombie zombie = untrackZombie(id);
             if (zombie != null) {
                 zombieCountByZone.merge(zombie.getZoneId(), -1, (a, b) -> Math.max(0, a + b));
             }
@@ -1701,7 +1706,7 @@ public class ZombieManager {
 
                 entity.remove();
             }
-            activeZombies.remove(entry.getKey());
+            untrackZombie(entry.getKey());
             zombieCountByZone.merge(zoneId, -1, (a, b) -> Math.max(0, a + b));
             removed++;
         }
@@ -1748,7 +1753,7 @@ public class ZombieManager {
 
         // Supprimer les entrées invalides
         for (UUID id : invalidEntries) {
-            ActiveZombie zombie = activeZombies.remove(id);
+            ActiveZombie zombie = untrackZombie(id);
             if (zombie != null) {
                 // Ne pas décrémenter ici car on va resynchroniser
             }
@@ -1786,6 +1791,7 @@ public class ZombieManager {
 
         // Clear toutes les maps
         activeZombies.clear();
+        spatialIndex.clear();
         zombieCountByZone.clear();
         lastSpawnByZone.clear();
 
@@ -37,6 +37,21 @@ public abstract class ZombieAI {
     protected boolean isEnraged = false;
     protected Player currentTarget = null;
 
+    // Niveau de détail selon la distance aux joueurs (géré par ZombieAIManager)
+    protected LodTier lodTier = LodTier.FULL;
+
+    /**
+     * Niveaux de détail de l'IA
+     */
+    public enum LodTier {
+        // Joueur proche: logique complète
+        FULL,
+        // Distance moyenne: pas de particules/sons, pas d'abilities
+        REDUCED,
+        // Hors de la distance de vue de tout joueur: plus de tick, IA vanilla en pause
+        FROZEN
+    }
+
     public ZombieAI(ZombieZPlugin plugin, LivingEntity zombie, ZombieType zombieType, int level) {
         this.plugin = plugin;
         this.zombie = zombie;
@@ -76,11 +91,38 @@ public abstract class ZombieAI {
         }
     }
 
+    /**
+     * Change le niveau de détail de l'IA
+     * L'état de l'IA est conservé: un mob gelé reprend là où il s'était arrêté
+     */
+    public void setLodTier(LodTier tier) {
+        if (tier == lodTier) return;
+        LodTier previous = lodTier;
+        lodTier = tier;
+
+        if (zombie instanceof Mob mob) {
+            if (tier == LodTier.FROZEN) {
+                // Plus de pathfinding vanilla tant qu'aucun joueur n'est en vue
+                mob.setAware(false);
+            } else if (previous == LodTier.FROZEN) {
+                mob.setAware(true);
+            }
+        }
+    }
+
+    /**
+     * Vérifie si l'IA tourne en détail complet (particules, sons, abilities)
+     */
+    protected boolean isFullDetail() {
+        return lodTier == LodTier.FULL;
+    }
+
     /**
      * Vérifie si l'ability est prête
+     * Les abilities ne se déclenchent pas en détail réduit (aucun joueur proche)
      */
     protected boolean canUseAbility() {
-        return System.currentTimeMillis() - lastAbilityUse >= abilityCooldown;
+        return isFullDetail() && System.currentTimeMillis() - lastAbilityUse >= abilityCooldown;
     }
 
     /**
@@ -92,15 +134,27 @@ public abstract class ZombieAI {
 
     /**
      * Trouve le joueur le plus proche
+     * Parcourt les joueurs du monde (quelques dizaines) au lieu d'une recherche d'entités
      */
     protected Player findNearestPlayer(double range) {
-        return zombie.getWorld().getNearbyEntities(zombie.getLocation(), range, range, range).stream()
-                .filter(e -> e instanceof Player)
-                .map(e -> (Player) e)
-                .filter(p -> !p.isDead() && p.getGameMode() == org.bukkit.GameMode.SURVIVAL)
-                .min((a, b) -> (int) (a.getLocation().distance(zombie.getLocation())
-                        - b.getLocation().distance(zombie.getLocation())))
-                .orElse(null);
+        Location loc = zombie.getLocation();
+        Player nearest = null;
+        double nearestDistSq = Double.MAX_VALUE;
+
+        for (Player p : zombie.getWorld().getPlayers()) {
+            if (p.isDead() || p.getGameMode() != org.bukkit.GameMode.SURVIVAL) continue;
+            Location pLoc = p.getLocation();
+            if (Math.abs(pLoc.getX() - loc.getX()) > range
+                    || Math.abs(pLoc.getY() - loc.getY()) > range
+                    || Math.abs(pLoc.getZ() - loc.getZ()) > range) continue;
+
+            double distSq = pLoc.distanceSquared(loc);
+            if (distSq < nearestDistSq) {
+                nearestDistSq = distSq;
+                nearest = p;
+            }
+        }
+        return nearest;
     }
 
     /**
@@ -119,11 +173,15 @@ public abstract class ZombieAI {
         if (!zombie.isValid())
             return;
 
-        zombie.getWorld().getNearbyEntities(zombie.getLocation(), radius, radius, radius).stream()
-                .filter(e -> e instanceof Player)
-                .map(e -> (Player) e)
-                .filter(p -> !p.isDead() && !hasRespawnProtection(p))
-                .forEach(p -> p.addPotionEffect(new PotionEffect(effect, duration, amplifier)));
+        Location loc = zombie.getLocation();
+        for (Player p : zombie.getWorld().getPlayers()) {
+            Location pLoc = p.getLocation();
+            if (Math.abs(pLoc.getX() - loc.getX()) > radius
+                    || Math.abs(pLoc.getY() - loc.getY()) > radius
+                    || Math.abs(pLoc.getZ() - loc.getZ()) > radius) continue;
+            if (p.isDead() || hasRespawnProtection(p)) continue;
+            p.addPotionEffect(new PotionEffect(effect, duration, amplifier));
+        }
     }
 
     /**
@@ -160,6 +218,7 @@ public abstract class ZombieAI {
      */
     protected void playParticles(Particle particle, Location loc, int count, double offsetX, double offsetY,
             double offsetZ) {
+        if (!isFullDetail()) return;
         zombie.getWorld().spawnParticle(particle, loc, count, offsetX, offsetY, offsetZ);
     }
 
@@ -168,6 +227,7 @@ public abstract class ZombieAI {
      */
     protected void playParticles(Particle particle, Location loc, int count, double offsetX, double offsetY,
             double offsetZ, Material blockMaterial) {
+        if (!isFullDetail()) return;
         if (particle == Particle.BLOCK) {
             zombie.getWorld().spawnParticle(particle, loc, count, offsetX, offsetY, offsetZ,
                     blockMaterial.createBlockData());
@@ -188,6 +248,7 @@ public abstract class ZombieAI {
      * Joue un son
      */
     protected void playSound(Sound sound, float volume, float pitch) {
+        if (!isFullDetail()) return;
         zombie.getWorld().playSound(zombie.getLocation(), sound, volume, pitch);
     }
 
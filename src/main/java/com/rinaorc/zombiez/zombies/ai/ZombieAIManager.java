@@ -1,14 +1,19 @@
 package com.rinaorc.zombiez.zombies.ai;
 
 import com.rinaorc.zombiez.ZombieZPlugin;
+import com.rinaorc.zombiez.zombies.MobSpatialIndex;
 import com.rinaorc.zombiez.zombies.types.ZombieType;
 import lombok.Getter;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Mob;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.Zombie;
 import org.bukkit.scheduler.BukkitRunnable;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -17,11 +22,21 @@ import java.util.logging.Level;
 /**
  * Gestionnaire central pour toutes les IA de zombies
  * Gère le tick des IA et leur cycle de vie
+ *
+ * Ordonnancement:
+ * - Roue de buckets indexée par tick: chaque IA est rangée dans le bucket de son prochain tick
+ * - Chaque slot garde une référence directe à l'entité (pas de server.getEntity(uuid))
+ * - Intervalle par IA (mobs sans cible ralentis)
+ * - Budget de temps par tick: le surplus est reporté au tick suivant (sauf boss)
+ * - LOD selon la distance au joueur le plus proche: complet (<32), réduit (<64 ou en vue), gelé (hors vue)
  */
 public class ZombieAIManager {
 
     private final ZombieZPlugin plugin;
 
+    // Index spatial des mobs, rafraîchi à chaque tick des IA
+    private final MobSpatialIndex spatialIndex;
+
     // Map des IA actives par UUID de zombie
     @Getter
     private final Map<UUID, ZombieAI> activeAIs;
@@ -29,14 +44,81 @@ public class ZombieAIManager {
     // Statistiques
     private long totalAIsCreated = 0;
     private long totalAIsRemoved = 0;
+    private long totalDeferred = 0;
+
+    // Intervalle de base: cadence historique (1 IA sur 3, toutes les 5 ticks = 15 ticks)
+    // Les IA comptent leurs appels à tick(), changer cette base changerait leur rythme
+    private static final int BASE_INTERVAL = 15;
+    // Mobs sans cible: deux fois moins souvent
+    private static final int IDLE_INTERVAL = 30;
+    // Taille de la roue (doit dépasser le plus grand intervalle)
+    private static final int WHEEL_SIZE = 64;
+    // Rafraîchissement de l'index spatial (en ticks)
+    private static final int SPATIAL_REFRESH_INTERVAL = 5;
+    // Budget CPU par tick pour les IA (2ms)
+    private static final long TICK_BUDGET_NANOS = 2_000_000L;
+
+    // Niveau de détail (LOD): distances horizontales au joueur le plus proche
+    private static final double FULL_DETAIL_RANGE = 32.0;
+    private static final double REDUCED_DETAIL_RANGE = 64.0;
+    // Un mob gelé vérifie toutes les 2 secondes si un joueur est revenu
+    private static final int FROZEN_RECHECK_INTERVAL = 40;
+
+    /**
+     * IA ordonnancée avec sa référence directe à l'entité
+     */
+    private static final class Slot {
+        private final UUID id;
+        private final ZombieAI ai;
+        private final LivingEntity entity;
+        // Les boss ne sont jamais reportés par le budget
+        private final boolean priority;
+        private boolean removed = false;
+
+        private Slot(UUID id, ZombieAI ai) {
+            this.id = id;
+            this.ai = ai;
+            this.entity = ai.getZombie();
+            this.priority = ai.getZombieType().isBoss();
+        }
+    }
+
+    /**
+     * Temps CPU cumulé par classe d'IA
+     */
+    private static final class TimingStats {
+        private long calls;
+        private long totalNanos;
+        private long maxNanos;
+    }
+
+    // Slots par UUID (suppression paresseuse dans la roue)
+    private final Map<UUID, Slot> slots = new HashMap<>();
 
-    // Tick spread - distribue les IA sur plusieurs ticks pour optimiser
-    private static final int TICK_SPREAD = 3; // Chaque IA tick tous les 3 ticks
-    private int tickCounter = 0;
+    // Roue de buckets: wheel[tick % WHEEL_SIZE] = IA à ticker à ce tick
+    @SuppressWarnings("unchecked")
+    private final List<Slot>[] wheel = new List[WHEEL_SIZE];
+    private List<Slot> spareBucket = new ArrayList<>();
+    private long currentTick = 0;
+    private int spreadCounter = 0;
 
-    public ZombieAIManager(ZombieZPlugin plugin) {
+    // Timings par classe d'IA
+    private final Map<Class<? extends ZombieAI>, TimingStats> timingsByClass = new HashMap<>();
+
+    // Nombre d'IA par niveau de détail
+    private final int[] lodCounts = new int[ZombieAI.LodTier.values().length];
+
+    // Positions des joueurs par monde (x, z), reconstruites une fois par tick
+    private final Map<UUID, double[]> playerPositions = new HashMap<>();
+    private long playerPositionsTick = -1;
+
+    public ZombieAIManager(ZombieZPlugin plugin, MobSpatialIndex spatialIndex) {
         this.plugin = plugin;
+        this.spatialIndex = spatialIndex;
         this.activeAIs = new ConcurrentHashMap<>();
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ArrayList<>();
+        }
 
         startAITickTask();
         startCleanupTask();
@@ -51,7 +133,12 @@ public class ZombieAIManager {
         ZombieAI ai = createAIForType(entity, type, level);
 
         if (ai != null) {
+            // Un mob rechargé a pu être sauvegardé gelé (Aware=false): la nouvelle IA démarre en FULL
+            if (entity instanceof Mob mob) {
+                mob.setAware(true);
+            }
             activeAIs.put(entity.getUniqueId(), ai);
+            schedule(entity.getUniqueId(), ai);
             totalAIsCreated++;
         }
 
@@ -116,11 +203,25 @@ public class ZombieAIManager {
      */
     public void removeAI(UUID zombieId) {
         ZombieAI removed = activeAIs.remove(zombieId);
+        unschedule(zombieId);
         if (removed != null) {
             totalAIsRemoved++;
         }
     }
 
+    /**
+     * Rend l'IA vanilla aux mobs gelés avant qu'ils ne soient sauvegardés avec leur chunk
+     * (sinon Aware=false est persisté et le mob reste inerte au rechargement)
+     */
+    public void onEntitiesUnload(List<Entity> entities) {
+        for (Entity entity : entities) {
+            ZombieAI ai = activeAIs.get(entity.getUniqueId());
+            if (ai != null && ai.getLodTier() == ZombieAI.LodTier.FROZEN) {
+                ai.setLodTier(ZombieAI.LodTier.FULL);
+            }
+        }
+    }
+
     /**
      * Notifie une attaque de zombie
      */
@@ -173,40 +274,187 @@ public class ZombieAIManager {
             public void run() {
                 tickAllAIs();
             }
-        }.runTaskTimer(plugin, 10L, 5L); // Tick toutes les 5 ticks (0.25 seconde)
+        }.runTaskTimer(plugin, 10L, 1L); // Chaque tick, seul le bucket courant est traité
+    }
+
+    /**
+     * Range une nouvelle IA dans la roue, avec un décalage pour étaler la charge
+     */
+    private void schedule(UUID id, ZombieAI ai) {
+        Slot previous = slots.remove(id);
+        if (previous != null) {
+            previous.removed = true;
+            lodCounts[previous.ai.getLodTier().ordinal()]--;
+        }
+
+        Slot slot = new Slot(id, ai);
+        slots.put(id, slot);
+        lodCounts[ai.getLodTier().ordinal()]++;
+        int offset = 1 + (spreadCounter++ % BASE_INTERVAL);
+        wheel[(int) ((currentTick + offset) % WHEEL_SIZE)].add(slot);
+    }
+
+    /**
+     * Retire une IA de la roue (le slot sera ignoré à son prochain passage)
+     */
+    private void unschedule(UUID id) {
+        Slot slot = slots.remove(id);
+        if (slot != null) {
+            slot.removed = true;
+            lodCounts[slot.ai.getLodTier().ordinal()]--;
+            // Rendre l'IA vanilla à un mob encore vivant
+            if (slot.entity.isValid()) {
+                slot.ai.setLodTier(ZombieAI.LodTier.FULL);
+            }
+        }
+    }
+
+    /**
+     * Reconstruit le cache des positions joueurs (une fois par tick au plus)
+     */
+    private void refreshPlayerPositions() {
+        if (playerPositionsTick == currentTick) return;
+        playerPositionsTick = currentTick;
+        playerPositions.clear();
+
+        Map<UUID, List<Player>> byWorld = new HashMap<>();
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            if (player.isDead()) continue;
+            byWorld.computeIfAbsent(player.getWorld().getUID(), k -> new ArrayList<>()).add(player);
+        }
+        for (var entry : byWorld.entrySet()) {
+            List<Player> players = entry.getValue();
+            double[] positions = new double[players.size() * 2];
+            for (int i = 0; i < players.size(); i++) {
+                var loc = players.get(i).getLocation();
+                positions[i * 2] = loc.getX();
+                positions[i * 2 + 1] = loc.getZ();
+            }
+            playerPositions.put(entry.getKey(), positions);
+        }
     }
 
     /**
-     * Tick les IA actives avec spread pour optimisation.
-     * Chaque IA ne tick que tous les TICK_SPREAD ticks (1 IA sur 3 par tick).
-     * Avec 500 IA, on passe de 500/tick à ~167/tick = gain de ~1.5 TPS.
+     * Détermine le niveau de détail d'une IA selon le joueur le plus proche
+     */
+    private ZombieAI.LodTier computeLodTier(Slot slot) {
+        // Les boss gardent toujours leur logique complète (boss errants, phases, timers)
+        if (slot.priority) return ZombieAI.LodTier.FULL;
+
+        refreshPlayerPositions();
+        double[] positions = playerPositions.get(slot.entity.getWorld().getUID());
+        if (positions == null) return ZombieAI.LodTier.FROZEN;
+
+        var loc = slot.entity.getLocation();
+        double x = loc.getX();
+        double z = loc.getZ();
+        double nearestSq = Double.MAX_VALUE;
+        for (int i = 0; i < positions.length; i += 2) {
+            double dx = positions[i] - x;
+            double dz = positions[i + 1] - z;
+            double distSq = dx * dx + dz * dz;
+            if (distSq < nearestSq) {
+                nearestSq = distSq;
+            }
+        }
+
+        if (nearestSq <= FULL_DETAIL_RANGE * FULL_DETAIL_RANGE) return ZombieAI.LodTier.FULL;
+        if (nearestSq <= REDUCED_DETAIL_RANGE * REDUCED_DETAIL_RANGE) return ZombieAI.LodTier.REDUCED;
+
+        double viewRange = plugin.getServer().getViewDistance() * 16.0;
+        if (nearestSq <= viewRange * viewRange) return ZombieAI.LodTier.REDUCED;
+        return ZombieAI.LodTier.FROZEN;
+    }
+
+    /**
+     * Applique un niveau de détail en tenant les compteurs à jour
+     */
+    private void applyLodTier(Slot slot, ZombieAI.LodTier tier) {
+        ZombieAI.LodTier previous = slot.ai.getLodTier();
+        if (previous == tier) return;
+        lodCounts[previous.ordinal()]--;
+        lodCounts[tier.ordinal()]++;
+        slot.ai.setLodTier(tier);
+    }
+
+    /**
+     * Calcule l'intervalle avant le prochain tick d'une IA
+     */
+    private int computeInterval(Slot slot) {
+        if (slot.priority) return BASE_INTERVAL;
+        if (slot.ai.getLodTier() == ZombieAI.LodTier.REDUCED) return IDLE_INTERVAL;
+        if (slot.entity instanceof Mob mob && mob.getTarget() == null) return IDLE_INTERVAL;
+        return BASE_INTERVAL;
+    }
+
+    /**
+     * Tick le bucket courant de la roue.
+     * Seules les IA dues à ce tick sont visitées (pas de parcours de toute la map).
+     * Si le budget est dépassé, les IA restantes (hors boss) passent au tick suivant.
      */
     private void tickAllAIs() {
-        tickCounter++;
-        int currentBucket = tickCounter % TICK_SPREAD;
-        int index = 0;
+        currentTick++;
 
-        for (Map.Entry<UUID, ZombieAI> entry : activeAIs.entrySet()) {
-            UUID zombieId = entry.getKey();
-            ZombieAI ai = entry.getValue();
+        // Positions à jour pour les requêtes de proximité des IA
+        if (currentTick % SPATIAL_REFRESH_INTERVAL == 0) {
+            spatialIndex.refreshAll();
+        }
 
-            // Vérifier si le zombie existe toujours
-            Entity entity = plugin.getServer().getEntity(zombieId);
-            if (entity == null || !entity.isValid() || entity.isDead()) {
-                activeAIs.remove(zombieId);
+        int index = (int) (currentTick % WHEEL_SIZE);
+        List<Slot> due = wheel[index];
+        wheel[index] = spareBucket;
+
+        long deadline = System.nanoTime() + TICK_BUDGET_NANOS;
+
+        for (int i = 0; i < due.size(); i++) {
+            Slot slot = due.get(i);
+            if (slot.removed) continue;
+
+            // Vérifier si le zombie existe toujours (référence directe)
+            if (!slot.entity.isValid() || slot.entity.isDead()) {
+                activeAIs.remove(slot.id);
+                unschedule(slot.id);
                 totalAIsRemoved++;
                 continue;
             }
 
-            // Tick spread: ne traiter que les IA dont l'index correspond au bucket actuel
-            if (index % TICK_SPREAD == currentBucket) {
-                try {
-                    ai.tick();
-                } catch (Exception e) {
-                    plugin.getLogger().warning("Erreur dans tick pour " + zombieId + ": " + e.getMessage());
-                }
+            // LOD: un mob hors de vue de tout joueur ne tick plus, il revérifie plus tard
+            ZombieAI.LodTier tier = computeLodTier(slot);
+            applyLodTier(slot, tier);
+            if (tier == ZombieAI.LodTier.FROZEN) {
+                wheel[(int) ((currentTick + FROZEN_RECHECK_INTERVAL) % WHEEL_SIZE)].add(slot);
+                continue;
+            }
+
+            // Budget dépassé: reporter au tick suivant
+            if (!slot.priority && System.nanoTime() > deadline) {
+                wheel[(int) ((currentTick + 1) % WHEEL_SIZE)].add(slot);
+                totalDeferred++;
+                continue;
+            }
+
+            long start = System.nanoTime();
+            try {
+                slot.ai.tick();
+            } catch (Exception e) {
+                plugin.getLogger().warning("Erreur dans tick pour " + slot.id + ": " + e.getMessage());
             }
-            index++;
+            recordTiming(slot.ai.getClass(), System.nanoTime() - start);
+
+            int interval = computeInterval(slot);
+            wheel[(int) ((currentTick + interval) % WHEEL_SIZE)].add(slot);
+        }
+
+        due.clear();
+        spareBucket = due;
+    }
+
+    private void recordTiming(Class<? extends ZombieAI> aiClass, long nanos) {
+        TimingStats stats = timingsByClass.computeIfAbsent(aiClass, k -> new TimingStats());
+        stats.calls++;
+        stats.totalNanos += nanos;
+        if (nanos > stats.maxNanos) {
+            stats.maxNanos = nanos;
         }
     }
 
@@ -231,6 +479,7 @@ public class ZombieAIManager {
             Entity entity = plugin.getServer().getEntity(zombieId);
             if (entity == null || !entity.isValid() || entity.isDead()) {
                 activeAIs.remove(zombieId);
+                unschedule(zombieId);
                 removed++;
             }
         }
@@ -252,15 +501,43 @@ public class ZombieAIManager {
      * Obtient les statistiques
      */
     public String getStats() {
-        return String.format("Active: %d | Created: %d | Removed: %d",
-            activeAIs.size(), totalAIsCreated, totalAIsRemoved);
+        StringBuilder sb = new StringBuilder(String.format(
+            "Active: %d | Created: %d | Removed: %d | Deferred: %d | LOD full/reduced/frozen: %d/%d/%d",
+            activeAIs.size(), totalAIsCreated, totalAIsRemoved, totalDeferred,
+            lodCounts[ZombieAI.LodTier.FULL.ordinal()],
+            lodCounts[ZombieAI.LodTier.REDUCED.ordinal()],
+            lodCounts[ZombieAI.LodTier.FROZEN.ordinal()]));
+
+        // Classes d'IA triées par temps CPU total
+        List<Map.Entry<Class<? extends ZombieAI>, TimingStats>> entries = new ArrayList<>(timingsByClass.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue().totalNanos, a.getValue().totalNanos));
+        for (var entry : entries) {
+            TimingStats stats = entry.getValue();
+            sb.append(String.format("\n  %s: %d ticks, moy %.3fms, max %.3fms, total %.1fms",
+                entry.getKey().getSimpleName(),
+                stats.calls,
+                stats.calls > 0 ? stats.totalNanos / (double) stats.calls / 1_000_000.0 : 0.0,
+                stats.maxNanos / 1_000_000.0,
+                stats.totalNanos / 1_000_000.0));
+        }
+        return sb.toString();
     }
 
     /**
      * Arrête toutes les IA
      */
     public void shutdown() {
+        for (Slot slot : slots.values()) {
+            if (slot.entity.isValid()) {
+                slot.ai.setLodTier(ZombieAI.LodTier.FULL);
+            }
+        }
         activeAIs.clear();
+        slots.clear();
+        java.util.Arrays.fill(lodCounts, 0);
+        for (List<Slot> bucket : wheel) {
+            bucket.clear();
+        }
         plugin.log(Level.INFO, "ZombieAIManager arrêté");
     }
 }
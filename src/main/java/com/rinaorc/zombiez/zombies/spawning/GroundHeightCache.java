@@ -0,0 +1,305 @@
+package com.rinaorc.zombiez.zombies.spawning;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockBurnEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockFadeEvent;
+import org.bukkit.event.block.BlockFormEvent;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockPistonRetractEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.block.LeavesDecayEvent;
+import org.bukkit.event.entity.EntityChangeBlockEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.StructureGrowEvent;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Cache des hauteurs de sol valides pour le spawn, par colonne de chunk
+ *
+ * Pour chaque colonne (x, z) on retient la liste triée des Y où un mob peut tenir
+ * (bloc solide + 2 blocs libres au-dessus). La colonne est scannée depuis le heightmap
+ * et seulement jusqu'à MAX_DESCENT blocs sous la position demandée; une requête plus basse
+ * prolonge le scan là où il s'était arrêté. Les requêtes suivantes sont une recherche dichotomique.
+ *
+ * Invalidation:
+ * - Colonne: tout changement de bloc (pose, casse, explosion, piston, croissance...)
+ * - Chunk: déchargement
+ *
+ * Un cache légèrement périmé ne fait que rater une tentative: isValidSpawnLocation
+ * revérifie les blocs réels avant tout spawn. Accès main thread uniquement.
+ */
+public class GroundHeightCache implements Listener {
+
+    // Descente max sous la position demandée (au-delà, la tentative cherche vers le haut)
+    private static final int MAX_DESCENT = 32;
+
+    /**
+     * Sols connus d'une colonne, scannée du heightmap jusqu'à floor (inclus)
+     */
+    private static final class Column {
+        final int top;
+        short[] grounds = new short[0];
+        int floor;
+        // Solidité des blocs floor et floor + 1, pour reprendre le scan plus bas
+        boolean floorSolid;
+        boolean aboveFloorSolid;
+
+        Column(int top) {
+            this.top = top;
+            this.floor = top + 1;
+        }
+    }
+
+    /**
+     * Colonnes d'un chunk (index = localZ * 16 + localX), null = pas encore scannée
+     */
+    private static final class ChunkColumns {
+        final Column[] columns = new Column[256];
+    }
+
+    private final Map<UUID, Map<Long, ChunkColumns>> chunksByWorld = new HashMap<>();
+
+    // Métriques
+    private long hits = 0;
+    private long scans = 0;
+    private long invalidations = 0;
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Trouve le sol sous (ou à défaut au-dessus de) une position
+     * Même ordre que le parcours bloc par bloc: d'abord vers le bas depuis Y (au plus MAX_DESCENT
+     * blocs sous la surface ou sous Y), puis vers le haut
+     *
+     * @return la position au-dessus du sol, ou null si aucun sol ou chunk non chargé
+     */
+    public Location findGround(Location loc) {
+        World world = loc.getWorld();
+        if (world == null) return null;
+
+        int blockX = loc.getBlockX();
+        int blockZ = loc.getBlockZ();
+
+        // Ne jamais forcer le chargement synchrone d'un chunk pour une tentative de spawn
+        if (!world.isChunkLoaded(blockX >> 4, blockZ >> 4)) return null;
+
+        int minHeight = world.getMinHeight();
+        Column column = getColumn(world, blockX, blockZ);
+
+        // Au-dessus du heightmap il n'y a que de l'air: la descente se mesure depuis la surface
+        int startY = loc.getBlockY();
+        int lowest = Math.max(minHeight + 1, Math.min(startY, column.top) - MAX_DESCENT);
+        extendScan(world, blockX, blockZ, column, lowest);
+
+        short[] grounds = column.grounds;
+        if (grounds.length == 0) return null;
+
+        // Plus grand Y <= startY (recherche vers le bas, bornée à lowest)
+        int index = Arrays.binarySearch(grounds, (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, startY)));
+        int below = index >= 0 ? index : -index - 2;
+        if (below >= 0 && grounds[below] >= lowest) {
+            return new Location(world, loc.getX(), grounds[below] + 1, loc.getZ());
+        }
+
+        // Sinon plus petit Y > startY (recherche vers le haut)
+        int above = index >= 0 ? index + 1 : -index - 1;
+        if (above < grounds.length) {
+            return new Location(world, loc.getX(), grounds[above] + 1, loc.getZ());
+        }
+        return null;
+    }
+
+    private Column getColumn(World world, int blockX, int blockZ) {
+        ChunkColumns chunk = chunksByWorld
+            .computeIfAbsent(world.getUID(), k -> new HashMap<>())
+            .computeIfAbsent(chunkKey(blockX >> 4, blockZ >> 4), k -> new ChunkColumns());
+
+        int columnIndex = ((blockZ & 15) << 4) | (blockX & 15);
+        Column column = chunk.columns[columnIndex];
+        if (column != null) {
+            hits++;
+            return column;
+        }
+
+        column = new Column(Math.min(world.getHighestBlockYAt(blockX, blockZ), world.getMaxHeight() - 1));
+        chunk.columns[columnIndex] = column;
+        scans++;
+        return column;
+    }
+
+    /**
+     * Prolonge le scan d'une colonne jusqu'à lowest (inclus)
+     * Chaque bloc n'est lu qu'une fois (fenêtre glissante reprise depuis le dernier scan)
+     */
+    private void extendScan(World world, int blockX, int blockZ, Column column, int lowest) {
+        if (column.floor <= lowest) return;
+
+        short[] buffer = new short[8];
+        int size = 0;
+
+        // Parcours de haut en bas: on connaît déjà les 2 blocs au-dessus
+        boolean above1Solid = column.floorSolid;
+        boolean above2Solid = column.aboveFloorSolid;
+        for (int y = column.floor - 1; y >= lowest; y--) {
+            boolean solid = world.getBlockAt(blockX, y, blockZ).getType().isSolid();
+            if (solid && !above1Solid && !above2Solid) {
+                if (size == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, size * 2);
+                }
+                buffer[size++] = (short) y;
+            }
+            above2Solid = above1Solid;
+            above1Solid = solid;
+        }
+
+        column.floor = lowest;
+        column.floorSolid = above1Solid;
+        column.aboveFloorSolid = above2Solid;
+        if (size == 0) return;
+
+        // Nouveaux sols (plus bas) en tête, ordre croissant pour la recherche dichotomique
+        short[] previous = column.grounds;
+        short[] grounds = new short[size + previous.length];
+        for (int i = 0; i < size; i++) {
+            grounds[i] = buffer[size - 1 - i];
+        }
+        System.arraycopy(previous, 0, grounds, size, previous.length);
+        column.grounds = grounds;
+    }
+
+    // ==================== INVALIDATION ====================
+
+    /**
+     * Invalide la colonne d'un bloc
+     */
+    public void invalidate(Block block) {
+        Map<Long, ChunkColumns> chunks = chunksByWorld.get(block.getWorld().getUID());
+        if (chunks == null) return;
+        ChunkColumns chunk = chunks.get(chunkKey(block.getX() >> 4, block.getZ() >> 4));
+        if (chunk == null) return;
+
+        int columnIndex = ((block.getZ() & 15) << 4) | (block.getX() & 15);
+        if (chunk.columns[columnIndex] != null) {
+            chunk.columns[columnIndex] = null;
+            invalidations++;
+        }
+    }
+
+    private void invalidateAll(List<Block> blocks) {
+        for (Block block : blocks) {
+            invalidate(block);
+        }
+    }
+
+    /**
+     * Vide le cache (rechargement, changement de monde)
+     */
+    public void clear() {
+        chunksByWorld.clear();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        invalidate(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        invalidate(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        invalidateAll(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        invalidateAll(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBurn(BlockBurnEvent event) {
+        invalidate(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockFade(BlockFadeEvent event) {
+        invalidate(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockForm(BlockFormEvent event) {
+        invalidate(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onLeavesDecay(LeavesDecayEvent event) {
+        invalidate(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityChangeBlock(EntityChangeBlockEvent event) {
+        invalidate(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonExtend(BlockPistonExtendEvent event) {
+        for (Block block : event.getBlocks()) {
+            invalidate(block);
+            invalidate(block.getRelative(event.getDirection()));
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonRetract(BlockPistonRetractEvent event) {
+        for (Block block : event.getBlocks()) {
+            invalidate(block);
+            invalidate(block.getRelative(event.getDirection()));
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onStructureGrow(StructureGrowEvent event) {
+        for (BlockState state : event.getBlocks()) {
+            invalidate(state.getBlock());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        Map<Long, ChunkColumns> chunks = chunksByWorld.get(event.getWorld().getUID());
+        if (chunks != null) {
+            chunks.remove(chunkKey(event.getChunk().getX(), event.getChunk().getZ()));
+        }
+    }
+
+    /**
+     * Résumé des métriques pour SpawnSystem.getStats()
+     */
+    public String getStatsLine() {
+        int chunks = 0;
+        for (Map<Long, ChunkColumns> worldChunks : chunksByWorld.values()) {
+            chunks += worldChunks.size();
+        }
+        long lookups = hits + scans;
+        return String.format("Ground cache: %d chunks, hits %.1f%% (%d/%d), invalidations: %d",
+            chunks, lookups > 0 ? hits * 100.0 / lookups : 0.0, hits, lookups, invalidations);
+    }
+}
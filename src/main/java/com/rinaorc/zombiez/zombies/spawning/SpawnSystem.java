@@ -1,6 +1,7 @@
 package com.rinaorc.zombiez.zombies.spawning;
 
 import com.rinaorc.zombiez.ZombieZPlugin;
+import com.rinaorc.zombiez.zombies.MobSpatialIndex;
 import com.rinaorc.zombiez.zombies.ZombieManager;
 import com.rinaorc.zombiez.zombies.types.ZombieType;
 import com.rinaorc.zombiez.zones.Zone;
@@ -37,6 +38,10 @@ public class SpawnSystem {
     // Cooldowns de spawn par joueur
     private final Map<UUID, Long> playerSpawnCooldowns;
 
+    // Cache des hauteurs de sol par colonne (évite de parcourir les blocs à chaque tentative)
+    @Getter
+    private final GroundHeightCache groundCache;
+
     // Compteur de spawns pour éviter le lag
     private int spawnsThisTick = 0;
     private static final int MAX_SPAWNS_PER_TICK = 12; // Réduit de 15 à 12 (-20%)
@@ -120,6 +125,7 @@ public class SpawnSystem {
         this.weightedTables = new HashMap<>();
         this.playerSpawnCooldowns = new ConcurrentHashMap<>();
         this.FIRE_ZOMBIE_KEY = new NamespacedKey(plugin, "fire_zombie");
+        this.groundCache = new GroundHeightCache();
 
         initializeZoneConfigs();
         initializeWeightedTables(); // Précalculer les tables
@@ -380,12 +386,8 @@ public class SpawnSystem {
     private void cleanupExcessMobsAroundPlayer(Player player, int targetLimit) {
         List<Entity> mobs = new ArrayList<>();
 
-        for (Entity entity : player.getWorld().getNearbyEntities(
-                player.getLocation(), PLAYER_MOB_CHECK_RADIUS, PLAYER_MOB_CHECK_RADIUS, PLAYER_MOB_CHECK_RADIUS)) {
-            if (zombieManager.isZombieZMob(entity)) {
-                mobs.add(entity);
-            }
-        }
+        mobs.addAll(zombieManager.getSpatialIndex().getEntitiesInBox(
+                player.getLocation(), PLAYER_MOB_CHECK_RADIUS, PLAYER_MOB_CHECK_RADIUS, PLAYER_MOB_CHECK_RADIUS));
 
         if (mobs.size() <= targetLimit) return;
 
@@ -622,14 +624,8 @@ public class SpawnSystem {
      * Utilise getNearbyEntities pour performance
      */
     private int countMobsAroundPlayer(Player player) {
-        int count = 0;
-        for (Entity entity : player.getWorld().getNearbyEntities(
-                player.getLocation(), PLAYER_MOB_CHECK_RADIUS, PLAYER_MOB_CHECK_RADIUS, PLAYER_MOB_CHECK_RADIUS)) {
-            if (zombieManager.isZombieZMob(entity)) {
-                count++;
-            }
-        }
-        return count;
+        return zombieManager.getSpatialIndex().countInBox(
+                player.getLocation(), PLAYER_MOB_CHECK_RADIUS, PLAYER_MOB_CHECK_RADIUS, PLAYER_MOB_CHECK_RADIUS);
     }
 
     /**
@@ -716,36 +712,10 @@ public class SpawnSystem {
 
     /**
      * Trouve le sol sous une position
+     * Recherche dans le cache de hauteurs (scan de la colonne uniquement au premier accès)
      */
     private Location findGround(Location loc) {
-        World world = loc.getWorld();
-        if (world == null) return null;
-        
-        int startY = (int) loc.getY();
-        
-        // Chercher vers le bas
-        for (int y = startY; y > world.getMinHeight(); y--) {
-            Block block = world.getBlockAt((int) loc.getX(), y, (int) loc.getZ());
-            Block above = block.getRelative(BlockFace.UP);
-            Block above2 = above.getRelative(BlockFace.UP);
-            
-            if (block.getType().isSolid() && !above.getType().isSolid() && !above2.getType().isSolid()) {
-                return new Location(world, loc.getX(), y + 1, loc.getZ());
-            }
-        }
-        
-        // Chercher vers le haut
-        for (int y = startY; y < world.getMaxHeight(); y++) {
-            Block block = world.getBlockAt((int) loc.getX(), y, (int) loc.getZ());
-            Block above = block.getRelative(BlockFace.UP);
-            Block above2 = above.getRelative(BlockFace.UP);
-            
-            if (block.getType().isSolid() && !above.getType().isSolid() && !above2.getType().isSolid()) {
-                return new Location(world, loc.getX(), y + 1, loc.getZ());
-            }
-        }
-        
-        return null;
+        return groundCache.findGround(loc);
     }
 
     /**
@@ -796,23 +766,21 @@ public class SpawnSystem {
         World world = loc.getWorld();
         if (world == null) return true;
 
-        int nearbyZombies = 0;
+        // Index spatial: positions en cache, pas de recherche d'entités NMS
+        double minDistSq = MIN_DISTANCE_BETWEEN_ZOMBIES * MIN_DISTANCE_BETWEEN_ZOMBIES;
+        int[] nearbyZombies = {0};
+        boolean[] tooClose = {false};
 
-        // Utiliser getNearbyEntities qui est optimisé par Bukkit
-        for (Entity entity : world.getNearbyEntities(loc, DENSITY_CHECK_RADIUS, DENSITY_CHECK_RADIUS, DENSITY_CHECK_RADIUS)) {
-            if (zombieManager.isZombieZMob(entity)) {
-                // Vérifier la distance minimale
-                double distance = entity.getLocation().distance(loc);
-                if (distance < MIN_DISTANCE_BETWEEN_ZOMBIES) {
-                    // Trop proche d'un autre zombie
-                    return false;
-                }
-                nearbyZombies++;
+        zombieManager.getSpatialIndex().forEachInBox(loc, DENSITY_CHECK_RADIUS, DENSITY_CHECK_RADIUS, DENSITY_CHECK_RADIUS, entry -> {
+            if (MobSpatialIndex.distanceSquared(entry, loc) < minDistSq) {
+                // Trop proche d'un autre zombie
+                tooClose[0] = true;
             }
-        }
+            nearbyZombies[0]++;
+        });
 
         // Vérifier le nombre max dans la zone
-        return nearbyZombies < MAX_ZOMBIES_IN_AREA;
+        return !tooClose[0] && nearbyZombies[0] < MAX_ZOMBIES_IN_AREA;
     }
     
     /**
@@ -1020,8 +988,8 @@ public class SpawnSystem {
      * Obtient les stats du système
      */
     public String getStats() {
-        return String.format("Enabled: %s | Night: %s | Spawns/tick: %d",
-            enabled, nightBoostActive, spawnsThisTick);
+        return String.format("Enabled: %s | Night: %s | Spawns/tick: %d | %s",
+            enabled, nightBoostActive, spawnsThisTick, groundCache.getStatsLine());
     }
 
     /**
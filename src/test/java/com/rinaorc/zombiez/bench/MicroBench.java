@@ -0,0 +1,65 @@
+package com.rinaorc.zombiez.bench;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Mini-harnais de micro-benchmark sans dépendance (pas de JMH dans le build)
+ *
+ * Chaque mesure: tours de chauffe pour le JIT, puis temps moyen et octets alloués
+ * par opération sur le thread courant. Les résultats sont cumulés dans un puits
+ * affiché en fin de mesure pour empêcher l'élimination du code mort.
+ */
+public final class MicroBench {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static final int WARMUP_ROUNDS = 10;
+    private static final int MEASURED_ROUNDS = 10;
+
+    /**
+     * Opération mesurée, appelée avec l'index de l'itération
+     */
+    @FunctionalInterface
+    public interface Op {
+        long run(int i);
+    }
+
+    private MicroBench() {
+    }
+
+    /**
+     * Mesure une opération et affiche ns/op et octets/op
+     */
+    public static void run(String name, int opsPerRound, Op op) {
+        long sink = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            sink += loop(opsPerRound, op);
+        }
+
+        long bestNanos = Long.MAX_VALUE;
+        long allocated = 0;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long bytesBefore = THREADS.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            sink += loop(opsPerRound, op);
+            long elapsed = System.nanoTime() - start;
+            allocated += THREADS.getCurrentThreadAllocatedBytes() - bytesBefore;
+            bestNanos = Math.min(bestNanos, elapsed);
+        }
+
+        System.out.printf("%-40s %8.2f ns/op %8.2f B/op   (puits %d)%n",
+            name,
+            (double) bestNanos / opsPerRound,
+            (double) allocated / ((long) MEASURED_ROUNDS * opsPerRound),
+            sink);
+    }
+
+    private static long loop(int ops, Op op) {
+        long sink = 0;
+        for (int i = 0; i < ops; i++) {
+            sink += op.run(i);
+        }
+        return sink;
+    }
+}
@@ -0,0 +1,76 @@
+package com.rinaorc.zombiez.items;
+
+import com.rinaorc.zombiez.bench.MicroBench;
+import com.rinaorc.zombiez.items.types.StatType;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Benchmark de la lecture d'une stat d'item: CompiledItemStats.get contre l'ancien
+ * getTotalStats().getOrDefault (copie HashMap + fusion des affixes à chaque appel)
+ *
+ * Item type légendaire: 4 stats de base, 4 affixes de 2 stats (dont des stats communes).
+ * Lancement: java -cp target/classes:target/test-classes:&lt;paper-api&gt;
+ *            com.rinaorc.zombiez.items.CompiledItemStatsBenchmark
+ */
+public final class CompiledItemStatsBenchmark {
+
+    private static final int OPS = 10_000_000;
+
+    // Stats lues: présentes en base, apportées par un affixe, absentes
+    private static final StatType[] READS = {
+        StatType.DAMAGE, StatType.CRIT_CHANCE, StatType.FIRE_DAMAGE, StatType.LUCK,
+        StatType.ATTACK_SPEED, StatType.EXECUTE_DAMAGE, StatType.MAX_HEALTH, StatType.ICE_DAMAGE
+    };
+
+    private CompiledItemStatsBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        Map<StatType, Double> baseStats = new EnumMap<>(StatType.class);
+        baseStats.put(StatType.DAMAGE, 42.0);
+        baseStats.put(StatType.ATTACK_SPEED, 1.6);
+        baseStats.put(StatType.CRIT_CHANCE, 8.0);
+        baseStats.put(StatType.CRIT_DAMAGE, 35.0);
+
+        List<ZombieZItem.RolledAffix> affixes = List.of(
+            affix(StatType.DAMAGE_PERCENT, 12.0, StatType.CRIT_CHANCE, 4.0),
+            affix(StatType.FIRE_DAMAGE, 18.0, StatType.DAMAGE, 6.0),
+            affix(StatType.LUCK, 5.0, StatType.EXECUTE_DAMAGE, 20.0),
+            affix(StatType.MAX_HEALTH, 25.0, StatType.ARMOR_PENETRATION, 7.0)
+        );
+
+        CompiledItemStats compiled = CompiledItemStats.compile(baseStats, affixes);
+        int mask = READS.length - 1;
+
+        MicroBench.run("getTotalStats().getOrDefault", OPS,
+            i -> (long) (legacyTotalStats(baseStats, affixes).getOrDefault(READS[i & mask], 0.0) * 1000));
+        MicroBench.run("CompiledItemStats.get", OPS,
+            i -> (long) (compiled.get(READS[i & mask]) * 1000));
+    }
+
+    /**
+     * Ancien ZombieZItem.getTotalStats: nouvelle map fusionnée à chaque appel
+     */
+    private static Map<StatType, Double> legacyTotalStats(Map<StatType, Double> baseStats,
+                                                          List<ZombieZItem.RolledAffix> affixes) {
+        Map<StatType, Double> total = new HashMap<>(baseStats);
+        for (ZombieZItem.RolledAffix affix : affixes) {
+            for (var entry : affix.getRolledStats().entrySet()) {
+                total.merge(entry.getKey(), entry.getValue(), Double::sum);
+            }
+        }
+        return total;
+    }
+
+    private static ZombieZItem.RolledAffix affix(StatType first, double firstValue, StatType second, double secondValue) {
+        Map<StatType, Double> rolled = new EnumMap<>(StatType.class);
+        rolled.put(first, firstValue);
+        rolled.put(second, secondValue);
+        // compile() ne lit que les stats rollées
+        return ZombieZItem.RolledAffix.builder().rolledStats(rolled).build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.rinaorc.zombiez.managers;
+
+import com.rinaorc.zombiez.bench.MicroBench;
+import com.rinaorc.zombiez.zones.Zone;
+
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * Benchmark de la recherche de zone par bloc Z: table Zone[] contre TreeMap.floorEntry
+ *
+ * Carte par défaut: spawn + 50 zones de 200 blocs (Z 0 à 10 200).
+ * Lancement: java -cp target/classes:target/test-classes:&lt;paper-api&gt;
+ *            com.rinaorc.zombiez.managers.ZoneLookupBenchmark
+ */
+public final class ZoneLookupBenchmark {
+
+    private static final int SAMPLES = 1 << 16;
+    private static final int OPS = 10_000_000;
+
+    private ZoneLookupBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        TreeMap<Integer, Zone> zonesByZ = new TreeMap<>();
+        Zone spawnZone = zone(0, ZoneManager.ZONE_START_Z, ZoneManager.START_Z);
+        zonesByZ.put(spawnZone.getMinZ(), spawnZone);
+        for (int id = 1; id <= ZoneManager.TOTAL_ZONES; id++) {
+            int maxZ = ZoneManager.ZONE_START_Z - (id - 1) * ZoneManager.ZONE_SIZE;
+            Zone zone = zone(id, maxZ - ZoneManager.ZONE_SIZE, maxZ);
+            zonesByZ.put(zone.getMinZ(), zone);
+        }
+
+        ZoneLookup lookup = ZoneLookup.build(zonesByZ, spawnZone, ZoneManager.END_Z, ZoneManager.START_Z);
+
+        // Positions de joueurs, quelques-unes hors de la carte
+        Random random = new Random(42);
+        int[] positions = new int[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            positions[i] = random.nextInt(ZoneManager.START_Z + 400) - 200;
+        }
+        int mask = SAMPLES - 1;
+
+        MicroBench.run("TreeMap.floorEntry", OPS,
+            i -> ZoneLookup.floor(zonesByZ, spawnZone, positions[i & mask]).getId());
+        MicroBench.run("Zone[] (ZoneLookup.get)", OPS, i -> {
+            Zone zone = lookup.get(positions[i & mask]);
+            return (zone != null ? zone : spawnZone).getId();
+        });
+    }
+
+    private static Zone zone(int id, int minZ, int maxZ) {
+        return Zone.builder().id(id).minZ(minZ).maxZ(maxZ).build();
+    }
+}